@@ -65,6 +65,10 @@ public class ExampleImageEnhancement {
 		EnhanceImageOps.equalizeLocal(gray, 50, adjusted, 256, null);
 		panel.addImage(ConvertBufferedImage.convertTo(adjusted,null),"Local");
 
+		// contrast limited adaptive equalization. Much faster than the per-pixel local version above
+		EnhanceImageOps.equalizeLocalClahe(gray, 50, 4.0, adjusted, 256, null);
+		panel.addImage(ConvertBufferedImage.convertTo(adjusted,null),"CLAHE");
+
 		panel.addImage(ConvertBufferedImage.convertTo(gray, null), "Original");
 
 		panel.setPreferredSize(new Dimension(gray.width, gray.height));
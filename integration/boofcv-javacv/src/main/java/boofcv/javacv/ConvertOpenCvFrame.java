@@ -59,7 +59,10 @@ public class ConvertOpenCvFrame {
 				BGR_to_RGB((Planar)output);
 			}
 		} else if( output instanceof ImageGray ) {
-			ConvertByteBufferImage.from_3BU8_to_U8(bb,0,input.imageStride,(GrayU8)output,work);
+			if( input.imageChannels == 1 )
+				ConvertByteBufferImage.from_1BU8_to_U8(bb,0,input.imageStride,(GrayU8)output);
+			else
+				ConvertByteBufferImage.from_3BU8_to_U8(bb,0,input.imageStride,(GrayU8)output,work);
 		} else if( output instanceof ImageInterleaved) {
 			ConvertByteBufferImage.from_3BU8_to_3IU8(bb,0,input.imageStride,(InterleavedU8)output);
 		} else {
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark;
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * <p>
+ * Loads the JSON files which JMH creates and compares results against a baseline to detect performance
+ * regressions. A benchmark is identified by its name and parameters. A result is considered to have changed only
+ * if the relative difference is more than the tolerance and the difference is larger than the combined
+ * error of both measurements. This avoids flagging noise as a regression.
+ * </p>
+ *
+ * <p>
+ * The baseline is specific to the machine and JVM it was recorded on and should be regenerated when either
+ * changes.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkBaseline {
+
+	/**
+	 * Fractional change in score which is tolerated before a result is marked as being different
+	 */
+	public double tolerance;
+
+	public BenchmarkBaseline( double tolerance ) {
+		this.tolerance = tolerance;
+	}
+
+	public BenchmarkBaseline() {
+		this(0.1);
+	}
+
+	/**
+	 * Loads results from a JMH JSON file
+	 */
+	public static List<Result> load( File file ) throws IOException {
+		try( Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8) ) {
+			return load(reader);
+		}
+	}
+
+	/**
+	 * Loads results from a JMH JSON file. JSON is a subset of YAML so the YAML parser is used to read it.
+	 */
+	public static List<Result> load( Reader reader ) {
+		Object root = new Yaml().load(reader);
+		List<Result> results = new ArrayList<>();
+		if( root == null )
+			return results;
+		if( !(root instanceof List) )
+			throw new IllegalArgumentException("Expected a list of JMH results");
+
+		for( Object o : (List)root ) {
+			Map<String,Object> m = (Map<String,Object>)o;
+			Map<String,Object> metric = (Map<String,Object>)m.get("primaryMetric");
+
+			Result r = new Result();
+			r.benchmark = (String)m.get("benchmark");
+			r.mode = (String)m.get("mode");
+			Object params = m.get("params");
+			if( params != null ) {
+				for( Map.Entry<String,Object> e : ((Map<String,Object>)params).entrySet() ) {
+					r.params.put(e.getKey(),String.valueOf(e.getValue()));
+				}
+			}
+			r.score = toDouble(metric.get("score"));
+			r.scoreError = toDouble(metric.get("scoreError"));
+			r.unit = (String)metric.get("scoreUnit");
+			results.add(r);
+		}
+		return results;
+	}
+
+	/**
+	 * JMH writes NaN as a string and the YAML parser doesn't recognize all the ways Java formats a double
+	 */
+	private static double toDouble( Object o ) {
+		if( o == null )
+			return Double.NaN;
+		if( o instanceof Number )
+			return ((Number)o).doubleValue();
+		return Double.parseDouble(o.toString());
+	}
+
+	/**
+	 * Compares the current results against the baseline. Results which are only in one of the two lists
+	 * are marked as {@link Status#NEW} or {@link Status#MISSING}.
+	 *
+	 * @param baseline Previously recorded results
+	 * @param current Results from the latest run
+	 * @return Comparison of every benchmark found in either list
+	 */
+	public List<Comparison> compare( List<Result> baseline , List<Result> current ) {
+		Map<String,Result> lookup = new HashMap<>();
+		for( Result r : baseline ) {
+			lookup.put(r.getKey(),r);
+		}
+
+		List<Comparison> comparisons = new ArrayList<>();
+		for( Result r : current ) {
+			Comparison c = new Comparison();
+			c.current = r;
+			c.baseline = lookup.remove(r.getKey());
+			if( c.baseline == null ) {
+				c.status = Status.NEW;
+			} else if( !c.baseline.unit.equals(r.unit) ) {
+				throw new IllegalArgumentException("Units changed for "+r.getKey());
+			} else {
+				compare(c);
+			}
+			comparisons.add(c);
+		}
+
+		// anything left in the baseline wasn't run this time
+		for( Result r : baseline ) {
+			if( !lookup.containsKey(r.getKey()))
+				continue;
+			Comparison c = new Comparison();
+			c.baseline = r;
+			c.status = Status.MISSING;
+			comparisons.add(c);
+		}
+
+		return comparisons;
+	}
+
+	private void compare( Comparison c ) {
+		double base = c.baseline.score;
+		double curr = c.current.score;
+		c.ratio = curr/base;
+
+		double error = errorOrZero(c.baseline.scoreError) + errorOrZero(c.current.scoreError);
+		if( Math.abs(curr-base) <= error || Math.abs(c.ratio-1.0) <= tolerance ) {
+			c.status = Status.SAME;
+			return;
+		}
+
+		// in throughput mode a larger score is better. For all others it's the time it took
+		boolean larger = curr > base;
+		if( c.current.isThroughput() )
+			c.status = larger ? Status.FASTER : Status.SLOWER;
+		else
+			c.status = larger ? Status.SLOWER : Status.FASTER;
+	}
+
+	private static double errorOrZero( double error ) {
+		return Double.isNaN(error) ? 0.0 : error;
+	}
+
+	/**
+	 * Returns true if any of the benchmarks are slower
+	 */
+	public static boolean hasRegression( List<Comparison> comparisons ) {
+		for( Comparison c : comparisons ) {
+			if( c.status == Status.SLOWER )
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Prints a table with the results of each comparison
+	 */
+	public static void print( List<Comparison> comparisons , PrintStream out ) {
+		int length = 10;
+		for( Comparison c : comparisons ) {
+			length = Math.max(length,c.getKey().length());
+		}
+
+		String format = "%-"+length+"s %12s %12s %8s  %s\n";
+		out.printf(format,"Benchmark","Baseline","Current","Ratio","Status");
+		for( Comparison c : comparisons ) {
+			String base = c.baseline == null ? "" : String.format("%.4g",c.baseline.score);
+			String curr = c.current == null ? "" : String.format("%.4g",c.current.score);
+			String ratio = c.baseline == null || c.current == null ? "" : String.format("%.3f",c.ratio);
+			out.printf(format,c.getKey(),base,curr,ratio,c.status);
+		}
+	}
+
+	/**
+	 * Score for a single benchmark with a specific set of parameters
+	 */
+	public static class Result {
+		/** Fully qualified name of the benchmark method */
+		public String benchmark;
+		/** JMH mode, e.g. avgt or thrpt */
+		public String mode;
+		/** Values of all the parameters */
+		public Map<String,String> params = new TreeMap<>();
+		public double score;
+		public double scoreError;
+		public String unit;
+
+		/**
+		 * Unique identifier composed of the benchmark name, mode, and parameters
+		 */
+		public String getKey() {
+			StringBuilder key = new StringBuilder(benchmark);
+			key.append(":").append(mode);
+			for( Map.Entry<String,String> e : params.entrySet() ) {
+				key.append(" ").append(e.getKey()).append("=").append(e.getValue());
+			}
+			return key.toString();
+		}
+
+		public boolean isThroughput() {
+			return "thrpt".equals(mode);
+		}
+	}
+
+	/**
+	 * Comparison of a benchmark's current score against the baseline
+	 */
+	public static class Comparison {
+		/** Baseline result. null if it's a new benchmark */
+		public Result baseline;
+		/** Current result. null if the benchmark wasn't run */
+		public Result current;
+		/** current/baseline score */
+		public double ratio = Double.NaN;
+		public Status status;
+
+		public String getKey() {
+			return current != null ? current.getKey() : baseline.getKey();
+		}
+	}
+
+	public enum Status {
+		/** No significant change */
+		SAME,
+		FASTER,
+		SLOWER,
+		/** Not in the baseline */
+		NEW,
+		/** In the baseline but not the current results */
+		MISSING
+	}
+}
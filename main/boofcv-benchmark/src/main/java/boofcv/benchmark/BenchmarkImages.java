@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+
+import java.util.Random;
+
+/**
+ * Creates synthetic images for benchmarks. Random noise is a poor input for feature detectors and trackers since
+ * they would either find nothing or find features everywhere. Instead a scene composed of overlapping rectangles
+ * with noise is rendered. This has plenty of corners and edges and behaves similarly to a real image.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkImages {
+
+	/**
+	 * Renders a scene composed of randomly placed rectangles
+	 *
+	 * @param width Image width
+	 * @param height Image height
+	 * @param seed Seed for the random number generator. The same seed will always produce the same image.
+	 * @return The rendered image
+	 */
+	public static GrayU8 scene( int width , int height , long seed ) {
+		Random rand = new Random(seed);
+		GrayU8 image = new GrayU8(width,height);
+		ImageMiscOps.fill(image,128);
+
+		// density of rectangles is independent of image size
+		int total = width*height/2000;
+		int minLength = 10;
+		int maxLength = Math.max(minLength+1,Math.min(width,height)/8);
+
+		for (int i = 0; i < total; i++) {
+			int w = minLength + rand.nextInt(maxLength-minLength);
+			int h = minLength + rand.nextInt(maxLength-minLength);
+			int x0 = rand.nextInt(width)-w/2;
+			int y0 = rand.nextInt(height)-h/2;
+			ImageMiscOps.fillRectangle(image,20+rand.nextInt(215),x0,y0,w,h);
+		}
+
+		GrayU8 blurred = BlurImageOps.gaussian(image,null,-1,1,null);
+		ImageMiscOps.addGaussian(blurred,rand,2.0,0,255);
+		return blurred;
+	}
+
+	/**
+	 * Creates a copy of the image which has been shifted by an integer amount. Pixels which are shifted in from
+	 * outside the image are filled with the closest pixel inside the image.
+	 *
+	 * @param input Input image
+	 * @param dx Shift along x-axis
+	 * @param dy Shift along y-axis
+	 * @return Shifted image
+	 */
+	public static GrayU8 shift( GrayU8 input , int dx , int dy ) {
+		GrayU8 output = input.createSameShape();
+		for (int y = 0; y < input.height; y++) {
+			int srcY = Math.min(input.height-1,Math.max(0,y-dy));
+			for (int x = 0; x < input.width; x++) {
+				int srcX = Math.min(input.width-1,Math.max(0,x-dx));
+				output.unsafe_set(x,y,input.unsafe_get(srcX,srcY));
+			}
+		}
+		return output;
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * Runs all the benchmarks in BoofCV's benchmark suite, saves the results to a JSON file, and compares them against a
+ * baseline. If any benchmark is significantly slower than the baseline then the process exits with a non-zero
+ * value. This allows the suite to be used as a gate before changing dependencies, JVMs, or merging large changes.
+ * </p>
+ *
+ * Arguments:
+ * <pre>
+ * --include &lt;regex&gt;    Only run benchmarks which match the regex. Default is all in boofcv.benchmark
+ * --results &lt;file&gt;     Where the JMH results are saved. Default is benchmark_results.json
+ * --baseline &lt;file&gt;    Baseline which the results are compared against. Skipped if it doesn't exist
+ * --tolerance &lt;value&gt;  Fractional change which is tolerated. Default is 0.1
+ * --save-baseline       Don't compare against a baseline. Used when creating a new baseline
+ * --quick               Fewer iterations and forks. Results are noisier
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkSuite {
+	String include = BenchmarkSuite.class.getPackage().getName()+"\\..*";
+	String resultsPath = "benchmark_results.json";
+	String baselinePath;
+	double tolerance = 0.1;
+	boolean saveBaseline = false;
+	boolean quick = false;
+
+	/**
+	 * Runs the benchmarks and saves the results
+	 */
+	public void runBenchmarks() throws RunnerException {
+		File results = new File(resultsPath).getAbsoluteFile();
+		File parent = results.getParentFile();
+		if( parent != null && !parent.exists() && !parent.mkdirs() )
+			throw new RuntimeException("Failed to create directory "+parent.getPath());
+
+		ChainedOptionsBuilder builder = new OptionsBuilder()
+				.include(include)
+				.resultFormat(ResultFormatType.JSON)
+				.result(results.getPath());
+
+		if( quick ) {
+			builder.warmupIterations(1).measurementIterations(2).forks(1);
+		}
+
+		new Runner(builder.build()).run();
+	}
+
+	/**
+	 * Compares the results against the baseline and prints the results
+	 *
+	 * @return true if no regression was found
+	 */
+	public boolean compareToBaseline() throws IOException {
+		if( saveBaseline ) {
+			System.out.println("Saved baseline to "+resultsPath);
+			return true;
+		}
+		if( baselinePath == null || !new File(baselinePath).exists() ) {
+			System.out.println("No baseline to compare against. baseline="+baselinePath);
+			return true;
+		}
+
+		BenchmarkBaseline alg = new BenchmarkBaseline(tolerance);
+		List<BenchmarkBaseline.Comparison> comparisons = alg.compare(
+				BenchmarkBaseline.load(new File(baselinePath)),
+				BenchmarkBaseline.load(new File(resultsPath)));
+
+		System.out.println();
+		BenchmarkBaseline.print(comparisons,System.out);
+
+		return !BenchmarkBaseline.hasRegression(comparisons);
+	}
+
+	private static void printHelp() {
+		System.out.println("--include <regex>    Only run benchmarks which match the regex");
+		System.out.println("--results <file>     Where the JMH results are saved");
+		System.out.println("--baseline <file>    Baseline which the results are compared against");
+		System.out.println("--tolerance <value>  Fractional change which is tolerated");
+		System.out.println("--save-baseline      Don't compare against a baseline");
+		System.out.println("--quick              Fewer iterations and forks");
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException {
+		BenchmarkSuite suite = new BenchmarkSuite();
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			switch( arg ) {
+				case "--include": suite.include = args[++i]; break;
+				case "--results": suite.resultsPath = args[++i]; break;
+				case "--baseline": suite.baselinePath = args[++i]; break;
+				case "--tolerance": suite.tolerance = Double.parseDouble(args[++i]); break;
+				case "--save-baseline": suite.saveBaseline = true; break;
+				case "--quick": suite.quick = true; break;
+				default:
+					System.err.println("Unknown argument "+arg);
+					printHelp();
+					System.exit(1);
+			}
+		}
+
+		suite.runBenchmarks();
+
+		if( !suite.compareToBaseline() ) {
+			System.err.println("Performance regression detected!");
+			System.exit(1);
+		}
+	}
+}
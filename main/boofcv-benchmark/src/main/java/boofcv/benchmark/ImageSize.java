@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark;
+
+/**
+ * Standard image sizes which benchmarks in the suite are run at. Using the same set of sizes everywhere makes it
+ * possible to compare the cost of different operations against each other.
+ *
+ * @author Peter Abeles
+ */
+public enum ImageSize {
+	VGA(640,480),
+	HD(1280,720),
+	FHD(1920,1080),
+	UHD(3840,2160);
+
+	public final int width;
+	public final int height;
+
+	ImageSize(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+}
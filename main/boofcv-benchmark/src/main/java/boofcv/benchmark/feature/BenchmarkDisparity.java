@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.feature;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.benchmark.BenchmarkImages;
+import boofcv.benchmark.ImageSize;
+import boofcv.factory.feature.disparity.DisparityAlgorithms;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dense stereo disparity on a rectified image pair
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkDisparity {
+
+	public static final int maxDisparity = 100;
+	public static final int radius = 3;
+
+	@Param({"VGA","FHD"})
+	public ImageSize size;
+
+	GrayU8 left;
+	GrayU8 right;
+
+	StereoDisparity<GrayU8,GrayU8> rect;
+	StereoDisparity<GrayU8,GrayU8> rectFive;
+	StereoDisparity<GrayU8,GrayF32> rectFiveSubpixel;
+
+	@Setup
+	public void setup() {
+		left = BenchmarkImages.scene(size.width,size.height,234);
+		right = BenchmarkImages.shift(left,-20,0);
+
+		rect = FactoryStereoDisparity.regionWta(DisparityAlgorithms.RECT,
+				0,maxDisparity,radius,radius,20,1,0.2,GrayU8.class);
+		rectFive = FactoryStereoDisparity.regionWta(DisparityAlgorithms.RECT_FIVE,
+				0,maxDisparity,radius,radius,20,1,0.2,GrayU8.class);
+		rectFiveSubpixel = FactoryStereoDisparity.regionSubpixelWta(DisparityAlgorithms.RECT_FIVE,
+				0,maxDisparity,radius,radius,20,1,0.2,GrayU8.class);
+	}
+
+	@Benchmark
+	public void rect() {
+		rect.process(left,right);
+	}
+
+	@Benchmark
+	public void rectFive() {
+		rectFive.process(left,right);
+	}
+
+	@Benchmark
+	public void rectFiveSubpixel() {
+		rectFiveSubpixel.process(left,right);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkDisparity.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
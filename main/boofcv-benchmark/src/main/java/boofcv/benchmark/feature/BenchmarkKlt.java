@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.feature;
+
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.feature.tracker.PointTracker;
+import boofcv.benchmark.BenchmarkImages;
+import boofcv.benchmark.ImageSize;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.tracker.FactoryPointTracker;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pyramidal KLT point tracker. Two frames with a small translation between them are processed in turn
+ * so that the tracker is in a steady state where most tracks are kept and a few are spawned.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkKlt {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"VGA","FHD"})
+	public ImageSize size;
+
+	@Param({"500","2000"})
+	public int maxFeatures;
+
+	GrayU8[] frames = new GrayU8[2];
+	int frameIndex;
+
+	PointTracker<GrayU8> tracker;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		frames[0] = BenchmarkImages.scene(size.width,size.height,234);
+		frames[1] = BenchmarkImages.shift(frames[0],3,2);
+
+		ConfigGeneralDetector configDetector = new ConfigGeneralDetector(maxFeatures,3,1.0f);
+		tracker = FactoryPointTracker.klt(new int[]{1,2,4,8},configDetector,3,GrayU8.class,GrayS16.class);
+		tracker.process(frames[0]);
+		tracker.spawnTracks();
+		frameIndex = 1;
+	}
+
+	@Benchmark
+	public void trackAndSpawn() {
+		tracker.process(frames[frameIndex]);
+		tracker.spawnTracks();
+		frameIndex = (frameIndex+1)%2;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkKlt.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.feature;
+
+import boofcv.abst.feature.detdesc.DetectDescribePoint;
+import boofcv.abst.feature.detect.interest.ConfigFastCorner;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.feature.detect.interest.PointDetector;
+import boofcv.alg.feature.detect.interest.EasyGeneralFeatureDetector;
+import boofcv.benchmark.BenchmarkImages;
+import boofcv.benchmark.ImageSize;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point feature detectors and detect-describe algorithms
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkPointFeatures {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"VGA","FHD"})
+	public ImageSize size;
+
+	GrayU8 input;
+	GrayF32 inputF32;
+
+	PointDetector<GrayU8> fast;
+	EasyGeneralFeatureDetector<GrayU8,GrayS16> shiTomasi;
+	DetectDescribePoint<GrayF32,BrightFeature> sift;
+	DetectDescribePoint<GrayF32,BrightFeature> surf;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		input = BenchmarkImages.scene(size.width,size.height,234);
+		inputF32 = ConvertImage.convert(input,(GrayF32)null);
+
+		fast = FactoryDetectPoint.createFast(new ConfigFastCorner(20,9),GrayU8.class);
+		shiTomasi = new EasyGeneralFeatureDetector<>(FactoryDetectPoint.createShiTomasi(
+				new ConfigGeneralDetector(1000,2,1.0f),null,GrayS16.class),GrayU8.class,GrayS16.class);
+		sift = FactoryDetectDescribe.sift(null);
+		surf = FactoryDetectDescribe.surfFast(null,null,null,GrayF32.class);
+	}
+
+	@Benchmark
+	public void fast() {
+		fast.process(input);
+	}
+
+	@Benchmark
+	public void shiTomasi() {
+		shiTomasi.detect(input,null);
+	}
+
+	@Benchmark
+	public void sift() {
+		sift.detect(inputF32);
+	}
+
+	@Benchmark
+	public void surfFast() {
+		surf.detect(inputF32);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkPointFeatures.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.geo;
+
+import boofcv.abst.geo.bundle.BundleAdjustment;
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.alg.geo.WorldToCameraToPixel;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.calib.CameraPinhole;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.se.Se3_F64;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sparse metric bundle adjustment. A camera moves sideways past a cloud of points. Noise is added to the
+ * points before each optimization so that it needs to iterate to converge.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkBundleAdjustment {
+
+	public static final int NUM_VIEWS = 10;
+	public static final int IMAGE_WIDTH = 800;
+
+	@Param({"200","1000"})
+	public int numPoints;
+
+	SceneStructureMetric structure;
+	SceneObservations observations;
+	double[][] noisyPoints;
+
+	BundleAdjustment<SceneStructureMetric> bundle;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+		CameraPinhole intrinsic = new CameraPinhole(500,500,0,IMAGE_WIDTH/2,IMAGE_WIDTH/2,IMAGE_WIDTH,IMAGE_WIDTH);
+
+		structure = new SceneStructureMetric(false);
+		observations = new SceneObservations(NUM_VIEWS);
+		structure.initialize(1,NUM_VIEWS,numPoints);
+		structure.setCamera(0,true,intrinsic);
+
+		double maxX = 5;
+		for (int i = 0; i < NUM_VIEWS; i++) {
+			Se3_F64 worldToView = new Se3_F64();
+			worldToView.T.x = -maxX*i/(NUM_VIEWS-1);
+			structure.setView(i,i==0,worldToView);
+			structure.connectViewToCamera(i,0);
+		}
+
+		WorldToCameraToPixel wcp = new WorldToCameraToPixel();
+		Point2D_F64 pixel = new Point2D_F64();
+		Point3D_F64 X = new Point3D_F64();
+
+		noisyPoints = new double[numPoints][3];
+		for (int pointIndex = 0; pointIndex < numPoints; pointIndex++) {
+			// keep on sampling until it's visible in at least two views
+			int count;
+			do {
+				X.x = maxX*rand.nextDouble();
+				X.y = rand.nextGaussian()/3;
+				X.z = rand.nextGaussian()/10 + maxX/3;
+
+				count = 0;
+				for (int viewIndex = 0; viewIndex < NUM_VIEWS; viewIndex++) {
+					if( project(wcp,intrinsic,viewIndex,X,pixel) )
+						count++;
+				}
+			} while( count < 2 );
+
+			structure.setPoint(pointIndex,X.x,X.y,X.z);
+			for (int viewIndex = 0; viewIndex < NUM_VIEWS; viewIndex++) {
+				if( !project(wcp,intrinsic,viewIndex,X,pixel) )
+					continue;
+				observations.getView(viewIndex).add(pointIndex,(float)pixel.x,(float)pixel.y);
+				structure.connectPointToView(pointIndex,viewIndex);
+			}
+
+			noisyPoints[pointIndex][0] = X.x + rand.nextGaussian()*0.05;
+			noisyPoints[pointIndex][1] = X.y + rand.nextGaussian()*0.05;
+			noisyPoints[pointIndex][2] = X.z + rand.nextGaussian()*0.05;
+		}
+
+		bundle = FactoryMultiView.bundleSparseMetric(null);
+		bundle.configure(1e-6,1e-6,20);
+	}
+
+	private boolean project( WorldToCameraToPixel wcp , CameraPinhole intrinsic ,
+							 int viewIndex, Point3D_F64 X , Point2D_F64 pixel ) {
+		wcp.configure(intrinsic,structure.views.data[viewIndex].worldToView);
+		if( !wcp.transform(X,pixel) )
+			return false;
+		return pixel.x >= 0 && pixel.x < IMAGE_WIDTH && pixel.y >= 0 && pixel.y < IMAGE_WIDTH;
+	}
+
+	/**
+	 * Restores the noisy initial estimate since the previous call will have optimized the structure
+	 */
+	@Setup(Level.Invocation)
+	public void resetStructure() {
+		for (int i = 0; i < numPoints; i++) {
+			double[] p = noisyPoints[i];
+			structure.setPoint(i,p[0],p[1],p[2]);
+		}
+	}
+
+	@Benchmark
+	public void sparseMetric() {
+		bundle.setParameters(structure,observations);
+		bundle.optimize(structure);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkBundleAdjustment.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.Estimate1ofPnP;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EnumFundamental;
+import boofcv.factory.geo.EnumPNP;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.struct.geo.Point2D3D;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.EulerType;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimators for two view geometry and camera pose. These are called many times inside of RANSAC so the
+ * minimal number of points is what matters most, but the linear algorithms are also commonly used with all
+ * the inliers.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkEpipolar {
+
+	public static final int NUM_POINTS = 500;
+
+	// observations in normalized image coordinates
+	List<AssociatedPair> pairs = new ArrayList<>();
+	List<AssociatedPair> pairsPlanar = new ArrayList<>();
+	List<Point2D3D> points2D3D = new ArrayList<>();
+
+	DMatrixRMaj found = new DMatrixRMaj(3,3);
+	Se3_F64 foundPose = new Se3_F64();
+
+	Estimate1ofEpipolar fundamental8 = FactoryMultiView.fundamental_1(EnumFundamental.LINEAR_8, 0);
+	Estimate1ofEpipolar essential5 = FactoryMultiView.essential_1(EnumEssential.NISTER_5, 1);
+	Estimate1ofEpipolar homography = FactoryMultiView.homographyDLT(true);
+	Estimate1ofPnP epnp = FactoryMultiView.pnp_1(EnumPNP.EPNP,10,0);
+	Estimate1ofPnP p3p = FactoryMultiView.pnp_1(EnumPNP.P3P_GRUNERT,-1,1);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		Se3_F64 worldToView = new Se3_F64();
+		ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ,0.05,-0.03,0.02,worldToView.R);
+		worldToView.T.set(0.3,0.05,0.02);
+
+		for (int i = 0; i < NUM_POINTS; i++) {
+			Point3D_F64 X = new Point3D_F64(rand.nextGaussian(),rand.nextGaussian(),3+rand.nextGaussian());
+			pairs.add(createPair(X,worldToView));
+			points2D3D.add(new Point2D3D(pairs.get(i).p2,X));
+
+			Point3D_F64 P = new Point3D_F64(rand.nextGaussian(),rand.nextGaussian(),3);
+			pairsPlanar.add(createPair(P,worldToView));
+		}
+	}
+
+	private static AssociatedPair createPair( Point3D_F64 X , Se3_F64 worldToView ) {
+		Point3D_F64 Xv = SePointOps_F64.transform(worldToView,X,null);
+		return new AssociatedPair(new Point2D_F64(X.x/X.z,X.y/X.z),new Point2D_F64(Xv.x/Xv.z,Xv.y/Xv.z));
+	}
+
+	@Benchmark
+	public void fundamental8_all() {
+		fundamental8.process(pairs,found);
+	}
+
+	@Benchmark
+	public void fundamental8_minimal() {
+		fundamental8.process(pairs.subList(0,8),found);
+	}
+
+	@Benchmark
+	public void essential5_minimal() {
+		essential5.process(pairs.subList(0,6),found);
+	}
+
+	@Benchmark
+	public void homographyDLT_all() {
+		homography.process(pairsPlanar,found);
+	}
+
+	@Benchmark
+	public void pnpEPnP_all() {
+		epnp.process(points2D3D,foundPose);
+	}
+
+	@Benchmark
+	public void pnpP3P_minimal() {
+		p3p.process(points2D3D.subList(0,4),foundPose);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkEpipolar.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
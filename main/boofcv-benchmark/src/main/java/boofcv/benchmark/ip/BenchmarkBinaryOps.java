@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.ip;
+
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.filter.binary.GThresholdImageOps;
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.benchmark.BenchmarkImages;
+import boofcv.benchmark.ImageSize;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IWorkArrays;
+import boofcv.struct.ConfigLength;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thresholding and binary image operations
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkBinaryOps {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"VGA","FHD"})
+	public ImageSize size;
+
+	GrayU8 input;
+	GrayU8 binary;
+	GrayU8 output;
+	GrayU8 storage1;
+	GrayU8 storage2;
+	GrayS32 labeled;
+	IWorkArrays work = new IWorkArrays();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		input = BenchmarkImages.scene(size.width,size.height,234);
+		binary = ThresholdImageOps.threshold(input,null,128,true);
+		output = input.createSameShape();
+		storage1 = input.createSameShape();
+		storage2 = input.createSameShape();
+		labeled = new GrayS32(size.width,size.height);
+	}
+
+	@Benchmark
+	public void thresholdOtsu() {
+		int threshold = (int)GThresholdImageOps.computeOtsu(input,0,255);
+		ThresholdImageOps.threshold(input,output,threshold,true);
+	}
+
+	@Benchmark
+	public void thresholdLocalMean() {
+		ThresholdImageOps.localMean(input,output,ConfigLength.fixed(21),0.95f,true,storage1,storage2,work);
+	}
+
+	@Benchmark
+	public void erode8() {
+		BinaryImageOps.erode8(binary,1,output);
+	}
+
+	@Benchmark
+	public void contour() {
+		BinaryImageOps.contour(binary,ConnectRule.EIGHT,labeled);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkBinaryOps.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.ip;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.PixelMath;
+import boofcv.benchmark.BenchmarkImages;
+import boofcv.benchmark.ImageSize;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IWorkArrays;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common low level image processing operations which most higher level algorithms depend on
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkFilterOps {
+
+	public static final int radius = 5;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"VGA","FHD"})
+	public ImageSize size;
+
+	GrayU8 input;
+	GrayU8 outputU8;
+	GrayU8 storageU8;
+	GrayF32 inputF32;
+	GrayF32 outputF32;
+	GrayF32 storageF32;
+	GrayS16 derivX;
+	GrayS16 derivY;
+	IWorkArrays work = new IWorkArrays();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		input = BenchmarkImages.scene(size.width,size.height,234);
+		outputU8 = input.createSameShape();
+		storageU8 = input.createSameShape();
+		inputF32 = ConvertImage.convert(input,(GrayF32)null);
+		outputF32 = inputF32.createSameShape();
+		storageF32 = inputF32.createSameShape();
+		derivX = new GrayS16(size.width,size.height);
+		derivY = new GrayS16(size.width,size.height);
+	}
+
+	@Benchmark
+	public void convert_U8_F32() {
+		ConvertImage.convert(input,outputF32);
+	}
+
+	@Benchmark
+	public void multiply_F32() {
+		PixelMath.multiply(inputF32,1.5f,outputF32);
+	}
+
+	@Benchmark
+	public void gaussian_U8() {
+		BlurImageOps.gaussian(input,outputU8,-1,radius,storageU8);
+	}
+
+	@Benchmark
+	public void gaussian_F32() {
+		BlurImageOps.gaussian(inputF32,outputF32,-1,radius,storageF32);
+	}
+
+	@Benchmark
+	public void mean_U8() {
+		BlurImageOps.mean(input,outputU8,radius,storageU8,work);
+	}
+
+	@Benchmark
+	public void median_U8() {
+		BlurImageOps.median(input,outputU8,radius,work);
+	}
+
+	@Benchmark
+	public void sobel_U8() {
+		GradientSobel.process(input,derivX,derivY,null);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkFilterOps.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
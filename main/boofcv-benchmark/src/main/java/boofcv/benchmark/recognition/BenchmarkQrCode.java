@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark.recognition;
+
+import boofcv.abst.fiducial.QrCodeDetector;
+import boofcv.alg.fiducial.qrcode.QrCode;
+import boofcv.alg.fiducial.qrcode.QrCodeEncoder;
+import boofcv.alg.fiducial.qrcode.QrCodeGeneratorImage;
+import boofcv.benchmark.BenchmarkImages;
+import boofcv.benchmark.ImageSize;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QR Code detection and decoding in an image which contains several markers on top of a cluttered background
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkQrCode {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"VGA","FHD"})
+	public ImageSize size;
+
+	GrayU8 image;
+
+	QrCodeDetector<GrayU8> detector;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		image = BenchmarkImages.scene(size.width,size.height,234);
+
+		QrCode qr = new QrCodeEncoder().addAutomatic("BoofCV Benchmark 1234567890").fixate();
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
+		generator.render(qr);
+		GrayU8 marker = generator.getGray();
+
+		// place markers in a grid with gaps between them
+		int spacing = marker.width*3/2;
+		for (int y = 0; y+marker.height <= image.height; y += spacing) {
+			for (int x = 0; x+marker.width <= image.width; x += spacing) {
+				image.subimage(x,y,x+marker.width,y+marker.height).setTo(marker);
+			}
+		}
+
+		detector = FactoryFiducial.qrcode(null,GrayU8.class);
+	}
+
+	@Benchmark
+	public void detect() {
+		detector.process(image);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkQrCode.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.benchmark;
+
+import boofcv.benchmark.BenchmarkBaseline.Comparison;
+import boofcv.benchmark.BenchmarkBaseline.Result;
+import boofcv.benchmark.BenchmarkBaseline.Status;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBenchmarkBaseline {
+
+	/**
+	 * Sample of what JMH writes
+	 */
+	static final String JSON = "[\n" +
+			"    {\n" +
+			"        \"jmhVersion\" : \"1.19\",\n" +
+			"        \"benchmark\" : \"boofcv.benchmark.ip.BenchmarkFilterOps.gaussian_U8\",\n" +
+			"        \"mode\" : \"avgt\",\n" +
+			"        \"threads\" : 1,\n" +
+			"        \"forks\" : 2,\n" +
+			"        \"params\" : {\n" +
+			"            \"concurrent\" : \"true\",\n" +
+			"            \"size\" : \"VGA\"\n" +
+			"        },\n" +
+			"        \"primaryMetric\" : {\n" +
+			"            \"score\" : 1.2345678E-1,\n" +
+			"            \"scoreError\" : 0.0012,\n" +
+			"            \"scoreConfidence\" : [\n" +
+			"                0.12,\n" +
+			"                0.13\n" +
+			"            ],\n" +
+			"            \"scoreUnit\" : \"ms/op\",\n" +
+			"            \"rawData\" : [\n" +
+			"                [\n" +
+			"                    0.123,\n" +
+			"                    0.124\n" +
+			"                ]\n" +
+			"            ]\n" +
+			"        },\n" +
+			"        \"secondaryMetrics\" : {\n" +
+			"        }\n" +
+			"    },\n" +
+			"    {\n" +
+			"        \"benchmark\" : \"boofcv.benchmark.geo.BenchmarkEpipolar.pnpEPnP_all\",\n" +
+			"        \"mode\" : \"thrpt\",\n" +
+			"        \"primaryMetric\" : {\n" +
+			"            \"score\" : 12,\n" +
+			"            \"scoreError\" : \"NaN\",\n" +
+			"            \"scoreUnit\" : \"ops/ms\"\n" +
+			"        }\n" +
+			"    }\n" +
+			"]\n";
+
+	@Test
+	void load() {
+		List<Result> results = BenchmarkBaseline.load(new StringReader(JSON));
+		assertEquals(2,results.size());
+
+		Result a = results.get(0);
+		assertEquals("boofcv.benchmark.ip.BenchmarkFilterOps.gaussian_U8",a.benchmark);
+		assertEquals("avgt",a.mode);
+		assertEquals(0.12345678,a.score,1e-8);
+		assertEquals(0.0012,a.scoreError,1e-8);
+		assertEquals("ms/op",a.unit);
+		assertEquals("true",a.params.get("concurrent"));
+		assertEquals("VGA",a.params.get("size"));
+
+		Result b = results.get(1);
+		assertEquals(12,b.score,1e-8);
+		assertTrue(Double.isNaN(b.scoreError));
+		assertEquals(0,b.params.size());
+		assertTrue(b.isThroughput());
+	}
+
+	@Test
+	void getKey() {
+		List<Result> results = BenchmarkBaseline.load(new StringReader(JSON));
+		assertEquals("boofcv.benchmark.ip.BenchmarkFilterOps.gaussian_U8:avgt concurrent=true size=VGA",
+				results.get(0).getKey());
+	}
+
+	@Test
+	void compare_time() {
+		BenchmarkBaseline alg = new BenchmarkBaseline(0.1);
+
+		// within tolerance
+		assertEquals(Status.SAME,compareOne(alg,"avgt",10,0.0,10.5,0.0));
+		// outside of tolerance
+		assertEquals(Status.SLOWER,compareOne(alg,"avgt",10,0.0,12,0.0));
+		assertEquals(Status.FASTER,compareOne(alg,"avgt",10,0.0,8,0.0));
+		// outside of tolerance but the measurement error is too large to tell
+		assertEquals(Status.SAME,compareOne(alg,"avgt",10,1.5,12,1.0));
+		// NaN errors are ignored
+		assertEquals(Status.SLOWER,compareOne(alg,"avgt",10,Double.NaN,12,Double.NaN));
+	}
+
+	@Test
+	void compare_throughput() {
+		BenchmarkBaseline alg = new BenchmarkBaseline(0.1);
+
+		assertEquals(Status.SAME,compareOne(alg,"thrpt",10,0.0,10.5,0.0));
+		assertEquals(Status.FASTER,compareOne(alg,"thrpt",10,0.0,12,0.0));
+		assertEquals(Status.SLOWER,compareOne(alg,"thrpt",10,0.0,8,0.0));
+	}
+
+	@Test
+	void compare_newAndMissing() {
+		List<Result> baseline = new ArrayList<>();
+		List<Result> current = new ArrayList<>();
+		baseline.add(create("a","avgt",1,0));
+		baseline.add(create("b","avgt",1,0));
+		current.add(create("b","avgt",1,0));
+		current.add(create("c","avgt",1,0));
+
+		List<Comparison> found = new BenchmarkBaseline().compare(baseline,current);
+		assertEquals(3,found.size());
+		assertEquals(Status.SAME,found.get(0).status);
+		assertEquals(Status.NEW,found.get(1).status);
+		assertNull(found.get(1).baseline);
+		assertEquals(Status.MISSING,found.get(2).status);
+		assertNull(found.get(2).current);
+		assertFalse(BenchmarkBaseline.hasRegression(found));
+	}
+
+	/**
+	 * The same benchmark run with different parameters must not be matched against each other
+	 */
+	@Test
+	void compare_params() {
+		List<Result> baseline = new ArrayList<>();
+		List<Result> current = new ArrayList<>();
+		baseline.add(create("a","avgt",1,0));
+		baseline.get(0).params.put("size","VGA");
+		current.add(create("a","avgt",5,0));
+		current.get(0).params.put("size","FHD");
+
+		List<Comparison> found = new BenchmarkBaseline().compare(baseline,current);
+		assertEquals(2,found.size());
+		assertEquals(Status.NEW,found.get(0).status);
+		assertEquals(Status.MISSING,found.get(1).status);
+	}
+
+	@Test
+	void hasRegression() {
+		List<Result> baseline = new ArrayList<>();
+		List<Result> current = new ArrayList<>();
+		baseline.add(create("a","avgt",1,0));
+		current.add(create("a","avgt",2,0));
+
+		assertTrue(BenchmarkBaseline.hasRegression(new BenchmarkBaseline().compare(baseline,current)));
+	}
+
+	private static Status compareOne( BenchmarkBaseline alg , String mode ,
+									  double baseScore , double baseError , double currScore , double currError ) {
+		List<Result> baseline = new ArrayList<>();
+		List<Result> current = new ArrayList<>();
+		baseline.add(create("foo",mode,baseScore,baseError));
+		current.add(create("foo",mode,currScore,currError));
+
+		List<Comparison> found = alg.compare(baseline,current);
+		assertEquals(1,found.size());
+		assertEquals(currScore/baseScore,found.get(0).ratio,1e-8);
+		return found.get(0).status;
+	}
+
+	private static Result create( String name , String mode , double score , double error ) {
+		Result r = new Result();
+		r.benchmark = name;
+		r.mode = mode;
+		r.score = score;
+		r.scoreError = error;
+		r.unit = "ms/op";
+		return r;
+	}
+}
@@ -49,8 +49,11 @@ public class BenchmarkTemplateIntensity {
 	GrayF32 image_F32 = new GrayF32(1,1);
 	GrayU8 image_U8 = new GrayU8(1,1);
 
-	GrayF32 template_F32 = new GrayF32(20,20);
-	GrayU8 template_U8 = new GrayU8(20,20);
+	@Param({"20","64"})
+	public int templateSize;
+
+	GrayF32 template_F32 = new GrayF32(1,1);
+	GrayU8 template_U8 = new GrayU8(1,1);
 
 	TemplateMatchingIntensity<GrayF32> ssd_F32;
 	TemplateMatchingIntensity<GrayU8> ssd_U8;
@@ -60,6 +63,12 @@ public class BenchmarkTemplateIntensity {
 
 	TemplateMatchingIntensity<GrayF32> correlation_F32;
 
+	// Force spatial or FFT
+	TemplateMatchingIntensity<GrayF32> ssd_F32_spatial;
+	TemplateMatchingIntensity<GrayF32> ssd_F32_fft;
+	TemplateMatchingIntensity<GrayF32> ncc_F32_spatial;
+	TemplateMatchingIntensity<GrayF32> ncc_F32_fft;
+
 	@Setup
 	public void setup() {
 		Random rand = new Random(234);
@@ -68,6 +77,8 @@ public class BenchmarkTemplateIntensity {
 
 		image_F32.reshape(size,size);
 		image_U8.reshape(size,size);
+		template_F32.reshape(templateSize,templateSize);
+		template_U8.reshape(templateSize,templateSize);
 
 		GImageMiscOps.fillUniform(image_F32, rand, 0, 200);
 		GImageMiscOps.fillUniform(image_U8, rand, 0, 200);
@@ -82,6 +93,11 @@ public class BenchmarkTemplateIntensity {
 		ncc_U8 = FactoryTemplateMatching.createIntensity(TemplateScoreType.NCC,GrayU8.class);
 
 		correlation_F32 = FactoryTemplateMatching.createIntensity(TemplateScoreType.CORRELATION,GrayF32.class);
+
+		ssd_F32_spatial = new TemplateIntensityImage<>(new TemplateDiffSquared.F32());
+		ssd_F32_fft = new TemplateIntensityFft.DiffSquared<>();
+		ncc_F32_spatial = new TemplateIntensityImage<>(new TemplateNCC.F32());
+		ncc_F32_fft = new TemplateIntensityFft.NCC<>();
 	}
 
 	@Benchmark
@@ -108,6 +124,30 @@ public class BenchmarkTemplateIntensity {
 		ncc_U8.process(template_U8);
 	}
 
+	@Benchmark
+	public void ssd_F32_spatial() {
+		ssd_F32_spatial.setInputImage(image_F32);
+		ssd_F32_spatial.process(template_F32);
+	}
+
+	@Benchmark
+	public void ssd_F32_fft() {
+		ssd_F32_fft.setInputImage(image_F32);
+		ssd_F32_fft.process(template_F32);
+	}
+
+	@Benchmark
+	public void ncc_F32_spatial() {
+		ncc_F32_spatial.setInputImage(image_F32);
+		ncc_F32_spatial.process(template_F32);
+	}
+
+	@Benchmark
+	public void ncc_F32_fft() {
+		ncc_F32_fft.setInputImage(image_F32);
+		ncc_F32_fft.process(template_F32);
+	}
+
 	@Benchmark
 	public void correlation_F32() {
 		correlation_F32.setInputImage(image_F32);
@@ -50,6 +50,12 @@ public class ConfigSiftScaleSpace implements Configuration {
 	 */
 	public int firstOctave = 0, lastOctave = 5;
 
+	/**
+	 * If true then large amounts of blur are applied using a recursive Gaussian filter, which is faster
+	 * but less accurate than convolution.
+	 */
+	public boolean recursiveBlur = false;
+
 	/**
 	 * Creates a configuration similar to how it was originally described in the paper
 	 */
@@ -18,6 +18,7 @@
 
 package boofcv.alg.feature.detect.interest;
 
+import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.PixelMath;
@@ -73,6 +74,11 @@ public class SiftScaleSpace {
 	// precomputed kernels
 	Kernel1D_F32 kernelSigma0;
 	Kernel1D_F32 kernelSigmaToK[];
+	// sigma of each kernel
+	double sigmaToK[];
+
+	// if true then large sigmas are applied using a recursive Gaussian filter
+	boolean recursiveBlur;
 
 	// the input image
 	GrayF32 input;
@@ -102,6 +108,23 @@ public class SiftScaleSpace {
 	public SiftScaleSpace(int firstOctave , int lastOctave ,
 						  int numScales ,
 						  double sigma0  )
+	{
+		this(firstOctave,lastOctave,numScales,sigma0,false);
+	}
+
+	/**
+	 * Configures the scale-space
+	 *
+	 * @param firstOctave Initial octave.  Negative numbers means it will scale up.  Recommend 0 or -1.
+	 * @param lastOctave  Last octave, inclusive.  Recommend ????
+	 * @param numScales Number of scales in each octave.  Recommend 3.
+	 * @param sigma0 Amount of blur at the first level in the image pyramid.  Recommend 1.6
+	 * @param recursiveBlur If true then sigmas which are at least {@link BlurImageOps#GAUSSIAN_RECURSIVE_SIGMA}
+	 *                      are applied using a recursive Gaussian filter.
+	 */
+	public SiftScaleSpace(int firstOctave , int lastOctave ,
+						  int numScales ,
+						  double sigma0 , boolean recursiveBlur )
 	{
 		if( lastOctave <= firstOctave )
 			throw new IllegalArgumentException("Last octave must be more than the first octave");
@@ -112,6 +135,7 @@ public class SiftScaleSpace {
 		this.lastOctave = lastOctave;
 		this.numScales = numScales;
 		this.sigma0 = sigma0;
+		this.recursiveBlur = recursiveBlur;
 
 		octaveImages = new GrayF32[numScales + 3];
 		differenceOfGaussian = new GrayF32[numScales + 2];
@@ -131,6 +155,7 @@ public class SiftScaleSpace {
 		kernelSigma0 = (Kernel1D_F32) FactoryKernelGaussian.gaussian(kernelType, sigma0, -1);
 
 		kernelSigmaToK = new Kernel1D_F32[numScales+2];
+		sigmaToK = new double[numScales+2];
 		for (int i = 1; i < numScales + 3; i++) {
 			double before = computeSigmaScale(0, i - 1);
 
@@ -138,6 +163,7 @@ public class SiftScaleSpace {
 			// k*sigma_{i-1} = conv( sigma_(i-1) , sigma)
 			double sigma = before*Math.sqrt(levelK-1.0);
 			kernelSigmaToK[i-1] = (Kernel1D_F32)FactoryKernelGaussian.gaussian(kernelType, sigma, -1);
+			sigmaToK[i-1] = sigma;
 		}
 
 //		for (int octave = firstOctave; octave <= lastOctave; octave++) {
@@ -174,15 +200,15 @@ public class SiftScaleSpace {
 		if( firstOctave < 0 ) {
 			PyramidOps.scaleImageUp(input,tempImage1,-2*firstOctave,interp);
 			tempImage0.reshape(tempImage1.width, tempImage1.height);
-			applyGaussian(tempImage1, tempImage0, kernelSigma0);
+			applyGaussian(tempImage1, tempImage0, kernelSigma0, sigma0);
 		} else {
 			tempImage0.reshape(input.width, input.height);
-			applyGaussian(input, tempImage0, kernelSigma0);
+			applyGaussian(input, tempImage0, kernelSigma0, sigma0);
 			
 			for (int i = 0; i < firstOctave; i++) {
 				tempImage1.reshape(tempImage0.width, tempImage0.height);
 				// first image in the next octave will have 2x the blur as the first image in the prior octave
-				applyGaussian(tempImage0, tempImage1, kernelSigma0);
+				applyGaussian(tempImage0, tempImage1, kernelSigma0, sigma0);
 				// next octave has half the spacial resolution
 				PyramidOps.scaleDown2(tempImage1, tempImage0);
 			}
@@ -218,7 +244,7 @@ public class SiftScaleSpace {
 		octaveImages[0] = tempImage0;
 		for (int i = 1; i < numScales+3; i++) {
 			octaveImages[i].reshape(tempImage0.width, tempImage0.height);
-			applyGaussian(octaveImages[i - 1], octaveImages[i], kernelSigmaToK[i-1]);
+			applyGaussian(octaveImages[i - 1], octaveImages[i], kernelSigmaToK[i-1], sigmaToK[i-1]);
 		}
 
 		for (int i = 1; i < numScales+3; i++) {
@@ -238,7 +264,11 @@ public class SiftScaleSpace {
 	/**
 	 * Applies the separable kernel to the input image and stores the results in the output image.
 	 */
-	void applyGaussian(GrayF32 input, GrayF32 output, Kernel1D kernel) {
+	void applyGaussian(GrayF32 input, GrayF32 output, Kernel1D kernel, double sigma) {
+		if( recursiveBlur && sigma >= BlurImageOps.GAUSSIAN_RECURSIVE_SIGMA ) {
+			BlurImageOps.gaussianRecursive(input, output, sigma);
+			return;
+		}
 		tempBlur.reshape(input.width, input.height);
 		GConvolveImageOps.horizontalNormalized(kernel, input, tempBlur);
 		GConvolveImageOps.verticalNormalized(kernel, tempBlur,output);
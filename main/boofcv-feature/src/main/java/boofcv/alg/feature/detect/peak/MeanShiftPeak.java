@@ -60,6 +60,9 @@ public class MeanShiftPeak<T extends ImageGray<T>> {
 	// used to compute the weight each pixel contributes to the mean
 	protected WeightPixel_F32 weights;
 
+	// interpolated values along a row in the sample region
+	protected float[] samples = new float[0];
+
 	/**
 	 * Configures search.
 	 *  @param maxIterations  Maximum number of iterations.  Try 10
@@ -89,6 +92,8 @@ public class MeanShiftPeak<T extends ImageGray<T>> {
 		this.weights.setRadius( radius, radius );
 		this.radius = radius;
 		this.width = radius*2+1;
+		if( samples.length < width )
+			samples = new float[width];
 	}
 
 	/**
@@ -107,27 +112,14 @@ public class MeanShiftPeak<T extends ImageGray<T>> {
 
 			int kernelIndex = 0;
 
-			// see if it can use fast interpolation otherwise use the safer technique
-			if( interpolate.isInFastBounds(x0, y0) &&
-					interpolate.isInFastBounds(x0 + width - 1, y0 + width - 1)) {
-				for( int yy = 0; yy < width; yy++ ) {
-					for( int xx = 0; xx < width; xx++ ) {
-						float w = weights.weightIndex(kernelIndex++);
-						float weight = w*interpolate.get_fast(x0 + xx, y0 + yy);
-						total += weight;
-						sumX += weight*(xx+x0);
-						sumY += weight*(yy+y0);
-					}
-				}
-			} else {
-				for( int yy = 0; yy < width; yy++ ) {
-					for( int xx = 0; xx < width; xx++ ) {
-						float w = weights.weightIndex(kernelIndex++);
-						float weight = w*interpolate.get(x0 + xx, y0 + yy);
-						total += weight;
-						sumX += weight*(xx+x0);
-						sumY += weight*(yy+y0);
-					}
+			for( int yy = 0; yy < width; yy++ ) {
+				interpolate.getRow(x0, y0 + yy, 1.0f, samples, 0, width);
+				for( int xx = 0; xx < width; xx++ ) {
+					float w = weights.weightIndex(kernelIndex++);
+					float weight = w*samples[xx];
+					total += weight;
+					sumX += weight*(xx+x0);
+					sumY += weight*(yy+y0);
 				}
 			}
 
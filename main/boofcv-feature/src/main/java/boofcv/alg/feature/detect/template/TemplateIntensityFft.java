@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.alg.filter.convolve.fft.CorrelateFft_F32;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Computes template matching scores using the FFT. The results are the same, up to floating point error, as
+ * {@link TemplateIntensityImage} with {@link TemplateDiffSquared} or {@link TemplateNCC}. The correlation between
+ * the image and the template is computed with {@link CorrelateFft_F32} while the sum and sum of squares of the image
+ * inside each window come from integral images. The cost is almost independent of the template's size.
+ * </p>
+ *
+ * <p>
+ * If a spatial implementation is provided then it's used instead when {@link #isFftFaster} returns false, e.g.
+ * when the template is small.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class TemplateIntensityFft<T extends ImageGray<T>>
+		implements TemplateMatchingIntensity<T> {
+	// Used when it's faster than the FFT. Can be null
+	protected @Nullable TemplateMatchingIntensity<T> spatial;
+	// Which algorithm computed the most recent intensity image
+	protected TemplateMatchingIntensity<T> active = this;
+
+	// Match intensity image
+	protected GrayF32 intensity = new GrayF32(1, 1);
+
+	// reference to the input image
+	protected T image;
+
+	// thickness of the border along the lower extents of the image
+	protected int borderX0,borderY0;
+	protected int borderX1,borderY1;
+
+	// Input images converted into floating point
+	protected GrayF32 imageF = new GrayF32(1,1);
+	protected GrayF32 templateF = new GrayF32(1,1);
+	protected GrayF32 maskF = new GrayF32(1,1);
+
+	// Integral images of the image and the image squared. Double is used to avoid loss of precision
+	protected GrayF64 integral = new GrayF64(1,1);
+	protected GrayF64 integralSq = new GrayF64(1,1);
+	// if true the input image needs to be converted and its integral images recomputed
+	private boolean imageDirty;
+
+	// computes the correlation
+	protected CorrelateFft_F32 correlator = new CorrelateFft_F32();
+	// Work space for kernels and correlations
+	protected GrayF32 kernel = new GrayF32(1,1);
+	protected GrayF32 correlation = new GrayF32(1,1);
+	protected GrayF32 correlation2 = new GrayF32(1,1);
+
+	/**
+	 * @param spatial If not null it will be used when it's estimated to be faster than the FFT.
+	 */
+	protected TemplateIntensityFft( @Nullable TemplateMatchingIntensity<T> spatial ) {
+		this.spatial = spatial;
+	}
+
+	/**
+	 * Returns true if the FFT is estimated to be faster than computing the score at each pixel directly
+	 */
+	public static boolean isFftFaster( int templateWidth , int templateHeight , int imageWidth , int imageHeight ) {
+		return CorrelateFft_F32.isFftFaster(templateWidth,templateHeight,
+				imageWidth-templateWidth,imageHeight-templateHeight);
+	}
+
+	@Override
+	public void setInputImage(T image) {
+		this.image = image;
+		imageDirty = true;
+	}
+
+	@Override
+	public void process(T template) {
+		process(template,null);
+	}
+
+	@Override
+	public void process(T template, @Nullable T mask ) {
+		if( spatial != null && !isFftFaster(template.width,template.height,image.width,image.height) ) {
+			spatial.setInputImage(image);
+			if( mask == null )
+				spatial.process(template);
+			else
+				spatial.process(template,mask);
+			active = spatial;
+			return;
+		}
+		active = this;
+
+		intensity.reshape(image.width, image.height);
+
+		borderX0 = template.width / 2;
+		borderY0 = template.height / 2;
+		borderX1 = template.width-borderX0;
+		borderY1 = template.height-borderY0;
+
+		int w = image.width - template.width;
+		int h = image.height - template.height;
+		if( w <= 0 || h <= 0 )
+			return;
+
+		// only process the input image the first time it's needed
+		if( imageDirty ) {
+			imageDirty = false;
+			imageF.reshape(image.width,image.height);
+			GConvertImage.convert(image,imageF);
+			computeIntegralImages();
+		}
+		templateF.reshape(template.width,template.height);
+		GConvertImage.convert(template,templateF);
+		if( mask != null ) {
+			maskF.reshape(mask.width,mask.height);
+			GConvertImage.convert(mask,maskF);
+		}
+
+		correlation.reshape(w,h);
+		if( mask == null )
+			computeScore(w, h);
+		else
+			computeScoreMask(w, h);
+	}
+
+	/**
+	 * Computes the score for templates without a mask.
+	 */
+	protected abstract void computeScore( int w , int h );
+
+	/**
+	 * Computes the score for templates with a mask.
+	 */
+	protected abstract void computeScoreMask( int w , int h );
+
+	private void computeIntegralImages() {
+		integral.reshape(imageF.width,imageF.height);
+		GConvertImage.convert(imageF,integral);
+		IntegralImageOps.transformSumSq(integral,integral,integralSq);
+	}
+
+	/**
+	 * Correlates the kernel with the image and saves the results in the output
+	 */
+	protected void correlate( GrayF32 input , GrayF32 kernel , GrayF32 output ) {
+		correlator.setKernel(kernel);
+		correlator.process(input,null,0,0,output);
+	}
+
+	/**
+	 * Sum of the image inside the template when its top left corner is at (x,y)
+	 */
+	protected double imageSum( GrayF64 integral , int x , int y ) {
+		return IntegralImageOps.block_zero(integral,x-1,y-1,x+templateF.width-1,y+templateF.height-1);
+	}
+
+	/**
+	 * Returns true if the input image is an 8-bit image. Scores for those images are scaled.
+	 */
+	protected boolean isU8() {
+		return image instanceof GrayU8;
+	}
+
+	@Override
+	public GrayF32 getIntensity() {
+		return active == this ? intensity : active.getIntensity();
+	}
+
+	@Override
+	public boolean isBorderProcessed() {
+		return active == this ? false : active.isBorderProcessed();
+	}
+
+	@Override
+	public int getBorderX0() {
+		return active == this ? borderX0 : active.getBorderX0();
+	}
+
+	@Override
+	public int getBorderY0() {
+		return active == this ? borderY0 : active.getBorderY0();
+	}
+
+	@Override
+	public int getBorderX1() {
+		return active == this ? borderX1 : active.getBorderX1();
+	}
+
+	@Override
+	public int getBorderY1() {
+		return active == this ? borderY1 : active.getBorderY1();
+	}
+
+	/**
+	 * <p>FFT version of {@link TemplateDiffSquared}. The score is expanded into</p>
+	 *
+	 * <p> error = -1*[ Sum I(x,y)^2 - 2*Sum I(x,y)*T(x,y) + Sum T(x,y)^2 ]</p>
+	 *
+	 * <p>where the first term comes from an integral image, the second from correlation with the FFT, and the last
+	 * is constant. With a mask the first term is computed by correlating the image squared with the mask.</p>
+	 */
+	public static class DiffSquared<T extends ImageGray<T>> extends TemplateIntensityFft<T> {
+		// image squared. only used with masks
+		GrayF32 imageSq = new GrayF32(1,1);
+
+		public DiffSquared( @Nullable TemplateMatchingIntensity<T> spatial ) {
+			super(spatial);
+		}
+
+		public DiffSquared() {
+			this(null);
+		}
+
+		@Override
+		protected void computeScore( int w , int h ) {
+			// Subtracting the mean from the template reduces the magnitude of what's computed by the FFT,
+			// which reduces the error. The mean is then added back using the integral image
+			int N = templateF.width*templateF.height;
+			double templateMean = 0;
+			double templateSumSq = 0;
+			for (int i = 0; i < N; i++) {
+				templateMean += templateF.data[i];
+				templateSumSq += templateF.data[i]*(double)templateF.data[i];
+			}
+			templateMean /= N;
+
+			kernel.reshape(templateF.width,templateF.height);
+			for (int i = 0; i < N; i++) {
+				kernel.data[i] = (float)(templateF.data[i] - templateMean);
+			}
+			correlate(imageF,kernel,correlation);
+
+			// U8 scores are scaled to reduce the chance of overflow
+			double scale = isU8() ? 1.0/(255.0*255.0) : 1.0;
+
+			for (int y = 0; y < h; y++) {
+				int indexI = intensity.startIndex + (y + borderY0) * intensity.stride + borderX0;
+				int indexC = y*correlation.stride;
+				for (int x = 0; x < w; x++) {
+					double cross = correlation.data[indexC++] + templateMean*imageSum(integral,x,y);
+					double error = imageSum(integralSq,x,y) - 2.0*cross + templateSumSq;
+					intensity.data[indexI++] = (float)(-error*scale);
+				}
+			}
+		}
+
+		@Override
+		protected void computeScoreMask( int w , int h ) {
+			imageSq.reshape(imageF.width,imageF.height);
+			int N = imageF.width*imageF.height;
+			for (int i = 0; i < N; i++) {
+				imageSq.data[i] = imageF.data[i]*imageF.data[i];
+			}
+
+			double templateSumSq = 0;
+			kernel.reshape(templateF.width,templateF.height);
+			N = templateF.width*templateF.height;
+			for (int i = 0; i < N; i++) {
+				float m = maskF.data[i];
+				float t = templateF.data[i];
+				kernel.data[i] = m*t;
+				templateSumSq += m*t*(double)t;
+			}
+			correlate(imageF,kernel,correlation);
+			correlation2.reshape(w,h);
+			correlate(imageSq,maskF,correlation2);
+
+			double scale = isU8() ? 1.0/(255.0*255.0*255.0) : 1.0;
+
+			for (int y = 0; y < h; y++) {
+				int indexI = intensity.startIndex + (y + borderY0) * intensity.stride + borderX0;
+				int indexC = y*correlation.stride;
+				for (int x = 0; x < w; x++, indexC++) {
+					double error = correlation2.data[indexC] - 2.0*correlation.data[indexC] + templateSumSq;
+					intensity.data[indexI++] = (float)(-error*scale);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>FFT version of {@link TemplateNCC}. The numerator is the correlation between the image and the template
+	 * minus its mean, computed using the FFT. The image's mean and standard deviation inside the template
+	 * come from integral images.</p>
+	 */
+	public static class NCC<T extends ImageGray<T>> extends TemplateIntensityFft<T> {
+
+		public NCC( @Nullable TemplateMatchingIntensity<T> spatial ) {
+			super(spatial);
+		}
+
+		public NCC() {
+			this(null);
+		}
+
+		@Override
+		protected void computeScore( int w , int h ) {
+			double templateMean = templateMean();
+			kernel.reshape(templateF.width,templateF.height);
+			int N = templateF.width*templateF.height;
+			for (int i = 0; i < N; i++) {
+				kernel.data[i] = (float)(templateF.data[i] - templateMean);
+			}
+			computeScore(w, h, 0);
+		}
+
+		@Override
+		protected void computeScoreMask( int w , int h ) {
+			double templateMean = templateMean();
+			double kernelSum = 0;
+			kernel.reshape(templateF.width,templateF.height);
+			int N = templateF.width*templateF.height;
+			for (int i = 0; i < N; i++) {
+				kernel.data[i] = (float)(maskF.data[i]*(templateF.data[i] - templateMean));
+				kernelSum += kernel.data[i];
+			}
+			computeScore(w, h, kernelSum);
+		}
+
+		/**
+		 * Computes the NCC score using the kernel.
+		 *
+		 * @param kernelSum Sum of the kernel's elements. The image mean times this is subtracted from the numerator.
+		 */
+		private void computeScore( int w , int h , double kernelSum ) {
+			correlate(imageF,kernel,correlation);
+
+			double templateSigma = templateSigma(templateMean());
+			double area = templateF.width*templateF.height;
+
+			for (int y = 0; y < h; y++) {
+				int indexI = intensity.startIndex + (y + borderY0) * intensity.stride + borderX0;
+				int indexC = y*correlation.stride;
+				for (int x = 0; x < w; x++) {
+					double imageMean = imageSum(integral,x,y)/area;
+					double variance = imageSum(integralSq,x,y)/area - imageMean*imageMean;
+
+					double top = correlation.data[indexC++] - imageMean*kernelSum;
+
+					// The image is constant inside the template. The direct computation would be 0/0
+					if( variance <= 1e-10*imageMean*imageMean ) {
+						intensity.data[indexI++] = Float.NaN;
+					} else {
+						intensity.data[indexI++] = (float)(top/(Math.sqrt(variance)*templateSigma));
+					}
+				}
+			}
+		}
+
+		private double templateMean() {
+			int N = templateF.width*templateF.height;
+			double mean = 0;
+			for (int i = 0; i < N; i++) {
+				mean += templateF.data[i];
+			}
+			return mean/N;
+		}
+
+		private double templateSigma( double mean ) {
+			int N = templateF.width*templateF.height;
+			double sigma = 0;
+			for (int i = 0; i < N; i++) {
+				double d = templateF.data[i] - mean;
+				sigma += d*d;
+			}
+			return Math.sqrt(sigma/N);
+		}
+	}
+}
@@ -103,14 +103,9 @@ public abstract class DenseFlowPyramidBase<T extends ImageGray<T>> {
 
 		int indexCurr = 0;
 		for( int y = 0; y < curr.height; y++ ) {
-			float yy = y*scaleY;
+			interp.getRow(0, y*scaleY, scaleX, curr.data, indexCurr, curr.width);
 			for( int x = 0; x < curr.width; x++ ) {
-				float xx = x*scaleX;
-				if( interp.isInFastBounds(xx,yy)) {
-					curr.data[indexCurr++] = interp.get_fast(x * scaleX, y * scaleY) / scale;
-				} else {
-					curr.data[indexCurr++] = interp.get(x * scaleX, y * scaleY) / scale;
-				}
+				curr.data[indexCurr++] /= scale;
 			}
 		}
 	}
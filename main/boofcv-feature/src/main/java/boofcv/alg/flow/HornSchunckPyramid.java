@@ -182,8 +182,9 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 
 		int indexCurr = 0;
 		for( int y = 0; y < curr.height; y++ ) {
+			interp.getRow(0, y*scaleY, scaleX, curr.data, indexCurr, curr.width);
 			for( int x = 0; x < curr.width; x++ ) {
-				curr.data[indexCurr++] = interp.get(x*scaleX,y*scaleY)/scale;
+				curr.data[indexCurr++] /= scale;
 			}
 		}
 	}
@@ -21,6 +21,9 @@ package boofcv.alg.shapes.polygon;
 import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.alg.shapes.edge.EdgeIntensityPolygon;
 import boofcv.misc.MovingAverage;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.distort.PixelTransform;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -40,7 +43,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
+public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> implements ProfileStages {
 
 	// Detects the polygons using a contour from a binary image
 	DetectPolygonFromContour<T> detector;
@@ -66,6 +69,7 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 
 	// timing for profiler
 	MovingAverage milliAdjustBias = new MovingAverage(0.8);
+	StageProfiler stages = new StageProfiler("DetectPolygonBinaryGrayRefine");
 
 	/**
 	 * Configures the polygon detector
@@ -107,6 +111,12 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 		detector.setVerbose(verbose);
 	}
 
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
+		detector.setStageListener(listener);
+	}
+
 	/**
 	 * <p>Specifies transforms which can be used to change coordinates from distorted to undistorted and the opposite
 	 * coordinates.  The undistorted image is never explicitly created.</p>
@@ -153,6 +163,7 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 		edgeIntensity.setImage(gray);
 
 		long time0 = System.nanoTime();
+		stages.begin();
 		FastQueue<DetectPolygonFromContour.Info> detections = detector.getFound();
 
 		if( adjustForBias != null ) {
@@ -168,6 +179,7 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 			}
 		}
 		long time1 = System.nanoTime();
+		stages.end("adjust_bias",detections.size);
 
 		double milli = (time1-time0)*1e-6;
 
@@ -240,11 +252,13 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 	 * step are not added.
 	 */
 	public void refineAll() {
+		stages.begin();
 		List<DetectPolygonFromContour.Info> detections = detector.getFound().toList();
 
 		for (int i = 0; i < detections.size(); i++) {
 			refine(detections.get(i));
 		}
+		stages.end("refine",detections.size());
 	}
 
 	/**
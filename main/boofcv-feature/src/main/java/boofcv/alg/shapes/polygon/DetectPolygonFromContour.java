@@ -24,6 +24,9 @@ import boofcv.abst.shapes.polyline.PointsToPolyline;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.misc.MovingAverage;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.distort.PixelTransform;
 import boofcv.struct.image.GrayU8;
@@ -38,6 +41,7 @@ import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_B;
 import org.ddogleg.struct.GrowQueue_I32;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -70,7 +74,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class DetectPolygonFromContour<T extends ImageGray<T>> {
+public class DetectPolygonFromContour<T extends ImageGray<T>> implements ProfileStages {
 
 	// minimum size of a shape's contour as a fraction of the image width
 	private ConfigLength minimumContourConfig;
@@ -129,6 +133,7 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 	// times for internal profiling
 	MovingAverage milliContour = new MovingAverage(0.8);
 	MovingAverage milliShapes = new MovingAverage(0.8);
+	StageProfiler stages = new StageProfiler("DetectPolygonFromContour");
 
 	/**
 	 * Configures the detector.
@@ -235,16 +240,19 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 			contourEdgeIntensity.setImage(gray);
 
 		long time0 = System.nanoTime();
+		stages.begin();
 
 		// find all the contours
 		contourFinder.process(binary);
 
 		long time1 = System.nanoTime();
+		stages.end("contour");
 
 		// Using the contours find the polygons
 		findCandidateShapes();
 
 		long time2 = System.nanoTime();
+		stages.end("shapes",foundInfo.size);
 
 		double a = (time1-time0)*1e-6;
 		double b = (time2-time1)*1e-6;
@@ -578,6 +586,11 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 		this.verbose = verbose;
 	}
 
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
+	}
+
 	public double getContourEdgeThreshold() {
 		return contourEdgeThreshold;
 	}
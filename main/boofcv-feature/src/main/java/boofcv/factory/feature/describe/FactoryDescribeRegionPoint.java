@@ -164,7 +164,7 @@ public class FactoryDescribeRegionPoint {
 		configSS.checkValidity();
 
 		SiftScaleSpace ss = new SiftScaleSpace(configSS.firstOctave, configSS.lastOctave, configSS.numScales,
-				configSS.sigma0);
+				configSS.sigma0,configSS.recursiveBlur);
 
 		DescribePointSift<GrayF32> alg = FactoryDescribePointAlgs.sift(configDescribe,GrayF32.class);
 
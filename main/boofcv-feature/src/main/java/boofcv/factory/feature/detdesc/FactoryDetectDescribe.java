@@ -81,7 +81,7 @@ public class FactoryDetectDescribe {
 		ConfigSiftDescribe configDesc = config.describe;
 
 		SiftScaleSpace scaleSpace = new SiftScaleSpace(
-				configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0);
+				configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0,configSS.recursiveBlur);
 		OrientationHistogramSift<GrayF32> orientation = new OrientationHistogramSift<>(
 				configOri.histogramSize,configOri.sigmaEnlarge,GrayF32.class);
 		DescribePointSift<GrayF32> describe = new DescribePointSift<>(
@@ -196,7 +196,7 @@ public class FactoryInterestPointAlgs {
 		NonMaxLimiter nonmax = FactoryFeatureExtractor.nonmaxLimiter(
 				configDetector.extract,configDetector.maxFeaturesPerScale);
 		SiftScaleSpace ss = new SiftScaleSpace(configSS.firstOctave,configSS.lastOctave,
-				configSS.numScales,configSS.sigma0);
+				configSS.numScales,configSS.sigma0,configSS.recursiveBlur);
 		return new SiftDetector(ss,configDetector.edgeR,nonmax);
 	}
 }
@@ -36,6 +36,8 @@ public class FactoryTemplateMatching {
 	/**
 	 * Creates {@link TemplateMatchingIntensity} of the specified type.  Likely
 	 * matches can be extracted using {@link boofcv.abst.feature.detect.extract.NonMaxSuppression}.
+	 * For {@link TemplateScoreType#SUM_DIFF_SQ} and {@link TemplateScoreType#NCC} the score is computed using
+	 * the FFT when the template is large enough for it to be faster, see {@link TemplateIntensityFft}.
 	 *
 	 * @param type      Type of error function
 	 * @param imageType Image type being processed
@@ -78,10 +80,18 @@ public class FactoryTemplateMatching {
 				throw new IllegalArgumentException("Unknown");
 		}
 
+		TemplateMatchingIntensity<T> spatial;
 		if(BoofConcurrency.USE_CONCURRENT) {
-			return new TemplateIntensityImage_MT<>(method);
+			spatial = new TemplateIntensityImage_MT<>(method);
 		} else {
-			return new TemplateIntensityImage<>(method);
+			spatial = new TemplateIntensityImage<>(method);
+		}
+
+		// Large templates are processed using the FFT
+		if( type == TemplateScoreType.SUM_DIFF_SQ ) {
+			return new TemplateIntensityFft.DiffSquared<>(spatial);
+		} else {
+			return new TemplateIntensityFft.NCC<>(spatial);
 		}
 	}
 
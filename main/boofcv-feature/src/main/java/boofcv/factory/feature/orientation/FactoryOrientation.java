@@ -75,7 +75,7 @@ public class FactoryOrientation {
 		OrientationHistogramSift<GrayF32> ori = FactoryOrientationAlgs.sift(configOri,GrayF32.class);
 
 		SiftScaleSpace ss = new SiftScaleSpace(
-				configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0);
+				configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0,configSS.recursiveBlur);
 		return new OrientationSiftToImage<>(ori, ss, imageType);
 	}
 }
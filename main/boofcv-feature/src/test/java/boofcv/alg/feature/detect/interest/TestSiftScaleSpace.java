@@ -77,20 +77,24 @@ public class TestSiftScaleSpace {
 
 		GrayF32 expected = new GrayF32(300,340);
 
-		float sigma0 = 1.6f;
-		SiftScaleSpace alg = new SiftScaleSpace(0,3,2,sigma0);
+		// the larger sigma will cause the recursive filter to be used at some scales
+		for( float sigma0 : new float[]{1.6f,2.75f} ) {
+			for( boolean recursive : new boolean[]{false,true} ) {
+				SiftScaleSpace alg = new SiftScaleSpace(0,3,2,sigma0,recursive);
 
-		alg.initialize(original);
-		assertEquals(5,alg.getNumScaleImages());
+				alg.initialize(original);
+				assertEquals(5,alg.getNumScaleImages());
 
-		for (int i = 0; i < 5; i++) {
-			double sigma = alg.computeSigmaScale(i);
+				for (int i = 0; i < 5; i++) {
+					double sigma = alg.computeSigmaScale(i);
 
-			GBlurImageOps.gaussian(original, expected, sigma, -1, null);
+					GBlurImageOps.gaussian(original, expected, sigma, -1, null);
 
-			double averageError = compareImage(expected, alg.getImageScale(i), 0);
+					double averageError = compareImage(expected, alg.getImageScale(i), 0);
 
-			assertTrue(averageError<2," scale "+i+" error = "+averageError);
+					assertTrue(averageError<2," scale "+i+" error = "+averageError);
+				}
+			}
 		}
 	}
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTemplateIntensityFft {
+	Random rand = new Random(234);
+
+	@Test
+	public void general_DiffSquared() {
+		new GeneralTemplateMatchTests<GrayF32>(new TemplateIntensityFft.DiffSquared<>(), GrayF32.class) {
+		}.allTests();
+		new GeneralTemplateMatchTests<GrayU8>(new TemplateIntensityFft.DiffSquared<>(), GrayU8.class) {
+		}.allTests();
+	}
+
+	@Test
+	public void general_NCC() {
+		new GeneralTemplateMatchTests<GrayF32>(new TemplateIntensityFft.NCC<>(), GrayF32.class) {
+		}.allTests();
+		new GeneralTemplateMatchTests<GrayU8>(new TemplateIntensityFft.NCC<>(), GrayU8.class) {
+		}.allTests();
+	}
+
+	/**
+	 * Compare the scores against the spatial implementation
+	 */
+	@Test
+	public void compareToSpatial() {
+		compareToSpatial(new TemplateIntensityFft.DiffSquared<>(), new TemplateDiffSquared.F32(), GrayF32.class);
+		compareToSpatial(new TemplateIntensityFft.DiffSquared<>(), new TemplateDiffSquared.U8(), GrayU8.class);
+		compareToSpatial(new TemplateIntensityFft.NCC<>(), new TemplateNCC.F32(), GrayF32.class);
+		compareToSpatial(new TemplateIntensityFft.NCC<>(), new TemplateNCC.U8(), GrayU8.class);
+	}
+
+	private <T extends ImageGray<T>>
+	void compareToSpatial( TemplateIntensityFft<T> alg , TemplateIntensityImage.EvaluatorMethod<T> method ,
+						   Class<T> imageType ) {
+		TemplateIntensityImage<T> expected = new TemplateIntensityImage<>(method);
+
+		T image = GeneralizedImageOps.createSingleBand(imageType, 80, 70);
+		T template = GeneralizedImageOps.createSingleBand(imageType, 12, 9);
+		T mask = GeneralizedImageOps.createSingleBand(imageType, 12, 9);
+
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+		GImageMiscOps.fillUniform(template, rand, 0, 200);
+		GImageMiscOps.fillUniform(mask, rand, 0, 4);
+
+		for( boolean masked : new boolean[]{false,true}) {
+			alg.setInputImage(image);
+			expected.setInputImage(image);
+			if( masked ) {
+				alg.process(template,mask);
+				expected.process(template,mask);
+			} else {
+				alg.process(template);
+				expected.process(template);
+			}
+
+			assertEquals(expected.getBorderX0(),alg.getBorderX0());
+			assertEquals(expected.getBorderY0(),alg.getBorderY0());
+			assertEquals(expected.isBorderProcessed(),alg.isBorderProcessed());
+
+			GrayF32 found = alg.getIntensity();
+			int x0 = alg.getBorderX0(), y0 = alg.getBorderY0();
+			for (int y = y0; y < y0 + image.height - template.height; y++) {
+				for (int x = x0; x < x0 + image.width - template.width; x++) {
+					float e = expected.getIntensity().get(x,y);
+					float f = found.get(x,y);
+					assertEquals(e, f, Math.max(1e-3,Math.abs(e)*1e-4));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Small templates should be processed by the spatial algorithm
+	 */
+	@Test
+	public void automaticSwitch() {
+		TemplateIntensityImage<GrayF32> spatial = new TemplateIntensityImage<>(new TemplateNCC.F32());
+		TemplateIntensityFft<GrayF32> alg = new TemplateIntensityFft.NCC<>(spatial);
+
+		GrayF32 image = new GrayF32(200,180);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		GrayF32 small = new GrayF32(3,3);
+		GrayF32 large = new GrayF32(30,32);
+		GImageMiscOps.fillUniform(small, rand, 0, 200);
+		GImageMiscOps.fillUniform(large, rand, 0, 200);
+
+		assertFalse(TemplateIntensityFft.isFftFaster(small.width,small.height,image.width,image.height));
+		assertTrue(TemplateIntensityFft.isFftFaster(large.width,large.height,image.width,image.height));
+
+		alg.setInputImage(image);
+		alg.process(small);
+		assertSame(spatial.getIntensity(),alg.getIntensity());
+		alg.process(large);
+		assertNotSame(spatial.getIntensity(),alg.getIntensity());
+		assertEquals(large.width/2,alg.getBorderX0());
+	}
+}
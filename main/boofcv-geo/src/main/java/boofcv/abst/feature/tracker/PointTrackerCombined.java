@@ -85,10 +85,8 @@ public class PointTrackerCombined<I extends ImageGray<I>, D extends ImageGray<D>
 
 		// update the image pyramid
 		pyramid.process(image);
-		if( derivX == null ) {
-			derivX = PyramidOps.declareOutput(pyramid, derivType);
-			derivY = PyramidOps.declareOutput(pyramid, derivType);
-		}
+		derivX = PyramidOps.declareOutput(pyramid, derivType, derivX);
+		derivY = PyramidOps.declareOutput(pyramid, derivType, derivY);
 		PyramidOps.gradient(pyramid, gradient, derivX, derivY);
 
 		// pass in filtered inputs
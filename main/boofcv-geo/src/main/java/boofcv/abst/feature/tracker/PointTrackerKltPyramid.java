@@ -265,17 +265,9 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 	}
 
 	protected void declareOutput() {
-		if( derivX == null ) {
-			// declare storage for image derivative since the image size is now known
-			derivX = PyramidOps.declareOutput(basePyramid, derivType);
-			derivY = PyramidOps.declareOutput(basePyramid,derivType);
-		}
-		else if( derivX[0].width != basePyramid.getLayer(0).width ||
-				derivX[0].height != basePyramid.getLayer(0).height )
-		{
-			PyramidOps.reshapeOutput(basePyramid,derivX);
-			PyramidOps.reshapeOutput(basePyramid,derivY);
-		}
+		// declare storage for image derivative since the image size is now known. Reuses the previous images
+		derivX = PyramidOps.declareOutput(basePyramid,derivType,derivX);
+		derivY = PyramidOps.declareOutput(basePyramid,derivType,derivY);
 	}
 
 	@Override
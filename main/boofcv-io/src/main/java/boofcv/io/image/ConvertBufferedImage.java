@@ -170,6 +170,103 @@ public class ConvertBufferedImage {
 		throw new IllegalArgumentException("Buffered image does not have a gray scale byte raster");
 	}
 
+	/**
+	 * Converts a BufferedImage into a {@link GrayU8} without copying when possible. If the BufferedImage
+	 * is a single band of bytes then the returned image shares its data array. Otherwise it is converted
+	 * using {@link #convertFrom(BufferedImage, GrayU8)}. Modifying a shared image will modify the BufferedImage.
+	 *
+	 * @param src Input image.
+	 * @param storage Used if the image has to be copied. If null a new image is created.
+	 * @return Image which shares data with the input image or a converted copy.
+	 */
+	public static GrayU8 wrapGrayU8( BufferedImage src , GrayU8 storage ) {
+		if( !isWrappable(src) || src.getRaster().getNumBands() != 1 )
+			return convertFrom(src,storage);
+
+		WritableRaster raster = src.getRaster();
+		GrayU8 ret = new GrayU8();
+		ret.width = src.getWidth();
+		ret.height = src.getHeight();
+		ret.startIndex = wrapStartIndex(raster);
+		ret.stride = ((PixelInterleavedSampleModel)raster.getSampleModel()).getScanlineStride();
+		ret.data = ((DataBufferByte)raster.getDataBuffer()).getData();
+		ret.subImage = isSubImage(src);
+
+		return ret;
+	}
+
+	/**
+	 * Converts a BufferedImage into an {@link InterleavedU8} without copying when possible. If the BufferedImage
+	 * is stored as interleaved bytes then the returned image shares its data array. Otherwise it is converted
+	 * using {@link #convertFromInterleaved}. If orderRgb is true and the bands need to be reordered,
+	 * e.g. TYPE_3BYTE_BGR, then it has to be copied. Modifying a shared image will modify the BufferedImage.
+	 *
+	 * @param src Input image.
+	 * @param orderRgb If applicable, should it adjust the ordering of each color band to maintain color consistency
+	 * @param storage Used if the image has to be copied. If null a new image is created.
+	 * @return Image which shares data with the input image or a converted copy.
+	 */
+	public static InterleavedU8 wrapInterleavedU8( BufferedImage src , boolean orderRgb , InterleavedU8 storage ) {
+		if( !isWrappable(src) || (orderRgb && ConvertRaster.swapBandOrder(src)) ) {
+			if( storage == null )
+				storage = new InterleavedU8(1,1,3);
+			convertFromInterleaved(src,storage,orderRgb);
+			return storage;
+		}
+
+		WritableRaster raster = src.getRaster();
+		InterleavedU8 ret = new InterleavedU8();
+		ret.width = src.getWidth();
+		ret.height = src.getHeight();
+		ret.startIndex = wrapStartIndex(raster);
+		ret.imageType.numBands = raster.getNumBands();
+		ret.numBands = raster.getNumBands();
+		ret.stride = ((PixelInterleavedSampleModel)raster.getSampleModel()).getScanlineStride();
+		ret.data = ((DataBufferByte)raster.getDataBuffer()).getData();
+		ret.subImage = isSubImage(src);
+
+		return ret;
+	}
+
+	/**
+	 * Checks to see if the BufferedImage's internal data array can be used directly by {@link InterleavedU8} or
+	 * {@link GrayU8}. The bands of each pixel must be interleaved bytes inside a single array.
+	 *
+	 * @param img Image which is to be checked
+	 * @return true if the image can be wrapped without copying
+	 */
+	public static boolean isWrappable( BufferedImage img ) {
+		try {
+			WritableRaster raster = img.getRaster();
+			DataBuffer buffer = raster.getDataBuffer();
+			if( buffer.getDataType() != DataBuffer.TYPE_BYTE || buffer.getNumBanks() != 1 || !isKnownByteFormat(img) )
+				return false;
+			if( !(raster.getSampleModel() instanceof PixelInterleavedSampleModel) )
+				return false;
+
+			PixelInterleavedSampleModel sm = (PixelInterleavedSampleModel)raster.getSampleModel();
+			return sm.getPixelStride() == raster.getNumBands();
+		} catch( java.security.AccessControlException e) {
+			// Applets don't allow access to the raster()
+			return false;
+		}
+	}
+
+	/**
+	 * Index of the first pixel in the raster's data array. Computed from the sample model so that it works
+	 * with sub-images too.
+	 */
+	private static int wrapStartIndex( WritableRaster raster ) {
+		PixelInterleavedSampleModel sm = (PixelInterleavedSampleModel)raster.getSampleModel();
+		int minOffset = Integer.MAX_VALUE;
+		for( int offset : sm.getBandOffsets() ) {
+			minOffset = Math.min(minOffset,offset);
+		}
+		return raster.getDataBuffer().getOffset() + minOffset
+				- raster.getSampleModelTranslateY()*sm.getScanlineStride()
+				- raster.getSampleModelTranslateX()*sm.getPixelStride();
+	}
+
 	/**
 	 * Creates a new BufferedImage that internally uses the same data as the provided
 	 * {@link InterleavedU8}.  If 3 bands then the image will be of type TYPE_3BYTE_BGR
@@ -123,6 +123,10 @@ public class UtilImageIO {
 		if( img == null )
 			return null;
 
+		// the BufferedImage isn't used anywhere else so its data can be used directly
+		if( imageType == GrayU8.class )
+			return (T)ConvertBufferedImage.wrapGrayU8(img, null);
+
 		return ConvertBufferedImage.convertFromSingle(img, (T) null, imageType);
 	}
 
@@ -135,6 +139,10 @@ public class UtilImageIO {
 		if( img == null )
 			return null;
 
+		// the BufferedImage isn't used anywhere else so its data can be used directly
+		if( imageType.getFamily() == ImageType.Family.INTERLEAVED && imageType.getDataType() == ImageDataType.U8 )
+			return (T)ConvertBufferedImage.wrapInterleavedU8(img, orderRgb, null);
+
 		T output = imageType.createImage(img.getWidth(),img.getHeight());
 		ConvertBufferedImage.convertFrom(img, orderRgb, output);
 		return output;
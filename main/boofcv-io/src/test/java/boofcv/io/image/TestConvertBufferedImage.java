@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -174,6 +175,85 @@ public class TestConvertBufferedImage {
 		}
 	}
 
+	@Test
+	public void wrapGrayU8() {
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+		GrayU8 expected = ConvertBufferedImage.convertFrom(origImg,(GrayU8)null);
+
+		// the data should be shared
+		byte[] origData = ((DataBufferByte)origImg.getRaster().getDataBuffer()).getData();
+		GrayU8 found = ConvertBufferedImage.wrapGrayU8(origImg, null);
+		assertSame(origData, found.data);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		// sub-images can be wrapped too
+		BufferedImage subImg = origImg.getSubimage(1,2,5,6);
+		found = ConvertBufferedImage.wrapGrayU8(subImg, null);
+		assertSame(origData, found.data);
+		assertTrue(found.isSubimage());
+		BoofTesting.assertEquals(expected.subimage(1,2,6,8), found, 0);
+
+		// incompatible formats are copied into the storage
+		for( BufferedImage img : new BufferedImage[]{
+				TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand),
+				TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand),
+				TestConvertRaster.createByteIndexed(imgWidth, imgHeight, rand)}) {
+			GrayU8 storage = new GrayU8(1,1);
+			found = ConvertBufferedImage.wrapGrayU8(img, storage);
+			assertSame(storage, found);
+			BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(img,(GrayU8)null), found, 0);
+		}
+	}
+
+	@Test
+	public void wrapInterleavedU8() {
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
+		byte[] origData = ((DataBufferByte)origImg.getRaster().getDataBuffer()).getData();
+
+		for( boolean orderRgb : new boolean[]{false,true}) {
+			InterleavedU8 expected = new InterleavedU8(1,1,3);
+			ConvertBufferedImage.convertFromInterleaved(origImg, expected, orderRgb);
+
+			InterleavedU8 storage = new InterleavedU8(1,1,3);
+			InterleavedU8 found = ConvertBufferedImage.wrapInterleavedU8(origImg, orderRgb, storage);
+
+			// BGR can only be shared if the band order doesn't need to change
+			if( orderRgb ) {
+				assertSame(storage, found);
+			} else {
+				assertSame(origData, found.data);
+			}
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+
+		// a gray image doesn't need its bands to be reordered
+		BufferedImage grayImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+		InterleavedU8 found = ConvertBufferedImage.wrapInterleavedU8(grayImg, true, null);
+		assertSame(((DataBufferByte)grayImg.getRaster().getDataBuffer()).getData(), found.data);
+		assertEquals(1, found.numBands);
+
+		// incompatible format
+		BufferedImage intImg = TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand);
+		InterleavedU8 expected = new InterleavedU8(1,1,3);
+		ConvertBufferedImage.convertFromInterleaved(intImg, expected, true);
+		found = ConvertBufferedImage.wrapInterleavedU8(intImg, true, null);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	public void isWrappable() {
+		for( int numBands : new int[]{1,3,4}) {
+			BufferedImage img = TestConvertRaster.createByteBuff(imgWidth, imgHeight, numBands, rand);
+			assertTrue(ConvertBufferedImage.isWrappable(img));
+			assertTrue(ConvertBufferedImage.isWrappable(img.getSubimage(1,2,5,6)));
+		}
+
+		assertFalse(ConvertBufferedImage.isWrappable(TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand)));
+		assertFalse(ConvertBufferedImage.isWrappable(TestConvertRaster.createByteIndexed(imgWidth, imgHeight, rand)));
+		assertFalse(ConvertBufferedImage.isWrappable(TestConvertRaster.createByteBinary(imgWidth, imgHeight, rand)));
+		assertFalse(ConvertBufferedImage.isWrappable(TestConvertRaster.createShortBuff(imgWidth, imgHeight, rand)));
+	}
+
 	@Test
 	public void extractBuffered_InterleavedU8() {
 		// test it with 3 bands
@@ -54,6 +54,7 @@ public class BenchmarkColorConvert {
 
 	public Planar<GrayF32> src_F32;
 	public Planar<GrayF32> dst_F32;
+	public Planar<GrayF32> down_F32;
 
 	public Planar<GrayU8> src_U8;
 	public Planar<GrayU8> dst_U8;
@@ -72,6 +73,7 @@ public class BenchmarkColorConvert {
 
 		src_F32 = new Planar<>(GrayF32.class,size,size,3);
 		dst_F32 = new Planar<>(GrayF32.class,size,size,3);
+		down_F32 = new Planar<>(GrayF32.class,size/2,size/2,3);
 		src_U8 = new Planar<>(GrayU8.class,size,size,3);
 		dst_U8 = new Planar<>(GrayU8.class,size,size,3);
 		gdst_F32 = new GrayF32(size,size);
@@ -93,6 +95,41 @@ public class BenchmarkColorConvert {
 		ColorHsv.rgbToHsv(src_F32,dst_F32);
 	}
 
+	@Benchmark
+	public void RGB_to_HSV_U8() {
+		ColorHsv.rgbToHsv_U8(src_U8,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_HSV_Down2_U8() {
+		ColorHsv.rgbToHsvDown2(src_U8,down_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_HSV_Hue_U8() {
+		ColorHsv.rgbToHsvBand(src_U8,0,gdst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_LAB_F32() {
+		ColorLab.rgbToLab(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_LAB_U8() {
+		ColorLab.rgbToLab(src_U8,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_LAB_Down2_U8() {
+		ColorLab.rgbToLabDown2(src_U8,down_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_LAB_L_U8() {
+		ColorLab.rgbToLabBand(src_U8,0,gdst_F32);
+	}
+
 	@Benchmark
 	public void HSV_to_RGB_F32() {
 		ColorHsv.hsvToRgb(src_F32,dst_F32);
@@ -108,6 +145,11 @@ public class BenchmarkColorConvert {
 		ColorYuv.yuvToRgb(src_F32,dst_F32);
 	}
 
+	@Benchmark
+	public void RGB_to_YUV_U8() {
+		ColorYuv.rgbToYuv(src_U8,dst_U8);
+	}
+
 	@Benchmark
 	public void YUV_to_RGB_U8() {
 		ColorYuv.yuvToRgb(src_U8,dst_U8);
@@ -26,6 +26,7 @@ import boofcv.struct.border.BorderType;
 import boofcv.struct.distort.PixelTransform;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
 import georegression.struct.homography.Homography2D_F32;
 import georegression.struct.point.Point2D_F32;
 import org.openjdk.jmh.annotations.*;
@@ -52,10 +53,14 @@ public class BenchmarkImageDistort {
 
 	GrayF32 inputF32 = new GrayF32(size, size);
 	GrayF32 outputF32 = new GrayF32(size, size);
+	InterleavedU8 inputIU8 = new InterleavedU8(size, size, 3);
+	InterleavedU8 outputIU8 = new InterleavedU8(size, size, 3);
 
 	ImageDistort<GrayF32,GrayF32> nearest_sb;
 	ImageDistort<GrayF32,GrayF32> bilinear_sb;
 	ImageDistort<GrayF32,GrayF32> bilinear_cache_sb;
+	ImageDistort<InterleavedU8,InterleavedU8> bilinear_il;
+	ImageDistort<InterleavedU8,InterleavedU8> bilinear_cache_il;
 
 
 	@Setup
@@ -65,8 +70,11 @@ public class BenchmarkImageDistort {
 
 		inputF32.reshape(size,size);
 		outputF32.reshape(size,size);
+		inputIU8.reshape(size,size);
+		outputIU8.reshape(size,size);
 
 		GImageMiscOps.fillUniform(inputF32,rand,0,200);
+		GImageMiscOps.fillUniform(inputIU8,rand,0,200);
 
 		Homography2D_F32 affine = new Homography2D_F32(
 				0.9f,0.1f,0.0f,
@@ -81,10 +89,16 @@ public class BenchmarkImageDistort {
 				ImageType.single(GrayF32.class),ImageType.single(GrayF32.class));
 		bilinear_cache_sb = FactoryDistort.distort(true, InterpolationType.BILINEAR, BorderType.EXTENDED,
 				ImageType.single(GrayF32.class),ImageType.single(GrayF32.class));
+		bilinear_il = FactoryDistort.distort(false, InterpolationType.BILINEAR, BorderType.EXTENDED,
+				ImageType.il(3,InterleavedU8.class),ImageType.il(3,InterleavedU8.class));
+		bilinear_cache_il = FactoryDistort.distort(true, InterpolationType.BILINEAR, BorderType.EXTENDED,
+				ImageType.il(3,InterleavedU8.class),ImageType.il(3,InterleavedU8.class));
 
 		nearest_sb.setModel(tran);
 		bilinear_sb.setModel(tran);
 		bilinear_cache_sb.setModel(tran);
+		bilinear_il.setModel(tran);
+		bilinear_cache_il.setModel(tran);
 	}
 
 	@Benchmark
@@ -101,4 +115,14 @@ public class BenchmarkImageDistort {
 	public void bilinear_cache_F32() {
 		bilinear_cache_sb.apply(inputF32, outputF32,0,0,size,size);
 	}
+
+	@Benchmark
+	public void bilinear_IL_U8() {
+		bilinear_il.apply(inputIU8, outputIU8,0,0,size,size);
+	}
+
+	@Benchmark
+	public void bilinear_cache_IL_U8() {
+		bilinear_cache_il.apply(inputIU8, outputIU8,0,0,size,size);
+	}
 }
@@ -73,6 +73,11 @@ public class BenchmarkEnhanceImageOps {
 		EnhanceImageOps.equalizeLocal(inputU8,10,outputU8,255,workArrays);
 	}
 
+	@Benchmark
+	public void equalizeLocalClahe_U8() {
+		EnhanceImageOps.equalizeLocalClahe(inputU8,10,4.0,outputU8,256,workArrays);
+	}
+
 	@Benchmark
 	public void applyTransform_U8() {
 		workArrays.reset(256);
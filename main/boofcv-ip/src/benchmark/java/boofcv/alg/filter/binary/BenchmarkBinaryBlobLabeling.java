@@ -64,6 +64,51 @@ public class BenchmarkBinaryBlobLabeling {
 		}
 	}
 
+	public static class NewAlg8_MT extends PerformerBase {
+
+		LinearContourLabelChang2004 alg = new LinearContourLabelChang2004_MT(ConnectRule.EIGHT);
+
+		@Override
+		public void process() {
+			alg.process(input,output);
+		}
+	}
+
+	public static class NewAlg4_MT extends PerformerBase {
+
+		LinearContourLabelChang2004 alg = new LinearContourLabelChang2004_MT(ConnectRule.FOUR);
+
+		@Override
+		public void process() {
+			alg.process(input,output);
+		}
+	}
+
+	public static class External8 extends PerformerBase {
+
+		LinearExternalContours alg = new LinearExternalContours(ConnectRule.EIGHT);
+		GrayU8 work = new GrayU8(1,1);
+
+		@Override
+		public void process() {
+			// the input image is modified
+			work.setTo(input);
+			alg.process(work,0,0);
+		}
+	}
+
+	public static class External8_MT extends PerformerBase {
+
+		LinearExternalContours alg = new LinearExternalContours_MT(ConnectRule.EIGHT);
+		GrayU8 work = new GrayU8(1,1);
+
+		@Override
+		public void process() {
+			work.setTo(input);
+			alg.process(work,0,0);
+		}
+	}
+
 	public static void main(String args[]) {
 		System.out.println("=========  Profile Image Size "+ imgWidth +" x "+ imgHeight  +" ==========");
 
@@ -81,6 +126,10 @@ public class BenchmarkBinaryBlobLabeling {
 
 		ProfileOperation.printOpsPerSec(new NewAlg8(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new NewAlg4(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new NewAlg8_MT(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new NewAlg4_MT(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new External8(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new External8_MT(), TEST_TIME);
 
 	}
 }
@@ -20,7 +20,9 @@ package boofcv.alg.filter.binary;
 
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.LWorkArrays;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
@@ -49,6 +51,11 @@ public class BenchmarkBinaryOps  {
 	private GrayU8 inputB = new GrayU8(size, size);
 	private GrayU8 output = new GrayU8(size, size);
 
+	private PackedBinaryImage packedA = new PackedBinaryImage(size, size);
+	private PackedBinaryImage packedB = new PackedBinaryImage(size, size);
+	private PackedBinaryImage packedOut = new PackedBinaryImage(size, size);
+	private LWorkArrays work = new LWorkArrays();
+
 	@Setup
 	public void setup() {
 		BoofConcurrency.USE_CONCURRENT = concurrent;
@@ -60,6 +67,9 @@ public class BenchmarkBinaryOps  {
 
 		ImageMiscOps.fillUniform(inputA, rand, 0, 1);
 		ImageMiscOps.fillUniform(inputB, rand, 0, 1);
+
+		PackedBinaryImageOps.convert(inputA, packedA);
+		PackedBinaryImageOps.convert(inputB, packedB);
 	}
 
 	@Benchmark
@@ -122,4 +132,44 @@ public class BenchmarkBinaryOps  {
 		BinaryImageOps.thin(inputA,5,output);
 	}
 
+	@Benchmark
+	public void erode8_times5() {
+		BinaryImageOps.erode8(inputA,5,output);
+	}
+
+	@Benchmark
+	public void packedErode8() {
+		PackedBinaryImageOps.erode(packedA,3,3,packedOut,work);
+	}
+
+	@Benchmark
+	public void packedErode8_times5() {
+		PackedBinaryImageOps.erode(packedA,11,11,packedOut,work);
+	}
+
+	@Benchmark
+	public void packedDilate8() {
+		PackedBinaryImageOps.dilate(packedA,3,3,packedOut,work);
+	}
+
+	@Benchmark
+	public void packedRemovePointNoise() {
+		PackedBinaryImageOps.removePointNoise(packedA,packedOut);
+	}
+
+	@Benchmark
+	public void packedLogicAnd() {
+		PackedBinaryImageOps.logicAnd(packedA,packedB,packedOut);
+	}
+
+	@Benchmark
+	public void packedInvert() {
+		PackedBinaryImageOps.invert(packedA,packedOut);
+	}
+
+	@Benchmark
+	public void packedConvert() {
+		PackedBinaryImageOps.convert(inputA,packedOut);
+	}
+
 }
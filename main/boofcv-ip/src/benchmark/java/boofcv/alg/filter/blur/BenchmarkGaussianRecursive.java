@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Gaussian blur computed using convolution against the recursive filter
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkGaussianRecursive {
+
+	public static final int width = 1920;
+	public static final int height = 1080;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"2", "5", "10", "20", "30"})
+	public double sigma;
+
+	GrayU8 input_U8 = new GrayU8(width, height);
+	GrayU8 output_U8 = new GrayU8(width, height);
+	GrayU8 storage_U8 = new GrayU8(width, height);
+	GrayF32 input_F32 = new GrayF32(width, height);
+	GrayF32 output_F32 = new GrayF32(width, height);
+	GrayF32 storage_F32 = new GrayF32(width, height);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		ImageMiscOps.fillUniform(input_U8,rand,0,200);
+		ImageMiscOps.fillUniform(input_F32,rand,0,200);
+	}
+
+	@Benchmark
+	public void convolve_U8() {
+		BlurImageOps.gaussian(input_U8,output_U8,sigma,-1,storage_U8);
+	}
+
+	@Benchmark
+	public void recursive_U8() {
+		BlurImageOps.gaussianRecursive(input_U8,output_U8,sigma,storage_F32);
+	}
+
+	@Benchmark
+	public void convolve_F32() {
+		BlurImageOps.gaussian(input_F32,output_F32,sigma,-1,storage_F32);
+	}
+
+	@Benchmark
+	public void recursive_F32() {
+		BlurImageOps.gaussianRecursive(input_F32,output_F32,sigma);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkGaussianRecursive.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
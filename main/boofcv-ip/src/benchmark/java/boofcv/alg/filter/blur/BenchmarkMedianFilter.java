@@ -18,83 +18,123 @@
 
 package boofcv.alg.filter.blur;
 
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
-import boofcv.alg.filter.blur.impl.ImplMedianHistogramInnerNaive;
+import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IWorkArrays;
 import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS16;
-import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU16;
 import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Benchmark for different convolution operations.
+ * Benchmark for different median filter implementations.
+ *
  * @author Peter Abeles
  */
-public class BenchmarkMedianFilter  {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
-
-	static GrayF32 imgFloat32 = new GrayF32(imgWidth,imgHeight);
-	static GrayF32 out_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayU8 imgInt8 = new GrayU8(imgWidth,imgHeight);
-	static GrayS16 imgInt16 = new GrayS16(imgWidth,imgHeight);
-	static GrayU8 out_I8 = new GrayU8(imgWidth,imgHeight);
-	static GrayS16 out_I16 = new GrayS16(imgWidth,imgHeight);
-	static GrayS32 out_I32 = new GrayS32(imgWidth,imgHeight);
-
-	// iterate through different sized kernel radius
-	private int radius;
-
-	public BenchmarkMedianFilter() {
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkMedianFilter {
+
+	public static final int width = 640;
+	public static final int height = 480;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"1", "5", "15", "31"})
+	public int radius;
+
+	GrayU8 input_U8 = new GrayU8(width, height);
+	GrayU8 output_U8 = new GrayU8(width, height);
+	GrayU16 input_U16 = new GrayU16(width, height);
+	GrayU16 output_U16 = new GrayU16(width, height);
+	// values span the entire range of a 16-bit image
+	GrayU16 inputFull_U16 = new GrayU16(width, height);
+	GrayF32 input_F32 = new GrayF32(width, height);
+	GrayF32 output_F32 = new GrayF32(width, height);
+	IWorkArrays work = new IWorkArrays();
+	int[] offset;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
 		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(imgInt8,rand, 0, 100);
-		ImageMiscOps.fillUniform(imgFloat32,rand,0,200);
+
+		ImageMiscOps.fillUniform(input_U8,rand,0,200);
+		ImageMiscOps.fillUniform(input_U16,rand,0,4000);
+		ImageMiscOps.fillUniform(inputFull_U16,rand,0,65536);
+		ImageMiscOps.fillUniform(input_F32,rand,0,200);
+
+		int w = radius*2+1;
+		offset = new int[w*w];
+	}
+
+	@Benchmark
+	public void BlurImageOps_U8() {
+		BlurImageOps.median(input_U8,output_U8,radius,work);
+	}
+
+	@Benchmark
+	public void BlurImageOps_U16() {
+		BlurImageOps.median(input_U16,output_U16,radius,work);
+	}
+
+	@Benchmark
+	public void BlurImageOps_U16_FullRange() {
+		BlurImageOps.median(inputFull_U16,output_U16,radius,work);
 	}
 
-	public int timeBlurImageOps_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BlurImageOps.median(imgInt8, out_I8, radius, null);
-		return 0;
+	@Benchmark
+	public void BlurImageOps_F32() {
+		BlurImageOps.median(input_F32,output_F32,radius);
 	}
 
-	public int timeBlurImageOps_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BlurImageOps.median(imgFloat32,out_F32,radius);
-		return 0;
+	@Benchmark
+	public void HistogramInnerSortEdge_U8() {
+		ImplMedianHistogramInner.process(input_U8,output_U8,radius,work);
+		ImplMedianSortEdgeNaive.process(input_U8,output_U8,radius,offset);
 	}
 
-	public int timeHistogramNaive_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianHistogramInnerNaive.process(imgInt8, out_I8, radius, null, null);
-		return 0;
+	@Benchmark
+	public void ConstantTime_U8() {
+		ImplMedianConstantTime.process(input_U8,output_U8,radius,work);
 	}
 
-	public int timeHistogram_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianHistogramInner.process(imgInt8,out_I8,radius,null);
-		return 0;
+	@Benchmark
+	public void ConstantTime_U16() {
+		ImplMedianConstantTime.process(input_U16,output_U16,radius,work);
 	}
 
-	public int timeSortNaive_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianSortNaive.process(imgInt8,out_I8,radius,null);
-		return 0;
+	@Benchmark
+	public void ConstantTime_U16_FullRange() {
+		ImplMedianConstantTime.process(inputFull_U16,output_U16,radius,work);
 	}
 
-	public int timeSortNaive_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianSortNaive.process(imgFloat32,out_F32,radius,null);
-		return 0;
+	@Benchmark
+	public void SortNaive_U16_FullRange() {
+		ImplMedianSortNaive.process(inputFull_U16,output_U16,radius,null);
 	}
 
-	public static void main( String args[] ) {
-		System.out.println("=========  Profile Image Size "+imgWidth+" x "+imgHeight+" ==========");
-		System.out.println();
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkMedianFilter.class.getSimpleName())
+				.build();
 
-//		Runner.main(BenchmarkMedianFilter.class, args);
+		new Runner(opt).run();
 	}
 }
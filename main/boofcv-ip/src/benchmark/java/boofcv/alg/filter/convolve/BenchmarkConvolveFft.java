@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares 2D convolution in the spatial domain against the FFT
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkConvolveFft {
+
+	public static final int width = 1920;
+	public static final int height = 1080;
+
+	@Param({"3", "5", "7", "10", "20", "32"})
+	public int radius;
+
+	Kernel2D_F32 kernel;
+	GrayF32 input = new GrayF32(width, height);
+	GrayF32 output = new GrayF32(width, height);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		ImageMiscOps.fillUniform(input,rand,0,200);
+		kernel = FactoryKernel.random2D_F32(radius*2+1,radius,-1,1,rand);
+	}
+
+	@Benchmark
+	public void spatial() {
+		ConvolveImageStandard_SB.convolve(kernel,input,output);
+	}
+
+	@Benchmark
+	public void fft() {
+		ConvolveImageFft.convolve(kernel,input,output);
+	}
+
+	@Benchmark
+	public void fft_MT() {
+		ConvolveImageFft_MT.convolve(kernel,input,output);
+	}
+
+	@Benchmark
+	public void normalized() {
+		ConvolveImageNormalized.convolve(kernel,input,output);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkConvolveFft.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
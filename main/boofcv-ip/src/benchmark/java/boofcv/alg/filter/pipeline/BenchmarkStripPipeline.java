@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.derivative.DerivativeType;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a Gaussian blur followed by the image gradient computed one full image at a time against the same
+ * operations in a {@link StripPipeline}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkStripPipeline {
+
+	public static final int radius = 3;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"500", "1000", "5000"})
+	public int size;
+
+	GrayU8 input = new GrayU8(size, size);
+	GrayF32 inputF = new GrayF32(size, size);
+	GrayF32 blurred = new GrayF32(size, size);
+	GrayF32 storage = new GrayF32(size, size);
+	GrayF32 derivX = new GrayF32(size, size);
+	GrayF32 derivY = new GrayF32(size, size);
+	ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+
+	StripPipeline<GrayU8> pipeline = new StripPipeline<>(ImageType.single(GrayU8.class));
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		input.reshape(size, size);
+		inputF.reshape(size, size);
+		blurred.reshape(size, size);
+		storage.reshape(size, size);
+		derivX.reshape(size, size);
+		derivY.reshape(size, size);
+
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		pipeline.add(RowConvolve.gaussian(-1,radius)).add(new RowGradient(DerivativeType.SOBEL));
+	}
+
+	@Benchmark
+	public void fullImages() {
+		ConvertImage.convert(input,inputF);
+		BlurImageOps.gaussian(inputF,blurred,-1,radius,storage);
+		GradientSobel.process(blurred,derivX,derivY,border);
+	}
+
+	@Benchmark
+	public void pipeline() {
+		pipeline.process(input,derivX,derivY);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkStripPipeline.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
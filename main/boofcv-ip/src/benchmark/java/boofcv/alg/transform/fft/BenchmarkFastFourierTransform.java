@@ -52,6 +52,44 @@ public class BenchmarkFastFourierTransform {
 		}
 	}
 
+	public static class RealFull extends PerformerBase {
+		GeneralPurposeFFT_F32_2D alg = new GeneralPurposeFFT_F32_2D(height,width);
+
+		@Override
+		public void process() {
+			System.arraycopy(input.data,0,fourier.data,0,width*height);
+			alg.realForwardFull(fourier.data);
+		}
+	}
+
+	public static class RealHalf extends PerformerBase {
+		GeneralPurposeFFT_F32_2D alg = new GeneralPurposeFFT_F32_2D(height,width);
+
+		@Override
+		public void process() {
+			alg.realForwardHalf(input.data,fourier.data);
+		}
+	}
+
+	public static class RealFull_MT extends PerformerBase {
+		GeneralPurposeFFT_F32_2D_MT alg = new GeneralPurposeFFT_F32_2D_MT(height,width);
+
+		@Override
+		public void process() {
+			System.arraycopy(input.data,0,fourier.data,0,width*height);
+			alg.realForwardFull(fourier.data);
+		}
+	}
+
+	public static class RealHalf_MT extends PerformerBase {
+		GeneralPurposeFFT_F32_2D_MT alg = new GeneralPurposeFFT_F32_2D_MT(height,width);
+
+		@Override
+		public void process() {
+			alg.realForwardHalf(input.data,fourier.data);
+		}
+	}
+
 	public static void main( String args[] ) {
 
 		Random rand = new Random(234);
@@ -61,5 +99,9 @@ public class BenchmarkFastFourierTransform {
 		System.out.println();
 
 		ProfileOperation.printOpsPerSec(new ComputeFFT(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RealFull(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RealHalf(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RealFull_MT(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RealHalf_MT(), TEST_TIME);
 	}
 }
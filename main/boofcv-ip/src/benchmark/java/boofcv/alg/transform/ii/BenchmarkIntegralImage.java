@@ -19,9 +19,12 @@
 package boofcv.alg.transform.ii;
 
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
 
 import java.util.Random;
 
@@ -39,6 +42,7 @@ public class BenchmarkIntegralImage {
 	static GrayF32 integral = new GrayF32(width,height);
 
 	static GrayF32 output = new GrayF32(width,height);
+	static GrayF64 integralSq = new GrayF64(width,height);
 
 
 	public static class ComputeIntegral extends PerformerBase {
@@ -48,6 +52,27 @@ public class BenchmarkIntegralImage {
 		}
 	}
 
+	public static class ComputeIntegral_MT extends PerformerBase {
+		@Override
+		public void process() {
+			ImplIntegralImageOps_MT.transform(input,integral);
+		}
+	}
+
+	public static class ComputeIntegralSumSq extends PerformerBase {
+		@Override
+		public void process() {
+			ImplIntegralImageOps.transformSumSq(input,integral,integralSq);
+		}
+	}
+
+	public static class ComputeIntegralSumSq_MT extends PerformerBase {
+		@Override
+		public void process() {
+			ImplIntegralImageOps_MT.transformSumSq(input,integral,integralSq);
+		}
+	}
+
 	public static class DerivXX extends PerformerBase {
 
 		IntegralKernel kernel = DerivativeIntegralImage.kernelDerivXX(9,null);
@@ -79,6 +104,9 @@ public class BenchmarkIntegralImage {
 		System.out.println();
 
 		ProfileOperation.printOpsPerSec(new ComputeIntegral(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new ComputeIntegral_MT(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new ComputeIntegralSumSq(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new ComputeIntegralSumSq_MT(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new DerivXX(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new GenericDerivXX(), TEST_TIME);
 	}
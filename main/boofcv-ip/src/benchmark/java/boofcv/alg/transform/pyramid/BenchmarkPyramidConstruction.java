@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.pyramid.PyramidDiscrete;
+import boofcv.struct.pyramid.PyramidFloat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for constructing image pyramids and their derivatives each frame, with and without concurrency
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkPyramidConstruction {
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"1000"})
+	public int size;
+
+	int[] scalesD = new int[]{1,2,4,8};
+	double[] scalesF = new double[]{1,2,4,8};
+
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayU8 input_U8 = new GrayU8(1,1);
+
+	PyramidDiscrete<GrayF32> discrete_F32;
+	PyramidDiscrete<GrayU8> discrete_U8;
+	PyramidFloat<GrayF32> float_F32;
+
+	ImageGradient<GrayF32,GrayF32> gradient;
+	GrayF32[] derivX, derivY;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		input_F32.reshape(size,size);
+		input_U8.reshape(size,size);
+		GImageMiscOps.fillUniform(input_F32,rand,0,200);
+		GImageMiscOps.fillUniform(input_U8,rand,0,200);
+
+		discrete_F32 = FactoryPyramid.discreteGaussian(scalesD,-1,2,true, ImageType.single(GrayF32.class));
+		discrete_U8 = FactoryPyramid.discreteGaussian(scalesD,-1,2,true, ImageType.single(GrayU8.class));
+		float_F32 = FactoryPyramid.scaleSpacePyramid(scalesF, GrayF32.class);
+		gradient = FactoryDerivative.three(GrayF32.class,GrayF32.class);
+	}
+
+	@Benchmark
+	public void discrete_F32() {
+		discrete_F32.process(input_F32);
+	}
+
+	@Benchmark
+	public void discrete_U8() {
+		discrete_U8.process(input_U8);
+	}
+
+	@Benchmark
+	public void float_F32() {
+		float_F32.process(input_F32);
+	}
+
+	/**
+	 * Pyramid and its gradient as computed by a tracker each frame
+	 */
+	@Benchmark
+	public void discreteGradient_F32() {
+		discrete_F32.process(input_F32);
+		derivX = PyramidOps.declareOutput(discrete_F32,GrayF32.class,derivX);
+		derivY = PyramidOps.declareOutput(discrete_F32,GrayF32.class,derivY);
+		PyramidOps.gradient(discrete_F32,gradient,derivX,derivY);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkPyramidConstruction.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.abst.denoise.FactoryImageDenoise;
+import boofcv.abst.denoise.WaveletDenoiseFilter;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the wavelet transform and wavelet based denoising with and without concurrency
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkWaveletOps {
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"1000"})
+	public int size;
+
+	public static final int numLevels = 3;
+
+	WaveletDescription<WlCoef_F32> desc_F32 = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
+	WaveletDescription<WlCoef_I32> desc_I32 = FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
+
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayF32 copy_F32 = new GrayF32(1,1);
+	GrayF32 tran_F32 = new GrayF32(1,1);
+	GrayF32 storage_F32 = new GrayF32(1,1);
+	GrayF32 output_F32 = new GrayF32(1,1);
+	GrayS32 input_S32 = new GrayS32(1,1);
+	GrayS32 tran_S32 = new GrayS32(1,1);
+	GrayS32 storage_S32 = new GrayS32(1,1);
+	GrayS32 output_S32 = new GrayS32(1,1);
+
+	WaveletDenoiseFilter<GrayF32> visu;
+	WaveletDenoiseFilter<GrayF32> bayes;
+	WaveletDenoiseFilter<GrayF32> sure;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		input_F32.reshape(size,size);
+		output_F32.reshape(size,size);
+		copy_F32.reshape(size,size);
+		input_S32.reshape(size,size);
+		output_S32.reshape(size,size);
+
+		ImageDimension dim = UtilWavelet.transformDimension(input_F32,numLevels);
+		tran_F32.reshape(dim.width,dim.height);
+		storage_F32.reshape(dim.width,dim.height);
+		tran_S32.reshape(size,size);
+		storage_S32.reshape(size,size);
+
+		GImageMiscOps.fillUniform(input_F32,rand,0,200);
+		GImageMiscOps.fillUniform(input_S32,rand,0,200);
+
+		// the factories select the concurrent implementations so these must be created after the flag is set
+		visu = FactoryImageDenoise.waveletVisu(GrayF32.class,numLevels,0,255);
+		bayes = FactoryImageDenoise.waveletBayes(GrayF32.class,numLevels,0,255);
+		sure = FactoryImageDenoise.waveletSure(GrayF32.class,numLevels,0,255);
+
+		// compute the transform which the inverse benchmark uses as its input
+		WaveletTransformOps.transform1(desc_I32,input_S32,tran_S32,storage_S32);
+	}
+
+	@Benchmark
+	public void transform1_F32() {
+		WaveletTransformOps.transform1(desc_F32,input_F32,output_F32,storage_F32);
+	}
+
+	@Benchmark
+	public void transform1_S32() {
+		WaveletTransformOps.transform1(desc_I32,input_S32,output_S32,storage_S32);
+	}
+
+	@Benchmark
+	public void transformN_F32() {
+		// the input image is modified, so work off of a copy
+		copy_F32.setTo(input_F32);
+		WaveletTransformOps.transformN(desc_F32,copy_F32,tran_F32,storage_F32,numLevels);
+	}
+
+	@Benchmark
+	public void inverse1_S32() {
+		WaveletTransformOps.inverse1(desc_I32,tran_S32,output_S32,storage_S32,Integer.MIN_VALUE,Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public void denoiseVisu_F32() {
+		visu.process(input_F32,output_F32);
+	}
+
+	@Benchmark
+	public void denoiseBayes_F32() {
+		bayes.process(input_F32,output_F32);
+	}
+
+	@Benchmark
+	public void denoiseSure_F32() {
+		sure.process(input_F32,output_F32);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkWaveletOps.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.override;
+
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar code against the functions in {@link VectorOps}. Needs to be run on Java 17 or newer with
+ * "--add-modules jdk.incubator.vector" for the vectorized code to be used.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2, jvmArgsAppend = {"--add-modules","jdk.incubator.vector"})
+public class BenchmarkVectorOps {
+
+	@Param({"true","false"})
+	public boolean vector;
+
+	@Param({"1000", "4000"})
+	public int size;
+
+	GrayU8 inputU8 = new GrayU8(size, size);
+	GrayF32 inputF32 = new GrayF32(size, size);
+	GrayF32 outputF32 = new GrayF32(size, size);
+	GrayS16 outputS16 = new GrayS16(size, size);
+
+	Kernel1D_F32 kernelF32 = FactoryKernel.random1D_F32(7,3,-1,1,new Random(2));
+	Kernel1D_S32 kernelI32 = FactoryKernel.random1D_I32(7,3,-10,10,new Random(2));
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = false;
+		VectorOps.USE_VECTOR = vector;
+		Random rand = new Random(234);
+
+		inputU8.reshape(size, size);
+		inputF32.reshape(size, size);
+		outputF32.reshape(size, size);
+		outputS16.reshape(size, size);
+
+		ImageMiscOps.fillUniform(inputU8,rand,0,200);
+		ImageMiscOps.fillUniform(inputF32,rand,0,200);
+	}
+
+	@Benchmark
+	public void horizontal_F32() {
+		ConvolveImageNoBorder.horizontal(kernelF32,inputF32,outputF32);
+	}
+
+	@Benchmark
+	public void vertical_F32() {
+		ConvolveImageNoBorder.vertical(kernelF32,inputF32,outputF32);
+	}
+
+	@Benchmark
+	public void horizontal_U8_I16() {
+		ConvolveImageNoBorder.horizontal(kernelI32,inputU8,outputS16);
+	}
+
+	@Benchmark
+	public void vertical_U8_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32,inputU8,outputS16);
+	}
+
+	@Benchmark
+	public void multiply_F32() {
+		PixelMath.multiply(inputF32,2.5f,outputF32);
+	}
+
+	@Benchmark
+	public void add_F32() {
+		PixelMath.add(inputF32,inputF32,outputF32);
+	}
+
+	@Benchmark
+	public void convert_U8_F32() {
+		ConvertImage.convert(inputU8,outputF32);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkVectorOps.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -38,6 +38,8 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 		applyTransform_S(AutoTypeImage.S16);
 		applyTransform_S(AutoTypeImage.S32);
 
+		clipHistogram();
+
 		printInner(AutoTypeImage.U8);
 		printInner(AutoTypeImage.U16);
 
@@ -51,6 +53,8 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 		equalizeLocalRow(image);
 		equalizeLocalCol(image);
 		localHistogram(image);
+		equalizeLocalClaheTiles(image);
+		equalizeLocalClaheApply(image);
 	}
 
 	private void printPreamble() {
@@ -452,6 +456,145 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void clipHistogram() {
+		out.print("\t/**\n" +
+				"\t * Clips the histogram so that no bin is larger than the limit then spreads the clipped counts evenly\n" +
+				"\t * across all the bins. The sum of the histogram is not changed.\n" +
+				"\t */\n" +
+				"\tpublic static void clipHistogram( int histogram[] , int limit ) {\n" +
+				"\t\tint excess = 0;\n" +
+				"\t\tfor( int i = 0; i < histogram.length; i++ ) {\n" +
+				"\t\t\tif( histogram[i] > limit ) {\n" +
+				"\t\t\t\texcess += histogram[i] - limit;\n" +
+				"\t\t\t\thistogram[i] = limit;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tint increment = excess/histogram.length;\n" +
+				"\t\tint remainder = excess - increment*histogram.length;\n" +
+				"\t\tfor( int i = 0; i < histogram.length; i++ ) {\n" +
+				"\t\t\thistogram[i] += increment;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t// what's left over is spread out across the histogram one at a time\n" +
+				"\t\tif( remainder > 0 ) {\n" +
+				"\t\t\tint step = Math.max(1,histogram.length/remainder);\n" +
+				"\t\t\tfor( int i = 0; i < histogram.length && remainder > 0; i += step, remainder-- ) {\n" +
+				"\t\t\t\thistogram[i]++;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void equalizeLocalClaheTiles( AutoTypeImage image ) {
+		String name = image.getSingleBandName();
+
+		out.print("\t/**\n" +
+				"\t * Computes the equalization transform for each tile in contrast limited adaptive histogram equalization.\n" +
+				"\t * Tiles are processed in row-major order.\n" +
+				"\t *\n" +
+				"\t * @param tilesX Number of tiles along the x-axis\n" +
+				"\t * @param tilesY Number of tiles along the y-axis\n" +
+				"\t * @param clipLimit Histogram bins are clipped to this value. If &le; 0 the histogram isn't clipped.\n" +
+				"\t * @param transforms (Output) Transformation table for each tile\n" +
+				"\t */\n" +
+				"\tpublic static void equalizeLocalClaheTiles( "+name+" input , int tilesX , int tilesY , int clipLimit ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t\tint transforms[][] , IWorkArrays workArrays )\n" +
+				"\t{\n" +
+				"\t\tint maxValue = workArrays.length()-1;\n" +
+				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0,tilesX*tilesY,(idx0,idx1)->{\n" +
+				"\t\tint idx0 = 0, idx1 = tilesX*tilesY;\n" +
+				"\t\tint[] histogram = workArrays.pop();\n" +
+				"\t\tfor( int tile = idx0; tile < idx1; tile++ ) {\n" +
+				"\t\t\tint tileX = tile%tilesX;\n" +
+				"\t\t\tint tileY = tile/tilesX;\n" +
+				"\t\t\tint x0 = tileX*input.width/tilesX;\n" +
+				"\t\t\tint x1 = (tileX+1)*input.width/tilesX;\n" +
+				"\t\t\tint y0 = tileY*input.height/tilesY;\n" +
+				"\t\t\tint y1 = (tileY+1)*input.height/tilesY;\n" +
+				"\n" +
+				"\t\t\tlocalHistogram(input,x0,y0,x1,y1,histogram);\n" +
+				"\t\t\tif( clipLimit > 0 )\n" +
+				"\t\t\t\tclipHistogram(histogram,clipLimit);\n" +
+				"\n" +
+				"\t\t\t// compute transformation table\n" +
+				"\t\t\tint[] transform = transforms[tile];\n" +
+				"\t\t\tint sum = 0;\n" +
+				"\t\t\tfor( int i = 0; i < histogram.length; i++ ) {\n" +
+				"\t\t\t\ttransform[i] = sum += histogram[i];\n" +
+				"\t\t\t}\n" +
+				"\t\t\tfor( int i = 0; i < histogram.length; i++ ) {\n" +
+				"\t\t\t\ttransform[i] = (int)(((long)transform[i]*maxValue)/sum);\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\tworkArrays.recycle(histogram);\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
+				"\t}\n\n");
+	}
+
+	private void equalizeLocalClaheApply( AutoTypeImage image ) {
+		String name = image.getSingleBandName();
+		String typecast = image.getTypeCastFromSum();
+		String bitwise = image.getBitWise();
+
+		out.print("\t/**\n" +
+				"\t * Applies contrast limited adaptive histogram equalization to the image. Each tile's transform is\n" +
+				"\t * assigned to its center and pixels are transformed by bilinear interpolation between the four closest tiles.\n" +
+				"\t *\n" +
+				"\t * @param tilesX Number of tiles along the x-axis\n" +
+				"\t * @param tilesY Number of tiles along the y-axis\n" +
+				"\t * @param transforms Transformation table for each tile, computed by equalizeLocalClaheTiles()\n" +
+				"\t */\n" +
+				"\tpublic static void equalizeLocalClaheApply( "+name+" input , int tilesX , int tilesY , int transforms[][] ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t\t"+name+" output )\n" +
+				"\t{\n" +
+				"\t\tfloat scaleX = tilesX/(float)input.width;\n" +
+				"\t\tfloat scaleY = tilesY/(float)input.height;\n" +
+				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,input.height,y->{\n" +
+				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\t// tiles whose centers are above and below the pixel. Same tile along the image border\n" +
+				"\t\t\tfloat ty = Math.max(0,(y+0.5f)*scaleY-0.5f);\n" +
+				"\t\t\tint ty0 = Math.min((int)ty,tilesY-1);\n" +
+				"\t\t\tint ty1 = Math.min(ty0+1,tilesY-1);\n" +
+				"\t\t\tfloat wy = ty-ty0;\n" +
+				"\t\t\tint rowTop = ty0*tilesX;\n" +
+				"\t\t\tint rowBottom = ty1*tilesX;\n" +
+				"\n" +
+				"\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
+				"\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\n" +
+				"\t\t\t// go through the pixels in between the centers of the tiles to the left and right\n" +
+				"\t\t\tint x = 0;\n" +
+				"\t\t\tfor( int tile = -1; tile < tilesX; tile++ ) {\n" +
+				"\t\t\t\tint tx0 = Math.max(tile,0);\n" +
+				"\t\t\t\tint tx1 = Math.min(tile+1,tilesX-1);\n" +
+				"\t\t\t\tint[] topLeft = transforms[rowTop+tx0];\n" +
+				"\t\t\t\tint[] topRight = transforms[rowTop+tx1];\n" +
+				"\t\t\t\tint[] bottomLeft = transforms[rowBottom+tx0];\n" +
+				"\t\t\t\tint[] bottomRight = transforms[rowBottom+tx1];\n" +
+				"\t\t\t\tfloat end = tile+1 < tilesX ? tile+1 : Float.MAX_VALUE;\n" +
+				"\n" +
+				"\t\t\t\tfor( ; x < input.width; x++ ) {\n" +
+				"\t\t\t\t\tfloat tx = (x+0.5f)*scaleX-0.5f;\n" +
+				"\t\t\t\t\tif( tx >= end )\n" +
+				"\t\t\t\t\t\tbreak;\n" +
+				"\t\t\t\t\t// the left and right tiles are the same along the image border so the weight doesn't matter\n" +
+				"\t\t\t\t\tfloat wx = tx-tx0;\n" +
+				"\n" +
+				"\t\t\t\t\tint value = input.data[indexIn++] "+bitwise+";\n" +
+				"\t\t\t\t\tfloat top = topLeft[value] + wx*(topRight[value]-topLeft[value]);\n" +
+				"\t\t\t\t\tfloat bottom = bottomLeft[value] + wx*(bottomRight[value]-bottomLeft[value]);\n" +
+				"\n" +
+				"\t\t\t\t\toutput.data[indexOut++] = "+typecast+"(top + wy*(bottom-top) + 0.5f);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplEnhanceHistogram app = new GenerateImplEnhanceHistogram();
 		app.generate();
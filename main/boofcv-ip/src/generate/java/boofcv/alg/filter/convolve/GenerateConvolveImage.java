@@ -142,13 +142,31 @@ public class GenerateConvolveImage extends CodeGeneratorBase {
 				"\n" +
 				"\t\tboolean processed = BOverrideConvolveImage.invokeNative"+nativeName+"(kernel,input,output,border);\n" +
 				"\n" +
-				"\t\tif( !processed ) {\n" +
+				"\t\tif( !processed ) {\n");
+		if( isFft(name,singleBand) ) {
+			out.print(
+				"\t\t\tif( ConvolveImageFft.isFftFaster(kernel.width,input.width,input.height) ) {\n" +
+				"\t\t\t\tConvolveImageFft."+name+"(kernel,input,output,border);\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\tborder.setImage(input);\n" +
+				"\t\t\t\tConvolveImageNoBorder."+name+"(kernel,input,output);\n" +
+				"\t\t\t\tConvolveJustBorder_General_"+suffice+"."+name+"(kernel, border,output);\n" +
+				"\t\t\t}\n");
+		} else {
+			out.print(
 				"\t\t\tborder.setImage(input);\n" +
 				"\t\t\tConvolveImageNoBorder."+name+"(kernel,input,output);\n" +
-				"\t\t\tConvolveJustBorder_General_"+suffice+"."+name+"(kernel, border,output);\n" +
-				"\t\t}\n" +
-				"\t}\n\n"
-		);
+				"\t\t\tConvolveJustBorder_General_"+suffice+"."+name+"(kernel, border,output);\n");
+		}
+		out.print("\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	/**
+	 * Large 2D kernels are convolved using the FFT
+	 */
+	private boolean isFft( String name , boolean singleBand ) {
+		return name.equals("convolve") && singleBand && typeIn.equals("F32") && typeOut.equals("F32");
 	}
 
 	public static void main(String[] args) {
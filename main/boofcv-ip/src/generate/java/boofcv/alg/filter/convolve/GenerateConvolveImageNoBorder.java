@@ -56,9 +56,10 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 
 	private void printPreamble() {
 		out.print(
-				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.alg.InputSanityCheck;\n" +
 				"import boofcv.alg.filter.convolve.noborder.*;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.override.VectorOps;\n" +
 				"import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
@@ -141,7 +142,21 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output"+divideArg+") {\n" +
 				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\n");
-		out.print("\t\tif(BoofConcurrency.USE_CONCURRENT) {\n");
+		if( isVectorized(name,singleBand,hasDivide) ) {
+			out.print("\t\tif( VectorOps."+name+"(kernel, input, output) )\n" +
+					"\t\t\treturn;\n\n");
+		}
+		if( isFft(name,singleBand,hasDivide) ) {
+			out.print("\t\tif( ConvolveImageFft.isFftFaster(kernel.width, input.width, input.height) ) {\n" +
+					"\t\t\tif(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,\""+name+"\",output)) {\n" +
+					"\t\t\t\tConvolveImageFft_MT."+name+"(kernel, input, output);\n" +
+					"\t\t\t} else {\n" +
+					"\t\t\t\tConvolveImageFft."+name+"(kernel, input, output);\n" +
+					"\t\t\t}\n" +
+					"\t\t\treturn;\n" +
+					"\t\t}\n\n");
+		}
+		out.print("\t\tif(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,\""+name+"\",output)) {\n");
 		if( singleBand ) {
 			out.print("\t\t\tif (!ConvolveImageUnrolled_SB_MT_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
 					"\t\t\t\tConvolveImageStandard_SB_MT."+name+"(kernel, input, output"+divideInput+");\n");
@@ -160,6 +175,22 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 		out.print("\t}\n\n");
 	}
 
+	/**
+	 * Functions which have an implementation in {@link boofcv.override.VectorOps}
+	 */
+	private boolean isVectorized( String name , boolean singleBand , boolean hasDivide ) {
+		if( !singleBand || hasDivide || name.equals("convolve") )
+			return false;
+		return (typeIn.equals("F32") && typeOut.equals("F32")) || (typeIn.equals("U8") && typeOut.equals("I16"));
+	}
+
+	/**
+	 * Large 2D kernels are convolved using the FFT
+	 */
+	private boolean isFft( String name , boolean singleBand , boolean hasDivide ) {
+		return name.equals("convolve") && singleBand && !hasDivide && typeIn.equals("F32") && typeOut.equals("F32");
+	}
+
 	public static void main(String[] args) {
 		GenerateConvolveImageNoBorder gen = new GenerateConvolveImageNoBorder();
 		gen.generate();
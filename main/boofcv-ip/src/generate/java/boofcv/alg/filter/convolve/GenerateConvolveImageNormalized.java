@@ -143,8 +143,12 @@ public class GenerateConvolveImageNormalized extends CodeGeneratorBase {
 					"\t\t\t}\n");
 		} else {
 			out.print("\t\t\tif( "+insideTest+" ) {\n" +
-					"\t\t\t\tConvolveNormalizedNaive_"+suffice+"."+name+"(kernel,src,dst);\n" +
-					"\t\t\t} else {\n" +
+					"\t\t\t\tConvolveNormalizedNaive_"+suffice+"."+name+"(kernel,src,dst);\n");
+			if( name.equals("convolve") && singleBand && typeIn.equals("F32") ) {
+				out.print("\t\t\t} else if( ConvolveImageFft.isFftFaster(kernel.width,src.width,src.height) ) {\n" +
+						"\t\t\t\tConvolveImageFft.convolveNormalized(kernel,src,dst);\n");
+			}
+			out.print("\t\t\t} else {\n" +
 					"\t\t\t\tif( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {\n" +
 					"\t\t\t\t\t"+kernelTypeName+" k = kernel.copy();\n" +
 					"\t\t\t\t\tKernelMath.normalizeSumToOne(k);\n" +
@@ -31,6 +31,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 	AutoTypeImage image;
 
 	String floatType;
+	String floatTypeCast;
 	String f;
 	String borderType;
 
@@ -60,6 +61,12 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 		floatType = !image.isInteger() && image.getNumBits()==64 ? "double" : "float";
 		f = !image.isInteger() && image.getNumBits()==64 ? "" : "f";
 
+		if( !floatType.equals("float")) {
+			floatTypeCast = "(float)";
+		} else {
+			floatTypeCast = "";
+		}
+
 		printPreamble();
 		printTheRest();
 		out.println("}");
@@ -114,7 +121,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t\tval += ax * ay * (data[index + 1 + stride] "+bitWise+"); // (x+1,y+1)\n" +
 				"\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride] "+bitWise+"); // (x,y+1)\n" +
 				"\n" +
-				"\t\treturn val;\n" +
+				"\t\treturn "+floatTypeCast+"val;\n" +
 				"\t}\n" +
 				"\n" +
 				"\tpublic float get_border(float x, float y) {\n" +
@@ -132,7 +139,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t\tval += ax * ay *  border.get(xt + 1, yt + 1);; // (x+1,y+1)\n" +
 				"\t\tval += (1.0f - ax) * ay *  border.get(xt,yt+1);; // (x,y+1)\n" +
 				"\n" +
-				"\t\treturn val;\n" +
+				"\t\treturn "+floatTypeCast+"val;\n" +
 				"\t}\n"+
 				"\n" +
 				"\t@Override\n" +
@@ -144,6 +151,73 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t}\n"+
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic void get(float[] points, int pointsOffset, float[] output, int outputOffset, int length) {\n" +
+				"\t\t"+image.getDataType()+"[] data = orig.data;\n" +
+				"\n" +
+				"\t\tfor (int i = 0; i < length; i++) {\n" +
+				"\t\t\tfloat x = points[pointsOffset++];\n" +
+				"\t\t\tfloat y = points[pointsOffset++];\n" +
+				"\n" +
+				"\t\t\tif (x < 0 || y < 0 || x > width-2 || y > height-2) {\n" +
+				"\t\t\t\toutput[outputOffset+i] = get_border(x,y);\n" +
+				"\t\t\t\tcontinue;\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\tint xt = (int) x;\n" +
+				"\t\t\tint yt = (int) y;\n" +
+				"\t\t\t"+floatType+" ax = x - xt;\n" +
+				"\t\t\t"+floatType+" ay = y - yt;\n" +
+				"\n" +
+				"\t\t\tint index = orig.startIndex + yt * stride + xt;\n" +
+				"\n" +
+				"\t\t\t"+floatType+" val = (1.0"+f+" - ax) * (1.0"+f+" - ay) * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0"+f+" - ay) * (data[index + 1] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + 1 + stride] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\toutput[outputOffset+i] = "+floatTypeCast+"val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void getRow(float x0, float y, float stepX, float[] output, int outputOffset, int length) {\n" +
+				"\t\tif (y < 0 || y > height-2) {\n" +
+				"\t\t\tfor (int i = 0; i < length; i++) {\n" +
+				"\t\t\t\toutput[outputOffset+i] = get_border(x0 + i*stepX,y);\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t"+image.getDataType()+"[] data = orig.data;\n" +
+				"\n" +
+				"\t\t// the vertical weights and row are the same for every point\n" +
+				"\t\tint yt = (int) y;\n" +
+				"\t\t"+floatType+" ay = y - yt;\n" +
+				"\t\tint indexRow = orig.startIndex + yt * stride;\n" +
+				"\n" +
+				"\t\tfor (int i = 0; i < length; i++) {\n" +
+				"\t\t\tfloat x = x0 + i*stepX;\n" +
+				"\n" +
+				"\t\t\tif (x < 0 || x > width-2) {\n" +
+				"\t\t\t\toutput[outputOffset+i] = get_border(x,y);\n" +
+				"\t\t\t\tcontinue;\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\tint xt = (int) x;\n" +
+				"\t\t\t"+floatType+" ax = x - xt;\n" +
+				"\n" +
+				"\t\t\tint index = indexRow + xt;\n" +
+				"\n" +
+				"\t\t\t"+floatType+" val = (1.0"+f+" - ax) * (1.0"+f+" - ay) * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0"+f+" - ay) * (data[index + 1] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + 1 + stride] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\toutput[outputOffset+i] = "+floatTypeCast+"val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
 				"\t\t"+className+" out = new "+className+"();\n" +
 				"\t\tout.setBorder(border);\n" +
@@ -103,12 +103,15 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 				"\t"+sumType+" temp1[];\n" +
 				"\t"+sumType+" temp2[];\n" +
 				"\t"+sumType+" temp3[];\n" +
+				"\t// storage for pixels along the border when interpolating multiple points\n" +
+				"\tfloat borderValues[];\n" +
 				"\n" +
 				"\tpublic " + className + "(int numBands) {\n" +
 				"\t\tthis.temp0 = new "+sumType+"[numBands];\n" +
 				"\t\tthis.temp1 = new "+sumType+"[numBands];\n" +
 				"\t\tthis.temp2 = new "+sumType+"[numBands];\n" +
 				"\t\tthis.temp3 = new "+sumType+"[numBands];\n" +
+				"\t\tthis.borderValues = new float[numBands];\n" +
 				"\t}\n" +
 				"\n" +
 				"\tpublic " + className + "(" + imageName + " orig) {\n" +
@@ -192,6 +195,8 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 	}
 
 	private void printTheRest() {
+		String bitWise = image.getBitWise();
+
 		out.print("\t@Override\n" +
 				"\tpublic void get(float x, float y, float[] values) {\n" +
 				"\t\tif (x < 0 || y < 0 || x > width-2 || y > height-2)\n" +
@@ -201,6 +206,45 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic void get(float[] points, int pointsOffset, float[] output, int outputOffset, int length) {\n" +
+				"\t\tfinal int numBands = orig.numBands;\n" +
+				"\t\t"+image.getDataType()+"[] data = orig.data;\n" +
+				"\n" +
+				"\t\tfor (int i = 0; i < length; i++, outputOffset += numBands) {\n" +
+				"\t\t\tfloat x = points[pointsOffset++];\n" +
+				"\t\t\tfloat y = points[pointsOffset++];\n" +
+				"\n" +
+				"\t\t\tif (x < 0 || y < 0 || x > width-2 || y > height-2) {\n" +
+				"\t\t\t\tget_border(x,y,borderValues);\n" +
+				"\t\t\t\tSystem.arraycopy(borderValues,0,output,outputOffset,numBands);\n" +
+				"\t\t\t\tcontinue;\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\tint xt = (int) x;\n" +
+				"\t\t\tint yt = (int) y;\n" +
+				"\t\t\t" + floatType + " ax = x - xt;\n" +
+				"\t\t\t" + floatType + " ay = y - yt;\n" +
+				"\n" +
+				"\t\t\tint index = orig.startIndex + yt * stride + xt*numBands;\n" +
+				"\n" +
+				"\t\t\t" + floatType + " a00 = (1.0f - ax) * (1.0f - ay);\n" +
+				"\t\t\t" + floatType + " a10 = ax * (1.0f - ay);\n" +
+				"\t\t\t" + floatType + " a11 = ax * ay;\n" +
+				"\t\t\t" + floatType + " a01 = (1.0f - ax) * ay;\n" +
+				"\n" +
+				"\t\t\tfor( int band = 0; band < numBands; band++ ) {\n" +
+				"\t\t\t\tint indexBand = index+band;\n" +
+				"\t\t\t\t" + floatType + " val = a00 * (data[indexBand]" + bitWise + " );                // (x,y)\n" +
+				"\t\t\t\tval += a10 * (data[indexBand + numBands ]" + bitWise + " );         // (x+1,y)\n" +
+				"\t\t\t\tval += a11 * (data[indexBand + numBands + stride]" + bitWise + " ); // (x+1,y+1)\n" +
+				"\t\t\t\tval += a01 * (data[indexBand + stride]" + bitWise + " );            // (x,y+1)\n" +
+				"\n" +
+				"\t\t\t\toutput[outputOffset+band] = " + floatTypeCast + "val;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic InterpolatePixelMB<"+imageName+"> copy() {\n" +
 				"\t\t"+className+" out = new "+className+"(temp0.length);\n" +
 				"\t\tout.setBorder(border);\n" +
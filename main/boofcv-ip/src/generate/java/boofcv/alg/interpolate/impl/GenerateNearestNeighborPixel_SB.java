@@ -127,6 +127,41 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic void get(float[] points, int pointsOffset, float[] output, int outputOffset, int length) {\n" +
+				"\t\tfor (int i = 0; i < length; i++) {\n" +
+				"\t\t\tfloat x = points[pointsOffset++];\n" +
+				"\t\t\tfloat y = points[pointsOffset++];\n" +
+				"\n" +
+				"\t\t\tif (x < 0 || y < 0 || x > width-1 || y > height-1 ) {\n" +
+				"\t\t\t\toutput[outputOffset+i] = get_border(x,y);\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\toutput[outputOffset+i] = data[ orig.startIndex + ((int)y)*stride + (int)x]"+bitWise+";\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void getRow(float x0, float y, float stepX, float[] output, int outputOffset, int length) {\n" +
+				"\t\tif (y < 0 || y > height-1) {\n" +
+				"\t\t\tfor (int i = 0; i < length; i++) {\n" +
+				"\t\t\t\toutput[outputOffset+i] = get_border(x0 + i*stepX,y);\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tint indexRow = orig.startIndex + ((int)y)*stride;\n" +
+				"\t\tfor (int i = 0; i < length; i++) {\n" +
+				"\t\t\tfloat x = x0 + i*stepX;\n" +
+				"\n" +
+				"\t\t\tif (x < 0 || x > width-1 ) {\n" +
+				"\t\t\t\toutput[outputOffset+i] = get_border(x,y);\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\toutput[outputOffset+i] = data[ indexRow + (int)x]"+bitWise+";\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
 				"\t\t"+className+" out = new "+className+"();\n" +
 				"\t\tout.setBorder(border);\n" +
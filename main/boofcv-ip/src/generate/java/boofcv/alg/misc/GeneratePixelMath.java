@@ -64,12 +64,13 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.struct.image.*;\n" +
-				"\n" +
-				"import boofcv.alg.misc.impl.ImplPixelMath_MT;\n" +
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
 				"import boofcv.alg.misc.impl.ImplPixelMath;\n" +
+				"import boofcv.alg.misc.impl.ImplPixelMath_MT;\n" +
 				"import boofcv.concurrency.BoofConcurrency;\n" +
-				"import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.override.VectorOps;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
 				"import javax.annotation.Generated;\n" +
 				"\n" +
 				"/**\n" +
@@ -132,7 +133,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\t\toutput.reshape(input.width,input.height);\n" +
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
-						"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+						"\t\tif(BoofConcurrency.isUseConcurrent(PixelMath.class,\""+funcName+"\",output) ) {\n" +
 						"\t\t\tImplPixelMath_MT."+funcName+"(input.data, input.startIndex, input.stride,\n" +
 						"\t\t\t\t\toutput.data, output.startIndex, output.stride,\n" +
 						"\t\t\t\t\tinput.height, columns);\n" +
@@ -217,7 +218,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 							"\t\t" + reshape+ "\n" +
 							"\n" +
 							"\t\tint columns = " + columns + ";\n" +
-							"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+							"\t\tif(BoofConcurrency.isUseConcurrent(PixelMath.class,\""+funcName+"\",output) ) {\n" +
 							"\t\t\tImplPixelMath_MT." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
 							"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
 							"\t\t\t\t\tinput.height,columns);\n" +
@@ -235,13 +236,21 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						prototype = "( " + variableType + " " + varName + " , " + inputName + " input , " + inputName + " output )";
 					}
 
+					// floating point images have a vectorized implementation
+					String vectorized = input != F32 ? "" :
+							"\t\tif( VectorOps." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " ,\n" +
+							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
+							"\t\t\t\tinput.height,columns) )\n" +
+							"\t\t\treturn;\n";
+
 					out.println(template.getJavaDoc());
 					out.println("\tpublic static void " + funcName + prototype + " {\n" +
 							"\n" +
 							"\t\t" + reshape+ "\n" +
 							"\n" +
 							"\t\tint columns = " + columns + ";\n" +
-							"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+							vectorized +
+							"\t\tif(BoofConcurrency.isUseConcurrent(PixelMath.class,\""+funcName+"\",output) ) {\n" +
 							"\t\t\tImplPixelMath_MT." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " , \n" +
 							"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
 							"\t\t\t\t\tinput.height,columns);\n" +
@@ -286,7 +295,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"diffAbs\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.diffAbs(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.diffAbs(imgA, imgB, output);\n" +
@@ -294,6 +303,16 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	/**
+	 * Vectorized code for functions with two floating point images as input
+	 */
+	private String vectorTwoImages( String funcName , AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		if( typeIn != F32 || typeOut != F32 )
+			return "";
+		return "\t\tif( VectorOps."+funcName+"(imgA, imgB, output) )\n" +
+				"\t\t\treturn;\n";
+	}
+
 	public void printAddTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
 		out.print("\t/**\n" +
 				"\t * <p>\n" +
@@ -308,7 +327,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				vectorTwoImages("add",typeIn,typeOut) +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"add\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.add(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.add(imgA, imgB, output);\n" +
@@ -331,7 +351,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				vectorTwoImages("subtract",typeIn,typeOut) +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"subtract\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.subtract(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.subtract(imgA, imgB, output);\n" +
@@ -353,7 +374,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				vectorTwoImages("multiply",typeIn,typeOut) +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"multiply\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.multiply(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.multiply(imgA, imgB, output);\n" +
@@ -376,7 +398,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				vectorTwoImages("divide",typeIn,typeOut) +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"divide\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.divide(imgA,imgB,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.divide(imgA,imgB,output);\n" +
@@ -396,7 +419,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\n" +
 				"\t\toutput.reshape(input.width,input.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"log\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.log(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.log(input,output);\n" +
@@ -417,7 +440,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\n" +
 				"\t\toutput.reshape(input.width,input.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"logSign\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.logSign(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.logSign(input,output);\n" +
@@ -438,7 +461,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\n" +
 				"\t\toutput.reshape(input.width,input.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"pow2\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.pow2(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.pow2(input,output);\n" +
@@ -459,7 +482,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\n" +
 				"\t\toutput.reshape(input.width,input.height);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(PixelMath.class,\"sqrt\",output) ) {\n" +
 				"\t\t\tImplPixelMath_MT.sqrt(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.sqrt(input,output);\n" +
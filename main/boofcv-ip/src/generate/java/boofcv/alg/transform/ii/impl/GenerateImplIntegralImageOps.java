@@ -38,6 +38,9 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
+		printTransformSumSq(AutoTypeImage.U8, AutoTypeImage.S32, AutoTypeImage.S64);
+		printTransformSumSq(AutoTypeImage.F32, AutoTypeImage.F32, AutoTypeImage.F64);
+		printTransformSumSq(AutoTypeImage.F64, AutoTypeImage.F64, AutoTypeImage.F64);
 		singleInput(AutoTypeImage.F32);
 		singleInput(AutoTypeImage.S32);
 		singleInput(AutoTypeImage.F64);
@@ -111,6 +114,52 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printTransformSumSq( AutoTypeImage imageIn , AutoTypeImage imageOut , AutoTypeImage imageSq ) {
+
+		String sumType = imageOut.getSumType();
+		String sumTypeSq = imageSq.getSumType();
+		String bitWise = imageIn.getBitWise();
+		// only cast when the input's type can't hold the squared value
+		String castSq = imageIn.getSumType().equals(sumTypeSq) ? "" : "("+sumTypeSq+")";
+
+		out.print("\tpublic static void transformSumSq( final "+imageIn.getSingleBandName()+" input , " +
+				"final "+imageOut.getSingleBandName()+" transformed , final "+imageSq.getSingleBandName()+" transformedSq )\n" +
+				"\t{\n" +
+				"\t\tint indexSrc = input.startIndex;\n" +
+				"\t\tint indexDst = transformed.startIndex;\n" +
+				"\t\tint indexSq = transformedSq.startIndex;\n" +
+				"\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t"+sumType+" total = 0;\n" +
+				"\t\t"+sumTypeSq+" totalSq = 0;\n" +
+				"\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t"+sumType+" value = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\ttransformed.data[indexDst++] = total += value;\n" +
+				"\t\t\ttransformedSq.data[indexSq++] = totalSq += "+castSq+"value*value;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfor( int y = 1; y < input.height; y++ ) {\n" +
+				"\t\t\tindexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\tindexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\tindexSq = transformedSq.startIndex + transformedSq.stride*y;\n" +
+				"\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\tint indexPrevSq = indexSq - transformedSq.stride;\n" +
+				"\n" +
+				"\t\t\tend = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\ttotal = 0;\n" +
+				"\t\t\ttotalSq = 0;\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t"+sumType+" value = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\ttotal += value;\n" +
+				"\t\t\t\ttotalSq += "+castSq+"value*value;\n" +
+				"\t\t\t\ttransformed.data[indexDst++] = transformed.data[indexPrev++] + total;\n" +
+				"\t\t\t\ttransformedSq.data[indexSq++] = transformedSq.data[indexPrevSq++] + totalSq;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printConvolveSparse(AutoTypeImage image ) {
 		String sumType = image.getSumType();
 
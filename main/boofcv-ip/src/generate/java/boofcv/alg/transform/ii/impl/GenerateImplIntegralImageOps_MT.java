@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.generate.AutoTypeImage;
+import boofcv.generate.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class GenerateImplIntegralImageOps_MT extends CodeGeneratorBase {
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+
+		printTransform(AutoTypeImage.F32, AutoTypeImage.F32);
+		printTransform(AutoTypeImage.F64, AutoTypeImage.F64);
+		printTransform(AutoTypeImage.U8, AutoTypeImage.S32);
+		printTransform(AutoTypeImage.S32, AutoTypeImage.S32);
+		printTransform(AutoTypeImage.S64, AutoTypeImage.S64);
+		printTransformSumSq(AutoTypeImage.U8, AutoTypeImage.S32, AutoTypeImage.S64);
+		printTransformSumSq(AutoTypeImage.F32, AutoTypeImage.F32, AutoTypeImage.F64);
+		printTransformSumSq(AutoTypeImage.F64, AutoTypeImage.F64, AutoTypeImage.F64);
+		printColumnPass(AutoTypeImage.F32);
+		printColumnPass(AutoTypeImage.F64);
+		printColumnPass(AutoTypeImage.S32);
+		printColumnPass(AutoTypeImage.S64);
+
+		out.print("\n" +
+				"}\n");
+	}
+
+	private void printPreamble() {
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"import javax.annotation.Generated;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementation of {@link ImplIntegralImageOps}. The single pass in the single thread code\n" +
+				" * has a dependency between rows, so the integral image is computed with two passes instead. First the\n" +
+				" * prefix sum along each row is computed in parallel. Then each thread adds the previous row to every\n" +
+				" * row inside its own block of columns.\n" +
+				" * </p>\n" +
+				" * \n" +
+				generateDocString() +
+				" * \n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				generatedAnnotation() +
+				"public class "+className+" {\n\n");
+	}
+
+	private void printTransform( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+		String typeCast = imageOut.getTypeCastFromSum();
+
+		out.print("\tpublic static void transform( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\ttransformed.data[indexDst++] = "+typeCast+"total += input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\tsumColumns(transformed);\n" +
+				"\t}\n\n");
+	}
+
+	private void printTransformSumSq( AutoTypeImage imageIn , AutoTypeImage imageOut , AutoTypeImage imageSq ) {
+
+		String sumType = imageOut.getSumType();
+		String sumTypeSq = imageSq.getSumType();
+		String bitWise = imageIn.getBitWise();
+		// only cast when the input's type can't hold the squared value
+		String castSq = imageIn.getSumType().equals(sumTypeSq) ? "" : "("+sumTypeSq+")";
+
+		out.print("\tpublic static void transformSumSq( final "+imageIn.getSingleBandName()+" input , " +
+				"final "+imageOut.getSingleBandName()+" transformed , final "+imageSq.getSingleBandName()+" transformedSq )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\tint indexSq = transformedSq.startIndex + transformedSq.stride*y;\n" +
+				"\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t"+sumTypeSq+" totalSq = 0;\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t"+sumType+" value = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\ttransformed.data[indexDst++] = total += value;\n" +
+				"\t\t\t\ttransformedSq.data[indexSq++] = totalSq += "+castSq+"value*value;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\tsumColumns(transformed);\n" +
+				"\t\tsumColumns(transformedSq);\n" +
+				"\t}\n\n");
+	}
+
+	private void printColumnPass( AutoTypeImage image ) {
+		out.print("\t/**\n" +
+				"\t * Adds the previous row to each row. Each thread processes every row inside a block of columns\n" +
+				"\t */\n" +
+				"\tprivate static void sumColumns( final "+image.getSingleBandName()+" transformed )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, transformed.width, (x0,x1)->{\n" +
+				"\t\tfor( int y = 1; y < transformed.height; y++ ) {\n" +
+				"\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\tint end = indexDst + x1 - x0;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexDst < end; indexDst++ ) {\n" +
+				"\t\t\t\ttransformed.data[indexDst] += transformed.data[indexPrev++];\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateImplIntegralImageOps_MT app = new GenerateImplIntegralImageOps_MT();
+		app.generate();
+	}
+}
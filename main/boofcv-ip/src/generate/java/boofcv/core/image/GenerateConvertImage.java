@@ -66,6 +66,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"import boofcv.core.image.impl.ImplConvertPlanarToGray_MT;\n" +
 				"import boofcv.core.image.impl.ConvertInterleavedToSingle;\n" +
 				"import boofcv.core.image.impl.ConvertInterleavedToSingle_MT;\n" +
+				"import boofcv.override.VectorOps;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
@@ -82,6 +83,17 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"public class "+className+" {\n\n");
 	}
 
+	/**
+	 * U8 to F32 has a vectorized implementation which is used when available
+	 */
+	private String convertCall(AutoTypeImage imageIn, AutoTypeImage imageOut) {
+		if( imageIn == AutoTypeImage.U8 && imageOut == AutoTypeImage.F32 ) {
+			return "\t\tif( !VectorOps.convert(input, output) )\n" +
+					"\t\t\tImplConvertImage.convert(input, output);\n";
+		}
+		return "\t\tImplConvertImage.convert(input, output);\n";
+	}
+
 	private void printConvertSingle(AutoTypeImage imageIn, AutoTypeImage imageOut) {
 
 		out.print("\t/**\n" +
@@ -101,7 +113,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t}\n" +
 				"\n" +
 				"\t\t// threaded code is not significantly faster here\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				convertCall(imageIn, imageOut) +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -126,7 +138,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t}\n" +
 				"\n" +
 				"\t\t// threaded code is not significantly faster here\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				convertCall(imageIn, imageOut) +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -151,7 +163,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(ConvertImage.class,\"average\",output) ) {\n" +
 				"\t\t\tImplConvertPlanarToGray_MT.average(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertPlanarToGray.average(input,output);\n" +
@@ -181,7 +193,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(ConvertImage.class,\"average\",output) ) {\n" +
 				"\t\t\tConvertInterleavedToSingle_MT.average(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tConvertInterleavedToSingle.average(input,output);\n" +
@@ -209,7 +221,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(ConvertImage.class,\"convert\",output) ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert(input,output);\n" +
@@ -239,7 +251,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(ConvertImage.class,\"convert"+type+"\",output) ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert"+type+"(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert"+type+"(input,output);\n" +
@@ -267,7 +279,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.getNumBands());\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(ConvertImage.class,\"convert\",output) ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert(input,output);\n" +
@@ -297,7 +309,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.getNumBands());\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent(ConvertImage.class,\"convert"+type+"\",output) ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert"+type+"(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert"+type+"(input,output);\n" +
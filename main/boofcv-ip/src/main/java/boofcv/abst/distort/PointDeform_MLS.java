@@ -71,7 +71,7 @@ public class PointDeform_MLS implements PointDeformKeyPoints
 			Point2D_F32 p = locations.get(i);
 			alg.setDistorted(i, p.x, p.y);
 		}
-		alg.fixateDistorted();
+		alg.updateDistorted();
 	}
 
 	@Override
@@ -83,7 +83,7 @@ public class PointDeform_MLS implements PointDeformKeyPoints
 	@Override
 	public void setDestination(int which, float x, float y) {
 		alg.setDistorted(which, x , y );
-		alg.fixateDistorted();
+		alg.updateDistorted();
 	}
 
 	public ImageDeformPointMLS_F32 getAlgorithm() {
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.MappedTiledImage;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Applies an image operation to a {@link MappedTiledImage} one tile at a time, allowing images which are too
+ * large to fit in memory to be processed by regular operations. For each tile in the output image the
+ * corresponding region in the input image, expanded by a halo on each side, is read into memory and processed.
+ * Only the inside of the processed region is written to the output image.
+ * </p>
+ *
+ * <p>
+ * The halo must be at least as large as the distance the operation looks at from each pixel, e.g. the radius of
+ * a blur. Then the output will be identical to processing the entire image at once, since along the image's
+ * border the region is clipped and the operation's own border handling is used. Only operations where each pixel
+ * depends on a local neighborhood can be processed this way. Operations which compute global statistics, such as
+ * Otsu thresholding, will produce different results per tile.
+ * </p>
+ *
+ * <p>
+ * Tiles are processed in parallel if {@link BoofConcurrency#isUseConcurrent(Class, String, int)} is true for
+ * the output image. Memory usage is bounded by the size of the tile cache in each image and the in-memory region
+ * for each thread.
+ * </p>
+ *
+ * <pre>
+ * FilterTiledImage&lt;GrayU8,GrayU8&gt; alg = new FilterTiledImage&lt;&gt;(
+ *         ImageType.single(GrayU8.class),ImageType.single(GrayU8.class),radius,
+ *         (in,out)-&gt;BlurImageOps.gaussian(in,out,-1,radius,null));
+ * alg.process(input,output);
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class FilterTiledImage<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+	// Operation which is applied to each tile
+	private final Operation<In,Out> operation;
+
+	// Number of pixels the region around each tile is expanded by
+	private final int haloX, haloY;
+
+	// Storage for each thread
+	private final FastQueue<Workspace<In,Out>> workspaces;
+
+	/**
+	 * Configures the processor
+	 *
+	 * @param inputType Type of input image
+	 * @param outputType Type of output image
+	 * @param haloX Number of columns to the left and right of each tile which the operation needs
+	 * @param haloY Number of rows above and below each tile which the operation needs
+	 * @param operation The operation. Must be thread safe if concurrency is used.
+	 */
+	public FilterTiledImage( ImageType<In> inputType , ImageType<Out> outputType ,
+							 int haloX , int haloY , Operation<In,Out> operation ) {
+		if( haloX < 0 || haloY < 0 )
+			throw new IllegalArgumentException("Halo must be >= 0");
+		this.operation = operation;
+		this.haloX = haloX;
+		this.haloY = haloY;
+		@SuppressWarnings("unchecked")
+		Class<Workspace<In,Out>> workType = (Class<Workspace<In,Out>>)(Class<?>)Workspace.class;
+		this.workspaces = new FastQueue<>(workType,()->new Workspace<>(
+				inputType.createImage(1,1),outputType.createImage(1,1)));
+	}
+
+	/**
+	 * Configures the processor with the same halo along each axis
+	 */
+	public FilterTiledImage( ImageType<In> inputType , ImageType<Out> outputType ,
+							 int halo , Operation<In,Out> operation ) {
+		this(inputType,outputType,halo,halo,operation);
+	}
+
+	/**
+	 * Uses a filter as the operation. The filter must be thread safe if concurrency is used.
+	 */
+	public FilterTiledImage( FilterImageInterface<In,Out> filter , int halo ) {
+		this(filter.getInputType(),filter.getOutputType(),halo,halo,filter::process);
+	}
+
+	/**
+	 * Applies the operation to the input image and writes the results to the output image
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must be the same shape as the input. Modified.
+	 */
+	public void process( MappedTiledImage<In> input , MappedTiledImage<Out> output ) {
+		if( input.getWidth() != output.getWidth() || input.getHeight() != output.getHeight() )
+			throw new IllegalArgumentException("Input and output must be the same shape");
+
+		int numTiles = output.getNumTilesX()*output.getNumTilesY();
+		// tiled images can have more pixels than an int can hold
+		int numPixels = (int)Math.min(Integer.MAX_VALUE,(long)output.getWidth()*output.getHeight());
+
+		if( BoofConcurrency.isUseConcurrent(FilterTiledImage.class,"process",numPixels) ) {
+			BoofConcurrency.loopBlocks(0,numTiles,workspaces,(work,idx0,idx1)->{
+				for (int i = idx0; i < idx1; i++) {
+					processTile(input,output,i,work);
+				}
+			});
+		} else {
+			workspaces.resize(1);
+			for (int i = 0; i < numTiles; i++) {
+				processTile(input,output,i,workspaces.get(0));
+			}
+		}
+	}
+
+	/**
+	 * Processes the tile in the output image with the specified index
+	 */
+	void processTile( MappedTiledImage<In> input , MappedTiledImage<Out> output , int index , Workspace<In,Out> work ) {
+		int tileWidth = output.getTileWidth(), tileHeight = output.getTileHeight();
+		int tx = index % output.getNumTilesX();
+		int ty = index / output.getNumTilesX();
+
+		// the region being written to
+		int x0 = tx*tileWidth, y0 = ty*tileHeight;
+		int x1 = Math.min(output.getWidth(),x0+tileWidth);
+		int y1 = Math.min(output.getHeight(),y0+tileHeight);
+
+		// the region being read, which includes the halo
+		int rx0 = Math.max(0,x0-haloX), ry0 = Math.max(0,y0-haloY);
+		int rx1 = Math.min(input.getWidth(),x1+haloX);
+		int ry1 = Math.min(input.getHeight(),y1+haloY);
+
+		input.readRegion(rx0,ry0,rx1,ry1,work.input);
+		work.output.reshape(work.input.width,work.input.height);
+		operation.process(work.input,work.output);
+
+		output.writeRegion(x0,y0,work.output.subimage(x0-rx0,y0-ry0,x1-rx0,y1-ry0,null));
+	}
+
+	public int getHaloX() {
+		return haloX;
+	}
+
+	public int getHaloY() {
+		return haloY;
+	}
+
+	/**
+	 * Operation which is applied to a region of the image
+	 */
+	@FunctionalInterface
+	public interface Operation<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+		void process( In input , Out output );
+	}
+
+	/**
+	 * Images which hold the region being processed
+	 */
+	private static class Workspace<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+		In input;
+		Out output;
+
+		Workspace(In input, Out output) {
+			this.input = input;
+			this.output = output;
+		}
+	}
+}
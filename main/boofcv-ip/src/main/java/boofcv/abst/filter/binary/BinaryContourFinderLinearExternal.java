@@ -20,7 +20,9 @@ package boofcv.abst.filter.binary;
 
 import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.alg.filter.binary.LinearExternalContours;
+import boofcv.alg.filter.binary.LinearExternalContours_MT;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayU8;
@@ -31,6 +33,7 @@ import java.util.List;
 
 /**
  * Wrapper around {@link boofcv.alg.filter.binary.LinearExternalContours}
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link LinearExternalContours_MT} is used instead.
  *
  * @author Peter Abeles
  */
@@ -46,7 +49,8 @@ public class BinaryContourFinderLinearExternal implements BinaryContourFinder, B
 	FastQueue<ContourPacked> contours = new FastQueue<>(ContourPacked.class,true);
 
 	public BinaryContourFinderLinearExternal() {
-		this.alg = new LinearExternalContours(ConnectRule.FOUR);
+		this.alg = BoofConcurrency.USE_CONCURRENT ?
+				new LinearExternalContours_MT(ConnectRule.FOUR) : new LinearExternalContours(ConnectRule.FOUR);
 	}
 
 	@Override
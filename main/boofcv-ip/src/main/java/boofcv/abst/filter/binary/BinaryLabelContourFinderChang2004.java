@@ -20,6 +20,8 @@ package boofcv.abst.filter.binary;
 
 import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.alg.filter.binary.LinearContourLabelChang2004;
+import boofcv.alg.filter.binary.LinearContourLabelChang2004_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
@@ -36,7 +38,8 @@ import java.util.List;
  */
 public class BinaryLabelContourFinderChang2004 implements BinaryLabelContourFinder {
 
-	LinearContourLabelChang2004 finder = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	LinearContourLabelChang2004 finder = BoofConcurrency.USE_CONCURRENT ?
+			new LinearContourLabelChang2004_MT(ConnectRule.FOUR) : new LinearContourLabelChang2004(ConnectRule.FOUR);
 
 	@Override
 	public void process(GrayU8 binary, GrayS32 labeled) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.binary;
+
+import boofcv.alg.filter.binary.PackedBinaryImageOps;
+import boofcv.struct.image.*;
+
+/**
+ * Converts an image into a {@link PackedBinaryImage} using an {@link InputToBinary}. A global fixed threshold
+ * is applied directly to the packed image. All other algorithms threshold into a {@link GrayU8} which is
+ * then packed.
+ *
+ * @author Peter Abeles
+ */
+public class InputToPackedBinary<T extends ImageBase<T>> {
+
+	InputToBinary<T> alg;
+
+	// storage for the unpacked binary image
+	GrayU8 work = new GrayU8(1,1);
+
+	public InputToPackedBinary(InputToBinary<T> alg) {
+		this.alg = alg;
+	}
+
+	/**
+	 * Converts the input image into a packed binary image
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output packed binary image. Modified.
+	 */
+	public void process(T input, PackedBinaryImage output) {
+		if( alg instanceof GlobalFixedBinaryFilter ) {
+			GlobalFixedBinaryFilter fixed = (GlobalFixedBinaryFilter)alg;
+			if( input instanceof GrayU8 ) {
+				PackedBinaryImageOps.threshold((GrayU8)input, (int)fixed.threshold, fixed.down, output);
+				return;
+			} else if( input instanceof GrayF32 ) {
+				PackedBinaryImageOps.threshold((GrayF32)input, (float)fixed.threshold, fixed.down, output);
+				return;
+			}
+		}
+
+		work.reshape(input.width, input.height);
+		alg.process(input, work);
+		PackedBinaryImageOps.convert(work, output);
+	}
+
+	public InputToBinary<T> getAlgorithm() {
+		return alg;
+	}
+
+	public ImageType<T> getInputType() {
+		return alg.getInputType();
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.abst.filter.blur;
 import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.concurrency.WorkArrays;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
@@ -61,6 +62,8 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 		} else if( functionName.equals("gaussian")) {
 			operation = new GaussianOperation();
 			createStorage();
+		} else if( functionName.equals("gaussianRecursive")) {
+			operation = new GaussianRecursiveOperation();
 		} else if( functionName.equals("median")) {
 			operation = new MedianOperator();
 		} else {
@@ -138,6 +141,16 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 		}
 	}
 
+	private class GaussianRecursiveOperation implements BlurOperation {
+		// intermediate results are always floating point
+		GrayF32 storageF32 = new GrayF32(1,1);
+
+		@Override
+		public void process(ImageBase input, ImageBase output) {
+			GBlurImageOps.gaussianRecursive(input,output,sigma,storageF32);
+		}
+	}
+
 	private class MedianOperator implements BlurOperation {
 		@Override
 		public void process(ImageBase input, ImageBase output) {
@@ -19,26 +19,27 @@
 package boofcv.abst.transform.fft;
 
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.alg.transform.fft.FftPlanCache;
 import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D;
+import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.InterleavedF32;
 
 /**
- * Wrapper around {@link GeneralPurposeFFT_F32_2D} which implements {@link DiscreteFourierTransform}
+ * Wrapper around {@link GeneralPurposeFFT_F32_2D} which implements {@link DiscreteFourierTransform}. Plans
+ * are shared through {@link FftPlanCache} and {@link GeneralPurposeFFT_F32_2D_MT} is used when concurrency
+ * is turned on. The inverse transform only processes the non-redundant half of the spectrum.
  *
  * @author Peter Abeles
  */
 public class GeneralFft_to_DiscreteFourierTransform_F32
 		implements DiscreteFourierTransform<GrayF32,InterleavedF32>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
+	// concurrent implementation for the previous image shape
+	private GeneralPurposeFFT_F32_2D_MT algMT = new GeneralPurposeFFT_F32_2D_MT(1,1);
 
-	// performs the FFT
-	private GeneralPurposeFFT_F32_2D alg;
-
-	// storage for temporary results
+	// storage for the Hermitian half spectrum which is inverted
 	private InterleavedF32 tmp = new InterleavedF32(1,1,2);
 
 	// if true then it can modify the input images
@@ -50,13 +51,18 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
 		int N = image.width*image.height;
 		System.arraycopy(image.data,0,transform.data,0,N);
 
 		// the transform over writes the input data
-		alg.realForwardFull(transform.data);
+		if( BoofConcurrency.isUseConcurrent(DiscreteFourierTransform.class,"forward",image) ) {
+			checkDeclareMT(image);
+			algMT.realForwardFull(transform.data);
+		} else {
+			GeneralPurposeFFT_F32_2D alg = FftPlanCache.acquireF32(image.height,image.width);
+			alg.realForwardFull(transform.data);
+			FftPlanCache.release(alg);
+		}
 	}
 
 	@Override
@@ -65,35 +71,46 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
+		// The real part of the inverse is the inverse of the transform's Hermitian part. Only half of the
+		// Hermitian part needs to be computed and inverted since the rest is redundant
+		hermitianHalf(transform,tmp);
 
-		// If he user lets us, modify the transform
-		InterleavedF32 workImage;
-		if(modifyInputs) {
-			workImage = transform;
+		if( BoofConcurrency.isUseConcurrent(DiscreteFourierTransform.class,"inverse",image) ) {
+			checkDeclareMT(image);
+			algMT.realInverseHalf(tmp.data, image.data, true);
 		} else {
-			tmp.reshape(transform.width,transform.height);
-			tmp.setTo(transform);
-			workImage = tmp;
+			GeneralPurposeFFT_F32_2D alg = FftPlanCache.acquireF32(image.height,image.width);
+			alg.realInverseHalf(tmp.data, image.data, true);
+			FftPlanCache.release(alg);
 		}
+	}
 
-		alg.complexInverse(workImage.data, true);
-
-		// copy the real portion.  imaginary should be zeros
-		int N = image.width*image.height;
-		for( int i = 0; i < N; i++ ) {
-			image.data[i] = workImage.data[i*2];
+	/**
+	 * Computes the first width/2+1 columns of (X[r][c] + conj(X[-r][-c]))/2
+	 */
+	static void hermitianHalf( InterleavedF32 transform , InterleavedF32 half ) {
+		final int width = transform.width;
+		final int height = transform.height;
+		half.reshape(width/2+1,height);
+
+		for( int y = 0; y < height; y++ ) {
+			int indexOther = ((height-y)%height)*transform.stride;
+			int indexSrc = y*transform.stride;
+			int indexDst = y*half.stride;
+			for( int x = 0; x < half.width; x++ ) {
+				int other = indexOther + ((width-x)%width)*2;
+				half.data[indexDst++] = (transform.data[indexSrc++] + transform.data[other])/2.0f;
+				half.data[indexDst++] = (transform.data[indexSrc++] - transform.data[other+1])/2.0f;
+			}
 		}
 	}
 
 	/**
-	 * Declare the algorithm if the image size has changed
+	 * Declare the concurrent algorithm if the image size has changed
 	 */
-	private void checkDeclareAlg(GrayF32 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
-			alg = new GeneralPurposeFFT_F32_2D(image.height,image.width);
+	private void checkDeclareMT(GrayF32 image) {
+		if( algMT.getColumns() != image.width || algMT.getRows() != image.height ) {
+			algMT = new GeneralPurposeFFT_F32_2D_MT(image.height,image.width);
 		}
 	}
 
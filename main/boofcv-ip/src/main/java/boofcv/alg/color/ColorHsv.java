@@ -20,8 +20,10 @@ package boofcv.alg.color;
 
 import boofcv.alg.color.impl.ImplColorHsv;
 import boofcv.alg.color.impl.ImplColorHsv_MT;
+import boofcv.alg.filter.misc.AverageDownSampleOps;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.Planar;
 
@@ -317,4 +319,76 @@ public class ColorHsv {
 			throw new IllegalArgumentException("Unsupported band type "+hsv.getBandType().getSimpleName());
 		}
 	}
+
+	/**
+	 * Converts an 8-bit image from RGB into HSV. Look up tables are used instead of division.
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param hsv (Output) Image in HSV format. V will have a range of 0 to 255
+	 */
+	public static void rgbToHsv_U8( Planar<GrayU8> rgb , Planar<GrayF32> hsv ) {
+		hsv.reshape(rgb.width,rgb.height,3);
+
+		if( BoofConcurrency.isUseConcurrent(ColorHsv.class,"rgbToHsv_U8",hsv) ) {
+			ImplColorHsv_MT.rgbToHsv_U8(rgb,hsv);
+		} else {
+			ImplColorHsv.rgbToHsv_U8(rgb,hsv);
+		}
+	}
+
+	/**
+	 * Converts an HSV image into an 8-bit RGB image. This is the inverse of {@link #rgbToHsv_U8}. The hue and
+	 * saturation are kept in floating point, so no precision is lost before the final rounding.
+	 *
+	 * @param hsv (Input) Image in HSV format. V must have a range of 0 to 255
+	 * @param rgb (Output) Image in RGB format. Values are rounded and clamped to 0 to 255
+	 */
+	public static void hsvToRgb_U8( Planar<GrayF32> hsv , Planar<GrayU8> rgb ) {
+		rgb.reshape(hsv.width,hsv.height,3);
+
+		if( BoofConcurrency.isUseConcurrent(ColorHsv.class,"hsvToRgb_U8",rgb) ) {
+			ImplColorHsv_MT.hsvToRgb_U8(hsv,rgb);
+		} else {
+			ImplColorHsv.hsvToRgb_U8(hsv,rgb);
+		}
+	}
+
+	/**
+	 * Converts an 8-bit image from RGB into HSV while down sampling it by a factor of two. The RGB values inside
+	 * each 2x2 block are averaged and then converted, which is much faster than converting the full
+	 * resolution image.
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param hsv (Output) Image in HSV format. Reshaped to the down sampled size.
+	 */
+	public static void rgbToHsvDown2( Planar<GrayU8> rgb , Planar<GrayF32> hsv ) {
+		hsv.reshape(AverageDownSampleOps.downSampleSize(rgb.width,2),
+				AverageDownSampleOps.downSampleSize(rgb.height,2),3);
+
+		if( BoofConcurrency.isUseConcurrent(ColorHsv.class,"rgbToHsvDown2",hsv) ) {
+			ImplColorHsv_MT.rgbToHsvDown2_U8(rgb,hsv);
+		} else {
+			ImplColorHsv.rgbToHsvDown2_U8(rgb,hsv);
+		}
+	}
+
+	/**
+	 * Converts an 8-bit image from RGB into a single HSV band. Faster than converting the whole image when
+	 * only one band is needed, e.g. hue.
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param band Which band. H = 0, S = 1, V = 2
+	 * @param output (Output) The selected HSV band
+	 */
+	public static void rgbToHsvBand( Planar<GrayU8> rgb , int band , GrayF32 output ) {
+		if( band < 0 || band > 2 )
+			throw new IllegalArgumentException("Band must be 0, 1, or 2");
+		output.reshape(rgb.width,rgb.height);
+
+		if( BoofConcurrency.isUseConcurrent(ColorHsv.class,"rgbToHsvBand",output) ) {
+			ImplColorHsv_MT.rgbToHsvBand_U8(rgb,band,output);
+		} else {
+			ImplColorHsv.rgbToHsvBand_U8(rgb,band,output);
+		}
+	}
 }
@@ -20,6 +20,7 @@ package boofcv.alg.color;
 
 import boofcv.alg.color.impl.ImplColorLab;
 import boofcv.alg.color.impl.ImplColorLab_MT;
+import boofcv.alg.filter.misc.AverageDownSampleOps;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
@@ -143,4 +144,42 @@ public class ColorLab {
 			throw new IllegalArgumentException("Unsupported band type "+rgb.getBandType().getSimpleName());
 		}
 	}
+
+	/**
+	 * Converts an 8-bit RGB image into LAB while down sampling it by a factor of two. The RGB values inside each
+	 * 2x2 block are averaged and then converted, which is much faster than converting the full resolution image.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image. Reshaped to the down sampled size.
+	 */
+	public static void rgbToLabDown2( Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+		lab.reshape(AverageDownSampleOps.downSampleSize(rgb.width,2),
+				AverageDownSampleOps.downSampleSize(rgb.height,2),3);
+
+		if( BoofConcurrency.isUseConcurrent(ColorLab.class,"rgbToLabDown2",lab) ) {
+			ImplColorLab_MT.rgbToLabDown2_U8(rgb, lab);
+		} else {
+			ImplColorLab.rgbToLabDown2_U8(rgb, lab);
+		}
+	}
+
+	/**
+	 * Converts an 8-bit RGB image into a single LAB band. Faster than converting the whole image when
+	 * only one band is needed.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param band Which band. L = 0, A = 1, B = 2
+	 * @param output (Output) The selected LAB band
+	 */
+	public static void rgbToLabBand( Planar<GrayU8> rgb , int band , GrayF32 output ) {
+		if( band < 0 || band > 2 )
+			throw new IllegalArgumentException("Band must be 0, 1, or 2");
+		output.reshape(rgb.width,rgb.height);
+
+		if( BoofConcurrency.isUseConcurrent(ColorLab.class,"rgbToLabBand",output) ) {
+			ImplColorLab_MT.rgbToLabBand_U8(rgb, band, output);
+		} else {
+			ImplColorLab.rgbToLabBand_U8(rgb, band, output);
+		}
+	}
 }
@@ -183,6 +183,12 @@ public class ColorYuv {
 			} else {
 				ImplColorYuv.rgbToYuv_F32((Planar<GrayF32>) rgb, (Planar<GrayF32>) yuv);
 			}
+		} else if( rgb.getBandType() == GrayU8.class ) {
+			if( BoofConcurrency.isUseConcurrent(ColorYuv.class,"rgbToYuv",yuv) ) {
+				ImplColorYuv_MT.rgbToYCbCr_U8((Planar<GrayU8>) rgb, (Planar<GrayU8>) yuv);
+			} else {
+				ImplColorYuv.rgbToYCbCr_U8((Planar<GrayU8>) rgb, (Planar<GrayU8>) yuv);
+			}
 		} else {
 			throw new IllegalArgumentException("Unsupported band type "+rgb.getBandType().getSimpleName());
 		}
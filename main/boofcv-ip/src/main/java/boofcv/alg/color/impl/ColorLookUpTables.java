@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import static boofcv.alg.color.ColorLab.*;
+
+/**
+ * Look up tables used to convert 8-bit RGB images into other color spaces. Since there are only 256 possible
+ * values for each band, or 1021 for the sum of a 2x2 block, the expensive operations can be precomputed.
+ *
+ * @author Peter Abeles
+ */
+class ColorLookUpTables {
+	/**
+	 * Largest possible sum of a 2x2 block of 8-bit values
+	 */
+	static final int MAX_SUM4 = 4*255;
+
+	/**
+	 * Number of samples per unit in the table for the LAB function f(t)
+	 */
+	static final int LAB_SAMPLES = 1 << 16;
+
+	/**
+	 * LAB function f(t), which is a cube root above epsilon, sampled from 0 to 1. Two extra samples are
+	 * added to handle round off error when t = 1
+	 */
+	static final float[] labTable = new float[LAB_SAMPLES+2];
+
+	// Contribution of each RGB band to (X/Xr, Y/Yr, Z/Zr), which are interleaved. One set is for individual
+	// pixel values and the other for the sum of a 2x2 block
+	static final float[] labR = new float[256*3], labG = new float[256*3], labB = new float[256*3];
+	static final float[] labR4 = new float[(MAX_SUM4+1)*3], labG4 = new float[(MAX_SUM4+1)*3],
+			labB4 = new float[(MAX_SUM4+1)*3];
+
+	/**
+	 * Reciprocal of each possible value, 1/i. 1/0 is infinite so that 0*(1/0) = NaN, just like 0/0
+	 */
+	static final float[] inverse = new float[MAX_SUM4+1];
+
+	static {
+		for (int i = 0; i < labTable.length; i++) {
+			float t = i/(float)LAB_SAMPLES;
+			if( t > epsilon_f )
+				labTable[i] = (float)Math.pow(t, 1.0/3.0);
+			else
+				labTable[i] = (kappa_f*t + 16.0f)/116.0f;
+		}
+
+		computeXyzTable(labR, labR4, 0.412453f, 0.212671f, 0.019334f);
+		computeXyzTable(labG, labG4, 0.35758f, 0.71516f, 0.119193f);
+		computeXyzTable(labB, labB4, 0.180423f, 0.072169f, 0.950227f);
+
+		for (int i = 0; i < inverse.length; i++) {
+			inverse[i] = 1.0f/i;
+		}
+	}
+
+	private static void computeXyzTable( float[] table , float[] table4 , float x , float y , float z ) {
+		for (int i = 0; i < 256; i++) {
+			float v = i/255f;
+			table[i*3  ] = x*v/Xr_f;
+			table[i*3+1] = y*v/Yr_f;
+			table[i*3+2] = z*v/Zr_f;
+		}
+		for (int i = 0; i <= MAX_SUM4; i++) {
+			float v = i/(float)MAX_SUM4;
+			table4[i*3  ] = x*v/Xr_f;
+			table4[i*3+1] = y*v/Yr_f;
+			table4[i*3+2] = z*v/Zr_f;
+		}
+	}
+
+	/**
+	 * Computes the LAB function f(t) by linearly interpolating the look up table
+	 *
+	 * @param t value from 0 to 1
+	 */
+	static float labF( float t ) {
+		float s = t*LAB_SAMPLES;
+		int i = (int)s;
+		float a = labTable[i];
+		return a + (s-i)*(labTable[i+1]-a);
+	}
+}
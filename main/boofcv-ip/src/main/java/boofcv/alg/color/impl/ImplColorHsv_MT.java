@@ -20,10 +20,12 @@ package boofcv.alg.color.impl;
 
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.Planar;
 
 import static boofcv.alg.color.ColorHsv.PI2_F32;
 import static boofcv.alg.color.ColorHsv.d60_F32;
+import static boofcv.alg.color.impl.ColorLookUpTables.inverse;
 
 /**
  * @author Peter Abeles
@@ -91,6 +93,62 @@ public class ImplColorHsv_MT {
 		});
 	}
 
+	/**
+	 * Converts an HSV image into an 8-bit RGB image. V is expected to have a range of 0 to 255, as is
+	 * produced by {@link #rgbToHsv_U8}. The RGB values are rounded and clamped to 0 to 255.
+	 */
+	public static void hsvToRgb_U8(Planar<GrayF32> hsv , Planar<GrayU8> rgb ) {
+		GrayF32 H = hsv.getBand(0);
+		GrayF32 S = hsv.getBand(1);
+		GrayF32 V = hsv.getBand(2);
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		BoofConcurrency.loopFor(0,hsv.height,row->{
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int endRgb = indexRgb+hsv.width;
+
+			for( ; indexRgb < endRgb; indexHsv++ , indexRgb++) {
+				float h = H.data[indexHsv];
+				float s = S.data[indexHsv];
+				float v = V.data[indexHsv];
+
+				float r,g,b;
+				if( s == 0 ) {
+					r = g = b = v;
+				} else {
+					h /= d60_F32;
+					int h_int = (int)h;
+					float remainder = h - h_int;
+					float p = v * ( 1 - s );
+					float q = v * ( 1 - s * remainder );
+					float t = v * ( 1 - s * ( 1 - remainder ) );
+
+					if( h_int < 1 ) {
+						r = v; g = t; b = p;
+					} else if( h_int < 2 ) {
+						r = q; g = v; b = p;
+					} else if( h_int < 3 ) {
+						r = p; g = v; b = t;
+					} else if( h_int < 4 ) {
+						r = p; g = q; b = v;
+					} else if( h_int < 5 ) {
+						r = t; g = p; b = v;
+					} else {
+						r = v; g = p; b = q;
+					}
+				}
+
+				R.data[indexRgb] = toU8(r);
+				G.data[indexRgb] = toU8(g);
+				B.data[indexRgb] = toU8(b);
+			}
+		});
+	}
+
 	/**
 	 * Converts an image from RGB into HSV.  Pixels must have a value within the range of [0,1].
 	 *
@@ -148,4 +206,150 @@ public class ImplColorHsv_MT {
 			}
 		});
 	}
+
+	/**
+	 * Converts an 8-bit RGB image into HSV. Divisions are replaced by a look up table of reciprocals.
+	 * V will have a range of 0 to 255.
+	 */
+	public static void rgbToHsv_U8(Planar<GrayU8> rgb , Planar<GrayF32> hsv ) {
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayF32 H = hsv.getBand(0);
+		GrayF32 S = hsv.getBand(1);
+		GrayF32 V = hsv.getBand(2);
+
+		BoofConcurrency.loopFor(0,hsv.height,row->{
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int endRgb = indexRgb+hsv.width;
+
+			for( ; indexRgb < endRgb; indexHsv++ , indexRgb++) {
+				int r = R.data[indexRgb]&0xFF;
+				int g = G.data[indexRgb]&0xFF;
+				int b = B.data[indexRgb]&0xFF;
+
+				int max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				int min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+				V.data[indexHsv] = max;
+				S.data[indexHsv] = max == 0 ? 0 : (max-min)*inverse[max];
+				H.data[indexHsv] = hue(r,g,b,max,min);
+			}
+		});
+	}
+
+	/**
+	 * Converts an 8-bit RGB image into HSV while down sampling it by a factor of two. The RGB values in each
+	 * 2x2 block are averaged before being converted. If the width or height is odd then the last column or
+	 * row is averaged by itself. V will have a range of 0 to 255.
+	 */
+	public static void rgbToHsvDown2_U8(Planar<GrayU8> rgb , Planar<GrayF32> hsv ) {
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayF32 H = hsv.getBand(0);
+		GrayF32 S = hsv.getBand(1);
+		GrayF32 V = hsv.getBand(2);
+
+		BoofConcurrency.loopFor(0,hsv.height,row->{
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			// an odd row is sampled twice, which is the same as averaging it by itself
+			int index0 = rgb.startIndex + 2*row*rgb.stride;
+			int index1 = rgb.startIndex + Math.min(2*row+1,rgb.height-1)*rgb.stride;
+
+			for( int col = 0; col < hsv.width; col++ , indexHsv++ ) {
+				int x0 = 2*col;
+				int x1 = Math.min(x0+1,rgb.width-1);
+
+				// hue and saturation don't depend on scale so the sum can be used instead of the average
+				int r = (R.data[index0+x0]&0xFF) + (R.data[index0+x1]&0xFF) +
+						(R.data[index1+x0]&0xFF) + (R.data[index1+x1]&0xFF);
+				int g = (G.data[index0+x0]&0xFF) + (G.data[index0+x1]&0xFF) +
+						(G.data[index1+x0]&0xFF) + (G.data[index1+x1]&0xFF);
+				int b = (B.data[index0+x0]&0xFF) + (B.data[index0+x1]&0xFF) +
+						(B.data[index1+x0]&0xFF) + (B.data[index1+x1]&0xFF);
+
+				int max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				int min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+				V.data[indexHsv] = max*0.25f;
+				S.data[indexHsv] = max == 0 ? 0 : (max-min)*inverse[max];
+				H.data[indexHsv] = hue(r,g,b,max,min);
+			}
+		});
+	}
+
+	/**
+	 * Converts an 8-bit RGB image into a single HSV band.
+	 *
+	 * @param band 0 = H, 1 = S, 2 = V
+	 */
+	public static void rgbToHsvBand_U8(Planar<GrayU8> rgb , int band , GrayF32 output ) {
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		BoofConcurrency.loopFor(0,output.height,row->{
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexOut = output.startIndex + row*output.stride;
+			int endRgb = indexRgb+output.width;
+
+			for( ; indexRgb < endRgb; indexOut++ , indexRgb++) {
+				int r = R.data[indexRgb]&0xFF;
+				int g = G.data[indexRgb]&0xFF;
+				int b = B.data[indexRgb]&0xFF;
+
+				int max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+
+				if( band == 2 ) {
+					output.data[indexOut] = max;
+				} else {
+					int min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+					if( band == 1 )
+						output.data[indexOut] = max == 0 ? 0 : (max-min)*inverse[max];
+					else
+						output.data[indexOut] = hue(r,g,b,max,min);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the hue from integer RGB values. NaN is returned if the hue is undefined.
+	 */
+	static float hue( int r , int g , int b , int max , int min ) {
+		if( max == 0 )
+			return Float.NaN;
+
+		// if delta is zero then this computes 0*infinity = NaN, which is the same as 0/0 in the float version
+		float invDelta = inverse[max-min];
+		float h;
+		if( r == max )
+			h = ( g - b )*invDelta;
+		else if( g == max )
+			h = 2 + ( b - r )*invDelta;
+		else
+			h = 4 + ( r - g )*invDelta;
+
+		h *= d60_F32;
+		if( h < 0 )
+			h += PI2_F32;
+
+		return h;
+	}
+
+	/**
+	 * Rounds the value to the nearest integer and clamps it to the range of an 8-bit unsigned integer
+	 */
+	static byte toU8( float value ) {
+		int v = (int)(value + 0.5f);
+		if( v < 0 )
+			return 0;
+		else if( v > 255 )
+			return (byte)255;
+		return (byte)v;
+	}
 }
@@ -23,6 +23,7 @@ import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.Planar;
 
 import static boofcv.alg.color.ColorLab.*;
+import static boofcv.alg.color.impl.ColorLookUpTables.*;
 
 //CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
 
@@ -31,6 +32,9 @@ import static boofcv.alg.color.ColorLab.*;
  */
 @SuppressWarnings("Duplicates")
 public class ImplColorLab {
+	/**
+	 * Converts an 8-bit RGB image into LAB. Look up tables are used instead of evaluating cube roots.
+	 */
 	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
 		GrayU8 R = rgb.getBand(0);
 		GrayU8 G = rgb.getBand(1);
@@ -46,25 +50,57 @@ public class ImplColorLab {
 			int indexRgb = rgb.startIndex + row*rgb.stride;
 
 			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
+				int r = (R.data[indexRgb]&0xFF)*3;
+				int g = (G.data[indexRgb]&0xFF)*3;
+				int b = (B.data[indexRgb]&0xFF)*3;
 
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+				float fx = labF(labR[r  ] + labG[g  ] + labB[b  ]);
+				float fy = labF(labR[r+1] + labG[g+1] + labB[b+1]);
+				float fz = labF(labR[r+2] + labG[g+2] + labB[b+2]);
 
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
 
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
+	/**
+	 * Converts an 8-bit RGB image into LAB while down sampling it by a factor of two. The RGB values in each
+	 * 2x2 block are averaged before being converted. If the width or height is odd then the last column or
+	 * row is averaged by itself.
+	 */
+	public static void rgbToLabDown2_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,lab.height,row->{
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			// an odd row is sampled twice, which is the same as averaging it by itself
+			int index0 = rgb.startIndex + 2*row*rgb.stride;
+			int index1 = rgb.startIndex + Math.min(2*row+1,rgb.height-1)*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ ) {
+				int x0 = 2*col;
+				int x1 = Math.min(x0+1,rgb.width-1);
+
+				int r = ((R.data[index0+x0]&0xFF) + (R.data[index0+x1]&0xFF) +
+						(R.data[index1+x0]&0xFF) + (R.data[index1+x1]&0xFF))*3;
+				int g = ((G.data[index0+x0]&0xFF) + (G.data[index0+x1]&0xFF) +
+						(G.data[index1+x0]&0xFF) + (G.data[index1+x1]&0xFF))*3;
+				int b = ((B.data[index0+x0]&0xFF) + (B.data[index0+x1]&0xFF) +
+						(B.data[index1+x0]&0xFF) + (B.data[index1+x1]&0xFF))*3;
+
+				float fx = labF(labR4[r  ] + labG4[g  ] + labB4[b  ]);
+				float fy = labF(labR4[r+1] + labG4[g+1] + labB4[b+1]);
+				float fz = labF(labR4[r+2] + labG4[g+2] + labB4[b+2]);
 
 				L_.data[indexLab] = 116.0f*fy-16.0f;
 				A_.data[indexLab] = 500.0f*(fx-fy);
@@ -74,6 +110,41 @@ public class ImplColorLab {
 		//CONCURRENT_ABOVE });
 	}
 
+	/**
+	 * Converts an 8-bit RGB image into a single LAB band. Only the parts of the equation which are needed
+	 * by the band are computed.
+	 *
+	 * @param band 0 = L, 1 = A, 2 = B
+	 */
+	public static void rgbToLabBand_U8(Planar<GrayU8> rgb , int band , GrayF32 output ) {
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,output.height,row->{
+		for( int row = 0; row < output.height; row++ ) {
+			int indexOut = output.startIndex + row*output.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < output.width; col++ , indexOut++ , indexRgb++) {
+				int r = (R.data[indexRgb]&0xFF)*3;
+				int g = (G.data[indexRgb]&0xFF)*3;
+				int b = (B.data[indexRgb]&0xFF)*3;
+
+				float fy = labF(labR[r+1] + labG[g+1] + labB[b+1]);
+
+				if( band == 0 ) {
+					output.data[indexOut] = 116.0f*fy-16.0f;
+				} else if( band == 1 ) {
+					output.data[indexOut] = 500.0f*(labF(labR[r] + labG[g] + labB[b])-fy);
+				} else {
+					output.data[indexOut] = 200.0f*(fy-labF(labR[r+2] + labG[g+2] + labB[b+2]));
+				}
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
 	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab ) {
 		GrayF32 R = rgb.getBand(0);
 		GrayF32 G = rgb.getBand(1);
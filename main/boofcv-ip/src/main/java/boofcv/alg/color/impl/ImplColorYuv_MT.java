@@ -118,4 +118,31 @@ public class ImplColorYuv_MT {
 			}
 		});
 	}
+
+	public static void rgbToYCbCr_U8(Planar<GrayU8> rgb , Planar<GrayU8> yuv ) {
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayU8 Y = yuv.getBand(0);
+		GrayU8 U = yuv.getBand(1);
+		GrayU8 V = yuv.getBand(2);
+
+		BoofConcurrency.loopFor(0,yuv.height,row->{
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+				int r = R.data[indexRgb]&0xFF;
+				int g = G.data[indexRgb]&0xFF;
+				int b = B.data[indexRgb]&0xFF;
+
+				// multiply coefficients in book by 1024, which is 2^10
+				Y.data[indexYuv] = (byte)((( 187*r + 629*g + 63*b ) >> 10) + 16);
+				U.data[indexYuv] = (byte)(((-103*r - 346*g + 450*b) >> 10) + 128);
+				V.data[indexYuv] = (byte)((( 450*r - 409*g - 41*b ) >> 10) + 128);
+			}
+		});
+	}
 }
@@ -53,22 +53,8 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 	@Override
 	protected Number computeThreshold( GrayF32 subband )
 	{
-		// the maximum magnitude coefficient is used to normalize all the other coefficients
-		// and reduce numerical round-off error
-		float max = ImageStatistics.maxAbs(subband);
-		float varianceY = 0;
-		for( int y = 0; y < subband.height; y++ ) {
-			int index = subband.startIndex + subband.stride*y;
-			int end = index + subband.width;
-
-			for( ;index < end; index++ ) {
-				float v = subband.data[index]/max;
-				varianceY += v*v;
-			}
-		}
-		// undo normalization.
 		// these coefficients are modeled as being zero mean, so the variance can be computed this way
-		varianceY = (varianceY/(subband.width*subband.height))*max*max;
+		float varianceY = ImageStatistics.variance(subband,0);
 
 		// signal standard deviation
 		float inner = varianceY-noiseVariance;
@@ -18,6 +18,7 @@
 
 package boofcv.alg.denoise.wavelet;
 
+import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.struct.image.GrayF32;
 
 import java.util.Arrays;
@@ -45,8 +46,12 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<GrayF32> {
 
 	float noiseSigma;
 
+	public DenoiseSureShrink_F32( ShrinkThresholdRule<GrayF32> rule ) {
+		super(rule);
+	}
+
 	public DenoiseSureShrink_F32() {
-		super(new ShrinkThresholdSoft_F32());
+		this(new ShrinkThresholdSoft_F32());
 	}
 
 	@Override
@@ -39,7 +39,20 @@ import boofcv.struct.image.GrayF32;
  */
 public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 
-	ShrinkThresholdRule<GrayF32> rule = new ShrinkThresholdSoft_F32();
+	ShrinkThresholdRule<GrayF32> rule;
+
+	/**
+	 * Specifies the rule used to shrink the wavelet coefficients
+	 *
+	 * @param rule Shrinkage rule.
+	 */
+	public DenoiseVisuShrink_F32( ShrinkThresholdRule<GrayF32> rule ) {
+		this.rule = rule;
+	}
+
+	public DenoiseVisuShrink_F32() {
+		this(new ShrinkThresholdSoft_F32());
+	}
 
 	/**
 	 * Applies VisuShrink denoising to the provided multilevel wavelet transform using
@@ -22,6 +22,7 @@ import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.GrayF32;
 
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
 
 /**
  * <p>
@@ -42,6 +43,7 @@ public class ShrinkThresholdHard_F32 implements ShrinkThresholdRule<GrayF32> {
 			return;
 		}
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, y -> {
 		for( int y = 0; y < image.height; y++ ) {
 			int index = image.startIndex + y*image.stride;
 		    int end = index + image.width;
@@ -53,5 +55,6 @@ public class ShrinkThresholdHard_F32 implements ShrinkThresholdRule<GrayF32> {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 }
@@ -28,6 +28,20 @@ public interface AssignPixelValue_SB <T extends ImageGray<T>> {
 
 	void assign( int indexDst , float value );
 
+	/**
+	 * Assigns the values to consecutive pixels in the image starting at indexDst
+	 *
+	 * @param indexDst Index of the first pixel in the image's data array
+	 * @param values Array containing the values
+	 * @param offset Index of the first value in values
+	 * @param length Number of pixels which are assigned
+	 */
+	default void assign( int indexDst , float[] values , int offset , int length ) {
+		for (int i = 0; i < length; i++) {
+			assign(indexDst+i, values[offset+i]);
+		}
+	}
+
 	class F32 implements AssignPixelValue_SB<GrayF32> {
 
 		GrayF32 image;
@@ -41,6 +55,14 @@ public interface AssignPixelValue_SB <T extends ImageGray<T>> {
 		public void assign(int indexDst, float value) {
 			this.image.data[indexDst] = value;
 		}
+
+		@Override
+		public void assign(int indexDst, float[] values, int offset, int length) {
+			final float[] data = this.image.data;
+			for (int i = 0; i < length; i++) {
+				data[indexDst+i] = values[offset+i];
+			}
+		}
 	}
 
 	class I8 <T extends GrayI8<T>> implements AssignPixelValue_SB<T> {
@@ -56,6 +78,14 @@ public interface AssignPixelValue_SB <T extends ImageGray<T>> {
 		public void assign(int indexDst, float value) {
 			this.image.data[indexDst] = (byte)value;
 		}
+
+		@Override
+		public void assign(int indexDst, float[] values, int offset, int length) {
+			final byte[] data = this.image.data;
+			for (int i = 0; i < length; i++) {
+				data[indexDst+i] = (byte)values[offset+i];
+			}
+		}
 	}
 
 	class I16 <T extends GrayI16<T>> implements AssignPixelValue_SB<T> {
@@ -71,6 +101,14 @@ public interface AssignPixelValue_SB <T extends ImageGray<T>> {
 		public void assign(int indexDst, float value) {
 			this.image.data[indexDst] = (short)value;
 		}
+
+		@Override
+		public void assign(int indexDst, float[] values, int offset, int length) {
+			final short[] data = this.image.data;
+			for (int i = 0; i < length; i++) {
+				data[indexDst+i] = (short)values[offset+i];
+			}
+		}
 	}
 
 	class S32 implements AssignPixelValue_SB<GrayS32> {
@@ -86,5 +124,13 @@ public interface AssignPixelValue_SB <T extends ImageGray<T>> {
 		public void assign(int indexDst, float value) {
 			this.image.data[indexDst] = (int)value;
 		}
+
+		@Override
+		public void assign(int indexDst, float[] values, int offset, int length) {
+			final int[] data = this.image.data;
+			for (int i = 0; i < length; i++) {
+				data[indexDst+i] = (int)values[offset+i];
+			}
+		}
 	}
 }
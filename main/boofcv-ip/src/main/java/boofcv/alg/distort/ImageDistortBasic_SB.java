@@ -26,6 +26,8 @@ import georegression.struct.point.Point2D_F32;
 /**
  * Most basic implementation of {@link ImageDistort} for {@link ImageGray}. Computes the distortion from the
  * dst to src image for each pixel.  The dst pixel value is then set to the interpolated value of the src image.
+ * Pixels are processed one row at a time so that interpolation and assignment can be done in a single call
+ * for the entire row.
  *
  * @author Peter Abeles
  */
@@ -35,6 +37,13 @@ public class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output extends
 	protected AssignPixelValue_SB<Output> assigner;
 	Point2D_F32 distorted = new Point2D_F32();
 
+	// distorted coordinates of pixels in a row. (x,y) interleaved
+	protected float[] points = new float[0];
+	// interpolated values of pixels in a row
+	protected float[] values = new float[0];
+	// x-coordinate of pixels inside the source image, relative to x0
+	protected int[] inside = new int[0];
+
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -51,19 +60,26 @@ public class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output extends
 	protected void init(Input srcImg, Output dstImg) {
 		super.init(srcImg, dstImg);
 		assigner.setImage(dstImg);
+		if( values.length < dstImg.width ) {
+			points = new float[dstImg.width*2];
+			values = new float[dstImg.width];
+			inside = new int[dstImg.width];
+		}
 	}
 
 	@Override
 	protected void applyAll() {
-
-		// todo TO make this faster first apply inside the region which can process the fast border
-		// then do the slower border thingy
+		final int length = x1-x0;
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
+			int index = 0;
+			for( int x = x0; x < x1; x++ ) {
 				dstToSrc.compute(x,y,distorted);
-				assigner.assign(indexDst,interp.get(distorted.x,distorted.y));
+				points[index++] = distorted.x;
+				points[index++] = distorted.y;
 			}
+			interp.get(points,0,values,0,length);
+			assigner.assign(indexDst,values,0,length);
 		}
 	}
 
@@ -72,15 +88,16 @@ public class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output extends
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
-		// todo TO make this faster first apply inside the region which can process the fast border
-		// then do the slower border thingy
+		final int length = x1-x0;
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 			int indexMsk = mask.startIndex + mask.stride*y + x0;
 
-			for( int x = x0; x < x1; x++ , indexDst++, indexMsk++ ) {
+			int index = 0;
+			for( int x = x0; x < x1; x++ , indexMsk++ ) {
 				dstToSrc.compute(x,y,distorted);
-				assigner.assign(indexDst,interp.get(distorted.x,distorted.y));
+				points[index++] = distorted.x;
+				points[index++] = distorted.y;
 				if( distorted.x >= 0 && distorted.x <= maxWidth &&
 						distorted.y >= 0 && distorted.y <= maxHeight ) {
 					mask.data[indexMsk] = 1;
@@ -88,6 +105,8 @@ public class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output extends
 					mask.data[indexMsk] = 0;
 				}
 			}
+			interp.get(points,0,values,0,length);
+			assigner.assign(indexDst,values,0,length);
 		}
 	}
 
@@ -99,14 +118,23 @@ public class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output extends
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
+
+			// only interpolate pixels which are inside the source image
+			int total = 0;
+			for( int x = x0; x < x1; x++ ) {
 				dstToSrc.compute(x,y,distorted);
 
 				if( distorted.x >= 0 && distorted.x <= maxWidth &&
 						distorted.y >= 0 && distorted.y <= maxHeight ) {
-					assigner.assign(indexDst,interp.get(distorted.x, distorted.y));
+					points[total*2] = distorted.x;
+					points[total*2+1] = distorted.y;
+					inside[total++] = x-x0;
 				}
 			}
+			interp.get(points,0,values,0,total);
+			for (int i = 0; i < total; i++) {
+				assigner.assign(indexDst+inside[i],values[i]);
+			}
 		}
 	}
 
@@ -120,17 +148,25 @@ public class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output extends
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 			int indexMsk = mask.startIndex + mask.stride*y + x0;
 
-			for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
+			// only interpolate pixels which are inside the source image
+			int total = 0;
+			for( int x = x0; x < x1; x++ , indexMsk++ ) {
 				dstToSrc.compute(x,y,distorted);
 
 				if( distorted.x >= 0 && distorted.x <= maxWidth &&
 						distorted.y >= 0 && distorted.y <= maxHeight ) {
-					assigner.assign(indexDst,interp.get(distorted.x, distorted.y));
+					points[total*2] = distorted.x;
+					points[total*2+1] = distorted.y;
+					inside[total++] = x-x0;
 					mask.data[indexMsk] = 1;
 				} else {
 					mask.data[indexMsk] = 0;
 				}
 			}
+			interp.get(points,0,values,0,total);
+			for (int i = 0; i < total; i++) {
+				assigner.assign(indexDst+inside[i],values[i]);
+			}
 		}
 	}
 }
@@ -114,19 +114,36 @@ public class ImageDistortBasic_SB_MT<Input extends ImageGray<Input>,Output exten
 		PixelTransform<Point2D_F32> dstToSrc;
 		InterpolatePixelS<Input> interp = ImageDistortBasic_SB_MT.this.interp.copy();
 
+		// distorted coordinates of pixels in a row. (x,y) interleaved
+		float[] points = new float[0];
+		// interpolated values of pixels in a row
+		float[] values = new float[0];
+		// x-coordinate of pixels inside the source image, relative to x0
+		int[] inside = new int[0];
+
 		public void init() {
 			this.dstToSrc = ImageDistortBasic_SB_MT.this.dstToSrc.copyConcurrent();
 			interp.setImage(srcImg);
+			if( values.length < dstImg.width ) {
+				points = new float[dstImg.width*2];
+				values = new float[dstImg.width];
+				inside = new int[dstImg.width];
+			}
 		}
 
 		void applyAll( int y0 , int y1 ) {
 			init();
+			final int length = x1-x0;
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-				for( int x = x0; x < x1; x++ , indexDst++ ) {
+				int index = 0;
+				for( int x = x0; x < x1; x++ ) {
 					dstToSrc.compute(x,y,distorted);
-					assigner.assign(indexDst,interp.get(distorted.x,distorted.y));
+					points[index++] = distorted.x;
+					points[index++] = distorted.y;
 				}
+				interp.get(points,0,values,0,length);
+				assigner.assign(indexDst,values,0,length);
 			}
 		}
 
@@ -135,15 +152,16 @@ public class ImageDistortBasic_SB_MT<Input extends ImageGray<Input>,Output exten
 			float maxWidth = srcImg.getWidth()-1;
 			float maxHeight = srcImg.getHeight()-1;
 
-			// todo TO make this faster first apply inside the region which can process the fast border
-			// then do the slower border thingy
+			final int length = x1-x0;
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 				int indexMsk = mask.startIndex + mask.stride*y + x0;
 
-				for( int x = x0; x < x1; x++ , indexDst++, indexMsk++ ) {
+				int index = 0;
+				for( int x = x0; x < x1; x++ , indexMsk++ ) {
 					dstToSrc.compute(x,y,distorted);
-					assigner.assign(indexDst,interp.get(distorted.x,distorted.y));
+					points[index++] = distorted.x;
+					points[index++] = distorted.y;
 					if( distorted.x >= 0 && distorted.x <= maxWidth &&
 							distorted.y >= 0 && distorted.y <= maxHeight ) {
 						mask.data[indexMsk] = 1;
@@ -151,6 +169,8 @@ public class ImageDistortBasic_SB_MT<Input extends ImageGray<Input>,Output exten
 						mask.data[indexMsk] = 0;
 					}
 				}
+				interp.get(points,0,values,0,length);
+				assigner.assign(indexDst,values,0,length);
 			}
 		}
 
@@ -162,14 +182,22 @@ public class ImageDistortBasic_SB_MT<Input extends ImageGray<Input>,Output exten
 
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-				for( int x = x0; x < x1; x++ , indexDst++ ) {
+
+				int total = 0;
+				for( int x = x0; x < x1; x++ ) {
 					dstToSrc.compute(x,y,distorted);
 
 					if( distorted.x >= 0 && distorted.x <= maxWidth &&
 							distorted.y >= 0 && distorted.y <= maxHeight ) {
-						assigner.assign(indexDst,interp.get(distorted.x, distorted.y));
+						points[total*2] = distorted.x;
+						points[total*2+1] = distorted.y;
+						inside[total++] = x-x0;
 					}
 				}
+				interp.get(points,0,values,0,total);
+				for (int i = 0; i < total; i++) {
+					assigner.assign(indexDst+inside[i],values[i]);
+				}
 			}
 		}
 
@@ -182,17 +210,24 @@ public class ImageDistortBasic_SB_MT<Input extends ImageGray<Input>,Output exten
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 				int indexMsk = mask.startIndex + mask.stride*y + x0;
 
-				for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
+				int total = 0;
+				for( int x = x0; x < x1; x++ , indexMsk++ ) {
 					dstToSrc.compute(x,y,distorted);
 
 					if( distorted.x >= 0 && distorted.x <= maxWidth &&
 							distorted.y >= 0 && distorted.y <= maxHeight ) {
-						assigner.assign(indexDst,interp.get(distorted.x, distorted.y));
+						points[total*2] = distorted.x;
+						points[total*2+1] = distorted.y;
+						inside[total++] = x-x0;
 						mask.data[indexMsk] = 1;
 					} else {
 						mask.data[indexMsk] = 0;
 					}
 				}
+				interp.get(points,0,values,0,total);
+				for (int i = 0; i < total; i++) {
+					assigner.assign(indexDst+inside[i],values[i]);
+				}
 			}
 		}
 	}
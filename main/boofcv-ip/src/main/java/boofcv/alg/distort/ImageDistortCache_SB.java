@@ -29,6 +29,9 @@ import georegression.struct.point.Point2D_F32;
  * To overcome this problem the distortion is computed once and cached.  Then when the image is distorted
  * again the save results are simply recalled and not computed again.
  *
+ * The cache is stored in a single float array with the (x,y) source coordinate of each output pixel interleaved,
+ * i.e. pixel (x,y) is at index 2*(y*width+x). This uses 8 bytes per pixel instead of an object per pixel.
+ *
  * @author Peter Abeles
  */
 public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends ImageGray<Output>>
@@ -38,7 +41,8 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 
 	// size of output image
 	protected int width=-1,height=-1;
-	protected Point2D_F32 map[];
+	// source pixel coordinate of each output pixel. (x,y) interleaved
+	protected float[] map = new float[0];
 	// sub pixel interpolation
 	protected InterpolatePixelS<Input> interp;
 
@@ -55,6 +59,9 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 
 	protected boolean dirty;
 
+	// interpolated values of pixels in a row
+	protected float[] values = new float[0];
+
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -110,40 +117,46 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 
 	protected void init(Input srcImg, Output dstImg) {
 		if( dirty || width != dstImg.width || height != dstImg.height) {
-			width = dstImg.width;
-			height = dstImg.height;
-			map = new Point2D_F32[width*height];
-			for( int i = 0; i < map.length; i++ ) {
-				map[i] = new Point2D_F32();
-			}
+			declareMap(dstImg.width,dstImg.height);
 
+			Point2D_F32 p = new Point2D_F32();
 			int index = 0;
 			for( int y = 0; y < height; y++ ) {
 				for( int x = 0; x < width; x++ ) {
-					dstToSrc.compute(x,y,map[index++]);
+					dstToSrc.compute(x,y,p);
+					map[index++] = p.x;
+					map[index++] = p.y;
 				}
 			}
 			dirty = false;
-		} else if( dstImg.width != width || dstImg.height != height )
-			throw new IllegalArgumentException("Unexpected dstImg dimension");
+		}
 
 		this.srcImg = srcImg;
 		this.dstImg = dstImg;
 		interp.setImage(srcImg);
 		assigner.setImage(dstImg);
+		if( values.length < dstImg.width )
+			values = new float[dstImg.width];
 	}
 
-	protected void renderAll() {
+	/**
+	 * Resizes the map for the specified image shape. The array is only declared again if its size changes
+	 */
+	protected void declareMap( int width , int height ) {
+		this.width = width;
+		this.height = height;
+		if( map.length != width*height*2 )
+			map = new float[width*height*2];
+	}
 
-		// todo TO make this faster first apply inside the region which can process the fast border
-		// then do the slower border thingy
+	protected void renderAll() {
+		final int length = x1-x0;
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+			int indexMap = (y*width + x0)*2;
 
-				assigner.assign(indexDst,interp.get(s.x, s.y));
-			}
+			interp.get(map,indexMap,values,0,length);
+			assigner.assign(indexDst,values,0,length);
 		}
 	}
 
@@ -151,15 +164,20 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
+		final int length = x1-x0;
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 			int indexMsk = mask.startIndex + mask.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 
-			for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
-				Point2D_F32 s = map[indexDst];
+			interp.get(map,indexMap,values,0,length);
+			assigner.assign(indexDst,values,0,length);
 
-				assigner.assign(indexDst,interp.get(s.x, s.y));
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
+			for( int x = x0; x < x1; x++ , indexMsk++ ) {
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
+
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
 					mask.data[indexMsk] = 1;
 				} else {
 					mask.data[indexMsk] = 0;
@@ -174,11 +192,13 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-					assigner.assign(indexDst,interp.get(s.x, s.y));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					assigner.assign(indexDst,interp.get(sx, sy));
 				}
 			}
 		}
@@ -191,12 +211,14 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 			int indexMsk = mask.startIndex + mask.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 
 			for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-					assigner.assign(indexDst,interp.get(s.x, s.y));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					assigner.assign(indexDst,interp.get(sx, sy));
 					mask.data[indexMsk] = 1;
 				} else {
 					mask.data[indexMsk] = 0;
@@ -205,7 +227,10 @@ public class ImageDistortCache_SB<Input extends ImageGray<Input>,Output extends
 		}
 	}
 
-	public Point2D_F32[] getMap() {
+	/**
+	 * Returns the cached source pixel for each output pixel. (x,y) interleaved.
+	 */
+	public float[] getMap() {
 		return map;
 	}
 
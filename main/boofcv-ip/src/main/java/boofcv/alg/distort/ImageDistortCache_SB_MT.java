@@ -30,7 +30,8 @@ import java.util.Stack;
 /**
  * Except for very simple functions, computing the per pixel distortion is an expensive operation.
  * To overcome this problem the distortion is computed once and cached.  Then when the image is distorted
- * again the save results are simply recalled and not computed again.
+ * again the save results are simply recalled and not computed again. Concurrent implementation of
+ * {@link ImageDistortCache_SB}.
  *
  * @author Peter Abeles
  */
@@ -68,25 +69,22 @@ public class ImageDistortCache_SB_MT<Input extends ImageGray<Input>,Output exten
 	@Override
 	protected void init(Input srcImg, Output dstImg) {
 		if( dirty || width != dstImg.width || height != dstImg.height) {
-			width = dstImg.width;
-			height = dstImg.height;
-			map = new Point2D_F32[width*height];
-			for( int i = 0; i < map.length; i++ ) {
-				map[i] = new Point2D_F32();
-			}
+			declareMap(dstImg.width,dstImg.height);
 
 			BoofConcurrency.loopBlocks(0,height,(y0, y1)->{
 				PixelTransform<Point2D_F32> dstToSrc = this.dstToSrc.copyConcurrent();
+				Point2D_F32 p = new Point2D_F32();
 				for( int y = y0; y < y1; y++ ) {
-					int index = y*width;
+					int index = y*width*2;
 					for( int x = 0; x < width; x++ ) {
-						dstToSrc.compute(x,y,map[index++]);
+						dstToSrc.compute(x,y,p);
+						map[index++] = p.x;
+						map[index++] = p.y;
 					}
 				}
 			});
 			dirty = false;
-		} else if( dstImg.width != width || dstImg.height != height )
-			throw new IllegalArgumentException("Unexpected dstImg dimension");
+		}
 
 		this.srcImg = srcImg;
 		this.dstImg = dstImg;
@@ -133,20 +131,24 @@ public class ImageDistortCache_SB_MT<Input extends ImageGray<Input>,Output exten
 
 	private class BlockDistort {
 		InterpolatePixelS<Input> interp = ImageDistortCache_SB_MT.this.interp.copy();
+		// interpolated values of pixels in a row
+		float[] values = new float[0];
 
 		public void init() {
 			interp.setImage(srcImg);
+			if( values.length < dstImg.width )
+				values = new float[dstImg.width];
 		}
 
 		void applyAll( int y0 , int y1 ) {
 			init();
+			final int length = x1-x0;
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-				for( int x = x0; x < x1; x++ , indexDst++ ) {
-					Point2D_F32 s = map[indexDst];
+				int indexMap = (y*width + x0)*2;
 
-					assigner.assign(indexDst,interp.get(s.x, s.y));
-				}
+				interp.get(map,indexMap,values,0,length);
+				assigner.assign(indexDst,values,0,length);
 			}
 		}
 
@@ -155,15 +157,20 @@ public class ImageDistortCache_SB_MT<Input extends ImageGray<Input>,Output exten
 			float maxWidth = srcImg.getWidth()-1;
 			float maxHeight = srcImg.getHeight()-1;
 
+			final int length = x1-x0;
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 				int indexMsk = mask.startIndex + mask.stride*y + x0;
+				int indexMap = (y*width + x0)*2;
 
-				for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
-					Point2D_F32 s = map[indexDst];
+				interp.get(map,indexMap,values,0,length);
+				assigner.assign(indexDst,values,0,length);
+
+				for( int x = x0; x < x1; x++ , indexMsk++ ) {
+					float sx = map[indexMap++];
+					float sy = map[indexMap++];
 
-					assigner.assign(indexDst,interp.get(s.x, s.y));
-					if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
+					if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
 						mask.data[indexMsk] = 1;
 					} else {
 						mask.data[indexMsk] = 0;
@@ -180,11 +187,13 @@ public class ImageDistortCache_SB_MT<Input extends ImageGray<Input>,Output exten
 
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+				int indexMap = (y*width + x0)*2;
 				for( int x = x0; x < x1; x++ , indexDst++ ) {
-					Point2D_F32 s = map[indexDst];
+					float sx = map[indexMap++];
+					float sy = map[indexMap++];
 
-					if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-						assigner.assign(indexDst,interp.get(s.x, s.y));
+					if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+						assigner.assign(indexDst,interp.get(sx, sy));
 					}
 				}
 			}
@@ -199,12 +208,14 @@ public class ImageDistortCache_SB_MT<Input extends ImageGray<Input>,Output exten
 			for( int y = y0; y < y1; y++ ) {
 				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 				int indexMsk = mask.startIndex + mask.stride*y + x0;
+				int indexMap = (y*width + x0)*2;
 
 				for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
-					Point2D_F32 s = map[indexDst];
+					float sx = map[indexMap++];
+					float sy = map[indexMap++];
 
-					if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-						assigner.assign(indexDst,interp.get(s.x, s.y));
+					if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+						assigner.assign(indexDst,interp.get(sx, sy));
 						mask.data[indexMsk] = 1;
 					} else {
 						mask.data[indexMsk] = 0;
@@ -25,13 +25,15 @@ import org.ejml.UtilEjml;
 
 /**
  * Precomputes transformations for each pixel in the image.  Doesn't check bounds and will give an incorrect result
- * or crash if outside pixels are requested.
+ * or crash if outside pixels are requested. The transform is saved in a single float array with (x,y) interleaved,
+ * which is much more compact than an object for each pixel.
  *
  * @author Peter Abeles
  */
 public class PixelTransformCached_F32 implements PixelTransform<Point2D_F32> {
 
-	Point2D_F32 map[];
+	// transformed pixel coordinate of each pixel. (x,y) interleaved
+	float[] map;
 	int width,height;
 
 	boolean ignoreNaN = true;
@@ -44,11 +46,11 @@ public class PixelTransformCached_F32 implements PixelTransform<Point2D_F32> {
 		this.width = width+1; // add one to the width since some stuff checks the outside border
 		this.height = height+1;
 
-		map = new Point2D_F32[this.width*this.height];
+		map = new float[this.width*this.height*2];
+		Point2D_F32 p = new Point2D_F32();
 		int index = 0;
 		for (int y = 0; y < this.height; y++) {
 			for (int x = 0; x < this.width; x++) {
-				Point2D_F32 p = new Point2D_F32();
 				transform.compute(x,y,p);
 
 				// It's not obvious what to do if the pixel is invalid
@@ -57,16 +59,63 @@ public class PixelTransformCached_F32 implements PixelTransform<Point2D_F32> {
 				if( !ignoreNaN && (UtilEjml.isUncountable(p.x) || UtilEjml.isUncountable(p.y)) ) {
 					p.set(-1,-1);
 				}
-				map[index++] = p;
+				map[index++] = p.x;
+				map[index++] = p.y;
 			}
 		}
 	}
 
+	/**
+	 * Declares storage for the transform but doesn't compute it. The map must be filled in using
+	 * {@link #setPixel} or by writing to {@link #getMap()} directly.
+	 */
+	public PixelTransformCached_F32(int width, int height ) {
+		this.width = width+1;
+		this.height = height+1;
+		map = new float[this.width*this.height*2];
+	}
+
 	PixelTransformCached_F32() {
 	}
 
+	/**
+	 * Returns a copy of the transformed pixel
+	 */
 	public Point2D_F32 getPixel( int x, int y ) {
-		return map[width*y + x];
+		Point2D_F32 p = new Point2D_F32();
+		compute(x,y,p);
+		return p;
+	}
+
+	/**
+	 * Changes the transformed value of a pixel
+	 */
+	public void setPixel( int x , int y , float transformedX , float transformedY ) {
+		int index = (y*width+x)*2;
+		map[index] = transformedX;
+		map[index+1] = transformedY;
+	}
+
+	/**
+	 * Array containing the transform for each pixel with (x,y) interleaved. Each row has {@link #getMapWidth()}
+	 * pixels in it.
+	 */
+	public float[] getMap() {
+		return map;
+	}
+
+	/**
+	 * Width of the map. One larger than the image's width.
+	 */
+	public int getMapWidth() {
+		return width;
+	}
+
+	/**
+	 * Height of the map. One larger than the image's height.
+	 */
+	public int getMapHeight() {
+		return height;
 	}
 
 	public boolean isIgnoreNaN() {
@@ -82,17 +131,18 @@ public class PixelTransformCached_F32 implements PixelTransform<Point2D_F32> {
 //		if( x < 0 || y < 0 || x >= width || y >= height )
 //			throw new IllegalArgumentException("Out of bounds");
 
-		output.set(map[y*width+x]);
+		int index = (y*width+x)*2;
+		output.x = map[index];
+		output.y = map[index+1];
 	}
 
+	/**
+	 * The map is only read by {@link #compute} so it's shared with the copy instead of being duplicated
+	 */
 	@Override
 	public PixelTransform<Point2D_F32> copyConcurrent() {
 		PixelTransformCached_F32 ret = new PixelTransformCached_F32();
-		ret.map = new Point2D_F32[this.map.length];
-		for (int i = 0; i < ret.map.length; i++) {
-			ret.map[i] = this.map[i].copy();
-		}
-
+		ret.map = this.map;
 		ret.width = this.width;
 		ret.height = this.height;
 		ret.ignoreNaN = this.ignoreNaN;
@@ -18,10 +18,13 @@
 
 package boofcv.alg.distort.mls;
 
+import boofcv.alg.distort.PixelTransformCached_F32;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.distort.Point2Transform2_F32;
 import georegression.struct.point.Point2D_F32;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
 import org.ejml.data.FMatrix2x2;
 
 /**
@@ -36,6 +39,11 @@ import org.ejml.data.FMatrix2x2;
  *     <li>Invoke {@link #fixateDistorted()} after you are done changing distorted locations</li>
  * </ol>
  *
+ * <p>If only a few control points have moved since the last time the distorted locations were fixated, then
+ * {@link #updateDistorted()} can be used instead of {@link #fixateDistorted()}. It only adds the change caused
+ * by control points which moved. To warp an image at the speed of a lookup table
+ * use {@link #exportRemap(PixelTransformCached_F32)} to compute the deformation of every pixel.</p>
+ *
  * <p>Each control point has an undistorted and distorted location.  The fixate functions are used to precompute
  * different portions of the deformation to maximize speed by avoiding duplicate computations. Instead of computing
  * a distortion for each pixel a regular grid is used instead.  Pixel points are interpolated between grid points
@@ -80,6 +88,16 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 	// Pixel distortion model
 	Model model;
 
+	// true if the deformation of the grid has been computed for the current undistorted control points
+	boolean fixatedDistorted = false;
+	// number of incremental updates since the deformation was last computed from scratch
+	int totalIncremental;
+	// maximum number of incremental updates before the deformation is computed from scratch again. This
+	// keeps floating point errors from accumulating
+	int maxIncremental = 50;
+	// indexes of control points which have moved since the deformation was last updated
+	GrowQueue_I32 moved = new GrowQueue_I32();
+
 	public ImageDeformPointMLS_F32( TypeDeformMLS type ) {
 		switch( type ) {
 			case AFFINE: model = new AffineModel(); break;
@@ -97,6 +115,7 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 	 */
 	public void reset() {
 		controls.reset();
+		fixatedDistorted = false;
 	}
 
 	/**
@@ -139,6 +158,7 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 	public int addControl( float x , float y ) {
 		Control c = controls.grow();
 		c.q.set(x,y);
+		c.fixatedQ.set(x,y);
 		setUndistorted(controls.size()-1,x,y);
 		return controls.size()-1;
 	}
@@ -153,6 +173,7 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 			throw new IllegalArgumentException("Must call configure first");
 
 		controls.get(which).p.set(x/scaleX,y/scaleY);
+		fixatedDistorted = false;
 	}
 
 	/**
@@ -187,21 +208,30 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 	public void fixateUndistorted() {
 		if( controls.size() < 2 )
 			throw new RuntimeException("Not enough control points specified.  Found "+controls.size());
-		for (int row = 0; row < gridRows; row++) {
-			for (int col = 0; col < gridCols; col++) {
-				Cache cache = getGrid(row,col);
-				cache.weights.resize(controls.size);
-				cache.A.resize(controls.size);
-				cache.A_s.resize(controls.size());
-
-				float v_x = col;
-				float v_y = row;
-
-				computeWeights(cache, v_x, v_y);
-				computeAverageP(cache);
-				model.computeCache(cache, v_x, v_y);
+		if( BoofConcurrency.isUseConcurrent(ImageDeformPointMLS_F32.class,"fixateUndistorted",gridRows*gridCols) ) {
+			BoofConcurrency.loopFor(0,gridRows,this::fixateUndistortedRow);
+		} else {
+			for (int row = 0; row < gridRows; row++) {
+				fixateUndistortedRow(row);
 			}
 		}
+		fixatedDistorted = false;
+	}
+
+	void fixateUndistortedRow( int row ) {
+		for (int col = 0; col < gridCols; col++) {
+			Cache cache = getGrid(row,col);
+			cache.weights.resize(controls.size);
+			cache.A.resize(controls.size);
+			cache.A_s.resize(controls.size());
+
+			float v_x = col;
+			float v_y = row;
+
+			computeWeights(cache, v_x, v_y);
+			computeAverageP(cache);
+			model.computeCache(cache, v_x, v_y);
+		}
 	}
 
 	/**
@@ -209,15 +239,141 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 	 * not changing any more.  Must call {@link #fixateUndistorted()} first.
 	 */
 	public void fixateDistorted() {
-		for (int row = 0; row < gridRows; row++) {
-			for (int col = 0; col < gridCols; col++) {
-				Cache cache = getGrid(row,col);
-				computeAverageQ( cache );
-				model.computeDeformed( cache , col, row );
+		if( BoofConcurrency.isUseConcurrent(ImageDeformPointMLS_F32.class,"fixateDistorted",gridRows*gridCols) ) {
+			BoofConcurrency.loopFor(0,gridRows,this::fixateDistortedRow);
+		} else {
+			for (int row = 0; row < gridRows; row++) {
+				fixateDistortedRow(row);
+			}
+		}
+
+		for (int i = 0; i < controls.size; i++) {
+			Control c = controls.get(i);
+			c.fixatedQ.set(c.q);
+		}
+		fixatedDistorted = true;
+		totalIncremental = 0;
+	}
+
+	void fixateDistortedRow( int row ) {
+		for (int col = 0; col < gridCols; col++) {
+			Cache cache = getGrid(row,col);
+			computeAverageQ( cache );
+			model.computeDeformed( cache , col, row );
+		}
+	}
+
+	/**
+	 * Updates the deformation of each point in the internal grid using only the control points whose distorted
+	 * location has changed since the deformation was last computed. The deformation is linear in the distorted
+	 * control points, so the cost is proportional to the number of points which moved instead of the total
+	 * number of points. If the deformation has not been computed yet or many points have moved then
+	 * {@link #fixateDistorted()} is called instead.
+	 */
+	public void updateDistorted() {
+		if( !fixatedDistorted || totalIncremental >= maxIncremental ) {
+			fixateDistorted();
+			return;
+		}
+
+		moved.reset();
+		for (int i = 0; i < controls.size; i++) {
+			Control c = controls.get(i);
+			if( c.q.x != c.fixatedQ.x || c.q.y != c.fixatedQ.y )
+				moved.add(i);
+		}
+		if( moved.size == 0 )
+			return;
+		if( moved.size*2 > controls.size ) {
+			fixateDistorted();
+			return;
+		}
+
+		if( BoofConcurrency.isUseConcurrent(ImageDeformPointMLS_F32.class,"updateDistorted",gridRows*gridCols) ) {
+			BoofConcurrency.loopFor(0,gridRows,this::updateDistortedRow);
+		} else {
+			for (int row = 0; row < gridRows; row++) {
+				updateDistortedRow(row);
+			}
+		}
+
+		for (int i = 0; i < moved.size; i++) {
+			Control c = controls.get(moved.get(i));
+			c.fixatedQ.set(c.q);
+		}
+		totalIncremental++;
+	}
+
+	void updateDistortedRow( int row ) {
+		for (int col = 0; col < gridCols; col++) {
+			Cache cache = getGrid(row,col);
+			for (int i = 0; i < moved.size; i++) {
+				int which = moved.get(i);
+				Control c = controls.get(which);
+				float dx = c.q.x - c.fixatedQ.x;
+				float dy = c.q.y - c.fixatedQ.y;
+
+				// the average is a weighted sum of the distorted control points
+				float w = cache.weights.data[which]/cache.totalWeight;
+				cache.aveQ.x += w*dx;
+				cache.aveQ.y += w*dy;
+
+				model.updateDeformed(cache, col, row, which, dx, dy);
+			}
+		}
+	}
+
+	/**
+	 * Computes the deformation of every pixel and saves it in the compact representation used by
+	 * {@link boofcv.alg.distort.ImageDistort}. This is faster than computing the deformation one pixel at
+	 * a time and warping an image with the output only requires a lookup for each pixel. The output is
+	 * the same as calling {@link #compute} for every pixel.
+	 *
+	 * @param remap (Output) Deformation of every pixel. Its shape should match the image's shape.
+	 */
+	public void exportRemap( PixelTransformCached_F32 remap ) {
+		float[] map = remap.getMap();
+		int width = remap.getMapWidth();
+		if( BoofConcurrency.isUseConcurrent(ImageDeformPointMLS_F32.class,"exportRemap",width*remap.getMapHeight()) ) {
+			BoofConcurrency.loopFor(0,remap.getMapHeight(),y->exportRemapRow(map,width,y));
+		} else {
+			for (int y = 0; y < remap.getMapHeight(); y++) {
+				exportRemapRow(map,width,y);
 			}
 		}
 	}
 
+	/**
+	 * Computes the deformation for every pixel in a row. See {@link #interpolateDeformedPoint}
+	 */
+	void exportRemapRow( float[] map , int width , int y ) {
+		float v_y = y/scaleY;
+		int y0 = (int)v_y;
+		int y1 = Math.min(y0+1,gridRows-1);
+		float ay = v_y - y0;
+
+		int index = y*width*2;
+		for (int x = 0; x < width; x++) {
+			float v_x = x/scaleX;
+			int x0 = (int)v_x;
+			int x1 = Math.min(x0+1,gridCols-1);
+			float ax = v_x - x0;
+
+			float w00 = (1.0f - ax) * (1.0f - ay);
+			float w01 = ax * (1.0f - ay);
+			float w11 = ax * ay;
+			float w10 = (1.0f - ax) * ay;
+
+			Point2D_F32 d00 = getGrid(y0,x0).deformed;
+			Point2D_F32 d01 = getGrid(y0,x1).deformed;
+			Point2D_F32 d10 = getGrid(y1,x0).deformed;
+			Point2D_F32 d11 = getGrid(y1,x1).deformed;
+
+			map[index++] = w00*d00.x + w01*d01.x + w11*d11.x + w10*d10.x;
+			map[index++] = w00*d00.y + w01*d01.y + w11*d11.y + w10*d10.y;
+		}
+	}
+
 	/**
 	 * Computes the average P given the weights at this cached point
 	 */
@@ -402,6 +558,7 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 			// (v-p*)*inv(stuff)
 			float tmp1 = v_m_ap_x * inv01 + v_m_ap_y * inv11;
 
+			cache.sumA = 0;
 			for (int i = 0; i < controls.size(); i++) {
 				Control c = controls.get(i);
 
@@ -410,6 +567,7 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 
 				// mistake in paper that w[i] was omitted?
 				cache.A.data[i] = (tmp0 * hat_p_x + tmp1 * hat_p_y)*weights[i];
+				cache.sumA += cache.A.data[i];
 			}
 		}
 
@@ -428,6 +586,15 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 			deformed.x += cache.aveQ.x;
 			deformed.y += cache.aveQ.y;
 		}
+
+		@Override
+		public void updateDeformed(Cache cache, float v_x, float v_y, int which, float dx, float dy) {
+			// deformed = sum{ A[i]*q[i] } + (1 - sum{ A[i] })*q*
+			float w = cache.weights.data[which]/cache.totalWeight;
+			float a = cache.A.data[which] + (1.0f - cache.sumA)*w;
+			cache.deformed.x += a*dx;
+			cache.deformed.y += a*dy;
+		}
 	}
 
 	/**
@@ -439,6 +606,7 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 		public void computeCache(Cache cache, float v_x, float v_y) {
 			float[] weights = cache.weights.data;
 			cache.mu = 0;
+			cache.sumA_s.zero();
 
 			// mu = sum{ w[i]*dot( hat(p). hat(p) ) }
 			// A[i] = w[i]*( hat(p); hat(p^|) )( v-p*; -(v-p*)^|)'
@@ -461,6 +629,11 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 				A.a12 = w*(hat_p_x*v_ps_y - hat_p_y*v_ps_x);
 				A.a21 = -A.a12;
 				A.a22 = A.a11;
+
+				cache.sumA_s.a11 += A.a11;
+				cache.sumA_s.a12 += A.a12;
+				cache.sumA_s.a21 += A.a21;
+				cache.sumA_s.a22 += A.a22;
 			}
 			// point being sampled and the key point are exactly the same
 			if( cache.mu == 0.0f )
@@ -486,6 +659,25 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 			deformed.x = deformed.x/cache.mu + cache.aveQ.x;
 			deformed.y = deformed.y/cache.mu + cache.aveQ.y;
 		}
+
+		@Override
+		public void updateDeformed(Cache cache, float v_x, float v_y, int which, float dx, float dy) {
+			float w = cache.weights.data[which]/cache.totalWeight;
+			computeChangeFr(cache, which, w, dx, dy);
+			cache.deformed.x += cache.changeFr.x/cache.mu + w*dx;
+			cache.deformed.y += cache.changeFr.y/cache.mu + w*dy;
+		}
+
+		/**
+		 * Change in sum{ hat(q[i])'*A[i] } when control point 'which' moves by (dx,dy). The average q* moves
+		 * too, which is why the sum of all A[i] is needed.
+		 */
+		void computeChangeFr( Cache cache , int which , float w , float dx , float dy ) {
+			FMatrix2x2 A = cache.A_s.get(which);
+			FMatrix2x2 S = cache.sumA_s;
+			cache.changeFr.x = dx*A.a11 + dy*A.a21 - w*(dx*S.a11 + dy*S.a21);
+			cache.changeFr.y = dx*A.a12 + dy*A.a22 - w*(dx*S.a12 + dy*S.a22);
+		}
 	}
 
 	/**
@@ -508,6 +700,23 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 				fr_x += (hat_q_x*A.a11 + hat_q_y*A.a21);
 				fr_y += (hat_q_x*A.a12 + hat_q_y*A.a22);
 			}
+			cache.fr.set(fr_x,fr_y);
+
+			computeRigidDeformed(cache, v_x, v_y);
+		}
+
+		@Override
+		public void updateDeformed(Cache cache, float v_x, float v_y, int which, float dx, float dy) {
+			float w = cache.weights.data[which]/cache.totalWeight;
+			computeChangeFr(cache, which, w, dx, dy);
+			cache.fr.x += cache.changeFr.x;
+			cache.fr.y += cache.changeFr.y;
+
+			computeRigidDeformed(cache, v_x, v_y);
+		}
+
+		void computeRigidDeformed( Cache cache , float v_x, float v_y ) {
+			float fr_x = cache.fr.x, fr_y = cache.fr.y;
 
 			// equation 8
 			float v_avep_x = v_x - cache.aveP.x;
@@ -542,6 +751,15 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 
 		// mu for simularity
 		float mu;
+
+		// sum of A for affine
+		float sumA;
+		// sum of A_s for similarity and rigid
+		FMatrix2x2 sumA_s = new FMatrix2x2();
+		// f_r[v] for rigid
+		Point2D_F32 fr = new Point2D_F32();
+		// work space for computing the change in f_r[v]
+		Point2D_F32 changeFr = new Point2D_F32();
 	}
 
 	public float getAlpha() {
@@ -556,6 +774,12 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 		void computeCache(Cache cache, float v_x, float v_y);
 
 		void computeDeformed( Cache cache , float v_x, float v_y );
+
+		/**
+		 * Updates the deformed location after control point 'which' has moved by (dx,dy). The cache's
+		 * q* must already include the change.
+		 */
+		void updateDeformed( Cache cache , float v_x, float v_y, int which, float dx, float dy );
 	}
 
 	public static class Control {
@@ -567,5 +791,9 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 		 * Deformed control point location in image pixels
 		 */
 		Point2D_F32 q = new Point2D_F32();
+		/**
+		 * Value of q when the deformation was last computed
+		 */
+		Point2D_F32 fixatedQ = new Point2D_F32();
 	}
 }
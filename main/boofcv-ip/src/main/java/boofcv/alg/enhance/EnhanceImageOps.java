@@ -298,6 +298,124 @@ public class EnhanceImageOps {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE). A fast approximation of
+	 * {@link #equalizeLocal(GrayU8, int, GrayU8, int, IWorkArrays)} whose cost doesn't depend on the radius. The image is
+	 * broken up into tiles which are about the size of the local region and an equalization transform is computed
+	 * from each tile's histogram. Pixels are then transformed by bilinear interpolation between the transforms
+	 * of the four closest tiles.
+	 * </p>
+	 *
+	 * <p>
+	 * To avoid amplifying noise in nearly uniform regions, each bin in a tile's histogram is clipped and the
+	 * excess is spread across all the bins.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param radius Radius of square local region. Tiles will be approximately 2*radius+1 wide.
+	 * @param clipLimit Histogram bins are clipped at this multiple of the average bin count. Try 4. If &le; 0
+	 *                  then the histogram is not clipped.
+	 * @param output Output image.
+	 * @param histogramLength Number of elements in the histogram. 256 for 8-bit images
+	 * @param workArrays Used to create work arrays. can be null
+	 */
+	public static void equalizeLocalClahe(GrayU8 input , int radius , double clipLimit , GrayU8 output ,
+										  int histogramLength , IWorkArrays workArrays ) {
+
+		output.reshape(input.width,input.height);
+		if( workArrays == null )
+			workArrays = new IWorkArrays();
+
+		workArrays.reset(histogramLength);
+
+		int width = radius*2+1;
+		int tilesX = Math.max(1,(input.width+width/2)/width);
+		int tilesY = Math.max(1,(input.height+width/2)/width);
+		int limit = claheClipLimit(input,tilesX,tilesY,clipLimit,histogramLength);
+
+		int[][] transforms = new int[tilesX*tilesY][];
+		for (int i = 0; i < transforms.length; i++) {
+			transforms[i] = workArrays.pop();
+		}
+
+		if( BoofConcurrency.isUseConcurrent(EnhanceImageOps.class,"equalizeLocalClahe",output) ) {
+			ImplEnhanceHistogram_MT.equalizeLocalClaheTiles(input, tilesX, tilesY, limit, transforms, workArrays);
+			ImplEnhanceHistogram_MT.equalizeLocalClaheApply(input, tilesX, tilesY, transforms, output);
+		} else {
+			ImplEnhanceHistogram.equalizeLocalClaheTiles(input, tilesX, tilesY, limit, transforms, workArrays);
+			ImplEnhanceHistogram.equalizeLocalClaheApply(input, tilesX, tilesY, transforms, output);
+		}
+
+		for (int i = 0; i < transforms.length; i++) {
+			workArrays.recycle(transforms[i]);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE). A fast approximation of
+	 * {@link #equalizeLocal(GrayU16, int, GrayU16, int, IWorkArrays)} whose cost doesn't depend on the radius. The image is
+	 * broken up into tiles which are about the size of the local region and an equalization transform is computed
+	 * from each tile's histogram. Pixels are then transformed by bilinear interpolation between the transforms
+	 * of the four closest tiles.
+	 * </p>
+	 *
+	 * <p>
+	 * To avoid amplifying noise in nearly uniform regions, each bin in a tile's histogram is clipped and the
+	 * excess is spread across all the bins.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param radius Radius of square local region. Tiles will be approximately 2*radius+1 wide.
+	 * @param clipLimit Histogram bins are clipped at this multiple of the average bin count. Try 4. If &le; 0
+	 *                  then the histogram is not clipped.
+	 * @param output Output image.
+	 * @param histogramLength Number of elements in the histogram. 256 for 8-bit images
+	 * @param workArrays Used to create work arrays. can be null
+	 */
+	public static void equalizeLocalClahe(GrayU16 input , int radius , double clipLimit , GrayU16 output ,
+										  int histogramLength , IWorkArrays workArrays ) {
+
+		InputSanityCheck.checkSameShape(input, output);
+		if( workArrays == null )
+			workArrays = new IWorkArrays();
+
+		workArrays.reset(histogramLength);
+
+		int width = radius*2+1;
+		int tilesX = Math.max(1,(input.width+width/2)/width);
+		int tilesY = Math.max(1,(input.height+width/2)/width);
+		int limit = claheClipLimit(input,tilesX,tilesY,clipLimit,histogramLength);
+
+		int[][] transforms = new int[tilesX*tilesY][];
+		for (int i = 0; i < transforms.length; i++) {
+			transforms[i] = workArrays.pop();
+		}
+
+		if( BoofConcurrency.isUseConcurrent(EnhanceImageOps.class,"equalizeLocalClahe",output) ) {
+			ImplEnhanceHistogram_MT.equalizeLocalClaheTiles(input, tilesX, tilesY, limit, transforms, workArrays);
+			ImplEnhanceHistogram_MT.equalizeLocalClaheApply(input, tilesX, tilesY, transforms, output);
+		} else {
+			ImplEnhanceHistogram.equalizeLocalClaheTiles(input, tilesX, tilesY, limit, transforms, workArrays);
+			ImplEnhanceHistogram.equalizeLocalClaheApply(input, tilesX, tilesY, transforms, output);
+		}
+
+		for (int i = 0; i < transforms.length; i++) {
+			workArrays.recycle(transforms[i]);
+		}
+	}
+
+	/**
+	 * Converts the relative clip limit into the maximum number of pixels in a histogram bin
+	 */
+	private static int claheClipLimit( ImageGray<?> input , int tilesX , int tilesY , double clipLimit , int histogramLength ) {
+		if( clipLimit <= 0 )
+			return 0;
+		double tileArea = (input.width/(double)tilesX)*(input.height/(double)tilesY);
+		return Math.max(1,(int)(clipLimit*tileArea/histogramLength));
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
@@ -84,6 +84,43 @@ public class GEnhanceImageOps {
 		}
 	}
 
+	/**
+	 * Contrast limited adaptive histogram equalization (CLAHE). A fast approximation of local histogram equalization.
+	 *
+	 * @see EnhanceImageOps#equalizeLocalClahe(GrayU8, int, double, GrayU8, int, IWorkArrays)
+	 *
+	 * @param input Input image.
+	 * @param radius Radius of square local region.
+	 * @param clipLimit Histogram bins are clipped at this multiple of the average bin count. If &le; 0 no clipping.
+	 * @param output Output image.
+	 * @param histogramLength Number of elements in the histogram. 256 for 8-bit images
+	 * @param workArrays Used to create work arrays. can be null
+	 */
+	public static <T extends ImageBase<T>>
+	void equalizeLocalClahe( T input , int radius , double clipLimit , T output ,
+							 int histogramLength , IWorkArrays workArrays ) {
+		if( input instanceof Planar ) {
+			Planar<?> pi = (Planar<?>)input;
+			Planar<?> po = (Planar<?>)output;
+			for (int i = 0; i < pi.getNumBands(); i++) {
+				equalizeLocalClaheGray(pi.getBand(i),radius,clipLimit,po.getBand(i),histogramLength, workArrays);
+			}
+		} else {
+			equalizeLocalClaheGray(input,radius,clipLimit,output,histogramLength, workArrays);
+		}
+	}
+
+	private static void equalizeLocalClaheGray( ImageBase<?> input , int radius , double clipLimit , ImageBase<?> output ,
+												int histogramLength , IWorkArrays workArrays ) {
+		if (input instanceof GrayU8) {
+			EnhanceImageOps.equalizeLocalClahe((GrayU8) input, radius, clipLimit, (GrayU8) output, histogramLength, workArrays);
+		} else if (input instanceof GrayU16) {
+			EnhanceImageOps.equalizeLocalClahe((GrayU16) input, radius, clipLimit, (GrayU16) output, histogramLength, workArrays);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type " + input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
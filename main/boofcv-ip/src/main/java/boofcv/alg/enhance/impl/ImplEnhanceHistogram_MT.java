@@ -93,6 +93,34 @@ public class ImplEnhanceHistogram_MT {
 		});
 	}
 
+	/**
+	 * Clips the histogram so that no bin is larger than the limit then spreads the clipped counts evenly
+	 * across all the bins. The sum of the histogram is not changed.
+	 */
+	public static void clipHistogram( int histogram[] , int limit ) {
+		int excess = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			if( histogram[i] > limit ) {
+				excess += histogram[i] - limit;
+				histogram[i] = limit;
+			}
+		}
+
+		int increment = excess/histogram.length;
+		int remainder = excess - increment*histogram.length;
+		for( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] += increment;
+		}
+
+		// what's left over is spread out across the histogram one at a time
+		if( remainder > 0 ) {
+			int step = Math.max(1,histogram.length/remainder);
+			for( int i = 0; i < histogram.length && remainder > 0; i += step, remainder-- ) {
+				histogram[i]++;
+			}
+		}
+	}
+
 	/**
 	 * Inefficiently computes the local histogram, but can handle every possible case for image size and
 	 * local region size
@@ -401,6 +429,101 @@ public class ImplEnhanceHistogram_MT {
 		}
 	}
 
+	/**
+	 * Computes the equalization transform for each tile in contrast limited adaptive histogram equalization.
+	 * Tiles are processed in row-major order.
+	 *
+	 * @param tilesX Number of tiles along the x-axis
+	 * @param tilesY Number of tiles along the y-axis
+	 * @param clipLimit Histogram bins are clipped to this value. If &le; 0 the histogram isn't clipped.
+	 * @param transforms (Output) Transformation table for each tile
+	 */
+	public static void equalizeLocalClaheTiles( GrayU8 input , int tilesX , int tilesY , int clipLimit ,
+												int transforms[][] , IWorkArrays workArrays )
+	{
+		int maxValue = workArrays.length()-1;
+
+		BoofConcurrency.loopBlocks(0,tilesX*tilesY,(idx0,idx1)->{
+		int[] histogram = workArrays.pop();
+		for( int tile = idx0; tile < idx1; tile++ ) {
+			int tileX = tile%tilesX;
+			int tileY = tile/tilesX;
+			int x0 = tileX*input.width/tilesX;
+			int x1 = (tileX+1)*input.width/tilesX;
+			int y0 = tileY*input.height/tilesY;
+			int y1 = (tileY+1)*input.height/tilesY;
+
+			localHistogram(input,x0,y0,x1,y1,histogram);
+			if( clipLimit > 0 )
+				clipHistogram(histogram,clipLimit);
+
+			// compute transformation table
+			int[] transform = transforms[tile];
+			int sum = 0;
+			for( int i = 0; i < histogram.length; i++ ) {
+				transform[i] = sum += histogram[i];
+			}
+			for( int i = 0; i < histogram.length; i++ ) {
+				transform[i] = (int)(((long)transform[i]*maxValue)/sum);
+			}
+		}
+		});
+	}
+
+	/**
+	 * Applies contrast limited adaptive histogram equalization to the image. Each tile's transform is
+	 * assigned to its center and pixels are transformed by bilinear interpolation between the four closest tiles.
+	 *
+	 * @param tilesX Number of tiles along the x-axis
+	 * @param tilesY Number of tiles along the y-axis
+	 * @param transforms Transformation table for each tile, computed by equalizeLocalClaheTiles()
+	 */
+	public static void equalizeLocalClaheApply( GrayU8 input , int tilesX , int tilesY , int transforms[][] ,
+												GrayU8 output )
+	{
+		float scaleX = tilesX/(float)input.width;
+		float scaleY = tilesY/(float)input.height;
+
+		BoofConcurrency.loopFor(0,input.height,y->{
+			// tiles whose centers are above and below the pixel. Same tile along the image border
+			float ty = Math.max(0,(y+0.5f)*scaleY-0.5f);
+			int ty0 = Math.min((int)ty,tilesY-1);
+			int ty1 = Math.min(ty0+1,tilesY-1);
+			float wy = ty-ty0;
+			int rowTop = ty0*tilesX;
+			int rowBottom = ty1*tilesX;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			// go through the pixels in between the centers of the tiles to the left and right
+			int x = 0;
+			for( int tile = -1; tile < tilesX; tile++ ) {
+				int tx0 = Math.max(tile,0);
+				int tx1 = Math.min(tile+1,tilesX-1);
+				int[] topLeft = transforms[rowTop+tx0];
+				int[] topRight = transforms[rowTop+tx1];
+				int[] bottomLeft = transforms[rowBottom+tx0];
+				int[] bottomRight = transforms[rowBottom+tx1];
+				float end = tile+1 < tilesX ? tile+1 : Float.MAX_VALUE;
+
+				for( ; x < input.width; x++ ) {
+					float tx = (x+0.5f)*scaleX-0.5f;
+					if( tx >= end )
+						break;
+					// the left and right tiles are the same along the image border so the weight doesn't matter
+					float wx = tx-tx0;
+
+					int value = input.data[indexIn++] & 0xFF;
+					float top = topLeft[value] + wx*(topRight[value]-topLeft[value]);
+					float bottom = bottomLeft[value] + wx*(bottomRight[value]-bottomLeft[value]);
+
+					output.data[indexOut++] = (byte)(top + wy*(bottom-top) + 0.5f);
+				}
+			}
+		});
+	}
+
 	/**
 	 * Inefficiently computes the local histogram, but can handle every possible case for image size and
 	 * local region size
@@ -709,5 +832,100 @@ public class ImplEnhanceHistogram_MT {
 		}
 	}
 
+	/**
+	 * Computes the equalization transform for each tile in contrast limited adaptive histogram equalization.
+	 * Tiles are processed in row-major order.
+	 *
+	 * @param tilesX Number of tiles along the x-axis
+	 * @param tilesY Number of tiles along the y-axis
+	 * @param clipLimit Histogram bins are clipped to this value. If &le; 0 the histogram isn't clipped.
+	 * @param transforms (Output) Transformation table for each tile
+	 */
+	public static void equalizeLocalClaheTiles( GrayU16 input , int tilesX , int tilesY , int clipLimit ,
+												int transforms[][] , IWorkArrays workArrays )
+	{
+		int maxValue = workArrays.length()-1;
+
+		BoofConcurrency.loopBlocks(0,tilesX*tilesY,(idx0,idx1)->{
+		int[] histogram = workArrays.pop();
+		for( int tile = idx0; tile < idx1; tile++ ) {
+			int tileX = tile%tilesX;
+			int tileY = tile/tilesX;
+			int x0 = tileX*input.width/tilesX;
+			int x1 = (tileX+1)*input.width/tilesX;
+			int y0 = tileY*input.height/tilesY;
+			int y1 = (tileY+1)*input.height/tilesY;
+
+			localHistogram(input,x0,y0,x1,y1,histogram);
+			if( clipLimit > 0 )
+				clipHistogram(histogram,clipLimit);
+
+			// compute transformation table
+			int[] transform = transforms[tile];
+			int sum = 0;
+			for( int i = 0; i < histogram.length; i++ ) {
+				transform[i] = sum += histogram[i];
+			}
+			for( int i = 0; i < histogram.length; i++ ) {
+				transform[i] = (int)(((long)transform[i]*maxValue)/sum);
+			}
+		}
+		});
+	}
+
+	/**
+	 * Applies contrast limited adaptive histogram equalization to the image. Each tile's transform is
+	 * assigned to its center and pixels are transformed by bilinear interpolation between the four closest tiles.
+	 *
+	 * @param tilesX Number of tiles along the x-axis
+	 * @param tilesY Number of tiles along the y-axis
+	 * @param transforms Transformation table for each tile, computed by equalizeLocalClaheTiles()
+	 */
+	public static void equalizeLocalClaheApply( GrayU16 input , int tilesX , int tilesY , int transforms[][] ,
+												GrayU16 output )
+	{
+		float scaleX = tilesX/(float)input.width;
+		float scaleY = tilesY/(float)input.height;
+
+		BoofConcurrency.loopFor(0,input.height,y->{
+			// tiles whose centers are above and below the pixel. Same tile along the image border
+			float ty = Math.max(0,(y+0.5f)*scaleY-0.5f);
+			int ty0 = Math.min((int)ty,tilesY-1);
+			int ty1 = Math.min(ty0+1,tilesY-1);
+			float wy = ty-ty0;
+			int rowTop = ty0*tilesX;
+			int rowBottom = ty1*tilesX;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			// go through the pixels in between the centers of the tiles to the left and right
+			int x = 0;
+			for( int tile = -1; tile < tilesX; tile++ ) {
+				int tx0 = Math.max(tile,0);
+				int tx1 = Math.min(tile+1,tilesX-1);
+				int[] topLeft = transforms[rowTop+tx0];
+				int[] topRight = transforms[rowTop+tx1];
+				int[] bottomLeft = transforms[rowBottom+tx0];
+				int[] bottomRight = transforms[rowBottom+tx1];
+				float end = tile+1 < tilesX ? tile+1 : Float.MAX_VALUE;
+
+				for( ; x < input.width; x++ ) {
+					float tx = (x+0.5f)*scaleX-0.5f;
+					if( tx >= end )
+						break;
+					// the left and right tiles are the same along the image border so the weight doesn't matter
+					float wx = tx-tx0;
+
+					int value = input.data[indexIn++] & 0xFFFF;
+					float top = topLeft[value] + wx*(topRight[value]-topLeft[value]);
+					float bottom = bottomLeft[value] + wx*(bottomRight[value]-bottomLeft[value]);
+
+					output.data[indexOut++] = (short)(top + wy*(bottom-top) + 0.5f);
+				}
+			}
+		});
+	}
+
 
 }
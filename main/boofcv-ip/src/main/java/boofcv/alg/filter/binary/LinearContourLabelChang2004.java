@@ -59,21 +59,21 @@ import org.ddogleg.struct.FastQueue;
 public class LinearContourLabelChang2004 {
 
 	// The maximum number of elements in a contour that will be recorded
-	private int minContourSize = 0;
+	protected int minContourSize = 0;
 	// The maximum number of elements in a contour that will be recorded
-	private int maxContourSize = Integer.MAX_VALUE;
+	protected int maxContourSize = Integer.MAX_VALUE;
 	// If false it will not save internal contours as they are found
-	private boolean saveInternalContours = true;
+	protected boolean saveInternalContours = true;
 
 	// traces edge pixels
 	private ContourTracer tracer;
 
 	// binary image with a border of zero.
-	private GrayU8 border = new GrayU8(1,1);
+	protected GrayU8 border = new GrayU8(1,1);
 
 	// predeclared/recycled data structures
-	PackedSetsPoint2D_I32 packedPoints = new PackedSetsPoint2D_I32(2000);
-	private FastQueue<ContourPacked> contours = new FastQueue<>(ContourPacked.class, true);
+	protected PackedSetsPoint2D_I32 packedPoints = new PackedSetsPoint2D_I32(2000);
+	protected FastQueue<ContourPacked> contours = new FastQueue<>(ContourPacked.class, true);
 
 	// internal book keeping variables
 	private int x,y,indexIn,indexOut;
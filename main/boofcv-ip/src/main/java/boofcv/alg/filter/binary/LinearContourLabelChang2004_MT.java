@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LinearContourLabelChang2004}. The output is identical to the single thread
+ * version, i.e. the same labeled image, blob IDs, and contours in the same order, so it can be used as a drop in
+ * replacement.
+ * </p>
+ *
+ * <p>
+ * The single pass of the original algorithm can't be split up since labels are assigned in the order blobs
+ * are encountered. Instead the image is processed in several steps:
+ * <ol>
+ *     <li>The padded image is broken up into horizontal strips and every pixel, foreground and background, is
+ *     labeled independently in each strip using union-find. Foreground uses the specified connect rule and
+ *     background the complementary rule.</li>
+ *     <li>Labels which touch along the seams between strips are merged.</li>
+ *     <li>Each foreground blob is assigned an ID in the order of its first pixel in raster order and the
+ *     labeled image is written.</li>
+ *     <li>The start points of the contours are found. An external contour starts at the first pixel in a blob.
+ *     An internal contour starts at the pixel above the first pixel in a hole, i.e. a background region
+ *     which isn't connected to the image border.</li>
+ *     <li>Contours are traced concurrently and then copied into the output in the same order the single
+ *     threaded algorithm would have found them.</li>
+ * </ol>
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelChang2004_MT extends LinearContourLabelChang2004 {
+
+	// The image will not be broken up into strips which are smaller than this
+	int minimumStripHeight = 20;
+
+	// Union-find parent for each pixel in the padded image. Parents always have a lower index than their children
+	// which results in the root being the first pixel of a region in raster order
+	GrayS32 parents = new GrayS32(1,1);
+
+	// Row that each strip starts at in the padded image. Has one extra element for the end of the last strip
+	GrowQueue_I32 stripStart = new GrowQueue_I32();
+	// ID of the first blob in each strip
+	GrowQueue_I32 stripFirstID = new GrowQueue_I32();
+	// Contour start points found in each strip
+	FastQueue<GrowQueue_I32> stripSeeds = new FastQueue<>(GrowQueue_I32.class,true);
+	// Contour start points for the entire image in raster order. Pixel index then blob ID, which is negative
+	// for internal contours
+	GrowQueue_I32 seeds = new GrowQueue_I32();
+
+	// Work space for tracing contours concurrently
+	FastQueue<TraceBlock> blocks;
+
+	/**
+	 * Configures the algorithm.
+	 *
+	 * @param rule Connectivity rule.  4 or 8
+	 */
+	public LinearContourLabelChang2004_MT(ConnectRule rule) {
+		super(rule);
+		blocks = new FastQueue<>(TraceBlock.class,()->new TraceBlock(getConnectRule()));
+	}
+
+	@Override
+	public void process(GrayU8 binary, GrayS32 labeled) {
+		// initialize data structures
+		labeled.reshape(binary.width,binary.height);
+
+		// ensure that the image border pixels are filled with zero by enlarging the image. The border is always
+		// filled since the tracer marks pixels in it and labeling assumes every pixel is 0 or 1
+		border.reshape(binary.width + 2, binary.height + 2);
+		ImageMiscOps.fillBorder(border, 0, 1);
+		border.subimage(1,1,border.width-1,border.height-1, null).setTo(binary);
+		parents.reshape(border.width,border.height);
+
+		packedPoints.reset();
+		contours.reset();
+
+		// Break the image into strips. More strips than threads so that the work is balanced
+		int numStrips = Math.max(1,Math.min(BoofConcurrency.getMaxThreads()*4,border.height/minimumStripHeight));
+		stripStart.resize(numStrips+1);
+		for (int i = 0; i <= numStrips; i++) {
+			stripStart.data[i] = i*border.height/numStrips;
+		}
+		stripFirstID.resize(numStrips);
+		stripSeeds.resize(numStrips);
+
+		boolean eight = getConnectRule() == ConnectRule.EIGHT;
+
+		BoofConcurrency.loopFor(0,numStrips,i->labelStrip(eight,stripStart.data[i],stripStart.data[i+1]));
+		for (int i = 1; i < numStrips; i++) {
+			mergeSeam(eight,stripStart.data[i]);
+		}
+		BoofConcurrency.loopFor(0,numStrips,i->stripFirstID.data[i]=flattenStrip(stripStart.data[i],stripStart.data[i+1]));
+
+		// convert the number of blobs in each strip into the first ID
+		int totalBlobs = 0;
+		for (int i = 0; i < numStrips; i++) {
+			int count = stripFirstID.data[i];
+			stripFirstID.data[i] = totalBlobs+1;
+			totalBlobs += count;
+		}
+
+		BoofConcurrency.loopFor(0,numStrips,i->assignRootIDs(labeled,i));
+		// label every pixel and find where contours start in each strip
+		BoofConcurrency.loopFor(0,numStrips,i->labelPixels(labeled,stripStart.data[i],stripStart.data[i+1],stripSeeds.get(i)));
+
+		// create the contours now that the number of blobs is known
+		contours.resize(totalBlobs);
+		for (int i = 0; i < totalBlobs; i++) {
+			ContourPacked c = contours.get(i);
+			c.reset();
+			c.id = i+1;
+			c.internalIndexes.reset();
+		}
+
+		// put the seeds into a single list in raster order
+		seeds.reset();
+		for (int i = 0; i < numStrips; i++) {
+			GrowQueue_I32 s = stripSeeds.get(i);
+			seeds.addAll(s.data,0,s.size);
+		}
+
+		traceContours(labeled);
+	}
+
+	/**
+	 * Labels all the pixels inside of the strip without looking outside of it. Each pixel is assigned
+	 * a parent with a lower index in the same strip.
+	 */
+	void labelStrip( boolean eightForeground , int y0 , int y1 ) {
+		final byte[] binary = border.data;
+		final int[] parent = parents.data;
+		final int width = border.width;
+
+		// the first row can only be connected to the left
+		int index = y0*width;
+		parent[index] = index;
+		for (int x = 1; x < width; x++) {
+			index++;
+			parent[index] = binary[index] == binary[index-1] ? parent[index-1] : index;
+		}
+
+		for (int y = y0+1; y < y1; y++) {
+			index = y*width;
+			int above = index-width;
+
+			// first and last columns are in the background border and connected to the pixel above
+			parent[index] = parent[above];
+
+			for (int x = 1; x < width-1; x++) {
+				index++; above++;
+				byte value = binary[index];
+				boolean eight = (value == 1) == eightForeground;
+
+				if( binary[above] == value ) {
+					parent[index] = parent[above];
+					if( !eight && binary[index-1] == value && parent[index-1] != parent[index] )
+						union(parent,index,index-1);
+				} else if( eight && binary[above+1] == value ) {
+					parent[index] = parent[above+1];
+					if( binary[above-1] == value )
+						union(parent,index,above-1);
+					else if( binary[index-1] == value )
+						union(parent,index,index-1);
+				} else if( eight && binary[above-1] == value ) {
+					parent[index] = parent[above-1];
+				} else {
+					parent[index] = binary[index-1] == value ? parent[index-1] : index;
+				}
+			}
+
+			index++; above++;
+			parent[index] = parent[above];
+			if( eightForeground && binary[index-1] != 1 )
+				union(parent,index,index-1);
+		}
+	}
+
+	/**
+	 * Merges regions which touch across the seam between the row above and the first row in a strip
+	 */
+	void mergeSeam( boolean eightForeground , int y ) {
+		final byte[] binary = border.data;
+		final int[] parent = parents.data;
+		final int width = border.width;
+
+		int index = y*width;
+		for (int x = 0; x < width; x++, index++) {
+			byte value = binary[index];
+			int above = index-width;
+			if( binary[above] == value ) {
+				// the pixels to the left and right above are already connected to this one if they are the same
+				union(parent,index,above);
+			} else if( (value == 1) == eightForeground ) {
+				if( x > 0 && binary[above-1] == value )
+					union(parent,index,above-1);
+				if( x+1 < width && binary[above+1] == value )
+					union(parent,index,above+1);
+			}
+		}
+	}
+
+	/**
+	 * Merges the two regions by pointing the root with the larger index at the root with the smaller index
+	 */
+	static void union( int[] parent , int a , int b ) {
+		int rootA = find(parent,a);
+		int rootB = find(parent,b);
+		if( rootA < rootB )
+			parent[rootB] = rootA;
+		else if( rootB < rootA )
+			parent[rootA] = rootB;
+	}
+
+	/**
+	 * Finds the root of the region while shortening the path to it
+	 */
+	static int find( int[] parent , int index ) {
+		while( parent[index] != index ) {
+			parent[index] = parent[parent[index]];
+			index = parent[index];
+		}
+		return index;
+	}
+
+	/**
+	 * Points every pixel in the strip directly at its root
+	 *
+	 * @return Number of foreground regions which have their root inside the strip
+	 */
+	int flattenStrip( int y0 , int y1 ) {
+		final byte[] binary = border.data;
+		final int[] parent = parents.data;
+
+		int count = 0;
+		int end = y1*border.width;
+		for (int index = y0*border.width; index < end; index++) {
+			int root = parent[index];
+			while( parent[root] != root )
+				root = parent[root];
+			parent[index] = root;
+
+			if( root == index && binary[index] == 1 )
+				count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Writes the ID of each blob whose root is inside the strip into the labeled image at the root
+	 */
+	void assignRootIDs( GrayS32 labeled , int strip ) {
+		final byte[] binary = border.data;
+		final int[] parent = parents.data;
+		final int width = border.width;
+
+		int id = stripFirstID.data[strip];
+		// the border of the padded image is always background
+		int y0 = Math.max(1,stripStart.data[strip]);
+		int y1 = Math.min(border.height-1,stripStart.data[strip+1]);
+		for (int y = y0; y < y1; y++) {
+			int index = y*width+1;
+			int indexOut = labeled.startIndex + (y-1)*labeled.stride;
+			for (int x = 1; x < width-1; x++, index++, indexOut++) {
+				if( parent[index] == index && binary[index] == 1 )
+					labeled.data[indexOut] = id++;
+			}
+		}
+	}
+
+	/**
+	 * Assigns each pixel the ID of its blob, or 0 if it's background, and finds the pixels that contours start at
+	 * in raster order. For each seed the pixel index in the padded image and the ID is saved. The ID is negative
+	 * for internal contours.
+	 */
+	void labelPixels( GrayS32 labeled , int y0 , int y1 , GrowQueue_I32 seeds ) {
+		final byte[] binary = border.data;
+		final int[] parent = parents.data;
+		final int width = border.width;
+
+		seeds.reset();
+		// neighboring pixels tend to have the same root, avoid looking up its ID every time
+		int prevRoot = -1, id = 0;
+
+		y0 = Math.max(1,y0);
+		y1 = Math.min(border.height-1,y1);
+		for (int y = y0; y < y1; y++) {
+			int index = y*width+1;
+			int indexOut = labeled.startIndex + (y-1)*labeled.stride;
+			for (int x = 1; x < width-1; x++, index++, indexOut++) {
+				if( binary[index] != 1 ) {
+					labeled.data[indexOut] = 0;
+					continue;
+				}
+
+				int root = parent[index];
+				if( root != prevRoot ) {
+					int rootY = root/width;
+					id = labeled.data[labeled.startIndex + (rootY-1)*labeled.stride + root-rootY*width-1];
+					prevRoot = root;
+				}
+				labeled.data[indexOut] = id;
+
+				// first pixel in a blob
+				if( root == index ) {
+					seeds.add(index);
+					seeds.add(id);
+				}
+				// first pixel in a hole. The background connected to the border has its root at index 0
+				int below = index+width;
+				if( binary[below] != 1 && parent[below] == below ) {
+					seeds.add(index);
+					seeds.add(-id);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Traces all the contours concurrently then copies them into the output in the order the seeds were found
+	 */
+	void traceContours( GrayS32 labeled ) {
+		int numSeeds = seeds.size/2;
+		int numBlocks = Math.max(1,Math.min(BoofConcurrency.getMaxThreads()*4,numSeeds/50));
+		blocks.resize(numBlocks);
+
+		BoofConcurrency.loopFor(0,numBlocks,i->{
+			TraceBlock b = blocks.get(i);
+			b.tracer.setInputs(border,labeled,b.points);
+			b.points.reset();
+			int end = (i+1)*numSeeds/numBlocks;
+			for (int seed = i*numSeeds/numBlocks; seed < end; seed++) {
+				traceSeed(b,seed);
+			}
+		});
+
+		// The order sets are added to packedPoints matches the single threaded algorithm
+		for (int i = 0; i < numBlocks; i++) {
+			TraceBlock b = blocks.get(i);
+			int seed = i*numSeeds/numBlocks;
+			for (int set = 0; set < b.points.size(); set++, seed++) {
+				int id = seeds.data[seed*2+1];
+				ContourPacked c = contours.get(Math.abs(id)-1);
+				if( id > 0 )
+					c.externalIndex = packedPoints.size();
+				else
+					c.internalIndexes.add(packedPoints.size());
+
+				packedPoints.grow();
+				b.iterator.setup(set);
+				while( b.iterator.hasNext() ) {
+					Point2D_I32 p = b.iterator.next();
+					packedPoints.addPointToTail(p.x,p.y);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Traces a single contour. Contours which are too small or large are saved as empty sets.
+	 */
+	private void traceSeed( TraceBlock b , int seed ) {
+		int index = seeds.data[seed*2];
+		int id = seeds.data[seed*2+1];
+		int x = index%border.width;
+		int y = index/border.width;
+
+		b.points.grow();
+		if( id > 0 ) {
+			b.tracer.setMaxContourSize(maxContourSize);
+			b.tracer.trace(id,x,y,true);
+		} else {
+			b.tracer.setMaxContourSize(saveInternalContours?maxContourSize:0);
+			b.tracer.trace(-id,x,y,false);
+		}
+
+		if( b.points.sizeOfTail() >= maxContourSize || b.points.sizeOfTail() < minContourSize ) {
+			b.points.removeTail();
+			b.points.grow();
+		}
+	}
+
+	@Override
+	public void setConnectRule(ConnectRule rule) {
+		if( rule == getConnectRule() )
+			return;
+		super.setConnectRule(rule);
+		blocks = new FastQueue<>(TraceBlock.class,()->new TraceBlock(getConnectRule()));
+	}
+
+	/**
+	 * Storage for tracing contours in a single thread
+	 */
+	static class TraceBlock {
+		ContourTracer tracer;
+		PackedSetsPoint2D_I32 points = new PackedSetsPoint2D_I32(2000);
+		PackedSetsPoint2D_I32.SetIterator iterator = points.createIterator();
+
+		public TraceBlock(ConnectRule rule) {
+			tracer = new ContourTracer(rule);
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LinearExternalContours}. The same external contours are found in the same
+ * order as the single thread version, so it can be used as a drop in replacement. The only difference is that
+ * contour pixels are not marked in the input image, only its border is set to zero.
+ * </p>
+ *
+ * <p>
+ * The single thread algorithm relies on pixels being marked as it traces so that each contour is only
+ * traced once. Instead the image is processed in several steps:
+ * <ol>
+ *     <li>The image is broken up into horizontal strips and foreground pixels are labeled independently in each
+ *     strip using union-find.</li>
+ *     <li>Labels which touch along the seams between strips are merged.</li>
+ *     <li>An external contour starts at the first pixel in raster order of each blob, which is the root of
+ *     its union-find tree.</li>
+ *     <li>Contours are traced concurrently and then copied into the output in raster order of their
+ *     start points.</li>
+ * </ol>
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearExternalContours_MT extends LinearExternalContours {
+
+	// The image will not be broken up into strips which are smaller than this
+	int minimumStripHeight = 20;
+
+	// Union-find parent for each pixel in the binary image. Only foreground pixels are assigned a value.
+	// Parents always have a lower index than their children which results in the root being the first pixel
+	// of a blob in raster order
+	GrayS32 parents = new GrayS32(1,1);
+
+	// Row that each strip starts at. Has one extra element for the end of the last strip
+	GrowQueue_I32 stripStart = new GrowQueue_I32();
+	// Contour start points found in each strip
+	FastQueue<GrowQueue_I32> stripSeeds = new FastQueue<>(GrowQueue_I32.class,true);
+	// Index in the parents image of each contour start point in raster order
+	GrowQueue_I32 seeds = new GrowQueue_I32();
+
+	// Work space for tracing contours concurrently
+	FastQueue<TraceBlock> blocks;
+
+	public LinearExternalContours_MT( ConnectRule rule ) {
+		super(rule);
+		blocks = new FastQueue<>(TraceBlock.class,()->new TraceBlock(getConnectRule()));
+	}
+
+	@Override
+	public void process( GrayU8 binary , int adjustX , int adjustY ) {
+		storagePoints.reset();
+		ImageMiscOps.fillBorder(binary, 0, 1);
+		if( binary.height <= 2 || binary.width <= 2 )
+			return;
+
+		parents.reshape(binary.width,binary.height);
+
+		// Break the inside of the image into strips. More strips than threads so that the work is balanced
+		int rows = binary.height-2;
+		int numStrips = Math.max(1,Math.min(BoofConcurrency.getMaxThreads()*4,rows/minimumStripHeight));
+		stripStart.resize(numStrips+1);
+		for (int i = 0; i <= numStrips; i++) {
+			stripStart.data[i] = 1 + i*rows/numStrips;
+		}
+		stripSeeds.resize(numStrips);
+
+		boolean eight = getConnectRule() == ConnectRule.EIGHT;
+
+		BoofConcurrency.loopFor(0,numStrips,i->labelStrip(eight,binary,stripStart.data[i],stripStart.data[i+1]));
+		for (int i = 1; i < numStrips; i++) {
+			mergeSeam(eight,binary,stripStart.data[i]);
+		}
+		BoofConcurrency.loopFor(0,numStrips,i->findSeeds(binary,stripStart.data[i],stripStart.data[i+1],stripSeeds.get(i)));
+
+		// put the seeds into a single list in raster order
+		seeds.reset();
+		for (int i = 0; i < numStrips; i++) {
+			GrowQueue_I32 s = stripSeeds.get(i);
+			seeds.addAll(s.data,0,s.size);
+		}
+
+		traceContours(binary,adjustX,adjustY);
+	}
+
+	/**
+	 * Labels all the foreground pixels inside of the strip without looking outside of it. Each pixel is assigned
+	 * a parent with a lower index in the same strip.
+	 */
+	void labelStrip( boolean eight , GrayU8 binary , int y0 , int y1 ) {
+		final byte[] data = binary.data;
+		final int[] parent = parents.data;
+		final int width = binary.width;
+		final int stride = binary.stride;
+
+		for (int y = y0; y < y1; y++) {
+			int indexIn = binary.startIndex + y*stride + 1;
+			int index = y*width + 1;
+
+			for (int x = 1; x < width-1; x++, indexIn++, index++) {
+				if( data[indexIn] == 0 )
+					continue;
+				boolean left = data[indexIn-1] != 0;
+
+				// the first row can only be connected to the left
+				if( y == y0 ) {
+					parent[index] = left ? parent[index-1] : index;
+					continue;
+				}
+
+				int above = indexIn-stride;
+				if( data[above] != 0 ) {
+					parent[index] = parent[index-width];
+					if( !eight && left && parent[index-1] != parent[index] )
+						LinearContourLabelChang2004_MT.union(parent,index,index-1);
+				} else if( eight && data[above+1] != 0 ) {
+					parent[index] = parent[index-width+1];
+					if( data[above-1] != 0 )
+						LinearContourLabelChang2004_MT.union(parent,index,index-width-1);
+					else if( left )
+						LinearContourLabelChang2004_MT.union(parent,index,index-1);
+				} else if( eight && data[above-1] != 0 ) {
+					parent[index] = parent[index-width-1];
+				} else {
+					parent[index] = left ? parent[index-1] : index;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Merges blobs which touch across the seam between the row above and the first row in a strip
+	 */
+	void mergeSeam( boolean eight , GrayU8 binary , int y ) {
+		final byte[] data = binary.data;
+		final int[] parent = parents.data;
+		final int width = binary.width;
+
+		int indexIn = binary.startIndex + y*binary.stride + 1;
+		int index = y*width + 1;
+		for (int x = 1; x < width-1; x++, indexIn++, index++) {
+			if( data[indexIn] == 0 )
+				continue;
+			int above = indexIn-binary.stride;
+			if( data[above] != 0 ) {
+				// the pixels to the left and right above are already connected to this one if they are set
+				LinearContourLabelChang2004_MT.union(parent,index,index-width);
+			} else if( eight ) {
+				if( data[above-1] != 0 )
+					LinearContourLabelChang2004_MT.union(parent,index,index-width-1);
+				if( data[above+1] != 0 )
+					LinearContourLabelChang2004_MT.union(parent,index,index-width+1);
+			}
+		}
+	}
+
+	/**
+	 * Finds the first pixel in each blob whose root is inside the strip
+	 */
+	void findSeeds( GrayU8 binary , int y0 , int y1 , GrowQueue_I32 seeds ) {
+		final byte[] data = binary.data;
+		final int[] parent = parents.data;
+		final int width = binary.width;
+
+		seeds.reset();
+		for (int y = y0; y < y1; y++) {
+			int indexIn = binary.startIndex + y*binary.stride + 1;
+			int index = y*width + 1;
+			for (int x = 1; x < width-1; x++, indexIn++, index++) {
+				if( data[indexIn] != 0 && parent[index] == index )
+					seeds.add(index);
+			}
+		}
+	}
+
+	/**
+	 * Traces all the contours concurrently then copies them into the output in the order the seeds were found
+	 */
+	void traceContours( GrayU8 binary , int adjustX , int adjustY ) {
+		int numSeeds = seeds.size;
+		int numBlocks = Math.max(1,Math.min(BoofConcurrency.getMaxThreads()*4,numSeeds/50));
+		blocks.resize(numBlocks);
+
+		BoofConcurrency.loopFor(0,numBlocks,i->{
+			TraceBlock b = blocks.get(i);
+			b.tracer.setInputs(binary);
+			b.points.reset();
+			int end = (i+1)*numSeeds/numBlocks;
+			for (int seed = i*numSeeds/numBlocks; seed < end; seed++) {
+				int index = seeds.data[seed];
+				int x = index%binary.width;
+				int y = index/binary.width;
+
+				b.tracer.trace(b.points,x,y,adjustX,adjustY,maxContourLength);
+				int N = b.points.sizeOfTail();
+				if( N < minContourLength || N >= maxContourLength )
+					b.points.removeTail();
+			}
+		});
+
+		for (int i = 0; i < numBlocks; i++) {
+			TraceBlock b = blocks.get(i);
+			for (int set = 0; set < b.points.size(); set++) {
+				storagePoints.grow();
+				b.iterator.setup(set);
+				while( b.iterator.hasNext() ) {
+					Point2D_I32 p = b.iterator.next();
+					storagePoints.addPointToTail(p.x,p.y);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void setConnectRule( ConnectRule rule ) {
+		super.setConnectRule(rule);
+		blocks = new FastQueue<>(TraceBlock.class,()->new TraceBlock(getConnectRule()));
+	}
+
+	/**
+	 * Storage for tracing contours in a single thread
+	 */
+	static class TraceBlock {
+		Tracer tracer;
+		PackedSetsPoint2D_I32 points = new PackedSetsPoint2D_I32(2000);
+		PackedSetsPoint2D_I32.SetIterator iterator = points.createIterator();
+
+		public TraceBlock( ConnectRule rule ) {
+			tracer = new Tracer(rule);
+		}
+	}
+
+	/**
+	 * Traces the external contour of a blob starting from its first pixel. Pixels in the image are not
+	 * modified so that several tracers can run at the same time. Follows the same path as the tracer in
+	 * {@link LinearExternalContours}.
+	 */
+	@SuppressWarnings("Duplicates")
+	static class Tracer extends ContourTracerBase {
+
+		public Tracer( ConnectRule rule ) {
+			super(rule);
+		}
+
+		/**
+		 * Traces the contour and adds it to the end of storage. Tracing stops early once the contour has
+		 * maxContourLength points since it will be discarded
+		 */
+		public void trace( PackedSetsPoint2D_I32 storage , int initialX , int initialY ,
+						   int adjustX , int adjustY , int maxContourLength )
+		{
+			storage.grow();
+			dir = rule == ConnectRule.EIGHT ? 7 : 0;
+
+			x = initialX;
+			y = initialY;
+			indexBinary = binary.getIndex(x,y);
+			storage.addPointToTail(x - adjustX, y - adjustY);
+
+			// find the next one pixel.  handle case where its an isolated point
+			if( !searchNotZero() ) {
+				return;
+			}
+			int initialDir = dir;
+			moveToNext();
+			dir = nextDirection[dir];
+
+			while( true ) {
+				searchNotZero();
+
+				if( x == initialX && y == initialY && dir == initialDir )
+					return;
+				if( storage.sizeOfTail() >= maxContourLength )
+					return;
+				storage.addPointToTail(x - adjustX, y - adjustY);
+
+				moveToNext();
+				dir = nextDirection[dir];
+			}
+		}
+
+		/**
+		 * Searches in a circle around the current point in a clock-wise direction for the first set pixel.
+		 */
+		private boolean searchNotZero() {
+			for (int i = 0; i < ruleN; i++) {
+				if( binary.data[indexBinary + offsetsBinary[dir]] != 0)
+					return true;
+				dir = (dir+1)%ruleN;
+			}
+			return false;
+		}
+
+		private void moveToNext() {
+			// move to the next pixel using the precomputed pixel index offsets
+			indexBinary += offsetsBinary[dir];
+			// compute the new pixel coordinate from the binary pixel index
+			int a = indexBinary - binary.startIndex;
+			x = a%binary.stride;
+			y = a/binary.stride;
+		}
+	}
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.ImplPackedBinaryImageOps;
+import boofcv.alg.filter.binary.impl.ImplPackedBinaryImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.LWorkArrays;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Contains a standard set of operations performed on a {@link PackedBinaryImage}. These are equivalent to
+ * functions in {@link BinaryImageOps} but process 64 pixels at a time. Binary images can be created using
+ * {@link #convert(GrayU8, PackedBinaryImage)} or by thresholding directly into a packed image with
+ * {@link #threshold(GrayU8, int, boolean, PackedBinaryImage)}.
+ * </p>
+ *
+ * <p>
+ * Erosion and dilation support rectangular structuring elements of any size. Their cost increases with the
+ * log of the element's size, instead of applying a 3x3 operation multiple times.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PackedBinaryImageOps {
+
+	/**
+	 * Converts a binary image stored in a {@link GrayU8} into a packed image. Pixels with a value other
+	 * than zero are set to 1.
+	 *
+	 * @param input Input binary image. Not modified.
+	 * @param output (Optional) Storage for output image. Modified.
+	 * @return Packed binary image
+	 */
+	public static PackedBinaryImage convert( GrayU8 input , @Nullable PackedBinaryImage output ) {
+		output = checkDeclare(input.width, input.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"convert",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.convert(input, output);
+		} else {
+			ImplPackedBinaryImageOps.convert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Converts a packed image into a binary image stored in a {@link GrayU8}
+	 *
+	 * @param input Input packed binary image. Not modified.
+	 * @param output (Optional) Storage for output image. Modified.
+	 * @return Binary image
+	 */
+	public static GrayU8 convert( PackedBinaryImage input , @Nullable GrayU8 output ) {
+		if( output == null )
+			output = new GrayU8(input.width, input.height);
+		else
+			output.reshape(input.width, input.height);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"convert",output) ) {
+			ImplPackedBinaryImageOps_MT.convert(input, output);
+		} else {
+			ImplPackedBinaryImageOps.convert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Applies a global threshold across the whole image and saves the results directly into a packed image.
+	 * If 'down' is true, then pixels with values &le; to 'threshold' are set to 1 and the others set to 0.
+	 * If 'down' is false, then pixels with values &gt; to 'threshold' are set to 1 and the others set to 0.
+	 *
+	 * @see ThresholdImageOps#threshold(GrayU8, GrayU8, int, boolean)
+	 *
+	 * @param input Input image. Not modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @param output (Optional) Packed binary output image. Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage threshold( GrayU8 input , int threshold , boolean down ,
+											   @Nullable PackedBinaryImage output ) {
+		output = checkDeclare(input.width, input.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"threshold",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.threshold(input, threshold, down, output);
+		} else {
+			ImplPackedBinaryImageOps.threshold(input, threshold, down, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Applies a global threshold across the whole image and saves the results directly into a packed image.
+	 * If 'down' is true, then pixels with values &le; to 'threshold' are set to 1 and the others set to 0.
+	 * If 'down' is false, then pixels with values &gt; to 'threshold' are set to 1 and the others set to 0.
+	 *
+	 * @see ThresholdImageOps#threshold(GrayF32, GrayU8, float, boolean)
+	 *
+	 * @param input Input image. Not modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @param output (Optional) Packed binary output image. Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage threshold( GrayF32 input , float threshold , boolean down ,
+											   @Nullable PackedBinaryImage output ) {
+		output = checkDeclare(input.width, input.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"threshold",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.threshold(input, threshold, down, output);
+		} else {
+			ImplPackedBinaryImageOps.threshold(input, threshold, down, output);
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'and' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicAnd( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											  @Nullable PackedBinaryImage output ) {
+		checkSameShape(inputA, inputB);
+		output = checkDeclare(inputA.width, inputA.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"logicAnd",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.logicAnd(inputA, inputB, output);
+		} else {
+			ImplPackedBinaryImageOps.logicAnd(inputA, inputB, output);
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'or' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicOr( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											 @Nullable PackedBinaryImage output ) {
+		checkSameShape(inputA, inputB);
+		output = checkDeclare(inputA.width, inputA.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"logicOr",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.logicOr(inputA, inputB, output);
+		} else {
+			ImplPackedBinaryImageOps.logicOr(inputA, inputB, output);
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'xor' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicXor( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											  @Nullable PackedBinaryImage output ) {
+		checkSameShape(inputA, inputB);
+		output = checkDeclare(inputA.width, inputA.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"logicXor",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.logicXor(inputA, inputB, output);
+		} else {
+			ImplPackedBinaryImageOps.logicXor(inputA, inputB, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Inverts each pixel from true to false and vis-versa.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage invert( PackedBinaryImage input , @Nullable PackedBinaryImage output ) {
+		output = checkDeclare(input.width, input.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"invert",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.invert(input, output);
+		} else {
+			ImplPackedBinaryImageOps.invert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Erodes the image using a rectangular structuring element. A pixel is 1 only if every pixel inside the
+	 * element is 1. Pixels outside the image are ignored.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param regionWidth Width of the structuring element. Centered at regionWidth/2.
+	 * @param regionHeight Height of the structuring element. Centered at regionHeight/2.
+	 * @param output (Optional) Output image. Modified.
+	 * @param work (Optional) Storage for work arrays
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage erode( PackedBinaryImage input , int regionWidth , int regionHeight ,
+										   @Nullable PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		if( regionWidth <= 0 || regionHeight <= 0 )
+			throw new IllegalArgumentException("Region must have a width and height >= 1");
+		output = checkDeclare(input.width, input.height, output);
+		if( work == null )
+			work = new LWorkArrays();
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"erode",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.erode(input, regionWidth, regionWidth/2, regionHeight, regionHeight/2, output, work);
+		} else {
+			ImplPackedBinaryImageOps.erode(input, regionWidth, regionWidth/2, regionHeight, regionHeight/2, output, work);
+		}
+		return output;
+	}
+
+	/**
+	 * Dilates the image using a rectangular structuring element. A pixel is 1 if any pixel inside the element is 1.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param regionWidth Width of the structuring element. Centered at regionWidth/2.
+	 * @param regionHeight Height of the structuring element. Centered at regionHeight/2.
+	 * @param output (Optional) Output image. Modified.
+	 * @param work (Optional) Storage for work arrays
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage dilate( PackedBinaryImage input , int regionWidth , int regionHeight ,
+											@Nullable PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		if( regionWidth <= 0 || regionHeight <= 0 )
+			throw new IllegalArgumentException("Region must have a width and height >= 1");
+		output = checkDeclare(input.width, input.height, output);
+		if( work == null )
+			work = new LWorkArrays();
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"dilate",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.dilate(input, regionWidth, regionWidth/2, regionHeight, regionHeight/2, output, work);
+		} else {
+			ImplPackedBinaryImageOps.dilate(input, regionWidth, regionWidth/2, regionHeight, regionHeight/2, output, work);
+		}
+		return output;
+	}
+
+	/**
+	 * Opening. Erosion followed by dilation with the reflected structuring element. Removes regions of 1 which
+	 * are smaller than the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param regionWidth Width of the structuring element. Centered at regionWidth/2.
+	 * @param regionHeight Height of the structuring element. Centered at regionHeight/2.
+	 * @param output (Optional) Output image. Modified.
+	 * @param work (Optional) Storage for work arrays
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage open( PackedBinaryImage input , int regionWidth , int regionHeight ,
+										  @Nullable PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		output = erode(input, regionWidth, regionHeight, output, work);
+		reflected(output, regionWidth, regionHeight, false, output, work);
+		return output;
+	}
+
+	/**
+	 * Closing. Dilation followed by erosion with the reflected structuring element. Fills in regions of 0 which
+	 * are smaller than the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param regionWidth Width of the structuring element. Centered at regionWidth/2.
+	 * @param regionHeight Height of the structuring element. Centered at regionHeight/2.
+	 * @param output (Optional) Output image. Modified.
+	 * @param work (Optional) Storage for work arrays
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage close( PackedBinaryImage input , int regionWidth , int regionHeight ,
+										   @Nullable PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		output = dilate(input, regionWidth, regionHeight, output, work);
+		reflected(output, regionWidth, regionHeight, true, output, work);
+		return output;
+	}
+
+	/**
+	 * White top-hat. Pixels which are 1 in the input and were removed by {@link #open opening}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param regionWidth Width of the structuring element. Centered at regionWidth/2.
+	 * @param regionHeight Height of the structuring element. Centered at regionHeight/2.
+	 * @param output (Optional) Output image. Can't be the input. Modified.
+	 * @param work (Optional) Storage for work arrays
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage topHatWhite( PackedBinaryImage input , int regionWidth , int regionHeight ,
+												 @Nullable PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		output = open(input, regionWidth, regionHeight, output, work);
+		return logicXor(input, output, output);
+	}
+
+	/**
+	 * Black top-hat. Pixels which are 0 in the input and were filled in by {@link #close closing}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param regionWidth Width of the structuring element. Centered at regionWidth/2.
+	 * @param regionHeight Height of the structuring element. Centered at regionHeight/2.
+	 * @param output (Optional) Output image. Can't be the input. Modified.
+	 * @param work (Optional) Storage for work arrays
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage topHatBlack( PackedBinaryImage input , int regionWidth , int regionHeight ,
+												 @Nullable PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		output = close(input, regionWidth, regionHeight, output, work);
+		return logicXor(input, output, output);
+	}
+
+	/**
+	 * Erodes or dilates using the structuring element reflected about its origin
+	 */
+	private static void reflected( PackedBinaryImage input , int regionWidth , int regionHeight , boolean erode ,
+								   PackedBinaryImage output , @Nullable LWorkArrays work ) {
+		if( work == null )
+			work = new LWorkArrays();
+		int offsetX = regionWidth - 1 - regionWidth/2;
+		int offsetY = regionHeight - 1 - regionHeight/2;
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,erode ? "erode" : "dilate",output.width*output.height) ) {
+			if( erode )
+				ImplPackedBinaryImageOps_MT.erode(input, regionWidth, offsetX, regionHeight, offsetY, output, work);
+			else
+				ImplPackedBinaryImageOps_MT.dilate(input, regionWidth, offsetX, regionHeight, offsetY, output, work);
+		} else {
+			if( erode )
+				ImplPackedBinaryImageOps.erode(input, regionWidth, offsetX, regionHeight, offsetY, output, work);
+			else
+				ImplPackedBinaryImageOps.dilate(input, regionWidth, offsetX, regionHeight, offsetY, output, work);
+		}
+	}
+
+	/**
+	 * Same as {@link BinaryImageOps#erode8(GrayU8, int, GrayU8)}. Applying a 3x3 erosion numTimes is the
+	 * same as a single erosion with a square region of width 2*numTimes+1.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage erode8( PackedBinaryImage input , int numTimes ,
+											@Nullable PackedBinaryImage output ) {
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+		return erode(input, 2*numTimes + 1, 2*numTimes + 1, output, null);
+	}
+
+	/**
+	 * Same as {@link BinaryImageOps#dilate8(GrayU8, int, GrayU8)}. Applying a 3x3 dilation numTimes is the
+	 * same as a single dilation with a square region of width 2*numTimes+1.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage dilate8( PackedBinaryImage input , int numTimes ,
+											 @Nullable PackedBinaryImage output ) {
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+		return dilate(input, 2*numTimes + 1, 2*numTimes + 1, output, null);
+	}
+
+	/**
+	 * Same as {@link BinaryImageOps#removePointNoise(GrayU8, GrayU8)}. If a pixel has less than 2 neighbors
+	 * in its 8-neighborhood it is set to 0, if more than 6 it is set to 1.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Can't be the input image. Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage removePointNoise( PackedBinaryImage input ,
+													  @Nullable PackedBinaryImage output ) {
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		output = checkDeclare(input.width, input.height, output);
+
+		if( BoofConcurrency.isUseConcurrent(PackedBinaryImageOps.class,"removePointNoise",output.width*output.height) ) {
+			ImplPackedBinaryImageOps_MT.removePointNoise(input, output);
+		} else {
+			ImplPackedBinaryImageOps.removePointNoise(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * If the output is null a new image is declared, otherwise it's reshaped to match.
+	 */
+	private static PackedBinaryImage checkDeclare( int width , int height , @Nullable PackedBinaryImage output ) {
+		if( output == null )
+			return new PackedBinaryImage(width, height);
+		output.reshape(width, height);
+		return output;
+	}
+
+	private static void checkSameShape( PackedBinaryImage a , PackedBinaryImage b ) {
+		if( a.width != b.width || a.height != b.height )
+			throw new IllegalArgumentException("Image shapes are not the same");
+	}
+}
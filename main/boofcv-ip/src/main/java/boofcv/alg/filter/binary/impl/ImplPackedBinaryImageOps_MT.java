@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.LWorkArrays;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementation of operations on {@link PackedBinaryImage}. Pixels are processed 64 at a time by
+ * applying bitwise operations to words. Neighboring pixels are accessed by shifting words.
+ * </p>
+ *
+ * <p>
+ * Morphological operations with a rectangular structuring element are separated into a horizontal and vertical
+ * pass. Each pass computes the AND (erosion) or OR (dilation) across the element by doubling the number of
+ * pixels covered at each step, so the cost grows with the log of the element's size.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplPackedBinaryImageOps_MT {
+
+	/**
+	 * Pixels with a value other than zero are set to 1
+	 */
+	public static void convert( GrayU8 input , PackedBinaryImage output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+			for (int x0 = 0; x0 < input.width; x0 += 64) {
+				int bits = Math.min(64, input.width - x0);
+				long word = 0;
+				for (int i = 0; i < bits; i++) {
+					// 1 if the value is not zero
+					long value = (-(input.data[indexIn++] & 0xFF)) >>> 31;
+					word |= value << i;
+				}
+				output.data[indexOut++] = word;
+			}
+		});
+	}
+
+	public static void convert( PackedBinaryImage input , GrayU8 output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x0 = 0; x0 < input.width; x0 += 64) {
+				int bits = Math.min(64, input.width - x0);
+				long word = input.data[indexIn++];
+				for (int i = 0; i < bits; i++) {
+					output.data[indexOut++] = (byte)((word >>> i) & 1);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Applies a global threshold. If down is true then pixels &le; threshold are set to 1, otherwise
+	 * pixels &gt; threshold are set to 1.
+	 */
+	public static void threshold( GrayU8 input , int threshold , boolean down , PackedBinaryImage output ) {
+		// Bits are computed from the sign of a subtraction to avoid branches. Restricting the threshold to the
+		// range of pixel values prevents overflow
+		final int t = Math.max(-1, Math.min(255, threshold));
+		// inverts the bit when thresholding up
+		final long flip = down ? 0 : 1;
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+			for (int x0 = 0; x0 < input.width; x0 += 64) {
+				int bits = Math.min(64, input.width - x0);
+				long word = 0;
+				for (int i = 0; i < bits; i++) {
+					// 1 if value <= t
+					long value = (((input.data[indexIn++] & 0xFF) - t - 1) >>> 31) ^ flip;
+					word |= value << i;
+				}
+				output.data[indexOut++] = word;
+			}
+		});
+	}
+
+	/**
+	 * Applies a global threshold. If down is true then pixels &le; threshold are set to 1, otherwise
+	 * pixels &gt; threshold are set to 1.
+	 */
+	public static void threshold( GrayF32 input , float threshold , boolean down , PackedBinaryImage output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+			for (int x0 = 0; x0 < input.width; x0 += 64) {
+				int bits = Math.min(64, input.width - x0);
+				long word = 0;
+				if( down ) {
+					for (int i = 0; i < bits; i++) {
+						word |= (input.data[indexIn++] <= threshold ? 1L : 0L) << i;
+					}
+				} else {
+					for (int i = 0; i < bits; i++) {
+						word |= (input.data[indexIn++] > threshold ? 1L : 0L) << i;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		});
+	}
+
+	public static void logicAnd( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		BoofConcurrency.loopFor(0, inputA.height, y -> {
+			int index = y*inputA.stride;
+			int end = index + inputA.stride;
+			for (; index < end; index++) {
+				output.data[index] = inputA.data[index] & inputB.data[index];
+			}
+		});
+	}
+
+	public static void logicOr( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		BoofConcurrency.loopFor(0, inputA.height, y -> {
+			int index = y*inputA.stride;
+			int end = index + inputA.stride;
+			for (; index < end; index++) {
+				output.data[index] = inputA.data[index] | inputB.data[index];
+			}
+		});
+	}
+
+	public static void logicXor( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		BoofConcurrency.loopFor(0, inputA.height, y -> {
+			int index = y*inputA.stride;
+			int end = index + inputA.stride;
+			for (; index < end; index++) {
+				output.data[index] = inputA.data[index] ^ inputB.data[index];
+			}
+		});
+	}
+
+	public static void invert( PackedBinaryImage input , PackedBinaryImage output ) {
+		if( input.stride == 0 )
+			return;
+		final long mask = input.lastWordMask();
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int index = y*input.stride;
+			int end = index + input.stride;
+			for (; index < end; index++) {
+				output.data[index] = ~input.data[index];
+			}
+			// bits outside the image must be zero
+			output.data[end - 1] &= mask;
+		});
+	}
+
+	/**
+	 * Binary operation which is designed to remove small bits of spurious noise. An 8-neighborhood is used.
+	 * If a pixel is connected to less than 2 neighbors then its value zero. If connected to more than 6 then
+	 * its value is one. Otherwise it retains its original value. Pixels outside the image are treated as zero.
+	 */
+	public static void removePointNoise( PackedBinaryImage input , PackedBinaryImage output ) {
+		if( input.stride == 0 )
+			return;
+		final long mask = input.lastWordMask();
+		final int stride = input.stride;
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexRow = y*stride;
+			// rows outside the image are skipped by reading from an index of -1
+			int indexUp = y > 0 ? indexRow - stride : -1;
+			int indexDown = y + 1 < input.height ? indexRow + stride : -1;
+
+			for (int k = 0; k < stride; k++) {
+				long center = input.data[indexRow + k];
+
+				// Count up to two neighbors with a value of 1 and up to two with a value of 0 using bitwise ops
+				long ones = 0, twos = 0, zeroOnes = 0, zeroTwos = 0, n;
+
+				n = shiftLeft(input.data, indexRow, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = shiftRight(input.data, indexRow, stride, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = word(input.data, indexUp, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = shiftLeft(input.data, indexUp, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = shiftRight(input.data, indexUp, stride, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = word(input.data, indexDown, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = shiftLeft(input.data, indexDown, k);
+				twos |= ones & n; ones |= n; zeroTwos |= zeroOnes & ~n; zeroOnes |= ~n;
+				n = shiftRight(input.data, indexDown, stride, k);
+				twos |= ones & n; zeroTwos |= zeroOnes & ~n;
+
+				// less than 2 ones -> 0, less than 2 zeros -> 1, otherwise the original value
+				long value = ~zeroTwos | (center & twos);
+				if( k == stride - 1 )
+					value &= mask;
+				output.data[indexRow + k] = value;
+			}
+		});
+	}
+
+	/**
+	 * Word k in the row, or zero if the row is outside the image
+	 */
+	private static long word( long[] data , int indexRow , int k ) {
+		return indexRow < 0 ? 0 : data[indexRow + k];
+	}
+
+	/**
+	 * Word k in the row where each bit has the value of the pixel to its left. Zero outside the image.
+	 */
+	private static long shiftLeft( long[] data , int indexRow , int k ) {
+		if( indexRow < 0 )
+			return 0;
+		long prev = k > 0 ? data[indexRow + k - 1] : 0;
+		return (data[indexRow + k] << 1) | (prev >>> 63);
+	}
+
+	/**
+	 * Word k in the row where each bit has the value of the pixel to its right. Zero outside the image.
+	 */
+	private static long shiftRight( long[] data , int indexRow , int stride , int k ) {
+		if( indexRow < 0 )
+			return 0;
+		long next = k + 1 < stride ? data[indexRow + k + 1] : 0;
+		return (data[indexRow + k] >>> 1) | (next << 63);
+	}
+
+	/**
+	 * Erodes the image using a rectangular structuring element. A pixel is set to 1 only if all the pixels inside
+	 * the element are 1. Pixels outside the image are ignored.
+	 *
+	 * @param regionWidth Width of the structuring element
+	 * @param offsetX Horizontal location of the element's origin
+	 * @param regionHeight Height of the structuring element
+	 * @param offsetY Vertical location of the element's origin
+	 * @param work Storage for work arrays
+	 */
+	public static void erode( PackedBinaryImage input , int regionWidth , int offsetX , int regionHeight , int offsetY,
+							  PackedBinaryImage output , LWorkArrays work ) {
+		morphology(input, regionWidth, offsetX, regionHeight, offsetY, true, output, work);
+	}
+
+	/**
+	 * Dilates the image using a rectangular structuring element. A pixel is set to 1 if any of the pixels inside
+	 * the element are 1.
+	 *
+	 * @param regionWidth Width of the structuring element
+	 * @param offsetX Horizontal location of the element's origin
+	 * @param regionHeight Height of the structuring element
+	 * @param offsetY Vertical location of the element's origin
+	 * @param work Storage for work arrays
+	 */
+	public static void dilate( PackedBinaryImage input , int regionWidth , int offsetX , int regionHeight , int offsetY,
+							   PackedBinaryImage output , LWorkArrays work ) {
+		morphology(input, regionWidth, offsetX, regionHeight, offsetY, false, output, work);
+	}
+
+	/**
+	 * Erosion or dilation with a rectangular structuring element. Rows and columns outside the image are set
+	 * to the value which does not change the result, 1 for erosion and 0 for dilation. The input and output
+	 * can be the same image.
+	 */
+	static void morphology( PackedBinaryImage input , int regionWidth , int offsetX , int regionHeight , int offsetY,
+							boolean erode, PackedBinaryImage output , LWorkArrays work ) {
+		if( input.stride == 0 || input.height == 0 )
+			return;
+
+		final int stride = input.stride;
+		// rows in the extended image used by the vertical pass
+		final int extendedRows = input.height + regionHeight - 1;
+		final long fill = erode ? ~0L : 0L;
+
+		work.reset(extendedRows*stride);
+		long[] bufferA = work.pop();
+		long[] bufferB = work.pop();
+
+		// Horizontal pass. The results are written into rows which are offset so that the vertical pass can
+		// treat rows outside the image as being the fill value
+		Arrays.fill(bufferA, 0, offsetY*stride, fill);
+		Arrays.fill(bufferA, (offsetY + input.height)*stride, extendedRows*stride, fill);
+		final long[] horizontal = bufferA;
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		long[] row = new long[rowBufferLength(stride, regionWidth)];
+		for (int y = y0; y < y1; y++) {
+			horizontalRow(input, y, regionWidth, offsetX, erode, row);
+			System.arraycopy(row, 0, horizontal, (y + offsetY)*stride, stride);
+		}
+		});
+
+		// Vertical pass. After each step a row is the combination of 'covered' rows starting at it
+		int covered = 1;
+		while( covered < regionHeight ) {
+			final int step = Math.min(covered, regionHeight - covered);
+			final long[] src = bufferA, dst = bufferB;
+			BoofConcurrency.loopFor(0, extendedRows, y -> {
+				int indexA = y*stride;
+				if( y + step < extendedRows ) {
+					int indexB = indexA + step*stride;
+					if( erode ) {
+						for (int k = 0; k < stride; k++) {
+							dst[indexA + k] = src[indexA + k] & src[indexB + k];
+						}
+					} else {
+						for (int k = 0; k < stride; k++) {
+							dst[indexA + k] = src[indexA + k] | src[indexB + k];
+						}
+					}
+				} else {
+					// the other row is outside the image and has no effect
+					System.arraycopy(src, indexA, dst, indexA, stride);
+				}
+			});
+			covered += step;
+			bufferA = dst;
+			bufferB = src;
+		}
+
+		// Copy the results and make sure the bits outside the image are zero
+		final long mask = input.lastWordMask();
+		System.arraycopy(bufferA, 0, output.data, 0, input.height*stride);
+		for (int y = 0; y < input.height; y++) {
+			output.data[y*stride + stride - 1] &= mask;
+		}
+
+		work.recycle(bufferA);
+		work.recycle(bufferB);
+	}
+
+	/**
+	 * Number of words required to store a row which has been padded for the horizontal pass
+	 */
+	static int rowBufferLength( int stride , int regionWidth ) {
+		return stride + PackedBinaryImage.wordsPerRow(regionWidth - 1) + 1;
+	}
+
+	/**
+	 * Computes the horizontal pass of erosion or dilation for a single row. Bit x in the output will be the
+	 * combination of pixels in the input row from x-offsetX to x-offsetX+regionWidth-1.
+	 *
+	 * @param row Storage for the results. The first input.stride words contain the found values.
+	 */
+	static void horizontalRow( PackedBinaryImage input , int y , int regionWidth , int offsetX ,
+							   boolean erode , long[] row ) {
+		final long fill = erode ? ~0L : 0L;
+		final long mask = input.lastWordMask();
+		final int indexRow = y*input.stride;
+
+		// Copy the row shifted right by offsetX with pixels outside the image set to the fill value
+		for (int k = 0; k < row.length; k++) {
+			int pos = k*64 - offsetX;
+			int q = pos >> 6, r = pos & 63;
+			long lo = paddedWord(input.data, indexRow, input.stride, q, mask, fill);
+			if( r == 0 ) {
+				row[k] = lo;
+			} else {
+				long hi = paddedWord(input.data, indexRow, input.stride, q + 1, mask, fill);
+				row[k] = (lo >>> r) | (hi << (64 - r));
+			}
+		}
+
+		// After each step bit i is the combination of 'covered' bits starting at it. Words are processed in
+		// increasing order so the bits being read haven't been modified yet
+		int covered = 1;
+		while( covered < regionWidth ) {
+			int step = Math.min(covered, regionWidth - covered);
+			int q = step >> 6, r = step & 63;
+			for (int k = 0; k < row.length; k++) {
+				long lo = k + q < row.length ? row[k + q] : fill;
+				long shifted;
+				if( r == 0 ) {
+					shifted = lo;
+				} else {
+					long hi = k + q + 1 < row.length ? row[k + q + 1] : fill;
+					shifted = (lo >>> r) | (hi << (64 - r));
+				}
+				if( erode )
+					row[k] &= shifted;
+				else
+					row[k] |= shifted;
+			}
+			covered += step;
+		}
+	}
+
+	/**
+	 * Returns word 'q' in a row. Pixels outside the image have the fill value.
+	 */
+	private static long paddedWord( long[] data , int indexRow , int stride , int q , long mask , long fill ) {
+		if( q < 0 || q >= stride )
+			return fill;
+		long value = data[indexRow + q];
+		if( q == stride - 1 )
+			value = (value & mask) | (fill & ~mask);
+		return value;
+	}
+}
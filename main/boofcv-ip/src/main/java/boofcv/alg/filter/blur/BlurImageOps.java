@@ -19,10 +19,14 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime;
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.blur.impl.ImplRecursiveGaussian;
+import boofcv.alg.filter.blur.impl.ImplRecursiveGaussian_MT;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveImageNormalized;
 import boofcv.concurrency.*;
@@ -44,6 +48,23 @@ import javax.annotation.Nullable;
 @SuppressWarnings("Duplicates")
 public class BlurImageOps {
 
+	/**
+	 * Radius at which {@link GrayU8} median filters switch to the constant time algorithm
+	 */
+	public static int MEDIAN_CONSTANT_TIME_RADIUS = 6;
+
+	/**
+	 * Radius at which {@link GrayU16} median filters switch to the constant time algorithm. Smaller regions are
+	 * sorted, which is faster when there are only a few pixels.
+	 */
+	public static int MEDIAN_CONSTANT_TIME_RADIUS_U16 = 3;
+
+	/**
+	 * Sigma at which a recursive Gaussian becomes faster than convolution. Classes which can be configured
+	 * to use the recursive filter will still convolve with a kernel when sigma is smaller than this value.
+	 */
+	public static double GAUSSIAN_RECURSIVE_SIGMA = 2.0;
+
 	/**
 	 * Applies a mean box filter.
 	 *
@@ -199,16 +220,57 @@ public class BlurImageOps {
 		boolean processed = BOverrideBlurImageOps.invokeNativeMedian(input, output, radius);
 
 		if( !processed ) {
-			int w = radius * 2 + 1;
-			int offset[] = new int[w * w];
+			boolean concurrent = BoofConcurrency.isUseConcurrent(BlurImageOps.class,"median",output);
+			// Sorting along the image border is only faster for small regions
+			if( radius >= MEDIAN_CONSTANT_TIME_RADIUS ) {
+				if( concurrent ) {
+					ImplMedianConstantTime_MT.process(input, output, radius, work);
+				} else {
+					ImplMedianConstantTime.process(input, output, radius, work);
+				}
+			} else {
+				int w = radius * 2 + 1;
+				int offset[] = new int[w * w];
+
+				if( concurrent ) {
+					ImplMedianHistogramInner_MT.process(input, output, radius, work);
+				} else {
+					ImplMedianHistogramInner.process(input, output, radius, work);
+				}
+				ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies a median filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @return Output blurred image.
+	 */
+	public static GrayU16 median(GrayU16 input, @Nullable GrayU16 output, int radius,
+								 @Nullable IWorkArrays work) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
 
-			if( BoofConcurrency.USE_CONCURRENT ) {
-				ImplMedianHistogramInner_MT.process(input, output, radius, work);
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		boolean processed = BOverrideBlurImageOps.invokeNativeMedian(input, output, radius);
+
+		if( !processed ) {
+			if( radius >= MEDIAN_CONSTANT_TIME_RADIUS_U16 ) {
+				if( BoofConcurrency.isUseConcurrent(BlurImageOps.class,"median",output) ) {
+					ImplMedianConstantTime_MT.process(input, output, radius, work);
+				} else {
+					ImplMedianConstantTime.process(input, output, radius, work);
+				}
 			} else {
-				ImplMedianHistogramInner.process(input, output, radius, work);
+				ImplMedianSortNaive.process(input, output, radius, null);
 			}
-			// TODO Optimize this algorithm. It is taking up a large percentage of the CPU time
-			ImplMedianSortEdgeNaive.process(input, output, radius, offset);
 		}
 
 		return output;
@@ -455,4 +517,85 @@ public class BlurImageOps {
 		}
 		return output;
 	}
+
+	/**
+	 * Applies Gaussian blur using a recursive filter. Unlike {@link #gaussian(GrayU8, GrayU8, double, int, GrayU8)}
+	 * the cost per pixel doesn't depend on sigma, which makes it much faster for large sigmas. Accuracy degrades
+	 * as sigma approaches its lower limit. Pixels outside the image are set to the value of the nearest
+	 * border pixel.
+	 *
+	 * @see ImplRecursiveGaussian
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 gaussianRecursive(GrayU8 input, @Nullable GrayU8 output, double sigma,
+										   @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,GrayF32.class);
+
+		float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+		if( BoofConcurrency.isUseConcurrent(BlurImageOps.class,"gaussianRecursive",output) ) {
+			ImplRecursiveGaussian_MT.horizontal(input, storage, coef, 0);
+			ImplRecursiveGaussian_MT.vertical(storage, output, coef, 0);
+		} else {
+			ImplRecursiveGaussian.horizontal(input, storage, coef, 0);
+			ImplRecursiveGaussian.vertical(storage, output, coef, 0);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive filter. Unlike {@link #gaussian(GrayF32, GrayF32, double, int, GrayF32)}
+	 * the cost per pixel doesn't depend on sigma, which makes it much faster for large sigmas. Accuracy degrades
+	 * as sigma approaches its lower limit. Pixels outside the image are set to the value of the nearest
+	 * border pixel. The input and output can be the same image.
+	 *
+	 * @see ImplRecursiveGaussian
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianRecursive(GrayF32 input, @Nullable GrayF32 output, double sigma ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+		if( BoofConcurrency.isUseConcurrent(BlurImageOps.class,"gaussianRecursive",output) ) {
+			ImplRecursiveGaussian_MT.horizontal(input, output, coef, 0);
+			ImplRecursiveGaussian_MT.vertical(output, output, coef, 0);
+		} else {
+			ImplRecursiveGaussian.horizontal(input, output, coef, 0);
+			ImplRecursiveGaussian.vertical(output, output, coef, 0);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies recursive Gaussian blur to a {@link Planar}
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageGray<T>>
+	Planar<T> gaussianRecursive(Planar<T> input, @Nullable Planar<T> output, double sigma,
+								@Nullable GrayF32 storage ) {
+		if( output == null )
+			output = input.createNew(input.width,input.height);
+
+		for( int band = 0; band < input.getNumBands(); band++ ) {
+			GBlurImageOps.gaussianRecursive(input.getBand(band),output.getBand(band),sigma,storage);
+		}
+		return output;
+	}
 }
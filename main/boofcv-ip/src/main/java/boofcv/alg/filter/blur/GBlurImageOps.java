@@ -76,6 +76,8 @@ public class GBlurImageOps {
 	T median(T input, @Nullable T output, int radius , @Nullable WorkArrays work) {
 		if( input instanceof GrayU8) {
 			return (T)BlurImageOps.median((GrayU8) input, (GrayU8) output, radius, (IWorkArrays)work);
+		} else if( input instanceof GrayU16) {
+			return (T)BlurImageOps.median((GrayU16) input, (GrayU16) output, radius, (IWorkArrays)work);
 		} else if( input instanceof GrayF32) {
 			return (T)BlurImageOps.median((GrayF32) input, (GrayF32) output, radius);
 		} else if( input instanceof Planar) {
@@ -135,4 +137,27 @@ public class GBlurImageOps {
 				throw new IllegalArgumentException("Unknown image family");
 		}
 	}
+
+	/**
+	 * Applies Gaussian blur using a recursive filter, which has a cost per pixel that does not depend on sigma.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase<T>>
+	T gaussianRecursive(T input, @Nullable T output, double sigma , @Nullable GrayF32 storage ) {
+		if( input instanceof GrayU8 ) {
+			return (T)BlurImageOps.gaussianRecursive((GrayU8)input, (GrayU8)output, sigma, storage);
+		} else if( input instanceof GrayF32 ) {
+			return (T)BlurImageOps.gaussianRecursive((GrayF32)input, (GrayF32)output, sigma);
+		} else if( input instanceof Planar ) {
+			return (T)BlurImageOps.gaussianRecursive((Planar)input, (Planar)output, sigma, storage);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
+		}
+	}
 }
@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IWorkArrays;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter which runs in constant time per pixel, independent of the radius, using the algorithm described
+ * in [1]. A histogram is maintained for each column and updated as the filter moves down the image. The histogram
+ * for the filter region is then updated by adding and removing column histograms as it moves along a row. To keep
+ * the cost of these updates low histograms have two levels. The coarse level is always up to date while the fine
+ * level for a coarse bin is only updated when the median is found inside of it.
+ * </p>
+ *
+ * <p>
+ * The entire image is processed. Along the border the region is clipped by the image, which produces the same
+ * results as {@link ImplMedianSortEdgeNaive}. For {@link GrayU16} the number of histogram bins is determined by
+ * the range of values in the image. If the column histograms would be too large the image is processed in
+ * vertical strips, which adds overhead. If the range is larger than {@link #MAX_DENSE_BINS} then each column
+ * stores its values in sorted order instead of a fine histogram. Only the few values inside of a coarse bin are
+ * then touched when a fine histogram is updated and the memory no longer depends on the range.
+ * </p>
+ *
+ * <p>
+ * [1] Perreault, Simon, and Patrick Hebert. "Median filtering in constant time." IEEE Transactions on
+ * Image Processing 16.9 (2007): 2389-2394.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplMedianConstantTime {
+
+	/**
+	 * Maximum number of elements in the column histograms for a single thread. Images with wide or
+	 * high dynamic range will be processed in strips to stay within this limit.
+	 */
+	public static int MAX_HISTOGRAM_ELEMENTS = 1 << 22;
+
+	/**
+	 * {@link GrayU16} images which need more histogram bins than this use sorted columns instead of fine
+	 * column histograms.
+	 */
+	public static int MAX_DENSE_BINS = 1 << 12;
+
+	/**
+	 * Applies a median image filter.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param work (Optional) used to create local workspace
+	 */
+	public static void process(GrayU8 input, GrayU8 output , int radius, @Nullable IWorkArrays work )
+	{
+		if( work == null )
+			work = new IWorkArrays();
+
+		final int shift = 4;
+		final int numBins = 256;
+		final int stripWidth = selectStripWidth(input.width,radius,numBins,shift);
+		work.reset(columnsLength(input.width,radius,stripWidth,numBins,shift));
+		final IWorkArrays _work = work;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, input.height, 2*radius+1,(y0,y1)->{
+		final int y0 = 0, y1 = input.height;
+		int[] columns = _work.pop();
+		int[] kernel = new int[kernelLength(stripWidth,numBins,shift)];
+		for (int x0 = 0; x0 < input.width; x0 += stripWidth) {
+			int x1 = Math.min(input.width, x0 + stripWidth);
+			processStrip(input, output, radius, x0, x1, y0, y1, columns, kernel, numBins, shift);
+		}
+		_work.recycle(columns);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Applies a median image filter.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param work (Optional) used to create local workspace
+	 */
+	public static void process(GrayU16 input, GrayU16 output , int radius, @Nullable IWorkArrays work )
+	{
+		if( work == null )
+			work = new IWorkArrays();
+		if( input.width == 0 || input.height == 0 )
+			return;
+
+		// Only create histogram bins for values which are inside the image
+		int minValue = Integer.MAX_VALUE, maxValue = -1;
+		for (int y = 0; y < input.height; y++) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+			while( index < end ) {
+				int value = input.data[index++] & 0xFFFF;
+				if( value < minValue ) minValue = value;
+				if( value > maxValue ) maxValue = value;
+			}
+		}
+
+		final int offset = minValue;
+		final int range = maxValue-minValue+1;
+		// roughly equal number of coarse and fine bins
+		final int shift = (32-Integer.numberOfLeadingZeros(range-1)+1)/2;
+		final int numBins = (((range-1)>>shift)+1) << shift;
+		if( numBins > MAX_DENSE_BINS ) {
+			processSorted(input, output, radius, offset, numBins, shift, work);
+			return;
+		}
+		final int stripWidth = selectStripWidth(input.width,radius,numBins,shift);
+		work.reset(columnsLength(input.width,radius,stripWidth,numBins,shift));
+		final IWorkArrays _work = work;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, input.height, 2*radius+1,(y0,y1)->{
+		final int y0 = 0, y1 = input.height;
+		int[] columns = _work.pop();
+		int[] kernel = new int[kernelLength(stripWidth,numBins,shift)];
+		for (int x0 = 0; x0 < input.width; x0 += stripWidth) {
+			int x1 = Math.min(input.width, x0 + stripWidth);
+			processStrip(input, output, radius, offset, x0, x1, y0, y1, columns, kernel, numBins, shift);
+		}
+		_work.recycle(columns);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Applies a median image filter using sorted columns. Used when the range of values is too large for dense
+	 * fine column histograms.
+	 */
+	static void processSorted(GrayU16 input, GrayU16 output, int radius, int offset, int numBins, int shift,
+							  IWorkArrays work )
+	{
+		work.reset(sortedColumnsLength(input.width,radius,numBins,shift));
+		final IWorkArrays _work = work;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, input.height, 2*radius+1,(y0,y1)->{
+		final int y0 = 0, y1 = input.height;
+		int[] columns = _work.pop();
+		int[] kernel = new int[kernelLength(input.width,numBins,shift)];
+		processSortedRows(input, output, radius, offset, y0, y1, columns, kernel, numBins, shift);
+		_work.recycle(columns);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Computes the median for pixels inside the rows y0 &le; y &lt; y1
+	 */
+	static void processSortedRows(GrayU16 input, GrayU16 output, int radius, int offset, int y0, int y1,
+								  int[] columns, int[] kernel, int numBins, int shift)
+	{
+		final int width = input.width;
+		final int numCoarse = numBins >> shift;
+		final int regionWidth = 2*radius + 1;
+		final int startSize = width*(numCoarse + regionWidth);
+		final int offsetMedian = 2*numCoarse + numBins;
+
+		// initialize column histograms and sorted values using the rows inside the first region
+		Arrays.fill(columns, 0, width*numCoarse, 0);
+		Arrays.fill(columns, startSize, startSize + width, 0);
+		int r0 = Math.max(0, y0 - radius), r1 = Math.min(input.height, y0 + radius + 1);
+		for (int y = r0; y < r1; y++) {
+			updateSortedColumns(input, y, offset, columns, numCoarse, shift, regionWidth, true);
+		}
+
+		for (int y = y0; y < y1; y++) {
+			// slide the columns down one row. Remove first so that a column never has more than regionWidth values
+			if( y > y0 ) {
+				if( y - radius - 1 >= 0 )
+					updateSortedColumns(input, y - radius - 1, offset, columns, numCoarse, shift, regionWidth, false);
+				if( y + radius < input.height )
+					updateSortedColumns(input, y + radius, offset, columns, numCoarse, shift, regionWidth, true);
+			}
+
+			int numRows = Math.min(input.height, y + radius + 1) - Math.max(0, y - radius);
+			processSortedRow(columns, kernel, width, radius, numRows, numBins, shift);
+
+			int indexOut = output.startIndex + y*output.stride;
+			for (int i = offsetMedian, end = offsetMedian + width; i < end; i++) {
+				output.data[indexOut++] = (short)(kernel[i] + offset);
+			}
+		}
+	}
+
+	/**
+	 * Computes the median for pixels inside the rectangle x0 &le; x &lt; x1 and y0 &le; y &lt; y1
+	 */
+	static void processStrip(GrayU8 input, GrayU8 output, int radius, int x0, int x1, int y0, int y1,
+							 int[] columns, int[] kernel, int numBins, int shift)
+	{
+		final int numCoarse = numBins >> shift;
+		final int c0 = Math.max(0, x0 - radius);
+		final int c1 = Math.min(input.width, x1 + radius);
+		final int offsetMedian = 2*numCoarse + numBins;
+
+		// initialize column histograms using the rows inside the first region
+		Arrays.fill(columns, 0, (c1 - c0)*(numCoarse + numBins), 0);
+		int r0 = Math.max(0, y0 - radius), r1 = Math.min(input.height, y0 + radius + 1);
+		for (int y = r0; y < r1; y++) {
+			updateColumns(input, y, c0, c1, columns, numCoarse, shift, 1);
+		}
+
+		for (int y = y0; y < y1; y++) {
+			// slide the column histograms down one row
+			if( y > y0 ) {
+				if( y + radius < input.height )
+					updateColumns(input, y + radius, c0, c1, columns, numCoarse, shift, 1);
+				if( y - radius - 1 >= 0 )
+					updateColumns(input, y - radius - 1, c0, c1, columns, numCoarse, shift, -1);
+			}
+
+			int numRows = Math.min(input.height, y + radius + 1) - Math.max(0, y - radius);
+			processRow(columns, kernel, input.width, radius, x0, x1, c0, c1, numRows, numBins, shift);
+
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for (int i = offsetMedian, end = offsetMedian + x1 - x0; i < end; i++) {
+				output.data[indexOut++] = (byte)kernel[i];
+			}
+		}
+	}
+
+	/**
+	 * Computes the median for pixels inside the rectangle x0 &le; x &lt; x1 and y0 &le; y &lt; y1
+	 */
+	static void processStrip(GrayU16 input, GrayU16 output, int radius, int offset, int x0, int x1, int y0, int y1,
+							 int[] columns, int[] kernel, int numBins, int shift)
+	{
+		final int numCoarse = numBins >> shift;
+		final int c0 = Math.max(0, x0 - radius);
+		final int c1 = Math.min(input.width, x1 + radius);
+		final int offsetMedian = 2*numCoarse + numBins;
+
+		// initialize column histograms using the rows inside the first region
+		Arrays.fill(columns, 0, (c1 - c0)*(numCoarse + numBins), 0);
+		int r0 = Math.max(0, y0 - radius), r1 = Math.min(input.height, y0 + radius + 1);
+		for (int y = r0; y < r1; y++) {
+			updateColumns(input, y, offset, c0, c1, columns, numCoarse, shift, 1);
+		}
+
+		for (int y = y0; y < y1; y++) {
+			// slide the column histograms down one row
+			if( y > y0 ) {
+				if( y + radius < input.height )
+					updateColumns(input, y + radius, offset, c0, c1, columns, numCoarse, shift, 1);
+				if( y - radius - 1 >= 0 )
+					updateColumns(input, y - radius - 1, offset, c0, c1, columns, numCoarse, shift, -1);
+			}
+
+			int numRows = Math.min(input.height, y + radius + 1) - Math.max(0, y - radius);
+			processRow(columns, kernel, input.width, radius, x0, x1, c0, c1, numRows, numBins, shift);
+
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for (int i = offsetMedian, end = offsetMedian + x1 - x0; i < end; i++) {
+				output.data[indexOut++] = (short)(kernel[i] + offset);
+			}
+		}
+	}
+
+	/**
+	 * Adds or removes a row from the column histograms
+	 */
+	private static void updateColumns(GrayU8 input, int y, int c0, int c1, int[] columns,
+									  int numCoarse, int shift, int delta)
+	{
+		final int numBins = numCoarse << shift;
+		int indexIn = input.startIndex + y*input.stride + c0;
+		final int endCoarse = (c1 - c0)*numCoarse;
+		// fine histograms are stored after all the coarse histograms
+		int indexFine = endCoarse;
+		for (int indexCoarse = 0; indexCoarse < endCoarse; indexCoarse += numCoarse) {
+			int value = input.data[indexIn++] & 0xFF;
+			columns[indexCoarse + (value >> shift)] += delta;
+			columns[indexFine + value] += delta;
+			indexFine += numBins;
+		}
+	}
+
+	/**
+	 * Adds or removes a row from the column histograms
+	 */
+	private static void updateColumns(GrayU16 input, int y, int offset, int c0, int c1, int[] columns,
+									  int numCoarse, int shift, int delta)
+	{
+		final int numBins = numCoarse << shift;
+		int indexIn = input.startIndex + y*input.stride + c0;
+		final int endCoarse = (c1 - c0)*numCoarse;
+		// fine histograms are stored after all the coarse histograms
+		int indexFine = endCoarse;
+		for (int indexCoarse = 0; indexCoarse < endCoarse; indexCoarse += numCoarse) {
+			int value = (input.data[indexIn++] & 0xFFFF) - offset;
+			columns[indexCoarse + (value >> shift)] += delta;
+			columns[indexFine + value] += delta;
+			indexFine += numBins;
+		}
+	}
+
+	/**
+	 * Adds or removes a row from the coarse column histograms and the sorted values in each column
+	 */
+	private static void updateSortedColumns(GrayU16 input, int y, int offset, int[] columns,
+											int numCoarse, int shift, int regionWidth, boolean add)
+	{
+		final int width = input.width;
+		final int startSorted = width*numCoarse;
+		final int startSize = startSorted + width*regionWidth;
+		int indexIn = input.startIndex + y*input.stride;
+		for (int c = 0; c < width; c++) {
+			int value = (input.data[indexIn++] & 0xFFFF) - offset;
+			int start = startSorted + c*regionWidth;
+			int size = columns[startSize + c];
+			int i = lowerBound(columns, start, size, value);
+			if( add ) {
+				columns[c*numCoarse + (value >> shift)]++;
+				System.arraycopy(columns, i, columns, i + 1, start + size - i);
+				columns[i] = value;
+				columns[startSize + c] = size + 1;
+			} else {
+				columns[c*numCoarse + (value >> shift)]--;
+				System.arraycopy(columns, i + 1, columns, i, start + size - i - 1);
+				columns[startSize + c] = size - 1;
+			}
+		}
+	}
+
+	/**
+	 * Index of the first element in the sorted array which is &ge; value
+	 */
+	private static int lowerBound( int[] data, int start, int size, int value ) {
+		int lo = start, hi = start + size;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( data[mid] < value )
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Moves the filter region along a row using the column histograms and saves the median of each pixel,
+	 * with the offset removed, into the end of the kernel array.
+	 *
+	 * @param columns Column histograms. Coarse histograms for all columns followed by fine histograms.
+	 * @param kernel Coarse and fine histograms of the filter region, the x-coordinate each fine histogram was
+	 *               last updated at, and the found median.
+	 * @param width Image width
+	 * @param c0 Column which the first column histogram belongs to
+	 * @param c1 Column after the last column histogram
+	 * @param numRows Number of rows inside the filter region
+	 */
+	static void processRow(int[] columns, int[] kernel, int width, int radius, int x0, int x1, int c0, int c1,
+						   int numRows, int numBins, int shift)
+	{
+		final int numCoarse = numBins >> shift;
+		final int binWidth = 1 << shift;
+		final int startFine = (c1 - c0)*numCoarse;
+		final int offsetFine = numCoarse;
+		final int offsetLast = offsetFine + numBins;
+		final int offsetMedian = offsetLast + numCoarse;
+
+		// The fine histograms are left over from the previous row. Mark them as stale
+		Arrays.fill(kernel, 0, numCoarse, 0);
+		Arrays.fill(kernel, offsetLast, offsetLast + numCoarse, Integer.MIN_VALUE/2);
+
+		// coarse histogram for the first region
+		for (int c = Math.max(0, x0 - radius), end = Math.min(width, x0 + radius + 1); c < end; c++) {
+			addColumn(columns, (c - c0)*numCoarse, kernel, 0, numCoarse, 1);
+		}
+
+		for (int x = x0; x < x1; x++) {
+			if( x > x0 ) {
+				int add = x + radius, remove = x - radius - 1;
+				if( add < width && remove >= 0 )
+					swapColumn(columns, (add - c0)*numCoarse, (remove - c0)*numCoarse, kernel, 0, numCoarse);
+				else if( add < width )
+					addColumn(columns, (add - c0)*numCoarse, kernel, 0, numCoarse, 1);
+				else if( remove >= 0 )
+					addColumn(columns, (remove - c0)*numCoarse, kernel, 0, numCoarse, -1);
+			}
+
+			// Same definition of the median as the sort based implementations
+			int numCols = Math.min(width, x + radius + 1) - Math.max(0, x - radius);
+			int threshold = (numRows*numCols)/2 + 1;
+
+			// find the coarse bin the median is inside of
+			int coarse = 0, count = 0;
+			while( true ) {
+				int next = count + kernel[coarse];
+				if( next >= threshold )
+					break;
+				count = next;
+				coarse++;
+			}
+
+			// bring the fine histogram for this coarse bin up to date
+			int fineStart = offsetFine + (coarse << shift);
+			int fineCol = startFine + (coarse << shift);
+			int last = kernel[offsetLast + coarse];
+			if( x - last > radius ) {
+				// it's faster to rebuild it from scratch
+				Arrays.fill(kernel, fineStart, fineStart + binWidth, 0);
+				for (int c = Math.max(0, x - radius), end = Math.min(width, x + radius + 1); c < end; c++) {
+					addColumn(columns, (c - c0)*numBins + fineCol, kernel, fineStart, binWidth, 1);
+				}
+			} else {
+				for (int i = last + 1; i <= x; i++) {
+					int add = i + radius, remove = i - radius - 1;
+					if( add < width && remove >= 0 )
+						swapColumn(columns, (add - c0)*numBins + fineCol, (remove - c0)*numBins + fineCol,
+								kernel, fineStart, binWidth);
+					else if( add < width )
+						addColumn(columns, (add - c0)*numBins + fineCol, kernel, fineStart, binWidth, 1);
+					else if( remove >= 0 )
+						addColumn(columns, (remove - c0)*numBins + fineCol, kernel, fineStart, binWidth, -1);
+				}
+			}
+			kernel[offsetLast + coarse] = x;
+
+			// find the median inside the fine histogram
+			int fine = 0;
+			while( true ) {
+				count += kernel[fineStart + fine];
+				if( count >= threshold )
+					break;
+				fine++;
+			}
+
+			kernel[offsetMedian + x - x0] = (coarse << shift) + fine;
+		}
+	}
+
+	/**
+	 * Same as {@link #processRow} but fine histograms are updated using the sorted values in each column.
+	 *
+	 * @param columns Coarse column histograms, followed by the sorted values in each column, followed by the
+	 *                number of values in each column.
+	 */
+	static void processSortedRow(int[] columns, int[] kernel, int width, int radius,
+								 int numRows, int numBins, int shift)
+	{
+		final int numCoarse = numBins >> shift;
+		final int binWidth = 1 << shift;
+		final int regionWidth = 2*radius + 1;
+		final int startSorted = width*numCoarse;
+		final int startSize = startSorted + width*regionWidth;
+		final int offsetFine = numCoarse;
+		final int offsetLast = offsetFine + numBins;
+		final int offsetMedian = offsetLast + numCoarse;
+
+		// The fine histograms are left over from the previous row. Mark them as stale
+		Arrays.fill(kernel, 0, numCoarse, 0);
+		Arrays.fill(kernel, offsetLast, offsetLast + numCoarse, Integer.MIN_VALUE/2);
+
+		// coarse histogram for the first region
+		for (int c = 0, end = Math.min(width, radius + 1); c < end; c++) {
+			addColumn(columns, c*numCoarse, kernel, 0, numCoarse, 1);
+		}
+
+		for (int x = 0; x < width; x++) {
+			if( x > 0 ) {
+				int add = x + radius, remove = x - radius - 1;
+				if( add < width && remove >= 0 )
+					swapColumn(columns, add*numCoarse, remove*numCoarse, kernel, 0, numCoarse);
+				else if( add < width )
+					addColumn(columns, add*numCoarse, kernel, 0, numCoarse, 1);
+				else if( remove >= 0 )
+					addColumn(columns, remove*numCoarse, kernel, 0, numCoarse, -1);
+			}
+
+			// Same definition of the median as the sort based implementations
+			int numCols = Math.min(width, x + radius + 1) - Math.max(0, x - radius);
+			int threshold = (numRows*numCols)/2 + 1;
+
+			// find the coarse bin the median is inside of
+			int coarse = 0, count = 0;
+			while( true ) {
+				int next = count + kernel[coarse];
+				if( next >= threshold )
+					break;
+				count = next;
+				coarse++;
+			}
+
+			// bring the fine histogram for this coarse bin up to date
+			int fineStart = offsetFine + (coarse << shift);
+			int low = coarse << shift;
+			int last = kernel[offsetLast + coarse];
+			if( x - last > radius ) {
+				// it's faster to rebuild it from scratch
+				Arrays.fill(kernel, fineStart, fineStart + binWidth, 0);
+				for (int c = Math.max(0, x - radius), end = Math.min(width, x + radius + 1); c < end; c++) {
+					addSortedColumn(columns, startSorted + c*regionWidth, columns[startSize + c],
+							low, binWidth, kernel, fineStart, 1);
+				}
+			} else {
+				for (int i = last + 1; i <= x; i++) {
+					int add = i + radius, remove = i - radius - 1;
+					if( add < width )
+						addSortedColumn(columns, startSorted + add*regionWidth, columns[startSize + add],
+								low, binWidth, kernel, fineStart, 1);
+					if( remove >= 0 )
+						addSortedColumn(columns, startSorted + remove*regionWidth, columns[startSize + remove],
+								low, binWidth, kernel, fineStart, -1);
+				}
+			}
+			kernel[offsetLast + coarse] = x;
+
+			// find the median inside the fine histogram
+			int fine = 0;
+			while( true ) {
+				count += kernel[fineStart + fine];
+				if( count >= threshold )
+					break;
+				fine++;
+			}
+
+			kernel[offsetMedian + x] = (coarse << shift) + fine;
+		}
+	}
+
+	/**
+	 * Adds or subtracts the sorted values in a column which are inside the coarse bin from its fine histogram
+	 */
+	private static void addSortedColumn( int[] columns, int start, int size, int low, int binWidth,
+										 int[] kernel, int fineStart, int sign ) {
+		final int end = start + size;
+		final int high = low + binWidth;
+		for (int i = lowerBound(columns, start, size, low); i < end; i++) {
+			int value = columns[i];
+			if( value >= high )
+				break;
+			kernel[fineStart + value - low] += sign;
+		}
+	}
+
+	/**
+	 * Adds or subtracts a column histogram from the kernel histogram
+	 */
+	private static void addColumn( int[] columns, int column, int[] kernel, int start, int length, int sign ) {
+		if( sign > 0 ) {
+			for (int i = 0; i < length; i++) {
+				kernel[start + i] += columns[column + i];
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				kernel[start + i] -= columns[column + i];
+			}
+		}
+	}
+
+	/**
+	 * Adds one column histogram to the kernel histogram and subtracts another
+	 */
+	private static void swapColumn( int[] columns, int columnAdd, int columnRemove,
+									int[] kernel, int start, int length ) {
+		for (int i = 0; i < length; i++) {
+			kernel[start + i] += columns[columnAdd + i] - columns[columnRemove + i];
+		}
+	}
+
+	/**
+	 * Selects the width of a vertical strip so that the column histograms don't exceed
+	 * {@link #MAX_HISTOGRAM_ELEMENTS}
+	 */
+	static int selectStripWidth( int width , int radius , int numBins , int shift ) {
+		int colStride = (numBins >> shift) + numBins;
+		int maxColumns = MAX_HISTOGRAM_ELEMENTS/colStride;
+		if( maxColumns >= width )
+			return Math.max(1,width);
+		return Math.max(1, maxColumns - 2*radius);
+	}
+
+	/**
+	 * Length of the array which stores the column histograms in a strip
+	 */
+	static int columnsLength( int width , int radius , int stripWidth , int numBins , int shift ) {
+		int numCoarse = numBins >> shift;
+		return Math.min(width, stripWidth + 2*radius)*(numCoarse + numBins);
+	}
+
+	/**
+	 * Length of the array which stores the coarse column histograms, the sorted values in each column, and the
+	 * number of values in each column
+	 */
+	static int sortedColumnsLength( int width , int radius , int numBins , int shift ) {
+		return width*((numBins >> shift) + 2*radius + 2);
+	}
+
+	/**
+	 * Length of the array which stores the coarse and fine kernel histograms, when each fine histogram was
+	 * last updated, and the median for each pixel in a row of a strip.
+	 */
+	static int kernelLength( int stripWidth , int numBins , int shift ) {
+		return 2*(numBins >> shift) + numBins + stripWidth;
+	}
+}
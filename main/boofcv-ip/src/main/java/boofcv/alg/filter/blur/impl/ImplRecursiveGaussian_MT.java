@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Recursive (IIR) approximation of a Gaussian blur by Young and van Vliet [1]. A third order causal filter is
+ * applied forwards and then backwards along each line, so the cost per pixel is constant and does not depend
+ * on sigma. The filter's poles are those from [3], which are much more accurate than the original coefficients. Border pixels are handled using the initial conditions from Triggs and Sdika [2], which is
+ * equivalent to extending the image by repeating the value at its border.
+ * </p>
+ *
+ * <p>
+ * Derivatives are computed by applying a [-0.5 0 0.5] or [1 -2 1] difference to the line before it's smoothed,
+ * as suggested in [3]. Lines are processed in interleaved strips so that several are filtered at once and
+ * memory is accessed sequentially in both passes.
+ * </p>
+ *
+ * <p>
+ * The approximation is least accurate for small sigmas, especially for derivatives. When sigma is less than
+ * about 2 convolution is both faster and more accurate.
+ * </p>
+ *
+ * <p>
+ * [1] I. T. Young and L. J. van Vliet, "Recursive implementation of the Gaussian filter," Signal Processing, 1995<br>
+ * [2] B. Triggs and M. Sdika, "Boundary conditions for Young-van Vliet recursive filtering,"
+ * IEEE Trans. Signal Processing, 2006<br>
+ * [3] L. J. van Vliet, I. T. Young, and P. W. Verbeek, "Recursive Gaussian derivative filters," ICPR, 1998
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplRecursiveGaussian_MT {
+
+	/**
+	 * Number of lines which are filtered at the same time
+	 */
+	public static int STRIP_WIDTH = 32;
+
+	// Poles of a filter with sigma = 2 which minimize the maximum error [3]
+	private static final double POLE_RE = 1.41650, POLE_IM = 1.00829, POLE_REAL = 1.86543;
+
+	/**
+	 * Computes the filter's coefficients for the specified sigma. The returned array contains
+	 * B, a1, a2, a3 followed by the 3x3 boundary matrix, in row-major order, which has been scaled by B.
+	 *
+	 * @param sigma Gaussian's standard deviation. Should be &ge; 0.5
+	 * @return filter coefficients
+	 */
+	public static float[] coefficients( double sigma ) {
+		if( sigma < 0.5 )
+			throw new IllegalArgumentException("sigma must be >= 0.5");
+
+		// Poles are scaled by raising them to the power 1/q. Find the q which gives the desired variance
+		double q = sigma/2.0;
+		for (int iter = 0; iter < 20; iter++) {
+			double step = 1e-6*q;
+			double error = variance(q) - sigma*sigma;
+			double slope = (variance(q + step) - variance(q - step))/(2*step);
+			double change = error/slope;
+			q -= change;
+			if( Math.abs(change) <= 1e-10*q )
+				break;
+		}
+
+		// the pair of complex poles and the real pole, after scaling then inverted
+		double mag = Math.pow(Math.sqrt(POLE_RE*POLE_RE + POLE_IM*POLE_IM), 1.0/q);
+		double theta = Math.atan2(POLE_IM, POLE_RE)/q;
+		double pRe = Math.cos(theta)/mag;
+		double pNorm2 = 1.0/(mag*mag);
+		double p3 = 1.0/Math.pow(POLE_REAL, 1.0/q);
+
+		double b1 = 2*pRe + p3;
+		double b2 = -(pNorm2 + 2*pRe*p3);
+		double b3 = pNorm2*p3;
+
+		float[] coef = new float[13];
+		coef[1] = (float)b1;
+		coef[2] = (float)b2;
+		coef[3] = (float)b3;
+
+		// computed from the rounded coefficients so that the filter's gain is exactly one
+		double a1 = coef[1], a2 = coef[2], a3 = coef[3];
+		double B = 1.0 - (a1 + a2 + a3);
+		coef[0] = (float)B;
+
+		// Matrix from Triggs and Sdika which maps the causal filter's final state onto the initial
+		// state of the anti-causal filter
+		double s = B/((1.0 + a1 - a2 + a3)*(1.0 - a1 - a2 - a3)*(1.0 + a2 + (a1 - a3)*a3));
+		coef[4]  = (float)(s*(-a3*a1 + 1.0 - a3*a3 - a2));
+		coef[5]  = (float)(s*(a3 + a1)*(a2 + a3*a1));
+		coef[6]  = (float)(s*a3*(a1 + a3*a2));
+		coef[7]  = (float)(s*(a1 + a3*a2));
+		coef[8]  = (float)(-s*(a2 - 1.0)*(a2 + a3*a1));
+		coef[9]  = (float)(-s*a3*(a3*a1 + a3*a3 + a2 - 1.0));
+		coef[10] = (float)(s*(a3*a1 + a2 + a1*a1 - a2*a2));
+		coef[11] = (float)(s*(a1*a2 + a3*a2*a2 - a1*a3*a3 - a3*a3*a3 - a3*a2 + a3));
+		coef[12] = (float)(s*a3*(a1 + a3*a2));
+
+		return coef;
+	}
+
+	/**
+	 * Variance of the combined causal and anti-causal filter when the poles are raised to the power 1/q
+	 */
+	private static double variance( double q ) {
+		double mag = Math.pow(Math.sqrt(POLE_RE*POLE_RE + POLE_IM*POLE_IM), 1.0/q);
+		double theta = Math.atan2(POLE_IM, POLE_RE)/q;
+		double re = mag*Math.cos(theta), im = mag*Math.sin(theta);
+
+		// z/(z-1)^2 for the complex pole. Its conjugate contributes the same real part
+		double dRe = re - 1, dIm = im;
+		double sqRe = dRe*dRe - dIm*dIm, sqIm = 2*dRe*dIm;
+		double denom = sqRe*sqRe + sqIm*sqIm;
+		double complex = (re*sqRe + im*sqIm)/denom;
+
+		double real = Math.pow(POLE_REAL, 1.0/q);
+		return 2*(2*complex + real/((real - 1)*(real - 1)));
+	}
+
+	/**
+	 * Filters each row in the image
+	 *
+	 * @param coef Filter coefficients from {@link #coefficients}
+	 * @param order Order of the derivative. 0 = blur, 1 = first derivative, 2 = second derivative
+	 */
+	public static void horizontal( GrayU8 input , GrayF32 output , float[] coef , int order ) {
+		final int length = input.width;
+		final int numStrips = (input.height + STRIP_WIDTH - 1)/STRIP_WIDTH;
+
+		BoofConcurrency.loopBlocks(0, numStrips, (s0,s1)->{
+		float[] work = new float[(length + 6)*STRIP_WIDTH];
+		for (int strip = s0; strip < s1; strip++) {
+			int y0 = strip*STRIP_WIDTH;
+			int numLines = Math.min(STRIP_WIDTH, input.height - y0);
+
+			for (int j = 0; j < numLines; j++) {
+				int indexIn = input.startIndex + (y0 + j)*input.stride;
+				for (int i = 0; i < length; i++) {
+					work[(i + 3)*numLines + j] = input.data[indexIn + i] & 0xFF;
+				}
+			}
+			filter(work, length, numLines, coef, order);
+
+			for (int j = 0; j < numLines; j++) {
+				int indexOut = output.startIndex + (y0 + j)*output.stride;
+				for (int i = 0; i < length; i++) {
+					output.data[indexOut + i] = work[(i + 3)*numLines + j];
+				}
+			}
+		}
+		});
+	}
+
+	/**
+	 * Filters each row in the image
+	 *
+	 * @param coef Filter coefficients from {@link #coefficients}
+	 * @param order Order of the derivative. 0 = blur, 1 = first derivative, 2 = second derivative
+	 */
+	public static void horizontal( GrayF32 input , GrayF32 output , float[] coef , int order ) {
+		final int length = input.width;
+		final int numStrips = (input.height + STRIP_WIDTH - 1)/STRIP_WIDTH;
+
+		BoofConcurrency.loopBlocks(0, numStrips, (s0,s1)->{
+		float[] work = new float[(length + 6)*STRIP_WIDTH];
+		for (int strip = s0; strip < s1; strip++) {
+			int y0 = strip*STRIP_WIDTH;
+			int numLines = Math.min(STRIP_WIDTH, input.height - y0);
+
+			for (int j = 0; j < numLines; j++) {
+				int indexIn = input.startIndex + (y0 + j)*input.stride;
+				for (int i = 0; i < length; i++) {
+					work[(i + 3)*numLines + j] = input.data[indexIn + i];
+				}
+			}
+			filter(work, length, numLines, coef, order);
+
+			for (int j = 0; j < numLines; j++) {
+				int indexOut = output.startIndex + (y0 + j)*output.stride;
+				for (int i = 0; i < length; i++) {
+					output.data[indexOut + i] = work[(i + 3)*numLines + j];
+				}
+			}
+		}
+		});
+	}
+
+	/**
+	 * Filters each column in the image. The input and output can be the same image.
+	 *
+	 * @param coef Filter coefficients from {@link #coefficients}
+	 * @param order Order of the derivative. 0 = blur, 1 = first derivative, 2 = second derivative
+	 */
+	public static void vertical( GrayF32 input , GrayF32 output , float[] coef , int order ) {
+		final int length = input.height;
+		final int numStrips = (input.width + STRIP_WIDTH - 1)/STRIP_WIDTH;
+
+		BoofConcurrency.loopBlocks(0, numStrips, (s0,s1)->{
+		float[] work = new float[(length + 6)*STRIP_WIDTH];
+		for (int strip = s0; strip < s1; strip++) {
+			int x0 = strip*STRIP_WIDTH;
+			int numLines = Math.min(STRIP_WIDTH, input.width - x0);
+
+			for (int i = 0; i < length; i++) {
+				int indexIn = input.startIndex + i*input.stride + x0;
+				System.arraycopy(input.data, indexIn, work, (i + 3)*numLines, numLines);
+			}
+			filter(work, length, numLines, coef, order);
+
+			for (int i = 0; i < length; i++) {
+				int indexOut = output.startIndex + i*output.stride + x0;
+				System.arraycopy(work, (i + 3)*numLines, output.data, indexOut, numLines);
+			}
+		}
+		});
+	}
+
+	/**
+	 * Filters each column in the image and rounds the results
+	 *
+	 * @param coef Filter coefficients from {@link #coefficients}
+	 * @param order Order of the derivative. 0 = blur, 1 = first derivative, 2 = second derivative
+	 */
+	public static void vertical( GrayF32 input , GrayU8 output , float[] coef , int order ) {
+		final int length = input.height;
+		final int numStrips = (input.width + STRIP_WIDTH - 1)/STRIP_WIDTH;
+
+		BoofConcurrency.loopBlocks(0, numStrips, (s0,s1)->{
+		float[] work = new float[(length + 6)*STRIP_WIDTH];
+		for (int strip = s0; strip < s1; strip++) {
+			int x0 = strip*STRIP_WIDTH;
+			int numLines = Math.min(STRIP_WIDTH, input.width - x0);
+
+			for (int i = 0; i < length; i++) {
+				int indexIn = input.startIndex + i*input.stride + x0;
+				System.arraycopy(input.data, indexIn, work, (i + 3)*numLines, numLines);
+			}
+			filter(work, length, numLines, coef, order);
+
+			for (int i = 0; i < length; i++) {
+				int indexOut = output.startIndex + i*output.stride + x0;
+				int indexWork = (i + 3)*numLines;
+				for (int j = 0; j < numLines; j++) {
+					int value = (int)(work[indexWork + j] + 0.5f);
+					output.data[indexOut + j] = (byte)(value < 0 ? 0 : (value > 255 ? 255 : value));
+				}
+			}
+		}
+		});
+	}
+
+	/**
+	 * Applies the filter to interleaved lines. Element 'i' of line 'j' is stored at (i+3)*numLines + j.
+	 * The first and last three elements of each line are used as work space.
+	 *
+	 * @param data Interleaved lines. Modified.
+	 * @param length Number of elements in each line
+	 * @param numLines Number of lines
+	 * @param coef Filter coefficients
+	 * @param order Order of the derivative.
+	 */
+	static void filter( float[] data , int length , int numLines , float[] coef , int order ) {
+		final float B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+		final int first = 3*numLines;
+		final int last = (length + 2)*numLines;
+
+		// Value the line converges to past each end. Derivatives of a constant are zero
+		for (int j = 0; j < numLines; j++) {
+			float uMinus = order == 0 ? data[first + j] : 0;
+			float uPlus = order == 0 ? data[last + j] : 0;
+			data[j] = data[numLines + j] = data[2*numLines + j] = uMinus;
+			data[last + numLines + j] = uPlus;
+		}
+
+		if( order == 1 ) {
+			differenceFirst(data, length, numLines);
+		} else if( order == 2 ) {
+			differenceSecond(data, length, numLines);
+		}
+
+		// causal pass
+		for (int i = first; i <= last; i += numLines) {
+			for (int j = 0; j < numLines; j++) {
+				int index = i + j;
+				data[index] = B*data[index] + a1*data[index - numLines] +
+						a2*data[index - 2*numLines] + a3*data[index - 3*numLines];
+			}
+		}
+
+		// initial conditions for the anti-causal pass
+		for (int j = 0; j < numLines; j++) {
+			int index = last + j;
+			float u = data[index + numLines];
+			float d0 = data[index] - u;
+			float d1 = data[index - numLines] - u;
+			float d2 = data[index - 2*numLines] - u;
+			data[index] = u + coef[4]*d0 + coef[5]*d1 + coef[6]*d2;
+			data[index + numLines] = u + coef[7]*d0 + coef[8]*d1 + coef[9]*d2;
+			data[index + 2*numLines] = u + coef[10]*d0 + coef[11]*d1 + coef[12]*d2;
+		}
+
+		// anti-causal pass
+		for (int i = last - numLines; i >= first; i -= numLines) {
+			for (int j = 0; j < numLines; j++) {
+				int index = i + j;
+				data[index] = B*data[index] + a1*data[index + numLines] +
+						a2*data[index + 2*numLines] + a3*data[index + 3*numLines];
+			}
+		}
+	}
+
+	/**
+	 * Replaces each element with a central difference. The first and last elements are repeated beyond the line.
+	 */
+	static void differenceFirst( float[] data , int length , int numLines ) {
+		final int first = 3*numLines;
+		final int last = (length + 2)*numLines;
+
+		for (int j = 0; j < numLines; j++) {
+			float prev = data[first + j];
+			for (int i = first + j; i <= last + j; i += numLines) {
+				float next = i < last ? data[i + numLines] : data[i];
+				float center = data[i];
+				data[i] = 0.5f*(next - prev);
+				prev = center;
+			}
+		}
+	}
+
+	/**
+	 * Replaces each element with a second difference. The first and last elements are repeated beyond the line.
+	 */
+	static void differenceSecond( float[] data , int length , int numLines ) {
+		final int first = 3*numLines;
+		final int last = (length + 2)*numLines;
+
+		for (int j = 0; j < numLines; j++) {
+			float prev = data[first + j];
+			for (int i = first + j; i <= last + j; i += numLines) {
+				float next = i < last ? data[i + numLines] : data[i];
+				float center = data[i];
+				data[i] = next - 2*center + prev;
+				prev = center;
+			}
+		}
+	}
+}
@@ -99,9 +99,13 @@ public class ConvolveImage {
 		boolean processed = BOverrideConvolveImage.invokeNativeConvolve(kernel,input,output,border);
 
 		if( !processed ) {
-			border.setImage(input);
-			ConvolveImageNoBorder.convolve(kernel,input,output);
-			ConvolveJustBorder_General_SB.convolve(kernel, border,output);
+			if( ConvolveImageFft.isFftFaster(kernel.width,input.width,input.height) ) {
+				ConvolveImageFft.convolve(kernel,input,output,border);
+			} else {
+				border.setImage(input);
+				ConvolveImageNoBorder.convolve(kernel,input,output);
+				ConvolveJustBorder_General_SB.convolve(kernel, border,output);
+			}
 		}
 	}
 
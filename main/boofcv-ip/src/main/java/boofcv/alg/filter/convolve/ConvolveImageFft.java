@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.fft.CorrelateFft_F32;
+import boofcv.struct.border.ImageBorderValue;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+
+/**
+ * <p>
+ * Computes 2D convolutions in the frequency domain using {@link CorrelateFft_F32}. The results are the same,
+ * up to floating point error, as the equivalent functions in {@link ConvolveImage}, {@link ConvolveImageNoBorder},
+ * and {@link ConvolveImageNormalized}. Those functions will automatically call the functions here when
+ * {@link #isFftFaster} returns true. For small kernels convolving in the spatial domain is faster.
+ * </p>
+ *
+ * <p>
+ * The transform of the kernel is saved and reused when the same kernel is applied to images of a similar size
+ * by the same thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageFft {
+	/**
+	 * Can be used to turn off automatically switching to the FFT for large kernels
+	 */
+	public static boolean USE_FFT = true;
+
+	/**
+	 * In normalized convolution, if the sum of the kernel inside the image divided by the sum of the whole kernel
+	 * is less than this then the pixel is computed directly.
+	 */
+	public static double MIN_RELATIVE_WEIGHT = 0.1;
+
+	// Each thread has its own correlator so that the kernel's transform is saved between calls
+	static final ThreadLocal<CorrelateFft_F32> correlators = ThreadLocal.withInitial(CorrelateFft_F32::new);
+
+	/**
+	 * Returns true if the FFT should be used to convolve the kernel across the image.
+	 *
+	 * @param kernelWidth Width of the square kernel
+	 * @param width Image width
+	 * @param height Image height
+	 */
+	public static boolean isFftFaster( int kernelWidth , int width , int height ) {
+		if( !USE_FFT || kernelWidth >= width || kernelWidth >= height )
+			return false;
+		return CorrelateFft_F32.isFftFaster(kernelWidth,kernelWidth,width,height);
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param border How the image borders are handled.
+	 */
+	public static void convolve( Kernel2D_F32 kernel , GrayF32 input , GrayF32 output , ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		CorrelateFft_F32 alg = correlators.get();
+		alg.setKernel(kernel);
+		alg.process(input, border, -kernel.offset, -kernel.offset, output);
+	}
+
+	/**
+	 * Performs a 2D convolution across the image. The image border is not processed.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 */
+	public static void convolve( Kernel2D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int offsetL = kernel.offset;
+		int offsetR = kernel.width-kernel.offset-1;
+		if( input.width <= offsetL+offsetR || input.height <= offsetL+offsetR )
+			return;
+
+		CorrelateFft_F32 alg = correlators.get();
+		alg.setKernel(kernel);
+		alg.process(input, null, 0, 0,
+				output.subimage(offsetL, offsetL, output.width-offsetR, output.height-offsetR, null));
+	}
+
+	/**
+	 * Performs a 2D normalized convolution across the image. Along the image border the sum of the kernel
+	 * elements which lie inside the image is used to normalize the result.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 */
+	public static void convolveNormalized( Kernel2D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		// Pixels outside the image are zero. Dividing by the sum of the kernel inside the image then gives
+		// the normalized convolution everywhere
+		CorrelateFft_F32 alg = correlators.get();
+		alg.setKernel(kernel);
+		alg.process(input, ImageBorderValue.wrap(input,0), -kernel.offset, -kernel.offset, output);
+
+		// integral image of the kernel. sum(y,x) = sum of all elements at j < y and i < x
+		final int N = kernel.width;
+		final int offset = kernel.offset;
+		double[] sum = new double[(N+1)*(N+1)];
+		for( int j = 0; j < N; j++ ) {
+			double row = 0;
+			for( int i = 0; i < N; i++ ) {
+				row += kernel.data[j*N+i];
+				sum[(j+1)*(N+1)+i+1] = sum[j*(N+1)+i+1] + row;
+			}
+		}
+
+		// The error from the FFT is relative to the whole kernel. If only a small fraction of the kernel is inside
+		// the image then dividing would amplify it, so those pixels are computed directly instead
+		double minWeight = MIN_RELATIVE_WEIGHT*Math.abs(sum[N*(N+1)+N]);
+
+		for( int y = 0; y < output.height; y++ ) {
+			int j0 = Math.max(0,offset-y);
+			int j1 = Math.min(N,input.height-y+offset);
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < output.width; x++, indexOut++ ) {
+				int i0 = Math.max(0,offset-x);
+				int i1 = Math.min(N,input.width-x+offset);
+
+				double weight = sum[j1*(N+1)+i1] - sum[j0*(N+1)+i1] - sum[j1*(N+1)+i0] + sum[j0*(N+1)+i0];
+				if( Math.abs(weight) >= minWeight ) {
+					output.data[indexOut] /= (float)weight;
+				} else {
+					float total = 0;
+					for( int j = j0; j < j1; j++ ) {
+						int indexIn = input.startIndex + (y+j-offset)*input.stride + x-offset;
+						for( int i = i0; i < i1; i++ ) {
+							total += input.data[indexIn+i]*kernel.data[j*N+i];
+						}
+					}
+					output.data[indexOut] = (float)(total/weight);
+				}
+			}
+		}
+	}
+}
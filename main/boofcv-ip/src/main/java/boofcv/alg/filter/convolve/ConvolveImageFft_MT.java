@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.fft.CorrelateFft_F32;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+
+/**
+ * <p>
+ * Concurrent implementation of functions in {@link ConvolveImageFft}. The output image is broken up into
+ * horizontal bands and each band is correlated by a different thread using its own {@link CorrelateFft_F32}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageFft_MT {
+	/**
+	 * Bands are at least this many times taller than the kernel. Each band reads kernel.width-1 extra rows
+	 * from the input image so thin bands would waste a lot of computation.
+	 */
+	public static int MIN_BAND_KERNELS = 4;
+
+	/**
+	 * Performs a 2D convolution across the image. The image border is not processed.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 */
+	public static void convolve( Kernel2D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int offsetL = kernel.offset;
+		final int offsetR = kernel.width-kernel.offset-1;
+		if( input.width <= offsetL+offsetR || input.height <= offsetL+offsetR )
+			return;
+
+		final int outputHeight = input.height-offsetL-offsetR;
+		BoofConcurrency.loopBlocks(0,outputHeight,MIN_BAND_KERNELS*kernel.width,(y0,y1)->{
+			CorrelateFft_F32 alg = ConvolveImageFft.correlators.get();
+			alg.setKernel(kernel);
+
+			// only the rows in the input image which are read by this band
+			GrayF32 bandInput = input.subimage(0, y0, input.width, y1+kernel.width-1, null);
+			GrayF32 bandOutput = output.subimage(offsetL, offsetL+y0, output.width-offsetR, offsetL+y1, null);
+			alg.process(bandInput, null, 0, 0, bandOutput);
+		});
+	}
+}
@@ -63,7 +63,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"horizontal",output)) {
 					ImplConvolveMean_MT.horizontal(input, output, radius);
 				} else {
 					ImplConvolveMean.horizontal(input, output, radius);
@@ -91,7 +91,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"vertical",output)) {
 					ImplConvolveMean_MT.vertical(input, output, radius,work);
 				} else {
 					ImplConvolveMean.vertical(input, output, radius,work);
@@ -119,7 +119,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"horizontal",output)) {
 					ImplConvolveMean_MT.horizontal(input, output, radius);
 				} else {
 					ImplConvolveMean.horizontal(input, output, radius);
@@ -148,7 +148,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"vertical",output)) {
 					ImplConvolveMean_MT.vertical(input, output, radius,work);
 				} else {
 					ImplConvolveMean.vertical(input, output, radius,work);
@@ -176,7 +176,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"horizontal",output)) {
 					ImplConvolveMean_MT.horizontal(input, output, radius);
 				} else {
 					ImplConvolveMean.horizontal(input, output, radius);
@@ -205,7 +205,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"vertical",output)) {
 					ImplConvolveMean_MT.vertical(input, output, radius,work);
 				} else {
 					ImplConvolveMean.vertical(input, output, radius,work);
@@ -233,7 +233,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"horizontal",output)) {
 					ImplConvolveMean_MT.horizontal(input, output, radius);
 				} else {
 					ImplConvolveMean.horizontal(input, output, radius);
@@ -261,7 +261,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"horizontal",output)) {
 					ImplConvolveMean_MT.horizontal(input, output, radius);
 				} else {
 					ImplConvolveMean.horizontal(input, output, radius);
@@ -290,7 +290,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"vertical",output)) {
 					ImplConvolveMean_MT.vertical(input, output, radius,work);
 				} else {
 					ImplConvolveMean.vertical(input, output, radius,work);
@@ -319,7 +319,7 @@ public class ConvolveImageMean {
 			} else {
 				InputSanityCheck.checkSameShape(input, output);
 				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-				if(BoofConcurrency.USE_CONCURRENT) {
+				if(BoofConcurrency.isUseConcurrent(ConvolveImageMean.class,"vertical",output)) {
 					ImplConvolveMean_MT.vertical(input, output, radius,work);
 				} else {
 					ImplConvolveMean.vertical(input, output, radius,work);
@@ -22,6 +22,7 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.noborder.*;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.concurrency.IWorkArrays;
+import boofcv.override.VectorOps;
 import boofcv.struct.convolve.*;
 import boofcv.struct.image.*;
 
@@ -54,7 +55,10 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if( VectorOps.horizontal(kernel, input, output) )
+			return;
+
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -67,7 +71,10 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if( VectorOps.vertical(kernel, input, output) )
+			return;
+
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -80,7 +87,16 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if( ConvolveImageFft.isFftFaster(kernel.width, input.width, input.height) ) {
+			if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
+				ConvolveImageFft_MT.convolve(kernel, input, output);
+			} else {
+				ConvolveImageFft.convolve(kernel, input, output);
+			}
+			return;
+		}
+
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -93,7 +109,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -104,7 +120,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -115,7 +131,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -126,7 +142,7 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -139,7 +155,7 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -152,7 +168,7 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -165,7 +181,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -176,7 +192,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -187,7 +203,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -198,7 +214,10 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if( VectorOps.horizontal(kernel, input, output) )
+			return;
+
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -211,7 +230,10 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if( VectorOps.vertical(kernel, input, output) )
+			return;
+
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -224,7 +246,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -237,7 +259,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -248,7 +270,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -259,7 +281,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -270,7 +292,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 //			if (!ConvolveImageUnrolled_SB_MT_U8_S32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -283,7 +305,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 //			if (!ConvolveImageUnrolled_SB_MT_U8_S32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -296,7 +318,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 //			if (!ConvolveImageUnrolled_SB_MT_U8_S32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -309,7 +331,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -320,7 +342,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -331,7 +353,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -342,7 +364,7 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 //			if (!ConvolveImageUnrolled_SB_MT_U16_I8_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -355,7 +377,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -366,7 +388,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -379,7 +401,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -392,7 +414,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -405,7 +427,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -416,7 +438,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -427,7 +449,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -438,7 +460,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -451,7 +473,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -464,7 +486,7 @@ public class ConvolveImageNoBorder {
 								GrayU8 input, GrayI8 output, int divisor, @Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor,work);
 		} else {
@@ -477,7 +499,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -488,7 +510,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -499,7 +521,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -510,7 +532,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -523,7 +545,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -536,7 +558,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor, @Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -549,7 +571,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -560,7 +582,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -571,7 +593,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -582,7 +604,7 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -595,7 +617,7 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -609,7 +631,7 @@ public class ConvolveImageNoBorder {
 								@Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -622,7 +644,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -633,7 +655,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -644,7 +666,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -655,7 +677,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 //			if (!ConvolveImageUnrolled_SB_MT_S32_I16_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -668,7 +690,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -679,7 +701,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -692,7 +714,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -705,7 +727,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -718,7 +740,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -729,7 +751,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -740,7 +762,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -751,7 +773,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -764,7 +786,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -778,7 +800,7 @@ public class ConvolveImageNoBorder {
 								@Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -791,7 +813,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"horizontal",output)) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -802,7 +824,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"vertical",output)) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -813,7 +835,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent(ConvolveImageNoBorder.class,"convolve",output)) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -108,6 +108,8 @@ public class ConvolveImageNormalized {
 		if( !processed ) {
 			if( kernel.width >= src.width || kernel.width >= src.height ) {
 				ConvolveNormalizedNaive_SB.convolve(kernel,src,dst);
+			} else if( ConvolveImageFft.isFftFaster(kernel.width,src.width,src.height) ) {
+				ConvolveImageFft.convolveNormalized(kernel,src,dst);
 			} else {
 				if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
 					Kernel2D_F32 k = kernel.copy();
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.fft;
+
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.InterleavedF32;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Computes the correlation of a kernel with an image using the FFT. Processing is done in tiles using the
+ * overlap-save method, which bounds the size of the FFT no matter how large the image is.
+ * </p>
+ *
+ * <pre>
+ * output(x,y) = &sum;<sub>i,j</sub> kernel(i,j)*input(x+offsetX+i, y+offsetY+j)
+ * </pre>
+ *
+ * <p>
+ * Each tile reads a (tileWidth)x(tileHeight) region from the input and produces a block of
+ * (tileWidth-kernel.width+1)x(tileHeight-kernel.height+1) output pixels, which are not corrupted by the circular
+ * wrap around of the FFT. Since the kernel is real, two tiles are packed into the real and imaginary components of
+ * a single complex transform and are recovered after the inverse transform. The image's mean is subtracted from
+ * the input to reduce floating point error and added back to the output. Tiles are always a power of two in size
+ * and the size is selected by minimizing {@link #computeCost}.
+ * </p>
+ *
+ * <p>
+ * The FFT of the kernel is saved and only recomputed when the kernel or tile size changes. The number of operations
+ * is O(N*log(T)) for an image with N pixels and a tile with T pixels, instead of O(N*K) for a kernel with K
+ * elements. See {@link #isFftFaster} for when it's worth it.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CorrelateFft_F32 {
+	/**
+	 * Tiles larger than this are only used when required by the kernel.
+	 */
+	public static int MAX_TILE_WIDTH = 512;
+
+	/**
+	 * Approximate cost of one multiply-add in spatial convolution relative to the FFT cost units used in
+	 * {@link #computeCost}. Found empirically.
+	 */
+	public static double SPATIAL_COST = 0.1;
+
+	// the kernel. Top left corner is the origin
+	private GrayF32 kernel = new GrayF32(1,1);
+	// true if the kernel changed and the transform needs to be recomputed
+	private boolean kernelChanged = true;
+
+	// size of the FFT
+	private int tileWidth,tileHeight;
+	private @Nullable GeneralPurposeFFT_F32_2D fft;
+
+	// conjugate of the kernel's transform
+	private InterleavedF32 kernelFT = new InterleavedF32(1,1,2);
+	// the two tiles packed into a single complex image
+	private InterleavedF32 work = new InterleavedF32(1,1,2);
+
+	// Subtracted from every input pixel to reduce the magnitude of the zero frequency, which improves precision
+	private float bias;
+	// value added to every output pixel to undo the bias
+	private float outputBias;
+
+	/**
+	 * Specifies the kernel. A copy is made. If the kernel is identical to the previous one then the
+	 * saved transform is used.
+	 *
+	 * @param kernel Kernel. The origin is the top left corner.
+	 */
+	public void setKernel( GrayF32 kernel ) {
+		if( isSameKernel(kernel.width, kernel.height, kernel.data, kernel.startIndex, kernel.stride) )
+			return;
+		this.kernel.setTo(kernel);
+		kernelChanged = true;
+	}
+
+	/**
+	 * Specifies the kernel. A copy is made. The kernel's offset is ignored, see {@link #process}. If the
+	 * kernel is identical to the previous one then the saved transform is used.
+	 *
+	 * @param kernel Kernel.
+	 */
+	public void setKernel( Kernel2D_F32 kernel ) {
+		if( isSameKernel(kernel.width, kernel.width, kernel.data, 0, kernel.width) )
+			return;
+		this.kernel.reshape(kernel.width,kernel.width);
+		System.arraycopy(kernel.data,0,this.kernel.data,0,kernel.width*kernel.width);
+		kernelChanged = true;
+	}
+
+	/**
+	 * Checks to see if the kernel is the same as the one which was previously specified
+	 */
+	private boolean isSameKernel( int width , int height , float[] data , int startIndex , int stride ) {
+		if( kernelChanged || kernel.width != width || kernel.height != height )
+			return false;
+		for( int y = 0; y < height; y++ ) {
+			int indexA = kernel.startIndex + y*kernel.stride;
+			int indexB = startIndex + y*stride;
+			for( int x = 0; x < width; x++ ) {
+				if( kernel.data[indexA++] != data[indexB++] )
+					return false;
+			}
+		}
+		return true;
+	}
+
+	public GrayF32 getKernel() {
+		return kernel;
+	}
+
+	/**
+	 * Correlates the kernel with the input image. Every pixel in the output image is written to.
+	 *
+	 * @param input (Input) Image. Not modified.
+	 * @param border (Input) How pixels outside the input image are handled. If null then every pixel
+	 *               that's read must be inside the image.
+	 * @param offsetX (Input) Location in the input image of output pixel (0,0)'s kernel corner
+	 * @param offsetY (Input) Location in the input image of output pixel (0,0)'s kernel corner
+	 * @param output (Output) Results. Can be a sub-image.
+	 */
+	public void process( GrayF32 input , @Nullable ImageBorder_F32 border ,
+						 int offsetX , int offsetY , GrayF32 output ) {
+		if( output.width == 0 || output.height == 0 )
+			return;
+
+		if( border == null ) {
+			if( offsetX < 0 || offsetY < 0 ||
+					offsetX + output.width + kernel.width - 1 > input.width ||
+					offsetY + output.height + kernel.height - 1 > input.height )
+				throw new IllegalArgumentException("Pixels outside the input image are read and no border was provided");
+		} else {
+			border.setImage(input);
+		}
+
+		selectTileSize(output.width,output.height);
+
+		bias = ImageStatistics.mean(input);
+		outputBias = bias*ImageStatistics.sum(kernel);
+
+		// number of output pixels along each axis a tile produces
+		int blockWidth = tileWidth - kernel.width + 1;
+		int blockHeight = tileHeight - kernel.height + 1;
+
+		int tilesX = (output.width + blockWidth - 1)/blockWidth;
+		int tilesY = (output.height + blockHeight - 1)/blockHeight;
+		int totalTiles = tilesX*tilesY;
+
+		// region in the input image which is read
+		int readX1 = offsetX + output.width + kernel.width - 1;
+		int readY1 = offsetY + output.height + kernel.height - 1;
+
+		for( int tile = 0; tile < totalTiles; tile += 2 ) {
+			int x0a = (tile%tilesX)*blockWidth, y0a = (tile/tilesX)*blockHeight;
+
+			readTile(input, border, offsetX + x0a, offsetY + y0a, readX1, readY1, 0);
+			if( tile+1 < totalTiles ) {
+				int x0b = ((tile+1)%tilesX)*blockWidth, y0b = ((tile+1)/tilesX)*blockHeight;
+				readTile(input, border, offsetX + x0b, offsetY + y0b, readX1, readY1, 1);
+
+				correlateWork();
+
+				writeTile(x0b, y0b, blockWidth, blockHeight, 1, output);
+			} else {
+				correlateWork();
+			}
+			writeTile(x0a, y0a, blockWidth, blockHeight, 0, output);
+		}
+	}
+
+	/**
+	 * Selects the size of the tile and computes the transform of the kernel, if needed
+	 */
+	void selectTileSize( int outputWidth , int outputHeight ) {
+		int bestWidth = 0, bestHeight = 0;
+		double bestCost = Double.MAX_VALUE;
+
+		int maxWidth = maxTileSize(kernel.width, outputWidth);
+		int maxHeight = maxTileSize(kernel.height, outputHeight);
+
+		for( int w = DiscreteFourierTransformOps.nextPow2(kernel.width); w <= maxWidth; w *= 2 ) {
+			for( int h = DiscreteFourierTransformOps.nextPow2(kernel.height); h <= maxHeight; h *= 2 ) {
+				double cost = computeCost(w, h, kernel.width, kernel.height, outputWidth, outputHeight);
+				if( cost < bestCost ) {
+					bestCost = cost;
+					bestWidth = w;
+					bestHeight = h;
+				}
+			}
+		}
+
+		if( fft == null || bestWidth != tileWidth || bestHeight != tileHeight ) {
+			tileWidth = bestWidth;
+			tileHeight = bestHeight;
+			fft = new GeneralPurposeFFT_F32_2D(tileHeight, tileWidth);
+			work.reshape(tileWidth, tileHeight);
+			kernelFT.reshape(tileWidth, tileHeight);
+			kernelChanged = true;
+		}
+
+		if( kernelChanged ) {
+			kernelChanged = false;
+			computeKernelTransform();
+		}
+	}
+
+	/**
+	 * Largest tile worth considering along one axis
+	 */
+	static int maxTileSize( int kernelLength , int outputLength ) {
+		int limit = Math.max(MAX_TILE_WIDTH, DiscreteFourierTransformOps.nextPow2(2*kernelLength));
+		return Math.min(limit, DiscreteFourierTransformOps.nextPow2(outputLength + kernelLength - 1));
+	}
+
+	/**
+	 * Estimated cost of correlating an image using the specified tile size. The cost of a
+	 * complex FFT is proportional to N*log(N) and two tiles are processed with each forward and inverse transform.
+	 */
+	public static double computeCost( int tileWidth , int tileHeight ,
+									  int kernelWidth , int kernelHeight ,
+									  int outputWidth , int outputHeight ) {
+		int blockWidth = tileWidth - kernelWidth + 1;
+		int blockHeight = tileHeight - kernelHeight + 1;
+		if( blockWidth <= 0 || blockHeight <= 0 )
+			return Double.MAX_VALUE;
+
+		long tiles = (long)((outputWidth + blockWidth - 1)/blockWidth)*((outputHeight + blockHeight - 1)/blockHeight);
+		double N = tileWidth*(double)tileHeight;
+		return ((tiles+1)/2)*N*(Math.log(N)/Math.log(2) + 2);
+	}
+
+	/**
+	 * Estimates the cost of the best tile size. Useful when deciding if the FFT should be used.
+	 */
+	public static double computeBestCost( int kernelWidth , int kernelHeight , int outputWidth , int outputHeight ) {
+		int maxWidth = maxTileSize(kernelWidth, outputWidth);
+		int maxHeight = maxTileSize(kernelHeight, outputHeight);
+
+		double best = Double.MAX_VALUE;
+		for( int w = DiscreteFourierTransformOps.nextPow2(kernelWidth); w <= maxWidth; w *= 2 ) {
+			for( int h = DiscreteFourierTransformOps.nextPow2(kernelHeight); h <= maxHeight; h *= 2 ) {
+				best = Math.min(best, computeCost(w, h, kernelWidth, kernelHeight, outputWidth, outputHeight));
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns true if computing the correlation with the FFT is estimated to be faster than computing it directly
+	 *
+	 * @param kernelWidth Width of the kernel
+	 * @param kernelHeight Height of the kernel
+	 * @param outputWidth Number of output pixels along x-axis
+	 * @param outputHeight Number of output pixels along y-axis
+	 */
+	public static boolean isFftFaster( int kernelWidth , int kernelHeight , int outputWidth , int outputHeight ) {
+		if( outputWidth <= 0 || outputHeight <= 0 )
+			return false;
+		double spatial = SPATIAL_COST*kernelWidth*(double)kernelHeight*outputWidth*(double)outputHeight;
+		return computeBestCost(kernelWidth, kernelHeight, outputWidth, outputHeight) < spatial;
+	}
+
+	/**
+	 * Computes the conjugate of the kernel's transform. The conjugate turns multiplication in the frequency domain
+	 * into correlation instead of convolution.
+	 */
+	private void computeKernelTransform() {
+		float[] data = kernelFT.data;
+		Arrays.fill(data, 0, tileWidth*tileHeight*2, 0);
+		for( int y = 0; y < kernel.height; y++ ) {
+			int indexK = kernel.startIndex + y*kernel.stride;
+			int indexF = y*tileWidth*2;
+			for( int x = 0; x < kernel.width; x++, indexF += 2 ) {
+				data[indexF] = kernel.data[indexK++];
+			}
+		}
+		fft.complexForward(data);
+
+		int N = tileWidth*tileHeight*2;
+		for( int i = 1; i < N; i += 2 ) {
+			data[i] = -data[i];
+		}
+	}
+
+	/**
+	 * Copies a region from the input image into the real or imaginary component of the work image.
+	 * Pixels which don't contribute to the output are set to zero.
+	 */
+	private void readTile( GrayF32 input , @Nullable ImageBorder_F32 border ,
+						   int x0 , int y0 , int readX1 , int readY1 , int component ) {
+		float[] data = work.data;
+
+		// portion of the tile which is inside the region being read
+		int width = Math.min(tileWidth, readX1 - x0);
+		int height = Math.min(tileHeight, readY1 - y0);
+
+		boolean inside = x0 >= 0 && y0 >= 0 && x0 + width <= input.width && y0 + height <= input.height;
+
+		for( int y = 0; y < tileHeight; y++ ) {
+			int indexW = y*tileWidth*2 + component;
+			if( y >= height ) {
+				for( int x = 0; x < tileWidth; x++, indexW += 2 )
+					data[indexW] = 0;
+				continue;
+			}
+			if( inside ) {
+				int indexI = input.startIndex + (y0 + y)*input.stride + x0;
+				for( int x = 0; x < width; x++, indexW += 2 ) {
+					data[indexW] = input.data[indexI++] - bias;
+				}
+			} else {
+				for( int x = 0; x < width; x++, indexW += 2 ) {
+					data[indexW] = border.get(x0 + x, y0 + y) - bias;
+				}
+			}
+			for( int x = width; x < tileWidth; x++, indexW += 2 )
+				data[indexW] = 0;
+		}
+	}
+
+	/**
+	 * Correlates the tiles inside the work image with the kernel
+	 */
+	private void correlateWork() {
+		fft.complexForward(work.data);
+		DiscreteFourierTransformOps.multiplyComplex(work, kernelFT, work);
+		fft.complexInverse(work.data, true);
+	}
+
+	/**
+	 * Copies the valid portion of a tile into the output image
+	 */
+	private void writeTile( int x0 , int y0 , int blockWidth , int blockHeight , int component , GrayF32 output ) {
+		int width = Math.min(blockWidth, output.width - x0);
+		int height = Math.min(blockHeight, output.height - y0);
+
+		float[] data = work.data;
+		for( int y = 0; y < height; y++ ) {
+			int indexW = y*tileWidth*2 + component;
+			int indexO = output.startIndex + (y0 + y)*output.stride + x0;
+			for( int x = 0; x < width; x++, indexW += 2 ) {
+				output.data[indexO++] = data[indexW] + outputBias;
+			}
+		}
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+}
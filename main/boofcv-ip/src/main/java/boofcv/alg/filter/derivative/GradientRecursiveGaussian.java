@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplRecursiveGaussian;
+import boofcv.alg.filter.blur.impl.ImplRecursiveGaussian_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Computes the image's first derivative along the x and y axises after Gaussian blur has been applied. A recursive
+ * filter is used so the cost per pixel does not depend on sigma. Derivatives are found using a [-0.5 0 0.5] kernel.
+ * Pixels outside the image are set to the value of the nearest border pixel.
+ * </p>
+ *
+ * @see ImplRecursiveGaussian
+ *
+ * @author Peter Abeles
+ */
+public class GradientRecursiveGaussian {
+
+	/**
+	 * Computes the derivative of an {@link GrayU8} along the x and y axes.
+	 *
+	 * @param orig   Which which is to be differentiated. Not Modified.
+	 * @param derivX Derivative along the x-axis. Modified.
+	 * @param derivY Derivative along the y-axis. Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 */
+	public static void process(GrayU8 orig, GrayF32 derivX, GrayF32 derivY, double sigma,
+							   @Nullable GrayF32 storage ) {
+		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
+		storage = InputSanityCheck.checkDeclare(orig, storage, GrayF32.class);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(GradientRecursiveGaussian.class,"process",orig);
+		float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+		horizontal(concurrent, orig, storage, coef, 0);
+		vertical(concurrent, storage, derivY, coef, 1);
+		horizontal(concurrent, orig, storage, coef, 1);
+		vertical(concurrent, storage, derivX, coef, 0);
+	}
+
+	/**
+	 * Computes the derivative of an {@link GrayF32} along the x and y axes.
+	 *
+	 * @param orig   Which which is to be differentiated. Not Modified.
+	 * @param derivX Derivative along the x-axis. Modified.
+	 * @param derivY Derivative along the y-axis. Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 */
+	public static void process(GrayF32 orig, GrayF32 derivX, GrayF32 derivY, double sigma,
+							   @Nullable GrayF32 storage ) {
+		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
+		storage = InputSanityCheck.checkDeclare(orig, storage, GrayF32.class);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(GradientRecursiveGaussian.class,"process",orig);
+		float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+		horizontal(concurrent, orig, storage, coef, 0);
+		vertical(concurrent, storage, derivY, coef, 1);
+		horizontal(concurrent, orig, storage, coef, 1);
+		vertical(concurrent, storage, derivX, coef, 0);
+	}
+
+	static void horizontal( boolean concurrent , GrayU8 input , GrayF32 output , float[] coef , int order ) {
+		if( concurrent ) {
+			ImplRecursiveGaussian_MT.horizontal(input, output, coef, order);
+		} else {
+			ImplRecursiveGaussian.horizontal(input, output, coef, order);
+		}
+	}
+
+	static void horizontal( boolean concurrent , GrayF32 input , GrayF32 output , float[] coef , int order ) {
+		if( concurrent ) {
+			ImplRecursiveGaussian_MT.horizontal(input, output, coef, order);
+		} else {
+			ImplRecursiveGaussian.horizontal(input, output, coef, order);
+		}
+	}
+
+	static void vertical( boolean concurrent , GrayF32 input , GrayF32 output , float[] coef , int order ) {
+		if( concurrent ) {
+			ImplRecursiveGaussian_MT.vertical(input, output, coef, order);
+		} else {
+			ImplRecursiveGaussian.vertical(input, output, coef, order);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplRecursiveGaussian;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+import javax.annotation.Nullable;
+
+import static boofcv.alg.filter.derivative.GradientRecursiveGaussian.horizontal;
+import static boofcv.alg.filter.derivative.GradientRecursiveGaussian.vertical;
+
+/**
+ * <p>
+ * Computes the image's second derivatives after Gaussian blur has been applied. A recursive filter is used so
+ * the cost per pixel does not depend on sigma. Second derivatives along an axis are found using a [1 -2 1] kernel
+ * and the mixed derivative using [-0.5 0 0.5] along each axis. Pixels outside the image are set to the value of
+ * the nearest border pixel.
+ * </p>
+ *
+ * @see GradientRecursiveGaussian
+ *
+ * @author Peter Abeles
+ */
+public class HessianRecursiveGaussian {
+
+	/**
+	 * Computes the second derivative of an {@link GrayU8}.
+	 *
+	 * @param orig Which which is to be differentiated. Not Modified.
+	 * @param derivXX Second derivative x-x. Modified.
+	 * @param derivYY Second derivative y-y. Modified.
+	 * @param derivXY Second derivative x-y. Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 */
+	public static void process(GrayU8 orig, GrayF32 derivXX, GrayF32 derivYY, GrayF32 derivXY, double sigma,
+							   @Nullable GrayF32 storage ) {
+		InputSanityCheck.reshapeOneIn(orig, derivXX, derivYY, derivXY);
+		storage = InputSanityCheck.checkDeclare(orig, storage, GrayF32.class);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(HessianRecursiveGaussian.class,"process",orig);
+		float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+		horizontal(concurrent, orig, storage, coef, 0);
+		vertical(concurrent, storage, derivYY, coef, 2);
+		horizontal(concurrent, orig, storage, coef, 1);
+		vertical(concurrent, storage, derivXY, coef, 1);
+		horizontal(concurrent, orig, storage, coef, 2);
+		vertical(concurrent, storage, derivXX, coef, 0);
+	}
+
+	/**
+	 * Computes the second derivative of an {@link GrayF32}.
+	 *
+	 * @param orig Which which is to be differentiated. Not Modified.
+	 * @param derivXX Second derivative x-x. Modified.
+	 * @param derivYY Second derivative y-y. Modified.
+	 * @param derivXY Second derivative x-y. Modified.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 */
+	public static void process(GrayF32 orig, GrayF32 derivXX, GrayF32 derivYY, GrayF32 derivXY, double sigma,
+							   @Nullable GrayF32 storage ) {
+		InputSanityCheck.reshapeOneIn(orig, derivXX, derivYY, derivXY);
+		storage = InputSanityCheck.checkDeclare(orig, storage, GrayF32.class);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(HessianRecursiveGaussian.class,"process",orig);
+		float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+		horizontal(concurrent, orig, storage, coef, 0);
+		vertical(concurrent, storage, derivYY, coef, 2);
+		horizontal(concurrent, orig, storage, coef, 1);
+		vertical(concurrent, storage, derivXY, coef, 1);
+		horizontal(concurrent, orig, storage, coef, 2);
+		vertical(concurrent, storage, derivXX, coef, 0);
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.morphology;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.binary.PackedBinaryImageOps;
+import boofcv.alg.filter.morphology.impl.ImplMorphologyVanHerk;
+import boofcv.alg.filter.morphology.impl.ImplMorphologyVanHerk_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Morphological operations for gray scale images using rectangular structuring elements. Lines are rectangles with
+ * a width or height of one. Erosion is the minimum value inside the element and dilation is the maximum. The
+ * cost per pixel is constant, independent of the element's size. Binary images stored in a {@link GrayU8} with
+ * values of 0 and 1 can be processed directly. For {@link PackedBinaryImage} see {@link PackedBinaryImageOps}.
+ * </p>
+ *
+ * <p>
+ * The element's origin is at (width/2, height/2) and pixels outside the image are ignored. When opening and
+ * closing an image the second operation uses the element reflected about its origin, which makes a difference
+ * for even sizes.
+ * </p>
+ *
+ * @see ImplMorphologyVanHerk
+ *
+ * @author Peter Abeles
+ */
+public class MorphologyImageOps {
+
+	/**
+	 * Erodes the image. Each pixel is set to the minimum value inside the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayU8 erode( GrayU8 input , int width , int height ,
+								@Nullable GrayU8 output , @Nullable GrayU8 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"erode",output);
+		apply(concurrent, input, width, width/2, height, height/2, false, output, storage);
+		return output;
+	}
+
+	/**
+	 * Dilates the image. Each pixel is set to the maximum value inside the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayU8 dilate( GrayU8 input , int width , int height ,
+								 @Nullable GrayU8 output , @Nullable GrayU8 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"dilate",output);
+		apply(concurrent, input, width, width/2, height, height/2, true, output, storage);
+		return output;
+	}
+
+	/**
+	 * Opening. Erosion followed by dilation. Removes bright regions which are smaller than the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayU8 open( GrayU8 input , int width , int height ,
+							   @Nullable GrayU8 output , @Nullable GrayU8 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"open",output);
+		apply(concurrent, input, width, width/2, height, height/2, false, output, storage);
+		apply(concurrent, output, width, width - 1 - width/2, height, height - 1 - height/2, true, output, storage);
+		return output;
+	}
+
+	/**
+	 * Closing. Dilation followed by erosion. Removes dark regions which are smaller than the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayU8 close( GrayU8 input , int width , int height ,
+								@Nullable GrayU8 output , @Nullable GrayU8 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"close",output);
+		apply(concurrent, input, width, width/2, height, height/2, true, output, storage);
+		apply(concurrent, output, width, width - 1 - width/2, height, height - 1 - height/2, false, output, storage);
+		return output;
+	}
+
+	/**
+	 * White top-hat. The input minus its opening. Extracts bright features which are smaller than the structuring
+	 * element, e.g. subtracts a slowly varying background.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayU8 topHatWhite( GrayU8 input , int width , int height ,
+									  @Nullable GrayU8 output , @Nullable GrayU8 storage ) {
+		output = open(input, width, height, output, storage);
+
+		if( BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"topHatWhite",output) ) {
+			ImplMorphologyVanHerk_MT.subtract(input, output, output);
+		} else {
+			ImplMorphologyVanHerk.subtract(input, output, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Black top-hat. The closing of the input minus the input. Extracts dark features which are smaller than the
+	 * structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayU8 topHatBlack( GrayU8 input , int width , int height ,
+									  @Nullable GrayU8 output , @Nullable GrayU8 storage ) {
+		output = close(input, width, height, output, storage);
+
+		if( BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"topHatBlack",output) ) {
+			ImplMorphologyVanHerk_MT.subtract(output, input, output);
+		} else {
+			ImplMorphologyVanHerk.subtract(output, input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Erodes the image. Each pixel is set to the minimum value inside the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayF32 erode( GrayF32 input , int width , int height ,
+								 @Nullable GrayF32 output , @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"erode",output);
+		apply(concurrent, input, width, width/2, height, height/2, false, output, storage);
+		return output;
+	}
+
+	/**
+	 * Dilates the image. Each pixel is set to the maximum value inside the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayF32 dilate( GrayF32 input , int width , int height ,
+								  @Nullable GrayF32 output , @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"dilate",output);
+		apply(concurrent, input, width, width/2, height, height/2, true, output, storage);
+		return output;
+	}
+
+	/**
+	 * Opening. Erosion followed by dilation. Removes bright regions which are smaller than the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayF32 open( GrayF32 input , int width , int height ,
+								@Nullable GrayF32 output , @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"open",output);
+		apply(concurrent, input, width, width/2, height, height/2, false, output, storage);
+		apply(concurrent, output, width, width - 1 - width/2, height, height - 1 - height/2, true, output, storage);
+		return output;
+	}
+
+	/**
+	 * Closing. Dilation followed by erosion. Removes dark regions which are smaller than the structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayF32 close( GrayF32 input , int width , int height ,
+								 @Nullable GrayF32 output , @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		checkRegion(width, height);
+
+		boolean concurrent = BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"close",output);
+		apply(concurrent, input, width, width/2, height, height/2, true, output, storage);
+		apply(concurrent, output, width, width - 1 - width/2, height, height - 1 - height/2, false, output, storage);
+		return output;
+	}
+
+	/**
+	 * White top-hat. The input minus its opening. Extracts bright features which are smaller than the structuring
+	 * element, e.g. subtracts a slowly varying background.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayF32 topHatWhite( GrayF32 input , int width , int height ,
+									   @Nullable GrayF32 output , @Nullable GrayF32 storage ) {
+		output = open(input, width, height, output, storage);
+
+		if( BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"topHatWhite",output) ) {
+			ImplMorphologyVanHerk_MT.subtract(input, output, output);
+		} else {
+			ImplMorphologyVanHerk.subtract(input, output, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Black top-hat. The closing of the input minus the input. Extracts dark features which are smaller than the
+	 * structuring element.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param width Width of the rectangular structuring element
+	 * @param height Height of the rectangular structuring element
+	 * @param output (Optional) Storage for output image, Can be null. Modified.
+	 * @param storage (Optional) Storage for intermediate results. Same size as input image. Can be null.
+	 * @return Output image
+	 */
+	public static GrayF32 topHatBlack( GrayF32 input , int width , int height ,
+									   @Nullable GrayF32 output , @Nullable GrayF32 storage ) {
+		output = close(input, width, height, output, storage);
+
+		if( BoofConcurrency.isUseConcurrent(MorphologyImageOps.class,"topHatBlack",output) ) {
+			ImplMorphologyVanHerk_MT.subtract(output, input, output);
+		} else {
+			ImplMorphologyVanHerk.subtract(output, input, output);
+		}
+		return output;
+	}
+
+	private static void apply( boolean concurrent , GrayU8 input , int width , int offsetX , int height , int offsetY , boolean max ,
+							   GrayU8 output , GrayU8 storage ) {
+		if( concurrent ) {
+			ImplMorphologyVanHerk_MT.horizontal(input, storage, width, offsetX, max);
+			ImplMorphologyVanHerk_MT.vertical(storage, output, height, offsetY, max);
+		} else {
+			ImplMorphologyVanHerk.horizontal(input, storage, width, offsetX, max);
+			ImplMorphologyVanHerk.vertical(storage, output, height, offsetY, max);
+		}
+	}
+
+	private static void apply( boolean concurrent , GrayF32 input , int width , int offsetX , int height , int offsetY , boolean max ,
+							   GrayF32 output , GrayF32 storage ) {
+		if( concurrent ) {
+			ImplMorphologyVanHerk_MT.horizontal(input, storage, width, offsetX, max);
+			ImplMorphologyVanHerk_MT.vertical(storage, output, height, offsetY, max);
+		} else {
+			ImplMorphologyVanHerk.horizontal(input, storage, width, offsetX, max);
+			ImplMorphologyVanHerk.vertical(storage, output, height, offsetY, max);
+		}
+	}
+
+	private static void checkRegion( int width , int height ) {
+		if( width <= 0 || height <= 0 )
+			throw new IllegalArgumentException("Structuring element must have a width and height >= 1");
+	}
+}
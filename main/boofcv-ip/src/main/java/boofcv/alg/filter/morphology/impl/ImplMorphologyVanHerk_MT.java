@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.morphology.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Computes the minimum (erosion) or maximum (dilation) along a line of pixels in constant time per pixel,
+ * independent of the line's length, using the van Herk/Gil-Werman algorithm [1,2]. The line is broken up into
+ * blocks with the same length as the structuring element. Inside each block the running min/max is computed
+ * forwards and backwards, then the result for any window is found by combining one value from each.
+ * </p>
+ *
+ * <p>
+ * Pixels outside the image are ignored. The window for pixel 'x' includes x-offset to x-offset+length-1.
+ * Vertical passes process the image in strips of columns so that memory is accessed one row at a time.
+ * </p>
+ *
+ * <p>
+ * [1] M. van Herk, "A fast algorithm for local minimum and maximum filters on rectangular and octagonal
+ * kernels," Pattern Recognition Letters, 1992<br>
+ * [2] J. Gil and M. Werman, "Computing 2-D min, median, and max filters," IEEE TPAMI, 1993
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplMorphologyVanHerk_MT {
+
+	/**
+	 * Number of columns processed at once by the vertical pass
+	 */
+	public static int STRIP_WIDTH = 64;
+
+	/**
+	 * Min or max filter along each row
+	 *
+	 * @param length Number of pixels in the structuring element
+	 * @param offset Location of the element's origin
+	 * @param max true for maximum (dilation) or false for minimum (erosion)
+	 */
+	public static void horizontal( GrayU8 input , GrayU8 output , int length , int offset , boolean max ) {
+		final int extended = input.width + length - 1;
+		final int identity = max ? 0 : 255;
+
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		int[] forward = new int[extended];
+		int[] backward = new int[extended];
+		for (int y = y0; y < y1; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+
+			// the row is padded so that it doesn't need to be clipped at the image border
+			for (int i = 0; i < extended; i++) {
+				int x = i - offset;
+				forward[i] = x >= 0 && x < input.width ? input.data[indexIn + x] & 0xFF : identity;
+			}
+			runningBlocks(forward, backward, extended, length, 1, 1, max);
+
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < input.width; x++) {
+				int a = backward[x], b = forward[x + length - 1];
+				output.data[indexOut + x] = (byte)(max ? Math.max(a, b) : Math.min(a, b));
+			}
+		}
+		});
+	}
+
+	/**
+	 * Min or max filter along each column
+	 *
+	 * @param length Number of pixels in the structuring element
+	 * @param offset Location of the element's origin
+	 * @param max true for maximum (dilation) or false for minimum (erosion)
+	 */
+	public static void vertical( GrayU8 input , GrayU8 output , int length , int offset , boolean max ) {
+		final int extended = input.height + length - 1;
+		final int identity = max ? 0 : 255;
+		final int numStrips = (input.width + STRIP_WIDTH - 1)/STRIP_WIDTH;
+
+		BoofConcurrency.loopBlocks(0, numStrips, (s0,s1)->{
+		int[] forward = new int[extended*STRIP_WIDTH];
+		int[] backward = new int[extended*STRIP_WIDTH];
+		for (int strip = s0; strip < s1; strip++) {
+			int x0 = strip*STRIP_WIDTH;
+			int width = Math.min(STRIP_WIDTH, input.width - x0);
+
+			for (int i = 0; i < extended; i++) {
+				int y = i - offset;
+				int indexWork = i*width;
+				if( y >= 0 && y < input.height ) {
+					int indexIn = input.startIndex + y*input.stride + x0;
+					for (int j = 0; j < width; j++) {
+						forward[indexWork + j] = input.data[indexIn + j] & 0xFF;
+					}
+				} else {
+					for (int j = 0; j < width; j++) {
+						forward[indexWork + j] = identity;
+					}
+				}
+			}
+			runningBlocks(forward, backward, extended, length, width, width, max);
+
+			for (int y = 0; y < input.height; y++) {
+				int indexA = y*width, indexB = (y + length - 1)*width;
+				int indexOut = output.startIndex + y*output.stride + x0;
+				for (int j = 0; j < width; j++) {
+					int a = backward[indexA + j], b = forward[indexB + j];
+					output.data[indexOut + j] = (byte)(max ? Math.max(a, b) : Math.min(a, b));
+				}
+			}
+		}
+		});
+	}
+
+	/**
+	 * Min or max filter along each row
+	 *
+	 * @param length Number of pixels in the structuring element
+	 * @param offset Location of the element's origin
+	 * @param max true for maximum (dilation) or false for minimum (erosion)
+	 */
+	public static void horizontal( GrayF32 input , GrayF32 output , int length , int offset , boolean max ) {
+		final int extended = input.width + length - 1;
+		final float identity = max ? -Float.MAX_VALUE : Float.MAX_VALUE;
+
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		float[] forward = new float[extended];
+		float[] backward = new float[extended];
+		for (int y = y0; y < y1; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+
+			// the row is padded so that it doesn't need to be clipped at the image border
+			for (int i = 0; i < extended; i++) {
+				int x = i - offset;
+				forward[i] = x >= 0 && x < input.width ? input.data[indexIn + x] : identity;
+			}
+			runningBlocks(forward, backward, extended, length, 1, 1, max);
+
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < input.width; x++) {
+				float a = backward[x], b = forward[x + length - 1];
+				output.data[indexOut + x] = max ? Math.max(a, b) : Math.min(a, b);
+			}
+		}
+		});
+	}
+
+	/**
+	 * Min or max filter along each column
+	 *
+	 * @param length Number of pixels in the structuring element
+	 * @param offset Location of the element's origin
+	 * @param max true for maximum (dilation) or false for minimum (erosion)
+	 */
+	public static void vertical( GrayF32 input , GrayF32 output , int length , int offset , boolean max ) {
+		final int extended = input.height + length - 1;
+		final float identity = max ? -Float.MAX_VALUE : Float.MAX_VALUE;
+		final int numStrips = (input.width + STRIP_WIDTH - 1)/STRIP_WIDTH;
+
+		BoofConcurrency.loopBlocks(0, numStrips, (s0,s1)->{
+		float[] forward = new float[extended*STRIP_WIDTH];
+		float[] backward = new float[extended*STRIP_WIDTH];
+		for (int strip = s0; strip < s1; strip++) {
+			int x0 = strip*STRIP_WIDTH;
+			int width = Math.min(STRIP_WIDTH, input.width - x0);
+
+			for (int i = 0; i < extended; i++) {
+				int y = i - offset;
+				int indexWork = i*width;
+				if( y >= 0 && y < input.height ) {
+					System.arraycopy(input.data, input.startIndex + y*input.stride + x0, forward, indexWork, width);
+				} else {
+					for (int j = 0; j < width; j++) {
+						forward[indexWork + j] = identity;
+					}
+				}
+			}
+			runningBlocks(forward, backward, extended, length, width, width, max);
+
+			for (int y = 0; y < input.height; y++) {
+				int indexA = y*width, indexB = (y + length - 1)*width;
+				int indexOut = output.startIndex + y*output.stride + x0;
+				for (int j = 0; j < width; j++) {
+					float a = backward[indexA + j], b = forward[indexB + j];
+					output.data[indexOut + j] = max ? Math.max(a, b) : Math.min(a, b);
+				}
+			}
+		}
+		});
+	}
+
+	/**
+	 * Computes the running min/max inside each block of 'length' elements. Several lines can be processed at
+	 * once by interleaving them.
+	 *
+	 * @param forward (Input) Values along the line. (Output) Running value from the start of each block
+	 * @param backward (Output) Running value from the end of each block
+	 * @param extended Number of elements along a line
+	 * @param length Number of elements in a block
+	 * @param numLines Number of lines which are interleaved
+	 * @param step Number of array elements between two elements in the same line
+	 */
+	static void runningBlocks( int[] forward , int[] backward , int extended , int length ,
+							   int numLines , int step , boolean max ) {
+		for (int block = 0; block < extended; block += length) {
+			int end = Math.min(extended, block + length);
+
+			// backwards pass reads the original values before the forward pass overwrites them
+			System.arraycopy(forward, (end - 1)*step, backward, (end - 1)*step, numLines);
+			for (int i = end - 2; i >= block; i--) {
+				int index = i*step;
+				if( max ) {
+					for (int j = 0; j < numLines; j++)
+						backward[index + j] = Math.max(forward[index + j], backward[index + step + j]);
+				} else {
+					for (int j = 0; j < numLines; j++)
+						backward[index + j] = Math.min(forward[index + j], backward[index + step + j]);
+				}
+			}
+
+			for (int i = block + 1; i < end; i++) {
+				int index = i*step;
+				if( max ) {
+					for (int j = 0; j < numLines; j++)
+						forward[index + j] = Math.max(forward[index + j], forward[index - step + j]);
+				} else {
+					for (int j = 0; j < numLines; j++)
+						forward[index + j] = Math.min(forward[index + j], forward[index - step + j]);
+				}
+			}
+		}
+	}
+
+	static void runningBlocks( float[] forward , float[] backward , int extended , int length ,
+							   int numLines , int step , boolean max ) {
+		for (int block = 0; block < extended; block += length) {
+			int end = Math.min(extended, block + length);
+
+			// backwards pass reads the original values before the forward pass overwrites them
+			System.arraycopy(forward, (end - 1)*step, backward, (end - 1)*step, numLines);
+			for (int i = end - 2; i >= block; i--) {
+				int index = i*step;
+				if( max ) {
+					for (int j = 0; j < numLines; j++)
+						backward[index + j] = Math.max(forward[index + j], backward[index + step + j]);
+				} else {
+					for (int j = 0; j < numLines; j++)
+						backward[index + j] = Math.min(forward[index + j], backward[index + step + j]);
+				}
+			}
+
+			for (int i = block + 1; i < end; i++) {
+				int index = i*step;
+				if( max ) {
+					for (int j = 0; j < numLines; j++)
+						forward[index + j] = Math.max(forward[index + j], forward[index - step + j]);
+				} else {
+					for (int j = 0; j < numLines; j++)
+						forward[index + j] = Math.min(forward[index + j], forward[index - step + j]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * output = a - b. Used to compute top-hat transforms where a &ge; b.
+	 */
+	public static void subtract( GrayU8 a , GrayU8 b , GrayU8 output ) {
+		BoofConcurrency.loopFor(0, a.height, y -> {
+			int indexA = a.startIndex + y*a.stride;
+			int indexB = b.startIndex + y*b.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < a.width; x++) {
+				output.data[indexOut + x] = (byte)((a.data[indexA + x] & 0xFF) - (b.data[indexB + x] & 0xFF));
+			}
+		});
+	}
+
+	/**
+	 * output = a - b. Used to compute top-hat transforms where a &ge; b.
+	 */
+	public static void subtract( GrayF32 a , GrayF32 b , GrayF32 output ) {
+		BoofConcurrency.loopFor(0, a.height, y -> {
+			int indexA = a.startIndex + y*a.stride;
+			int indexB = b.startIndex + y*b.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < a.width; x++) {
+				output.data[indexOut + x] = a.data[indexA + x] - b.data[indexB + x];
+			}
+		});
+	}
+}
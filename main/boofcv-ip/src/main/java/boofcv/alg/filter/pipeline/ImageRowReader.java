@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.struct.image.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Copies a row from an input image, or a {@link ByteBufferImage}, into a floating point row used
+ * by {@link StripPipeline}.
+ *
+ * @author Peter Abeles
+ */
+public class ImageRowReader {
+
+	/**
+	 * Returns true if the image type can be read
+	 */
+	public static boolean isSupported( ImageType<?> type ) {
+		switch( type.getFamily() ) {
+			case GRAY:
+			case PLANAR:
+			case INTERLEAVED:
+				return type.getDataType() == ImageDataType.U8 || type.getDataType() == ImageDataType.F32;
+		}
+		return false;
+	}
+
+	/**
+	 * Copies row 'y' from the image into the array for each band
+	 *
+	 * @param image Image being read
+	 * @param y row
+	 * @param output (Output) one array for each band
+	 */
+	public static void read( ImageBase<?> image , int y , float[][] output ) {
+		if( image instanceof GrayU8 ) {
+			read((GrayU8)image,y,output[0]);
+		} else if( image instanceof GrayF32 ) {
+			read((GrayF32)image,y,output[0]);
+		} else if( image instanceof Planar ) {
+			Planar<?> planar = (Planar<?>)image;
+			for (int band = 0; band < planar.getNumBands(); band++) {
+				ImageGray<?> gray = planar.getBand(band);
+				if( gray instanceof GrayU8 ) {
+					read((GrayU8)gray,y,output[band]);
+				} else if( gray instanceof GrayF32 ) {
+					read((GrayF32)gray,y,output[band]);
+				} else {
+					throw new IllegalArgumentException("Unsupported band type");
+				}
+			}
+		} else if( image instanceof InterleavedU8 ) {
+			read((InterleavedU8)image,y,output);
+		} else if( image instanceof InterleavedF32 ) {
+			read((InterleavedF32)image,y,output);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+image.getClass().getSimpleName());
+		}
+	}
+
+	public static void read( GrayU8 image , int y , float[] output ) {
+		int index = image.startIndex + y*image.stride;
+		for (int x = 0; x < image.width; x++) {
+			output[x] = image.data[index++] & 0xFF;
+		}
+	}
+
+	public static void read( GrayF32 image , int y , float[] output ) {
+		System.arraycopy(image.data,image.startIndex + y*image.stride,output,0,image.width);
+	}
+
+	public static void read( InterleavedU8 image , int y , float[][] output ) {
+		final int numBands = image.numBands;
+		for (int band = 0; band < numBands; band++) {
+			float[] row = output[band];
+			int index = image.startIndex + y*image.stride + band;
+			for (int x = 0; x < image.width; x++, index += numBands) {
+				row[x] = image.data[index] & 0xFF;
+			}
+		}
+	}
+
+	/**
+	 * Reads the row directly from the buffer without copying the image
+	 */
+	public static void read( ByteBufferImage image , int y , float[][] output ) {
+		final ByteBuffer data = image.data;
+		final int numBands = image.numBands;
+		for (int band = 0; band < numBands; band++) {
+			float[] row = output[band];
+			int index = image.startIndex + y*image.stride + band;
+			for (int x = 0; x < image.width; x++, index += numBands) {
+				row[x] = data.get(index) & 0xFF;
+			}
+		}
+	}
+
+	public static void read( InterleavedF32 image , int y , float[][] output ) {
+		final int numBands = image.numBands;
+		for (int band = 0; band < numBands; band++) {
+			float[] row = output[band];
+			int index = image.startIndex + y*image.stride + band;
+			for (int x = 0; x < image.width; x++, index += numBands) {
+				row[x] = image.data[index];
+			}
+		}
+	}
+}
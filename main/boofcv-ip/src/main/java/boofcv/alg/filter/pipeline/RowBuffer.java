@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+/**
+ * Circular buffer which stores the most recently computed rows in a {@link StripPipeline} stage. Only enough rows
+ * are kept for the next stage to be computed, which keeps the memory footprint small enough to stay inside the
+ * CPU's cache. Requests for rows outside the image are clamped to the closest row inside, i.e. an extended border.
+ *
+ * @author Peter Abeles
+ */
+public class RowBuffer {
+	// storage for each row. band, slot, column
+	float[][][] rows;
+	// number of rows which can be stored
+	int capacity;
+	// shape of the image
+	int width, height;
+
+	/**
+	 * Creates a buffer
+	 *
+	 * @param numBands Number of bands in each row
+	 * @param capacity Number of rows it can store
+	 */
+	public RowBuffer( int numBands , int capacity ) {
+		if( capacity <= 0 )
+			throw new IllegalArgumentException("Capacity must be at least one");
+		this.capacity = capacity;
+		this.rows = new float[numBands][capacity][0];
+	}
+
+	/**
+	 * Changes the shape of the image. Row arrays are only declared if the width has changed.
+	 */
+	public void reshape( int width , int height ) {
+		this.height = height;
+		if( this.width == width )
+			return;
+		this.width = width;
+		for (int band = 0; band < rows.length; band++) {
+			for (int i = 0; i < capacity; i++) {
+				rows[band][i] = new float[width];
+			}
+		}
+	}
+
+	/**
+	 * Returns the array for the specified row. If the row is outside the image then the closest row is returned.
+	 */
+	public float[] getRow( int band , int y ) {
+		if( y < 0 )
+			y = 0;
+		else if( y >= height )
+			y = height-1;
+		return rows[band][y%capacity];
+	}
+
+	/**
+	 * Looks up the storage for each band at row y
+	 *
+	 * @param y Row inside the image
+	 * @param output (Output) Storage for each band
+	 */
+	void getStorage( int y , float[][] output ) {
+		int slot = y%capacity;
+		for (int band = 0; band < rows.length; band++) {
+			output[band] = rows[band][slot];
+		}
+	}
+
+	public int getNumBands() {
+		return rows.length;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
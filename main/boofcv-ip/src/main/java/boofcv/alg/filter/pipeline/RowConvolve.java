@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+
+/**
+ * Separable convolution stage in a {@link StripPipeline}. Each band is convolved along the vertical axis and then
+ * the horizontal axis. Pixels outside the image are handled using an extended border.
+ *
+ * @author Peter Abeles
+ */
+public class RowConvolve implements RowStage {
+	private final Kernel1D_F32 horizontal;
+	private final Kernel1D_F32 vertical;
+	private final int numBands;
+
+	/**
+	 * Specifies the kernels
+	 *
+	 * @param horizontal Kernel applied along each row
+	 * @param vertical Kernel applied along each column
+	 * @param numBands Number of bands which are convolved
+	 */
+	public RowConvolve( Kernel1D_F32 horizontal , Kernel1D_F32 vertical , int numBands ) {
+		this.horizontal = horizontal;
+		this.vertical = vertical;
+		this.numBands = numBands;
+	}
+
+	/**
+	 * Convolves a single band with the same kernel along each axis
+	 */
+	public RowConvolve( Kernel1D_F32 kernel ) {
+		this(kernel,kernel,1);
+	}
+
+	/**
+	 * Creates a Gaussian blur for a single band image
+	 *
+	 * @param sigma The distributions stdev.  If &le; 0 then the sigma will be computed from the radius.
+	 * @param radius Number of pixels in the kernel's radius.  If &le; 0 then the sigma will be computed from the sigma.
+	 */
+	public static RowConvolve gaussian( double sigma , int radius ) {
+		return new RowConvolve(FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius));
+	}
+
+	@Override
+	public int getNumInputs() {
+		return numBands;
+	}
+
+	@Override
+	public int getNumOutputs() {
+		return numBands;
+	}
+
+	@Override
+	public int getRadius() {
+		return Math.max(vertical.offset,vertical.width-vertical.offset-1);
+	}
+
+	@Override
+	public void process( RowBuffer input , int y , float[][] output , float[] work ) {
+		final int width = input.getWidth();
+
+		for (int band = 0; band < numBands; band++) {
+			// convolve along the columns
+			float[] row = input.getRow(band,y-vertical.offset);
+			float k = vertical.data[0];
+			for (int x = 0; x < width; x++) {
+				work[x] = k*row[x];
+			}
+			for (int j = 1; j < vertical.width; j++) {
+				row = input.getRow(band,y+j-vertical.offset);
+				k = vertical.data[j];
+				for (int x = 0; x < width; x++) {
+					work[x] += k*row[x];
+				}
+			}
+
+			convolveRow(horizontal,work,output[band],width);
+		}
+	}
+
+	/**
+	 * Convolves a row using an extended border
+	 */
+	static void convolveRow( Kernel1D_F32 kernel , float[] input , float[] output , int width ) {
+		final float[] data = kernel.data;
+		final int offset = kernel.offset;
+		final int kernelWidth = kernel.width;
+
+		// inner portion of the row where the kernel doesn't go outside the row
+		int x0 = Math.min(offset,width);
+		int x1 = Math.max(x0,width-(kernelWidth-offset-1));
+
+		// one pass for each element in the kernel. Simple loops like these can be vectorized by the JVM
+		int shift = -offset;
+		float k = data[0];
+		for (int x = x0; x < x1; x++) {
+			output[x] = k*input[x+shift];
+		}
+		for (int i = 1; i < kernelWidth; i++) {
+			shift = i-offset;
+			k = data[i];
+			for (int x = x0; x < x1; x++) {
+				output[x] += k*input[x+shift];
+			}
+		}
+
+		// along the border
+		for (int x = 0; x < x0; x++) {
+			output[x] = convolveBorder(data,offset,kernelWidth,input,x,width);
+		}
+		for (int x = x1; x < width; x++) {
+			output[x] = convolveBorder(data,offset,kernelWidth,input,x,width);
+		}
+	}
+
+	private static float convolveBorder( float[] data , int offset , int kernelWidth ,
+										 float[] input , int x , int width ) {
+		float total = 0;
+		for (int i = 0; i < kernelWidth; i++) {
+			int xx = x+i-offset;
+			if( xx < 0 )
+				xx = 0;
+			else if( xx >= width )
+				xx = width-1;
+			total += data[i]*input[xx];
+		}
+		return total;
+	}
+
+	public Kernel1D_F32 getHorizontal() {
+		return horizontal;
+	}
+
+	public Kernel1D_F32 getVertical() {
+		return vertical;
+	}
+}
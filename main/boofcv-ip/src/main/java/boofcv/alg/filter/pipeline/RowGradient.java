@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.derivative.DerivativeType;
+
+/**
+ * Computes the image gradient in a {@link StripPipeline}. Takes in one band and outputs two, the derivative along
+ * the x-axis followed by the derivative along the y-axis. The same kernels as the floating point images in
+ * {@link boofcv.alg.filter.derivative.GradientThree}, {@link boofcv.alg.filter.derivative.GradientSobel},
+ * and {@link boofcv.alg.filter.derivative.GradientPrewitt} are used. Each of these kernels is separable into a
+ * smoothing kernel [s0 s1 s0] and a scaled difference [-a 0 a], which is how it's computed.
+ *
+ * @author Peter Abeles
+ */
+public class RowGradient implements RowStage {
+	private final DerivativeType type;
+
+	// weights of the smoothing kernel
+	private final float s0, s1;
+	// scale factor for the difference
+	private final float a;
+
+	public RowGradient( DerivativeType type ) {
+		this.type = type;
+		switch( type ) {
+			case THREE:   s0 = 0;     s1 = 1;    a = 0.5f; break;
+			case SOBEL:   s0 = 0.25f; s1 = 0.5f; a = 1;    break;
+			case PREWITT: s0 = 1;     s1 = 1;    a = 1;    break;
+			default:
+				throw new IllegalArgumentException("Unsupported derivative type "+type);
+		}
+	}
+
+	@Override
+	public int getNumInputs() {
+		return 1;
+	}
+
+	@Override
+	public int getNumOutputs() {
+		return 2;
+	}
+
+	@Override
+	public int getRadius() {
+		return 1;
+	}
+
+	@Override
+	public void process( RowBuffer input , int y , float[][] output , float[] work ) {
+		final int width = input.getWidth();
+		final float[] above = input.getRow(0,y-1);
+		final float[] center = input.getRow(0,y);
+		final float[] below = input.getRow(0,y+1);
+		final float[] derivX = output[0];
+		final float[] derivY = output[1];
+
+		// y-derivative: difference between rows then smoothed along the row
+		for (int x = 0; x < width; x++) {
+			work[x] = a*(below[x]-above[x]);
+		}
+		smoothRow(work,derivY,width);
+
+		// x-derivative: smoothed along the column then difference along the row
+		for (int x = 0; x < width; x++) {
+			work[x] = s0*(above[x]+below[x]) + s1*center[x];
+		}
+		if( width == 1 ) {
+			derivX[0] = 0;
+			return;
+		}
+		derivX[0] = a*(work[1]-work[0]);
+		for (int x = 1; x < width-1; x++) {
+			derivX[x] = a*(work[x+1]-work[x-1]);
+		}
+		derivX[width-1] = a*(work[width-1]-work[width-2]);
+	}
+
+	private void smoothRow( float[] input , float[] output , int width ) {
+		if( width == 1 ) {
+			output[0] = (2*s0+s1)*input[0];
+			return;
+		}
+		output[0] = s0*(input[0]+input[1]) + s1*input[0];
+		for (int x = 1; x < width-1; x++) {
+			output[x] = s0*(input[x-1]+input[x+1]) + s1*input[x];
+		}
+		output[width-1] = s0*(input[width-2]+input[width-1]) + s1*input[width-1];
+	}
+
+	public DerivativeType getType() {
+		return type;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+/**
+ * Applies a function to each pixel independently in a {@link StripPipeline}.
+ *
+ * @author Peter Abeles
+ */
+public class RowPixelMath implements RowStage {
+	private final Function function;
+	private final int numBands;
+
+	/**
+	 * Specifies the function
+	 *
+	 * @param function Function applied to each pixel
+	 * @param numBands Number of bands it's applied to
+	 */
+	public RowPixelMath( Function function , int numBands ) {
+		this.function = function;
+		this.numBands = numBands;
+	}
+
+	public RowPixelMath( Function function ) {
+		this(function,1);
+	}
+
+	/**
+	 * Multiplies each pixel by a scale factor then adds an offset
+	 */
+	public static RowPixelMath scale( float scale , float offset , int numBands ) {
+		return new RowPixelMath(v->v*scale+offset,numBands);
+	}
+
+	/**
+	 * Takes the absolute value of each pixel
+	 */
+	public static RowPixelMath abs( int numBands ) {
+		return new RowPixelMath(Math::abs,numBands);
+	}
+
+	@Override
+	public int getNumInputs() {
+		return numBands;
+	}
+
+	@Override
+	public int getNumOutputs() {
+		return numBands;
+	}
+
+	@Override
+	public int getRadius() {
+		return 0;
+	}
+
+	@Override
+	public void process( RowBuffer input , int y , float[][] output , float[] work ) {
+		final int width = input.getWidth();
+		for (int band = 0; band < numBands; band++) {
+			float[] row = input.getRow(band,y);
+			float[] out = output[band];
+			for (int x = 0; x < width; x++) {
+				out[x] = function.process(row[x]);
+			}
+		}
+	}
+
+	/**
+	 * Function which is applied to each pixel
+	 */
+	@FunctionalInterface
+	public interface Function {
+		float process( float value );
+	}
+}
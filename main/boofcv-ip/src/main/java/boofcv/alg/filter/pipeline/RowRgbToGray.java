@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.color.ColorRgb;
+
+/**
+ * Converts a three band RGB image into gray scale in a {@link StripPipeline} using the same weighted equation
+ * as {@link ColorRgb#rgbToGray_Weighted(float, float, float)}.
+ *
+ * @author Peter Abeles
+ */
+public class RowRgbToGray implements RowStage {
+	@Override
+	public int getNumInputs() {
+		return 3;
+	}
+
+	@Override
+	public int getNumOutputs() {
+		return 1;
+	}
+
+	@Override
+	public int getRadius() {
+		return 0;
+	}
+
+	@Override
+	public void process( RowBuffer input , int y , float[][] output , float[] work ) {
+		final int width = input.getWidth();
+		final float[] red = input.getRow(0,y);
+		final float[] green = input.getRow(1,y);
+		final float[] blue = input.getRow(2,y);
+		final float[] gray = output[0];
+
+		for (int x = 0; x < width; x++) {
+			gray[x] = ColorRgb.rgbToGray_Weighted(red[x],green[x],blue[x]);
+		}
+	}
+}
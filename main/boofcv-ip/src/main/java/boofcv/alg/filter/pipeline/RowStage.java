@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+/**
+ * A single step in a {@link StripPipeline}. Each call computes one row of output from rows in the previous stage.
+ * Implementations must not have any state which changes while processing, since the same instance is used
+ * by multiple threads at the same time. Rows outside the image are handled by the {@link RowBuffer} using
+ * an extended border.
+ *
+ * @author Peter Abeles
+ */
+public interface RowStage {
+	/**
+	 * Number of bands it reads from the previous stage
+	 */
+	int getNumInputs();
+
+	/**
+	 * Number of bands it writes
+	 */
+	int getNumOutputs();
+
+	/**
+	 * Number of rows above and below the output row which it reads from the input
+	 */
+	int getRadius();
+
+	/**
+	 * Computes a single row
+	 *
+	 * @param input Rows from the previous stage. Rows from y-radius to y+radius can be read.
+	 * @param y Row which is being computed
+	 * @param output Storage for output. One row for each band, each the width of the image.
+	 * @param work Work space array which is the width of the image. Its contents are undefined.
+	 */
+	void process( RowBuffer input , int y , float[][] output , float[] work );
+}
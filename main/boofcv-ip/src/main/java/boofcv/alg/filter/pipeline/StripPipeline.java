@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Chains together row based operations so that an image is processed without writing a full sized intermediate
+ * image after each step. A chain like Gaussian blur followed by the image gradient will normally read and write
+ * the entire image twice, which for large images is limited by memory bandwidth and not computation. Here
+ * each stage stores only the few rows which the next stage needs in a {@link RowBuffer} and rows are computed
+ * on demand from the top of the image to the bottom. The working set is then only a few rows per stage,
+ * which stays inside the CPU's cache.
+ * </p>
+ *
+ * <p>
+ * When concurrency is turned on the image is split into horizontal strips and each thread processes a strip
+ * with its own buffers. Rows near the edge of a strip are computed by both threads, which adds a small overhead
+ * based on the radius of each stage.
+ * </p>
+ *
+ * <p>
+ * All stages use an extended border, i.e. pixels outside the image have the value of the closest pixel inside.
+ * Results will differ along the image border from operations which use a different type of border.
+ * </p>
+ *
+ * <p>
+ * Images stored in a direct or memory mapped {@link java.nio.ByteBuffer} can be processed using a
+ * {@link ByteBufferImage}. Rows are then read from the buffer as they are needed and the image is never copied
+ * onto the heap.
+ * </p>
+ *
+ * <pre>
+ * StripPipeline&lt;Planar&lt;GrayU8&gt;&gt; pipeline = new StripPipeline&lt;&gt;(ImageType.pl(3,GrayU8.class));
+ * pipeline.add(new RowRgbToGray()).add(RowConvolve.gaussian(-1,2)).add(new RowGradient(DerivativeType.SOBEL));
+ * pipeline.process(rgb,derivX,derivY);
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class StripPipeline<T extends ImageBase<T>> {
+	// type of input image
+	private final ImageType<T> inputType;
+	// the stages in the pipeline
+	private final List<RowStage> stages = new ArrayList<>();
+
+	// storage for each thread
+	private final FastQueue<Workspace> workspaces = new FastQueue<>(Workspace.class, Workspace::new);
+
+	// Image being processed. Only one is not null
+	private T input;
+	private ByteBufferImage bufferInput;
+	// shape of the image being processed
+	private int width, height;
+	// Output images
+	private GrayF32[] outputs;
+
+	/**
+	 * Creates an empty pipeline
+	 *
+	 * @param inputType Type of input image
+	 */
+	public StripPipeline( ImageType<T> inputType ) {
+		if( !ImageRowReader.isSupported(inputType))
+			throw new IllegalArgumentException("Unsupported input image type "+inputType);
+		this.inputType = inputType;
+	}
+
+	/**
+	 * Adds a stage to the end of the pipeline
+	 *
+	 * @param stage The stage. Number of inputs must match the number of outputs in the previous stage.
+	 * @return this pipeline
+	 */
+	public StripPipeline<T> add( RowStage stage ) {
+		if( stage.getNumInputs() != getNumOutputs() )
+			throw new IllegalArgumentException("Stage expects "+stage.getNumInputs()+
+					" bands but the previous stage outputs "+getNumOutputs());
+		if( stage.getRadius() < 0 )
+			throw new IllegalArgumentException("Radius must be >= 0");
+		stages.add(stage);
+		return this;
+	}
+
+	/**
+	 * Processes the image
+	 *
+	 * @param input Input image. Not modified.
+	 * @param outputs (Output) One image for each output band of the last stage. Reshaped to match input.
+	 */
+	public void process( T input , GrayF32... outputs ) {
+		this.input = input;
+		try {
+			process(input.width,input.height,outputs);
+		} finally {
+			this.input = null;
+		}
+	}
+
+	/**
+	 * Processes an image stored in a {@link ByteBufferImage}, e.g. a direct or memory mapped buffer shared with
+	 * native code. Rows are read directly from the buffer so the image is never copied. The input type of the
+	 * pipeline must be U8 with the same number of bands.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param outputs (Output) One image for each output band of the last stage. Reshaped to match input.
+	 */
+	public void process( ByteBufferImage input , GrayF32... outputs ) {
+		if( inputType.getDataType() != ImageDataType.U8 || inputType.getNumBands() != input.numBands )
+			throw new IllegalArgumentException("Pipeline's input type must be U8 with "+input.numBands+" bands");
+		this.bufferInput = input;
+		try {
+			process(input.width,input.height,outputs);
+		} finally {
+			this.bufferInput = null;
+		}
+	}
+
+	private void process( int width , int height , GrayF32[] outputs ) {
+		if( outputs.length != getNumOutputs() )
+			throw new IllegalArgumentException("Expected "+getNumOutputs()+" output images not "+outputs.length);
+
+		for (int i = 0; i < outputs.length; i++) {
+			outputs[i].reshape(width,height);
+		}
+		if( width == 0 || height == 0 )
+			return;
+
+		this.width = width;
+		this.height = height;
+		this.outputs = outputs;
+
+		try {
+			if( BoofConcurrency.isUseConcurrent(StripPipeline.class,"process",outputs[0]) ) {
+				BoofConcurrency.loopBlocks(0,height,workspaces,this::processRows);
+			} else {
+				workspaces.resize(1);
+				processRows(workspaces.get(0),0,height);
+			}
+		} finally {
+			this.outputs = null;
+		}
+	}
+
+	/**
+	 * Computes the final output for rows y0 to y1-1 by streaming rows through each stage
+	 */
+	void processRows( Workspace work , int y0 , int y1 ) {
+		work.initialize(stages,inputType.getNumBands(),width,height);
+
+		// Find the first row each stage needs to compute
+		int start = y0;
+		for (int level = stages.size(); level >= 0; level--) {
+			work.next[level] = start;
+			if( level > 0 )
+				start = Math.max(0,start-stages.get(level-1).getRadius());
+		}
+
+		final int last = stages.size();
+		for (int y = y0; y < y1; y++) {
+			computeUpTo(work,last,y);
+			work.buffers[last].getStorage(y,work.storage[last]);
+			for (int band = 0; band < outputs.length; band++) {
+				GrayF32 output = outputs[band];
+				System.arraycopy(work.storage[last][band],0,output.data,output.startIndex+y*output.stride,width);
+			}
+		}
+	}
+
+	/**
+	 * Computes rows in the specified level until row 'y' has been computed
+	 */
+	void computeUpTo( Workspace work , int level , int y ) {
+		while( work.next[level] <= y ) {
+			int row = work.next[level];
+			work.buffers[level].getStorage(row,work.storage[level]);
+			if( level == 0 ) {
+				if( bufferInput != null )
+					ImageRowReader.read(bufferInput,row,work.storage[0]);
+				else
+					ImageRowReader.read(input,row,work.storage[0]);
+			} else {
+				RowStage stage = stages.get(level-1);
+				computeUpTo(work,level-1,Math.min(height-1,row+stage.getRadius()));
+				stage.process(work.buffers[level-1],row,work.storage[level],work.scratch);
+			}
+			work.next[level]++;
+		}
+	}
+
+	/**
+	 * Number of bands output by the last stage
+	 */
+	public int getNumOutputs() {
+		if( stages.isEmpty() )
+			return inputType.getNumBands();
+		return stages.get(stages.size()-1).getNumOutputs();
+	}
+
+	public List<RowStage> getStages() {
+		return stages;
+	}
+
+	public ImageType<T> getInputType() {
+		return inputType;
+	}
+
+	/**
+	 * Row buffers for a single thread
+	 */
+	static class Workspace {
+		// buffer for the input image and the output of each stage
+		RowBuffer[] buffers;
+		// rows being written to in each level
+		float[][][] storage;
+		// next row which needs to be computed in each level
+		int[] next;
+		float[] scratch = new float[0];
+
+		void initialize( List<RowStage> stages , int inputBands , int width , int height ) {
+			int levels = stages.size()+1;
+			// stages can only be added so the number of levels changes if the pipeline changes
+			if( buffers == null || buffers.length != levels ) {
+				buffers = new RowBuffer[levels];
+				storage = new float[levels][][];
+				next = new int[levels];
+				for (int level = 0; level < levels; level++) {
+					int numBands = level == 0 ? inputBands : stages.get(level-1).getNumOutputs();
+					// enough rows for the next stage to read its entire region
+					int capacity = level < stages.size() ? 2*stages.get(level).getRadius()+1 : 1;
+					buffers[level] = new RowBuffer(numBands,capacity);
+					storage[level] = new float[numBands][];
+				}
+			}
+			for (int level = 0; level < levels; level++) {
+				buffers[level].reshape(width,height);
+			}
+			if( scratch.length != width )
+				scratch = new float[width];
+		}
+	}
+}
@@ -51,6 +51,26 @@ public interface InterpolatePixelMB<T extends ImageBase<T>> extends InterpolateP
 	 */
 	void get_fast(float x, float y, float []values );
 
+	/**
+	 * Interpolates the values at multiple points. The result is the same as calling
+	 * {@link #get(float, float, float[])} for each point, but implementations can avoid the overhead of a
+	 * method call for every pixel.
+	 *
+	 * @param points Coordinates of each point with x and y interleaved, e.g. (x0,y0,x1,y1,...)
+	 * @param pointsOffset Index of the first point's x-coordinate in points
+	 * @param output Storage for the interpolated values. The bands of each point are interleaved.
+	 * @param outputOffset Index in output that the first value is written to
+	 * @param length Number of points which are interpolated
+	 */
+	default void get( float[] points , int pointsOffset , float[] output , int outputOffset , int length ) {
+		final int numBands = getImageType().getNumBands();
+		float[] values = new float[numBands];
+		for (int i = 0; i < length; i++, pointsOffset += 2, outputOffset += numBands) {
+			get(points[pointsOffset],points[pointsOffset+1],values);
+			System.arraycopy(values,0,output,outputOffset,numBands);
+		}
+	}
+
 	/**
 	 * Creates a new instance of this interpolation method
 	 */
@@ -49,6 +49,39 @@ public interface InterpolatePixelS<T extends ImageGray<T>> extends InterpolatePi
 	 */
 	float get_fast(float x, float y);
 
+	/**
+	 * Interpolates the value at multiple points. The result is the same as calling {@link #get(float, float)}
+	 * for each point, but implementations can avoid the overhead of a method call for every pixel.
+	 *
+	 * @param points Coordinates of each point with x and y interleaved, e.g. (x0,y0,x1,y1,...)
+	 * @param pointsOffset Index of the first point's x-coordinate in points
+	 * @param output Storage for the interpolated values
+	 * @param outputOffset Index in output that the first value is written to
+	 * @param length Number of points which are interpolated
+	 */
+	default void get( float[] points , int pointsOffset , float[] output , int outputOffset , int length ) {
+		for (int i = 0; i < length; i++, pointsOffset += 2) {
+			output[outputOffset+i] = get(points[pointsOffset],points[pointsOffset+1]);
+		}
+	}
+
+	/**
+	 * Interpolates the value at evenly spaced points along a row. Point i is at (x0 + i*stepX, y).
+	 * The result is the same as calling {@link #get(float, float)} for each point.
+	 *
+	 * @param x0 x-coordinate of the first point
+	 * @param y y-coordinate of all the points
+	 * @param stepX Distance between each point along the x-axis
+	 * @param output Storage for the interpolated values
+	 * @param outputOffset Index in output that the first value is written to
+	 * @param length Number of points which are interpolated
+	 */
+	default void getRow( float x0 , float y , float stepX , float[] output , int outputOffset , int length ) {
+		for (int i = 0; i < length; i++) {
+			output[outputOffset+i] = get(x0 + i*stepX,y);
+		}
+	}
+
 	/**
 	 * Creates a new instance of this interpolation method
 	 */
@@ -89,6 +89,73 @@ public class ImplBilinearPixel_F64 extends BilinearPixelS<GrayF64> {
 		return get_fast(x,y);
 	}
 
+	@Override
+	public void get(float[] points, int pointsOffset, float[] output, int outputOffset, int length) {
+		double[] data = orig.data;
+
+		for (int i = 0; i < length; i++) {
+			float x = points[pointsOffset++];
+			float y = points[pointsOffset++];
+
+			if (x < 0 || y < 0 || x > width-2 || y > height-2) {
+				output[outputOffset+i] = get_border(x,y);
+				continue;
+			}
+
+			int xt = (int) x;
+			int yt = (int) y;
+			double ax = x - xt;
+			double ay = y - yt;
+
+			int index = orig.startIndex + yt * stride + xt;
+
+			double val = (1.0 - ax) * (1.0 - ay) * (data[index] ); // (x,y)
+			val += ax * (1.0 - ay) * (data[index + 1] ); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride] ); // (x+1,y+1)
+			val += (1.0 - ax) * ay * (data[index + stride] ); // (x,y+1)
+
+			output[outputOffset+i] = (float)val;
+		}
+	}
+
+	@Override
+	public void getRow(float x0, float y, float stepX, float[] output, int outputOffset, int length) {
+		if (y < 0 || y > height-2) {
+			for (int i = 0; i < length; i++) {
+				output[outputOffset+i] = get_border(x0 + i*stepX,y);
+			}
+			return;
+		}
+
+		double[] data = orig.data;
+
+		// the vertical weights and row are the same for every point
+		int yt = (int) y;
+		double ay = y - yt;
+		int indexRow = orig.startIndex + yt * stride;
+
+		for (int i = 0; i < length; i++) {
+			float x = x0 + i*stepX;
+
+			if (x < 0 || x > width-2) {
+				output[outputOffset+i] = get_border(x,y);
+				continue;
+			}
+
+			int xt = (int) x;
+			double ax = x - xt;
+
+			int index = indexRow + xt;
+
+			double val = (1.0 - ax) * (1.0 - ay) * (data[index] ); // (x,y)
+			val += ax * (1.0 - ay) * (data[index + 1] ); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride] ); // (x+1,y+1)
+			val += (1.0 - ax) * ay * (data[index + stride] ); // (x,y+1)
+
+			output[outputOffset+i] = (float)val;
+		}
+	}
+
 	@Override
 	public InterpolatePixelS<GrayF64> copy() {
 		ImplBilinearPixel_F64 out = new ImplBilinearPixel_F64();
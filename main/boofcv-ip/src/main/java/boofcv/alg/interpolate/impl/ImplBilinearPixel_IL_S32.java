@@ -41,12 +41,15 @@ public class ImplBilinearPixel_IL_S32 extends BilinearPixelMB<InterleavedS32> {
 	int temp1[];
 	int temp2[];
 	int temp3[];
+	// storage for pixels along the border when interpolating multiple points
+	float borderValues[];
 
 	public ImplBilinearPixel_IL_S32(int numBands) {
 		this.temp0 = new int[numBands];
 		this.temp1 = new int[numBands];
 		this.temp2 = new int[numBands];
 		this.temp3 = new int[numBands];
+		this.borderValues = new float[numBands];
 	}
 
 	public ImplBilinearPixel_IL_S32(InterleavedS32 orig) {
@@ -124,6 +127,45 @@ public class ImplBilinearPixel_IL_S32 extends BilinearPixelMB<InterleavedS32> {
 			get_fast(x, y, values);
 	}
 
+	@Override
+	public void get(float[] points, int pointsOffset, float[] output, int outputOffset, int length) {
+		final int numBands = orig.numBands;
+		int[] data = orig.data;
+
+		for (int i = 0; i < length; i++, outputOffset += numBands) {
+			float x = points[pointsOffset++];
+			float y = points[pointsOffset++];
+
+			if (x < 0 || y < 0 || x > width-2 || y > height-2) {
+				get_border(x,y,borderValues);
+				System.arraycopy(borderValues,0,output,outputOffset,numBands);
+				continue;
+			}
+
+			int xt = (int) x;
+			int yt = (int) y;
+			float ax = x - xt;
+			float ay = y - yt;
+
+			int index = orig.startIndex + yt * stride + xt*numBands;
+
+			float a00 = (1.0f - ax) * (1.0f - ay);
+			float a10 = ax * (1.0f - ay);
+			float a11 = ax * ay;
+			float a01 = (1.0f - ax) * ay;
+
+			for( int band = 0; band < numBands; band++ ) {
+				int indexBand = index+band;
+				float val = a00 * (data[indexBand] );                // (x,y)
+				val += a10 * (data[indexBand + numBands ] );         // (x+1,y)
+				val += a11 * (data[indexBand + numBands + stride] ); // (x+1,y+1)
+				val += a01 * (data[indexBand + stride] );            // (x,y+1)
+
+				output[outputOffset+band] = val;
+			}
+		}
+	}
+
 	@Override
 	public InterpolatePixelMB<InterleavedS32> copy() {
 		ImplBilinearPixel_IL_S32 out = new ImplBilinearPixel_IL_S32(temp0.length);
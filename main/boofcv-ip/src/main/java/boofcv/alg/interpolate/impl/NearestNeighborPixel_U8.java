@@ -71,6 +71,41 @@ public class NearestNeighborPixel_U8 extends NearestNeighborPixelS<GrayU8> {
 		return data[ orig.startIndex + yy*stride + xx]& 0xFF;
 	}
 
+	@Override
+	public void get(float[] points, int pointsOffset, float[] output, int outputOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			float x = points[pointsOffset++];
+			float y = points[pointsOffset++];
+
+			if (x < 0 || y < 0 || x > width-1 || y > height-1 ) {
+				output[outputOffset+i] = get_border(x,y);
+			} else {
+				output[outputOffset+i] = data[ orig.startIndex + ((int)y)*stride + (int)x]& 0xFF;
+			}
+		}
+	}
+
+	@Override
+	public void getRow(float x0, float y, float stepX, float[] output, int outputOffset, int length) {
+		if (y < 0 || y > height-1) {
+			for (int i = 0; i < length; i++) {
+				output[outputOffset+i] = get_border(x0 + i*stepX,y);
+			}
+			return;
+		}
+
+		int indexRow = orig.startIndex + ((int)y)*stride;
+		for (int i = 0; i < length; i++) {
+			float x = x0 + i*stepX;
+
+			if (x < 0 || x > width-1 ) {
+				output[outputOffset+i] = get_border(x,y);
+			} else {
+				output[outputOffset+i] = data[ indexRow + (int)x]& 0xFF;
+			}
+		}
+	}
+
 	@Override
 	public InterpolatePixelS<GrayU8> copy() {
 		NearestNeighborPixel_U8 out = new NearestNeighborPixel_U8();
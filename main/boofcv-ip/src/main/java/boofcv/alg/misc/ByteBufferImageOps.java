@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.misc.impl.ImplByteBufferImageOps;
+import boofcv.alg.misc.impl.ImplByteBufferImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Operations on a {@link ByteBufferImage}, which is a view of an 8-bit image inside a {@link java.nio.ByteBuffer}.
+ * Direct and memory mapped buffers, e.g. frames from native capture code, can be filled, thresholded, and
+ * converted into other image types without first being copied into a {@link GrayU8} or {@link InterleavedU8}.
+ * Each function reads the buffer directly and writes straight into its output.
+ * </p>
+ *
+ * <p>
+ * Filters which look at the neighborhood around each pixel, such as convolution and image gradients, are applied
+ * to a ByteBufferImage with {@link boofcv.alg.filter.pipeline.StripPipeline}. For other operations, convert the
+ * image once using one of the functions below.
+ * </p>
+ *
+ * @see boofcv.core.image.ConvertByteBufferImage#wrap
+ *
+ * @author Peter Abeles
+ */
+public class ByteBufferImageOps {
+
+	/**
+	 * Sets every band in every pixel to the specified value
+	 *
+	 * @param image The image. Modified.
+	 * @param value The value that the image is being set to.
+	 */
+	public static void fill( ByteBufferImage image , int value ) {
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"fill",image.width*image.height) ) {
+			ImplByteBufferImageOps_MT.fill(image, value);
+		} else {
+			ImplByteBufferImageOps.fill(image, value);
+		}
+	}
+
+	/**
+	 * Sets a single band in every pixel to the specified value
+	 *
+	 * @param image The image. Modified.
+	 * @param band Which band is to be filled
+	 * @param value The value that the band is being set to.
+	 */
+	public static void fillBand( ByteBufferImage image , int band , int value ) {
+		if( band < 0 || band >= image.numBands )
+			throw new IllegalArgumentException("Invalid band "+band);
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"fillBand",image.width*image.height) ) {
+			ImplByteBufferImageOps_MT.fillBand(image, band, value);
+		} else {
+			ImplByteBufferImageOps.fillBand(image, band, value);
+		}
+	}
+
+	/**
+	 * Converts a single band image into a {@link GrayU8}
+	 *
+	 * @param input Input image. Must have one band. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Converted image
+	 */
+	public static GrayU8 convert( ByteBufferImage input , @Nullable GrayU8 output ) {
+		checkSingleBand(input);
+		output = checkDeclare(input, output, GrayU8.class);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"convert",output) ) {
+			ImplByteBufferImageOps_MT.convert(input, output);
+		} else {
+			ImplByteBufferImageOps.convert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Converts a single band image into a {@link GrayF32}
+	 *
+	 * @param input Input image. Must have one band. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Converted image
+	 */
+	public static GrayF32 convert( ByteBufferImage input , @Nullable GrayF32 output ) {
+		checkSingleBand(input);
+		output = checkDeclare(input, output, GrayF32.class);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"convert",output) ) {
+			ImplByteBufferImageOps_MT.convert(input, output);
+		} else {
+			ImplByteBufferImageOps.convert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Converts the image into an {@link InterleavedU8} with the same number of bands
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Converted image
+	 */
+	public static InterleavedU8 convert( ByteBufferImage input , @Nullable InterleavedU8 output ) {
+		if( output == null )
+			output = new InterleavedU8(input.width, input.height, input.numBands);
+		else
+			output.reshape(input.width, input.height, input.numBands);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"convert",output) ) {
+			ImplByteBufferImageOps_MT.convert(input, output);
+		} else {
+			ImplByteBufferImageOps.convert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Converts the image into an {@link InterleavedF32} with the same number of bands
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Converted image
+	 */
+	public static InterleavedF32 convert( ByteBufferImage input , @Nullable InterleavedF32 output ) {
+		if( output == null )
+			output = new InterleavedF32(input.width, input.height, input.numBands);
+		else
+			output.reshape(input.width, input.height, input.numBands);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"convert",output) ) {
+			ImplByteBufferImageOps_MT.convert(input, output);
+		} else {
+			ImplByteBufferImageOps.convert(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Copies a {@link GrayU8} into a single band image, e.g. one which is shared with native code
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must have one band and the same shape as the input. Modified.
+	 */
+	public static void convert( GrayU8 input , ByteBufferImage output ) {
+		checkSingleBand(output);
+		checkSameShape(input, output);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"convert",input) ) {
+			ImplByteBufferImageOps_MT.convert(input, output);
+		} else {
+			ImplByteBufferImageOps.convert(input, output);
+		}
+	}
+
+	/**
+	 * Copies an {@link InterleavedU8} into an image with the same number of bands, e.g. one which is shared with
+	 * native code
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must have the same shape and number of bands as the input. Modified.
+	 */
+	public static void convert( InterleavedU8 input , ByteBufferImage output ) {
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands do not match");
+		checkSameShape(input, output);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"convert",input) ) {
+			ImplByteBufferImageOps_MT.convert(input, output);
+		} else {
+			ImplByteBufferImageOps.convert(input, output);
+		}
+	}
+
+	/**
+	 * Converts the image into a gray scale image by averaging the bands in each pixel
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Gray scale image
+	 */
+	public static GrayU8 average( ByteBufferImage input , @Nullable GrayU8 output ) {
+		output = checkDeclare(input, output, GrayU8.class);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"average",output) ) {
+			ImplByteBufferImageOps_MT.average(input, output);
+		} else {
+			ImplByteBufferImageOps.average(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Converts the image into a gray scale image by averaging the bands in each pixel
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Modified.
+	 * @return Gray scale image
+	 */
+	public static GrayF32 average( ByteBufferImage input , @Nullable GrayF32 output ) {
+		output = checkDeclare(input, output, GrayF32.class);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"average",output) ) {
+			ImplByteBufferImageOps_MT.average(input, output);
+		} else {
+			ImplByteBufferImageOps.average(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Applies a global threshold across the whole image. If 'down' is true, then pixels with values &le;
+	 * to 'threshold' are set to 1 and the others set to 0. If 'down' is false, then pixels with values &gt;
+	 * to 'threshold' are set to 1 and the others set to 0.
+	 *
+	 * @see boofcv.alg.filter.binary.ThresholdImageOps#threshold(GrayU8, GrayU8, int, boolean)
+	 *
+	 * @param input Input image. Must have one band. Not modified.
+	 * @param output (Optional) Binary output image. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static GrayU8 threshold( ByteBufferImage input , @Nullable GrayU8 output ,
+									int threshold , boolean down ) {
+		checkSingleBand(input);
+		output = checkDeclare(input, output, GrayU8.class);
+
+		if( BoofConcurrency.isUseConcurrent(ByteBufferImageOps.class,"threshold",output) ) {
+			ImplByteBufferImageOps_MT.threshold(input, output, threshold, down);
+		} else {
+			ImplByteBufferImageOps.threshold(input, output, threshold, down);
+		}
+		return output;
+	}
+
+	private static <T extends ImageGray<T>> T checkDeclare( ByteBufferImage input , @Nullable T output ,
+															Class<T> type ) {
+		if( output == null )
+			return GeneralizedImageOps.createSingleBand(type, input.width, input.height);
+		output.reshape(input.width, input.height);
+		return output;
+	}
+
+	private static void checkSingleBand( ByteBufferImage image ) {
+		if( image.numBands != 1 )
+			throw new IllegalArgumentException("Image must have a single band");
+	}
+
+	private static void checkSameShape( ImageBase<?> a , ByteBufferImage b ) {
+		if( a.width != b.width || a.height != b.height )
+			throw new IllegalArgumentException("Images must have the same shape");
+	}
+}
@@ -22,6 +22,7 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.misc.impl.ImplPixelMath;
 import boofcv.alg.misc.impl.ImplPixelMath_MT;
 import boofcv.concurrency.BoofConcurrency;
+import boofcv.override.VectorOps;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
@@ -48,7 +49,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -71,7 +72,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -94,7 +95,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -117,7 +118,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -140,7 +141,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -163,7 +164,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -186,7 +187,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -209,7 +210,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -232,7 +233,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -255,7 +256,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -278,7 +279,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -301,7 +302,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"abs",output) ) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -323,7 +324,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -345,7 +346,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -367,7 +368,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -389,7 +390,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -411,7 +412,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -433,7 +434,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -455,7 +456,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -477,7 +478,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -499,7 +500,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -521,7 +522,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -543,7 +544,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -565,7 +566,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"negative",output) ) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -589,7 +590,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -613,7 +614,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -637,7 +638,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -661,7 +662,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -685,7 +686,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -709,7 +710,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -733,7 +734,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -757,7 +758,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -781,7 +782,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -805,7 +806,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -829,7 +830,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -853,7 +854,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -877,7 +878,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.multiply_A(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -901,7 +906,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.multiply_A(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -925,7 +934,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -949,7 +958,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -973,7 +982,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -997,7 +1006,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1021,7 +1030,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1045,7 +1054,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1069,7 +1078,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1093,7 +1102,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1117,7 +1126,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1141,7 +1150,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1165,7 +1174,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1189,7 +1198,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1213,7 +1222,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1237,7 +1246,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1261,7 +1270,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1285,7 +1294,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1309,7 +1318,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1333,7 +1342,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1356,7 +1365,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1379,7 +1388,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1402,7 +1411,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1425,7 +1434,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1448,7 +1457,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1471,7 +1480,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1494,7 +1503,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1517,7 +1526,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1540,7 +1549,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1563,7 +1572,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1586,7 +1595,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1609,7 +1618,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1632,7 +1641,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.divide_A(input.data,input.startIndex,input.stride,denominator ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1655,7 +1668,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.divide_A(input.data,input.startIndex,input.stride,denominator ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1678,7 +1695,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1701,7 +1718,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1724,7 +1741,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1747,7 +1764,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1770,7 +1787,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1793,7 +1810,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1816,7 +1833,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1839,7 +1856,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1862,7 +1879,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1885,7 +1902,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1908,7 +1925,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1931,7 +1948,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1954,7 +1971,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1977,7 +1994,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2000,7 +2017,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2023,7 +2040,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2046,7 +2063,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2069,7 +2086,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2092,7 +2109,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2115,7 +2132,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2138,7 +2155,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2161,7 +2178,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2184,7 +2201,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2207,7 +2224,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2230,7 +2247,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2253,7 +2270,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2276,7 +2293,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2299,7 +2316,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2322,7 +2339,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2345,7 +2362,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2368,7 +2385,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.plus_A(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2391,7 +2412,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.plus_A(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2414,7 +2439,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2437,7 +2462,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2460,7 +2485,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2483,7 +2508,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2506,7 +2531,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2529,7 +2554,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2552,7 +2577,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2575,7 +2600,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2598,7 +2623,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2621,7 +2646,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2644,7 +2669,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2667,7 +2692,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2690,7 +2715,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2713,7 +2738,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2736,7 +2761,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2759,7 +2784,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2782,7 +2807,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2805,7 +2830,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"plus",output) ) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2828,7 +2853,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2851,7 +2876,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2874,7 +2899,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2897,7 +2922,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2920,7 +2945,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2943,7 +2968,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2966,7 +2991,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2989,7 +3014,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3012,7 +3037,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3035,7 +3060,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3058,7 +3083,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3081,7 +3106,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3104,7 +3129,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.minus_A(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3127,7 +3156,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.minus_A(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3150,7 +3183,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3173,7 +3206,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3196,7 +3229,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3219,7 +3252,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3242,7 +3275,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3265,7 +3298,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3288,7 +3321,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3311,7 +3344,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3334,7 +3367,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3357,7 +3390,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3380,7 +3413,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3403,7 +3436,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3426,7 +3459,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3449,7 +3482,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3472,7 +3505,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3495,7 +3528,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3518,7 +3551,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3541,7 +3574,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3564,7 +3597,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3587,7 +3620,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3610,7 +3643,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3633,7 +3666,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3656,7 +3689,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3679,7 +3712,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3702,7 +3735,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3725,7 +3758,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3748,7 +3781,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3771,7 +3804,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3794,7 +3827,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3817,7 +3850,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3840,7 +3873,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.minus_B(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3863,7 +3900,11 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.minus_B(input.data,input.startIndex,input.stride,value ,
+				output.data,output.startIndex,output.stride,
+				input.height,columns) )
+			return;
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3886,7 +3927,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3909,7 +3950,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3932,7 +3973,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3955,7 +3996,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3978,7 +4019,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4001,7 +4042,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4024,7 +4065,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4047,7 +4088,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4070,7 +4111,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4093,7 +4134,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4116,7 +4157,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4139,7 +4180,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4162,7 +4203,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4185,7 +4226,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4208,7 +4249,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4231,7 +4272,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4254,7 +4295,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int columns = input.width;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4277,7 +4318,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height,input.numBands);
 
 		int columns = input.width*input.numBands;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent(PixelMath.class,"minus",output) ) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4312,7 +4353,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4343,7 +4384,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4374,7 +4415,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4405,7 +4446,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4436,7 +4477,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4467,7 +4508,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4498,7 +4539,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4529,7 +4570,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"diffAbs",output) ) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -4549,7 +4590,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4569,7 +4610,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4589,7 +4630,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4609,7 +4650,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4629,7 +4670,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4649,7 +4690,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4669,7 +4710,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4689,7 +4730,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4709,7 +4750,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4729,7 +4770,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4749,7 +4790,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4769,7 +4810,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4789,7 +4830,9 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.add(imgA, imgB, output) )
+			return;
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4809,7 +4852,9 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.subtract(imgA, imgB, output) )
+			return;
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4829,7 +4874,9 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.multiply(imgA, imgB, output) )
+			return;
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply(imgA, imgB, output);
 		} else {
 			ImplPixelMath.multiply(imgA, imgB, output);
@@ -4849,7 +4896,9 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( VectorOps.divide(imgA, imgB, output) )
+			return;
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide(imgA,imgB,output);
 		} else {
 			ImplPixelMath.divide(imgA,imgB,output);
@@ -4867,7 +4916,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"log",output) ) {
 			ImplPixelMath_MT.log(input,output);
 		} else {
 			ImplPixelMath.log(input,output);
@@ -4886,7 +4935,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"logSign",output) ) {
 			ImplPixelMath_MT.logSign(input,output);
 		} else {
 			ImplPixelMath.logSign(input,output);
@@ -4903,7 +4952,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"pow2",output) ) {
 			ImplPixelMath_MT.pow2(input,output);
 		} else {
 			ImplPixelMath.pow2(input,output);
@@ -4921,7 +4970,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"sqrt",output) ) {
 			ImplPixelMath_MT.sqrt(input,output);
 		} else {
 			ImplPixelMath.sqrt(input,output);
@@ -4941,7 +4990,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"add",output) ) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -4961,7 +5010,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"subtract",output) ) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -4981,7 +5030,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",output) ) {
 			ImplPixelMath_MT.multiply(imgA, imgB, output);
 		} else {
 			ImplPixelMath.multiply(imgA, imgB, output);
@@ -5001,7 +5050,7 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",output) ) {
 			ImplPixelMath_MT.divide(imgA,imgB,output);
 		} else {
 			ImplPixelMath.divide(imgA,imgB,output);
@@ -5019,7 +5068,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"log",output) ) {
 			ImplPixelMath_MT.log(input,output);
 		} else {
 			ImplPixelMath.log(input,output);
@@ -5038,7 +5087,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"logSign",output) ) {
 			ImplPixelMath_MT.logSign(input,output);
 		} else {
 			ImplPixelMath.logSign(input,output);
@@ -5055,7 +5104,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"pow2",output) ) {
 			ImplPixelMath_MT.pow2(input,output);
 		} else {
 			ImplPixelMath.pow2(input,output);
@@ -5073,7 +5122,7 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(PixelMath.class,"sqrt",output) ) {
 			ImplPixelMath_MT.sqrt(input,output);
 		} else {
 			ImplPixelMath.sqrt(input,output);
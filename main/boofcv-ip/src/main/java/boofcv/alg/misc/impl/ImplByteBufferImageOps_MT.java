@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Implementation of functions in {@link boofcv.alg.misc.ByteBufferImageOps}. Individual pixels are accessed with
+ * the buffer's absolute get and put methods. Bulk copies go through a duplicate of the buffer. In both cases the
+ * buffer's position is never modified, so rows can be processed concurrently.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplByteBufferImageOps_MT {
+
+	public static void fill( ByteBufferImage image , int value ) {
+		final byte v = (byte)value;
+		BoofConcurrency.loopFor(0, image.height, y -> {
+			int index = image.startIndex + y*image.stride;
+			int end = index + image.width*image.numBands;
+			for (; index < end; index++) {
+				image.data.put(index,v);
+			}
+		});
+	}
+
+	public static void fillBand( ByteBufferImage image , int band , int value ) {
+		final byte v = (byte)value;
+		final int numBands = image.numBands;
+		BoofConcurrency.loopFor(0, image.height, y -> {
+			int index = image.startIndex + y*image.stride + band;
+			int end = index + image.width*numBands;
+			for (; index < end; index += numBands) {
+				image.data.put(index,v);
+			}
+		});
+	}
+
+	public static void convert( ByteBufferImage input , GrayU8 output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			// a duplicate has its own position
+			ByteBuffer src = input.data.duplicate();
+			src.position(input.startIndex + y*input.stride);
+			src.get(output.data,output.startIndex + y*output.stride,output.width);
+		});
+	}
+
+	public static void convert( ByteBufferImage input , InterleavedU8 output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			ByteBuffer src = input.data.duplicate();
+			src.position(input.startIndex + y*input.stride);
+			src.get(output.data,output.startIndex + y*output.stride,output.width*output.numBands);
+		});
+	}
+
+	public static void convert( ByteBufferImage input , GrayF32 output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexOut + output.width;
+			for (; indexOut < end; indexOut++) {
+				output.data[indexOut] = input.data.get(indexIn++) & 0xFF;
+			}
+		});
+	}
+
+	public static void convert( ByteBufferImage input , InterleavedF32 output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexOut + output.width*output.numBands;
+			for (; indexOut < end; indexOut++) {
+				output.data[indexOut] = input.data.get(indexIn++) & 0xFF;
+			}
+		});
+	}
+
+	public static void convert( GrayU8 input , ByteBufferImage output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			ByteBuffer dst = output.data.duplicate();
+			dst.position(output.startIndex + y*output.stride);
+			dst.put(input.data,input.startIndex + y*input.stride,input.width);
+		});
+	}
+
+	public static void convert( InterleavedU8 input , ByteBufferImage output ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			ByteBuffer dst = output.data.duplicate();
+			dst.position(output.startIndex + y*output.stride);
+			dst.put(input.data,input.startIndex + y*input.stride,input.width*input.numBands);
+		});
+	}
+
+	public static void average( ByteBufferImage input , GrayU8 output ) {
+		final int numBands = input.numBands;
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexOut + output.width;
+			for (; indexOut < end; indexOut++) {
+				int sum = 0;
+				for (int band = 0; band < numBands; band++) {
+					sum += input.data.get(indexIn++) & 0xFF;
+				}
+				output.data[indexOut] = (byte)(sum/numBands);
+			}
+		});
+	}
+
+	public static void average( ByteBufferImage input , GrayF32 output ) {
+		final int numBands = input.numBands;
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexOut + output.width;
+			for (; indexOut < end; indexOut++) {
+				int sum = 0;
+				for (int band = 0; band < numBands; band++) {
+					sum += input.data.get(indexIn++) & 0xFF;
+				}
+				output.data[indexOut] = sum/(float)numBands;
+			}
+		});
+	}
+
+	/**
+	 * Applies a global threshold to a single band image. If down is true then pixels &le; threshold are
+	 * set to 1, otherwise pixels &gt; threshold are set to 1.
+	 */
+	public static void threshold( ByteBufferImage input , GrayU8 output , int threshold , boolean down ) {
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexOut + output.width;
+			if( down ) {
+				for (; indexOut < end; indexOut++) {
+					output.data[indexOut] = (byte)((input.data.get(indexIn++) & 0xFF) <= threshold ? 1 : 0);
+				}
+			} else {
+				for (; indexOut < end; indexOut++) {
+					output.data[indexOut] = (byte)((input.data.get(indexIn++) & 0xFF) > threshold ? 1 : 0);
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread safe cache of FFT plans. Creating a plan requires computing twiddle factors and declaring work
+ * buffers, which is expensive relative to transforming a small image. A plan can't be used by more than one
+ * thread at a time, so the cache is a pool. Acquiring a plan removes it from the pool and releasing it makes it
+ * available again. Plans are keyed by their size.
+ *
+ * @author Peter Abeles
+ */
+public class FftPlanCache {
+	/**
+	 * Maximum number of plans of each type which are saved. If exceeded then all plans of that type are discarded.
+	 */
+	public static int MAX_PLANS = 64;
+
+	private static final Map<Long,List<GeneralPurposeFFT_F32_1D>> plansF32 = new HashMap<>();
+	private static final Map<Long,List<GeneralPurposeFFT_F64_1D>> plansF64 = new HashMap<>();
+	private static final Map<Long,List<GeneralPurposeFFT_F32_2D>> plansF32_2D = new HashMap<>();
+	private static final Map<Long,List<GeneralPurposeFFT_F64_2D>> plansF64_2D = new HashMap<>();
+
+	/**
+	 * Returns a 1D plan for the specified size. Call {@link #release(GeneralPurposeFFT_F32_1D)} when done.
+	 */
+	public static GeneralPurposeFFT_F32_1D acquireF32( int n ) {
+		GeneralPurposeFFT_F32_1D plan = acquire(plansF32,n);
+		return plan != null ? plan : new GeneralPurposeFFT_F32_1D(n);
+	}
+
+	public static void release( GeneralPurposeFFT_F32_1D plan ) {
+		release(plansF32,plan.getSize(),plan);
+	}
+
+	/**
+	 * Returns a 1D plan for the specified size. Call {@link #release(GeneralPurposeFFT_F64_1D)} when done.
+	 */
+	public static GeneralPurposeFFT_F64_1D acquireF64( int n ) {
+		GeneralPurposeFFT_F64_1D plan = acquire(plansF64,n);
+		return plan != null ? plan : new GeneralPurposeFFT_F64_1D(n);
+	}
+
+	public static void release( GeneralPurposeFFT_F64_1D plan ) {
+		release(plansF64,plan.getSize(),plan);
+	}
+
+	/**
+	 * Returns a 2D plan for the specified size. Call {@link #release(GeneralPurposeFFT_F32_2D)} when done.
+	 */
+	public static GeneralPurposeFFT_F32_2D acquireF32( int rows , int columns ) {
+		GeneralPurposeFFT_F32_2D plan = acquire(plansF32_2D,key(rows,columns));
+		return plan != null ? plan : new GeneralPurposeFFT_F32_2D(rows,columns);
+	}
+
+	public static void release( GeneralPurposeFFT_F32_2D plan ) {
+		release(plansF32_2D,key(plan.getRows(),plan.getColumns()),plan);
+	}
+
+	/**
+	 * Returns a 2D plan for the specified size. Call {@link #release(GeneralPurposeFFT_F64_2D)} when done.
+	 */
+	public static GeneralPurposeFFT_F64_2D acquireF64( int rows , int columns ) {
+		GeneralPurposeFFT_F64_2D plan = acquire(plansF64_2D,key(rows,columns));
+		return plan != null ? plan : new GeneralPurposeFFT_F64_2D(rows,columns);
+	}
+
+	public static void release( GeneralPurposeFFT_F64_2D plan ) {
+		release(plansF64_2D,key(plan.getRows(),plan.getColumns()),plan);
+	}
+
+	/**
+	 * Discards all saved plans
+	 */
+	public static synchronized void clear() {
+		plansF32.clear();
+		plansF64.clear();
+		plansF32_2D.clear();
+		plansF64_2D.clear();
+	}
+
+	/**
+	 * Returns the number of plans which are currently saved
+	 */
+	public static synchronized int size() {
+		return count(plansF32) + count(plansF64) + count(plansF32_2D) + count(plansF64_2D);
+	}
+
+	private static long key( int rows , int columns ) {
+		return ((long)rows << 32) | columns;
+	}
+
+	private static synchronized <T> T acquire( Map<Long,List<T>> plans , long key ) {
+		List<T> list = plans.get(key);
+		if( list == null || list.isEmpty() )
+			return null;
+		return list.remove(list.size()-1);
+	}
+
+	private static synchronized <T> void release( Map<Long,List<T>> plans , long key , T plan ) {
+		if( count(plans) >= MAX_PLANS )
+			plans.clear();
+		plans.computeIfAbsent(key, k -> new ArrayList<>()).add(plan);
+	}
+
+	private static <T> int count( Map<Long,List<T>> plans ) {
+		int total = 0;
+		for( List<T> list : plans.values() ) {
+			total += list.size();
+		}
+		return total;
+	}
+}
@@ -96,6 +96,14 @@ public class GeneralPurposeFFT_F64_2D {
 		temp = new double[2 * rows];
 	}
 
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
 	/**
 	 * Computes 2D forward DFT of complex data leaving the result in
 	 * <code>a</code>. The data is stored in 1D array in row-major order.
@@ -397,6 +405,98 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 	}
 
+	/**
+	 * Computes 2D forward DFT of real data and only saves the non-redundant half of the spectrum. The output
+	 * is complex with rows*(columns/2+1) elements stored in row-major order. The remaining columns can be
+	 * found using the symmetry X[r][c] = conj(X[(rows-r)%rows][columns-c]). Compared to {@link #realForwardFull}
+	 * this requires half the memory and about half the computations.
+	 *
+	 * @param input (Input) real data in row-major order with rows*columns elements. Not modified.
+	 * @param output (Output) half spectrum. Must have at least 2*rows*(columns/2+1) elements.
+	 */
+	public void realForwardHalf(final double[] input, final double[] output) {
+		final int stride = 2*(columns/2+1);
+
+		for (int r = 0; r < rows; r++) {
+			int offset = r*stride;
+			System.arraycopy(input, r*columns, output, offset, columns);
+			fftColumns.realForward(output, offset);
+			unpackHalf(output, offset, columns);
+		}
+
+		for (int c = 0; c < stride; c += 2) {
+			for (int r = 0; r < rows; r++) {
+				int idx = r*stride + c;
+				temp[2*r] = output[idx];
+				temp[2*r+1] = output[idx+1];
+			}
+			fftRows.complexForward(temp);
+			for (int r = 0; r < rows; r++) {
+				int idx = r*stride + c;
+				output[idx] = temp[2*r];
+				output[idx+1] = temp[2*r+1];
+			}
+		}
+	}
+
+	/**
+	 * Computes 2D inverse DFT of a half spectrum, as created by {@link #realForwardHalf}, and saves the
+	 * real output.
+	 *
+	 * @param input (Input) half spectrum with rows*(columns/2+1) complex elements. Modified.
+	 * @param output (Output) real data in row-major order. Must have at least rows*columns elements.
+	 * @param scale if true then scaling is performed
+	 */
+	public void realInverseHalf(final double[] input, final double[] output, final boolean scale) {
+		final int stride = 2*(columns/2+1);
+
+		for (int c = 0; c < stride; c += 2) {
+			for (int r = 0; r < rows; r++) {
+				int idx = r*stride + c;
+				temp[2*r] = input[idx];
+				temp[2*r+1] = input[idx+1];
+			}
+			fftRows.complexInverse(temp, scale);
+			for (int r = 0; r < rows; r++) {
+				int idx = r*stride + c;
+				input[idx] = temp[2*r];
+				input[idx+1] = temp[2*r+1];
+			}
+		}
+
+		for (int r = 0; r < rows; r++) {
+			int offset = r*stride;
+			packHalf(input, offset, columns);
+			fftColumns.realInverse(input, offset, scale);
+			System.arraycopy(input, offset, output, r*columns, columns);
+		}
+	}
+
+	/**
+	 * Converts the packed output of {@link GeneralPurposeFFT_F64_1D#realForward} into the first n/2+1 complex
+	 * elements of the spectrum. There must be 2*(n/2+1) elements available starting at offset.
+	 */
+	static void unpackHalf(final double[] a, final int offset, final int n) {
+		if (n == 1) {
+			a[offset+1] = 0;
+			return;
+		}
+		// even: a[1] = Re[n/2], odd: a[1] = Im[(n-1)/2]
+		a[offset+n] = a[offset+1];
+		if (n%2 == 0)
+			a[offset+n+1] = 0;
+		a[offset+1] = 0;
+	}
+
+	/**
+	 * Reverse of {@link #unpackHalf}. Converts the first n/2+1 complex elements of a spectrum into the packed
+	 * format used by {@link GeneralPurposeFFT_F64_1D#realInverse}
+	 */
+	static void packHalf(final double[] a, final int offset, final int n) {
+		if (n > 1)
+			a[offset+1] = a[offset+n];
+	}
+
 	private void declareRadixRealData() {
 		if( temp2 == null ) {
 			final int n2d2 = columns / 2 + 1;
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GeneralPurposeFFT_F64_2D}. The 2D transform is computed using a row-column
+ * decomposition. All the rows are transformed in parallel, then blocks of columns are copied into a contiguous
+ * array, transformed, and copied back. 1D plans are shared through {@link FftPlanCache} so that twiddle factors
+ * are only computed once for each size. Real input is handled by transforming the rows with a real FFT and
+ * only transforming the non-redundant half of the columns.
+ * </p>
+ *
+ * <p>
+ * Data layout is the same as in {@link GeneralPurposeFFT_F64_2D}. Each function call is thread safe.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GeneralPurposeFFT_F64_2D_MT {
+
+	/**
+	 * Number of columns which are copied and transformed as a block
+	 */
+	public static int COLUMN_BLOCK = 8;
+
+	private final int rows;
+	private final int columns;
+
+	public GeneralPurposeFFT_F64_2D_MT(int rows, int columns) {
+		if (rows < 1 || columns < 1 ) {
+			throw new IllegalArgumentException("rows and columns must be greater than 0");
+		}
+		this.rows = rows;
+		this.columns = columns;
+	}
+
+	/**
+	 * Computes 2D forward DFT of complex data leaving the result in <code>a</code>.
+	 * See {@link GeneralPurposeFFT_F64_2D#complexForward(double[])}.
+	 */
+	public void complexForward(final double[] a) {
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			GeneralPurposeFFT_F64_1D fft = FftPlanCache.acquireF64(columns);
+			for (int r = r0; r < r1; r++) {
+				fft.complexForward(a, r*2*columns);
+			}
+			FftPlanCache.release(fft);
+		});
+		transformColumns(a, 2*columns, columns, true, false);
+	}
+
+	/**
+	 * Computes 2D inverse DFT of complex data leaving the result in <code>a</code>.
+	 * See {@link GeneralPurposeFFT_F64_2D#complexInverse(double[], boolean)}.
+	 */
+	public void complexInverse(final double[] a, final boolean scale) {
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			GeneralPurposeFFT_F64_1D fft = FftPlanCache.acquireF64(columns);
+			for (int r = r0; r < r1; r++) {
+				fft.complexInverse(a, r*2*columns, scale);
+			}
+			FftPlanCache.release(fft);
+		});
+		transformColumns(a, 2*columns, columns, false, scale);
+	}
+
+	/**
+	 * Computes 2D forward DFT of real data leaving the full complex result in <code>a</code>.
+	 * See {@link GeneralPurposeFFT_F64_2D#realForwardFull(double[])}.
+	 */
+	public void realForwardFull(final double[] a) {
+		// move each row to where it will be in the complex output. Starts at the end to not overwrite data
+		for (int r = rows-1; r > 0; r--) {
+			System.arraycopy(a, r*columns, a, r*2*columns, columns);
+		}
+
+		forwardRealRows(a, 2*columns);
+		transformColumns(a, 2*columns, columns/2+1, true, false);
+		fillSymmetric(a);
+	}
+
+	/**
+	 * Computes 2D inverse DFT of real data leaving the full complex result in <code>a</code>.
+	 * See {@link GeneralPurposeFFT_F64_2D#realInverseFull(double[], boolean)}.
+	 */
+	public void realInverseFull(final double[] a, final boolean scale) {
+		realForwardFull(a);
+
+		// the inverse of real data is the conjugate of the forward transform
+		final double s = scale ? 1.0/((double)rows*columns) : 1.0;
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			for (int i = r0*2*columns; i < r1*2*columns; i += 2) {
+				a[i] *= s;
+				a[i+1] *= -s;
+			}
+		});
+	}
+
+	/**
+	 * Computes 2D forward DFT of real data and only saves the non-redundant half of the spectrum.
+	 * See {@link GeneralPurposeFFT_F64_2D#realForwardHalf(double[], double[])}.
+	 */
+	public void realForwardHalf(final double[] input, final double[] output) {
+		final int stride = 2*(columns/2+1);
+
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			for (int r = r0; r < r1; r++) {
+				System.arraycopy(input, r*columns, output, r*stride, columns);
+			}
+		});
+		forwardRealRows(output, stride);
+		transformColumns(output, stride, columns/2+1, true, false);
+	}
+
+	/**
+	 * Computes 2D inverse DFT of a half spectrum and saves the real output.
+	 * See {@link GeneralPurposeFFT_F64_2D#realInverseHalf(double[], double[], boolean)}.
+	 */
+	public void realInverseHalf(final double[] input, final double[] output, final boolean scale) {
+		final int stride = 2*(columns/2+1);
+
+		transformColumns(input, stride, columns/2+1, false, scale);
+
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			GeneralPurposeFFT_F64_1D fft = FftPlanCache.acquireF64(columns);
+			for (int r = r0; r < r1; r++) {
+				int offset = r*stride;
+				GeneralPurposeFFT_F64_2D.packHalf(input, offset, columns);
+				fft.realInverse(input, offset, scale);
+				System.arraycopy(input, offset, output, r*columns, columns);
+			}
+			FftPlanCache.release(fft);
+		});
+	}
+
+	/**
+	 * Applies a real FFT to each row and converts the packed output into the first columns/2+1 complex elements
+	 */
+	private void forwardRealRows(final double[] a, final int stride) {
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			GeneralPurposeFFT_F64_1D fft = FftPlanCache.acquireF64(columns);
+			for (int r = r0; r < r1; r++) {
+				fft.realForward(a, r*stride);
+				GeneralPurposeFFT_F64_2D.unpackHalf(a, r*stride, columns);
+			}
+			FftPlanCache.release(fft);
+		});
+	}
+
+	/**
+	 * Transforms the first 'numColumns' complex columns. Columns are processed in blocks so that the reads and
+	 * writes to 'a' are mostly sequential.
+	 *
+	 * @param stride Number of elements in each row of 'a'
+	 */
+	private void transformColumns(final double[] a, final int stride, final int numColumns,
+								  final boolean forward, final boolean scale) {
+		final int block = COLUMN_BLOCK;
+		final int numBlocks = (numColumns + block - 1)/block;
+
+		BoofConcurrency.loopBlocks(0, numBlocks, (b0, b1) -> {
+			GeneralPurposeFFT_F64_1D fft = FftPlanCache.acquireF64(rows);
+			double[] work = new double[block*2*rows];
+
+			for (int b = b0; b < b1; b++) {
+				int c0 = b*block;
+				int width = Math.min(numColumns, c0 + block) - c0;
+
+				for (int r = 0; r < rows; r++) {
+					int idx = r*stride + 2*c0;
+					for (int i = 0; i < width; i++) {
+						work[i*2*rows + 2*r] = a[idx++];
+						work[i*2*rows + 2*r + 1] = a[idx++];
+					}
+				}
+
+				for (int i = 0; i < width; i++) {
+					if (forward)
+						fft.complexForward(work, i*2*rows);
+					else
+						fft.complexInverse(work, i*2*rows, scale);
+				}
+
+				for (int r = 0; r < rows; r++) {
+					int idx = r*stride + 2*c0;
+					for (int i = 0; i < width; i++) {
+						a[idx++] = work[i*2*rows + 2*r];
+						a[idx++] = work[i*2*rows + 2*r + 1];
+					}
+				}
+			}
+			FftPlanCache.release(fft);
+		});
+	}
+
+	/**
+	 * Fills in the redundant columns of the spectrum of real data using X[r][c] = conj(X[-r][-c])
+	 */
+	private void fillSymmetric(final double[] a) {
+		final int halfColumns = columns/2+1;
+
+		BoofConcurrency.loopBlocks(0, rows, (r0, r1) -> {
+			for (int r = r0; r < r1; r++) {
+				int rowSrc = ((rows - r)%rows)*2*columns;
+				int idx = r*2*columns + 2*halfColumns;
+				for (int c = halfColumns; c < columns; c++) {
+					int src = rowSrc + 2*(columns - c);
+					a[idx++] = a[src];
+					a[idx++] = -a[src + 1];
+				}
+			}
+		});
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+}
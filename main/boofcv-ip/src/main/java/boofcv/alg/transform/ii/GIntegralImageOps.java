@@ -69,6 +69,27 @@ public class GIntegralImageOps {
 		}
 	}
 
+	/**
+	 * Computes the integral image and the integral image of the pixel values squared with a single pass
+	 * through the input image. See {@link IntegralImageOps#transformSumSq}.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed (Output) Integral image. Reshaped.
+	 * @param transformedSq (Output) Integral image of pixel values squared. Reshaped.
+	 */
+	public static <I extends ImageGray<I>>
+	void transformSumSq( I input , ImageGray transformed , ImageGray transformedSq ) {
+		if( input instanceof GrayU8) {
+			IntegralImageOps.transformSumSq((GrayU8)input,(GrayS32)transformed,(GrayS64)transformedSq);
+		} else if( input instanceof GrayF32) {
+			IntegralImageOps.transformSumSq((GrayF32)input,(GrayF32)transformed,(GrayF64)transformedSq);
+		} else if( input instanceof GrayF64) {
+			IntegralImageOps.transformSumSq((GrayF64)input,(GrayF64)transformed,(GrayF64)transformedSq);
+		} else {
+			throw new IllegalArgumentException("Unknown input type: "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * General code for convolving a box filter across an image using the integral image.
 	 *
@@ -22,6 +22,7 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageConvolve;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageConvolve_MT;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
@@ -47,7 +48,11 @@ public class IntegralImageOps {
 	public static GrayF32 transform(GrayF32 input , GrayF32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transform",input) ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -62,7 +67,11 @@ public class IntegralImageOps {
 	public static GrayF64 transform(GrayF64 input , GrayF64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transform",input) ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -77,7 +86,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayU8 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transform",input) ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -92,7 +105,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayS32 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transform",input) ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -107,11 +124,72 @@ public class IntegralImageOps {
 	public static GrayS64 transform(GrayS64 input , GrayS64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transform",input) ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
 
+	/**
+	 * Computes the integral image and the integral image of the pixel values squared with a single pass
+	 * through the input image. Useful when computing the local mean and variance.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed (Output) Integral image. Reshaped.
+	 * @param transformedSq (Output) Integral image of pixel values squared. Reshaped.
+	 */
+	public static void transformSumSq( GrayU8 input , GrayS32 transformed , GrayS64 transformedSq ) {
+		transformed.reshape(input.width,input.height);
+		transformedSq.reshape(input.width,input.height);
+
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transformSumSq",input) ) {
+			ImplIntegralImageOps_MT.transformSumSq(input,transformed,transformedSq);
+		} else {
+			ImplIntegralImageOps.transformSumSq(input,transformed,transformedSq);
+		}
+	}
+
+	/**
+	 * Computes the integral image and the integral image of the pixel values squared with a single pass
+	 * through the input image. Useful when computing the local mean and variance.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed (Output) Integral image. Reshaped.
+	 * @param transformedSq (Output) Integral image of pixel values squared. Reshaped.
+	 */
+	public static void transformSumSq( GrayF32 input , GrayF32 transformed , GrayF64 transformedSq ) {
+		transformed.reshape(input.width,input.height);
+		transformedSq.reshape(input.width,input.height);
+
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transformSumSq",input) ) {
+			ImplIntegralImageOps_MT.transformSumSq(input,transformed,transformedSq);
+		} else {
+			ImplIntegralImageOps.transformSumSq(input,transformed,transformedSq);
+		}
+	}
+
+	/**
+	 * Computes the integral image and the integral image of the pixel values squared with a single pass
+	 * through the input image. Useful when computing the local mean and variance.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed (Output) Integral image. Reshaped.
+	 * @param transformedSq (Output) Integral image of pixel values squared. Reshaped.
+	 */
+	public static void transformSumSq( GrayF64 input , GrayF64 transformed , GrayF64 transformedSq ) {
+		transformed.reshape(input.width,input.height);
+		transformedSq.reshape(input.width,input.height);
+
+		if( BoofConcurrency.isUseConcurrent(IntegralImageOps.class,"transformSumSq",input) ) {
+			ImplIntegralImageOps_MT.transformSumSq(input,transformed,transformedSq);
+		} else {
+			ImplIntegralImageOps.transformSumSq(input,transformed,transformedSq);
+		}
+	}
+
 	/**
 	 * General code for convolving a box filter across an image using the integral image.
 	 *
@@ -24,7 +24,6 @@ import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
 
-
 /**
  * <p>
  * Compute the integral image for different types of input images.
@@ -169,6 +168,114 @@ public class ImplIntegralImageOps {
 		}
 	}
 
+	public static void transformSumSq( final GrayU8 input , final GrayS32 transformed , final GrayS64 transformedSq )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int indexSq = transformedSq.startIndex;
+		int end = indexSrc + input.width;
+
+		int total = 0;
+		long totalSq = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			int value = input.data[indexSrc]& 0xFF;
+			transformed.data[indexDst++] = total += value;
+			transformedSq.data[indexSq++] = totalSq += (long)value*value;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			indexSq = transformedSq.startIndex + transformedSq.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+			int indexPrevSq = indexSq - transformedSq.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			totalSq = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				int value = input.data[indexSrc]& 0xFF;
+				total += value;
+				totalSq += (long)value*value;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+				transformedSq.data[indexSq++] = transformedSq.data[indexPrevSq++] + totalSq;
+			}
+		}
+	}
+
+	public static void transformSumSq( final GrayF32 input , final GrayF32 transformed , final GrayF64 transformedSq )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int indexSq = transformedSq.startIndex;
+		int end = indexSrc + input.width;
+
+		float total = 0;
+		double totalSq = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			float value = input.data[indexSrc];
+			transformed.data[indexDst++] = total += value;
+			transformedSq.data[indexSq++] = totalSq += (double)value*value;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			indexSq = transformedSq.startIndex + transformedSq.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+			int indexPrevSq = indexSq - transformedSq.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			totalSq = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				float value = input.data[indexSrc];
+				total += value;
+				totalSq += (double)value*value;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+				transformedSq.data[indexSq++] = transformedSq.data[indexPrevSq++] + totalSq;
+			}
+		}
+	}
+
+	public static void transformSumSq( final GrayF64 input , final GrayF64 transformed , final GrayF64 transformedSq )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int indexSq = transformedSq.startIndex;
+		int end = indexSrc + input.width;
+
+		double total = 0;
+		double totalSq = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			double value = input.data[indexSrc];
+			transformed.data[indexDst++] = total += value;
+			transformedSq.data[indexSq++] = totalSq += value*value;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			indexSq = transformedSq.startIndex + transformedSq.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+			int indexPrevSq = indexSq - transformedSq.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			totalSq = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				double value = input.data[indexSrc];
+				total += value;
+				totalSq += value*value;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+				transformedSq.data[indexSq++] = transformedSq.data[indexPrevSq++] + totalSq;
+			}
+		}
+	}
+
 	public static float convolveSparse( GrayF32 integral , IntegralKernel kernel , int x , int y )
 	{
 		float ret = 0;
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplIntegralImageOps}. The single pass in the single thread code
+ * has a dependency between rows, so the integral image is computed with two passes instead. First the
+ * prefix sum along each row is computed in parallel. Then each thread adds the previous row to every
+ * row inside its own block of columns.
+ * </p>
+ * 
+ * <p>
+ * DO NOT MODIFY. This code was automatically generated by GenerateImplIntegralImageOps_MT.
+ * <p>
+ * 
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.transform.ii.impl.GenerateImplIntegralImageOps_MT")
+public class ImplIntegralImageOps_MT {
+
+	public static void transform( final GrayF32 input , final GrayF32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			float total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final GrayF64 input , final GrayF64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			double total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final GrayU8 input , final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			int total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+			}
+		}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final GrayS32 input , final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			int total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final GrayS64 input , final GrayS64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			long total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transformSumSq( final GrayU8 input , final GrayS32 transformed , final GrayS64 transformedSq )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int indexSq = transformedSq.startIndex + transformedSq.stride*y;
+			int end = indexSrc + input.width;
+
+			int total = 0;
+			long totalSq = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				int value = input.data[indexSrc]& 0xFF;
+				transformed.data[indexDst++] = total += value;
+				transformedSq.data[indexSq++] = totalSq += (long)value*value;
+			}
+		}
+		});
+
+		sumColumns(transformed);
+		sumColumns(transformedSq);
+	}
+
+	public static void transformSumSq( final GrayF32 input , final GrayF32 transformed , final GrayF64 transformedSq )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int indexSq = transformedSq.startIndex + transformedSq.stride*y;
+			int end = indexSrc + input.width;
+
+			float total = 0;
+			double totalSq = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				float value = input.data[indexSrc];
+				transformed.data[indexDst++] = total += value;
+				transformedSq.data[indexSq++] = totalSq += (double)value*value;
+			}
+		}
+		});
+
+		sumColumns(transformed);
+		sumColumns(transformedSq);
+	}
+
+	public static void transformSumSq( final GrayF64 input , final GrayF64 transformed , final GrayF64 transformedSq )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, (y0,y1)->{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int indexSq = transformedSq.startIndex + transformedSq.stride*y;
+			int end = indexSrc + input.width;
+
+			double total = 0;
+			double totalSq = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				double value = input.data[indexSrc];
+				transformed.data[indexDst++] = total += value;
+				transformedSq.data[indexSq++] = totalSq += value*value;
+			}
+		}
+		});
+
+		sumColumns(transformed);
+		sumColumns(transformedSq);
+	}
+
+	/**
+	 * Adds the previous row to each row. Each thread processes every row inside a block of columns
+	 */
+	private static void sumColumns( final GrayF32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, transformed.width, (x0,x1)->{
+		for( int y = 1; y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+		});
+	}
+
+	/**
+	 * Adds the previous row to each row. Each thread processes every row inside a block of columns
+	 */
+	private static void sumColumns( final GrayF64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, transformed.width, (x0,x1)->{
+		for( int y = 1; y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+		});
+	}
+
+	/**
+	 * Adds the previous row to each row. Each thread processes every row inside a block of columns
+	 */
+	private static void sumColumns( final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, transformed.width, (x0,x1)->{
+		for( int y = 1; y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+		});
+	}
+
+	/**
+	 * Adds the previous row to each row. Each thread processes every row inside a block of columns
+	 */
+	private static void sumColumns( final GrayS64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0, transformed.width, (x0,x1)->{
+		for( int y = 1; y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+		});
+	}
+
+
+}
@@ -19,9 +19,18 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.convolve.ConvolveDown;
+import boofcv.alg.transform.pyramid.impl.ImplPyramidBlurDecimate;
+import boofcv.alg.transform.pyramid.impl.ImplPyramidBlurDecimate_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.FWorkArrays;
+import boofcv.concurrency.IWorkArrays;
 import boofcv.factory.filter.convolve.FactoryConvolveDown;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
@@ -42,6 +51,11 @@ import boofcv.struct.pyramid.PyramidDiscrete;
  * have it dependent on each level's scale factor.
  * </p>
  *
+ * <p>
+ * {@link GrayU8} and {@link GrayF32} images are blurred and down sampled in a single pass, see
+ * {@link ImplPyramidBlurDecimate}. Other image types are convolved along each axis using an intermediate image.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -52,6 +66,11 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	ConvolveDown<T,T> horizontal;
 	ConvolveDown<T,T> vertical;
 
+	// blur kernel and workspace used when the image is blurred and down sampled in a single pass
+	Kernel1D kernel;
+	FWorkArrays workF32 = new FWorkArrays();
+	IWorkArrays workI32 = new IWorkArrays();
+
 	// amount of blur applied to each layer
 	double sigmas[];
 
@@ -69,6 +88,7 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	{
 		super(imageType,saveOriginalReference,scaleFactors);
 
+		this.kernel = kernel;
 		horizontal = FactoryConvolveDown.convolve(kernel, BorderType.NORMALIZED, true, 1, imageType,imageType);
 		vertical = FactoryConvolveDown.convolve(kernel, BorderType.NORMALIZED, false, 1, imageType,imageType);
 
@@ -88,11 +108,6 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	public void process(T input) {
 		super.initialize(input.width,input.height);
 
-		if( temp == null ) {
-			// declare it to be the latest image that it might need to be, resize below
-			temp = (T)input.createNew(1,1);
-		}
-
 		if (scale[0] == 1) {
 			if (isSaveOriginalReference()) {
 				setFirstLayer(input);
@@ -100,26 +115,43 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 				getLayer(0).setTo(input);
 			}
 		} else {
-			int skip = scale[0];
-
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
-
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,getLayer(0));
+			blurDownSample(input,getLayer(0),scale[0]);
 		}
 
 		for (int index = 1; index < getNumLayers(); index++) {
 			int skip = scale[index]/scale[index-1];
-			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+			blurDownSample(getLayer(index-1),getLayer(index),skip);
+		}
+	}
+
+	/**
+	 * Blurs the input image and then down samples it by the specified amount
+	 */
+	private void blurDownSample( T input , T output , int skip ) {
+		if( kernel instanceof Kernel1D_F32 && input instanceof GrayF32 ) {
+			if( BoofConcurrency.isUseConcurrent(PyramidDiscreteSampleBlur.class,"blurDownSample",output) ) {
+				ImplPyramidBlurDecimate_MT.process((Kernel1D_F32)kernel,(GrayF32)input,(GrayF32)output,skip,workF32);
+			} else {
+				ImplPyramidBlurDecimate.process((Kernel1D_F32)kernel,(GrayF32)input,(GrayF32)output,skip,workF32);
+			}
+		} else if( kernel instanceof Kernel1D_S32 && input instanceof GrayU8 ) {
+			if( BoofConcurrency.isUseConcurrent(PyramidDiscreteSampleBlur.class,"blurDownSample",output) ) {
+				ImplPyramidBlurDecimate_MT.process((Kernel1D_S32)kernel,(GrayU8)input,(GrayU8)output,skip,workI32);
+			} else {
+				ImplPyramidBlurDecimate.process((Kernel1D_S32)kernel,(GrayU8)input,(GrayU8)output,skip,workI32);
+			}
+		} else {
+			if( temp == null ) {
+				// declare it to be the latest image that it might need to be, resize below
+				temp = (T)input.createNew(1,1);
+			}
 
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
 
-			horizontal.process(prev,temp);
-			vertical.process(temp,getLayer(index));
+			temp.reshape(input.width/skip,input.height);
+			horizontal.process(input,temp);
+			vertical.process(temp,output);
 		}
 	}
 
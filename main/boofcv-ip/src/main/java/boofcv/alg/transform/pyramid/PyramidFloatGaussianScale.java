@@ -19,10 +19,12 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.blur.BlurStorageFilter;
-import boofcv.alg.distort.DistortImageOps;
+import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
+import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -59,6 +61,15 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 	// The effective amount of blur in each pyramid layer relative to the input image
 	protected double[] sigma;
 
+	// if true then large sigmas are applied using a recursive Gaussian filter
+	protected boolean recursiveBlur = false;
+
+	// blur filter for each layer, transform from a layer to the previous layer, and the algorithm which
+	// re-samples it. Saved between calls to avoid creating new instances for each image
+	protected BlurStorageFilter<T>[] blurs;
+	protected PixelTransformAffine_F32 model = new PixelTransformAffine_F32();
+	protected ImageDistort<T,T> distort;
+
 	/**
 	 * Configures the pyramid
 	 *
@@ -99,21 +110,36 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 			tempImage = (T)input.createNew(input.width,input.height);
 		}
 
+		if( blurs == null ) {
+			blurs = new BlurStorageFilter[ scale.length ];
+			for( int i = 0; i < scale.length; i++ ) {
+				if( recursiveBlur && sigmaLayers[i] >= BlurImageOps.GAUSSIAN_RECURSIVE_SIGMA )
+					blurs[i] = FactoryBlurFilter.gaussianRecursive(getImageType(), sigmaLayers[i]);
+				else
+					blurs[i] = FactoryBlurFilter.gaussian(getImageType(), sigmaLayers[i],-1);
+			}
+		}
+
+		if( distort == null ) {
+			distort = FactoryDistort.distortSB(false,interpolate,getImageType().getImageClass());
+			distort.setRenderAll(true);
+			distort.setModel(model);
+		}
+
 		for( int i = 0; i < scale.length; i++ ) {
 			T prev = i == 0 ? input : getLayer(i-1);
 			T layer = getLayer(i);
 
 			// Apply the requested blur to the previous layer
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getImageType(), sigmaLayers[i],-1);
 			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
+			blurs[i].process(prev,tempImage);
 
 			// Resample the blurred image
 			if( scale[i] == 1 ) {
 				layer.setTo(tempImage);
 			} else {
-				PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage, null);
-				DistortImageOps.distortSingle(tempImage,layer, true, model,interpolate);
+				DistortSupport.transformScale(layer,tempImage,model);
+				distort.apply(tempImage,layer);
 			}
 		}
 	}
@@ -124,6 +150,7 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 
 	public void setInterpolate(InterpolatePixelS<T> interpolate) {
 		this.interpolate = interpolate;
+		this.distort = null;
 	}
 
 	@Override
@@ -139,4 +166,18 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 	public float[] getSigmaLayers() {
 		return sigmaLayers;
 	}
+
+	public boolean isRecursiveBlur() {
+		return recursiveBlur;
+	}
+
+	/**
+	 * If true then a recursive Gaussian filter will be used for sigmas which are at least
+	 * {@link BlurImageOps#GAUSSIAN_RECURSIVE_SIGMA}. Only {@link boofcv.struct.image.GrayU8} and
+	 * {@link boofcv.struct.image.GrayF32} images are supported.
+	 */
+	public void setRecursiveBlur(boolean recursiveBlur) {
+		this.recursiveBlur = recursiveBlur;
+		this.blurs = null;
+	}
 }
@@ -18,10 +18,11 @@
 
 package boofcv.alg.transform.pyramid;
 
-import boofcv.alg.distort.DistortImageOps;
+import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.factory.distort.FactoryDistort;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidFloat;
@@ -42,6 +43,11 @@ public class PyramidFloatScale< T extends ImageGray<T>>
 	// interpolation algorithm
 	protected InterpolatePixelS<T> interpolate;
 
+	// transform from a layer to the previous layer and the algorithm which re-samples it. Saved between calls
+	// to avoid creating new instances for each image
+	protected PixelTransformAffine_F32 model = new PixelTransformAffine_F32();
+	protected ImageDistort<T,T> distort;
+
 	public PyramidFloatScale(InterpolatePixelS<T> interpolate, double scaleFactors[] , Class<T> imageType) {
 		super(ImageType.single(imageType),scaleFactors);
 		this.interpolate = interpolate;
@@ -54,12 +60,18 @@ public class PyramidFloatScale< T extends ImageGray<T>>
 		if( isSaveOriginalReference() )
 			throw new IllegalArgumentException("The original reference cannot be saved");
 
+		if( distort == null ) {
+			distort = FactoryDistort.distortSB(false,interpolate,getImageType().getImageClass());
+			distort.setRenderAll(true);
+			distort.setModel(model);
+		}
+
 		for( int i = 0; i < scale.length; i++ ) {
 			T prev = i == 0 ? input : getLayer(i-1);
 			T layer = getLayer(i);
 
-			PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,prev, null);
-			DistortImageOps.distortSingle(prev,layer, true, model,interpolate);
+			DistortSupport.transformScale(layer,prev,model);
+			distort.apply(prev,layer);
 		}
 	}
 
@@ -29,6 +29,7 @@ import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.ImagePyramid;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Array;
 
 
@@ -61,6 +62,27 @@ public class PyramidOps {
 		return ret;
 	}
 
+	/**
+	 * Same as {@link #declareOutput(ImagePyramid, Class)} but the images from a previous call are recycled. If
+	 * the storage has the same number of layers as the pyramid then each image is reshaped to match its layer
+	 * and the storage is returned, otherwise a new array is declared. Intended for trackers which compute the
+	 * derivative of a new pyramid every frame.
+	 *
+	 * @param pyramid (Input) Image pyramid
+	 * @param outputType (Input) Output image type
+	 * @param storage (Input) Images from a previous call. Can be null.
+	 * @param <O> Output image type
+	 * @return An array of images
+	 */
+	public static <O extends ImageGray<O>>
+	O[] declareOutput( ImagePyramid<?> pyramid , Class<O> outputType , @Nullable O[] storage ) {
+		if( storage == null || storage.length != pyramid.getNumLayers() )
+			return declareOutput(pyramid,outputType);
+
+		reshapeOutput(pyramid,storage);
+		return storage;
+	}
+
 	/**
 	 * Reshapes each image in the array to match the layers in the pyramid
 	 * @param pyramid (Input) Image pyramid
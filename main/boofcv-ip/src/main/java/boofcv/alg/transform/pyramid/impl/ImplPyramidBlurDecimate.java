@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.filter.convolve.ConvolveImageDownNoBorder;
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.FWorkArrays;
+import boofcv.concurrency.IWorkArrays;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Applies a symmetric blur kernel along both axises and down samples the image in a single pass. Produces the same
+ * results as a horizontal and vertical normalized down convolution, see
+ * {@link boofcv.alg.filter.convolve.ConvolveImageDownNormalized}, but without an intermediate image. Each
+ * horizontally convolved row is only computed at the sampled columns and is saved in a ring buffer which has one
+ * row for each element in the kernel. Pixels along the image border are re-normalized by the kernel's overlap with
+ * the image.
+ * </p>
+ *
+ * <p>
+ * The output image must be at least (input.width/skip, input.height/skip). Every output pixel which samples a pixel
+ * inside the input image is written, up to ceil(input.width/skip) by ceil(input.height/skip). Any extra pixels are
+ * not modified.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplPyramidBlurDecimate {
+
+	/**
+	 * Blurs then down samples the input image
+	 *
+	 * @param kernel Symmetric blur kernel. Not modified.
+	 * @param input Input image. Not modified.
+	 * @param output Down sampled image. Modified.
+	 * @param skip Sampling period along each axis
+	 * @param work (Optional) used to create local workspace
+	 */
+	public static void process(Kernel1D_F32 kernel, GrayF32 input, GrayF32 output, int skip,
+							   @Nullable FWorkArrays work ) {
+		if( kernel.offset != kernel.width/2 || kernel.width%2 != 1)
+			throw new IllegalArgumentException("Non symmetric odd kernels not supported");
+		ConvolveImageDownNoBorder.checkParameters(input,output,skip);
+
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int widthOut = Math.min(output.width,(input.width+skip-1)/skip);
+		final int heightOut = Math.min(output.height,(input.height+skip-1)/skip);
+
+		if( work == null )
+			work = new FWorkArrays();
+		work.reset(kernelWidth*widthOut);
+		final FWorkArrays _work = work;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, heightOut, (y0,y1)->{
+		final int y0 = 0, y1 = heightOut;
+		float[] rows = _work.pop();
+		// the most recent input row which has been horizontally convolved and saved
+		int lastRow = -1;
+		for( int y = y0; y < y1; y++ ) {
+			int center = y*skip;
+			int rowStart = Math.max(0, center-radius);
+			int rowEnd = Math.min(input.height-1, center+radius);
+
+			for( int row = Math.max(lastRow+1,rowStart); row <= rowEnd; row++ ) {
+				horizontal(kernel, input, row, skip, widthOut, rows, (row%kernelWidth)*widthOut);
+			}
+			lastRow = rowEnd;
+
+			// the kernel is applied one row at a time so that the inner loop is across the image
+			final int indexDst = output.startIndex + y*output.stride;
+			float weight = 0;
+			for( int row = rowStart; row <= rowEnd; row++ ) {
+				final float w = kernel.data[row-center+radius];
+				final int indexRow = (row%kernelWidth)*widthOut;
+				if( row == rowStart ) {
+					for( int x = 0; x < widthOut; x++ ) {
+						output.data[indexDst+x] = rows[indexRow+x]*w;
+					}
+				} else {
+					for( int x = 0; x < widthOut; x++ ) {
+						output.data[indexDst+x] += rows[indexRow+x]*w;
+					}
+				}
+				weight += w;
+			}
+
+			// re-normalize if the kernel extended outside the image
+			if( rowEnd-rowStart+1 != kernelWidth ) {
+				for( int x = 0; x < widthOut; x++ ) {
+					output.data[indexDst+x] /= weight;
+				}
+			}
+		}
+		_work.recycle(rows);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Convolves the kernel along a single row at the sampled columns and saves the results
+	 */
+	private static void horizontal( Kernel1D_F32 kernel, GrayF32 input, int row, int skip, int widthOut,
+									float[] rows, int indexRow ) {
+		final float[] dataSrc = input.data;
+		final float[] dataKer = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int indexSrc = input.startIndex + row*input.stride;
+
+		// sampled columns in which the kernel is entirely inside the image
+		final int xLow = Math.min(widthOut,(radius+skip-1)/skip);
+		final int xHigh = Math.max(xLow, input.width > radius ? Math.min(widthOut,(input.width-radius-1)/skip+1) : 0);
+
+		for( int x = 0; x < xLow; x++ ) {
+			rows[indexRow+x] = horizontalBorder(kernel,input,indexSrc,x*skip);
+		}
+		// the kernel is applied one element at a time so that the inner loop is across the image
+		for( int k = 0; k < kernelWidth; k++ ) {
+			final float w = dataKer[k];
+			int indexSrcX = indexSrc + xLow*skip - radius + k;
+			if( k == 0 ) {
+				for( int x = xLow; x < xHigh; x++, indexSrcX += skip ) {
+					rows[indexRow+x] = dataSrc[indexSrcX]*w;
+				}
+			} else {
+				for( int x = xLow; x < xHigh; x++, indexSrcX += skip ) {
+					rows[indexRow+x] += dataSrc[indexSrcX]*w;
+				}
+			}
+		}
+		for( int x = xHigh; x < widthOut; x++ ) {
+			rows[indexRow+x] = horizontalBorder(kernel,input,indexSrc,x*skip);
+		}
+	}
+
+	/**
+	 * Convolves the kernel at a single pixel where the kernel extends outside the image and re-normalizes
+	 */
+	private static float horizontalBorder( Kernel1D_F32 kernel, GrayF32 input, int indexSrc, int center ) {
+		final int radius = kernel.getRadius();
+		final int kStart = Math.max(-radius, -center);
+		final int kEnd = Math.min(radius, input.width-1-center);
+
+		float total = 0;
+		float weight = 0;
+		for( int k = kStart; k <= kEnd; k++ ) {
+			float w = kernel.data[k+radius];
+			weight += w;
+			total += input.data[indexSrc+center+k]*w;
+		}
+		return total/weight;
+	}
+
+	/**
+	 * Blurs then down samples the input image
+	 *
+	 * @param kernel Symmetric blur kernel. Not modified.
+	 * @param input Input image. Not modified.
+	 * @param output Down sampled image. Modified.
+	 * @param skip Sampling period along each axis
+	 * @param work (Optional) used to create local workspace
+	 */
+	public static void process(Kernel1D_S32 kernel, GrayU8 input, GrayU8 output, int skip,
+							   @Nullable IWorkArrays work ) {
+		if( kernel.offset != kernel.width/2 || kernel.width%2 != 1)
+			throw new IllegalArgumentException("Non symmetric odd kernels not supported");
+		ConvolveImageDownNoBorder.checkParameters(input,output,skip);
+
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int widthOut = Math.min(output.width,(input.width+skip-1)/skip);
+		final int heightOut = Math.min(output.height,(input.height+skip-1)/skip);
+
+		if( work == null )
+			work = new IWorkArrays();
+		// the last row is used to sum up the vertical convolution
+		work.reset((kernelWidth+1)*widthOut);
+		final IWorkArrays _work = work;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, heightOut, (y0,y1)->{
+		final int y0 = 0, y1 = heightOut;
+		int[] rows = _work.pop();
+		final int indexTotal = kernelWidth*widthOut;
+		// the most recent input row which has been horizontally convolved and saved
+		int lastRow = -1;
+		for( int y = y0; y < y1; y++ ) {
+			int center = y*skip;
+			int rowStart = Math.max(0, center-radius);
+			int rowEnd = Math.min(input.height-1, center+radius);
+
+			for( int row = Math.max(lastRow+1,rowStart); row <= rowEnd; row++ ) {
+				horizontal(kernel, input, row, skip, widthOut, rows, (row%kernelWidth)*widthOut);
+			}
+			lastRow = rowEnd;
+
+			// the kernel is applied one row at a time so that the inner loop is across the image
+			int weight = 0;
+			for( int row = rowStart; row <= rowEnd; row++ ) {
+				final int w = kernel.data[row-center+radius];
+				final int indexRow = (row%kernelWidth)*widthOut;
+				if( row == rowStart ) {
+					for( int x = 0; x < widthOut; x++ ) {
+						rows[indexTotal+x] = rows[indexRow+x]*w;
+					}
+				} else {
+					for( int x = 0; x < widthOut; x++ ) {
+						rows[indexTotal+x] += rows[indexRow+x]*w;
+					}
+				}
+				weight += w;
+			}
+
+			final int indexDst = output.startIndex + y*output.stride;
+			final int halfWeight = weight/2;
+			for( int x = 0; x < widthOut; x++ ) {
+				output.data[indexDst+x] = (byte)((rows[indexTotal+x]+halfWeight)/weight);
+			}
+		}
+		_work.recycle(rows);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Convolves the kernel along a single row at the sampled columns and saves the rounded results
+	 */
+	private static void horizontal( Kernel1D_S32 kernel, GrayU8 input, int row, int skip, int widthOut,
+									int[] rows, int indexRow ) {
+		final byte[] dataSrc = input.data;
+		final int[] dataKer = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int indexSrc = input.startIndex + row*input.stride;
+		final int divisor = kernel.computeSum();
+		final int halfDivisor = divisor/2;
+
+		// sampled columns in which the kernel is entirely inside the image
+		final int xLow = Math.min(widthOut,(radius+skip-1)/skip);
+		final int xHigh = Math.max(xLow, input.width > radius ? Math.min(widthOut,(input.width-radius-1)/skip+1) : 0);
+
+		for( int x = 0; x < xLow; x++ ) {
+			rows[indexRow+x] = horizontalBorder(kernel,input,indexSrc,x*skip);
+		}
+		// the kernel is applied one element at a time so that the inner loop is across the image
+		for( int k = 0; k < kernelWidth; k++ ) {
+			final int w = dataKer[k];
+			int indexSrcX = indexSrc + xLow*skip - radius + k;
+			if( k == 0 ) {
+				for( int x = xLow; x < xHigh; x++, indexSrcX += skip ) {
+					rows[indexRow+x] = (dataSrc[indexSrcX]&0xFF)*w;
+				}
+			} else {
+				for( int x = xLow; x < xHigh; x++, indexSrcX += skip ) {
+					rows[indexRow+x] += (dataSrc[indexSrcX]&0xFF)*w;
+				}
+			}
+		}
+		for( int x = xLow; x < xHigh; x++ ) {
+			rows[indexRow+x] = (rows[indexRow+x]+halfDivisor)/divisor;
+		}
+		for( int x = xHigh; x < widthOut; x++ ) {
+			rows[indexRow+x] = horizontalBorder(kernel,input,indexSrc,x*skip);
+		}
+	}
+
+	/**
+	 * Convolves the kernel at a single pixel where the kernel extends outside the image and re-normalizes
+	 */
+	private static int horizontalBorder( Kernel1D_S32 kernel, GrayU8 input, int indexSrc, int center ) {
+		final int radius = kernel.getRadius();
+		final int kStart = Math.max(-radius, -center);
+		final int kEnd = Math.min(radius, input.width-1-center);
+
+		int total = 0;
+		int weight = 0;
+		for( int k = kStart; k <= kEnd; k++ ) {
+			int w = kernel.data[k+radius];
+			weight += w;
+			total += (input.data[indexSrc+center+k]&0xFF)*w;
+		}
+		return (total+weight/2)/weight;
+	}
+}
@@ -27,6 +27,7 @@ import boofcv.struct.wavelet.WlCoef;
 import boofcv.struct.wavelet.WlCoef_F32;
 import boofcv.struct.wavelet.WlCoef_I32;
 
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
 
 /**
  * <p>
@@ -66,6 +67,7 @@ public class ImplWaveletTransformBorder {
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
 		for( int y = 0; y < height; y++ ) {
 			for( int x = 0; x < lowerBorder; x += 2 ) {
 				float scale = 0;
@@ -112,6 +114,7 @@ public class ImplWaveletTransformBorder {
 				output.set(output.width/2 + outX , y , wavelet );
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical(BorderIndex1D border , WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -129,6 +132,7 @@ public class ImplWaveletTransformBorder {
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = input.height - UtilWavelet.borderForwardUpper(coefficients,input.height);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, width, x -> {
 		for( int x = 0; x < width; x++) {
 			for( int y = 0; y < lowerBorder; y += 2 ) {
 				float scale = 0;
@@ -176,13 +180,11 @@ public class ImplWaveletTransformBorder {
 				output.set(x , output.height/2 + outY , wavelet );
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontalInverse(BorderIndex1D border , WlBorderCoef<WlCoef_F32> desc , GrayF32 input , GrayF32 output )
 	{
-		float []trends = new float[ input.width ];
-		float []details = new float[ input.width ];
-
 		final int height = output.height;
 		final int paddedWidth = output.width + output.width%2;
 
@@ -210,9 +212,11 @@ public class ImplWaveletTransformBorder {
 
 		border.setLength(output.width+output.width%2);
 
-		WlCoef_F32 coefficients;
-
-		for( int y = 0; y < height; y++ ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, height, (y0,y1)->{
+		final int y0 = 0, y1 = height;
+		float []trends = new float[ input.width ];
+		float []details = new float[ input.width ];
+		for( int y = y0; y < y1; y++ ) {
 
 			// initialize details and trends arrays
 			for( int i = 0; i < indexes.length; i++ ) {
@@ -227,6 +231,7 @@ public class ImplWaveletTransformBorder {
 				float a = input.get(x/2,y);
 				float d = input.get(input.width/2+x/2,y);
 
+				WlCoef_F32 coefficients;
 				if( x < lowerBorder ) {
 					coefficients = desc.getBorderCoefficients(x);
 				} else if( x >= upperBorder ) {
@@ -266,13 +271,11 @@ public class ImplWaveletTransformBorder {
 				output.data[ indexDst + x ] = (trends[x] + details[x]);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void verticalInverse(BorderIndex1D border , WlBorderCoef<WlCoef_F32> desc , GrayF32 input , GrayF32 output )
 	{
-		float []trends = new float[ input.height ];
-		float []details = new float[ input.height ];
-
 		final int width = output.width;
 		final int paddedHeight = output.height + output.height%2;
 
@@ -300,9 +303,11 @@ public class ImplWaveletTransformBorder {
 
 		border.setLength(output.height+output.height%2);
 
-		WlCoef_F32 coefficients;
-
-		for( int x = 0; x < width; x++ ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, width, (x0,x1)->{
+		final int x0 = 0, x1 = width;
+		float []trends = new float[ input.height ];
+		float []details = new float[ input.height ];
+		for( int x = x0; x < x1; x++ ) {
 
 			// initialize details and trends arrays
 			for( int i = 0; i < indexes.length; i++ ) {
@@ -317,6 +322,7 @@ public class ImplWaveletTransformBorder {
 				float a = input.get(x,y/2);
 				float d = input.get(x,input.height/2+y/2);
 
+				WlCoef_F32 coefficients;
 				if( y < lowerBorder ) {
 					coefficients = desc.getBorderCoefficients(y);
 				} else if( y >= upperBorder ) {
@@ -356,6 +362,7 @@ public class ImplWaveletTransformBorder {
 				output.data[ indexDst + y*output.stride ] = (trends[y] + details[y]);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void horizontal(BorderIndex1D border , WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -373,6 +380,7 @@ public class ImplWaveletTransformBorder {
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
 		for( int y = 0; y < height; y++ ) {
 			for( int x = 0; x < lowerBorder; x += 2 ) {
 				int scale = 0;
@@ -425,6 +433,7 @@ public class ImplWaveletTransformBorder {
 				output.set(output.width/2 + outX , y , wavelet );
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical(BorderIndex1D border , WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -442,6 +451,7 @@ public class ImplWaveletTransformBorder {
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = input.height - UtilWavelet.borderForwardUpper(coefficients,input.height);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, width, x -> {
 		for( int x = 0; x < width; x++) {
 			for( int y = 0; y < lowerBorder; y += 2 ) {
 				int scale = 0;
@@ -495,13 +505,11 @@ public class ImplWaveletTransformBorder {
 				output.set(x , output.height/2 + outY , wavelet );
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontalInverse(BorderIndex1D border , WlBorderCoef<WlCoef_I32> desc , GrayS32 input , GrayS32 output )
 	{
-		int []trends = new int[ input.width ];
-		int []details = new int[ input.width ];
-
 		final int height = output.height;
 		final int paddedWidth = output.width + output.width%2;
 
@@ -529,13 +537,16 @@ public class ImplWaveletTransformBorder {
 
 		border.setLength(output.width+output.width%2);
 
-		WlCoef_I32 coefficients = desc.getInnerCoefficients();
-		final int e = coefficients.denominatorScaling*2;
-		final int f = coefficients.denominatorWavelet*2;
+		final int e = desc.getInnerCoefficients().denominatorScaling*2;
+		final int f = desc.getInnerCoefficients().denominatorWavelet*2;
 		final int ef = e*f;
 		final int ef2 = ef/2;
 
-		for( int y = 0; y < height; y++ ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, height, (y0,y1)->{
+		final int y0 = 0, y1 = height;
+		int []trends = new int[ input.width ];
+		int []details = new int[ input.width ];
+		for( int y = y0; y < y1; y++ ) {
 
 			// initialize details and trends arrays
 			for( int i = 0; i < indexes.length; i++ ) {
@@ -550,6 +561,7 @@ public class ImplWaveletTransformBorder {
 				float a = input.get(x/2,y);
 				float d = input.get(input.width/2+x/2,y);
 
+				WlCoef_I32 coefficients;
 				if( x < lowerBorder ) {
 					coefficients = desc.getBorderCoefficients(x);
 				} else if( x >= upperBorder ) {
@@ -589,13 +601,11 @@ public class ImplWaveletTransformBorder {
 				output.data[ indexDst + x ] = UtilWavelet.round(trends[x]*f + details[x]*e , ef2 , ef);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void verticalInverse(BorderIndex1D border , WlBorderCoef<WlCoef_I32> desc , GrayS32 input , GrayS32 output )
 	{
-		int []trends = new int[ input.height ];
-		int []details = new int[ input.height ];
-
 		final int width = output.width;
 		final int paddedHeight = output.height + output.height%2;
 
@@ -623,13 +633,16 @@ public class ImplWaveletTransformBorder {
 
 		border.setLength(output.height+output.height%2);
 
-		WlCoef_I32 coefficients = desc.getInnerCoefficients();
-		final int e = coefficients.denominatorScaling*2;
-		final int f = coefficients.denominatorWavelet*2;
+		final int e = desc.getInnerCoefficients().denominatorScaling*2;
+		final int f = desc.getInnerCoefficients().denominatorWavelet*2;
 		final int ef = e*f;
 		final int ef2 = ef/2;
 
-		for( int x = 0; x < width; x++ ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, width, (x0,x1)->{
+		final int x0 = 0, x1 = width;
+		int []trends = new int[ input.height ];
+		int []details = new int[ input.height ];
+		for( int x = x0; x < x1; x++ ) {
 
 			// initialize details and trends arrays
 			for( int i = 0; i < indexes.length; i++ ) {
@@ -644,6 +657,7 @@ public class ImplWaveletTransformBorder {
 				float a = input.get(x,y/2);
 				float d = input.get(x,input.height/2+y/2);
 
+				WlCoef_I32 coefficients;
 				if( y < lowerBorder ) {
 					coefficients = desc.getBorderCoefficients(y);
 				} else if( y >= upperBorder ) {
@@ -683,6 +697,7 @@ public class ImplWaveletTransformBorder {
 				output.data[ indexDst + y*output.stride ] = UtilWavelet.round(trends[y]*f + details[y]*e , ef2 , ef);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 
@@ -24,6 +24,7 @@ import boofcv.struct.image.GrayS32;
 import boofcv.struct.wavelet.WlCoef_F32;
 import boofcv.struct.wavelet.WlCoef_I32;
 
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
 
 /**
  * <p>
@@ -56,6 +57,7 @@ public class ImplWaveletTransformInner {
 		final int startX = UtilWavelet.borderForwardLower(coefficients);
 		final int endOffsetX = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width) - startX;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
 		for( int y = 0; y < height; y++ ) {
 
 			int indexIn = input.startIndex + input.stride*y + startX;
@@ -81,6 +83,7 @@ public class ImplWaveletTransformInner {
 				dataOut[ indexOut++ ] = scale;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -99,6 +102,7 @@ public class ImplWaveletTransformInner {
 		final int startY = UtilWavelet.borderForwardLower(coefficients);
 		final int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(startY, endY, 2, y -> {
 		for( int y = startY; y < endY; y += 2 ) {
 
 			int indexIn = input.startIndex + input.stride*y;
@@ -125,6 +129,7 @@ public class ImplWaveletTransformInner {
 
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontalInverse(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -134,15 +139,16 @@ public class ImplWaveletTransformInner {
 		final float[] alpha = coefficients.scaling;
 		final float[] beta = coefficients.wavelet;
 
-		float []trends = new float[ output.width ];
-		float []details = new float[ output.width ];
-
 		final int width = input.width;
 		final int height = output.height;
 		final int widthD2 = width/2;
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = output.width - UtilWavelet.borderForwardUpper(coefficients,output.width);
-		for( int y = 0; y < height; y++ ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, height, (y0,y1)->{
+		final int y0 = 0, y1 = height;
+		float []trends = new float[ output.width ];
+		float []details = new float[ output.width ];
+		for( int y = y0; y < y1; y++ ) {
 
 			// initialize details and trends arrays
 			int indexSrc = input.startIndex + y*input.stride+lowerBorder/2;
@@ -186,6 +192,7 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst++ ] = (trends[x] + details[x]);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void verticalInverse(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -195,15 +202,16 @@ public class ImplWaveletTransformInner {
 		final float[] alpha = coefficients.scaling;
 		final float[] beta = coefficients.wavelet;
 
-		float []trends = new float[ output.height ];
-		float []details = new float[ output.height ];
-
 		final int width = output.width;
 		final int height = input.height;
 		final int heightD2 = (height/2)*input.stride;
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = output.height - UtilWavelet.borderForwardUpper(coefficients,output.height);
-		for( int x = 0; x < width; x++) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, width, (x0,x1)->{
+		final int x0 = 0, x1 = width;
+		float []trends = new float[ output.height ];
+		float []details = new float[ output.height ];
+		for( int x = x0; x < x1; x++) {
 
 			int indexSrc = input.startIndex + (lowerBorder/2)*input.stride + x;
 			for( int y = lowerBorder; y < upperBorder; y += 2 , indexSrc += input.stride ) {
@@ -247,6 +255,7 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst ] = (trends[y] + details[y]);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void horizontal(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -265,6 +274,7 @@ public class ImplWaveletTransformInner {
 		final int startX = UtilWavelet.borderForwardLower(coefficients);
 		final int endOffsetX = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width) - startX;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
 		for( int y = 0; y < height; y++ ) {
 
 			int indexIn = input.startIndex + input.stride*y + startX;
@@ -293,6 +303,7 @@ public class ImplWaveletTransformInner {
 				dataOut[ indexOut++ ] = scale;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -311,6 +322,7 @@ public class ImplWaveletTransformInner {
 		final int startY = UtilWavelet.borderForwardLower(coefficients);
 		final int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(startY, endY, 2, y -> {
 		for( int y = startY; y < endY; y += 2 ) {
 
 			int indexIn = input.startIndex + input.stride*y;
@@ -340,6 +352,7 @@ public class ImplWaveletTransformInner {
 
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontalInverse(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -349,9 +362,6 @@ public class ImplWaveletTransformInner {
 		final int[] alpha = coefficients.scaling;
 		final int[] beta = coefficients.wavelet;
 
-		int []trends = new int[ output.width ];
-		int []details = new int[ output.width ];
-
 		final int width = input.width;
 		final int height = output.height;
 		final int widthD2 = width/2;
@@ -362,7 +372,11 @@ public class ImplWaveletTransformInner {
 		final int ef = e*f;
 		final int ef2 = ef/2;
 
-		for( int y = 0; y < height; y++ ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, height, (y0,y1)->{
+		final int y0 = 0, y1 = height;
+		int []trends = new int[ output.width ];
+		int []details = new int[ output.width ];
+		for( int y = y0; y < y1; y++ ) {
 
 			// initialize details and trends arrays
 			int indexSrc = input.startIndex + y*input.stride+lowerBorder/2;
@@ -406,6 +420,7 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst++ ] = UtilWavelet.round(trends[x]*f + details[x]*e , ef2,ef);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void verticalInverse(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -415,9 +430,6 @@ public class ImplWaveletTransformInner {
 		final int[] alpha = coefficients.scaling;
 		final int[] beta = coefficients.wavelet;
 
-		int []trends = new int[ output.height ];
-		int []details = new int[ output.height ];
-
 		final int width = output.width;
 		final int height = input.height;
 		final int heightD2 = (height/2)*input.stride;
@@ -428,7 +440,11 @@ public class ImplWaveletTransformInner {
 		final int ef = e*f;
 		final int ef2 = ef/2;
 
-		for( int x = 0; x < width; x++) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, width, (x0,x1)->{
+		final int x0 = 0, x1 = width;
+		int []trends = new int[ output.height ];
+		int []details = new int[ output.height ];
+		for( int x = x0; x < x1; x++) {
 
 			int indexSrc = input.startIndex + (lowerBorder/2)*input.stride + x;
 			for( int y = lowerBorder; y < upperBorder; y += 2 , indexSrc += input.stride ) {
@@ -472,6 +488,7 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst ] = UtilWavelet.round(trends[y]*f + details[y]*e , ef2 , ef);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 
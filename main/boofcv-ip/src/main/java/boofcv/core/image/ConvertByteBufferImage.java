@@ -27,10 +27,146 @@ import java.nio.ByteBuffer;
  * Converts images that are stored in {@link java.nio.ByteBuffer} into BoofCV image types and performs
  * a local copy when the raw array can't be accessed
  *
+ * <p>
+ * If the buffer is backed by an accessible array, see {@link #canExtract(ByteBuffer)}, then an image can be
+ * created which shares the buffer's array, avoiding a copy entirely. Direct, memory mapped, and read only
+ * buffers can't be shared with a regular image since BoofCV images are backed by Java arrays. Instead they
+ * can be wrapped in a {@link ByteBufferImage} using {@link #wrap} and processed without a copy by
+ * {@link boofcv.alg.filter.pipeline.StripPipeline} and {@link boofcv.alg.misc.ByteBufferImageOps}, or copied
+ * one row at a time.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class ConvertByteBufferImage {
 
+	/**
+	 * Returns true if the buffer is backed by an array which an image can share
+	 */
+	public static boolean canExtract( ByteBuffer buffer ) {
+		return buffer.hasArray();
+	}
+
+	/**
+	 * Creates a gray scale image which shares the buffer's internal array. No data is copied.
+	 *
+	 * @param src Buffer containing the image. Must be backed by an accessible array.
+	 * @param srcOffset Location of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @return An image whose internal data is the same as the buffer
+	 */
+	public static GrayU8 extractGrayU8( ByteBuffer src , int srcOffset , int srcStride , int width , int height ) {
+		checkExtract(src, srcOffset, srcStride, width, height, 1);
+
+		GrayU8 ret = new GrayU8();
+		ret.width = width;
+		ret.height = height;
+		ret.startIndex = src.arrayOffset() + srcOffset;
+		ret.stride = srcStride;
+		ret.data = src.array();
+		// the image doesn't own the array so it must never be reshaped in place
+		ret.subImage = ret.startIndex != 0 || ret.stride != width;
+
+		return ret;
+	}
+
+	/**
+	 * Creates an interleaved image which shares the buffer's internal array. No data is copied.
+	 *
+	 * @param src Buffer containing the image. Must be backed by an accessible array.
+	 * @param srcOffset Location of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of bands in each pixel
+	 * @return An image whose internal data is the same as the buffer
+	 */
+	public static InterleavedU8 extractInterleavedU8( ByteBuffer src , int srcOffset , int srcStride ,
+													  int width , int height , int numBands ) {
+		checkExtract(src, srcOffset, srcStride, width, height, numBands);
+
+		InterleavedU8 ret = new InterleavedU8();
+		ret.width = width;
+		ret.height = height;
+		ret.startIndex = src.arrayOffset() + srcOffset;
+		ret.imageType.numBands = numBands;
+		ret.numBands = numBands;
+		ret.stride = srcStride;
+		ret.data = src.array();
+		ret.subImage = ret.startIndex != 0 || ret.stride != width*numBands;
+
+		return ret;
+	}
+
+	/**
+	 * Creates a view of an image stored in any type of buffer, including direct and memory mapped buffers.
+	 * No data is copied. The view can be processed by {@link boofcv.alg.filter.pipeline.StripPipeline},
+	 * which reads rows directly from the buffer.
+	 *
+	 * @param src Buffer containing the image
+	 * @param srcOffset Location of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of bands in each pixel
+	 * @return An image which is a view into the buffer
+	 */
+	public static ByteBufferImage wrap( ByteBuffer src , int srcOffset , int srcStride ,
+										int width , int height , int numBands ) {
+		return new ByteBufferImage(src,srcOffset,srcStride,width,height,numBands);
+	}
+
+	private static void checkExtract( ByteBuffer src , int srcOffset , int srcStride ,
+									  int width , int height , int numBands ) {
+		if( !canExtract(src) )
+			throw new IllegalArgumentException("Buffer is not backed by an accessible array. Copy it instead");
+		if( srcStride < width*numBands )
+			throw new IllegalArgumentException("Stride is smaller than a row");
+		if( height > 0 && srcOffset + (height-1)*srcStride + width*numBands > src.limit() )
+			throw new IllegalArgumentException("Image extends past the end of the buffer");
+	}
+
+	/**
+	 * Copies a gray scale image stored in the buffer into a {@link GrayU8}. Each row is copied in bulk.
+	 */
+	public static void from_1BU8_to_U8(ByteBuffer src , int srcOffset , int srcStride , GrayU8 dst )
+	{
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(dst.data,dst.startIndex + dst.stride*y,dst.width);
+			indexSrc += srcStride;
+		}
+	}
+
+	/**
+	 * Copies a {@link GrayU8} into a buffer, e.g. a direct buffer shared with native code.
+	 */
+	public static void from_U8_to_1BU8(GrayU8 src , ByteBuffer dst , int dstOffset , int dstStride )
+	{
+		int indexDst = dstOffset;
+		for (int y = 0; y < src.height; y++) {
+			dst.position(indexDst);
+			dst.put(src.data,src.startIndex + src.stride*y,src.width);
+			indexDst += dstStride;
+		}
+	}
+
+	/**
+	 * Copies an {@link InterleavedU8} into a buffer, e.g. a direct buffer shared with native code.
+	 */
+	public static void from_IU8_to_BU8(InterleavedU8 src , ByteBuffer dst , int dstOffset , int dstStride )
+	{
+		int indexDst = dstOffset;
+		for (int y = 0; y < src.height; y++) {
+			dst.position(indexDst);
+			dst.put(src.data,src.startIndex + src.stride*y,src.width*src.numBands);
+			indexDst += dstStride;
+		}
+	}
+
 	public static void from_3BU8_to_U8(ByteBuffer src , int srcOffset , int srcStride ,
 									   GrayU8 dst , GrowQueue_I8 work )
 	{
@@ -85,7 +221,7 @@ public class ConvertByteBufferImage {
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
 			src.position(indexSrc);
-			src.get(dst.data,0,dst.width*3);
+			src.get(dst.data,dst.startIndex + dst.stride*y,dst.width*3);
 			indexSrc += srcStride;
 		}
 	}
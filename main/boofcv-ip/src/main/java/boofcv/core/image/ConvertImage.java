@@ -20,6 +20,7 @@ package boofcv.core.image;
 
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.impl.*;
+import boofcv.override.VectorOps;
 import boofcv.struct.image.*;
 
 /**
@@ -274,7 +275,8 @@ public class ConvertImage {
 		}
 
 		// threaded code is not significantly faster here
-		ImplConvertImage.convert(input, output);
+		if( !VectorOps.convert(input, output) )
+			ImplConvertImage.convert(input, output);
 
 		return output;
 	}
@@ -296,7 +298,8 @@ public class ConvertImage {
 		}
 
 		// threaded code is not significantly faster here
-		ImplConvertImage.convert(input, output);
+		if( !VectorOps.convert(input, output) )
+			ImplConvertImage.convert(input, output);
 
 		return output;
 	}
@@ -360,7 +363,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -383,7 +386,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -407,7 +410,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -430,7 +433,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -796,7 +799,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -819,7 +822,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -843,7 +846,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -866,7 +869,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1232,7 +1235,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -1255,7 +1258,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1279,7 +1282,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -1302,7 +1305,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1668,7 +1671,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -1691,7 +1694,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1715,7 +1718,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -1738,7 +1741,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2104,7 +2107,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2127,7 +2130,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2151,7 +2154,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -2174,7 +2177,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2540,7 +2543,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2563,7 +2566,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2587,7 +2590,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -2610,7 +2613,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2976,7 +2979,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2999,7 +3002,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3023,7 +3026,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -3046,7 +3049,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3412,7 +3415,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -3435,7 +3438,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3459,7 +3462,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"average",output) ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -3482,7 +3485,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convert",output) ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3539,7 +3542,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convertU8F32",output) ) {
 			ImplConvertImage_MT.convertU8F32(input,output);
 		} else {
 			ImplConvertImage.convertU8F32(input,output);
@@ -3562,7 +3565,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convertF32U8",output) ) {
 			ImplConvertImage_MT.convertF32U8(input,output);
 		} else {
 			ImplConvertImage.convertF32U8(input,output);
@@ -3585,7 +3588,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convertU8F32",output) ) {
 			ImplConvertImage_MT.convertU8F32(input,output);
 		} else {
 			ImplConvertImage.convertU8F32(input,output);
@@ -3608,7 +3611,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent(ConvertImage.class,"convertF32U8",output) ) {
 			ImplConvertImage_MT.convertF32U8(input,output);
 		} else {
 			ImplConvertImage.convertF32U8(input,output);
@@ -24,6 +24,8 @@ import boofcv.alg.denoise.wavelet.DenoiseBayesShrink_F32;
 import boofcv.alg.denoise.wavelet.DenoiseSureShrink_F32;
 import boofcv.alg.denoise.wavelet.DenoiseVisuShrink_F32;
 import boofcv.alg.denoise.wavelet.ShrinkThresholdSoft_F32;
+import boofcv.alg.denoise.wavelet.ShrinkThresholdSoft_F32_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
 
@@ -46,7 +48,7 @@ public class FactoryDenoiseWaveletAlg {
 	public static <T extends ImageGray<T>> DenoiseWavelet<T> bayes(ShrinkThresholdRule<T> rule , Class<T> imageType )
 	{
 		if( rule == null ) {
-			rule = (ShrinkThresholdRule<T>)new ShrinkThresholdSoft_F32();
+			rule = (ShrinkThresholdRule<T>)softThreshold_F32();
 		}
 
 		if( imageType == GrayF32.class ) {
@@ -65,7 +67,7 @@ public class FactoryDenoiseWaveletAlg {
 	public static <T extends ImageGray<T>> DenoiseWavelet<T> sure(Class<T> imageType )
 	{
 		if( imageType == GrayF32.class ) {
-			return (DenoiseWavelet<T>)new DenoiseSureShrink_F32();
+			return (DenoiseWavelet<T>)new DenoiseSureShrink_F32(softThreshold_F32());
 		} else {
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 		}
@@ -80,9 +82,20 @@ public class FactoryDenoiseWaveletAlg {
 	public static <T extends ImageGray<T>> DenoiseWavelet<T> visu(Class<T> imageType )
 	{
 		if( imageType == GrayF32.class ) {
-			return (DenoiseWavelet<T>)new DenoiseVisuShrink_F32();
+			return (DenoiseWavelet<T>)new DenoiseVisuShrink_F32(softThreshold_F32());
 		} else {
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 		}
 	}
+
+	/**
+	 * Creates a soft threshold rule which will process the image concurrently if concurrency is turned on
+	 */
+	private static ShrinkThresholdRule<GrayF32> softThreshold_F32() {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ShrinkThresholdSoft_F32_MT();
+		} else {
+			return new ShrinkThresholdSoft_F32();
+		}
+	}
 }
@@ -19,6 +19,7 @@
 package boofcv.factory.filter.blur;
 
 import boofcv.abst.filter.blur.BlurStorageFilter;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -74,4 +75,22 @@ public class FactoryBlurFilter {
 	public static <T extends ImageGray<T>> BlurStorageFilter<T> gaussian(Class<T> type , double sigma , int radius ) {
 		return gaussian(ImageType.single(type), sigma, radius);
 	}
+
+	/**
+	 * Creates a Gaussian filter which is computed using a recursive filter. The cost per pixel does not depend
+	 * on sigma, making it much faster than {@link #gaussian} for large sigmas.
+	 *
+	 * @see boofcv.alg.filter.blur.BlurImageOps#GAUSSIAN_RECURSIVE_SIGMA
+	 *
+	 * @param type Image type.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageBase<T>> BlurStorageFilter<T> gaussianRecursive(ImageType<T> type , double sigma ) {
+		return new BlurStorageFilter<>("gaussianRecursive", type, sigma, FactoryKernelGaussian.radiusForSigma(sigma,0));
+	}
+
+	public static <T extends ImageGray<T>> BlurStorageFilter<T> gaussianRecursive(Class<T> type , double sigma ) {
+		return gaussianRecursive(ImageType.single(type), sigma);
+	}
 }
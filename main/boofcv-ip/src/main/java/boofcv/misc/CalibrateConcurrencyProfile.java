@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrencyProfile;
+import boofcv.concurrency.FWorkArrays;
+import boofcv.concurrency.IWorkArrays;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Measures the image size at which the concurrent implementation of an operation becomes faster than the
+ * single thread implementation and saves the results in a {@link ConcurrencyProfile}. Several representative
+ * operations are timed for each class which dispatches operations. Each function is assigned the median threshold
+ * of the operations which call it and the class is assigned the median of all its operations, which is used by
+ * functions which weren't timed.
+ *
+ * Each function is timed on square images of decreasing size. Timing is noisy, so the search only stops once
+ * the concurrent implementation has been slower at two consecutive sizes. The threshold is the smallest image
+ * for which the concurrent implementation was faster before the search stopped. This can be run offline, with
+ * the profile loaded at startup through {@link BoofConcurrency#PROFILE_PROPERTY}, or at startup by calling
+ * {@link #calibrate()}.
+ *
+ * @author Peter Abeles
+ */
+public class CalibrateConcurrencyProfile {
+	/**
+	 * Width and height of the images which are tested
+	 */
+	public int[] sizes = new int[]{32,64,128,256,384,512,768,1024,1536,2048};
+
+	/**
+	 * Minimum amount of time in milliseconds each operation is timed for at each image size
+	 */
+	public long testTimeMS = 100;
+
+	/**
+	 * If true then the results are printed to standard out
+	 */
+	public boolean verbose = false;
+
+	Random rand = new Random(234);
+
+	/**
+	 * Computes the thresholds for all the operations which use the profile
+	 *
+	 * @return The computed profile
+	 */
+	public ConcurrencyProfile calibrate() {
+		List<Operation> operations = new ArrayList<>();
+		operations.add(new PixelMathMultiply());
+		operations.add(new PixelMathPlus());
+		operations.add(new PixelMathAdd());
+		operations.add(new PixelMathSqrt());
+		operations.add(new ConvertAverage());
+		operations.add(new ConvertU8F32());
+		operations.add(new ConvertInterleavedPlanar());
+		operations.add(new ConvolveHorizontal());
+		operations.add(new ConvolveVertical());
+		operations.add(new Convolve2D());
+		operations.add(new MeanHorizontal());
+		operations.add(new MeanVertical());
+		operations.add(new Median());
+
+		return calibrate(operations);
+	}
+
+	/**
+	 * Computes the thresholds for the specified operations
+	 */
+	ConcurrencyProfile calibrate( List<Operation> operations ) {
+		boolean originalConcurrent = BoofConcurrency.USE_CONCURRENT;
+		ConcurrencyProfile originalProfile = BoofConcurrency.getProfile();
+
+		// concurrency is controlled explicitly while calibrating
+		BoofConcurrency.setProfile(new ConcurrencyProfile());
+
+		// thresholds for each function and each class
+		Map<String,List<Integer>> thresholds = new LinkedHashMap<>();
+		try {
+			for( Operation op : operations ) {
+				int threshold = findThreshold(op);
+				thresholds.computeIfAbsent(op.getName(),k->new ArrayList<>()).add(threshold);
+				thresholds.computeIfAbsent(op.owner.getSimpleName(),k->new ArrayList<>()).add(threshold);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = originalConcurrent;
+			BoofConcurrency.setProfile(originalProfile);
+		}
+
+		ConcurrencyProfile profile = new ConcurrencyProfile();
+		for( Map.Entry<String,List<Integer>> e : thresholds.entrySet() ) {
+			List<Integer> values = e.getValue();
+			Collections.sort(values);
+			profile.setThreshold(e.getKey(),values.get(values.size()/2));
+		}
+		return profile;
+	}
+
+	/**
+	 * Finds the number of pixels where the concurrent implementation of the operation becomes faster
+	 */
+	int findThreshold( Operation op ) {
+		if( verbose )
+			System.out.println(op.getName());
+
+		// Integer.MAX_VALUE means the concurrent implementation is never used
+		int threshold = Integer.MAX_VALUE;
+		int losses = 0;
+		for( int i = sizes.length-1; i >= 0; i-- ) {
+			int size = sizes[i];
+			op.setup(size);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			double single = ProfileOperation.profileOpsPerSec(op,testTimeMS,true);
+			BoofConcurrency.USE_CONCURRENT = true;
+			double concurrent = ProfileOperation.profileOpsPerSec(op,testTimeMS,true);
+
+			if( verbose )
+				System.out.printf("  %5d  single %10.2f  concurrent %10.2f ops/sec\n",size,single,concurrent);
+
+			if( !isConcurrentFaster(single,concurrent) ) {
+				if( ++losses >= 2 )
+					break;
+			} else {
+				losses = 0;
+				threshold = size*size;
+			}
+		}
+		return threshold;
+	}
+
+	/**
+	 * Returns true if the concurrent implementation was faster. Exists so that timing can be replaced in tests.
+	 */
+	boolean isConcurrentFaster( double single , double concurrent ) {
+		return concurrent > single;
+	}
+
+	/**
+	 * Operation which is being calibrated. The image size is changed by calling setup()
+	 */
+	abstract static class Operation extends PerformerBase {
+		/** Class which dispatches the operation */
+		final Class<?> owner;
+		/** Name of the function being timed */
+		final String function;
+
+		Operation( Class<?> owner, String function ) {
+			this.owner = owner;
+			this.function = function;
+		}
+
+		abstract void setup( int size );
+
+		@Override
+		public String getName() {
+			return ConcurrencyProfile.toName(owner,function);
+		}
+	}
+
+	class PixelMathMultiply extends Operation {
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		PixelMathMultiply() { super(PixelMath.class,"multiply"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { PixelMath.multiply(input,1.5f,output); }
+	}
+
+	class PixelMathPlus extends Operation {
+		GrayU8 input = new GrayU8(1,1);
+		GrayU8 output = new GrayU8(1,1);
+
+		PixelMathPlus() { super(PixelMath.class,"plus"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { PixelMath.plus(input,20,0,255,output); }
+	}
+
+	class PixelMathAdd extends Operation {
+		GrayF32 inputA = new GrayF32(1,1);
+		GrayF32 inputB = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		PixelMathAdd() { super(PixelMath.class,"add"); }
+
+		@Override void setup(int size) {
+			inputA.reshape(size,size);
+			inputB.reshape(size,size);
+			ImageMiscOps.fillUniform(inputA,rand,0,200);
+			ImageMiscOps.fillUniform(inputB,rand,0,200);
+		}
+
+		@Override public void process() { PixelMath.add(inputA,inputB,output); }
+	}
+
+	class PixelMathSqrt extends Operation {
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		PixelMathSqrt() { super(PixelMath.class,"sqrt"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { PixelMath.sqrt(input,output); }
+	}
+
+	class ConvertAverage extends Operation {
+		InterleavedU8 input = new InterleavedU8(1,1,3);
+		GrayU8 output = new GrayU8(1,1);
+
+		ConvertAverage() { super(ConvertImage.class,"average"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvertImage.average(input,output); }
+	}
+
+	class ConvertU8F32 extends Operation {
+		GrayU8 input = new GrayU8(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		ConvertU8F32() { super(ConvertImage.class,"convert"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvertImage.convert(input,output); }
+	}
+
+	class ConvertInterleavedPlanar extends Operation {
+		InterleavedU8 input = new InterleavedU8(1,1,3);
+		Planar<GrayU8> output = new Planar<>(GrayU8.class,1,1,3);
+
+		ConvertInterleavedPlanar() { super(ConvertImage.class,"convert"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvertImage.convert(input,output); }
+	}
+
+	class ConvolveHorizontal extends Operation {
+		Kernel1D_F32 kernel = new Kernel1D_F32(new float[]{0.1f,0.2f,0.4f,0.2f,0.1f},5);
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		ConvolveHorizontal() { super(ConvolveImageNoBorder.class,"horizontal"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			output.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvolveImageNoBorder.horizontal(kernel,input,output); }
+	}
+
+	class ConvolveVertical extends Operation {
+		Kernel1D_F32 kernel = new Kernel1D_F32(new float[]{0.1f,0.2f,0.4f,0.2f,0.1f},5);
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		ConvolveVertical() { super(ConvolveImageNoBorder.class,"vertical"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			output.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvolveImageNoBorder.vertical(kernel,input,output); }
+	}
+
+	class Convolve2D extends Operation {
+		Kernel2D_F32 kernel = new Kernel2D_F32(5);
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		Convolve2D() {
+			super(ConvolveImageNoBorder.class,"convolve");
+			Arrays.fill(kernel.data,1.0f/25.0f);
+		}
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			output.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvolveImageNoBorder.convolve(kernel,input,output); }
+	}
+
+	class MeanHorizontal extends Operation {
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+
+		MeanHorizontal() { super(ConvolveImageMean.class,"horizontal"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			output.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvolveImageMean.horizontal(input,output,2); }
+	}
+
+	class MeanVertical extends Operation {
+		GrayF32 input = new GrayF32(1,1);
+		GrayF32 output = new GrayF32(1,1);
+		FWorkArrays work = new FWorkArrays();
+
+		MeanVertical() { super(ConvolveImageMean.class,"vertical"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			output.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { ConvolveImageMean.vertical(input,output,2,work); }
+	}
+
+	class Median extends Operation {
+		GrayU8 input = new GrayU8(1,1);
+		GrayU8 output = new GrayU8(1,1);
+		IWorkArrays work = new IWorkArrays();
+
+		Median() { super(BlurImageOps.class,"median"); }
+
+		@Override void setup(int size) {
+			input.reshape(size,size);
+			output.reshape(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+		}
+
+		@Override public void process() { BlurImageOps.median(input,output,5,work); }
+	}
+
+	public static void main(String[] args) throws IOException {
+		File file = new File(args.length > 0 ? args[0] : "concurrency_profile.txt");
+
+		CalibrateConcurrencyProfile app = new CalibrateConcurrencyProfile();
+		app.verbose = true;
+		ConcurrencyProfile profile = app.calibrate();
+		profile.save(file);
+
+		System.out.println("Saved profile to "+file.getAbsolutePath());
+	}
+}
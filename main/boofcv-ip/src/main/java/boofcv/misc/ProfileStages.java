@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import javax.annotation.Nullable;
+
+/**
+ * Interface for algorithms which can report how long each of their internal stages takes to a {@link StageListener}.
+ * Algorithms composed of other instrumented algorithms pass the listener along to them.
+ *
+ * @author Peter Abeles
+ */
+public interface ProfileStages {
+	/**
+	 * Specifies where measurements are sent. If null then instrumentation is turned off and has no cost.
+	 *
+	 * @param listener The listener or null to turn off
+	 */
+	void setStageListener( @Nullable StageListener listener );
+}
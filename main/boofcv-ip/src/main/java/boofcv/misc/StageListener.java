@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+/**
+ * Receives measurements from algorithms which have been instrumented with a {@link StageProfiler}. Each time
+ * a stage inside an algorithm finishes it's called once. Implementations can forward the measurements to
+ * a metrics system, log them, or aggregate them like {@link StageStatistics} does.
+ *
+ * Implementations must be thread safe if the same listener is passed to algorithms running in different threads.
+ *
+ * @author Peter Abeles
+ */
+public interface StageListener {
+	/**
+	 * Called after a stage has finished.
+	 *
+	 * @param algorithm Name of the algorithm which the stage is part of
+	 * @param stage Name of the stage
+	 * @param nanoseconds How long the stage took to run
+	 * @param items Number of items processed or produced by the stage, e.g. contours or detections. -1 if not
+	 *              applicable.
+	 * @param bytes Number of bytes allocated by the calling thread during the stage. -1 if it can't be measured.
+	 */
+	void stageComplete( String algorithm , String stage , long nanoseconds , int items , long bytes );
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import javax.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * <p>
+ * Measures how long stages inside an algorithm take and reports them to a {@link StageListener}. When no listener
+ * has been specified every function returns immediately, without reading the clock, so it can be left inside
+ * of production code.
+ * </p>
+ *
+ * <pre>
+ * profiler.begin();
+ * findContours();
+ * profiler.end("contour",contours.size());
+ * fitPolygons();
+ * profiler.end("polygons",polygons.size());
+ * </pre>
+ *
+ * <p>
+ * Allocated bytes are measured for the calling thread only. Memory allocated by worker threads in concurrent
+ * code isn't included. If the JVM doesn't support it, e.g. Android, then -1 is reported.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class StageProfiler {
+	// name of the algorithm which is reported to the listener
+	String algorithm;
+
+	@Nullable StageListener listener;
+
+	// time and allocated bytes when the current stage started
+	long startTime;
+	long startBytes;
+
+	public StageProfiler( String algorithm ) {
+		this.algorithm = algorithm;
+	}
+
+	/**
+	 * Marks the start of a stage
+	 */
+	public void begin() {
+		if( listener == null )
+			return;
+		startBytes = allocatedBytes();
+		startTime = System.nanoTime();
+	}
+
+	/**
+	 * Marks the end of the current stage and the start of the next one.
+	 *
+	 * @param stage Name of the stage which just finished
+	 * @param items Number of items processed. -1 if not applicable
+	 */
+	public void end( String stage , int items ) {
+		if( listener == null )
+			return;
+		long time = System.nanoTime();
+		long bytes = allocatedBytes();
+		listener.stageComplete(algorithm,stage,time-startTime,items,
+				bytes < 0 || startBytes < 0 ? -1 : bytes-startBytes);
+		// exclude the time spent inside the listener from the next stage
+		startBytes = allocatedBytes();
+		startTime = System.nanoTime();
+	}
+
+	public void end( String stage ) {
+		end(stage,-1);
+	}
+
+	public boolean isActive() {
+		return listener != null;
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public void setAlgorithm(String algorithm) {
+		this.algorithm = algorithm;
+	}
+
+	@Nullable
+	public StageListener getListener() {
+		return listener;
+	}
+
+	public void setListener( @Nullable StageListener listener ) {
+		this.listener = listener;
+	}
+
+	// set to false if the platform doesn't have java.lang.management
+	private static boolean allocationAvailable = true;
+
+	private static long allocatedBytes() {
+		if( !allocationAvailable )
+			return -1;
+		try {
+			return AllocatedBytes.get();
+		} catch( Throwable e ) {
+			allocationAvailable = false;
+			return -1;
+		}
+	}
+
+	/**
+	 * In its own class so that it's only loaded when allocations are measured. This way platforms without
+	 * java.lang.management, e.g. Android, only need to handle the failure in {@link #allocatedBytes()}.
+	 */
+	private static class AllocatedBytes {
+		static final @Nullable com.sun.management.ThreadMXBean bean = lookup();
+
+		static @Nullable com.sun.management.ThreadMXBean lookup() {
+			try {
+				ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+				if( !(bean instanceof com.sun.management.ThreadMXBean) )
+					return null;
+				com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean)bean;
+				if( !sun.isThreadAllocatedMemorySupported() )
+					return null;
+				if( !sun.isThreadAllocatedMemoryEnabled() )
+					sun.setThreadAllocatedMemoryEnabled(true);
+				return sun;
+			} catch( Throwable ignore ) {
+				return null;
+			}
+		}
+
+		static long get() {
+			if( bean == null )
+				return -1;
+			return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+	}
+}
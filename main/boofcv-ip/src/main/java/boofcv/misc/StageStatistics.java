@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import javax.annotation.Nullable;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StageListener} which accumulates statistics for each stage across many calls. Useful for finding which
+ * stage is responsible when an algorithm is slow. Thread safe.
+ *
+ * @author Peter Abeles
+ */
+public class StageStatistics implements StageListener {
+
+	// Use a linked map so that stages are printed in the order they are first seen
+	final Map<String,Stage> stages = new LinkedHashMap<>();
+
+	@Override
+	public synchronized void stageComplete(String algorithm, String stage, long nanoseconds, int items, long bytes) {
+		String key = algorithm+":"+stage;
+		Stage s = stages.get(key);
+		if( s == null ) {
+			s = new Stage(algorithm,stage);
+			stages.put(key,s);
+		}
+		s.add(nanoseconds,items,bytes);
+	}
+
+	/**
+	 * Returns the statistics for a stage or null if it has never been called
+	 */
+	public synchronized @Nullable Stage get( String algorithm , String stage ) {
+		Stage s = stages.get(algorithm+":"+stage);
+		return s == null ? null : s.copy();
+	}
+
+	/**
+	 * Returns a copy of the statistics for all stages
+	 */
+	public synchronized List<Stage> getAll() {
+		List<Stage> list = new ArrayList<>();
+		for( Stage s : stages.values() ) {
+			list.add(s.copy());
+		}
+		return list;
+	}
+
+	public synchronized void reset() {
+		stages.clear();
+	}
+
+	/**
+	 * Prints a table summarizing each stage
+	 */
+	public void print( PrintStream out ) {
+		List<Stage> list = getAll();
+
+		int length = 10;
+		for( Stage s : list ) {
+			length = Math.max(length,s.algorithm.length()+s.stage.length()+1);
+		}
+
+		out.printf("%-"+length+"s %7s %10s %10s %9s %10s\n","Stage","Count","Mean (ms)","Max (ms)","Items","KiB");
+		for( Stage s : list ) {
+			out.printf("%-"+length+"s %7d %10.3f %10.3f %9.1f %10s\n",
+					s.algorithm+":"+s.stage, s.count, s.getMeanMilli(), s.maxNano*1e-6, s.getMeanItems(),
+					s.totalBytes < 0 ? "" : String.format("%.1f",s.getMeanBytes()/1024.0));
+		}
+	}
+
+	/**
+	 * Accumulated statistics for a single stage
+	 */
+	public static class Stage {
+		public String algorithm;
+		public String stage;
+		/** Number of times it has been called */
+		public int count;
+		public long totalNano;
+		public long maxNano;
+		/** Total items. Only includes calls where items was reported */
+		public long totalItems;
+		public int countItems;
+		/** Total bytes allocated. -1 if it couldn't be measured */
+		public long totalBytes;
+
+		public Stage( String algorithm , String stage ) {
+			this.algorithm = algorithm;
+			this.stage = stage;
+		}
+
+		void add( long nanoseconds , int items , long bytes ) {
+			count++;
+			totalNano += nanoseconds;
+			maxNano = Math.max(maxNano,nanoseconds);
+			if( items >= 0 ) {
+				totalItems += items;
+				countItems++;
+			}
+			if( bytes < 0 || totalBytes < 0 )
+				totalBytes = -1;
+			else
+				totalBytes += bytes;
+		}
+
+		public double getMeanMilli() {
+			return count == 0 ? 0 : totalNano*1e-6/count;
+		}
+
+		public double getMeanItems() {
+			return countItems == 0 ? 0 : totalItems/(double)countItems;
+		}
+
+		public double getMeanBytes() {
+			return count == 0 || totalBytes < 0 ? -1 : totalBytes/(double)count;
+		}
+
+		public Stage copy() {
+			Stage c = new Stage(algorithm,stage);
+			c.count = count;
+			c.totalNano = totalNano;
+			c.maxNano = maxNano;
+			c.totalItems = totalItems;
+			c.countItems = countItems;
+			c.totalBytes = totalBytes;
+			return c;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.override;
+
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Entry point for implementations of inner loops which use the JDK Vector API. This is the Java 8 version, where
+ * every function returns false to indicate that the caller should use its regular scalar code. BoofCV's jar is
+ * a multi-release jar, and when running on Java 17 or newer a different version of this class is loaded
+ * from META-INF/versions/17 which processes the image using SIMD instructions and returns true.
+ * </p>
+ *
+ * <p>
+ * The Vector API is still an incubator module in Java 17 and is only used if the JVM is started with
+ * "--add-modules jdk.incubator.vector". Use {@link #isAvailable()} to see if it's being used.
+ * </p>
+ *
+ * <p>
+ * The functions here only process the same pixels as the scalar code they replace and produce identical results.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class VectorOps {
+	/**
+	 * Can be used to turn off the vectorized code even if it's available
+	 */
+	public static boolean USE_VECTOR = true;
+
+	/**
+	 * Returns true if vectorized code will be used
+	 */
+	public static boolean isAvailable() {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB#horizontal(Kernel1D_F32, GrayF32, GrayF32)
+	 */
+	public static boolean horizontal( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB#vertical(Kernel1D_F32, GrayF32, GrayF32)
+	 */
+	public static boolean vertical( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB#horizontal(Kernel1D_S32, GrayU8, GrayI16)
+	 */
+	public static boolean horizontal( Kernel1D_S32 kernel , GrayU8 input , GrayI16 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB#vertical(Kernel1D_S32, GrayU8, GrayI16)
+	 */
+	public static boolean vertical( Kernel1D_S32 kernel , GrayU8 input , GrayI16 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#multiply_A(float[], int, int, float, float[], int, int, int, int)
+	 */
+	public static boolean multiply_A( float[] input , int inputStart , int inputStride , float value ,
+									  float[] output , int outputStart , int outputStride ,
+									  int rows , int cols ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#divide_A(float[], int, int, float, float[], int, int, int, int)
+	 */
+	public static boolean divide_A( float[] input , int inputStart , int inputStride , float denominator ,
+									float[] output , int outputStart , int outputStride ,
+									int rows , int cols ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#plus_A(float[], int, int, float, float[], int, int, int, int)
+	 */
+	public static boolean plus_A( float[] input , int inputStart , int inputStride , float value ,
+								  float[] output , int outputStart , int outputStride ,
+								  int rows , int cols ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#minus_A(float[], int, int, float, float[], int, int, int, int)
+	 */
+	public static boolean minus_A( float[] input , int inputStart , int inputStride , float value ,
+								   float[] output , int outputStart , int outputStride ,
+								   int rows , int cols ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#minus_B(float[], int, int, float, float[], int, int, int, int)
+	 */
+	public static boolean minus_B( float[] input , int inputStart , int inputStride , float value ,
+								   float[] output , int outputStart , int outputStride ,
+								   int rows , int cols ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#add(GrayF32, GrayF32, GrayF32)
+	 */
+	public static boolean add( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#subtract(GrayF32, GrayF32, GrayF32)
+	 */
+	public static boolean subtract( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#multiply(GrayF32, GrayF32, GrayF32)
+	 */
+	public static boolean multiply( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.alg.misc.impl.ImplPixelMath#divide(GrayF32, GrayF32, GrayF32)
+	 */
+	public static boolean divide( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.core.image.impl.ImplConvertImage#convert(GrayU8, GrayF32)
+	 */
+	public static boolean convert( GrayU8 input , GrayF32 output ) {
+		return false;
+	}
+
+	/**
+	 * @see boofcv.core.image.impl.ImplConvertImage#convert(InterleavedU8, InterleavedF32)
+	 */
+	public static boolean convert( InterleavedU8 input , InterleavedF32 output ) {
+		return false;
+	}
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.override;
+
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.*;
+import jdk.incubator.vector.*;
+
+/**
+ * Implementations of inner loops using the Vector API. Each function processes a range of rows so that it
+ * can be called from concurrent code. The order of arithmetic operations is the same as in the scalar code
+ * so that the results are identical.
+ *
+ * @author Peter Abeles
+ */
+class ImplVectorOps {
+	static final VectorSpecies<Float> F32 = FloatVector.SPECIES_PREFERRED;
+	static final VectorSpecies<Integer> I32 = IntVector.SPECIES_PREFERRED;
+
+	// Species for the narrow types with the same number of lanes as I32. null if no such shape exists, e.g.
+	// a 128-bit CPU would need a 32-bit byte vector
+	static final VectorSpecies<Byte> U8;
+	static final VectorSpecies<Short> I16;
+
+	static {
+		int lanes = I32.length();
+		if( lanes >= 8 ) {
+			U8 = VectorSpecies.of(byte.class,VectorShape.forBitSize(lanes*8));
+			I16 = VectorSpecies.of(short.class,VectorShape.forBitSize(lanes*16));
+		} else {
+			U8 = null;
+			I16 = null;
+		}
+	}
+
+	/**
+	 * Returns true if operations which mix 8-bit and 32-bit types can be vectorized
+	 */
+	static boolean isMixedSupported() {
+		return U8 != null;
+	}
+
+	static void horizontal( Kernel1D_F32 kernel , GrayF32 image , GrayF32 dest , int y0 , int y1 ) {
+		final float[] dataSrc = image.data;
+		final float[] dataDst = dest.data;
+		final float[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = image.getWidth();
+		final int length = Math.max(0,width-(kernelWidth-1));
+		final int lanes = F32.length();
+
+		for( int i = y0; i < y1; i++ ) {
+			int indexDst = dest.startIndex + i*dest.stride+offset;
+			int j = image.startIndex + i*image.stride;
+			final int jEnd = j+length;
+			final int jEndVector = j+F32.loopBound(length);
+
+			for( ; j < jEndVector; j += lanes, indexDst += lanes ) {
+				FloatVector total = FloatVector.fromArray(F32,dataSrc,j).mul(dataKer[0]);
+				for( int k = 1; k < kernelWidth; k++ ) {
+					total = total.add(FloatVector.fromArray(F32,dataSrc,j+k).mul(dataKer[k]));
+				}
+				total.intoArray(dataDst,indexDst);
+			}
+
+			for( ; j < jEnd; j++ ) {
+				float total = 0;
+				int indexSrc = j;
+				for( int k = 0; k < kernelWidth; k++ ) {
+					total += dataSrc[indexSrc++]*dataKer[k];
+				}
+				dataDst[indexDst++] = total;
+			}
+		}
+	}
+
+	static void vertical( Kernel1D_F32 kernel , GrayF32 image , GrayF32 dest , int y0 , int y1 ) {
+		final float[] dataSrc = image.data;
+		final float[] dataDst = dest.data;
+		final float[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = dest.getWidth();
+		final int lanes = F32.length();
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = dest.startIndex+y*dest.stride;
+			int i = image.startIndex + (y-offset)*image.stride;
+			final int iEnd = i+width;
+			final int iEndVector = i+F32.loopBound(width);
+
+			for( ; i < iEndVector; i += lanes, indexDst += lanes ) {
+				FloatVector total = FloatVector.fromArray(F32,dataSrc,i).mul(dataKer[0]);
+				for( int k = 1; k < kernelWidth; k++ ) {
+					total = total.add(FloatVector.fromArray(F32,dataSrc,i+k*image.stride).mul(dataKer[k]));
+				}
+				total.intoArray(dataDst,indexDst);
+			}
+
+			for( ; i < iEnd; i++ ) {
+				float total = 0;
+				int indexSrc = i;
+				for( int k = 0; k < kernelWidth; k++ ) {
+					total += dataSrc[indexSrc]*dataKer[k];
+					indexSrc += image.stride;
+				}
+				dataDst[indexDst++] = total;
+			}
+		}
+	}
+
+	static void horizontal( Kernel1D_S32 kernel , GrayU8 image , GrayI16 dest , int y0 , int y1 ) {
+		final byte[] dataSrc = image.data;
+		final short[] dataDst = dest.data;
+		final int[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = image.getWidth();
+		final int length = Math.max(0,width-(kernelWidth-1));
+		final int lanes = I32.length();
+
+		for( int i = y0; i < y1; i++ ) {
+			int indexDst = dest.startIndex + i*dest.stride+offset;
+			int j = image.startIndex + i*image.stride;
+			final int jEnd = j+length;
+			final int jEndVector = j+I32.loopBound(length);
+
+			for( ; j < jEndVector; j += lanes, indexDst += lanes ) {
+				IntVector total = loadU8(dataSrc,j).mul(dataKer[0]);
+				for( int k = 1; k < kernelWidth; k++ ) {
+					total = total.add(loadU8(dataSrc,j+k).mul(dataKer[k]));
+				}
+				storeI16(total,dataDst,indexDst);
+			}
+
+			for( ; j < jEnd; j++ ) {
+				int total = 0;
+				int indexSrc = j;
+				for( int k = 0; k < kernelWidth; k++ ) {
+					total += (dataSrc[indexSrc++] & 0xFF)*dataKer[k];
+				}
+				dataDst[indexDst++] = (short)total;
+			}
+		}
+	}
+
+	static void vertical( Kernel1D_S32 kernel , GrayU8 image , GrayI16 dest , int y0 , int y1 ) {
+		final byte[] dataSrc = image.data;
+		final short[] dataDst = dest.data;
+		final int[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = dest.getWidth();
+		final int lanes = I32.length();
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = dest.startIndex+y*dest.stride;
+			int i = image.startIndex + (y-offset)*image.stride;
+			final int iEnd = i+width;
+			final int iEndVector = i+I32.loopBound(width);
+
+			for( ; i < iEndVector; i += lanes, indexDst += lanes ) {
+				IntVector total = loadU8(dataSrc,i).mul(dataKer[0]);
+				for( int k = 1; k < kernelWidth; k++ ) {
+					total = total.add(loadU8(dataSrc,i+k*image.stride).mul(dataKer[k]));
+				}
+				storeI16(total,dataDst,indexDst);
+			}
+
+			for( ; i < iEnd; i++ ) {
+				int total = 0;
+				int indexSrc = i;
+				for( int k = 0; k < kernelWidth; k++ ) {
+					total += (dataSrc[indexSrc] & 0xFF)*dataKer[k];
+					indexSrc += image.stride;
+				}
+				dataDst[indexDst++] = (short)total;
+			}
+		}
+	}
+
+	/**
+	 * Reads unsigned bytes and widens them to integers
+	 */
+	static IntVector loadU8( byte[] data , int index ) {
+		return ((IntVector)ByteVector.fromArray(U8,data,index).convertShape(VectorOperators.B2I,I32,0)).and(0xFF);
+	}
+
+	/**
+	 * Narrows the integers to shorts and writes them
+	 */
+	static void storeI16( IntVector v , short[] data , int index ) {
+		((ShortVector)v.convertShape(VectorOperators.I2S,I16,0)).intoArray(data,index);
+	}
+
+	static void multiply_A( float[] input , int inputStart , int inputStride , float value ,
+							float[] output , int outputStart , int outputStride , int y0 , int y1 , int cols ) {
+		final int lanes = F32.length();
+		final int colsVector = F32.loopBound(cols);
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int x = 0;
+			for( ; x < colsVector; x += lanes ) {
+				FloatVector.fromArray(F32,input,indexSrc+x).mul(value).intoArray(output,indexDst+x);
+			}
+			for( ; x < cols; x++ ) {
+				output[indexDst+x] = input[indexSrc+x]*value;
+			}
+		}
+	}
+
+	static void divide_A( float[] input , int inputStart , int inputStride , float denominator ,
+						  float[] output , int outputStart , int outputStride , int y0 , int y1 , int cols ) {
+		final int lanes = F32.length();
+		final int colsVector = F32.loopBound(cols);
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int x = 0;
+			for( ; x < colsVector; x += lanes ) {
+				FloatVector.fromArray(F32,input,indexSrc+x).div(denominator).intoArray(output,indexDst+x);
+			}
+			for( ; x < cols; x++ ) {
+				output[indexDst+x] = input[indexSrc+x]/denominator;
+			}
+		}
+	}
+
+	static void plus_A( float[] input , int inputStart , int inputStride , float value ,
+						float[] output , int outputStart , int outputStride , int y0 , int y1 , int cols ) {
+		final int lanes = F32.length();
+		final int colsVector = F32.loopBound(cols);
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int x = 0;
+			for( ; x < colsVector; x += lanes ) {
+				FloatVector.fromArray(F32,input,indexSrc+x).add(value).intoArray(output,indexDst+x);
+			}
+			for( ; x < cols; x++ ) {
+				output[indexDst+x] = input[indexSrc+x]+value;
+			}
+		}
+	}
+
+	static void minus_A( float[] input , int inputStart , int inputStride , float value ,
+						 float[] output , int outputStart , int outputStride , int y0 , int y1 , int cols ) {
+		final int lanes = F32.length();
+		final int colsVector = F32.loopBound(cols);
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int x = 0;
+			for( ; x < colsVector; x += lanes ) {
+				FloatVector.fromArray(F32,input,indexSrc+x).sub(value).intoArray(output,indexDst+x);
+			}
+			for( ; x < cols; x++ ) {
+				output[indexDst+x] = input[indexSrc+x]-value;
+			}
+		}
+	}
+
+	static void minus_B( float[] input , int inputStart , int inputStride , float value ,
+						 float[] output , int outputStart , int outputStride , int y0 , int y1 , int cols ) {
+		final int lanes = F32.length();
+		final int colsVector = F32.loopBound(cols);
+		final FloatVector vectorValue = FloatVector.broadcast(F32,value);
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int x = 0;
+			for( ; x < colsVector; x += lanes ) {
+				vectorValue.sub(FloatVector.fromArray(F32,input,indexSrc+x)).intoArray(output,indexDst+x);
+			}
+			for( ; x < cols; x++ ) {
+				output[indexDst+x] = value-input[indexSrc+x];
+			}
+		}
+	}
+
+	static void add( GrayF32 imgA , GrayF32 imgB , GrayF32 output , int y0 , int y1 ) {
+		binary(VectorOperators.ADD,imgA,imgB,output,y0,y1);
+	}
+
+	static void subtract( GrayF32 imgA , GrayF32 imgB , GrayF32 output , int y0 , int y1 ) {
+		binary(VectorOperators.SUB,imgA,imgB,output,y0,y1);
+	}
+
+	static void multiply( GrayF32 imgA , GrayF32 imgB , GrayF32 output , int y0 , int y1 ) {
+		binary(VectorOperators.MUL,imgA,imgB,output,y0,y1);
+	}
+
+	static void divide( GrayF32 imgA , GrayF32 imgB , GrayF32 output , int y0 , int y1 ) {
+		binary(VectorOperators.DIV,imgA,imgB,output,y0,y1);
+	}
+
+	/**
+	 * Applies a binary operator to each pixel in two images
+	 */
+	static void binary( VectorOperators.Binary op , GrayF32 imgA , GrayF32 imgB , GrayF32 output , int y0 , int y1 ) {
+		final int lanes = F32.length();
+		final int width = imgA.width;
+		final int widthVector = F32.loopBound(width);
+		for( int y = y0; y < y1; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int x = 0;
+			for( ; x < widthVector; x += lanes ) {
+				FloatVector a = FloatVector.fromArray(F32,imgA.data,indexA+x);
+				FloatVector b = FloatVector.fromArray(F32,imgB.data,indexB+x);
+				a.lanewise(op,b).intoArray(output.data,indexOut+x);
+			}
+			for( ; x < width; x++ ) {
+				output.data[indexOut+x] = scalar(op,imgA.data[indexA+x],imgB.data[indexB+x]);
+			}
+		}
+	}
+
+	private static float scalar( VectorOperators.Binary op , float a , float b ) {
+		if( op == VectorOperators.ADD )
+			return a+b;
+		else if( op == VectorOperators.SUB )
+			return a-b;
+		else if( op == VectorOperators.MUL )
+			return a*b;
+		else if( op == VectorOperators.DIV )
+			return a/b;
+		throw new IllegalArgumentException("Unsupported operator");
+	}
+
+	/**
+	 * Converts rows of U8 into F32
+	 */
+	static void convertU8_F32( byte[] input , int inputStart , int inputStride ,
+							   float[] output , int outputStart , int outputStride , int y0 , int y1 , int cols ) {
+		final int lanes = I32.length();
+		final int colsVector = I32.loopBound(cols);
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int x = 0;
+			for( ; x < colsVector; x += lanes ) {
+				((FloatVector)loadU8(input,indexSrc+x).convert(VectorOperators.I2F,0)).intoArray(output,indexDst+x);
+			}
+			for( ; x < cols; x++ ) {
+				output[indexDst+x] = input[indexSrc+x] & 0xFF;
+			}
+		}
+	}
+}
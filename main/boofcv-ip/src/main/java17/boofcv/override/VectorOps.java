@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.override;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Entry point for implementations of inner loops which use the JDK Vector API. This is the Java 17 version, which
+ * is loaded from META-INF/versions/17 in BoofCV's multi-release jar. Each function returns true if the image was
+ * processed and false if the caller should use its regular scalar code.
+ * </p>
+ *
+ * <p>
+ * The Vector API is still an incubator module in Java 17 and is only used if the JVM is started with
+ * "--add-modules jdk.incubator.vector". Use {@link #isAvailable()} to see if it's being used.
+ * </p>
+ *
+ * <p>
+ * The functions here only process the same pixels as the scalar code they replace and produce identical results.
+ * Concurrency is controlled by {@link BoofConcurrency} with thresholds in the profile looked up using this class.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class VectorOps {
+	/**
+	 * Can be used to turn off the vectorized code even if it's available
+	 */
+	public static boolean USE_VECTOR = true;
+
+	// Classes in the incubator module can only be loaded if it has been added to the boot layer. Only
+	// ImplVectorOps references them, so it's not loaded unless this is true
+	private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+	/**
+	 * Returns true if vectorized code will be used
+	 */
+	public static boolean isAvailable() {
+		return USE_VECTOR && AVAILABLE;
+	}
+
+	private static boolean isMixedAvailable() {
+		return isAvailable() && ImplVectorOps.isMixedSupported();
+	}
+
+	private static boolean isConcurrent( int pixels ) {
+		return BoofConcurrency.USE_CONCURRENT && BoofConcurrency.getProfile().isConcurrent(VectorOps.class,pixels);
+	}
+
+	/**
+	 * Splits the rows between threads if concurrency is being used
+	 */
+	private static void rows( int y0 , int y1 , int pixels , RowRange range ) {
+		if( isConcurrent(pixels) ) {
+			BoofConcurrency.loopBlocks(y0,y1,range::process);
+		} else {
+			range.process(y0,y1);
+		}
+	}
+
+	public static boolean horizontal( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,input.height,output.width*output.height,
+				(y0,y1)->ImplVectorOps.horizontal(kernel,input,output,y0,y1));
+		return true;
+	}
+
+	public static boolean vertical( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		if( !isAvailable() )
+			return false;
+		int yEnd = output.height-(kernel.getWidth()-kernel.getOffset()-1);
+		if( yEnd > kernel.getOffset() ) {
+			rows(kernel.getOffset(),yEnd,output.width*output.height,
+					(y0,y1)->ImplVectorOps.vertical(kernel,input,output,y0,y1));
+		}
+		return true;
+	}
+
+	public static boolean horizontal( Kernel1D_S32 kernel , GrayU8 input , GrayI16 output ) {
+		if( !isMixedAvailable() )
+			return false;
+		rows(0,input.height,output.width*output.height,
+				(y0,y1)->ImplVectorOps.horizontal(kernel,input,output,y0,y1));
+		return true;
+	}
+
+	public static boolean vertical( Kernel1D_S32 kernel , GrayU8 input , GrayI16 output ) {
+		if( !isMixedAvailable() )
+			return false;
+		int yEnd = output.height-(kernel.getWidth()-kernel.getOffset()-1);
+		if( yEnd > kernel.getOffset() ) {
+			rows(kernel.getOffset(),yEnd,output.width*output.height,
+					(y0,y1)->ImplVectorOps.vertical(kernel,input,output,y0,y1));
+		}
+		return true;
+	}
+
+	public static boolean multiply_A( float[] input , int inputStart , int inputStride , float value ,
+									  float[] output , int outputStart , int outputStride ,
+									  int rows , int cols ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,rows,rows*cols,(y0,y1)->ImplVectorOps.multiply_A(
+				input,inputStart,inputStride,value,output,outputStart,outputStride,y0,y1,cols));
+		return true;
+	}
+
+	public static boolean divide_A( float[] input , int inputStart , int inputStride , float denominator ,
+									float[] output , int outputStart , int outputStride ,
+									int rows , int cols ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,rows,rows*cols,(y0,y1)->ImplVectorOps.divide_A(
+				input,inputStart,inputStride,denominator,output,outputStart,outputStride,y0,y1,cols));
+		return true;
+	}
+
+	public static boolean plus_A( float[] input , int inputStart , int inputStride , float value ,
+								  float[] output , int outputStart , int outputStride ,
+								  int rows , int cols ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,rows,rows*cols,(y0,y1)->ImplVectorOps.plus_A(
+				input,inputStart,inputStride,value,output,outputStart,outputStride,y0,y1,cols));
+		return true;
+	}
+
+	public static boolean minus_A( float[] input , int inputStart , int inputStride , float value ,
+								   float[] output , int outputStart , int outputStride ,
+								   int rows , int cols ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,rows,rows*cols,(y0,y1)->ImplVectorOps.minus_A(
+				input,inputStart,inputStride,value,output,outputStart,outputStride,y0,y1,cols));
+		return true;
+	}
+
+	public static boolean minus_B( float[] input , int inputStart , int inputStride , float value ,
+								   float[] output , int outputStart , int outputStride ,
+								   int rows , int cols ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,rows,rows*cols,(y0,y1)->ImplVectorOps.minus_B(
+				input,inputStart,inputStride,value,output,outputStart,outputStride,y0,y1,cols));
+		return true;
+	}
+
+	public static boolean add( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,imgA.height,imgA.width*imgA.height,(y0,y1)->ImplVectorOps.add(imgA,imgB,output,y0,y1));
+		return true;
+	}
+
+	public static boolean subtract( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,imgA.height,imgA.width*imgA.height,(y0,y1)->ImplVectorOps.subtract(imgA,imgB,output,y0,y1));
+		return true;
+	}
+
+	public static boolean multiply( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,imgA.height,imgA.width*imgA.height,(y0,y1)->ImplVectorOps.multiply(imgA,imgB,output,y0,y1));
+		return true;
+	}
+
+	public static boolean divide( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+		if( !isAvailable() )
+			return false;
+		rows(0,imgA.height,imgA.width*imgA.height,(y0,y1)->ImplVectorOps.divide(imgA,imgB,output,y0,y1));
+		return true;
+	}
+
+	public static boolean convert( GrayU8 input , GrayF32 output ) {
+		if( !isMixedAvailable() )
+			return false;
+		rows(0,input.height,input.width*input.height,(y0,y1)->ImplVectorOps.convertU8_F32(
+				input.data,input.startIndex,input.stride,output.data,output.startIndex,output.stride,
+				y0,y1,input.width));
+		return true;
+	}
+
+	public static boolean convert( InterleavedU8 input , InterleavedF32 output ) {
+		if( !isMixedAvailable() )
+			return false;
+		rows(0,input.height,input.width*input.height,(y0,y1)->ImplVectorOps.convertU8_F32(
+				input.data,input.startIndex,input.stride,output.data,output.startIndex,output.stride,
+				y0,y1,input.width*input.numBands));
+		return true;
+	}
+
+	private interface RowRange {
+		void process( int y0 , int y1 );
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.MappedTiledImage;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestFilterTiledImage {
+	Random rand = new Random(234);
+
+	File fileA = createFile();
+	File fileB = createFile();
+
+	int width = 67, height = 53;
+
+	@AfterEach
+	void cleanUp() {
+		assertTrue(fileA.delete());
+		assertTrue(fileB.delete());
+	}
+
+	private static File createFile() {
+		try {
+			File f = File.createTempFile("boofcv_tiled",".bin");
+			f.deleteOnExit();
+			return f;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Results should be identical to processing the whole image at once
+	 */
+	@Test
+	void compareToEntireImage() throws IOException {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				compareToEntireImage(4);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	void compareToEntireImage( int radius ) throws IOException {
+		GrayU8 original = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(original,rand,0,200);
+
+		GrayF32 expected = new GrayF32(width,height);
+		ConvertImage.convert(BlurImageOps.gaussian(original,null,-1,radius,null),expected);
+
+		FilterTiledImage<GrayU8,GrayF32> alg = new FilterTiledImage<>(
+				ImageType.single(GrayU8.class),ImageType.single(GrayF32.class),radius,
+				(in,out)->ConvertImage.convert(BlurImageOps.gaussian(in,null,-1,radius,null),out));
+
+		try( MappedTiledImage<GrayU8> input = MappedTiledImage.create(fileA,ImageType.single(GrayU8.class),
+					width,height,16,12,3);
+			 MappedTiledImage<GrayF32> output = MappedTiledImage.create(fileB,ImageType.single(GrayF32.class),
+					 width,height,20,20,2) ) {
+			input.writeRegion(0,0,original);
+			alg.process(input,output);
+
+			GrayF32 found = new GrayF32(1,1);
+			output.readRegion(0,0,width,height,found);
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	@Test
+	void differentShape() throws IOException {
+		FilterTiledImage<GrayU8,GrayU8> alg = new FilterTiledImage<>(
+				ImageType.single(GrayU8.class),ImageType.single(GrayU8.class),0,(in,out)->out.setTo(in));
+
+		try( MappedTiledImage<GrayU8> input = MappedTiledImage.create(fileA,ImageType.single(GrayU8.class),
+				width,height,16,12,3);
+			 MappedTiledImage<GrayU8> output = MappedTiledImage.create(fileB,ImageType.single(GrayU8.class),
+					 width+1,height,20,20,2) ) {
+			assertThrows(IllegalArgumentException.class,()->alg.process(input,output));
+		}
+	}
+}
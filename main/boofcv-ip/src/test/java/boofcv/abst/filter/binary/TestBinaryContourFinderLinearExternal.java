@@ -18,6 +18,18 @@
 
 package boofcv.abst.filter.binary;
 
+import boofcv.alg.filter.binary.ContourPacked;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * @author Peter Abeles
  */
@@ -31,4 +43,45 @@ public class TestBinaryContourFinderLinearExternal extends GenericBinaryContourF
 	protected BinaryContourFinder create() {
 		return new BinaryContourFinderLinearExternal();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The concurrent algorithm is used when concurrency is turned on and should produce identical results
+	 */
+	@Test
+	public void compareConcurrent() {
+		Random rand = new Random(234);
+		GrayU8 binary = new GrayU8(120,100);
+		for (int i = 0; i < binary.data.length; i++) {
+			binary.data[i] = (byte)(rand.nextDouble() < 0.4 ? 1 : 0);
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		BinaryContourFinder single,concurrent;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			single = create();
+			BoofConcurrency.USE_CONCURRENT = true;
+			concurrent = create();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+
+		single.process(binary.clone());
+		concurrent.process(binary.clone());
+
+		List<ContourPacked> expected = single.getContours();
+		List<ContourPacked> found = concurrent.getContours();
+		assertEquals(expected.size(),found.size());
+
+		FastQueue<Point2D_I32> pointsE = new FastQueue<>(Point2D_I32.class,true);
+		FastQueue<Point2D_I32> pointsF = new FastQueue<>(Point2D_I32.class,true);
+		for (int i = 0; i < expected.size(); i++) {
+			single.loadContour(expected.get(i).externalIndex,pointsE);
+			concurrent.loadContour(found.get(i).externalIndex,pointsF);
+			assertEquals(pointsE.size,pointsF.size);
+			for (int j = 0; j < pointsE.size; j++) {
+				assertEquals(0,pointsE.get(j).distance2(pointsF.get(j)));
+			}
+		}
+	}
+}
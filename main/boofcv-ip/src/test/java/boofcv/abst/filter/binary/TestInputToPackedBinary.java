@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.binary;
+
+import boofcv.alg.filter.binary.PackedBinaryImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.ConfigLength;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestInputToPackedBinary {
+	Random rand = new Random(234);
+
+	/**
+	 * Global threshold is handled as a special case
+	 */
+	@Test
+	public void globalFixed() {
+		Class imageTypes[] = new Class[]{GrayU8.class,GrayF32.class,GrayU16.class};
+
+		for( Class type : imageTypes ) {
+			GlobalFixedBinaryFilter alg = new GlobalFixedBinaryFilter(120,true, ImageType.single(type));
+			compare(alg, type);
+		}
+	}
+
+	@Test
+	public void local() {
+		LocalMeanBinaryFilter<GrayU8> alg = new LocalMeanBinaryFilter<>(
+				ConfigLength.fixed(11),0.95,true, ImageType.single(GrayU8.class));
+		compare(alg, GrayU8.class);
+	}
+
+	private void compare( InputToBinary alg , Class type ) {
+		ImageGray input = GeneralizedImageOps.createSingleBand(type, 70, 40);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		GrayU8 expected = new GrayU8(70,40);
+		alg.process(input,expected);
+
+		PackedBinaryImage found = new PackedBinaryImage(1,1);
+		new InputToPackedBinary<>(alg).process(input,found);
+
+		BoofTesting.assertEquals(expected, PackedBinaryImageOps.convert(found,(GrayU8)null), 0);
+	}
+}
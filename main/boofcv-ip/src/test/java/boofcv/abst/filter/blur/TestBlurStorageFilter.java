@@ -60,6 +60,25 @@ public class TestBlurStorageFilter {
 		}
 	}
 
+	@Test
+	public void gaussianRecursive() {
+		for( ImageType c : imageTypes ) {
+			ImageBase input = c.createImage(width,height);
+			ImageBase found = c.createImage(width,height);
+			ImageBase expected = c.createImage(width,height);
+
+			GImageMiscOps.fillUniform(input,rand,0,100);
+
+			BlurStorageFilter alg = new BlurStorageFilter<>("gaussianRecursive",c,3,-1);
+
+			GBlurImageOps.gaussianRecursive(input,found,3,null);
+
+			alg.process(input,expected);
+
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
 	@Test
 	public void mean() {
 		for( ImageType c : imageTypes ) {
@@ -21,6 +21,7 @@ package boofcv.abst.filter.transform.fft;
 import boofcv.abst.transform.fft.DiscreteFourierTransform;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.GImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageInterleaved;
@@ -271,6 +272,48 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		BoofTesting.assertEquals(found,foundM,tolerance);
 	}
 
+	/**
+	 * The single thread and concurrent implementations should produce the same results
+	 */
+	@Test
+	public void compareToConcurrent() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			checkCompareToConcurrent(1,7);
+			checkCompareToConcurrent(9,4);
+			checkCompareToConcurrent(64,64);
+			checkCompareToConcurrent(71,97);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	protected void checkCompareToConcurrent( int width , int height ) {
+		T input = createImage(width,height);
+		GImageMiscOps.fillUniform(input,rand,-20,20);
+		I spectrum = createTransform(width,height);
+		GImageMiscOps.fillUniform(spectrum,rand,-20,20);
+
+		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+
+		I expectedT = createTransform(width,height);
+		T expectedI = createImage(width,height);
+		BoofConcurrency.USE_CONCURRENT = false;
+		alg.forward(input,expectedT);
+		alg.inverse(spectrum,expectedI);
+
+		I foundT = createTransform(width,height);
+		T foundI = createImage(width,height);
+		BoofConcurrency.USE_CONCURRENT = true;
+		alg.forward(input,foundT);
+		alg.inverse(spectrum,foundI);
+
+		// errors in the transform grow with its magnitude
+		double tolT = tolerance*Math.max(1,GImageStatistics.maxAbs(expectedT));
+		BoofTesting.assertEquals(expectedT,foundT,tolT);
+		BoofTesting.assertEquals(expectedI,foundI,tolerance);
+	}
+
 	/**
 	 * Makes sure it only accepts images which are the correct size
 	 */
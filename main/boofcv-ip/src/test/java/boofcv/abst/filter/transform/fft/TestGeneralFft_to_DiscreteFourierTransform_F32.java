@@ -20,8 +20,13 @@ package boofcv.abst.filter.transform.fft;
 
 import boofcv.abst.transform.fft.DiscreteFourierTransform;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F32;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.InterleavedF32;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * @author Peter Abeles
@@ -33,6 +38,27 @@ public class TestGeneralFft_to_DiscreteFourierTransform_F32
 		super(false,1e-3);
 	}
 
+	/**
+	 * The inverse of a transform which isn't the transform of a real image should be the real part of
+	 * the complex inverse
+	 */
+	@Test
+	public void inverse_notHermitian() {
+		for( int size : new int[]{1,4,7} ) {
+			InterleavedF32 transform = createTransform(size,size+1);
+			GImageMiscOps.fillUniform(transform,rand,-20,20);
+
+			GrayF32 found = createImage(size,size+1);
+			createAlgorithm().inverse(transform,found);
+
+			float expected[] = transform.data.clone();
+			new GeneralPurposeFFT_F32_2D(size+1,size).complexInverse(expected,true);
+			for( int i = 0; i < found.width*found.height; i++ ) {
+				assertEquals(expected[i*2],found.data[i],1e-3);
+			}
+		}
+	}
+
 	@Override
 	public DiscreteFourierTransform<GrayF32,InterleavedF32> createAlgorithm() {
 		return new GeneralFft_to_DiscreteFourierTransform_F32();
@@ -20,7 +20,9 @@ package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Test;
 
@@ -144,4 +146,125 @@ public class TestColorHsv {
 		assertEquals(b,found[1],tol);
 		assertEquals(c,found[2],tol);
 	}
+
+	@Test
+	public void rgbToHsv_U8() {
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,10,15,3);
+		Planar<GrayF32> hsv = new Planar<>(GrayF32.class,1,1,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+		// gray and black pixels have an undefined hue
+		for (int i = 0; i < 3; i++) {
+			rgb.getBand(i).set(0,0,151);
+			rgb.getBand(i).set(1,0,0);
+		}
+
+		ColorHsv.rgbToHsv_U8(rgb, hsv);
+		assertEquals(rgb.width, hsv.width);
+		assertEquals(rgb.height, hsv.height);
+
+		float tmp[] = new float[3];
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorHsv.rgbToHsv(rgb.getBand(0).get(x,y),rgb.getBand(1).get(x,y),rgb.getBand(2).get(x,y),tmp);
+				for (int i = 0; i < 3; i++) {
+					assertEquals(tmp[i], hsv.getBand(i).get(x, y), UtilEjml.TEST_F32);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converting to HSV and back should produce the original image
+	 */
+	@Test
+	public void hsvToRgb_U8() {
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,10,15,3);
+		Planar<GrayF32> hsv = new Planar<>(GrayF32.class,1,1,3);
+		Planar<GrayU8> found = new Planar<>(GrayU8.class,1,1,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+		// gray and black pixels have an undefined hue
+		for (int i = 0; i < 3; i++) {
+			rgb.getBand(i).set(0,0,151);
+			rgb.getBand(i).set(1,0,0);
+		}
+
+		ColorHsv.rgbToHsv_U8(rgb, hsv);
+		ColorHsv.hsvToRgb_U8(hsv, found);
+		BoofTesting.assertEquals(rgb, found, 0);
+
+		// values outside the range of U8 are clamped
+		hsv.getBand(1).set(2,0,0);
+		hsv.getBand(2).set(2,0,300);
+		hsv.getBand(1).set(3,0,0);
+		hsv.getBand(2).set(3,0,-10);
+		ColorHsv.hsvToRgb_U8(hsv, found);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(255, found.getBand(i).get(2,0));
+			assertEquals(0, found.getBand(i).get(3,0));
+		}
+	}
+
+	@Test
+	public void rgbToHsvDown2() {
+		// odd shape to test the image border
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,11,15,3);
+		Planar<GrayF32> hsv = new Planar<>(GrayF32.class,1,1,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		ColorHsv.rgbToHsvDown2(rgb, hsv);
+		assertEquals(6, hsv.width);
+		assertEquals(8, hsv.height);
+
+		float ave[] = new float[3];
+		float tmp[] = new float[3];
+		for( int y = 0; y < hsv.height; y++ ) {
+			for( int x = 0; x < hsv.width; x++ ) {
+				averageBlock(rgb, x, y, ave);
+				ColorHsv.rgbToHsv(ave[0],ave[1],ave[2],tmp);
+				for (int i = 0; i < 3; i++) {
+					assertEquals(tmp[i], hsv.getBand(i).get(x, y), UtilEjml.TEST_F32);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void rgbToHsvBand() {
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,10,15,3);
+		Planar<GrayF32> hsv = new Planar<>(GrayF32.class,10,15,3);
+		GrayF32 found = new GrayF32(1,1);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+		rgb.getBand(0).set(2,3,0);
+		rgb.getBand(1).set(2,3,0);
+		rgb.getBand(2).set(2,3,0);
+
+		ColorHsv.rgbToHsv_U8(rgb, hsv);
+
+		for (int band = 0; band < 3; band++) {
+			ColorHsv.rgbToHsvBand(rgb, band, found);
+			BoofTesting.assertEquals(hsv.getBand(band), found, 0.0);
+		}
+	}
+
+	/**
+	 * Computes the average RGB value inside a 2x2 block. Blocks on the image border can be smaller.
+	 */
+	static void averageBlock( Planar<GrayU8> rgb , int x , int y , float[] ave ) {
+		int x1 = Math.min(2*x+2,rgb.width);
+		int y1 = Math.min(2*y+2,rgb.height);
+		for (int i = 0; i < 3; i++) {
+			int total = 0, count = 0;
+			for (int yy = 2*y; yy < y1; yy++) {
+				for (int xx = 2*x; xx < x1; xx++) {
+					total += rgb.getBand(i).get(xx,yy);
+					count++;
+				}
+			}
+			ave[i] = total/(float)count;
+		}
+	}
 }
@@ -22,6 +22,7 @@ import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
 
 import java.util.Random;
@@ -98,4 +99,74 @@ public class TestColorLab {
 		}
 	}
 
+	@Test
+	public void rgbToLabDown2() {
+		// odd shape to test the image border
+		Planar<GrayU8> input = new Planar<>(GrayU8.class,21,25,3);
+		Planar<GrayF32> output = new Planar<>(GrayF32.class,1,1,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ColorLab.rgbToLabDown2(input, output);
+		assertEquals(11, output.width);
+		assertEquals(13, output.height);
+
+		float ave[] = new float[3];
+		float expected[] = new float[3];
+
+		for (int y = 0; y < output.height; y++) {
+			for (int x = 0; x < output.width; x++) {
+				TestColorHsv.averageBlock(input, x, y, ave);
+				ColorLab.srgbToLab(ave[0]/255f,ave[1]/255f,ave[2]/255f,expected);
+
+				for (int i = 0; i < 3; i++) {
+					assertEquals(expected[i],output.getBand(i).get(x,y),1e-4f);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void rgbToLabBand() {
+		Planar<GrayU8> input = new Planar<>(GrayU8.class,20,25,3);
+		Planar<GrayF32> lab = new Planar<>(GrayF32.class,20,25,3);
+		GrayF32 found = new GrayF32(1,1);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ColorLab.rgbToLab(input, lab);
+
+		for (int band = 0; band < 3; band++) {
+			ColorLab.rgbToLabBand(input, band, found);
+			BoofTesting.assertEquals(lab.getBand(band), found, 0.0);
+		}
+	}
+
+	/**
+	 * Go through every gray scale value and the primary colors to make sure the look up tables are accurate
+	 * across the whole range
+	 */
+	@Test
+	public void rgbToLab_U8_range() {
+		Planar<GrayU8> input = new Planar<>(GrayU8.class,256,4,3);
+		Planar<GrayF32> output = new Planar<>(GrayF32.class,256,4,3);
+
+		for (int x = 0; x < 256; x++) {
+			for (int band = 0; band < 3; band++) {
+				input.getBand(band).set(x, 0, x);
+				input.getBand(band).set(x, band+1, x);
+			}
+		}
+
+		ColorLab.rgbToLab(input, output);
+
+		float expected[] = new float[3];
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				ColorLab.srgbToLab(input.getBand(0).get(x,y)/255f,input.getBand(1).get(x,y)/255f,
+						input.getBand(2).get(x,y)/255f,expected);
+				for (int i = 0; i < 3; i++) {
+					assertEquals(expected[i],output.getBand(i).get(x,y),1e-4f);
+				}
+			}
+		}
+	}
 }
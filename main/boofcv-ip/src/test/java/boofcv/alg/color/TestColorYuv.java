@@ -175,4 +175,30 @@ public class TestColorYuv {
 		assertEquals(b,found[1],tol);
 		assertEquals(c, found[2], tol);
 	}
+
+	@Test
+	public void rgbToYCbCr_U8_Planar() {
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,10,15,3);
+		Planar<GrayU8> yuv = new Planar<>(GrayU8.class,10,15,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		ColorYuv.rgbToYuv(rgb, yuv);
+
+		byte []expected = new byte[3];
+
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				int r = rgb.getBand(0).get(x,y);
+				int g = rgb.getBand(1).get(x,y);
+				int b = rgb.getBand(2).get(x,y);
+
+				ColorYuv.rgbToYCbCr(r,g,b,expected);
+
+				assertEquals(expected[0]&0xFF,yuv.getBand(0).get(x,y));
+				assertEquals(expected[1]&0xFF,yuv.getBand(1).get(x,y));
+				assertEquals(expected[2]&0xFF,yuv.getBand(2).get(x,y));
+			}
+		}
+	}
 }
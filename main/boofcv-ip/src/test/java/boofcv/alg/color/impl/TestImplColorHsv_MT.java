@@ -19,7 +19,9 @@
 package boofcv.alg.color.impl;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.Planar;
 import boofcv.testing.CompareIdenticalFunctions;
@@ -38,7 +40,7 @@ class TestImplColorHsv_MT extends CompareIdenticalFunctions {
 
 	@Test
 	void performTests() {
-		performTests(2);
+		performTests(6);
 	}
 
 	@Override
@@ -52,9 +54,41 @@ class TestImplColorHsv_MT extends CompareIdenticalFunctions {
 				parameters[0] = new Planar<>(GrayF32.class,width,height,3);
 				parameters[1] = new Planar<>(GrayF32.class,width,height,3);
 				break;
+			case "rgbToHsv_U8":
+				parameters[0] = new Planar<>(GrayU8.class,width,height,3);
+				parameters[1] = new Planar<>(GrayF32.class,width,height,3);
+				break;
+			case "hsvToRgb_U8":
+				parameters[0] = new Planar<>(GrayF32.class,width,height,3);
+				parameters[1] = new Planar<>(GrayU8.class,width,height,3);
+				break;
+			case "rgbToHsvDown2_U8":
+				parameters[0] = new Planar<>(GrayU8.class,width+1,height+1,3);
+				parameters[1] = new Planar<>(GrayF32.class,width/2+1,height/2+1,3);
+				break;
+			case "rgbToHsvBand_U8":
+				parameters[0] = new Planar<>(GrayU8.class,width,height,3);
+				break;
+		}
+
+		if( candidate.getName().equals("hsvToRgb_U8") ) {
+			// valid HSV values, with V in the range of an 8-bit image
+			Planar<GrayF32> hsv = (Planar<GrayF32>)parameters[0];
+			ImageMiscOps.fillUniform(hsv.getBand(0),rand,0,(float)(2*Math.PI));
+			ImageMiscOps.fillUniform(hsv.getBand(1),rand,0,1);
+			ImageMiscOps.fillUniform(hsv.getBand(2),rand,0,255);
+		} else {
+			GImageMiscOps.fillUniform((ImageBase)parameters[0],rand,0,100);
 		}
 
-		GImageMiscOps.fillUniform((ImageBase)parameters[0],rand,0,100);
+		if( candidate.getName().endsWith("Band_U8") ) {
+			// test every band
+			Object[][] ret = new Object[3][];
+			for (int band = 0; band < 3; band++) {
+				ret[band] = new Object[]{parameters[0],band,new GrayF32(width,height)};
+			}
+			return ret;
+		}
 
 		return new Object[][]{parameters};
 	}
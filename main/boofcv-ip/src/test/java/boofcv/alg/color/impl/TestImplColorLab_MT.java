@@ -39,7 +39,7 @@ class TestImplColorLab_MT extends CompareIdenticalFunctions {
 
 	@Test
 	void performTests() {
-		performTests(2);
+		performTests(4);
 	}
 
 	@Override
@@ -52,6 +52,13 @@ class TestImplColorLab_MT extends CompareIdenticalFunctions {
 				parameters[0] = new Planar<>(GrayU8.class,width,height,3);
 				parameters[1] = new Planar<>(GrayF32.class,width,height,3);
 				break;
+			case "rgbToLabDown2_U8":
+				parameters[0] = new Planar<>(GrayU8.class,width+1,height+1,3);
+				parameters[1] = new Planar<>(GrayF32.class,width/2+1,height/2+1,3);
+				break;
+			case "rgbToLabBand_U8":
+				parameters[0] = new Planar<>(GrayU8.class,width,height,3);
+				break;
 			case "rgbToLab_F32":
 				parameters[0] = new Planar<>(GrayF32.class,width,height,3);
 				parameters[1] = new Planar<>(GrayF32.class,width,height,3);
@@ -60,6 +67,15 @@ class TestImplColorLab_MT extends CompareIdenticalFunctions {
 
 		GImageMiscOps.fillUniform((ImageBase)parameters[0],rand,0,100);
 
+		if( candidate.getName().endsWith("Band_U8") ) {
+			// test every band
+			Object[][] ret = new Object[3][];
+			for (int band = 0; band < 3; band++) {
+				ret[band] = new Object[]{parameters[0],band,new GrayF32(width,height)};
+			}
+			return ret;
+		}
+
 		return new Object[][]{parameters};
 	}
 }
@@ -39,7 +39,7 @@ class TestImplColorYuv_MT extends CompareIdenticalFunctions {
 
 	@Test
 	void performTests() {
-		performTests(3);
+		performTests(4);
 	}
 
 	@Override
@@ -54,6 +54,7 @@ class TestImplColorYuv_MT extends CompareIdenticalFunctions {
 				parameters[1] = new Planar<>(GrayF32.class,width,height,3);
 				break;
 			case "ycbcrToRgb_U8":
+			case "rgbToYCbCr_U8":
 				parameters[0] = new Planar<>(GrayU8.class ,width,height,3);
 				parameters[1] = new Planar<>(GrayU8.class,width,height,3);
 				break;
@@ -43,7 +43,11 @@ public class TestImageDistortBasic_SB extends CommonImageDistort_SB {
 
 		public Helper(InterpolatePixelS interp) {
 			super(null,interp);
-			this.assigner = new AssignPixelValue_SB.F32() {
+			this.assigner = new AssignPixelValue_SB<GrayF32>() {
+				// the destination image is read from the distort class
+				@Override
+				public void setImage(GrayF32 image) {}
+
 				public void assign(int indexDst, float value) {
 					total++;
 					int x = (indexDst - dstImg.startIndex)%dstImg.stride;
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.distort.PixelTransform;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_F32;
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Compares the cached implementation against {@link ImageDistortBasic_IL}
+ *
+ * @author Peter Abeles
+ */
+public class TestImageDistortCache_IL {
+	Random rand = new Random(234);
+	int width = 30,height=40;
+	private static final int NUM_BANDS = 2;
+
+	InterpolatePixelMB<InterleavedF32> interp = FactoryInterpolation.createPixelMB(
+			0, 255, InterpolationType.BILINEAR, BorderType.EXTENDED, ImageType.il(NUM_BANDS,InterleavedF32.class));
+
+	@Test
+	void applyRenderAll_true() {
+		compare(true,false);
+	}
+
+	@Test
+	void applyRenderAll_false() {
+		compare(false,false);
+	}
+
+	@Test
+	void renderAll_mask() {
+		compare(true,true);
+	}
+
+	@Test
+	void applyOnlyInside_mask() {
+		compare(false,true);
+	}
+
+	private void compare( boolean renderAll , boolean useMask ) {
+		InterleavedF32 input = new InterleavedF32(width,height,NUM_BANDS);
+		GImageMiscOps.fillUniform(input,rand,0,150);
+
+		InterleavedF32 expected = new InterleavedF32(width,height,NUM_BANDS);
+		InterleavedF32 found = new InterleavedF32(width,height,NUM_BANDS);
+		GrayU8 maskExpected = new GrayU8(width,height);
+		GrayU8 maskFound = new GrayU8(width,height);
+
+		ImageDistortBasic_IL<InterleavedF32,InterleavedF32> basic =
+				new ImageDistortBasic_IL<>(new AssignPixelValue_MB.F32(),interp.copy());
+		ImageDistortCache_IL<InterleavedF32,InterleavedF32> alg =
+				new ImageDistortCache_IL<>(new AssignPixelValue_MB.F32(),interp.copy());
+		basic.setRenderAll(renderAll);
+		alg.setRenderAll(renderAll);
+
+		// second iteration checks to see if a change in the model is handled
+		for (int trial = 0; trial < 2; trial++) {
+			PixelTransform<Point2D_F32> tran = new Offset(1.5f+trial,-2.2f);
+			basic.setModel(tran);
+			alg.setModel(tran);
+
+			if( useMask ) {
+				basic.apply(input,expected,maskExpected);
+				alg.apply(input,found,maskFound);
+				BoofTesting.assertEquals(maskExpected,maskFound,0);
+			} else {
+				basic.apply(input,expected);
+				alg.apply(input,found);
+			}
+			BoofTesting.assertEquals(expected,found, UtilEjml.TEST_F32);
+		}
+	}
+
+	/**
+	 * Output is a sub-image. Makes sure the cache is looked up by pixel coordinate and not by the output's
+	 * internal array index
+	 */
+	@Test
+	void subimage() {
+		InterleavedF32 input = new InterleavedF32(width,height,NUM_BANDS);
+		GImageMiscOps.fillUniform(input,rand,0,150);
+
+		InterleavedF32 expected = new InterleavedF32(width,height,NUM_BANDS);
+		InterleavedF32 found = BoofTesting.createSubImageOf(expected);
+
+		ImageDistortBasic_IL<InterleavedF32,InterleavedF32> basic =
+				new ImageDistortBasic_IL<>(new AssignPixelValue_MB.F32(),interp.copy());
+		ImageDistortCache_IL<InterleavedF32,InterleavedF32> alg =
+				new ImageDistortCache_IL<>(new AssignPixelValue_MB.F32(),interp.copy());
+
+		basic.setModel(new TestImageDistortBasic_IL_MT.Transform());
+		alg.setModel(new TestImageDistortBasic_IL_MT.Transform());
+
+		basic.apply(input,expected);
+		alg.apply(input,found);
+		BoofTesting.assertEquals(expected,found, UtilEjml.TEST_F32);
+
+		// only render a region inside the image
+		GImageMiscOps.fill(expected,0);
+		GImageMiscOps.fill(found,0);
+		basic.apply(input,expected,5,6,20,25);
+		alg.apply(input,found,5,6,20,25);
+		BoofTesting.assertEquals(expected,found, UtilEjml.TEST_F32);
+	}
+
+	private static class Offset implements PixelTransform<Point2D_F32> {
+		float offX,offY;
+
+		Offset(float offX, float offY) {
+			this.offX = offX;
+			this.offY = offY;
+		}
+
+		@Override
+		public void compute(int x, int y, Point2D_F32 output) {
+			output.x = x + offX;
+			output.y = y + offY;
+		}
+
+		@Override
+		public PixelTransform<Point2D_F32> copyConcurrent() {
+			return new Offset(offX,offY);
+		}
+	}
+}
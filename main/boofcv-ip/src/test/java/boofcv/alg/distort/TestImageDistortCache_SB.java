@@ -20,8 +20,15 @@ package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.BilinearPixelS;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.border.BorderType;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,13 +42,45 @@ public class TestImageDistortCache_SB extends CommonImageDistort_SB{
 		return new Helper(interp);
 	}
 
+	/**
+	 * Output is a sub-image. Makes sure the cache is looked up by pixel coordinate and not by the output's
+	 * internal array index
+	 */
+	@Test
+	void subimage() {
+		GrayF32 input = new GrayF32(30,40);
+		GImageMiscOps.fillUniform(input,rand,0,150);
+
+		GrayF32 expected = new GrayF32(30,40);
+		GrayF32 found = BoofTesting.createSubImageOf(expected);
+
+		InterpolatePixelS<GrayF32> interp = FactoryInterpolation.createPixelS(
+				0, 255, InterpolationType.BILINEAR, BorderType.EXTENDED, GrayF32.class);
+
+		ImageDistortBasic_SB<GrayF32,GrayF32> basic =
+				new ImageDistortBasic_SB<>(new AssignPixelValue_SB.F32(),interp.copy());
+		ImageDistortCache_SB<GrayF32,GrayF32> alg =
+				new ImageDistortCache_SB<>(new AssignPixelValue_SB.F32(),interp.copy());
+
+		basic.setModel(new TestImageDistortBasic_IL_MT.Transform());
+		alg.setModel(new TestImageDistortBasic_IL_MT.Transform());
+
+		basic.apply(input,expected);
+		alg.apply(input,found);
+		BoofTesting.assertEquals(expected,found, UtilEjml.TEST_F32);
+	}
+
 	protected static class Helper extends ImageDistortCache_SB implements ImageDistortHelper {
 
 		int total = 0;
 
 		public Helper(InterpolatePixelS interp) {
 			super(null,interp);
-			assigner = new AssignPixelValue_SB.F32() {
+			assigner = new AssignPixelValue_SB<GrayF32>() {
+				// the destination image is read from the distort class
+				@Override
+				public void setImage(GrayF32 image) {}
+
 				@Override
 				public void assign(int indexDst, float value) {
 					total++;
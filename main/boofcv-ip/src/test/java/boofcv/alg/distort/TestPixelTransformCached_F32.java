@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.struct.distort.PixelTransform;
 import georegression.struct.affine.Affine2D_F32;
 import georegression.struct.point.Point2D_F32;
 import org.junit.jupiter.api.Test;
@@ -52,4 +53,46 @@ public class TestPixelTransformCached_F32 {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void setPixel() {
+		PixelTransformAffine_F32 orig = new PixelTransformAffine_F32();
+		orig.set(new Affine2D_F32(1f,0.1f,0.05f,2f,5f,6f));
+
+		PixelTransformCached_F32 alg = new PixelTransformCached_F32(width,height,orig);
+		alg.setPixel(3,4,-1,-2);
+
+		Point2D_F32 found = new Point2D_F32();
+		alg.compute(3,4,found);
+		assertEquals(-1,found.x,1e-8);
+		assertEquals(-2,found.y,1e-8);
+		assertEquals(-1,alg.getPixel(3,4).x,1e-8);
+
+		// neighbors should not be modified
+		Point2D_F32 expected = new Point2D_F32();
+		alg.compute(4,4,found);
+		orig.compute(4,4,expected);
+		assertEquals(expected.x,found.x,1e-8);
+		assertEquals(expected.y,found.y,1e-8);
+	}
+
+	@Test
+	public void copyConcurrent() {
+		PixelTransformAffine_F32 orig = new PixelTransformAffine_F32();
+		orig.set(new Affine2D_F32(1f,0.1f,0.05f,2f,5f,6f));
+
+		PixelTransformCached_F32 alg = new PixelTransformCached_F32(width,height,orig);
+		PixelTransform<Point2D_F32> copy = alg.copyConcurrent();
+
+		Point2D_F32 expected = new Point2D_F32();
+		Point2D_F32 found = new Point2D_F32();
+		for (int y = 0; y < height + 1; y++) {
+			for (int x = 0; x < width + 1; x++) {
+				copy.compute(x,y,found);
+				alg.compute(x,y,expected);
+				assertEquals(expected.x,found.x,1e-8);
+				assertEquals(expected.y,found.y,1e-8);
+			}
+		}
+	}
+}
@@ -18,6 +18,8 @@
 
 package boofcv.alg.distort.mls;
 
+import boofcv.alg.distort.PixelTransformCached_F32;
+import boofcv.concurrency.BoofConcurrency;
 import georegression.misc.GrlConstants;
 import georegression.struct.point.Point2D_F32;
 import org.junit.jupiter.api.Test;
@@ -352,6 +354,129 @@ class TestImageDeformPointMLS_F32 {
 		}
 	}
 
+	/**
+	 * Moves a few control points and sees if the incremental update produces the same result as computing
+	 * everything from scratch
+	 */
+	@Test
+	void updateDistorted() {
+		for( TypeDeformMLS type : TypeDeformMLS.values() ) {
+			ImageDeformPointMLS_F32 alg = createDeformed(type);
+			ImageDeformPointMLS_F32 expected = createDeformed(type);
+
+			for (int trial = 0; trial < 3; trial++) {
+				alg.setDistorted(1, 14+trial, 32-2*trial);
+				alg.setDistorted(3, 22-trial*3, 9);
+				alg.updateDistorted();
+				assertEquals(trial+1, alg.totalIncremental);
+
+				expected.setDistorted(1, 14+trial, 32-2*trial);
+				expected.setDistorted(3, 22-trial*3, 9);
+				expected.fixateDistorted();
+
+				for (int y = 0; y < 100; y += 7) {
+					for (int x = 0; x < 100; x += 7) {
+						checkCompute(x, y, expected, alg, 1e-3f);
+					}
+				}
+			}
+
+			// nothing has moved so nothing should change
+			alg.updateDistorted();
+			assertEquals(3, alg.totalIncremental);
+
+			// too many points moved and it should compute it from scratch
+			for (int i = 0; i < 4; i++) {
+				alg.setDistorted(i, 50, 50+i);
+			}
+			alg.updateDistorted();
+			assertEquals(0, alg.totalIncremental);
+		}
+	}
+
+	/**
+	 * Incremental update when the undistorted side has changed should recompute everything
+	 */
+	@Test
+	void updateDistorted_notFixated() {
+		ImageDeformPointMLS_F32 alg = createDeformed(TypeDeformMLS.RIGID);
+		alg.updateDistorted();
+		assertEquals(0, alg.totalIncremental);
+		alg.setUndistorted(0, 12, 2);
+		alg.fixateUndistorted();
+		alg.setDistorted(0, 11, 4);
+		alg.updateDistorted();
+		assertEquals(0, alg.totalIncremental);
+	}
+
+	/**
+	 * The exported remap should be identical to computing each pixel individually
+	 */
+	@Test
+	void exportRemap() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( TypeDeformMLS type : TypeDeformMLS.values() ) {
+				ImageDeformPointMLS_F32 alg = new ImageDeformPointMLS_F32(type);
+				alg.configure(100, 80, 11, 11);
+				alg.addControl(10, 0);
+				alg.addControl(10, 20);
+				alg.addControl(30, 40);
+				alg.addControl(80, 30);
+				alg.setDistorted(0, 10, 5);
+				alg.setDistorted(1, 14, 30);
+				alg.fixateUndistorted();
+				alg.fixateDistorted();
+
+				for( boolean concurrent : new boolean[]{true,false}) {
+					BoofConcurrency.USE_CONCURRENT = concurrent;
+					PixelTransformCached_F32 remap = new PixelTransformCached_F32(100, 80);
+					alg.exportRemap(remap);
+
+					Point2D_F32 expected = new Point2D_F32();
+					Point2D_F32 found = new Point2D_F32();
+					for (int y = 0; y <= 80; y++) {
+						for (int x = 0; x <= 100; x++) {
+							alg.compute(x, y, expected);
+							remap.compute(x, y, found);
+							assertEquals(expected.x, found.x);
+							assertEquals(expected.y, found.y);
+						}
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	private ImageDeformPointMLS_F32 createDeformed( TypeDeformMLS type ) {
+		ImageDeformPointMLS_F32 alg = new ImageDeformPointMLS_F32(type);
+		alg.configure(100, 100, 11, 11);
+		alg.addControl(10, 0);
+		alg.addControl(10, 20);
+		alg.addControl(30, 40);
+		alg.addControl(80, 30);
+		alg.setDistorted(0, 10, 5);
+		alg.setDistorted(1, 14, 30);
+		alg.setDistorted(2, 25, 45);
+		alg.setDistorted(3, 20, 8);
+		alg.fixateUndistorted();
+		alg.fixateDistorted();
+		return alg;
+	}
+
+	private void checkCompute( float x , float y ,
+							   ImageDeformPointMLS_F32 expected, ImageDeformPointMLS_F32 found, float tol ) {
+		Point2D_F32 a = new Point2D_F32();
+		Point2D_F32 b = new Point2D_F32();
+		expected.compute(x,y, a);
+		found.compute(x,y, b);
+
+		assertEquals(a.x, b.x, tol);
+		assertEquals(a.y, b.y, tol);
+	}
+
 	private void checkCompute( float x , float y ,
 							   ImageDeformPointMLS_F32 orig, ImageDeformPointMLS_F32 copy) {
 		Point2D_F32 expected = new Point2D_F32();
@@ -20,6 +20,7 @@ package boofcv.alg.enhance;
 
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.GImageStatistics;
 import boofcv.concurrency.IWorkArrays;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayI;
@@ -30,6 +31,7 @@ import java.lang.reflect.Method;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -92,4 +94,61 @@ public class TestEnhanceImageOps {
 			BoofTesting.assertEquals(expected, found, 1e-10);
 		}
 	}
+
+	@Test
+	public void equalizeLocalClahe() {
+		int numFound = 0;
+
+		Method methods[] = EnhanceImageOps.class.getMethods();
+		for( int i = 0; i < methods.length; i++ ) {
+			if( methods[i].getName().compareTo("equalizeLocalClahe") != 0 )
+				continue;
+
+			numFound++;
+
+			Class imageType = methods[i].getParameterTypes()[0];
+			GrayI input = (GrayI)GeneralizedImageOps.createSingleBand(imageType, width, height);
+			GrayI output = (GrayI)GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+			equalizeLocalClahe(input, output);
+
+			BoofTesting.checkSubImage(this,"equalizeLocalClahe",true,input,output);
+		}
+
+		assertEquals(2, numFound);
+	}
+
+	public void equalizeLocalClahe(GrayI input , GrayI found ) {
+		GrayI expected = (GrayI) GeneralizedImageOps.createSingleBand(input.getClass(),input.width, input.height);
+		GImageMiscOps.fillUniform(input, rand, 0, 9);
+
+		IWorkArrays workArrays = new IWorkArrays(10);
+
+		// When the region is larger than the image and there's no clipping it's the same as global equalization
+		int histogram[] = new int[10];
+		int transform[] = new int[10];
+		GImageStatistics.histogram(input,0,histogram);
+		EnhanceImageOps.equalize(histogram,transform);
+		BoofTesting.callStaticMethod(EnhanceImageOps.class, "applyTransform", input, transform, expected);
+		BoofTesting.callStaticMethod(EnhanceImageOps.class, "equalizeLocalClahe", input, 30, 0.0, found, 10, workArrays);
+		BoofTesting.assertEquals(expected, found, 1e-10);
+
+		// Clipping should reduce the contrast of the output. Make most of the image a single value
+		IWorkArrays workArrays256 = new IWorkArrays(256);
+		GImageMiscOps.fill(input,100);
+		GImageMiscOps.fillRectangle(input,101,0,0,4,4);
+		BoofTesting.callStaticMethod(EnhanceImageOps.class, "equalizeLocalClahe", input, 30, 0.0, expected, 256, workArrays256);
+		BoofTesting.callStaticMethod(EnhanceImageOps.class, "equalizeLocalClahe", input, 30, 2.0, found, 256, workArrays256);
+		double contrastExpected = GImageStatistics.max(expected)-GImageStatistics.min(expected);
+		double contrastFound = GImageStatistics.max(found)-GImageStatistics.min(found);
+		assertTrue(contrastFound < contrastExpected);
+
+		// Multiple tiles should be handled and the output should be within the allowed range
+		GImageMiscOps.fillUniform(input, rand, 0, 9);
+		for( int radius = 1; radius < 5; radius++ ) {
+			BoofTesting.callStaticMethod(EnhanceImageOps.class, "equalizeLocalClahe", input, radius, 2.0, found, 10, workArrays);
+			assertTrue(GImageStatistics.max(found) <= 9);
+			assertTrue(GImageStatistics.min(found) >= 0);
+		}
+	}
 }
@@ -33,6 +33,7 @@ import java.lang.reflect.Method;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -368,4 +369,138 @@ public class TestImplEnhanceHistogram {
 			}
 		}
 	}
+
+	@Test
+	public void clipHistogram() {
+		int histogram[] = new int[]{20,1,0,3,9,0,0,2,0,5};
+		int sum = 40;
+
+		ImplEnhanceHistogram.clipHistogram(histogram,4);
+
+		// total shouldn't change and the excess should be spread out evenly
+		int found = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			found += histogram[i];
+			assertTrue(histogram[i] >= 2 && histogram[i] <= 7);
+		}
+		assertEquals(sum,found);
+		assertEquals(2,histogram[2]);
+		assertEquals(7,histogram[0]);
+	}
+
+	/**
+	 * Compare each tile's transform against equalizing the tile as an image
+	 */
+	@Test
+	public void equalizeLocalClaheTiles() {
+		int numFound = 0;
+
+		Method methods[] = ImplEnhanceHistogram.class.getMethods();
+		for (Method method : methods) {
+			if (method.getName().compareTo("equalizeLocalClaheTiles") != 0)
+				continue;
+
+			numFound++;
+
+			Class imageType = method.getParameterTypes()[0];
+			GrayI input = (GrayI) GeneralizedImageOps.createSingleBand(imageType, width, height);
+
+			equalizeLocalClaheTiles(input);
+
+			BoofTesting.checkSubImage(this, "equalizeLocalClaheTiles", true, input);
+		}
+
+		assertEquals(2,numFound);
+	}
+
+	public void equalizeLocalClaheTiles(GrayI input ) {
+		GImageMiscOps.fillUniform(input, rand, 0, 9);
+		IWorkArrays workArrays = new IWorkArrays(10);
+
+		int tilesX = 2, tilesY = 3;
+		int transforms[][] = new int[tilesX*tilesY][10];
+		int histogram[] = new int[10];
+		int expected[] = new int[10];
+
+		BoofTesting.callStaticMethod(ImplEnhanceHistogram.class, "equalizeLocalClaheTiles",
+				input, tilesX, tilesY, 0, transforms, workArrays);
+
+		for (int tileY = 0; tileY < tilesY; tileY++) {
+			for (int tileX = 0; tileX < tilesX; tileX++) {
+				int x0 = tileX*width/tilesX, x1 = (tileX+1)*width/tilesX;
+				int y0 = tileY*height/tilesY, y1 = (tileY+1)*height/tilesY;
+
+				GImageStatistics.histogram(input.subimage(x0,y0,x1,y1,null),0,histogram);
+				EnhanceImageOps.equalize(histogram,expected);
+
+				int found[] = transforms[tileY*tilesX+tileX];
+				for (int i = 0; i < 10; i++) {
+					assertEquals(expected[i],found[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * At the center of a tile the output should be the same as the tile's transform. Elsewhere it should be
+	 * in between the transforms of the neighboring tiles
+	 */
+	@Test
+	public void equalizeLocalClaheApply() {
+		int numFound = 0;
+
+		Method methods[] = ImplEnhanceHistogram.class.getMethods();
+		for (Method method : methods) {
+			if (method.getName().compareTo("equalizeLocalClaheApply") != 0)
+				continue;
+
+			numFound++;
+
+			Class imageType = method.getParameterTypes()[0];
+			GrayI input = (GrayI) GeneralizedImageOps.createSingleBand(imageType, 33, 25);
+			GrayI output = (GrayI) GeneralizedImageOps.createSingleBand(imageType, 33, 25);
+
+			equalizeLocalClaheApply(input, output);
+
+			BoofTesting.checkSubImage(this, "equalizeLocalClaheApply", true, input, output);
+		}
+
+		assertEquals(2,numFound);
+	}
+
+	public void equalizeLocalClaheApply(GrayI input , GrayI output ) {
+		GImageMiscOps.fillUniform(input, rand, 0, 9);
+
+		// tiles are 11x5 so that the center of each tile is at a pixel
+		int tilesX = 3, tilesY = 5;
+		int transforms[][] = new int[tilesX*tilesY][10];
+		for (int i = 0; i < transforms.length; i++) {
+			for (int j = 0; j < 10; j++) {
+				transforms[i][j] = i*10+j;
+			}
+		}
+
+		BoofTesting.callStaticMethod(ImplEnhanceHistogram.class, "equalizeLocalClaheApply",
+				input, tilesX, tilesY, transforms, output);
+
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				int value = input.get(x,y);
+				int found = output.get(x,y);
+				int tileX = x/11, tileY = y/5;
+
+				if( x%11 == 5 && y%5 == 2 ) {
+					assertEquals(transforms[tileY*tilesX+tileX][value],found);
+				} else {
+					// the value of the tiles increases along the x-axis then y-axis
+					int lowerX = Math.max(0,x%11 < 5 ? tileX-1 : tileX);
+					int lowerY = Math.max(0,y%5 < 2 ? tileY-1 : tileY);
+					int upperX = Math.min(tilesX-1,x%11 > 5 ? tileX+1 : tileX);
+					int upperY = Math.min(tilesY-1,y%5 > 2 ? tileY+1 : tileY);
+					assertTrue(found >= transforms[lowerY*tilesX+lowerX][value]);
+					assertTrue(found <= transforms[upperY*tilesX+upperX][value]);
+				}
+			}
+		}
+	}
 }
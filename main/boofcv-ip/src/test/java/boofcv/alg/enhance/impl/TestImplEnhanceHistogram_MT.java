@@ -19,7 +19,9 @@
 package boofcv.alg.enhance.impl;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.IWorkArrays;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.testing.BoofTesting;
 import boofcv.testing.CompareIdenticalFunctions;
@@ -38,7 +40,25 @@ class TestImplEnhanceHistogram_MT extends CompareIdenticalFunctions {
 
 	@Test
 	void performTests() {
-		performTests(13);
+		performTests(17);
+	}
+
+	/**
+	 * The tile transforms aren't an image so they are compared here
+	 */
+	@Test
+	void equalizeLocalClaheTiles() {
+		GrayU8 input = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+
+		int[][] expected = new int[12][256];
+		int[][] found = new int[12][256];
+		ImplEnhanceHistogram.equalizeLocalClaheTiles(input,3,4,10,expected,new IWorkArrays(256));
+		ImplEnhanceHistogram_MT.equalizeLocalClaheTiles(input,3,4,10,found,new IWorkArrays(256));
+
+		for (int i = 0; i < expected.length; i++) {
+			BoofTesting.assertEquals(expected[i],found[i]);
+		}
 	}
 
 	@Override
@@ -84,6 +104,22 @@ class TestImplEnhanceHistogram_MT extends CompareIdenticalFunctions {
 				parameters[3] = GeneralizedImageOps.createSingleBand(types[3],width,height);
 				parameters[4] = BoofTesting.createWorkArray(types[4],256);
 				break;
+			case "equalizeLocalClaheTiles":
+				parameters[1] = 3;
+				parameters[2] = 4;
+				parameters[3] = 10;
+				parameters[4] = new int[12][256];
+				parameters[5] = BoofTesting.createWorkArray(types[5],256);
+				break;
+			case "equalizeLocalClaheApply":
+				parameters[1] = 3;
+				parameters[2] = 4;
+				parameters[3] = new int[12][];
+				for (int i = 0; i < 12; i++) {
+					((int[][])parameters[3])[i] = rarray(256);
+				}
+				parameters[4] = GeneralizedImageOps.createSingleBand(types[4],width,height);
+				break;
 		}
 
 		return new Object[][]{parameters};
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestLinearContourLabelChang2004_MT {
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against the single threaded version using random images with different densities
+	 */
+	@Test
+	void compare_random() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			for( double density : new double[]{0.1,0.5,0.8} ) {
+				GrayU8 binary = randomBinary(105,96,density);
+
+				LinearContourLabelChang2004 reference = new LinearContourLabelChang2004(rule);
+				LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(rule);
+
+				compare(reference,alg,binary);
+			}
+		}
+	}
+
+	/**
+	 * Strips that are only a few pixels tall will result in blobs which cross many seams
+	 */
+	@Test
+	void compare_thinStrips() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			GrayU8 binary = randomBinary(60,70,0.5);
+
+			LinearContourLabelChang2004 reference = new LinearContourLabelChang2004(rule);
+			LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(rule);
+			alg.minimumStripHeight = 1;
+
+			compare(reference,alg,binary);
+		}
+	}
+
+	/**
+	 * Large blobs with holes inside of them
+	 */
+	@Test
+	void compare_holes() {
+		GrayU8 binary = new GrayU8(80,90);
+		ImageMiscOps.fillRectangle(binary,1,5,5,60,70);
+		for (int i = 0; i < 80; i++) {
+			binary.set(rand.nextInt(binary.width),rand.nextInt(binary.height),0);
+		}
+		ImageMiscOps.fillRectangle(binary,0,20,20,10,50);
+		ImageMiscOps.fillRectangle(binary,1,22,30,4,5);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			LinearContourLabelChang2004 reference = new LinearContourLabelChang2004(rule);
+			LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(rule);
+			alg.minimumStripHeight = 3;
+
+			compare(reference,alg,binary);
+		}
+	}
+
+	/**
+	 * Contours are filtered by their size and internal contours are not saved
+	 */
+	@Test
+	void compare_settings() {
+		GrayU8 binary = randomBinary(100,90,0.6);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			LinearContourLabelChang2004 reference = new LinearContourLabelChang2004(rule);
+			LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(rule);
+
+			for( LinearContourLabelChang2004 a : new LinearContourLabelChang2004[]{reference,alg}) {
+				a.setMinContourSize(5);
+				a.setMaxContourSize(40);
+				a.setSaveInternalContours(false);
+			}
+
+			compare(reference,alg,binary);
+		}
+	}
+
+	/**
+	 * The input image is a sub-image and the same instance is called multiple times
+	 */
+	@Test
+	void compare_subimage_multipleCalls() {
+		LinearContourLabelChang2004 reference = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+		LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(ConnectRule.EIGHT);
+
+		for (int trial = 0; trial < 3; trial++) {
+			GrayU8 binary = BoofTesting.createSubImageOf(randomBinary(70,80,0.4));
+			compare(reference,alg,binary);
+		}
+	}
+
+	/**
+	 * Changing the connect rule should be handled
+	 */
+	@Test
+	void setConnectRule() {
+		GrayU8 binary = randomBinary(70,80,0.5);
+
+		LinearContourLabelChang2004 reference = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+		LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(ConnectRule.FOUR);
+		alg.process(binary,new GrayS32(1,1));
+		alg.setConnectRule(ConnectRule.EIGHT);
+
+		compare(reference,alg,binary);
+	}
+
+	private GrayU8 randomBinary( int width , int height , double density ) {
+		GrayU8 binary = new GrayU8(width,height);
+		for (int i = 0; i < binary.data.length; i++) {
+			binary.data[i] = (byte)(rand.nextDouble() < density ? 1 : 0);
+		}
+		return binary;
+	}
+
+	private void compare( LinearContourLabelChang2004 reference , LinearContourLabelChang2004_MT alg , GrayU8 binary ) {
+		GrayU8 original = binary.clone();
+		GrayS32 expected = new GrayS32(1,1);
+		GrayS32 found = BoofTesting.createSubImageOf(new GrayS32(binary.width,binary.height));
+
+		reference.process(binary,expected);
+		alg.process(binary,found);
+
+		// input should not be modified
+		BoofTesting.assertEquals(original,binary,0);
+		BoofTesting.assertEquals(expected,found,0);
+
+		FastQueue<ContourPacked> contoursE = reference.getContours();
+		FastQueue<ContourPacked> contoursF = alg.getContours();
+		assertEquals(contoursE.size,contoursF.size);
+		for (int i = 0; i < contoursE.size; i++) {
+			ContourPacked e = contoursE.get(i);
+			ContourPacked f = contoursF.get(i);
+			assertEquals(e.id,f.id);
+			assertEquals(e.externalIndex,f.externalIndex);
+			assertEquals(e.internalIndexes.size,f.internalIndexes.size);
+			for (int j = 0; j < e.internalIndexes.size; j++) {
+				assertEquals(e.internalIndexes.get(j),f.internalIndexes.get(j));
+			}
+		}
+
+		PackedSetsPoint2D_I32 pointsE = reference.getPackedPoints();
+		PackedSetsPoint2D_I32 pointsF = alg.getPackedPoints();
+		assertEquals(pointsE.size(),pointsF.size());
+		for (int i = 0; i < pointsE.size(); i++) {
+			assertEquals(pointsE.getSet(i),pointsF.getSet(i));
+		}
+	}
+}
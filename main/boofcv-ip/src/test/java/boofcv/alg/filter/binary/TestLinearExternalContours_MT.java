@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestLinearExternalContours_MT {
+	Random rand = new Random(234);
+
+	ConnectRule[] rules = new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT};
+
+	/**
+	 * Hand crafted images used to test the single threaded version
+	 */
+	@Test
+	void compare_standard() {
+		GrayU8[] images = new GrayU8[]{
+				TestLinearExternalContours.TEST1, TestLinearExternalContours.TEST2,
+				TestLinearExternalContours.TEST3, TestLinearExternalContours.TEST4,
+				TestLinearExternalContours.TEST5, TestLinearExternalContours.TEST6,
+				TestLinearExternalContours.TEST7};
+
+		for( ConnectRule rule : rules ) {
+			for( GrayU8 binary : images ) {
+				LinearExternalContours_MT alg = new LinearExternalContours_MT(rule);
+				alg.minimumStripHeight = 1;
+				compare(new LinearExternalContours(rule),alg,binary,1,1);
+			}
+		}
+	}
+
+	/**
+	 * Compare against the single threaded version using random images with different densities
+	 */
+	@Test
+	void compare_random() {
+		for( ConnectRule rule : rules ) {
+			for( double density : new double[]{0.1,0.5,0.8} ) {
+				GrayU8 binary = randomBinary(105,96,density);
+				compare(new LinearExternalContours(rule),new LinearExternalContours_MT(rule),binary,0,0);
+			}
+		}
+	}
+
+	/**
+	 * Strips that are only a few pixels tall will result in blobs which cross many seams
+	 */
+	@Test
+	void compare_thinStrips() {
+		for( ConnectRule rule : rules ) {
+			GrayU8 binary = randomBinary(60,70,0.5);
+
+			LinearExternalContours_MT alg = new LinearExternalContours_MT(rule);
+			alg.minimumStripHeight = 1;
+
+			compare(new LinearExternalContours(rule),alg,binary,1,1);
+		}
+	}
+
+	/**
+	 * Blobs inside the holes of other blobs
+	 */
+	@Test
+	void compare_nested() {
+		GrayU8 binary = new GrayU8(80,90);
+		ImageMiscOps.fillRectangle(binary,1,5,5,60,70);
+		ImageMiscOps.fillRectangle(binary,0,10,10,50,60);
+		ImageMiscOps.fillRectangle(binary,1,15,15,40,50);
+		ImageMiscOps.fillRectangle(binary,0,20,20,10,30);
+		for (int i = 0; i < 80; i++) {
+			binary.set(rand.nextInt(binary.width),rand.nextInt(binary.height),1);
+		}
+
+		for( ConnectRule rule : rules ) {
+			LinearExternalContours_MT alg = new LinearExternalContours_MT(rule);
+			alg.minimumStripHeight = 3;
+
+			compare(new LinearExternalContours(rule),alg,binary,1,1);
+		}
+	}
+
+	/**
+	 * Contours are filtered by their size
+	 */
+	@Test
+	void compare_settings() {
+		GrayU8 binary = randomBinary(100,90,0.6);
+
+		for( ConnectRule rule : rules ) {
+			LinearExternalContours reference = new LinearExternalContours(rule);
+			LinearExternalContours_MT alg = new LinearExternalContours_MT(rule);
+
+			for( LinearExternalContours a : new LinearExternalContours[]{reference,alg}) {
+				a.setMinContourLength(5);
+				a.setMaxContourLength(40);
+			}
+
+			compare(reference,alg,binary,0,0);
+		}
+	}
+
+	/**
+	 * The same instance is called multiple times
+	 */
+	@Test
+	void compare_multipleCalls() {
+		LinearExternalContours reference = new LinearExternalContours(ConnectRule.EIGHT);
+		LinearExternalContours_MT alg = new LinearExternalContours_MT(ConnectRule.EIGHT);
+
+		for (int trial = 0; trial < 3; trial++) {
+			GrayU8 binary = randomBinary(70,80,0.4);
+			compare(reference,alg,binary,1,1);
+		}
+	}
+
+	/**
+	 * Changing the connect rule should be handled
+	 */
+	@Test
+	void setConnectRule() {
+		GrayU8 binary = randomBinary(70,80,0.5);
+
+		LinearExternalContours_MT alg = new LinearExternalContours_MT(ConnectRule.FOUR);
+		alg.process(binary.clone(),0,0);
+		alg.setConnectRule(ConnectRule.EIGHT);
+
+		compare(new LinearExternalContours(ConnectRule.EIGHT),alg,binary,0,0);
+	}
+
+	private GrayU8 randomBinary( int width , int height , double density ) {
+		GrayU8 binary = new GrayU8(width,height);
+		for (int i = 0; i < binary.data.length; i++) {
+			binary.data[i] = (byte)(rand.nextDouble() < density ? 1 : 0);
+		}
+		return binary;
+	}
+
+	private void compare( LinearExternalContours reference , LinearExternalContours_MT alg , GrayU8 binary ,
+						  int adjustX , int adjustY ) {
+		// both versions modify the input image
+		GrayU8 found = BoofTesting.createSubImageOf(binary);
+		reference.process(binary.clone(),adjustX,adjustY);
+		alg.process(found,adjustX,adjustY);
+
+		// only the border should be modified
+		GrayU8 expected = binary.clone();
+		ImageMiscOps.fillBorder(expected,0,1);
+		BoofTesting.assertEquals(expected,found,0);
+
+		PackedSetsPoint2D_I32 pointsE = reference.getExternalContours();
+		PackedSetsPoint2D_I32 pointsF = alg.getExternalContours();
+		assertEquals(pointsE.size(),pointsF.size());
+		for (int i = 0; i < pointsE.size(); i++) {
+			assertEquals(pointsE.getSet(i),pointsF.getSet(i));
+		}
+	}
+}
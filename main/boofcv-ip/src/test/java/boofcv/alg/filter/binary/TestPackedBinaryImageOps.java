@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.morphology.MorphologyImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compares results against the equivalent functions in {@link BinaryImageOps} across image widths which
+ * test word boundaries
+ *
+ * @author Peter Abeles
+ */
+class TestPackedBinaryImageOps {
+	Random rand = new Random(234);
+
+	int[] widths = new int[]{1,7,63,64,65,130};
+	int height = 13;
+
+	@Test
+	void convert() {
+		for( int width : widths ) {
+			GrayU8 original = new GrayU8(width,height);
+			ImageMiscOps.fillUniform(original,rand,0,3);
+
+			PackedBinaryImage packed = PackedBinaryImageOps.convert(original,(PackedBinaryImage)null);
+			checkPadding(packed);
+			GrayU8 found = PackedBinaryImageOps.convert(packed,(GrayU8)null);
+
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					assertEquals(original.get(x,y) != 0 ? 1 : 0, found.get(x,y));
+				}
+			}
+		}
+	}
+
+	@Test
+	void threshold() {
+		for( int width : widths ) {
+			GrayU8 inputU8 = new GrayU8(width,height);
+			GrayF32 inputF32 = new GrayF32(width,height);
+			ImageMiscOps.fillUniform(inputU8,rand,0,200);
+			ImageMiscOps.fillUniform(inputF32,rand,0,200);
+
+			for( boolean down : new boolean[]{true,false}) {
+				GrayU8 expected = ThresholdImageOps.threshold(inputU8,null,90,down);
+				PackedBinaryImage found = PackedBinaryImageOps.threshold(inputU8,90,down,null);
+				checkPadding(found);
+				BoofTesting.assertEquals(expected,PackedBinaryImageOps.convert(found,(GrayU8)null),0);
+
+				expected = ThresholdImageOps.threshold(inputF32,null,90.5f,down);
+				found = PackedBinaryImageOps.threshold(inputF32,90.5f,down,found);
+				checkPadding(found);
+				BoofTesting.assertEquals(expected,PackedBinaryImageOps.convert(found,(GrayU8)null),0);
+			}
+		}
+	}
+
+	@Test
+	void logic() {
+		for( int width : widths ) {
+			GrayU8 a = randomBinary(width,height);
+			GrayU8 b = randomBinary(width,height);
+			PackedBinaryImage pa = PackedBinaryImageOps.convert(a,(PackedBinaryImage)null);
+			PackedBinaryImage pb = PackedBinaryImageOps.convert(b,(PackedBinaryImage)null);
+
+			compare(BinaryImageOps.logicAnd(a,b,null), PackedBinaryImageOps.logicAnd(pa,pb,null));
+			compare(BinaryImageOps.logicOr(a,b,null), PackedBinaryImageOps.logicOr(pa,pb,null));
+			compare(BinaryImageOps.logicXor(a,b,null), PackedBinaryImageOps.logicXor(pa,pb,null));
+			compare(BinaryImageOps.invert(a,null), PackedBinaryImageOps.invert(pa,null));
+		}
+
+		assertThrows(IllegalArgumentException.class,()->PackedBinaryImageOps.logicAnd(
+				new PackedBinaryImage(10,2), new PackedBinaryImage(11,2),null));
+	}
+
+	@Test
+	void erode8_dilate8() {
+		for( int width : widths ) {
+			GrayU8 input = randomBinary(width,height);
+			// mostly ones so that erosion doesn't remove everything
+			ImageMiscOps.fillRectangle(input,1,0,2,width,height/2);
+			PackedBinaryImage packed = PackedBinaryImageOps.convert(input,(PackedBinaryImage)null);
+
+			for (int numTimes = 1; numTimes <= 3; numTimes++) {
+				compare(BinaryImageOps.erode8(input,numTimes,null), PackedBinaryImageOps.erode8(packed,numTimes,null));
+				compare(BinaryImageOps.dilate8(input,numTimes,null), PackedBinaryImageOps.dilate8(packed,numTimes,null));
+			}
+		}
+	}
+
+	/**
+	 * Non-square regions, including even sizes and regions larger than the image, against a brute force
+	 * implementation
+	 */
+	@Test
+	void erode_dilate_rectangle() {
+		int[][] regions = new int[][]{{1,1},{2,1},{1,4},{5,2},{7,7},{70,3},{3,20},{129,1}};
+
+		for( int width : widths ) {
+			GrayU8 input = randomBinary(width,height);
+			ImageMiscOps.fillRectangle(input,1,0,3,width,height/2);
+			PackedBinaryImage packed = PackedBinaryImageOps.convert(input,(PackedBinaryImage)null);
+
+			for( int[] region : regions ) {
+				compare(naive(input,region[0],region[1],true),
+						PackedBinaryImageOps.erode(packed,region[0],region[1],null,null));
+				compare(naive(input,region[0],region[1],false),
+						PackedBinaryImageOps.dilate(packed,region[0],region[1],null,null));
+			}
+		}
+	}
+
+	/**
+	 * Compare against gray scale morphology applied to a binary image
+	 */
+	@Test
+	void open_close_tophat() {
+		int[][] regions = new int[][]{{3,3},{2,4},{6,1},{5,8}};
+
+		for( int width : widths ) {
+			GrayU8 input = randomBinary(width,height);
+			PackedBinaryImage packed = PackedBinaryImageOps.convert(input,(PackedBinaryImage)null);
+
+			for( int[] r : regions ) {
+				compare(MorphologyImageOps.open(input,r[0],r[1],null,null),
+						PackedBinaryImageOps.open(packed,r[0],r[1],null,null));
+				compare(MorphologyImageOps.close(input,r[0],r[1],null,null),
+						PackedBinaryImageOps.close(packed,r[0],r[1],null,null));
+				compare(MorphologyImageOps.topHatWhite(input,r[0],r[1],null,null),
+						PackedBinaryImageOps.topHatWhite(packed,r[0],r[1],null,null));
+				compare(MorphologyImageOps.topHatBlack(input,r[0],r[1],null,null),
+						PackedBinaryImageOps.topHatBlack(packed,r[0],r[1],null,null));
+			}
+		}
+	}
+
+	@Test
+	void removePointNoise() {
+		for( int width : widths ) {
+			GrayU8 input = randomBinary(width,height);
+			PackedBinaryImage packed = PackedBinaryImageOps.convert(input,(PackedBinaryImage)null);
+
+			compare(BinaryImageOps.removePointNoise(input,null), PackedBinaryImageOps.removePointNoise(packed,null));
+		}
+	}
+
+	private GrayU8 randomBinary( int width , int height ) {
+		GrayU8 image = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(image,rand,0,2);
+		return image;
+	}
+
+	private static GrayU8 naive( GrayU8 input , int regionWidth , int regionHeight , boolean erode ) {
+		GrayU8 output = input.createSameShape();
+		int offX = regionWidth/2, offY = regionHeight/2;
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				boolean value = erode;
+				for (int i = 0; i < regionHeight; i++) {
+					for (int j = 0; j < regionWidth; j++) {
+						int xx = x - offX + j, yy = y - offY + i;
+						if( !input.isInBounds(xx,yy))
+							continue;
+						if( erode )
+							value &= input.get(xx,yy) == 1;
+						else
+							value |= input.get(xx,yy) == 1;
+					}
+				}
+				output.set(x,y,value ? 1 : 0);
+			}
+		}
+		return output;
+	}
+
+	private static void compare( GrayU8 expected , PackedBinaryImage found ) {
+		checkPadding(found);
+		BoofTesting.assertEquals(expected,PackedBinaryImageOps.convert(found,(GrayU8)null),0);
+	}
+
+	/**
+	 * Bits outside the image must be zero
+	 */
+	private static void checkPadding( PackedBinaryImage image ) {
+		long mask = image.lastWordMask();
+		for (int y = 0; y < image.height; y++) {
+			assertEquals(0, image.data[y*image.stride + image.stride - 1] & ~mask);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.LWorkArrays;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the concurrent implementation against the single threaded one
+ *
+ * @author Peter Abeles
+ */
+class TestImplPackedBinaryImageOps_MT {
+	Random rand = new Random(234);
+	int width = 640, height = 480;
+
+	@Test
+	void convert_threshold() {
+		GrayU8 input = new GrayU8(width,height);
+		GrayF32 inputF = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+		ImageMiscOps.fillUniform(inputF,rand,0,200);
+
+		PackedBinaryImage expected = new PackedBinaryImage(width,height);
+		PackedBinaryImage found = new PackedBinaryImage(width,height);
+
+		ImplPackedBinaryImageOps.convert(input,expected);
+		ImplPackedBinaryImageOps_MT.convert(input,found);
+		compare(expected,found);
+
+		GrayU8 unpackedA = input.createSameShape();
+		GrayU8 unpackedB = input.createSameShape();
+		ImplPackedBinaryImageOps.convert(expected,unpackedA);
+		ImplPackedBinaryImageOps_MT.convert(expected,unpackedB);
+		for (int i = 0; i < unpackedA.data.length; i++) {
+			assertEquals(unpackedA.data[i],unpackedB.data[i]);
+		}
+
+		for( boolean down : new boolean[]{true,false}) {
+			ImplPackedBinaryImageOps.threshold(input,100,down,expected);
+			ImplPackedBinaryImageOps_MT.threshold(input,100,down,found);
+			compare(expected,found);
+
+			ImplPackedBinaryImageOps.threshold(inputF,100,down,expected);
+			ImplPackedBinaryImageOps_MT.threshold(inputF,100,down,found);
+			compare(expected,found);
+		}
+	}
+
+	@Test
+	void logic() {
+		PackedBinaryImage a = random(), b = random();
+		PackedBinaryImage expected = new PackedBinaryImage(width,height);
+		PackedBinaryImage found = new PackedBinaryImage(width,height);
+
+		ImplPackedBinaryImageOps.logicAnd(a,b,expected);
+		ImplPackedBinaryImageOps_MT.logicAnd(a,b,found);
+		compare(expected,found);
+		ImplPackedBinaryImageOps.logicOr(a,b,expected);
+		ImplPackedBinaryImageOps_MT.logicOr(a,b,found);
+		compare(expected,found);
+		ImplPackedBinaryImageOps.logicXor(a,b,expected);
+		ImplPackedBinaryImageOps_MT.logicXor(a,b,found);
+		compare(expected,found);
+		ImplPackedBinaryImageOps.invert(a,expected);
+		ImplPackedBinaryImageOps_MT.invert(a,found);
+		compare(expected,found);
+	}
+
+	@Test
+	void morphology() {
+		PackedBinaryImage input = random();
+		PackedBinaryImage expected = new PackedBinaryImage(width,height);
+		PackedBinaryImage found = new PackedBinaryImage(width,height);
+		LWorkArrays work = new LWorkArrays();
+
+		ImplPackedBinaryImageOps.erode(input,3,1,5,2,expected,work);
+		ImplPackedBinaryImageOps_MT.erode(input,3,1,5,2,found,work);
+		compare(expected,found);
+		ImplPackedBinaryImageOps.dilate(input,9,4,2,0,expected,work);
+		ImplPackedBinaryImageOps_MT.dilate(input,9,4,2,0,found,work);
+		compare(expected,found);
+		ImplPackedBinaryImageOps.removePointNoise(input,expected);
+		ImplPackedBinaryImageOps_MT.removePointNoise(input,found);
+		compare(expected,found);
+	}
+
+	private PackedBinaryImage random() {
+		GrayU8 image = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(image,rand,0,2);
+		PackedBinaryImage packed = new PackedBinaryImage(width,height);
+		ImplPackedBinaryImageOps.convert(image,packed);
+		return packed;
+	}
+
+	private static void compare( PackedBinaryImage expected , PackedBinaryImage found ) {
+		for (int i = 0; i < expected.stride*expected.height; i++) {
+			assertEquals(expected.data[i],found.data[i]);
+		}
+	}
+}
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Random;
 
 /**
@@ -121,15 +122,55 @@ public class TestBlurImageOps {
 	}
 
 	@Test
-	public void median() {
+	public void gaussianRecursive() {
+		int width = 50, height = 45;
+		double sigma = 2.5;
+		int r = 3*(int)sigma;
+
 		for( ImageType type : imageTypes ) {
+			ImageBase input = type.createImage(width,height);
+			ImageBase found = type.createImage(width,height);
+			ImageBase expected = type.createImage(width,height);
+
+			GImageMiscOps.fillUniform(input, rand, 0, 20);
+			GBlurImageOps.gaussian(input,expected,sigma,-1,null);
+
+			try {
+				Method m;
+				if( input instanceof GrayF32 )
+					m = BlurImageOps.class.getMethod("gaussianRecursive",input.getClass(),found.getClass(),double.class);
+				else
+					m = BlurImageOps.class.getMethod("gaussianRecursive",
+							input.getClass(), found.getClass(), double.class, GrayF32.class);
+
+				if( m.getParameterCount() == 3 )
+					m.invoke(null,input,found,sigma);
+				else
+					m.invoke(null,input,found,sigma,null);
+
+				// the border is handled differently, so only compare the inner image
+				BoofTesting.assertEquals(expected.subimage(r,r,width-r,height-r),
+						found.subimage(r,r,width-r,height-r),1);
+			} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	@Test
+	public void median() {
+		ImageType[] medianTypes = Arrays.copyOf(imageTypes, imageTypes.length + 1);
+		medianTypes[imageTypes.length] = ImageType.single(GrayU16.class);
+
+		for( ImageType type : medianTypes ) {
 			ImageBase input = type.createImage(width, height);
 			ImageBase found = type.createImage(width, height);
 			ImageBase expected = type.createImage(width, height);
 
 			GImageMiscOps.fillUniform(input, rand, 0, 20);
 
-			for( int radius = 1; radius <= 4; radius++ ) {
+			// include a radius large enough to use the constant time algorithm
+			for( int radius : new int[]{1,2,3,4,BlurImageOps.MEDIAN_CONSTANT_TIME_RADIUS+1} ) {
 				try {
 					if( type.getFamily() == ImageType.Family.PLANAR ) {
 						Method m = BlurImageOps.class.getMethod("median", input.getClass(),
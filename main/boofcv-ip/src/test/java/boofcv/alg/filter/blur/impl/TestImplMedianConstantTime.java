@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianConstantTime {
+	Random rand = new Random(234);
+
+	@Test
+	void compareToSort_U8() {
+		GrayU8 input = new GrayU8(20,30);
+		ImageMiscOps.fillUniform(input,rand, 0, 100);
+
+		GrayU8 found = input.createSameShape();
+		GrayU8 expected = input.createSameShape();
+
+		BoofTesting.checkSubImage(this, "compareToSort_U8", true, input, found, expected);
+	}
+
+	public void compareToSort_U8(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		// include a radius which is larger than the image
+		for( int radius : new int[]{1,2,3,6,17} ) {
+			ImageMiscOps.fill(found,0);
+			ImageMiscOps.fill(expected,0);
+
+			ImplMedianConstantTime.process(image,found,radius,null);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	void compareToSort_U16() {
+		GrayU16 input = new GrayU16(20,30);
+		// values which would be negative if treated as signed
+		ImageMiscOps.fillUniform(input,rand, 200, 60000);
+
+		GrayU16 found = input.createSameShape();
+		GrayU16 expected = input.createSameShape();
+
+		BoofTesting.checkSubImage(this, "compareToSort_U16", true, input, found, expected);
+	}
+
+	public void compareToSort_U16(GrayU16 image, GrayU16 found, GrayU16 expected) {
+		for( int radius : new int[]{1,2,3,6,17} ) {
+			ImageMiscOps.fill(found,0);
+			ImageMiscOps.fill(expected,0);
+
+			ImplMedianConstantTime.process(image,found,radius,null);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Values span the full range of a U16 image, which uses sorted columns instead of fine column histograms
+	 */
+	@Test
+	void compareToSort_U16_fullRange() {
+		GrayU16 input = new GrayU16(30,25);
+		ImageMiscOps.fillUniform(input,rand, 0, 65536);
+		input.set(3,4,0);
+		input.set(5,6,65535);
+
+		GrayU16 found = input.createSameShape();
+		GrayU16 expected = input.createSameShape();
+
+		BoofTesting.checkSubImage(this, "compareToSort_U16", true, input, found, expected);
+	}
+
+	/**
+	 * Force the sorted columns to be used with a narrower range, where many pixels have the same value
+	 */
+	@Test
+	void sortedColumns_repeatValues() {
+		int original = ImplMedianConstantTime.MAX_DENSE_BINS;
+		try {
+			ImplMedianConstantTime.MAX_DENSE_BINS = 4;
+			GrayU16 input = new GrayU16(30,25);
+			ImageMiscOps.fillUniform(input,rand, 10, 30);
+
+			GrayU16 found = input.createSameShape();
+			GrayU16 expected = input.createSameShape();
+
+			BoofTesting.checkSubImage(this, "compareToSort_U16", true, input, found, expected);
+		} finally {
+			ImplMedianConstantTime.MAX_DENSE_BINS = original;
+		}
+	}
+
+	/**
+	 * Image with a single value and with a small range of values
+	 */
+	@Test
+	void U16_narrowRange() {
+		GrayU16 input = new GrayU16(25,15);
+		GrayU16 found = input.createSameShape();
+		GrayU16 expected = input.createSameShape();
+
+		ImageMiscOps.fill(input,1234);
+		ImplMedianConstantTime.process(input,found,2,null);
+		BoofTesting.assertEquals(input,found,0);
+
+		ImageMiscOps.fillUniform(input,rand,1000,1003);
+		ImplMedianConstantTime.process(input,found,2,null);
+		ImplMedianSortNaive.process(input,expected,2,null);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * Force it to process the image in strips by limiting the histogram size
+	 */
+	@Test
+	void strips() {
+		int original = ImplMedianConstantTime.MAX_HISTOGRAM_ELEMENTS;
+		try {
+			GrayU8 input = new GrayU8(40,25);
+			ImageMiscOps.fillUniform(input,rand, 0, 256);
+			GrayU8 found = input.createSameShape();
+			GrayU8 expected = input.createSameShape();
+
+			for( int radius : new int[]{1,3,8} ) {
+				// enough columns for a strip width of 3
+				ImplMedianConstantTime.MAX_HISTOGRAM_ELEMENTS = (3+2*radius)*(256+16);
+				ImplMedianConstantTime.process(input,found,radius,null);
+				ImplMedianSortNaive.process(input,expected,radius,null);
+				BoofTesting.assertEquals(expected,found,0);
+			}
+
+			// every strip is one pixel wide
+			ImplMedianConstantTime.MAX_HISTOGRAM_ELEMENTS = 10;
+			ImplMedianConstantTime.process(input,found,4,null);
+			ImplMedianSortNaive.process(input,expected,4,null);
+			BoofTesting.assertEquals(expected,found,0);
+		} finally {
+			ImplMedianConstantTime.MAX_HISTOGRAM_ELEMENTS = original;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplRecursiveGaussian {
+	Random rand = new Random(234);
+
+	int width = 60, height = 55;
+
+	/**
+	 * The boundary conditions should produce the same results as a line which has been extended by repeating
+	 * the first and last values
+	 */
+	@Test
+	void filter_boundary() {
+		for( double sigma : new double[]{0.8,3,10} ) {
+			float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+			for (int order = 0; order < 3; order++) {
+				// include lines which are shorter than the filter's state
+				for( int length : new int[]{1,2,3,4,30} ) {
+					float[] line = new float[length];
+					for (int i = 0; i < length; i++) {
+						line[i] = rand.nextFloat()*100;
+					}
+
+					float[] found = new float[length + 6];
+					System.arraycopy(line, 0, found, 3, length);
+					ImplRecursiveGaussian.filter(found, length, 1, coef, order);
+
+					int pad = 1000;
+					float[] expected = new float[length + 2*pad + 6];
+					for (int i = 0; i < length + 2*pad; i++) {
+						expected[i + 3] = line[Math.min(length - 1, Math.max(0, i - pad))];
+					}
+					ImplRecursiveGaussian.filter(expected, length + 2*pad, 1, coef, order);
+
+					for (int i = 0; i < length; i++) {
+						assertEquals(expected[i + 3 + pad], found[i + 3], 1e-2);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Lines which are interleaved should produce the same results as when processed one at a time
+	 */
+	@Test
+	void filter_interleaved() {
+		int length = 20, numLines = 3;
+		float[] coef = ImplRecursiveGaussian.coefficients(4);
+
+		float[] interleaved = new float[(length + 6)*numLines];
+		float[][] lines = new float[numLines][length + 6];
+		for (int i = 0; i < length; i++) {
+			for (int j = 0; j < numLines; j++) {
+				lines[j][i + 3] = interleaved[(i + 3)*numLines + j] = rand.nextFloat();
+			}
+		}
+
+		ImplRecursiveGaussian.filter(interleaved, length, numLines, coef, 1);
+		for (int j = 0; j < numLines; j++) {
+			ImplRecursiveGaussian.filter(lines[j], length, 1, coef, 1);
+			for (int i = 0; i < length; i++) {
+				assertEquals(lines[j][i + 3], interleaved[(i + 3)*numLines + j], 1e-6f);
+			}
+		}
+	}
+
+	@Test
+	void coefficients_sigmaTooSmall() {
+		assertThrows(IllegalArgumentException.class, () -> ImplRecursiveGaussian.coefficients(0.4));
+	}
+
+	@Test
+	void horizontal_F32() {
+		GrayF32 input = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 found = input.createSameShape();
+		GrayF32 expected = input.createSameShape();
+
+		BoofTesting.checkSubImage(this, "horizontal_F32", true, input, found, expected);
+	}
+
+	public void horizontal_F32( GrayF32 input , GrayF32 found , GrayF32 expected ) {
+		for( double sigma : new double[]{4,6} ) {
+			float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+			for (int order = 0; order < 3; order++) {
+				ImplRecursiveGaussian.horizontal(input, found, coef, order);
+				GConvolveImageOps.horizontal(kernel(sigma, order), input, expected, extended());
+				BoofTesting.assertEquals(expected, found, 0.5);
+			}
+		}
+	}
+
+	@Test
+	void horizontal_U8() {
+		GrayU8 input = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 found = new GrayF32(width, height);
+		GrayF32 expected = new GrayF32(width, height);
+
+		BoofTesting.checkSubImage(this, "horizontal_U8", true, input, found, expected);
+	}
+
+	public void horizontal_U8( GrayU8 input , GrayF32 found , GrayF32 expected ) {
+		GrayF32 inputF = ConvertImage.convert(input, (GrayF32)null);
+		float[] coef = ImplRecursiveGaussian.coefficients(4);
+		for (int order = 0; order < 3; order++) {
+			ImplRecursiveGaussian.horizontal(input, found, coef, order);
+			ImplRecursiveGaussian.horizontal(inputF, expected, coef, order);
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+
+	@Test
+	void vertical_F32() {
+		GrayF32 input = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 found = input.createSameShape();
+		GrayF32 expected = input.createSameShape();
+
+		BoofTesting.checkSubImage(this, "vertical_F32", true, input, found, expected);
+	}
+
+	public void vertical_F32( GrayF32 input , GrayF32 found , GrayF32 expected ) {
+		for( double sigma : new double[]{4,6} ) {
+			float[] coef = ImplRecursiveGaussian.coefficients(sigma);
+			for (int order = 0; order < 3; order++) {
+				ImplRecursiveGaussian.vertical(input, found, coef, order);
+				GConvolveImageOps.vertical(kernel(sigma, order), input, expected, extended());
+				BoofTesting.assertEquals(expected, found, 0.5);
+			}
+		}
+
+		// the input and output can be the same image
+		float[] coef = ImplRecursiveGaussian.coefficients(3);
+		ImplRecursiveGaussian.vertical(input, expected, coef, 0);
+		found.setTo(input);
+		ImplRecursiveGaussian.vertical(found, found, coef, 0);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test
+	void vertical_F32_U8() {
+		GrayF32 input = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+		GrayU8 found = new GrayU8(width, height);
+		GrayF32 expected = input.createSameShape();
+
+		BoofTesting.checkSubImage(this, "vertical_F32_U8", true, input, found, expected);
+	}
+
+	public void vertical_F32_U8( GrayF32 input , GrayU8 found , GrayF32 expected ) {
+		float[] coef = ImplRecursiveGaussian.coefficients(3);
+		ImplRecursiveGaussian.vertical(input, found, coef, 0);
+		ImplRecursiveGaussian.vertical(input, expected, coef, 0);
+
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				assertEquals(Math.round(expected.get(x, y)), found.get(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Kernel equivalent to a Gaussian applied to the derivative of the input
+	 */
+	private Kernel1D_F32 kernel( double sigma , int order ) {
+		int radius = (int)Math.ceil(4*sigma);
+		Kernel1D_F32 gaussian = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, sigma, radius);
+		float[] difference;
+		switch( order ) {
+			case 0: difference = new float[]{0,1,0}; break;
+			case 1: difference = new float[]{-0.5f,0,0.5f}; break;
+			default: difference = new float[]{1,-2,1}; break;
+		}
+
+		Kernel1D_F32 kernel = new Kernel1D_F32(gaussian.width + 2);
+		for (int s = -radius - 1; s <= radius + 1; s++) {
+			float sum = 0;
+			for (int t = -1; t <= 1; t++) {
+				int k = s + radius - t;
+				if( k >= 0 && k < gaussian.width )
+					sum += difference[t + 1]*gaussian.data[k];
+			}
+			kernel.data[s + radius + 1] = sum;
+		}
+		return kernel;
+	}
+
+	private ImageBorder_F32 extended() {
+		return (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+	}
+}
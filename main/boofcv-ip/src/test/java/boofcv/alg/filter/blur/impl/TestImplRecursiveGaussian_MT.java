@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Compares the concurrent implementation against the single threaded one
+ *
+ * @author Peter Abeles
+ */
+class TestImplRecursiveGaussian_MT {
+	Random rand = new Random(234);
+	int width = 300, height = 250;
+
+	@Test
+	void compare_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = new GrayF32(width,height);
+		GrayU8 expectedU8 = input.createSameShape();
+		GrayU8 foundU8 = input.createSameShape();
+
+		float[] coef = ImplRecursiveGaussian.coefficients(5);
+		for (int order = 0; order < 3; order++) {
+			ImplRecursiveGaussian.horizontal(input,expected,coef,order);
+			ImplRecursiveGaussian_MT.horizontal(input,found,coef,order);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+
+		ImplRecursiveGaussian.vertical(expected,expectedU8,coef,0);
+		ImplRecursiveGaussian_MT.vertical(expected,foundU8,coef,0);
+		BoofTesting.assertEquals(expectedU8,foundU8,0);
+	}
+
+	@Test
+	void compare_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		GrayF32 expected = input.createSameShape();
+		GrayF32 found = input.createSameShape();
+
+		float[] coef = ImplRecursiveGaussian.coefficients(5);
+		for (int order = 0; order < 3; order++) {
+			ImplRecursiveGaussian.horizontal(input,expected,coef,order);
+			ImplRecursiveGaussian_MT.horizontal(input,found,coef,order);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ImplRecursiveGaussian.vertical(input,expected,coef,order);
+			ImplRecursiveGaussian_MT.vertical(input,found,coef,order);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_SB;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive_SB;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveImageFft {
+	Random rand = new Random(234);
+
+	int width = 60;
+	int height = 50;
+
+	@Test
+	public void convolve_border() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+
+		for( int offset : new int[]{0,4,8} ) {
+			Kernel2D_F32 kernel = FactoryKernel.random2D_F32(9,offset,-1,1,rand);
+
+			GrayF32 expected = input.createSameShape();
+			GrayF32 found = input.createSameShape();
+
+			border.setImage(input);
+			ConvolveImageStandard_SB.convolve(kernel,input,expected);
+			ConvolveJustBorder_General_SB.convolve(kernel,border,expected);
+			ConvolveImageFft.convolve(kernel,input,found,border);
+
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	@Test
+	public void convolve_noborder() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		for( int offset : new int[]{0,4,8} ) {
+			Kernel2D_F32 kernel = FactoryKernel.random2D_F32(9,offset,-1,1,rand);
+
+			GrayF32 expected = input.createSameShape();
+			GrayF32 found = input.createSameShape();
+
+			ConvolveImageStandard_SB.convolve(kernel,input,expected);
+			ConvolveImageFft.convolve(kernel,input,found);
+
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	@Test
+	public void convolveNormalized() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		for( int offset : new int[]{0,4,8} ) {
+			Kernel2D_F32 kernel = FactoryKernel.random2D_F32(9,offset,0,1,rand);
+
+			GrayF32 expected = input.createSameShape();
+			GrayF32 found = input.createSameShape();
+
+			ConvolveNormalizedNaive_SB.convolve(kernel,input,expected);
+			ConvolveImageFft.convolveNormalized(kernel,input,found);
+
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	/**
+	 * Sanity check the automatic switch and see if the functions which use it produce the same results
+	 */
+	@Test
+	public void automaticSwitch() {
+		assertFalse(ConvolveImageFft.isFftFaster(3,640,480));
+		assertTrue(ConvolveImageFft.isFftFaster(31,640,480));
+		// kernel is larger than the image
+		assertFalse(ConvolveImageFft.isFftFaster(31,30,480));
+
+		GrayF32 input = new GrayF32(120,100);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(31,12,0,1,rand);
+		assertTrue(ConvolveImageFft.isFftFaster(kernel.width,input.width,input.height));
+
+		GrayF32 expected = input.createSameShape();
+		GrayF32 found = input.createSameShape();
+
+		ConvolveImageFft.USE_FFT = false;
+		try {
+			ConvolveImageNormalized.convolve(kernel,input,expected);
+		} finally {
+			ConvolveImageFft.USE_FFT = true;
+		}
+		ConvolveImageNormalized.convolve(kernel,input,found);
+
+		BoofTesting.assertEquals(expected,found,1e-3);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveImageFft_MT {
+	Random rand = new Random(234);
+
+	int width = 60;
+	int height = 150;
+
+	@Test
+	public void convolve_noborder() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		// use several threads even if there's only one core so that the image is broken up into bands
+		try( BoofConcurrency.Scope ignored = BoofConcurrency.useThreadPool(new ForkJoinPool(4)) ) {
+			for( int offset : new int[]{0,4,8} ) {
+				Kernel2D_F32 kernel = FactoryKernel.random2D_F32(9,offset,-1,1,rand);
+
+				GrayF32 expected = input.createSameShape();
+				GrayF32 found = BoofTesting.createSubImageOf(input.createSameShape());
+
+				ConvolveImageFft.convolve(kernel,input,expected);
+				ConvolveImageFft_MT.convolve(kernel,BoofTesting.createSubImageOf(input),found);
+
+				BoofTesting.assertEquals(expected,found,1e-3);
+			}
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.fft;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCorrelateFft_F32 {
+	Random rand = new Random(234);
+
+	/**
+	 * The output is small enough for a single tile
+	 */
+	@Test
+	public void singleTile() {
+		GrayF32 input = new GrayF32(30,25);
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		GrayF32 kernel = new GrayF32(7,4);
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+
+		CorrelateFft_F32 alg = new CorrelateFft_F32();
+		alg.setKernel(kernel);
+
+		GrayF32 output = new GrayF32(input.width-kernel.width+1,input.height-kernel.height+1);
+		alg.process(input,null,0,0,output);
+		checkResults(input,null,kernel,0,0,output);
+	}
+
+	/**
+	 * The output requires multiple tiles, including partial tiles along the right and bottom edge
+	 */
+	@Test
+	public void multipleTiles() {
+		GrayF32 input = new GrayF32(310,205);
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		GrayF32 kernel = new GrayF32(5,9);
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+
+		CorrelateFft_F32 alg = new CorrelateFft_F32();
+		alg.setKernel(kernel);
+
+		GrayF32 output = new GrayF32(input.width-kernel.width+1,input.height-kernel.height+1);
+		alg.process(input,null,0,0,output);
+
+		assertTrue(alg.getTileWidth() < output.width || alg.getTileHeight() < output.height);
+		checkResults(input,null,kernel,0,0,output);
+
+		// an odd and even number of tiles
+		output.reshape(output.width,output.height-alg.getTileHeight()+kernel.height-1);
+		alg.process(input,null,0,0,output);
+		checkResults(input,null,kernel,0,0,output);
+	}
+
+	/**
+	 * Reads pixels outside the image using the border
+	 */
+	@Test
+	public void border() {
+		GrayF32 input = new GrayF32(40,35);
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		GrayF32 kernel = new GrayF32(6,5);
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+
+		ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.REFLECT);
+
+		CorrelateFft_F32 alg = new CorrelateFft_F32();
+		alg.setKernel(kernel);
+
+		GrayF32 output = input.createSameShape();
+		alg.process(input,border,-3,-2,output);
+		checkResults(input,border,kernel,-3,-2,output);
+
+		// no border and it reads outside the image
+		assertThrows(IllegalArgumentException.class, ()->alg.process(input,null,-3,-2,output));
+	}
+
+	@Test
+	public void subimage() {
+		GrayF32 input = new GrayF32(40,35);
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		GrayF32 kernel = new GrayF32(6,5);
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+
+		GrayF32 output = new GrayF32(input.width-kernel.width+1,input.height-kernel.height+1);
+
+		GrayF32 inputSub = BoofTesting.createSubImageOf(input);
+		GrayF32 kernelSub = BoofTesting.createSubImageOf(kernel);
+		GrayF32 outputSub = BoofTesting.createSubImageOf(output);
+
+		CorrelateFft_F32 alg = new CorrelateFft_F32();
+		alg.setKernel(kernelSub);
+		alg.process(inputSub,null,0,0,outputSub);
+		checkResults(input,null,kernel,0,0,outputSub);
+	}
+
+	/**
+	 * Changing the kernel should cause its transform to be recomputed
+	 */
+	@Test
+	public void changeKernel() {
+		GrayF32 input = new GrayF32(40,35);
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		GrayF32 kernel = new GrayF32(6,5);
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+
+		CorrelateFft_F32 alg = new CorrelateFft_F32();
+		GrayF32 output = new GrayF32(input.width-kernel.width+1,input.height-kernel.height+1);
+		alg.setKernel(kernel);
+		alg.process(input,null,0,0,output);
+
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+		alg.setKernel(kernel);
+		alg.process(input,null,0,0,output);
+		checkResults(input,null,kernel,0,0,output);
+	}
+
+	/**
+	 * Specifying an identical kernel reuses the saved transform while changing a single element doesn't
+	 */
+	@Test
+	public void setKernel_identical() {
+		GrayF32 input = new GrayF32(40,35);
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		GrayF32 kernel = new GrayF32(6,5);
+		ImageMiscOps.fillUniform(kernel,rand,-1,1);
+
+		CorrelateFft_F32 alg = new CorrelateFft_F32();
+		GrayF32 output = new GrayF32(input.width-kernel.width+1,input.height-kernel.height+1);
+		alg.setKernel(kernel);
+		alg.process(input,null,0,0,output);
+
+		// same values but a different instance and a different image
+		ImageMiscOps.fillUniform(input,rand,-1,1);
+		alg.setKernel(BoofTesting.createSubImageOf(kernel));
+		alg.process(input,null,0,0,output);
+		checkResults(input,null,kernel,0,0,output);
+
+		kernel.set(3,2,kernel.get(3,2)+0.5f);
+		alg.setKernel(kernel);
+		alg.process(input,null,0,0,output);
+		checkResults(input,null,kernel,0,0,output);
+	}
+
+	@Test
+	public void isFftFaster() {
+		assertFalse(CorrelateFft_F32.isFftFaster(3,3,640,480));
+		assertTrue(CorrelateFft_F32.isFftFaster(31,31,640,480));
+		assertFalse(CorrelateFft_F32.isFftFaster(31,31,0,480));
+	}
+
+	private void checkResults( GrayF32 input , ImageBorder_F32 border , GrayF32 kernel ,
+							   int offsetX , int offsetY , GrayF32 found ) {
+		for (int y = 0; y < found.height; y++) {
+			for (int x = 0; x < found.width; x++) {
+				double expected = 0;
+				for (int j = 0; j < kernel.height; j++) {
+					for (int i = 0; i < kernel.width; i++) {
+						int xx = x+offsetX+i, yy = y+offsetY+j;
+						float value = border == null ? input.get(xx,yy) : border.get(xx,yy);
+						expected += kernel.get(i,j)*value;
+					}
+				}
+				assertEquals(expected,found.get(x,y),1e-4);
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGradientRecursiveGaussian {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 35;
+	double sigma = 3;
+
+	@Test
+	public void process_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 derivX = new GrayF32(width,height);
+		GrayF32 derivY = new GrayF32(width,height);
+
+		GradientRecursiveGaussian.process(input,derivX,derivY,sigma,null);
+
+		compareToBlurred(ConvertImage.convert(input,(GrayF32)null),derivX,derivY);
+	}
+
+	@Test
+	public void process_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 derivX = new GrayF32(width,height);
+		GrayF32 derivY = new GrayF32(width,height);
+
+		BoofTesting.checkSubImage(this, "process_F32", true, input, derivX, derivY);
+	}
+
+	public void process_F32(GrayF32 input, GrayF32 derivX, GrayF32 derivY) {
+		GradientRecursiveGaussian.process(input,derivX,derivY,sigma,null);
+
+		compareToBlurred(input,derivX,derivY);
+	}
+
+	/**
+	 * Inside the image the derivative should be the same as a central difference applied to a blurred image
+	 */
+	private void compareToBlurred(GrayF32 input, GrayF32 derivX, GrayF32 derivY) {
+		GrayF32 blurred = BlurImageOps.gaussianRecursive(input,null,sigma);
+
+		for (int y = 1; y < height-1; y++) {
+			for (int x = 1; x < width-1; x++) {
+				float dx = (blurred.get(x+1,y) - blurred.get(x-1,y))/2;
+				float dy = (blurred.get(x,y+1) - blurred.get(x,y-1))/2;
+
+				assertEquals(dx,derivX.get(x,y),1e-2);
+				assertEquals(dy,derivY.get(x,y),1e-2);
+			}
+		}
+	}
+}
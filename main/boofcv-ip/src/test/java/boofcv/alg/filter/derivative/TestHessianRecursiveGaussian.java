@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHessianRecursiveGaussian {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 35;
+	double sigma = 3;
+
+	@Test
+	public void process_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 derivXX = new GrayF32(width,height);
+		GrayF32 derivYY = new GrayF32(width,height);
+		GrayF32 derivXY = new GrayF32(width,height);
+
+		HessianRecursiveGaussian.process(input,derivXX,derivYY,derivXY,sigma,null);
+
+		compareToBlurred(ConvertImage.convert(input,(GrayF32)null),derivXX,derivYY,derivXY);
+	}
+
+	@Test
+	public void process_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 derivXX = new GrayF32(width,height);
+		GrayF32 derivYY = new GrayF32(width,height);
+		GrayF32 derivXY = new GrayF32(width,height);
+
+		BoofTesting.checkSubImage(this, "process_F32", true, input, derivXX, derivYY, derivXY);
+	}
+
+	public void process_F32(GrayF32 input, GrayF32 derivXX, GrayF32 derivYY, GrayF32 derivXY) {
+		HessianRecursiveGaussian.process(input,derivXX,derivYY,derivXY,sigma,null);
+
+		compareToBlurred(input,derivXX,derivYY,derivXY);
+	}
+
+	/**
+	 * Inside the image the derivatives should be the same as differences applied to a blurred image
+	 */
+	private void compareToBlurred(GrayF32 input, GrayF32 derivXX, GrayF32 derivYY, GrayF32 derivXY) {
+		GrayF32 b = BlurImageOps.gaussianRecursive(input,null,sigma);
+
+		for (int y = 1; y < height-1; y++) {
+			for (int x = 1; x < width-1; x++) {
+				float dxx = b.get(x+1,y) - 2*b.get(x,y) + b.get(x-1,y);
+				float dyy = b.get(x,y+1) - 2*b.get(x,y) + b.get(x,y-1);
+				float dxy = (b.get(x+1,y+1) - b.get(x-1,y+1) - b.get(x+1,y-1) + b.get(x-1,y-1))/4;
+
+				assertEquals(dxx,derivXX.get(x,y),1e-2);
+				assertEquals(dyy,derivYY.get(x,y),1e-2);
+				assertEquals(dxy,derivXY.get(x,y),1e-2);
+			}
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.morphology;
+
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMorphologyImageOps {
+	Random rand = new Random(234);
+
+	int width = 35, height = 28;
+
+	// includes even sizes, lines, and elements larger than the image
+	int[][] regions = new int[][]{{1,1},{3,3},{2,4},{1,9},{7,1},{6,5},{40,3},{3,31}};
+
+	@Test
+	void erode_dilate_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		for( int[] r : regions ) {
+			BoofTesting.assertEquals(naive(input,r[0],r[1],r[0]/2,r[1]/2,false),
+					MorphologyImageOps.erode(input,r[0],r[1],null,null),0);
+			BoofTesting.assertEquals(naive(input,r[0],r[1],r[0]/2,r[1]/2,true),
+					MorphologyImageOps.dilate(input,r[0],r[1],null,null),0);
+		}
+	}
+
+	@Test
+	void erode_dilate_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,-100,100);
+
+		for( int[] r : regions ) {
+			BoofTesting.assertEquals(naive(input,r[0],r[1],r[0]/2,r[1]/2,false),
+					MorphologyImageOps.erode(input,r[0],r[1],null,null),0);
+			BoofTesting.assertEquals(naive(input,r[0],r[1],r[0]/2,r[1]/2,true),
+					MorphologyImageOps.dilate(input,r[0],r[1],null,null),0);
+		}
+	}
+
+	@Test
+	void open_close_tophat_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		for( int[] r : regions ) {
+			int ox = r[0]/2, oy = r[1]/2, rx = r[0]-1-ox, ry = r[1]-1-oy;
+
+			GrayU8 opened = naive(naive(input,r[0],r[1],ox,oy,false),r[0],r[1],rx,ry,true);
+			GrayU8 closed = naive(naive(input,r[0],r[1],ox,oy,true),r[0],r[1],rx,ry,false);
+
+			BoofTesting.assertEquals(opened, MorphologyImageOps.open(input,r[0],r[1],null,null),0);
+			BoofTesting.assertEquals(closed, MorphologyImageOps.close(input,r[0],r[1],null,null),0);
+
+			GrayU8 found = MorphologyImageOps.topHatWhite(input,r[0],r[1],null,null);
+			for (int i = 0; i < input.data.length; i++) {
+				assertEquals(input.get(i%width,i/width)-opened.get(i%width,i/width), found.get(i%width,i/width));
+			}
+			found = MorphologyImageOps.topHatBlack(input,r[0],r[1],null,null);
+			for (int i = 0; i < input.data.length; i++) {
+				assertEquals(closed.get(i%width,i/width)-input.get(i%width,i/width), found.get(i%width,i/width));
+			}
+		}
+	}
+
+	@Test
+	void open_close_tophat_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,-100,100);
+
+		for( int[] r : regions ) {
+			int ox = r[0]/2, oy = r[1]/2, rx = r[0]-1-ox, ry = r[1]-1-oy;
+
+			GrayF32 opened = naive(naive(input,r[0],r[1],ox,oy,false),r[0],r[1],rx,ry,true);
+			GrayF32 closed = naive(naive(input,r[0],r[1],ox,oy,true),r[0],r[1],rx,ry,false);
+
+			BoofTesting.assertEquals(opened, MorphologyImageOps.open(input,r[0],r[1],null,null),0);
+			BoofTesting.assertEquals(closed, MorphologyImageOps.close(input,r[0],r[1],null,null),0);
+
+			GrayF32 found = MorphologyImageOps.topHatWhite(input,r[0],r[1],null,null);
+			for (int i = 0; i < input.data.length; i++) {
+				assertEquals(input.data[i]-opened.data[i], found.data[i]);
+			}
+			found = MorphologyImageOps.topHatBlack(input,r[0],r[1],null,null);
+			for (int i = 0; i < input.data.length; i++) {
+				assertEquals(closed.data[i]-input.data[i], found.data[i]);
+			}
+		}
+	}
+
+	/**
+	 * A binary image stored in a GrayU8 should produce the same results as the binary operators
+	 */
+	@Test
+	void binary() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,2);
+
+		for (int numTimes = 1; numTimes <= 3; numTimes++) {
+			int w = 2*numTimes+1;
+			BoofTesting.assertEquals(BinaryImageOps.erode8(input,numTimes,null),
+					MorphologyImageOps.erode(input,w,w,null,null),0);
+			BoofTesting.assertEquals(BinaryImageOps.dilate8(input,numTimes,null),
+					MorphologyImageOps.dilate(input,w,w,null,null),0);
+		}
+	}
+
+	/**
+	 * Output and storage images are provided and have the wrong shape
+	 */
+	@Test
+	void reshapeStorage() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		GrayU8 output = new GrayU8(5,6);
+		GrayU8 storage = new GrayU8(7,2);
+		MorphologyImageOps.topHatWhite(input,5,7,output,storage);
+		BoofTesting.assertEquals(MorphologyImageOps.topHatWhite(input,5,7,null,null),output,0);
+	}
+
+	static GrayU8 naive( GrayU8 input , int regionWidth , int regionHeight , int offX , int offY , boolean max ) {
+		GrayU8 output = input.createSameShape();
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				int best = max ? 0 : 255;
+				for (int i = 0; i < regionHeight; i++) {
+					for (int j = 0; j < regionWidth; j++) {
+						int xx = x - offX + j, yy = y - offY + i;
+						if( !input.isInBounds(xx,yy))
+							continue;
+						best = max ? Math.max(best,input.get(xx,yy)) : Math.min(best,input.get(xx,yy));
+					}
+				}
+				output.set(x,y,best);
+			}
+		}
+		return output;
+	}
+
+	static GrayF32 naive( GrayF32 input , int regionWidth , int regionHeight , int offX , int offY , boolean max ) {
+		GrayF32 output = input.createSameShape();
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				float best = max ? -Float.MAX_VALUE : Float.MAX_VALUE;
+				for (int i = 0; i < regionHeight; i++) {
+					for (int j = 0; j < regionWidth; j++) {
+						int xx = x - offX + j, yy = y - offY + i;
+						if( !input.isInBounds(xx,yy))
+							continue;
+						best = max ? Math.max(best,input.get(xx,yy)) : Math.min(best,input.get(xx,yy));
+					}
+				}
+				output.set(x,y,best);
+			}
+		}
+		return output;
+	}
+}
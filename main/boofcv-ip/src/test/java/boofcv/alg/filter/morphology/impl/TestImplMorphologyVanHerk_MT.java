@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.morphology.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Compares the concurrent implementation against the single threaded one
+ *
+ * @author Peter Abeles
+ */
+class TestImplMorphologyVanHerk_MT {
+	Random rand = new Random(234);
+	int width = 300, height = 250;
+
+	@Test
+	void compare_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		GrayU8 expected = input.createSameShape();
+		GrayU8 found = input.createSameShape();
+
+		for( boolean max : new boolean[]{true,false}) {
+			ImplMorphologyVanHerk.horizontal(input,expected,9,4,max);
+			ImplMorphologyVanHerk_MT.horizontal(input,found,9,4,max);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ImplMorphologyVanHerk.vertical(input,expected,12,3,max);
+			ImplMorphologyVanHerk_MT.vertical(input,found,12,3,max);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+
+		GrayU8 other = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(other,rand,0,256);
+		ImplMorphologyVanHerk.subtract(input,other,expected);
+		ImplMorphologyVanHerk_MT.subtract(input,other,found);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	void compare_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		GrayF32 expected = input.createSameShape();
+		GrayF32 found = input.createSameShape();
+
+		for( boolean max : new boolean[]{true,false}) {
+			ImplMorphologyVanHerk.horizontal(input,expected,9,4,max);
+			ImplMorphologyVanHerk_MT.horizontal(input,found,9,4,max);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ImplMorphologyVanHerk.vertical(input,expected,12,3,max);
+			ImplMorphologyVanHerk_MT.vertical(input,found,12,3,max);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+
+		GrayF32 other = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(other,rand,0,256);
+		ImplMorphologyVanHerk.subtract(input,other,expected);
+		ImplMorphologyVanHerk_MT.subtract(input,other,found);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
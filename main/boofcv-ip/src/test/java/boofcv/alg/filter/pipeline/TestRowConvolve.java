@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestRowConvolve {
+	Random rand = new Random(234);
+
+	/**
+	 * Compare to regular convolution with kernels that have different widths and offsets
+	 */
+	@Test
+	void compareToConvolve() {
+		Kernel1D_F32 horizontal = new Kernel1D_F32(new float[]{1,2,3,4},4,1);
+		Kernel1D_F32 vertical = new Kernel1D_F32(new float[]{-1,2,0.5f,2,1},5,3);
+
+		for( int width : new int[]{1,2,5,20} ) {
+			GrayF32 input = new GrayF32(width,15);
+			ImageMiscOps.fillUniform(input,rand,0,100);
+
+			GrayF32 expected = TestStripPipeline.convolve(horizontal,vertical,input);
+
+			StripPipeline<GrayF32> alg = new StripPipeline<>(ImageType.single(GrayF32.class));
+			alg.add(new RowConvolve(horizontal,vertical,1));
+
+			GrayF32 found = new GrayF32(1,1);
+			alg.process(input,found);
+
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	@Test
+	void getRadius() {
+		Kernel1D_F32 horizontal = new Kernel1D_F32(new float[]{1,2,3,4},4,1);
+		assertEquals(2,new RowConvolve(horizontal,horizontal,1).getRadius());
+		assertEquals(3,new RowConvolve(horizontal,new Kernel1D_F32(5,3),1).getRadius());
+		assertEquals(4,RowConvolve.gaussian(-1,4).getRadius());
+	}
+}
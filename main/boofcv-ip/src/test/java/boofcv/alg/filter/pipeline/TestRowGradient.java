@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.derivative.DerivativeType;
+import boofcv.alg.filter.derivative.GradientPrewitt;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+class TestRowGradient {
+	Random rand = new Random(234);
+
+	@Test
+	void compareToGradient() {
+		for( DerivativeType type : new DerivativeType[]{DerivativeType.THREE,DerivativeType.SOBEL,DerivativeType.PREWITT}) {
+			for( int width : new int[]{1,2,3,20} ) {
+				GrayF32 input = new GrayF32(width,17);
+				ImageMiscOps.fillUniform(input,rand,0,100);
+
+				Kernel2D_F32 kernelX,kernelY;
+				switch( type ) {
+					case THREE:
+						kernelX = new Kernel2D_F32(3,new float[]{0,0,0,-0.5f,0,0.5f,0,0,0});
+						kernelY = new Kernel2D_F32(3,new float[]{0,-0.5f,0,0,0,0,0,0.5f,0});
+						break;
+					case SOBEL:
+						kernelX = GradientSobel.kernelDerivX_F32;
+						kernelY = GradientSobel.kernelDerivY_F32;
+						break;
+					default:
+						kernelX = GradientPrewitt.kernelDerivX_F32;
+						kernelY = GradientPrewitt.kernelDerivY_F32;
+						break;
+				}
+				GrayF32 expectedX = TestStripPipeline.convolve(kernelX,input);
+				GrayF32 expectedY = TestStripPipeline.convolve(kernelY,input);
+
+				StripPipeline<GrayF32> alg = new StripPipeline<>(ImageType.single(GrayF32.class));
+				alg.add(new RowGradient(type));
+
+				GrayF32 derivX = new GrayF32(1,1);
+				GrayF32 derivY = new GrayF32(1,1);
+				alg.process(input,derivX,derivY);
+
+				BoofTesting.assertEquals(expectedX,derivX,1e-3);
+				BoofTesting.assertEquals(expectedY,derivY,1e-3);
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.Planar;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestRowPixelMath {
+	Random rand = new Random(234);
+
+	@Test
+	void scale() {
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,10,8,2);
+		GImageMiscOps.fillUniform(input,rand,-10,10);
+
+		StripPipeline<Planar<GrayF32>> alg = new StripPipeline<>(ImageType.pl(2,GrayF32.class));
+		alg.add(RowPixelMath.scale(2.0f,1.0f,2));
+
+		GrayF32 band0 = new GrayF32(1,1);
+		GrayF32 band1 = new GrayF32(1,1);
+		alg.process(input,band0,band1);
+
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				assertEquals(input.getBand(0).get(x,y)*2+1,band0.get(x,y),1e-4);
+				assertEquals(input.getBand(1).get(x,y)*2+1,band1.get(x,y),1e-4);
+			}
+		}
+	}
+}
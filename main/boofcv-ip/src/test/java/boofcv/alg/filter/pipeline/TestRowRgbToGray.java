@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.color.ColorRgb;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+class TestRowRgbToGray {
+	Random rand = new Random(234);
+
+	@Test
+	void compareToColorRgb() {
+		Planar<GrayF32> rgb = new Planar<>(GrayF32.class,10,8,3);
+		GImageMiscOps.fillUniform(rgb,rand,0,255);
+
+		GrayF32 expected = new GrayF32(10,8);
+		ColorRgb.rgbToGray_Weighted(rgb,expected);
+
+		StripPipeline<Planar<GrayF32>> alg = new StripPipeline<>(ImageType.pl(3,GrayF32.class));
+		alg.add(new RowRgbToGray());
+
+		GrayF32 found = new GrayF32(1,1);
+		alg.process(rgb,found);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+}
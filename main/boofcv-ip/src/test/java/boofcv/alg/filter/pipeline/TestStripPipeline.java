@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.color.ColorRgb;
+import boofcv.alg.filter.derivative.DerivativeType;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.core.image.GConvertImage;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestStripPipeline {
+	Random rand = new Random(234);
+	int width = 40, height = 55;
+
+	/**
+	 * Compares a chain of operations against applying each one to the whole image
+	 */
+	@Test
+	void compareToImageOps() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		// more threads than the number of cores so that the image is always split into multiple strips
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			compareToImageOps_all();
+			BoofConcurrency.USE_CONCURRENT = true;
+			try( BoofConcurrency.Scope ignored = BoofConcurrency.useThreadPool(pool) ) {
+				compareToImageOps_all();
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+			pool.shutdown();
+		}
+	}
+
+	private void compareToImageOps_all() {
+		compareToImageOps(ImageType.pl(3,GrayU8.class));
+		compareToImageOps(ImageType.pl(3,GrayF32.class));
+		compareToImageOps(ImageType.il(3,InterleavedU8.class));
+		compareToImageOps(ImageType.il(3,InterleavedF32.class));
+	}
+
+	private <T extends ImageMultiBand<T>> void compareToImageOps( ImageType<T> type ) {
+		T rgb = type.createImage(width,height);
+		GImageMiscOps.fillUniform(rgb,rand,0,200);
+
+		RowConvolve blur = RowConvolve.gaussian(-1,3);
+		StripPipeline<T> alg = new StripPipeline<>(type);
+		alg.add(new RowRgbToGray()).add(blur).add(new RowGradient(DerivativeType.SOBEL));
+
+		GrayF32 derivX = new GrayF32(1,1);
+		GrayF32 derivY = new GrayF32(1,1);
+		alg.process(rgb,derivX,derivY);
+
+		// compute the expected solution one image at a time
+		Planar<GrayF32> rgbF = new Planar<>(GrayF32.class,width,height,3);
+		GConvertImage.convert(rgb,rgbF);
+		GrayF32 gray = new GrayF32(width,height);
+		ColorRgb.rgbToGray_Weighted(rgbF,gray);
+		GrayF32 blurred = blur(gray,blur.getHorizontal());
+		GrayF32 expectedX = gray.createSameShape();
+		GrayF32 expectedY = gray.createSameShape();
+		GradientSobel.process(blurred,expectedX,expectedY,extended());
+
+		BoofTesting.assertEquals(expectedX,derivX,1e-3);
+		BoofTesting.assertEquals(expectedY,derivY,1e-3);
+	}
+
+	static ImageBorder_F32 extended() {
+		return (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+	}
+
+	static GrayF32 blur( GrayF32 input , Kernel1D_F32 kernel ) {
+		return convolve(kernel,kernel,input);
+	}
+
+	/**
+	 * Naive separable convolution with an extended border. Unlike {@link boofcv.alg.filter.convolve.ConvolveImage} it can handle images
+	 * which are smaller than the kernel.
+	 */
+	static GrayF32 convolve( Kernel1D_F32 horizontal , Kernel1D_F32 vertical , GrayF32 input ) {
+		GrayF32 output = input.createSameShape();
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				float total = 0;
+				for (int i = 0; i < vertical.width; i++) {
+					int yy = clamp(y+i-vertical.offset,input.height);
+					for (int j = 0; j < horizontal.width; j++) {
+						int xx = clamp(x+j-horizontal.offset,input.width);
+						total += vertical.data[i]*horizontal.data[j]*input.get(xx,yy);
+					}
+				}
+				output.set(x,y,total);
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Naive 2D convolution with an extended border
+	 */
+	static GrayF32 convolve( Kernel2D_F32 kernel , GrayF32 input ) {
+		GrayF32 output = input.createSameShape();
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				float total = 0;
+				for (int i = 0; i < kernel.width; i++) {
+					int yy = clamp(y+i-kernel.offset,input.height);
+					for (int j = 0; j < kernel.width; j++) {
+						int xx = clamp(x+j-kernel.offset,input.width);
+						total += kernel.get(j,i)*input.get(xx,yy);
+					}
+				}
+				output.set(x,y,total);
+			}
+		}
+		return output;
+	}
+
+	private static int clamp( int value , int length ) {
+		return value < 0 ? 0 : value >= length ? length-1 : value;
+	}
+
+	/**
+	 * Stages which need more rows than the image has
+	 */
+	@Test
+	void smallImage() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				for (int height = 1; height <= 4; height++) {
+					GrayF32 input = new GrayF32(7,height);
+					GImageMiscOps.fillUniform(input,rand,0,100);
+
+					RowConvolve blur = RowConvolve.gaussian(-1,3);
+					StripPipeline<GrayF32> alg = new StripPipeline<>(ImageType.single(GrayF32.class));
+					alg.add(blur).add(blur);
+
+					GrayF32 found = new GrayF32(1,1);
+					alg.process(input,found);
+
+					BoofTesting.assertEquals(blur(blur(input,blur.getHorizontal()),blur.getHorizontal()),found,1e-3);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	/**
+	 * With no stages the input should be copied
+	 */
+	@Test
+	void noStages() {
+		GrayU8 input = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+
+		StripPipeline<GrayU8> alg = new StripPipeline<>(ImageType.single(GrayU8.class));
+		assertEquals(1,alg.getNumOutputs());
+
+		GrayF32 found = new GrayF32(1,1);
+		alg.process(input,found);
+
+		GrayF32 expected = new GrayF32(width,height);
+		ConvertImage.convert(input,expected);
+		BoofTesting.assertEquals(expected,found,1e-8);
+	}
+
+	/**
+	 * Read the input image directly from a direct buffer
+	 */
+	@Test
+	void byteBuffer() {
+		InterleavedU8 rgb = new InterleavedU8(width,height,3);
+		GImageMiscOps.fillUniform(rgb,rand,0,200);
+
+		// copy it into a direct buffer with padding at the end of each row
+		int offset = 5, stride = width*3+7;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset+stride*height);
+		for (int y = 0; y < height; y++) {
+			for (int i = 0; i < width*3; i++) {
+				buffer.put(offset+y*stride+i,rgb.data[rgb.getIndex(0,y)+i]);
+			}
+		}
+
+		StripPipeline<InterleavedU8> alg = new StripPipeline<>(ImageType.il(3,InterleavedU8.class));
+		alg.add(new RowRgbToGray()).add(RowConvolve.gaussian(-1,3)).add(RowPixelMath.scale(0.5f,2,1));
+
+		GrayF32 expected = new GrayF32(1,1);
+		GrayF32 found = new GrayF32(1,1);
+		alg.process(rgb,expected);
+		alg.process(new ByteBufferImage(buffer,offset,stride,width,height,3),found);
+
+		BoofTesting.assertEquals(expected,found,1e-8);
+
+		// input type doesn't match the buffer
+		assertThrows(IllegalArgumentException.class,()->
+				alg.process(new ByteBufferImage(buffer,offset,stride,width,height,1),found));
+	}
+
+	@Test
+	void subimage() {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+		GrayF32 expected = blur(input,RowConvolve.gaussian(-1,2).getHorizontal());
+
+		StripPipeline<GrayF32> alg = new StripPipeline<>(ImageType.single(GrayF32.class));
+		alg.add(RowConvolve.gaussian(-1,2));
+
+		GrayF32 found = new GrayF32(width,height);
+		BoofTesting.checkSubImage(this,"checkSubimage",true,alg,input,found,expected);
+	}
+
+	public void checkSubimage( StripPipeline<GrayF32> alg , GrayF32 input , GrayF32 found , GrayF32 expected ) {
+		alg.process(input,found);
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	@Test
+	void add_mismatchBands() {
+		StripPipeline<GrayF32> alg = new StripPipeline<>(ImageType.single(GrayF32.class));
+		assertThrows(IllegalArgumentException.class,()->alg.add(new RowRgbToGray()));
+		alg.add(new RowGradient(DerivativeType.THREE));
+		assertEquals(2,alg.getNumOutputs());
+		assertThrows(IllegalArgumentException.class,()->alg.add(RowConvolve.gaussian(-1,2)));
+	}
+
+	@Test
+	void process_wrongNumberOfOutputs() {
+		StripPipeline<GrayF32> alg = new StripPipeline<>(ImageType.single(GrayF32.class));
+		alg.add(new RowGradient(DerivativeType.THREE));
+		assertThrows(IllegalArgumentException.class,()->alg.process(new GrayF32(10,10),new GrayF32(10,10)));
+	}
+}
@@ -206,6 +206,40 @@ public abstract class GeneralChecksInterpolationPixelMB<T extends ImageMultiBand
 		for (int i = 0; i < numBands; i++) { assertEquals(tmp0[i],tmp1[i],1e-4); }
 	}
 
+	/**
+	 * Interpolating several points at once should produce the same results as interpolating them one at a time
+	 */
+	@Test
+	public void get_batch() {
+		T img = createImage(width, height, numBands);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "get_batch", false, img);
+	}
+	public void get_batch(T img) {
+		InterpolatePixelMB<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.interleavedValue((Class) img.getClass(), 5));
+		interp.setImage(img);
+
+		// include points inside, along the border, and outside the image
+		int N = 200;
+		int offsetPts = 3, offsetOut = 2;
+		float[] points = new float[offsetPts+N*2];
+		for (int i = 0; i < N; i++) {
+			points[offsetPts+i*2]   = rand.nextFloat()*(width+4)-2;
+			points[offsetPts+i*2+1] = rand.nextFloat()*(height+4)-2;
+		}
+		float[] found = new float[offsetOut+N*numBands];
+		interp.get(points,offsetPts,found,offsetOut,N);
+
+		for (int i = 0; i < N; i++) {
+			interp.get(points[offsetPts+i*2],points[offsetPts+i*2+1],tmp0);
+			for (int band = 0; band < numBands; band++) {
+				assertEquals(tmp0[band],found[offsetOut+i*numBands+band],1e-5f);
+			}
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height, numBands);
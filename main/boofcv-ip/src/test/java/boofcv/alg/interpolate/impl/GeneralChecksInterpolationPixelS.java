@@ -174,6 +174,72 @@ public abstract class GeneralChecksInterpolationPixelS<T extends ImageGray<T>> {
 		assertEquals(5,interp.get(0,2330),1e-6);
 	}
 
+	/**
+	 * Interpolating several points at once should produce the same results as interpolating them one at a time
+	 */
+	@Test
+	void get_batch() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "get_batch", false, img);
+	}
+	public void get_batch(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		// include points inside, along the border, and outside the image
+		int N = 200;
+		int offsetPts = 3, offsetOut = 2;
+		float[] points = new float[offsetPts+N*2];
+		for (int i = 0; i < N; i++) {
+			points[offsetPts+i*2]   = rand.nextFloat()*(width+4)-2;
+			points[offsetPts+i*2+1] = rand.nextFloat()*(height+4)-2;
+		}
+		float[] found = new float[offsetOut+N];
+		interp.get(points,offsetPts,found,offsetOut,N);
+
+		for (int i = 0; i < N; i++) {
+			float x = points[offsetPts+i*2];
+			float y = points[offsetPts+i*2+1];
+			assertEquals(interp.get(x,y),found[offsetOut+i],1e-5f);
+		}
+	}
+
+	/**
+	 * Interpolating along a row should produce the same results as interpolating each point one at a time
+	 */
+	@Test
+	void getRow() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "getRow", false, img);
+	}
+	public void getRow(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		int offsetOut = 2;
+		float[] found = new float[offsetOut+width];
+		float[] rows = new float[]{-1.5f,0,10.3f,height-1.7f,height-1,height+0.5f};
+		for( float y : rows ) {
+			for( float stepX : new float[]{1.0f,0.7f} ) {
+				float x0 = -2.2f;
+				int length = (int)((width+4)/stepX);
+				if( found.length < offsetOut+length )
+					found = new float[offsetOut+length];
+				interp.getRow(x0,y,stepX,found,offsetOut,length);
+
+				for (int i = 0; i < length; i++) {
+					assertEquals(interp.get(x0+i*stepX,y),found[offsetOut+i],1e-5f);
+				}
+			}
+		}
+	}
+
 	@Test
 	void getImage() {
 		T img = createImage(width, height);
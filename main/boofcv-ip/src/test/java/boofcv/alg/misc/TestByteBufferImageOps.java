@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertByteBufferImage;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compares results against the same operation applied to an array backed image
+ *
+ * @author Peter Abeles
+ */
+class TestByteBufferImageOps {
+	Random rand = new Random(234);
+
+	int width = 45;
+	int height = 30;
+
+	// padding so that startIndex and stride are exercised
+	int offset = 7;
+	int padding = 5;
+
+	@Test
+	void fill() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				InterleavedU8 expected = randomImage(3);
+				ByteBufferImage found = wrap(expected);
+
+				ImageMiscOps.fill(expected,123);
+				ByteBufferImageOps.fill(found,123);
+				checkEquals(expected,found);
+
+				ImageMiscOps.fillBand(expected,1,9);
+				ByteBufferImageOps.fillBand(found,1,9);
+				checkEquals(expected,found);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	@Test
+	void convert_gray() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				GrayU8 gray = new GrayU8(width,height);
+				ImageMiscOps.fillUniform(gray,rand,0,255);
+				ByteBufferImage input = wrap(gray);
+
+				BoofTesting.assertEquals(gray,ByteBufferImageOps.convert(input,(GrayU8)null),0);
+				BoofTesting.assertEquals(ConvertImage.convert(gray,(GrayF32)null),
+						ByteBufferImageOps.convert(input,(GrayF32)null),0);
+
+				// back into the buffer
+				GrayU8 modified = gray.createSameShape();
+				ImageMiscOps.fillUniform(modified,rand,0,255);
+				ByteBufferImageOps.convert(modified,input);
+				BoofTesting.assertEquals(modified,ByteBufferImageOps.convert(input,(GrayU8)null),0);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	@Test
+	void convert_interleaved() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				InterleavedU8 original = randomImage(3);
+				ByteBufferImage input = wrap(original);
+
+				BoofTesting.assertEquals(original,ByteBufferImageOps.convert(input,(InterleavedU8)null),0);
+				BoofTesting.assertEquals(ConvertImage.convert(original,(InterleavedF32)null),
+						ByteBufferImageOps.convert(input,(InterleavedF32)null),0);
+
+				// back into the buffer
+				InterleavedU8 modified = randomImage(3);
+				ByteBufferImageOps.convert(modified,input);
+				checkEquals(modified,input);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	@Test
+	void average() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				InterleavedU8 original = randomImage(3);
+				ByteBufferImage input = wrap(original);
+
+				GrayU8 expected = ConvertImage.average(original,(GrayU8)null);
+				BoofTesting.assertEquals(expected,ByteBufferImageOps.average(input,(GrayU8)null),0);
+
+				GrayF32 found = ByteBufferImageOps.average(input,(GrayF32)null);
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						float sum = original.getBand(x,y,0)+original.getBand(x,y,1)+original.getBand(x,y,2);
+						assertEquals(sum/3.0f,found.get(x,y),1e-4f);
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	@Test
+	void threshold() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				GrayU8 gray = new GrayU8(width,height);
+				ImageMiscOps.fillUniform(gray,rand,0,255);
+				ByteBufferImage input = wrap(gray);
+
+				for( boolean down : new boolean[]{false,true} ) {
+					GrayU8 expected = ThresholdImageOps.threshold(gray,null,100,down);
+					BoofTesting.assertEquals(expected,ByteBufferImageOps.threshold(input,null,100,down),0);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	@Test
+	void checkArguments() {
+		ByteBufferImage input = wrap(randomImage(3));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageOps.threshold(input,null,2,true));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageOps.convert(input,(GrayU8)null));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageOps.fillBand(input,3,2));
+		assertThrows(IllegalArgumentException.class,()->
+				ByteBufferImageOps.convert(new InterleavedU8(width,height,2),input));
+	}
+
+	private InterleavedU8 randomImage( int numBands ) {
+		InterleavedU8 image = new InterleavedU8(width,height,numBands);
+		ImageMiscOps.fillUniform(image,rand,0,255);
+		return image;
+	}
+
+	/**
+	 * Copies the image into a direct buffer with padding between each row
+	 */
+	private ByteBufferImage wrap( InterleavedU8 image ) {
+		int stride = width*image.numBands + padding;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset + stride*height);
+		ConvertByteBufferImage.from_IU8_to_BU8(image,buffer,offset,stride);
+		return ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,image.numBands);
+	}
+
+	private ByteBufferImage wrap( GrayU8 image ) {
+		int stride = width + padding;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset + stride*height);
+		ConvertByteBufferImage.from_U8_to_1BU8(image,buffer,offset,stride);
+		return ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,1);
+	}
+
+	private static void checkEquals( InterleavedU8 expected , ByteBufferImage found ) {
+		for (int y = 0; y < expected.height; y++) {
+			for (int x = 0; x < expected.width; x++) {
+				for (int band = 0; band < expected.numBands; band++) {
+					assertEquals(expected.getBand(x,y,band),found.get(x,y,band));
+				}
+			}
+		}
+	}
+}
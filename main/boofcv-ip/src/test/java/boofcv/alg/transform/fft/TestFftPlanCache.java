@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFftPlanCache {
+
+	@BeforeEach
+	public void before() {
+		FftPlanCache.clear();
+	}
+
+	@AfterEach
+	public void after() {
+		FftPlanCache.clear();
+	}
+
+	@Test
+	public void acquireRelease_1D() {
+		GeneralPurposeFFT_F32_1D a = FftPlanCache.acquireF32(20);
+		GeneralPurposeFFT_F32_1D b = FftPlanCache.acquireF32(20);
+		assertNotSame(a,b);
+		assertEquals(20,a.getSize());
+		assertEquals(0,FftPlanCache.size());
+
+		FftPlanCache.release(a);
+		assertEquals(1,FftPlanCache.size());
+		assertSame(a,FftPlanCache.acquireF32(20));
+		assertEquals(0,FftPlanCache.size());
+
+		// different size should create a new plan
+		FftPlanCache.release(a);
+		GeneralPurposeFFT_F32_1D c = FftPlanCache.acquireF32(21);
+		assertNotSame(a,c);
+		assertEquals(21,c.getSize());
+
+		// different type
+		GeneralPurposeFFT_F64_1D d = FftPlanCache.acquireF64(20);
+		assertEquals(20,d.getSize());
+		FftPlanCache.release(d);
+		assertSame(d,FftPlanCache.acquireF64(20));
+	}
+
+	@Test
+	public void acquireRelease_2D() {
+		GeneralPurposeFFT_F32_2D a = FftPlanCache.acquireF32(20,30);
+		assertEquals(20,a.getRows());
+		assertEquals(30,a.getColumns());
+		FftPlanCache.release(a);
+		assertNotSame(a,FftPlanCache.acquireF32(30,20));
+		assertSame(a,FftPlanCache.acquireF32(20,30));
+
+		GeneralPurposeFFT_F64_2D b = FftPlanCache.acquireF64(20,30);
+		FftPlanCache.release(b);
+		assertSame(b,FftPlanCache.acquireF64(20,30));
+	}
+
+	/**
+	 * The cache should be cleared when it gets too large
+	 */
+	@Test
+	public void maximumSize() {
+		for (int i = 0; i < FftPlanCache.MAX_PLANS; i++) {
+			FftPlanCache.release(new GeneralPurposeFFT_F32_1D(i+1));
+		}
+		assertEquals(FftPlanCache.MAX_PLANS,FftPlanCache.size());
+		FftPlanCache.release(new GeneralPurposeFFT_F32_1D(2));
+		assertEquals(1,FftPlanCache.size());
+	}
+}
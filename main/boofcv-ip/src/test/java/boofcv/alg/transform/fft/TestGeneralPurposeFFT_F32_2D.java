@@ -76,6 +76,46 @@ public class TestGeneralPurposeFFT_F32_2D {
 		}
 	}
 
+	@Test
+	public void realHalf() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				checkRealHalf(sizes[i], sizes[j]);
+			}
+		}
+	}
+
+	private void checkRealHalf(int numRows, int numColumns) {
+		int halfColumns = numColumns/2+1;
+		float input[] = new float[numRows*numColumns];
+		float full[] = new float[numRows*numColumns*2];
+		float half[] = new float[numRows*halfColumns*2];
+
+		for( int i = 0; i < input.length; i++ ) {
+			input[i] = full[i] = (float)rand.nextGaussian();
+		}
+
+		GeneralPurposeFFT_F32_2D alg = new GeneralPurposeFFT_F32_2D(numRows,numColumns);
+		alg.realForwardFull(full);
+		alg.realForwardHalf(input, half);
+
+		// the half spectrum should be identical to the first columns of the full spectrum
+		// error grows with the magnitude of the spectrum
+		double tolSpectrum = tol*Math.sqrt(numRows*numColumns);
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < halfColumns*2; col++ ) {
+				assertEquals(full[row*numColumns*2+col], half[row*halfColumns*2+col], tolSpectrum);
+			}
+		}
+
+		float found[] = new float[input.length];
+		alg.realInverseHalf(half, found, true);
+
+		for( int i = 0; i < input.length; i++ ) {
+			assertEquals(input[i], found[i], tol*Math.max(1,Math.abs(input[i])));
+		}
+	}
+
 	@Test
 	public void complex() {
 		for( int i = 0; i < sizes.length; i++ ) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the concurrent implementation against the single thread implementation
+ *
+ * @author Peter Abeles
+ */
+public class TestGeneralPurposeFFT_F64_2D_MT {
+
+	double tol = 1e-8;
+
+	Random rand = new Random(234);
+
+	int sizes[] = new int[]{1,2,3,16,32,100,103};
+
+	@Test
+	public void compareToSingleThread() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				compare(sizes[i], sizes[j]);
+			}
+		}
+	}
+
+	private void compare( int numRows , int numColumns ) {
+		GeneralPurposeFFT_F64_2D single = new GeneralPurposeFFT_F64_2D(numRows,numColumns);
+		GeneralPurposeFFT_F64_2D_MT alg = new GeneralPurposeFFT_F64_2D_MT(numRows,numColumns);
+
+		double input[] = random(numRows*numColumns*2);
+
+		double expected[] = input.clone();
+		double found[] = input.clone();
+		single.complexForward(expected);
+		alg.complexForward(found);
+		check(expected,found);
+
+		single.complexInverse(expected,true);
+		alg.complexInverse(found,true);
+		check(expected,found);
+
+		// only the first half contains real data
+		Arrays.fill(input,numRows*numColumns,input.length,0);
+		expected = input.clone();
+		found = input.clone();
+		single.realForwardFull(expected);
+		alg.realForwardFull(found);
+		check(expected,found);
+
+		expected = input.clone();
+		found = input.clone();
+		single.realInverseFull(expected,true);
+		alg.realInverseFull(found,true);
+		check(expected,found);
+
+		int halfLength = numRows*(numColumns/2+1)*2;
+		expected = new double[halfLength];
+		found = new double[halfLength];
+		single.realForwardHalf(input,expected);
+		alg.realForwardHalf(input,found);
+		check(expected,found);
+
+		double expectedReal[] = new double[numRows*numColumns];
+		double foundReal[] = new double[numRows*numColumns];
+		single.realInverseHalf(expected,expectedReal,true);
+		alg.realInverseHalf(found,foundReal,true);
+		check(expectedReal,foundReal);
+	}
+
+	private double[] random( int length ) {
+		double data[] = new double[length];
+		for( int i = 0; i < length; i++ ) {
+			data[i] = rand.nextGaussian();
+		}
+		return data;
+	}
+
+	private void check( double expected[] , double found[] ) {
+		for( int i = 0; i < expected.length; i++ ) {
+			assertEquals(expected[i],found[i],tol*Math.max(1,Math.abs(expected[i])));
+		}
+	}
+}
@@ -42,6 +42,15 @@ class TestIntegralImageOps {
 		assertEquals(expected, found);
 	}
 
+	@Test
+	void transformSumSq() {
+		int expected = countName("transformSumSq",IntegralImageOps.class);
+		int found = countName("transformSumSq",ImplIntegralImageOps.class);
+
+		assertTrue(found != 0 );
+		assertEquals(expected, found);
+	}
+
 	@Test
 	void convolve() {
 		int expected = countName("convolve", IntegralImageOps.class);
@@ -88,6 +88,51 @@ public class TestImplIntegralImageOps {
 		}
 	}
 
+	@Test
+	public void transformSumSq() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transformSumSq",ImplIntegralImageOps.class,"transformSumSq");
+		assertEquals(3, numFound);
+	}
+
+	public void transformSumSq( Method m ) {
+		Class paramType[] = m.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageGray integral = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		ImageGray integralSq = GeneralizedImageOps.createSingleBand(paramType[2], width, height);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this,"checkTransformSumSqResults",true,m,input,integral,integralSq);
+	}
+
+	public void checkTransformSumSqResults(Method m , ImageGray a, ImageGray b, ImageGray c) throws InvocationTargetException, IllegalAccessException {
+
+		m.invoke(null,a,b,c);
+
+		GImageGray aa = FactoryGImageGray.wrap(a);
+		GImageGray bb = FactoryGImageGray.wrap(b);
+		GImageGray cc = FactoryGImageGray.wrap(c);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				double total = 0;
+				double totalSq = 0;
+
+				for( int i = 0; i <= y; i++ ) {
+					for( int j = 0; j <= x; j++ ) {
+						double value = aa.get(j,i).doubleValue();
+						total += value;
+						totalSq += value*value;
+					}
+				}
+
+				assertEquals(total,bb.get(x,y).doubleValue(),1e-1,x+" "+y);
+				assertEquals(totalSq,cc.get(x,y).doubleValue(),1e-1,x+" "+y);
+			}
+		}
+	}
+
 	@Test
 	public void convolveSparse() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolveSparse",ImplIntegralImageOps.class,"convolveSparse");
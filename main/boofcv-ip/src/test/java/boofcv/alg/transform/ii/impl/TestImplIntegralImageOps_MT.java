@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+class TestImplIntegralImageOps_MT extends CompareIdenticalFunctions {
+	Random rand = new Random(234);
+	int width = 40;
+	int height = 60;
+
+	TestImplIntegralImageOps_MT() {
+		super(ImplIntegralImageOps_MT.class, ImplIntegralImageOps.class);
+	}
+
+	@Test
+	void performTests() {
+		performTests(8);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class[] params = candidate.getParameterTypes();
+
+		Object[] inputs = new Object[params.length];
+		ImageGray input = GeneralizedImageOps.createSingleBand(params[0], width, height);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+		inputs[0] = input;
+		for (int i = 1; i < params.length; i++) {
+			inputs[i] = GeneralizedImageOps.createSingleBand(params[i], width, height);
+		}
+		return new Object[][]{inputs};
+	}
+}
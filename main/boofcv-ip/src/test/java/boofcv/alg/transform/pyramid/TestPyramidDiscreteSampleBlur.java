@@ -19,15 +19,24 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrencyProfile;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ImagePyramid;
 import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
@@ -90,6 +99,130 @@ public class TestPyramidDiscreteSampleBlur extends GenericPyramidTests<GrayF32>
 		}
 	}
 
+	/**
+	 * The concurrent implementation blurs and down samples in a single pass. Should produce the same results
+	 */
+	@Test
+	public void compareConcurrent() {
+		compareConcurrent(new GrayF32(width+1,height+3),
+				FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,2));
+		compareConcurrent(new GrayU8(width+1,height+3),
+				FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,2));
+	}
+
+	private <T extends ImageGray<T>> void compareConcurrent( T input , Kernel1D kernel ) {
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		ImageType<T> imageType = input.getImageType();
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			PyramidDiscreteSampleBlur<T> expected =
+					new PyramidDiscreteSampleBlur<>(kernel,2,imageType,false,new int[]{1,2,4,8});
+			expected.process(input);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			PyramidDiscreteSampleBlur<T> found =
+					new PyramidDiscreteSampleBlur<>(kernel,2,imageType,false,new int[]{1,2,4,8});
+			found.process(input);
+
+			for (int i = 0; i < expected.getNumLayers(); i++) {
+				BoofTesting.assertEquals(expected.getLayer(i),found.getLayer(i),1e-4);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * With a threshold in the profile the larger layers are computed concurrently and the smaller ones are not.
+	 * The mix should produce the same results as the single threaded code
+	 */
+	@Test
+	public void compareConcurrent_threshold() {
+		GrayF32 input = new GrayF32(width+1,height+3);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,2);
+		ImageType<GrayF32> imageType = input.getImageType();
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		ConcurrencyProfile originalProfile = BoofConcurrency.getProfile();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			PyramidDiscreteSampleBlur<GrayF32> expected =
+					new PyramidDiscreteSampleBlur<>(kernel,2,imageType,false,new int[]{2,4,8});
+			expected.process(input);
+
+			// only the first layer is large enough to be computed concurrently
+			GrayF32 layer0 = expected.getLayer(0);
+			ConcurrencyProfile profile = new ConcurrencyProfile();
+			profile.setThreshold(PyramidDiscreteSampleBlur.class,"blurDownSample",layer0.width*layer0.height);
+			BoofConcurrency.setProfile(profile);
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			assertTrue(BoofConcurrency.isUseConcurrent(PyramidDiscreteSampleBlur.class,"blurDownSample",layer0));
+			assertFalse(BoofConcurrency.isUseConcurrent(
+					PyramidDiscreteSampleBlur.class,"blurDownSample",expected.getLayer(1)));
+
+			PyramidDiscreteSampleBlur<GrayF32> found =
+					new PyramidDiscreteSampleBlur<>(kernel,2,imageType,false,new int[]{2,4,8});
+			found.process(input);
+
+			for (int i = 0; i < expected.getNumLayers(); i++) {
+				BoofTesting.assertEquals(expected.getLayer(i),found.getLayer(i),1e-4);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setProfile(originalProfile);
+		}
+	}
+
+	/**
+	 * Large kernel with skips which aren't a power of two. The output should be the same as convolving the
+	 * full resolution image and sampling it, independent of the concurrency setting
+	 */
+	@Test
+	public void largeKernel_oddSkip() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				for( int skip : new int[]{3,4}) {
+					checkLargeKernel(new GrayF32(width+1,height+3),
+							FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,5),skip,1e-4);
+					checkLargeKernel(new GrayU8(width+1,height+3),
+							FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,5),skip,1);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	private <T extends ImageGray<T>> void checkLargeKernel( T input , Kernel1D kernel , int skip , double tol ) {
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		ImageType<T> imageType = input.getImageType();
+
+		T storage = input.createSameShape();
+		T convolved = input.createSameShape();
+		GConvolveImageOps.horizontalNormalized(kernel,input,storage);
+		GConvolveImageOps.verticalNormalized(kernel,storage,convolved);
+
+		PyramidDiscreteSampleBlur<T> alg =
+				new PyramidDiscreteSampleBlur<>(kernel,2,imageType,false,new int[]{1,skip});
+		alg.process(input);
+
+		T layer = alg.getLayer(1);
+		assertEquals((input.width+skip-1)/skip,layer.width);
+		assertEquals((input.height+skip-1)/skip,layer.height);
+		for (int y = 0; y < layer.height; y++) {
+			for (int x = 0; x < layer.width; x++) {
+				double expected = GeneralizedImageOps.get(convolved,x*skip,y*skip);
+				assertEquals(expected, GeneralizedImageOps.get(layer,x,y), tol);
+			}
+		}
+	}
+
 	/**
 	 * Makes sure the amount of Gaussian blur in each level is correctly computed
 	 */
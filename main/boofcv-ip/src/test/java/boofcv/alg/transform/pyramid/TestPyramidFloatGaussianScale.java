@@ -21,6 +21,7 @@ package boofcv.alg.transform.pyramid;
 import boofcv.abst.distort.FDistort;
 import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.misc.BoofMiscOps;
@@ -86,6 +87,29 @@ public class TestPyramidFloatGaussianScale extends GenericPyramidTests<GrayF32>
 		BoofTesting.assertEquals(expected,found, 1e-4);
 	}
 
+	/**
+	 * Large sigmas should be applied with the recursive filter and small ones with a kernel
+	 */
+	@Test
+	public void recursiveBlur() {
+		GrayF32 img = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(img,rand,0,100);
+
+		InterpolatePixelS<GrayF32> interp = FactoryInterpolation.bilinearPixelS(img, BorderType.EXTENDED);
+		double scales[] = new double[]{1,1};
+		PyramidFloatGaussianScale<GrayF32> alg = new PyramidFloatGaussianScale<>(interp,scales,sigmas,imageType);
+		alg.setRecursiveBlur(true);
+		alg.process(img);
+
+		GrayF32 expected0 = new GrayF32(width,height);
+		FactoryBlurFilter.gaussian(ImageType.single(GrayF32.class),sigmas[0],-1).process(img,expected0);
+		BoofTesting.assertEquals(expected0,alg.getLayer(0),1e-4);
+
+		GrayF32 expected1 = new GrayF32(width,height);
+		FactoryBlurFilter.gaussianRecursive(ImageType.single(GrayF32.class),sigmas[1]).process(expected0,expected1);
+		BoofTesting.assertEquals(expected1,alg.getLayer(1),1e-4);
+	}
+
 	@Override
 	protected ImagePyramid<GrayF32> createPyramid(int... scales) {
 		double a[] = BoofMiscOps.convertTo_F64(scales);
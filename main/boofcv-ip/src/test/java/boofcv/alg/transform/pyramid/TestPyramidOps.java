@@ -35,6 +35,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 
 /**
@@ -62,6 +64,36 @@ public class TestPyramidOps {
 		}
 	}
 
+	/**
+	 * The storage should be recycled when it has the correct number of layers
+	 */
+	@Test
+	public void declareOutput_storage() {
+		DummyDiscrete<GrayF32> in = new DummyDiscrete<>(GrayF32.class,false,scales);
+		in.initialize(width,height);
+		GrayF32[] storage = PyramidOps.declareOutput(in,GrayF32.class);
+		GrayF32 layer0 = storage[0];
+
+		// change the image size. the same images should be returned after being reshaped
+		in.initialize(width/2,height/2);
+		GrayF32[] out = PyramidOps.declareOutput(in,GrayF32.class,storage);
+		assertSame(storage,out);
+		assertSame(layer0,out[0]);
+		for( int i = 0; i < in.getNumLayers(); i++ ) {
+			assertEquals(out[i].width,in.getWidth(i));
+			assertEquals(out[i].height,in.getHeight(i));
+		}
+
+		// the wrong number of layers or no storage should create a new array
+		in = new DummyDiscrete<>(GrayF32.class,false,new int[]{1,2});
+		in.initialize(width,height);
+		out = PyramidOps.declareOutput(in,GrayF32.class,storage);
+		assertNotSame(storage,out);
+		assertEquals(2,out.length);
+		out = PyramidOps.declareOutput(in,GrayF32.class,null);
+		assertEquals(2,out.length);
+	}
+
 	@Test
 	public void filter() {
 		FilterImageInterface<GrayF32,GrayF32> filter = FactoryBlurFilter.gaussian(ImageType.single(GrayF32.class),-1,1);
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplPyramidBlurDecimate {
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against a normalized convolution across the entire image which is then sampled
+	 */
+	@Test
+	void compareToSampled_F32() {
+		GrayF32 input = new GrayF32(61,47);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		BoofTesting.checkSubImage(this, "compareToSampled_F32", true, input);
+	}
+
+	public void compareToSampled_F32(GrayF32 input) {
+		for( int radius = 1; radius <= 5; radius += 2 ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+			for( int skip = 1; skip <= 4; skip++ ) {
+				GrayF32 found = new GrayF32(outputSize(input.width,skip),outputSize(input.height,skip));
+				ImplPyramidBlurDecimate.process(kernel,input,found,skip,null);
+
+				GrayF32 expected = sample(kernel,input,skip);
+
+				BoofTesting.assertEquals(expected,found,1e-3);
+			}
+		}
+	}
+
+	@Test
+	void compareToSampled_U8() {
+		GrayU8 input = new GrayU8(61,47);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		BoofTesting.checkSubImage(this, "compareToSampled_U8", true, input);
+	}
+
+	public void compareToSampled_U8(GrayU8 input) {
+		for( int radius = 1; radius <= 5; radius += 2 ) {
+			Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+			for( int skip = 1; skip <= 4; skip++ ) {
+				GrayU8 found = new GrayU8(outputSize(input.width,skip),outputSize(input.height,skip));
+				ImplPyramidBlurDecimate.process(kernel,input,found,skip,null);
+
+				GrayU8 expected = sample(kernel,input,skip);
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+
+	/**
+	 * The kernel is wider than the image
+	 */
+	@Test
+	void smallImage() {
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,5);
+		GrayF32 input = new GrayF32(8,9);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		GrayF32 found = new GrayF32(outputSize(input.width,2),outputSize(input.height,2));
+		ImplPyramidBlurDecimate.process(kernel,input,found,2,null);
+
+		GrayF32 expected = sample(kernel,input,2);
+
+		BoofTesting.assertEquals(expected,found,1e-3);
+	}
+
+	/**
+	 * Size of the output image when every sample inside the input image is written
+	 */
+	private static int outputSize( int length , int skip ) {
+		return (length+skip-1)/skip;
+	}
+
+	private static GrayF32 sample( Kernel1D_F32 kernel, GrayF32 input, int skip ) {
+		GrayF32 storage = input.createSameShape();
+		GrayF32 blurred = input.createSameShape();
+		ConvolveImageNormalized.horizontal(kernel,input,storage);
+		ConvolveImageNormalized.vertical(kernel,storage,blurred);
+
+		GrayF32 output = new GrayF32(outputSize(input.width,skip),outputSize(input.height,skip));
+		for (int y = 0; y < output.height; y++) {
+			for (int x = 0; x < output.width; x++) {
+				output.set(x,y,blurred.get(x*skip,y*skip));
+			}
+		}
+		return output;
+	}
+
+	private static GrayU8 sample( Kernel1D_S32 kernel, GrayU8 input, int skip ) {
+		GrayU8 storage = input.createSameShape();
+		GrayU8 blurred = input.createSameShape();
+		ConvolveImageNormalized.horizontal(kernel,input,storage);
+		ConvolveImageNormalized.vertical(kernel,storage,blurred);
+
+		GrayU8 output = new GrayU8(outputSize(input.width,skip),outputSize(input.height,skip));
+		for (int y = 0; y < output.height; y++) {
+			for (int x = 0; x < output.width; x++) {
+				output.set(x,y,blurred.get(x*skip,y*skip));
+			}
+		}
+		return output;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplPyramidBlurDecimate_MT {
+	Random rand = new Random(234);
+
+	@Test
+	void compareToSingle_F32() {
+		GrayF32 input = new GrayF32(201,210);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		BoofTesting.checkSubImage(this, "compareToSingle_F32", true, input);
+	}
+
+	public void compareToSingle_F32(GrayF32 input) {
+		for( int radius = 1; radius <= 5; radius += 2 ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+			for( int skip = 1; skip <= 3; skip++ ) {
+				GrayF32 expected = new GrayF32(input.width/skip,input.height/skip);
+				GrayF32 found = expected.createSameShape();
+
+				ImplPyramidBlurDecimate.process(kernel,input,expected,skip,null);
+				ImplPyramidBlurDecimate_MT.process(kernel,input,found,skip,null);
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+
+	@Test
+	void compareToSingle_U8() {
+		GrayU8 input = new GrayU8(201,210);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		BoofTesting.checkSubImage(this, "compareToSingle_U8", true, input);
+	}
+
+	public void compareToSingle_U8(GrayU8 input) {
+		for( int radius = 1; radius <= 5; radius += 2 ) {
+			Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+			for( int skip = 1; skip <= 3; skip++ ) {
+				GrayU8 expected = new GrayU8(input.width/skip,input.height/skip);
+				GrayU8 found = expected.createSameShape();
+
+				ImplPyramidBlurDecimate.process(kernel,input,expected,skip,null);
+				ImplPyramidBlurDecimate_MT.process(kernel,input,found,skip,null);
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+}
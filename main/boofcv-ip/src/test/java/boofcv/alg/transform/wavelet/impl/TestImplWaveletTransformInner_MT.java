@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+class TestImplWaveletTransformInner_MT extends CompareIdenticalFunctions {
+	Random rand = new Random(234);
+	int width = 41;
+	int height = 61;
+
+	TestImplWaveletTransformInner_MT() {
+		super(ImplWaveletTransformInner_MT.class, ImplWaveletTransformInner.class);
+	}
+
+	@Test
+	void performTests() {
+		performTests(8);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class[] params = candidate.getParameterTypes();
+		boolean inverse = candidate.getName().contains("Inverse");
+		boolean isFloat = params[params.length-1] == GrayF32.class;
+
+		WaveletDescription desc = isFloat ?
+				FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT) :
+				FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
+
+		// odd sized images to make sure the padded last row/column is handled
+		ImageGray original = GeneralizedImageOps.createSingleBand(params[params.length-1], width, height);
+		ImageGray transformed = GeneralizedImageOps.createSingleBand(params[params.length-1], width+1, height+1);
+
+		ImageGray input = inverse ? transformed : original;
+		ImageGray output = inverse ? (ImageGray)original.createSameShape() : (ImageGray)transformed.createSameShape();
+		GImageMiscOps.fillUniform(input,rand,0,100);
+		return new Object[][]{{desc.getForward(),input,output}};
+	}
+}
@@ -18,11 +18,20 @@
 
 package boofcv.concurrency;
 
+import boofcv.alg.misc.PixelMath;
 import boofcv.misc.BoofMiscOps;
+import boofcv.struct.image.GrayU8;
 import org.ddogleg.struct.GrowQueue_I32;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -47,6 +56,27 @@ class TestBoofConcurrency {
 		assertEquals(90,counter.value);
 	}
 
+	@Test
+	void loopFor_step() {
+		GrowQueue_I32 found = new GrowQueue_I32();
+		BoofConcurrency.loopFor(10,21,2,i->{
+			synchronized (found) {
+				found.add(i);
+			}
+		});
+
+		// the last value should be included even though the range isn't a multiple of the step
+		assertEquals(6,found.size);
+		found.sort();
+		for (int i = 0; i < found.size; i++) {
+			assertEquals(10+i*2,found.get(i));
+		}
+
+		Counter counter = new Counter();
+		BoofConcurrency.loopFor(10,20,2,i->counter.increment());
+		assertEquals(5,counter.value);
+	}
+
 	@Test
 	void loopBlocks() {
 		GrowQueue_I32 found = new GrowQueue_I32();
@@ -62,6 +92,129 @@ class TestBoofConcurrency {
 		findPair(found,76,100);
 	}
 
+	@Test
+	void loopFor_exception() {
+		assertThrows(IllegalArgumentException.class,()->
+			BoofConcurrency.loopFor(0,100,i->{
+				if( i == 50 )
+					throw new IllegalArgumentException("Expected");
+			}));
+		assertThrows(IllegalArgumentException.class,()->
+			BoofConcurrency.loopFor(0,100,5,i->{
+				if( i == 50 )
+					throw new IllegalArgumentException("Expected");
+			}));
+	}
+
+	@Test
+	void loopBlocks_exception() {
+		assertThrows(IllegalArgumentException.class,()->
+			BoofConcurrency.loopBlocks(0,100,(i0,i1)->{throw new IllegalArgumentException("Expected");}));
+		assertThrows(IllegalArgumentException.class,()->
+			BoofConcurrency.loopBlocks(0,100,5,(i0,i1)->{throw new IllegalArgumentException("Expected");}));
+	}
+
+	/**
+	 * A pool assigned to a thread should be used by it and by nested calls
+	 */
+	@Test
+	void useThreadPool() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			assertNotSame(pool,BoofConcurrency.getThreadPool());
+
+			try( BoofConcurrency.Scope ignore = BoofConcurrency.useThreadPool(pool) ) {
+				assertSame(pool,BoofConcurrency.getThreadPool());
+				assertEquals(2,BoofConcurrency.getMaxThreads());
+
+				Counter counter = new Counter();
+				BoofConcurrency.loopFor(0,20,i->{
+					assertSame(pool,((ForkJoinWorkerThread)Thread.currentThread()).getPool());
+					// nested calls should stay inside the same pool
+					assertSame(pool,BoofConcurrency.getThreadPool());
+					counter.increment();
+				});
+				assertEquals(20,counter.value);
+			}
+
+			// The previous pool should be restored
+			assertNotSame(pool,BoofConcurrency.getThreadPool());
+			assertEquals(numThreads,BoofConcurrency.getMaxThreads());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Pools assigned to one thread should not be seen by another
+	 */
+	@Test
+	void useThreadPool_otherThread() throws InterruptedException {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try( BoofConcurrency.Scope ignore = BoofConcurrency.useThreadPool(pool) ) {
+			ForkJoinPool[] found = new ForkJoinPool[1];
+			Thread thread = new Thread(()->found[0]=BoofConcurrency.getThreadPool());
+			thread.start();
+			thread.join();
+			assertNotNull(found[0]);
+			assertNotSame(pool,found[0]);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void isUseConcurrent_profile() {
+		ConcurrencyProfile original = BoofConcurrency.getProfile();
+		try {
+			ConcurrencyProfile profile = new ConcurrencyProfile();
+			profile.setThreshold(PixelMath.class,100*100);
+			BoofConcurrency.setProfile(profile);
+
+			assertFalse(BoofConcurrency.isUseConcurrent(PixelMath.class,new GrayU8(99,100)));
+			assertTrue(BoofConcurrency.isUseConcurrent(PixelMath.class,new GrayU8(100,100)));
+			assertTrue(BoofConcurrency.isUseConcurrent(String.class,new GrayU8(1,1)));
+
+			// functions use their own threshold if there is one
+			profile.setThreshold(PixelMath.class,"multiply",50*50);
+			assertTrue(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",new GrayU8(50,50)));
+			assertFalse(BoofConcurrency.isUseConcurrent(PixelMath.class,"divide",new GrayU8(50,50)));
+
+			// same decision when only the number of pixels is known
+			assertTrue(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",50*50));
+			assertFalse(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",50*50-1));
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			assertFalse(BoofConcurrency.isUseConcurrent(PixelMath.class,new GrayU8(100,100)));
+			assertFalse(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",new GrayU8(100,100)));
+			assertFalse(BoofConcurrency.isUseConcurrent(PixelMath.class,"multiply",100*100));
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setProfile(original);
+		}
+	}
+
+	/**
+	 * A profile which can't be loaded at startup should result in the default profile and not an exception
+	 */
+	@Test
+	void loadDefaultProfile_bad() throws IOException {
+		ConcurrencyProfile found = BoofConcurrency.loadDefaultProfile("/this/file/does/not/exist.txt");
+		assertEquals(new ConcurrencyProfile().getDefaultThreshold(),found.getDefaultThreshold());
+
+		File file = File.createTempFile("profile",".txt");
+		try {
+			try( Writer writer = new FileWriter(file) ) {
+				writer.write("PixelMath=bad\n");
+			}
+			assertNotNull(BoofConcurrency.loadDefaultProfile(file.getPath()));
+			// loading it directly should still fail
+			assertThrows(IOException.class,()->ConcurrencyProfile.load(file));
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
 	private void findPair( GrowQueue_I32 found , int val0 , int val1 ) {
 		for (int i = 0; i < found.size; i += 2) {
 			if( found.get(i) == val0 && found.get(i+1) == val1 ) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import boofcv.alg.misc.PixelMath;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestConcurrencyProfile {
+	@Test
+	void isConcurrent() {
+		ConcurrencyProfile alg = new ConcurrencyProfile(100);
+		alg.setThreshold(PixelMath.class,50);
+
+		assertTrue(alg.isConcurrent(PixelMath.class,50));
+		assertFalse(alg.isConcurrent(PixelMath.class,49));
+
+		// use the default value
+		assertTrue(alg.isConcurrent(String.class,100));
+		assertFalse(alg.isConcurrent(String.class,99));
+
+		alg.removeThreshold("PixelMath");
+		assertFalse(alg.isConcurrent(PixelMath.class,50));
+	}
+
+	/**
+	 * Thresholds looked up by class are cached. Make sure changes to the profile are seen
+	 */
+	@Test
+	void getThreshold_class_modified() {
+		ConcurrencyProfile alg = new ConcurrencyProfile(100);
+		assertEquals(100,alg.getThreshold(PixelMath.class));
+
+		alg.setThreshold(PixelMath.class,50);
+		assertEquals(50,alg.getThreshold(PixelMath.class));
+		assertEquals(100,alg.getThreshold(String.class));
+
+		alg.setDefaultThreshold(70);
+		assertEquals(50,alg.getThreshold(PixelMath.class));
+		assertEquals(70,alg.getThreshold(String.class));
+
+		alg.setThreshold(ConcurrencyProfile.DEFAULT_KEY,80);
+		assertEquals(80,alg.getThreshold(String.class));
+
+		alg.removeThreshold("PixelMath");
+		assertEquals(80,alg.getThreshold(PixelMath.class));
+	}
+
+	/**
+	 * Functions without a threshold fall back to their class then the default
+	 */
+	@Test
+	void getThreshold_function() {
+		ConcurrencyProfile alg = new ConcurrencyProfile(100);
+		alg.setThreshold(PixelMath.class,"multiply",30);
+
+		assertEquals(30,alg.getThreshold(PixelMath.class,"multiply"));
+		assertEquals(30,alg.getThreshold("PixelMath.multiply"));
+		assertEquals(100,alg.getThreshold(PixelMath.class,"divide"));
+		assertEquals(100,alg.getThreshold(PixelMath.class));
+
+		alg.setThreshold(PixelMath.class,50);
+		assertEquals(30,alg.getThreshold(PixelMath.class,"multiply"));
+		assertEquals(50,alg.getThreshold(PixelMath.class,"divide"));
+		assertEquals(50,alg.getThreshold("PixelMath.divide"));
+
+		assertTrue(alg.isConcurrent(PixelMath.class,"multiply",30));
+		assertFalse(alg.isConcurrent(PixelMath.class,"divide",49));
+
+		alg.removeThreshold("PixelMath.multiply");
+		assertEquals(50,alg.getThreshold(PixelMath.class,"multiply"));
+	}
+
+	@Test
+	void setThreshold_default() {
+		ConcurrencyProfile alg = new ConcurrencyProfile();
+		alg.setThreshold(ConcurrencyProfile.DEFAULT_KEY,20);
+		assertEquals(20,alg.getDefaultThreshold());
+		assertEquals(20,alg.getThreshold("Foo"));
+
+		assertThrows(IllegalArgumentException.class,()->alg.setThreshold("Foo",-1));
+	}
+
+	@Test
+	void saveLoad() throws IOException {
+		ConcurrencyProfile alg = new ConcurrencyProfile(10);
+		alg.setThreshold("Foo",20);
+		alg.setThreshold("Bar",Integer.MAX_VALUE);
+
+		StringWriter writer = new StringWriter();
+		alg.save(writer);
+
+		ConcurrencyProfile found = ConcurrencyProfile.load(new StringReader(writer.toString()));
+		assertEquals(10,found.getDefaultThreshold());
+		assertEquals(20,found.getThreshold("Foo"));
+		assertEquals(Integer.MAX_VALUE,found.getThreshold("Bar"));
+		assertEquals(10,found.getThreshold("Moo"));
+	}
+
+	@Test
+	void load_bad() {
+		assertThrows(IOException.class,()->ConcurrencyProfile.load(new StringReader("Foo=bar\n")));
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ByteBufferImage;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestConvertByteBufferImage {
+	Random rand = new Random(234);
+
+	int width = 10, height = 12;
+	int offset = 7, stride = 35;
+
+	@Test
+	void canExtract() {
+		assertTrue(ConvertByteBufferImage.canExtract(ByteBuffer.allocate(10)));
+		assertFalse(ConvertByteBufferImage.canExtract(ByteBuffer.allocateDirect(10)));
+		assertFalse(ConvertByteBufferImage.canExtract(ByteBuffer.allocate(10).asReadOnlyBuffer()));
+	}
+
+	@Test
+	void extractGrayU8() {
+		ByteBuffer buffer = createBuffer(ByteBuffer.allocate(offset+stride*height));
+
+		GrayU8 found = ConvertByteBufferImage.extractGrayU8(buffer,offset,stride,width,height);
+		assertSame(buffer.array(),found.data);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,found.get(x,y));
+			}
+		}
+
+		// the image and buffer should share data
+		found.set(2,3,123);
+		assertEquals(123,buffer.get(offset+3*stride+2)&0xFF);
+
+		// should take in account the buffer's array offset
+		buffer.position(5);
+		ByteBuffer sliced = buffer.slice();
+		found = ConvertByteBufferImage.extractGrayU8(sliced,offset-5,stride,width,height);
+		assertEquals(123,found.get(2,3));
+	}
+
+	@Test
+	void extractGrayU8_bad() {
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.extractGrayU8(ByteBuffer.allocateDirect(500),0,10,10,10));
+		// too small
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.extractGrayU8(ByteBuffer.allocate(99),0,10,10,10));
+		// stride too small
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.extractGrayU8(ByteBuffer.allocate(500),0,9,10,10));
+	}
+
+	/**
+	 * The image doesn't own its array, so it must be marked as a sub-image if reshaping would move pixels
+	 */
+	@Test
+	void extract_subImage() {
+		ByteBuffer buffer = ByteBuffer.allocate(stride*height);
+		assertTrue(ConvertByteBufferImage.extractGrayU8(buffer,0,stride,width,height).isSubimage());
+		assertTrue(ConvertByteBufferImage.extractGrayU8(buffer,offset,width,width,height).isSubimage());
+		assertFalse(ConvertByteBufferImage.extractGrayU8(buffer,0,width,width,height).isSubimage());
+
+		assertTrue(ConvertByteBufferImage.extractInterleavedU8(buffer,0,stride,width,height,3).isSubimage());
+		assertFalse(ConvertByteBufferImage.extractInterleavedU8(buffer,0,width*3,width,height,3).isSubimage());
+
+		// a sub-image can't be reshaped, which would change the stride of the shared view
+		GrayU8 found = ConvertByteBufferImage.extractGrayU8(buffer,0,stride,width,height);
+		assertThrows(IllegalArgumentException.class,()->found.reshape(width/2,height));
+	}
+
+	@Test
+	void wrap() {
+		ByteBuffer buffer = createBuffer(ByteBuffer.allocateDirect(offset+stride*height));
+
+		ByteBufferImage found = ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,3);
+		assertSame(buffer,found.data);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int band = 0; band < 3; band++) {
+					assertEquals(buffer.get(offset+y*stride+x*3+band)&0xFF,found.get(x,y,band));
+				}
+			}
+		}
+
+		// the image and buffer should share data
+		found.set(2,3,1,123);
+		assertEquals(123,buffer.get(offset+3*stride+2*3+1)&0xFF);
+
+		// too small
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(ByteBuffer.allocateDirect(99),0,10,10,10,1));
+	}
+
+	@Test
+	void extractInterleavedU8() {
+		ByteBuffer buffer = createBuffer(ByteBuffer.allocate(offset+stride*height));
+
+		InterleavedU8 found = ConvertByteBufferImage.extractInterleavedU8(buffer,offset,stride,width,height,3);
+		assertEquals(3,found.getNumBands());
+		assertEquals(3,found.getImageType().getNumBands());
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int band = 0; band < 3; band++) {
+					assertEquals(buffer.get(offset+y*stride+x*3+band)&0xFF,found.getBand(x,y,band));
+				}
+			}
+		}
+	}
+
+	@Test
+	void from_1BU8_to_U8() {
+		ByteBuffer buffer = createBuffer(ByteBuffer.allocateDirect(offset+stride*height));
+		GrayU8 found = new GrayU8(width,height);
+		ConvertByteBufferImage.from_1BU8_to_U8(buffer,offset,stride,found);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,found.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	void from_U8_to_1BU8() {
+		GrayU8 original = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(original,rand,0,255);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset+stride*height);
+
+		ConvertByteBufferImage.from_U8_to_1BU8(original,buffer,offset,stride);
+		GrayU8 found = new GrayU8(width,height);
+		ConvertByteBufferImage.from_1BU8_to_U8(buffer,offset,stride,found);
+
+		BoofTesting.assertEquals(original,found,0);
+	}
+
+	@Test
+	void from_IU8_to_BU8() {
+		InterleavedU8 original = new InterleavedU8(width,height,3);
+		ImageMiscOps.fillUniform(original,rand,0,255);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset+stride*height);
+
+		ConvertByteBufferImage.from_IU8_to_BU8(original,buffer,offset,stride);
+		InterleavedU8 found = new InterleavedU8(width,height,3);
+		ConvertByteBufferImage.from_3BU8_to_3IU8(buffer,offset,stride,found);
+
+		BoofTesting.assertEquals(original,found,0);
+	}
+
+	private ByteBuffer createBuffer( ByteBuffer buffer ) {
+		for (int i = 0; i < buffer.capacity(); i++) {
+			buffer.put(i,(byte)rand.nextInt(256));
+		}
+		return buffer;
+	}
+}
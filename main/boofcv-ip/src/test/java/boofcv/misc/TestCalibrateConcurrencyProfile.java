@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc;
+
+import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.ConcurrencyProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCalibrateConcurrencyProfile {
+	/**
+	 * A single loss shouldn't stop the search. Two consecutive losses should.
+	 */
+	@Test
+	void findThreshold_consecutiveLosses() {
+		// results from the largest size to the smallest
+		Scripted alg = new Scripted(true,false,true,false,false,true);
+		alg.sizes = new int[]{10,20,30,40,50,60};
+
+		assertEquals(40*40,alg.findThreshold(new NoOp("multiply")));
+		assertEquals(5,alg.calls);
+
+		// never faster
+		alg = new Scripted(false,false,true);
+		alg.sizes = new int[]{10,20,30};
+		assertEquals(Integer.MAX_VALUE,alg.findThreshold(new NoOp("multiply")));
+
+		// a single loss at the middle size
+		alg = new Scripted(true,false,true);
+		alg.sizes = new int[]{10,20,30};
+		assertEquals(10*10,alg.findThreshold(new NoOp("multiply")));
+	}
+
+	/**
+	 * Functions get the median of their operations and the class gets the median of all its operations
+	 */
+	@Test
+	void calibrate_median() {
+		Scripted alg = new Scripted(
+				true,false,false,  // multiply -> 30
+				true,true,false,   // multiply -> 20
+				true,true,true);   // divide   -> 10
+		alg.sizes = new int[]{10,20,30};
+
+		List<CalibrateConcurrencyProfile.Operation> ops = new ArrayList<>();
+		ops.add(new NoOp("multiply"));
+		ops.add(new NoOp("multiply"));
+		ops.add(new NoOp("divide"));
+
+		ConcurrencyProfile found = alg.calibrate(ops);
+		assertEquals(30*30,found.getThreshold("PixelMath.multiply"));
+		assertEquals(10*10,found.getThreshold("PixelMath.divide"));
+		assertEquals(20*20,found.getThreshold("PixelMath"));
+	}
+
+	/**
+	 * Replaces timing results with a fixed sequence
+	 */
+	static class Scripted extends CalibrateConcurrencyProfile {
+		boolean[] faster;
+		int calls;
+
+		Scripted( boolean... faster ) {
+			this.faster = faster;
+			this.testTimeMS = 1;
+		}
+
+		@Override
+		boolean isConcurrentFaster(double single, double concurrent) {
+			return faster[calls++];
+		}
+	}
+
+	static class NoOp extends CalibrateConcurrencyProfile.Operation {
+		NoOp( String function ) { super(PixelMath.class,function); }
+
+		@Override void setup(int size) {}
+
+		@Override public void process() {}
+	}
+}
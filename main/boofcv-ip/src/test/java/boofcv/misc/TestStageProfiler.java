@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestStageProfiler {
+
+	/**
+	 * With no listener nothing should be reported and it should be inactive
+	 */
+	@Test
+	public void disabled() {
+		StageProfiler alg = new StageProfiler("foo");
+		assertFalse(alg.isActive());
+		alg.begin();
+		alg.end("a",5);
+		alg.end("b");
+
+		Recorder recorder = new Recorder();
+		alg.setListener(recorder);
+		assertTrue(alg.isActive());
+		alg.setListener(null);
+		alg.begin();
+		alg.end("a",5);
+		assertEquals(0,recorder.stages.size());
+	}
+
+	@Test
+	public void reportStages() {
+		Recorder recorder = new Recorder();
+		StageProfiler alg = new StageProfiler("foo");
+		alg.setListener(recorder);
+
+		alg.begin();
+		long[] storage = new long[10_000];
+		storage[5] = 2;
+		alg.end("a",5);
+		alg.end("b");
+
+		assertEquals(2,recorder.stages.size());
+		assertEquals("foo:a",recorder.stages.get(0));
+		assertEquals("foo:b",recorder.stages.get(1));
+		assertEquals(5,recorder.items.get(0).intValue());
+		assertEquals(-1,recorder.items.get(1).intValue());
+		for( long nano : recorder.nano ) {
+			assertTrue(nano >= 0);
+		}
+
+		// the array should be included in the first stage, if allocations can be measured
+		long bytes = recorder.bytes.get(0);
+		if( bytes >= 0 )
+			assertTrue(bytes >= 8*storage.length);
+	}
+
+	private static class Recorder implements StageListener {
+		List<String> stages = new ArrayList<>();
+		List<Long> nano = new ArrayList<>();
+		List<Integer> items = new ArrayList<>();
+		List<Long> bytes = new ArrayList<>();
+
+		@Override
+		public void stageComplete(String algorithm, String stage, long nanoseconds, int items, long bytes) {
+			this.stages.add(algorithm+":"+stage);
+			this.nano.add(nanoseconds);
+			this.items.add(items);
+			this.bytes.add(bytes);
+		}
+	}
+}
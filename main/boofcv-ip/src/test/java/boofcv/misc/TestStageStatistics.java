@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestStageStatistics {
+
+	@Test
+	public void aggregate() {
+		StageStatistics alg = new StageStatistics();
+
+		alg.stageComplete("foo","a",1_000_000,4,100);
+		alg.stageComplete("foo","a",3_000_000,-1,300);
+		alg.stageComplete("foo","b",5_000_000,2,-1);
+		alg.stageComplete("bar","a",1_000,1,0);
+
+		StageStatistics.Stage a = alg.get("foo","a");
+		assertEquals(2,a.count);
+		assertEquals(2.0,a.getMeanMilli(),1e-8);
+		assertEquals(3_000_000,a.maxNano);
+		assertEquals(4.0,a.getMeanItems(),1e-8);
+		assertEquals(200.0,a.getMeanBytes(),1e-8);
+
+		StageStatistics.Stage b = alg.get("foo","b");
+		assertEquals(1,b.count);
+		assertEquals(-1,b.getMeanBytes(),1e-8);
+
+		assertNull(alg.get("bar","b"));
+		assertEquals(3,alg.getAll().size());
+		// order they were first seen in
+		assertEquals("b",alg.getAll().get(1).stage);
+		assertEquals("bar",alg.getAll().get(2).algorithm);
+
+		alg.reset();
+		assertEquals(0,alg.getAll().size());
+	}
+
+	/**
+	 * Returned stages are copies and should not be modified by later calls
+	 */
+	@Test
+	public void get_copy() {
+		StageStatistics alg = new StageStatistics();
+		alg.stageComplete("foo","a",1_000,4,100);
+		StageStatistics.Stage a = alg.get("foo","a");
+		alg.stageComplete("foo","a",1_000,4,100);
+		assertEquals(1,a.count);
+	}
+
+	@Test
+	public void print() {
+		StageStatistics alg = new StageStatistics();
+		alg.stageComplete("foo","a",1_000,4,100);
+		alg.stageComplete("foo","b",1_000,4,-1);
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		alg.print(new PrintStream(stream));
+		String text = stream.toString();
+		assertTrue(text.contains("foo:a"));
+		assertTrue(text.contains("foo:b"));
+	}
+}
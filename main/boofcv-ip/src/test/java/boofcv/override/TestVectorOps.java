@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.override;
+
+import boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.impl.ImplPixelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.impl.ImplConvertImage;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the vectorized code against the scalar code. If the vectorized code isn't available then it checks
+ * to see that the functions correctly indicate that they didn't do anything.
+ *
+ * @author Peter Abeles
+ */
+class TestVectorOps {
+	Random rand = new Random(234);
+
+	// odd sizes so that the scalar tail is exercised
+	int width = 67;
+	int height = 43;
+
+	@Test
+	void convolve_F32() {
+		for( int offset : new int[]{0,2,4} ) {
+			Kernel1D_F32 kernel = FactoryKernel.random1D_F32(5,offset,-1,1,rand);
+
+			GrayF32 input = new GrayF32(width,height);
+			ImageMiscOps.fillUniform(input,rand,-10,10);
+			input = BoofTesting.createSubImageOf(input);
+
+			GrayF32 expected = new GrayF32(width,height);
+			GrayF32 found = BoofTesting.createSubImageOf(expected);
+
+			ConvolveImageStandard_SB.horizontal(kernel,input,expected);
+			if( check(VectorOps.horizontal(kernel,input,found)) )
+				BoofTesting.assertEquals(expected,found,1e-4);
+
+			ImageMiscOps.fill(expected,0);ImageMiscOps.fill(found,0);
+			ConvolveImageStandard_SB.vertical(kernel,input,expected);
+			if( check(VectorOps.vertical(kernel,input,found)) )
+				BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	@Test
+	void convolve_U8_I16() {
+		for( int offset : new int[]{0,2,4} ) {
+			Kernel1D_S32 kernel = FactoryKernel.random1D_I32(5,offset,-10,10,rand);
+
+			GrayU8 input = new GrayU8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,255);
+			input = BoofTesting.createSubImageOf(input);
+
+			GrayS16 expected = new GrayS16(width,height);
+			GrayS16 found = BoofTesting.createSubImageOf(expected);
+
+			ConvolveImageStandard_SB.horizontal(kernel,input,expected);
+			if( checkMixed(VectorOps.horizontal(kernel,input,found)) )
+				BoofTesting.assertEquals(expected,found,0);
+
+			ImageMiscOps.fill(expected,0);ImageMiscOps.fill(found,0);
+			ConvolveImageStandard_SB.vertical(kernel,input,expected);
+			if( checkMixed(VectorOps.vertical(kernel,input,found)) )
+				BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	void scalarOps() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,-10,10);
+		input = BoofTesting.createSubImageOf(input);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = BoofTesting.createSubImageOf(expected);
+
+		float v = 2.5f;
+		ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,v,expected.data,0,width,height,width);
+		if( check(VectorOps.multiply_A(input.data,input.startIndex,input.stride,v,found.data,found.startIndex,found.stride,height,width)) )
+			BoofTesting.assertEquals(expected,found,0);
+
+		ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,v,expected.data,0,width,height,width);
+		if( check(VectorOps.divide_A(input.data,input.startIndex,input.stride,v,found.data,found.startIndex,found.stride,height,width)) )
+			BoofTesting.assertEquals(expected,found,0);
+
+		ImplPixelMath.plus_A(input.data,input.startIndex,input.stride,v,expected.data,0,width,height,width);
+		if( check(VectorOps.plus_A(input.data,input.startIndex,input.stride,v,found.data,found.startIndex,found.stride,height,width)) )
+			BoofTesting.assertEquals(expected,found,0);
+
+		ImplPixelMath.minus_A(input.data,input.startIndex,input.stride,v,expected.data,0,width,height,width);
+		if( check(VectorOps.minus_A(input.data,input.startIndex,input.stride,v,found.data,found.startIndex,found.stride,height,width)) )
+			BoofTesting.assertEquals(expected,found,0);
+
+		ImplPixelMath.minus_B(input.data,input.startIndex,input.stride,v,expected.data,0,width,height,width);
+		if( check(VectorOps.minus_B(input.data,input.startIndex,input.stride,v,found.data,found.startIndex,found.stride,height,width)) )
+			BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	void twoImages() {
+		GrayF32 imgA = new GrayF32(width,height);
+		GrayF32 imgB = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(imgA,rand,-10,10);
+		ImageMiscOps.fillUniform(imgB,rand,1,10);
+		imgA = BoofTesting.createSubImageOf(imgA);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = BoofTesting.createSubImageOf(expected);
+
+		ImplPixelMath.add(imgA,imgB,expected);
+		if( check(VectorOps.add(imgA,imgB,found)) )
+			BoofTesting.assertEquals(expected,found,0);
+		ImplPixelMath.subtract(imgA,imgB,expected);
+		if( check(VectorOps.subtract(imgA,imgB,found)) )
+			BoofTesting.assertEquals(expected,found,0);
+		ImplPixelMath.multiply(imgA,imgB,expected);
+		if( check(VectorOps.multiply(imgA,imgB,found)) )
+			BoofTesting.assertEquals(expected,found,0);
+		ImplPixelMath.divide(imgA,imgB,expected);
+		if( check(VectorOps.divide(imgA,imgB,found)) )
+			BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	void convert() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		input = BoofTesting.createSubImageOf(input);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = BoofTesting.createSubImageOf(expected);
+
+		ImplConvertImage.convert(input,expected);
+		if( checkMixed(VectorOps.convert(input,found)) )
+			BoofTesting.assertEquals(expected,found,0);
+
+		InterleavedU8 inputI = new InterleavedU8(width,height,3);
+		ImageMiscOps.fillUniform(inputI,rand,0,255);
+		inputI = BoofTesting.createSubImageOf(inputI);
+		InterleavedF32 expectedI = new InterleavedF32(width,height,3);
+		InterleavedF32 foundI = BoofTesting.createSubImageOf(expectedI);
+
+		ImplConvertImage.convert(inputI,expectedI);
+		if( checkMixed(VectorOps.convert(inputI,foundI)) )
+			BoofTesting.assertEquals(expectedI,foundI,0);
+	}
+
+	/**
+	 * Turns on concurrency and makes sure the results are the same
+	 */
+	@Test
+	void concurrent() {
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		BoofConcurrency.USE_CONCURRENT = true;
+		try {
+			scalarOps();
+			convolve_F32();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	/**
+	 * Turning it off should always result in the scalar code being used
+	 */
+	@Test
+	void turnOff() {
+		VectorOps.USE_VECTOR = false;
+		try {
+			GrayF32 a = new GrayF32(width,height);
+			assertEquals(false, VectorOps.isAvailable());
+			assertEquals(false, VectorOps.add(a,a,a.createSameShape()));
+		} finally {
+			VectorOps.USE_VECTOR = true;
+		}
+	}
+
+	private boolean check( boolean processed ) {
+		assertEquals(VectorOps.isAvailable(),processed);
+		return processed;
+	}
+
+	private boolean checkMixed( boolean processed ) {
+		if( !VectorOps.isAvailable() )
+			assertEquals(false,processed);
+		return processed;
+	}
+}
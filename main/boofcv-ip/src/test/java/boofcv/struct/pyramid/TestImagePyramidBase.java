@@ -21,6 +21,7 @@ package boofcv.struct.pyramid;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
@@ -104,6 +105,31 @@ public class TestImagePyramidBase {
 		assertTrue(pyramid.layers[0] != null);
 	}
 
+	/**
+	 * Layers should come from the pool and be returned to it when the shape changes
+	 */
+	@Test
+	public void initialize_pool() {
+		ImagePool pool = new ImagePool();
+		Dummy pyramid = new Dummy(GrayU8.class,true);
+		pyramid.setImagePool(pool);
+		pyramid.setScaleFactors(1,2,4);
+		pyramid.initialize(100,120);
+		assertEquals(2,pool.getMisses());
+
+		ImageBase layer1 = pyramid.getLayer(1);
+		pyramid.setFirstLayer(new GrayU8(100,120));
+
+		// the original reference should not be added to the pool
+		pyramid.initialize(50,60);
+		assertEquals(1,pool.getImagesRetained());
+		assertEquals(1,pool.getHits());
+		assertEquals(3,pool.getMisses());
+
+		pyramid.initialize(100,120);
+		assertSame(layer1,pyramid.getLayer(1));
+	}
+
 	@Test
 	public void getWidth_Height() {
 		Dummy pyramid = new Dummy(GrayU8.class,false);
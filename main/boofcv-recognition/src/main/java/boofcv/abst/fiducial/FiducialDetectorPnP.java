@@ -23,6 +23,9 @@ import boofcv.abst.geo.RefinePnP;
 import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.alg.geo.WorldToCameraToPixel;
 import boofcv.factory.geo.FactoryMultiView;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.geo.PointIndex2D_F64;
@@ -31,6 +34,7 @@ import georegression.struct.point.Point2D_F64;
 import georegression.struct.se.Se3_F64;
 import org.ddogleg.struct.GrowQueue_F64;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -45,7 +49,7 @@ import java.util.List;
  * @author Peter Abeles
  */
 public abstract class FiducialDetectorPnP<T extends ImageBase<T>>
-		implements FiducialDetector<T> {
+		implements FiducialDetector<T>, ProfileStages {
 
 	private LensDistortionNarrowFOV lensDistortion;
 
@@ -78,6 +82,9 @@ public abstract class FiducialDetectorPnP<T extends ImageBase<T>>
 	Point2D_F64 predicted = new Point2D_F64();
 	List<Point2D3D> filtered = new ArrayList<>();
 
+	// optional per-stage profiling
+	protected StageProfiler stages = new StageProfiler(getClass().getSimpleName());
+
 	/**
 	 * Width of the fiducial. used to compute stability
 	 * @param which specifies which fiducial
@@ -139,7 +146,18 @@ public abstract class FiducialDetectorPnP<T extends ImageBase<T>>
 		// 2D-3D point associations
 		createDetectedList(which, detectedPixels);
 
-		return estimatePose(which, detected2D3D, fiducialToCamera);
+		stages.begin();
+		boolean success = estimatePose(which, detected2D3D, fiducialToCamera);
+		stages.end("pose",detected2D3D.size());
+		return success;
+	}
+
+	/**
+	 * Reports the time taken to estimate the pose. Implementations forward the listener to the detector too.
+	 */
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
 	}
 
 	/**
@@ -21,6 +21,8 @@ package boofcv.abst.fiducial;
 import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.alg.fiducial.qrcode.QrCode;
 import boofcv.alg.fiducial.qrcode.QrPose3DUtils;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.geo.PointIndex2D_F64;
@@ -61,6 +63,13 @@ public class QrCodeDetectorPnP<T extends ImageGray<T>> extends FiducialDetectorP
 		imageType = ImageType.single(detector.getImageType());
 	}
 
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		super.setStageListener(listener);
+		if( detector instanceof ProfileStages )
+			((ProfileStages)detector).setStageListener(listener);
+	}
+
 	@Override
 	public void setLensDistortion(LensDistortionNarrowFOV distortion, int width, int height) {
 		super.setLensDistortion(distortion, width, height);
@@ -26,6 +26,9 @@ import boofcv.alg.fiducial.qrcode.QrCodeDecoderImage;
 import boofcv.alg.fiducial.qrcode.QrCodePositionPatternDetector;
 import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
 import boofcv.misc.MovingAverage;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 
@@ -37,7 +40,7 @@ import java.util.List;
  *
  * @param <T>
  */
-public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDetector<T>
+public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDetector<T>, ProfileStages
 {
 	QrCodePositionPatternDetector<T> detectPositionPatterns;
 	QrCodeDecoderImage<T> decoder;
@@ -50,6 +53,7 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 	boolean profiler = false;
 	protected MovingAverage milliBinary = new MovingAverage(0.8);
 	protected MovingAverage milliDecoding = new MovingAverage(0.8);
+	protected StageProfiler stages = new StageProfiler("QrCodePreciseDetector");
 
 	public QrCodePreciseDetector(InputToBinary<T> inputToBinary,
 								 QrCodePositionPatternDetector<T> detectPositionPatterns,
@@ -65,9 +69,11 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 	@Override
 	public void process(T gray) {
 		long time0 = System.nanoTime();
+		stages.begin();
 		contourHelper.reshape(gray.width,gray.height);
 		inputToBinary.process(gray,contourHelper.withoutPadding());
 		long time1 = System.nanoTime();
+		stages.end("binary");
 		milliBinary.update((time1-time0)*1e-6);
 
 		if( profiler )
@@ -75,8 +81,10 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 
 		detectPositionPatterns.process(gray,contourHelper.padded());
 		time0 = System.nanoTime();
+		stages.begin();
 		decoder.process(detectPositionPatterns.getPositionPatterns(),gray);
 		time1 = System.nanoTime();
+		stages.end("decoding",decoder.getFound().size());
 		milliDecoding.update((time1-time0)*1e-6);
 
 		if( profiler )
@@ -116,6 +124,12 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 		detectPositionPatterns.setProfilerState(active);
 	}
 
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
+		detectPositionPatterns.setStageListener(listener);
+	}
+
 	public void resetRuntimeProfiling() {
 		milliBinary.reset();
 		milliDecoding.reset();
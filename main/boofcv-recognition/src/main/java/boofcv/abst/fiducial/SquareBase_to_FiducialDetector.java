@@ -22,6 +22,7 @@ import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.alg.fiducial.square.BaseDetectFiducialSquare;
 import boofcv.alg.fiducial.square.FoundFiducial;
 import boofcv.alg.fiducial.square.QuadPoseEstimator;
+import boofcv.misc.StageListener;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.geo.PointIndex2D_F64;
 import boofcv.struct.image.ImageGray;
@@ -83,6 +84,13 @@ public abstract class SquareBase_to_FiducialDetector<T extends ImageGray<T>,Dete
 	public void detect(T input) {
 		alg.process(input);
 	}
+
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		super.setStageListener(listener);
+		alg.setStageListener(listener);
+	}
+
 	/**
 	 * Return the intersection of two lines defined by opposing corners.  This should also be the geometric center
 	 * @param which Fiducial's index
@@ -29,6 +29,9 @@ import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
 import boofcv.alg.shapes.polygon.DetectPolygonFromContour;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.misc.MovingAverage;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.distort.PixelTransform;
 import boofcv.struct.distort.Point2Transform2_F32;
@@ -57,7 +60,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
+public class QrCodePositionPatternDetector<T extends ImageGray<T>> implements ProfileStages {
 
 	// used to subsample the input image
 	InterpolatePixelS<T> interpolate;
@@ -85,6 +88,7 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 	// runtime profiling
 	protected MovingAverage milliGraph = new MovingAverage(0.8);
 	protected boolean profiler = false;
+	protected StageProfiler stages = new StageProfiler("QrCodePositionPatternDetector");
 
 	/**
 	 * Configures the detector
@@ -113,6 +117,12 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 		profiler = active;
 	}
 
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
+		squareDetector.setStageListener(listener);
+	}
+
 	/**
 	 * Detects position patterns inside the image and forms a graph.
 	 * @param gray Gray scale input image
@@ -128,12 +138,15 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 		squareDetector.process(gray,binary);
 
 		long time0 = System.nanoTime();
+		stages.begin();
 		squaresToPositionList();
 
 		long time1 = System.nanoTime();
+		stages.end("position_patterns",positionPatterns.size);
 
 		// Create graph of neighboring squares
 		createPositionPatternGraph();
+		stages.end("graph");
 //		long time2 = System.nanoTime();  // doesn't take very long
 
 		double milli = (time1-time0)*1e-6;
@@ -32,6 +32,9 @@ import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.geo.EpipolarError;
 import boofcv.factory.geo.FactoryMultiView;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.distort.*;
 import boofcv.struct.geo.AssociatedPair;
@@ -49,6 +52,7 @@ import org.ejml.UtilEjml;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.ops.ConvertDMatrixStruct;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -72,7 +76,7 @@ import java.util.List;
  * @author Peter Abeles
  */
 // TODO create unit test for bright object
-public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
+public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> implements ProfileStages {
 
 	// Storage for the found fiducials
 	private FastQueue<FoundFiducial> found = new FastQueue<>(FoundFiducial.class, true);
@@ -117,6 +121,9 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 	// verbose debugging output
 	protected boolean verbose = false;
 
+	// optional per-stage profiling
+	protected StageProfiler stages = new StageProfiler("DetectFiducialSquare");
+
 	/**
 	 * Configures the detector.
 	 * @param inputToBinary Converts input image into a binary image
@@ -228,12 +235,16 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 
 		contourHelper.reshape(gray.width,gray.height);
 
+		stages.begin();
 		inputToBinary.process(gray,contourHelper.withoutPadding());
+		stages.end("binary");
 		squareDetector.process(gray,contourHelper.padded());
 		squareDetector.refineAll();
 		// These are in undistorted pixels
 		squareDetector.getPolygons(candidates,candidatesInfo);
 
+		stages.begin();
+
 		found.reset();
 
 		if( verbose ) System.out.println("---------- Got Polygons! "+candidates.size());
@@ -316,6 +327,7 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 				if( verbose ) System.out.println("  rejected process square");
 			}
 		}
+		stages.end("decode",found.size);
 	}
 
 	/**
@@ -440,6 +452,12 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		this.verbose = verbose;
 	}
 
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
+		squareDetector.setStageListener(listener);
+	}
+
 	public DetectPolygonBinaryGrayRefine<T> getSquareDetector() {
 		return squareDetector;
 	}
@@ -67,14 +67,7 @@ public class TldVarianceFilter<T extends ImageGray<T>> {
 	 * @param gray input image
 	 */
 	public void setImage(T gray) {
-		integral.reshape(gray.width,gray.height);
-		integralSq.reshape(gray.width,gray.height);
-
-		GIntegralImageOps.transform(gray,integral);
-		if( gray.getDataType().isInteger())
-			transformSq((GrayU8)gray,(GrayS64)integralSq);
-		else
-			transformSq((GrayF32)gray,(GrayF64)integralSq);
+		GIntegralImageOps.transformSumSq(gray,integral,integralSq);
 	}
 
 	/**
@@ -18,9 +18,15 @@
 
 package boofcv.abst.fiducial;
 
+import boofcv.alg.fiducial.qrcode.QrCodeGeneratorImage;
+import boofcv.core.image.ConvertImage;
 import boofcv.factory.fiducial.ConfigQrCode;
 import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.misc.StageStatistics;
 import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestQrCodePreciseDetector extends GenericQrCodeDetectorChecks {
 
@@ -30,4 +36,42 @@ public class TestQrCodePreciseDetector extends GenericQrCodeDetectorChecks {
 
 		return FactoryFiducial.qrcode(config,GrayF32.class);
 	}
+
+	/**
+	 * Each stage, including those in the position pattern and polygon detectors, should be reported once per image
+	 */
+	@Test
+	public void stageListener() {
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
+		generator.render(expected);
+		GrayF32 image = ConvertImage.convert(generator.getGray(),(GrayF32)null);
+
+		QrCodePreciseDetector<GrayF32> detector = (QrCodePreciseDetector<GrayF32>)createDetector();
+		StageStatistics stats = new StageStatistics();
+		detector.setStageListener(stats);
+		detector.process(image);
+		detector.process(image);
+
+		String[][] expectedStages = new String[][]{
+				{"QrCodePreciseDetector","binary"},
+				{"DetectPolygonFromContour","contour"},
+				{"DetectPolygonFromContour","shapes"},
+				{"DetectPolygonBinaryGrayRefine","adjust_bias"},
+				{"QrCodePositionPatternDetector","position_patterns"},
+				{"QrCodePositionPatternDetector","graph"},
+				{"QrCodePreciseDetector","decoding"}};
+
+		for( String[] e : expectedStages ) {
+			StageStatistics.Stage s = stats.get(e[0],e[1]);
+			assertNotNull(s,e[0]+":"+e[1]);
+			assertEquals(2,s.count);
+		}
+		assertEquals(detector.getDetections().size(),
+				stats.get("QrCodePreciseDetector","decoding").getMeanItems(),1e-8);
+
+		// turning it off should stop all reports
+		detector.setStageListener(null);
+		detector.process(image);
+		assertEquals(2,stats.get("DetectPolygonFromContour","contour").count);
+	}
 }
@@ -24,6 +24,8 @@ import boofcv.alg.distort.PointToPixelTransform_F32;
 import boofcv.alg.geo.DistanceFromModelMultiView;
 import boofcv.alg.sfm.DepthSparse3D;
 import boofcv.alg.sfm.d3.VisOdomPixelDepthPnP;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
 import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.distort.Point2Transform2_F32;
 import boofcv.struct.distort.Point2Transform2_F64;
@@ -36,6 +38,7 @@ import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.se.Se3_F64;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,7 +52,7 @@ import static boofcv.factory.distort.LensDistortionFactory.narrow;
 // TODO WARNING! active list has been modified by dropping and adding tracks
 // this is probably true of other SFM algorithms
 public class VisOdomPixelDepthPnP_to_DepthVisualOdometry<Vis extends ImageBase<Vis>, Depth extends ImageGray<Depth>>
-	implements DepthVisualOdometry<Vis,Depth> , AccessPointTracks3D
+	implements DepthVisualOdometry<Vis,Depth> , AccessPointTracks3D, ProfileStages
 {
 	// low level algorithm
 	DepthSparse3D<Depth> sparse3D;
@@ -153,4 +156,9 @@ public class VisOdomPixelDepthPnP_to_DepthVisualOdometry<Vis extends ImageBase<V
 	public Class<Depth> getDepthType() {
 		return depthType;
 	}
+
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		alg.setStageListener(listener);
+	}
 }
@@ -23,6 +23,8 @@ import boofcv.abst.sfm.AccessPointTracks3D;
 import boofcv.alg.geo.DistanceFromModelMultiView;
 import boofcv.alg.sfm.StereoSparse3D;
 import boofcv.alg.sfm.d3.VisOdomPixelDepthPnP;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
 import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.calib.StereoParameters;
 import boofcv.struct.distort.Point2Transform2_F64;
@@ -34,6 +36,7 @@ import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.se.Se3_F64;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -45,7 +48,7 @@ import static boofcv.factory.distort.LensDistortionFactory.narrow;
 // TODO WARNING! active list has been modified by dropping and adding tracks
 // this is probably true of other SFM algorithms
 public class WrapVisOdomPixelDepthPnP<T extends ImageGray<T>>
-		implements StereoVisualOdometry<T>, AccessPointTracks3D {
+		implements StereoVisualOdometry<T>, AccessPointTracks3D, ProfileStages {
 
 	// low level algorithm
 	VisOdomPixelDepthPnP<T> alg;
@@ -139,4 +142,9 @@ public class WrapVisOdomPixelDepthPnP<T extends ImageGray<T>>
 	public Se3_F64 getCameraToWorld() {
 		return alg.getCurrToWorld();
 	}
+
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		alg.setStageListener(listener);
+	}
 }
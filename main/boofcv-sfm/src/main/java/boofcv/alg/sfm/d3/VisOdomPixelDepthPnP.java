@@ -23,6 +23,9 @@ import boofcv.abst.feature.tracker.PointTracker;
 import boofcv.abst.feature.tracker.PointTrackerTwoPass;
 import boofcv.abst.geo.RefinePnP;
 import boofcv.abst.sfm.ImagePixelTo3D;
+import boofcv.misc.ProfileStages;
+import boofcv.misc.StageListener;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.image.ImageBase;
@@ -33,6 +36,7 @@ import georegression.struct.se.Se3_F64;
 import georegression.transform.se.SePointOps_F64;
 import org.ddogleg.fitting.modelset.ModelMatcher;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,7 +57,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
+public class VisOdomPixelDepthPnP<T extends ImageBase<T>> implements ProfileStages {
 
 	// when the inlier set is less than this number new features are detected
 	private int thresholdAdd;
@@ -97,6 +101,9 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 	// used when concating motion
 	private Se3_F64 temp = new Se3_F64();
 
+	// optional per-stage profiling
+	private StageProfiler stages = new StageProfiler("VisOdomPixelDepthPnP");
+
 	/**
 	 * Configures magic numbers and estimation algorithms.
 	 *
@@ -152,25 +159,32 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 	 * @return true if successful or false if it failed
 	 */
 	public boolean process( T image ) {
+		stages.begin();
 		tracker.process(image);
+		stages.end("track");
 
 		tick++;
 		inlierTracks.clear();
 
 		if( first ) {
 			addNewTracks();
+			stages.end("spawn");
 			first = false;
 		} else {
 			if( !estimateMotion() ) {
+				stages.end("estimate_motion",0);
 				return false;
 			}
-
-			dropUnusedTracks();
 			int N = motionEstimator.getMatchSet().size();
+			stages.end("estimate_motion",N);
+
+			int numDropped = dropUnusedTracks();
+			stages.end("drop_tracks",numDropped);
 
 			if( thresholdAdd <= 0 || N < thresholdAdd ) {
 				changePoseToReference();
 				addNewTracks();
+				stages.end("spawn");
 			}
 
 //			System.out.println("  num inliers = "+N+"  num dropped "+numDropped+" total active "+tracker.getActivePairs().size());
@@ -367,4 +381,9 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 	public long getTick() {
 		return tick;
 	}
+
+	@Override
+	public void setStageListener( @Nullable StageListener listener ) {
+		stages.setListener(listener);
+	}
 }
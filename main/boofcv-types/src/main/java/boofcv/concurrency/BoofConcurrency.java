@@ -18,16 +18,39 @@
 
 package boofcv.concurrency;
 
+import boofcv.struct.image.ImageBase;
 import org.ddogleg.struct.FastQueue;
 
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 /**
  * Location of controls for turning on and off concurrent (i.e. threaded) algorithms.
  *
+ * By default all threaded code is run inside of a single JVM wide thread pool. If multiple independent
+ * pipelines are being run at the same time then each one can be given its own pool using
+ * {@link #useThreadPool(ForkJoinPool)}. That pool will then be used by all concurrent algorithms invoked from
+ * the calling thread, including nested calls from inside the pool's worker threads, until the returned
+ * scope is closed.
+ *
+ * <pre>
+ * try( BoofConcurrency.Scope ignore = BoofConcurrency.useThreadPool(pipelinePool) ) {
+ *     BlurImageOps.gaussian(input,output,-1,5,null);
+ * }
+ * </pre>
+ *
+ * Exceptions thrown inside of a concurrent loop are passed on to the caller.
+ *
+ * Operations which support it will only use their concurrent implementation if the image is large enough, as
+ * specified by the {@link ConcurrencyProfile}. A profile can be loaded at startup by setting the system property
+ * {@link #PROFILE_PROPERTY} to the location of a profile file.
+ *
  * -Djava.util.concurrent.ForkJoinPool.common.parallelism=16
  *
  * @author Peter Abeles
@@ -41,6 +64,17 @@ public class BoofConcurrency {
 	// Custom thread pool for streams so that the number of threads can be controlled
 	private static ForkJoinPool pool = new ForkJoinPool();
 
+	// Thread pool which has been assigned to a specific thread. Takes priority over the global pool
+	private static final ThreadLocal<ForkJoinPool> localPool = new ThreadLocal<>();
+
+	/**
+	 * System property which specifies the location of the {@link ConcurrencyProfile} loaded at startup
+	 */
+	public static final String PROFILE_PROPERTY = "boofcv.concurrency.profile";
+
+	// Specifies when an operation is large enough to benefit from concurrency
+	private static volatile ConcurrencyProfile profile = loadDefaultProfile();
+
 	/**
 	 * Sets the maximum number of threads available in the thread pool and adjusts USE_CONCURRENT. If
 	 * the number of threads is less than 2 then USE_CONCURRENT will be set to false and the single thread
@@ -58,16 +92,121 @@ public class BoofConcurrency {
 	}
 
 	/**
-	 * Returns the maximum number of threads which can be run at once in this pool
+	 * Returns the maximum number of threads which can be run at once in the pool used by the calling thread
 	 */
 	public static int getMaxThreads() {
-		return pool.getParallelism();
+		return getThreadPool().getParallelism();
+	}
+
+	/**
+	 * Assigns a thread pool to the calling thread. All concurrent algorithms called from this thread will use
+	 * this pool instead of the global one until the returned scope has been closed. Scopes can be nested, closing
+	 * a scope restores the pool which was active before it.
+	 *
+	 * @param pool The thread pool which is to be used by the calling thread.
+	 * @return Scope which restores the previous pool when closed
+	 */
+	public static Scope useThreadPool( ForkJoinPool pool ) {
+		if( pool == null )
+			throw new IllegalArgumentException("pool can't be null");
+		ForkJoinPool previous = localPool.get();
+		localPool.set(pool);
+		return new Scope(previous);
+	}
+
+	/**
+	 * Returns the thread pool which will be used by the calling thread. If a pool has been assigned to this thread
+	 * then that is returned. If this is a worker thread inside of a pool (i.e. a nested concurrent call) then the
+	 * worker's pool is returned. Otherwise the global pool is returned.
+	 */
+	public static ForkJoinPool getThreadPool() {
+		ForkJoinPool local = localPool.get();
+		if( local != null )
+			return local;
+		Thread thread = Thread.currentThread();
+		if( thread instanceof ForkJoinWorkerThread ) {
+			// the common pool is never used internally so this must be a user's parallel stream
+			ForkJoinPool owner = ((ForkJoinWorkerThread)thread).getPool();
+			if( owner != ForkJoinPool.commonPool() )
+				return owner;
+		}
+		return pool;
 	}
 
 	public static boolean isUseConcurrent() {
 		return USE_CONCURRENT;
 	}
 
+	/**
+	 * Decides if the concurrent implementation of an operation should be used. This is true if USE_CONCURRENT is
+	 * true and the image has at least as many pixels as the operation's threshold in the profile.
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param image The image being processed. Typically the output image.
+	 * @return true if the concurrent implementation should be used
+	 */
+	public static boolean isUseConcurrent( Class<?> operation , ImageBase<?> image ) {
+		return USE_CONCURRENT && profile.isConcurrent(operation, image.width*image.height);
+	}
+
+	/**
+	 * Decides if the concurrent implementation of an operation should be used. This is true if USE_CONCURRENT is
+	 * true and the image has at least as many pixels as the function's threshold in the profile.
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param function Name of the function in the class which is being dispatched, e.g. "multiply"
+	 * @param image The image being processed. Typically the output image.
+	 * @return true if the concurrent implementation should be used
+	 */
+	public static boolean isUseConcurrent( Class<?> operation , String function , ImageBase<?> image ) {
+		return USE_CONCURRENT && profile.isConcurrent(operation, function, image.width*image.height);
+	}
+
+	/**
+	 * Decides if the concurrent implementation of an operation should be used. Intended for data structures
+	 * which are not derived from {@link ImageBase}.
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param function Name of the function in the class which is being dispatched, e.g. "multiply"
+	 * @param numPixels Number of pixels which are being processed
+	 * @return true if the concurrent implementation should be used
+	 */
+	public static boolean isUseConcurrent( Class<?> operation , String function , int numPixels ) {
+		return USE_CONCURRENT && profile.isConcurrent(operation, function, numPixels);
+	}
+
+	public static ConcurrencyProfile getProfile() {
+		return profile;
+	}
+
+	/**
+	 * Changes the profile used to decide if an operation should be run concurrently
+	 */
+	public static void setProfile( ConcurrencyProfile profile ) {
+		if( profile == null )
+			throw new IllegalArgumentException("profile can't be null");
+		BoofConcurrency.profile = profile;
+	}
+
+	private static ConcurrencyProfile loadDefaultProfile() {
+		return loadDefaultProfile(System.getProperty(PROFILE_PROPERTY));
+	}
+
+	/**
+	 * Loads the profile specified at startup. Failing here would prevent this class from being initialized,
+	 * so a warning is printed and the default profile used if the file can't be read.
+	 */
+	static ConcurrencyProfile loadDefaultProfile( String path ) {
+		if( path == null )
+			return new ConcurrencyProfile();
+		try {
+			return ConcurrencyProfile.load(new File(path));
+		} catch (IOException | RuntimeException e) {
+			System.err.println("WARNING: Failed to load concurrency profile "+path+". Using the default. "+e);
+			return new ConcurrencyProfile();
+		}
+	}
+
 	/**
 	 * Concurrent for loop. Each loop with spawn as a thread up to the maximum number of threads.
 	 *
@@ -76,10 +215,11 @@ public class BoofConcurrency {
 	 * @param consumer The consumer
 	 */
 	public static void loopFor(int start , int endExclusive , IntConsumer consumer ) {
+		final ForkJoinPool pool = getThreadPool();
 		try {
 			pool.submit(() ->IntStream.range(start, endExclusive).parallel().forEach(consumer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			e.printStackTrace();
+			throw propagate(e);
 		}
 	}
 
@@ -88,14 +228,17 @@ public class BoofConcurrency {
 	 *
 	 * @param start starting value, inclusive
 	 * @param endExclusive ending value, exclusive
+	 * @param step increment between each value
 	 * @param consumer The consumer
 	 */
 	public static void loopFor(int start , int endExclusive , int step , IntConsumer consumer ) {
+		final ForkJoinPool pool = getThreadPool();
 		try {
-			int range = endExclusive-start;
-			pool.submit(() ->IntStream.range(0, range/step).parallel().forEach(i-> consumer.accept(start+i*step))).get();
+			// round up so that the last value is included when the range isn't a multiple of step
+			int count = (endExclusive-start+step-1)/step;
+			pool.submit(() ->IntStream.range(0, count).parallel().forEach(i-> consumer.accept(start+i*step))).get();
 		} catch (InterruptedException | ExecutionException e) {
-			e.printStackTrace();
+			throw propagate(e);
 		}
 	}
 
@@ -118,7 +261,7 @@ public class BoofConcurrency {
 	 */
 	public static void loopBlocks(int start , int endExclusive , int minBlock,
 								  IntRangeConsumer consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = getThreadPool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -132,7 +275,7 @@ public class BoofConcurrency {
 		try {
 			pool.submit(new IntRangeTask(start,endExclusive,block,consumer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			e.printStackTrace();
+			throw propagate(e);
 		}
 	}
 
@@ -152,7 +295,7 @@ public class BoofConcurrency {
 	 * @param consumer The consumer
 	 */
 	public static void loopBlocks(int start , int endExclusive , IntRangeConsumer consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = getThreadPool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -168,7 +311,7 @@ public class BoofConcurrency {
 		try {
 			pool.submit(new IntRangeTask(start,endExclusive,blockSize,consumer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+			throw propagate(e);
 		}
 	}
 
@@ -181,7 +324,7 @@ public class BoofConcurrency {
 	 * @param consumer The consumer
 	 */
 	public static <T>void loopBlocks(int start , int endExclusive , FastQueue<T> workspace, IntRangeObjectConsumer<T> consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = getThreadPool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -197,7 +340,7 @@ public class BoofConcurrency {
 		try {
 			pool.submit(new IntRangeObjectTask<>(start,endExclusive,blockSize,workspace,consumer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+			throw propagate(e);
 		}
 	}
 
@@ -212,9 +355,9 @@ public class BoofConcurrency {
 	 */
 	public static Number sum(int start , int endExclusive , Class type, IntProducerNumber producer ) {
 		try {
-			return pool.submit(new IntOperatorTask.Sum(start,endExclusive,type,producer)).get();
+			return getThreadPool().submit(new IntOperatorTask.Sum(start,endExclusive,type,producer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+			throw propagate(e);
 		}
 	}
 
@@ -229,9 +372,9 @@ public class BoofConcurrency {
 	 */
 	public static Number max(int start , int endExclusive , Class type, IntProducerNumber producer ) {
 		try {
-			return pool.submit(new IntOperatorTask.Max(start,endExclusive,type,producer)).get();
+			return getThreadPool().submit(new IntOperatorTask.Max(start,endExclusive,type,producer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+			throw propagate(e);
 		}
 	}
 
@@ -246,10 +389,50 @@ public class BoofConcurrency {
 	 */
 	public static Number min(int start , int endExclusive , Class type, IntProducerNumber producer ) {
 		try {
-			return pool.submit(new IntOperatorTask.Min(start,endExclusive,type,producer)).get();
+			return getThreadPool().submit(new IntOperatorTask.Min(start,endExclusive,type,producer)).get();
 		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+			throw propagate(e);
+		}
+	}
+
+	/**
+	 * Converts an exception thrown while waiting on a task into an unchecked exception which can be thrown
+	 * to the caller. Exceptions thrown by the task itself are passed along unmodified if possible.
+	 */
+	static RuntimeException propagate( Exception e ) {
+		if( e instanceof InterruptedException ) {
+			Thread.currentThread().interrupt();
+			return new RuntimeException(e);
 		}
+		Throwable cause = e.getCause() == null ? e : e.getCause();
+		if( cause instanceof RuntimeException )
+			return (RuntimeException)cause;
+		if( cause instanceof Error )
+			throw (Error)cause;
+		return new RuntimeException(cause);
 	}
 
+	/**
+	 * Used to restore the previously active thread pool when a pool is no longer used by a thread.
+	 *
+	 * @see #useThreadPool(ForkJoinPool)
+	 */
+	public static class Scope implements AutoCloseable {
+		final @Nullable ForkJoinPool previous;
+		final Thread owner = Thread.currentThread();
+
+		Scope(@Nullable ForkJoinPool previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if( Thread.currentThread() != owner )
+				throw new IllegalStateException("Scope must be closed by the thread which created it");
+			if( previous == null )
+				localPool.remove();
+			else
+				localPool.set(previous);
+		}
+	}
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import java.io.*;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Specifies the minimum number of pixels an image needs to have before the concurrent implementation of an
+ * operation is used. For small images the overhead of splitting the work up between threads can be more than
+ * the time saved. An operation is identified by the simple name of the class which dispatches it and the name
+ * of the function, e.g. "PixelMath.multiply". If an operation doesn't have a threshold then the threshold for
+ * its class, e.g. "PixelMath", is used, and if that's missing then the default threshold is used.
+ *
+ * Thresholds are hardware specific and are best found through calibration on the target system. A profile
+ * can be saved to and loaded from a properties file. Example:
+ * <pre>
+ * default=0
+ * PixelMath=40000
+ * PixelMath.multiply=90000
+ * ConvertImage=90000
+ * </pre>
+ *
+ * Looking up a threshold doesn't lock, since it's done every time an operation is dispatched. Thresholds are
+ * cached by class and function and the cache is discarded when the profile is modified.
+ *
+ * @author Peter Abeles
+ */
+public class ConcurrencyProfile {
+	/**
+	 * Key used to specify the default threshold in a profile file
+	 */
+	public static final String DEFAULT_KEY = "default";
+
+	// threshold used by operations which have not been explicitly specified
+	private volatile int defaultThreshold;
+
+	// Thresholds for specific operations
+	private final Map<String,Integer> thresholds = new ConcurrentHashMap<>();
+
+	// Thresholds which have been looked up by class then function name. Functions are "" when looked up by
+	// class only. Replaced when the profile is modified
+	private volatile Map<Class<?>,Map<String,Integer>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a profile with the specified default threshold
+	 *
+	 * @param defaultThreshold Minimum number of pixels for operations without a threshold.
+	 */
+	public ConcurrencyProfile( int defaultThreshold ) {
+		setDefaultThreshold(defaultThreshold);
+	}
+
+	/**
+	 * Creates a profile where the concurrent implementation is always used.
+	 */
+	public ConcurrencyProfile() {
+		this(0);
+	}
+
+	/**
+	 * Returns true if the concurrent implementation of the operation should be used for an image with
+	 * this many pixels
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param numPixels Number of pixels in the image being processed
+	 */
+	public boolean isConcurrent( Class<?> operation , int numPixels ) {
+		return numPixels >= getThreshold(operation);
+	}
+
+	/**
+	 * Returns true if the concurrent implementation of the operation should be used for an image with
+	 * this many pixels
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param function Name of the function in the class, e.g. "multiply"
+	 * @param numPixels Number of pixels in the image being processed
+	 */
+	public boolean isConcurrent( Class<?> operation , String function , int numPixels ) {
+		return numPixels >= getThreshold(operation,function);
+	}
+
+	/**
+	 * Returns the minimum number of pixels for operations in the specified class
+	 *
+	 * @param operation Class which dispatches the operation
+	 */
+	public int getThreshold( Class<?> operation ) {
+		return getThreshold(operation,"");
+	}
+
+	/**
+	 * Returns the minimum number of pixels for the specified operation
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param function Name of the function in the class. If "" then the threshold for the class is returned.
+	 */
+	public int getThreshold( Class<?> operation , String function ) {
+		// If the profile is modified after the cache is read then the value is saved into a discarded cache
+		Map<Class<?>,Map<String,Integer>> cache = this.cache;
+		Map<String,Integer> functions = cache.get(operation);
+		if( functions == null ) {
+			functions = new ConcurrentHashMap<>();
+			Map<String,Integer> previous = cache.putIfAbsent(operation,functions);
+			if( previous != null )
+				functions = previous;
+		}
+		Integer threshold = functions.get(function);
+		if( threshold == null ) {
+			threshold = getThreshold(toName(operation,function));
+			functions.put(function,threshold);
+		}
+		return threshold;
+	}
+
+	/**
+	 * Returns the minimum number of pixels for the specified operation. If there's no threshold for a function,
+	 * e.g. "PixelMath.multiply", then the threshold for its class, e.g. "PixelMath", is returned.
+	 */
+	public int getThreshold( String operation ) {
+		Integer threshold = thresholds.get(operation);
+		if( threshold != null )
+			return threshold;
+		int dot = operation.lastIndexOf('.');
+		if( dot >= 0 )
+			return getThreshold(operation.substring(0,dot));
+		return defaultThreshold;
+	}
+
+	/**
+	 * Name of an operation in the profile
+	 *
+	 * @param operation Class which dispatches the operation
+	 * @param function Name of the function in the class or "" for the entire class
+	 */
+	public static String toName( Class<?> operation , String function ) {
+		if( function.isEmpty() )
+			return operation.getSimpleName();
+		return operation.getSimpleName()+"."+function;
+	}
+
+	/**
+	 * Specifies the minimum number of pixels for the specified operation
+	 *
+	 * @param operation Simple name of the class which dispatches the operation, optionally followed by a
+	 *                  period and the function's name
+	 * @param threshold Minimum number of pixels. &ge; 0
+	 */
+	public synchronized void setThreshold( String operation , int threshold ) {
+		if( threshold < 0 )
+			throw new IllegalArgumentException("Threshold must be >= 0");
+		if( operation.equals(DEFAULT_KEY) )
+			defaultThreshold = threshold;
+		else
+			thresholds.put(operation,threshold);
+		cache = new ConcurrentHashMap<>();
+	}
+
+	public synchronized void setThreshold( Class<?> operation , int threshold ) {
+		setThreshold(operation.getSimpleName(),threshold);
+	}
+
+	public synchronized void setThreshold( Class<?> operation , String function , int threshold ) {
+		setThreshold(toName(operation,function),threshold);
+	}
+
+	/**
+	 * Removes the threshold for an operation so that the default is used instead
+	 */
+	public synchronized void removeThreshold( String operation ) {
+		thresholds.remove(operation);
+		cache = new ConcurrentHashMap<>();
+	}
+
+	public int getDefaultThreshold() {
+		return defaultThreshold;
+	}
+
+	public synchronized void setDefaultThreshold( int defaultThreshold ) {
+		if( defaultThreshold < 0 )
+			throw new IllegalArgumentException("Threshold must be >= 0");
+		this.defaultThreshold = defaultThreshold;
+		cache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Writes the profile to the stream in a properties format.
+	 */
+	public synchronized void save( Writer writer ) throws IOException {
+		PrintWriter out = new PrintWriter(writer);
+		out.println("# BoofCV concurrency profile. Minimum number of pixels before a concurrent algorithm is used");
+		out.println(DEFAULT_KEY+"="+defaultThreshold);
+		for( Map.Entry<String,Integer> e : new TreeMap<>(thresholds).entrySet() ) {
+			out.println(e.getKey()+"="+e.getValue());
+		}
+		out.flush();
+		if( out.checkError() )
+			throw new IOException("Failed to write profile");
+	}
+
+	public void save( File file ) throws IOException {
+		try( Writer writer = new OutputStreamWriter(new FileOutputStream(file),"UTF-8") ) {
+			save(writer);
+		}
+	}
+
+	/**
+	 * Reads a profile which was saved in a properties format.
+	 */
+	public static ConcurrencyProfile load( Reader reader ) throws IOException {
+		Properties properties = new Properties();
+		properties.load(reader);
+
+		ConcurrencyProfile profile = new ConcurrencyProfile();
+		for( String key : properties.stringPropertyNames() ) {
+			String value = properties.getProperty(key).trim();
+			try {
+				profile.setThreshold(key, Integer.parseInt(value));
+			} catch( NumberFormatException e ) {
+				throw new IOException("Bad threshold for '"+key+"': "+value);
+			}
+		}
+		return profile;
+	}
+
+	public static ConcurrencyProfile load( File file ) throws IOException {
+		try( Reader reader = new InputStreamReader(new FileInputStream(file),"UTF-8") ) {
+			return load(reader);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * 8-bit image with one or more interleaved bands which is a view into a {@link ByteBuffer}. Unlike
+ * {@link GrayU8} and {@link InterleavedU8} the pixels don't need to be stored in a Java array, so direct and
+ * memory mapped buffers shared with native code can be wrapped without copying the image. Pixels are read
+ * and written with the buffer's absolute get and put methods, which don't change its position.
+ * </p>
+ *
+ * <p>
+ * Pixel (x,y) in band b is stored at index startIndex + y*stride + x*numBands + b in the buffer. The image
+ * can't be reshaped since its memory is owned by the buffer.
+ * </p>
+ *
+ * @see boofcv.alg.filter.pipeline.StripPipeline
+ * @see boofcv.alg.misc.ByteBufferImageOps
+ *
+ * @author Peter Abeles
+ */
+public class ByteBufferImage {
+	/** Buffer which contains the pixels */
+	public final ByteBuffer data;
+	/** Index of the first pixel in the buffer */
+	public final int startIndex;
+	/** Number of bytes between the start of each row */
+	public final int stride;
+	/** Number of columns in the image */
+	public final int width;
+	/** Number of rows in the image */
+	public final int height;
+	/** Number of bands in each pixel */
+	public final int numBands;
+
+	/**
+	 * Creates an image which is a view into the buffer. No data is copied.
+	 *
+	 * @param data Buffer containing the image
+	 * @param startIndex Location of the first pixel in the buffer
+	 * @param stride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of bands in each pixel
+	 */
+	public ByteBufferImage( ByteBuffer data , int startIndex , int stride , int width , int height , int numBands ) {
+		if( width < 0 || height < 0 || numBands <= 0 )
+			throw new IllegalArgumentException("Invalid image shape");
+		if( startIndex < 0 || stride < width*numBands )
+			throw new IllegalArgumentException("Stride is smaller than a row");
+		if( height > 0 && startIndex + (long)(height-1)*stride + width*numBands > data.limit() )
+			throw new IllegalArgumentException("Image extends past the end of the buffer");
+
+		this.data = data;
+		this.startIndex = startIndex;
+		this.stride = stride;
+		this.width = width;
+		this.height = height;
+		this.numBands = numBands;
+	}
+
+	/**
+	 * Creates a view of a rectangular region inside this image. The buffer is shared.
+	 *
+	 * @param x0 x-coordinate of top-left corner, inclusive
+	 * @param y0 y-coordinate of top-left corner, inclusive
+	 * @param x1 x-coordinate of bottom-right corner, exclusive
+	 * @param y1 y-coordinate of bottom-right corner, exclusive
+	 */
+	public ByteBufferImage subimage( int x0 , int y0 , int x1 , int y1 ) {
+		if( x0 < 0 || y0 < 0 || x1 > width || y1 > height || x0 > x1 || y0 > y1 )
+			throw new IllegalArgumentException("Region is outside the image or has a negative size");
+		return new ByteBufferImage(data,getIndex(x0,y0),stride,x1-x0,y1-y0,numBands);
+	}
+
+	/**
+	 * Returns the value of a pixel's band
+	 */
+	public int get( int x , int y , int band ) {
+		if( !isInBounds(x,y) || band < 0 || band >= numBands )
+			throw new ImageAccessException("Requested pixel is out of bounds");
+		return data.get(getIndex(x,y)+band) & 0xFF;
+	}
+
+	/**
+	 * Sets the value of a pixel's band
+	 */
+	public void set( int x , int y , int band , int value ) {
+		if( !isInBounds(x,y) || band < 0 || band >= numBands )
+			throw new ImageAccessException("Requested pixel is out of bounds");
+		data.put(getIndex(x,y)+band,(byte)value);
+	}
+
+	/**
+	 * Index of the pixel's first band in the buffer
+	 */
+	public int getIndex( int x , int y ) {
+		return startIndex + y*stride + x*numBands;
+	}
+
+	public boolean isInBounds( int x , int y ) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getNumBands() {
+		return numBands;
+	}
+}
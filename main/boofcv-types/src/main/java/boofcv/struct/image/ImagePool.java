@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Pool of images which can be recycled instead of declaring a new image each time one is needed. Images are
+ * stored by type and shape. When an image is requested a previously released image of the same type and shape
+ * is returned if one is available, otherwise a new image is declared. Once an image is no longer needed it
+ * should be released back into the pool. The contents of an image returned by the pool are undefined.
+ * </p>
+ *
+ * <p>
+ * To prevent the pool from growing without bound a limit can be placed on the number of bytes retained. When
+ * the limit is exceeded the least recently released images are discarded. Statistics on the number of
+ * hits, misses, and bytes retained are kept so that the pool can be sized.
+ * </p>
+ *
+ * <p>
+ * Image pyramids, see {@link boofcv.struct.pyramid.ImagePyramidBase#setImagePool}, acquire their layers from a pool
+ * and release them when they are reshaped. Other code must acquire and release images explicitly. All functions
+ * are thread safe.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class ImagePool {
+	// Released images. Ordered from least to most recently used shape
+	private final LinkedHashMap<Key,ArrayDeque<ImageBase<?>>> available = new LinkedHashMap<>(16,0.75f,true);
+
+	// Used to look up the key for an image without declaring memory
+	private final Key lookup = new Key();
+
+	// Maximum number of bytes which can be retained by the pool
+	private long maxBytesRetained;
+
+	// statistics
+	private long bytesRetained;
+	private long hits;
+	private long misses;
+	private long discarded;
+
+	/**
+	 * Creates a pool which will retain at most the specified number of bytes
+	 *
+	 * @param maxBytesRetained Maximum number of bytes in released images. &le; 0 for no limit.
+	 */
+	public ImagePool( long maxBytesRetained ) {
+		this.maxBytesRetained = maxBytesRetained <= 0 ? Long.MAX_VALUE : maxBytesRetained;
+	}
+
+	/**
+	 * Creates a pool with no limit on the number of bytes retained.
+	 */
+	public ImagePool() {
+		this(0);
+	}
+
+	/**
+	 * Returns an image of the specified type and shape.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return Image of the requested type and shape. Contents are undefined.
+	 */
+	public synchronized <T extends ImageBase<T>> T acquire( ImageType<T> type , int width , int height ) {
+		lookup.set(type.getFamily(),type.getDataType(),type.getNumBands(),width,height);
+		ArrayDeque<ImageBase<?>> queue = available.get(lookup);
+		if( queue != null && !queue.isEmpty() ) {
+			ImageBase<?> image = queue.pollLast();
+			if( queue.isEmpty() )
+				available.remove(lookup);
+			bytesRetained -= computeBytes(image);
+			hits++;
+			return (T)image;
+		}
+		misses++;
+		return type.createImage(width,height);
+	}
+
+	/**
+	 * Returns an image of the same type and shape as the provided image. Pooled equivalent of
+	 * {@link ImageBase#createSameShape()}.
+	 *
+	 * @param image Image which is to be matched
+	 * @return Image of the same type and shape. Contents are undefined.
+	 */
+	public <T extends ImageBase<T>> T acquireSameShape( T image ) {
+		ImageType<T> type = image.getImageType();
+		if( image instanceof ImageMultiBand ) {
+			// the number of bands in the image can be different from its type
+			type = new ImageType<>(type.getFamily(),type.getDataType(),((ImageMultiBand<?>)image).getNumBands());
+		}
+		return acquire(type,image.width,image.height);
+	}
+
+	/**
+	 * Returns an image to the pool. The image must not be used after it has been released.
+	 *
+	 * @param image The image being released. Can't be a sub-image.
+	 */
+	public synchronized <T extends ImageBase<T>> void release( T image ) {
+		if( image.isSubimage() )
+			throw new IllegalArgumentException("Sub-images can't be added to the pool");
+
+		Key key = new Key();
+		key.set(image);
+		ArrayDeque<ImageBase<?>> queue = available.get(key);
+		if( queue == null ) {
+			queue = new ArrayDeque<>();
+			available.put(key,queue);
+		} else {
+			for( ImageBase<?> b : queue ) {
+				if( b == image )
+					throw new IllegalArgumentException("Image has already been released");
+			}
+		}
+		queue.add(image);
+		bytesRetained += computeBytes(image);
+
+		enforceLimit();
+	}
+
+	/**
+	 * Discards least recently used images until the number of bytes retained is within the limit
+	 */
+	private void enforceLimit() {
+		Iterator<Map.Entry<Key,ArrayDeque<ImageBase<?>>>> iter = available.entrySet().iterator();
+		while( bytesRetained > maxBytesRetained && iter.hasNext() ) {
+			ArrayDeque<ImageBase<?>> queue = iter.next().getValue();
+			while( bytesRetained > maxBytesRetained && !queue.isEmpty() ) {
+				bytesRetained -= computeBytes(queue.pollFirst());
+				discarded++;
+			}
+			if( queue.isEmpty() )
+				iter.remove();
+		}
+	}
+
+	/**
+	 * Discards all the images in the pool. Statistics are not modified.
+	 */
+	public synchronized void clear() {
+		available.clear();
+		bytesRetained = 0;
+	}
+
+	/**
+	 * Resets the hit, miss, and discarded counters
+	 */
+	public synchronized void resetStatistics() {
+		hits = misses = discarded = 0;
+	}
+
+	/**
+	 * Number of bytes used by the array data of the image
+	 */
+	public static long computeBytes( ImageBase<?> image ) {
+		if( image instanceof Planar ) {
+			Planar<?> planar = (Planar<?>)image;
+			long total = 0;
+			for (int i = 0; i < planar.getNumBands(); i++) {
+				total += computeBytes(planar.getBand(i));
+			}
+			return total;
+		}
+		Object data;
+		ImageDataType dataType;
+		if( image instanceof ImageGray ) {
+			data = ((ImageGray<?>)image)._getData();
+			dataType = ((ImageGray<?>)image).getDataType();
+		} else if( image instanceof ImageInterleaved ) {
+			data = ((ImageInterleaved<?>)image)._getData();
+			dataType = ((ImageInterleaved<?>)image).getDataType();
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+image.getClass().getSimpleName());
+		}
+		return (long)Array.getLength(data)*(dataType.getNumBits()/8);
+	}
+
+	/**
+	 * Number of images currently in the pool
+	 */
+	public synchronized int getImagesRetained() {
+		int total = 0;
+		for( ArrayDeque<ImageBase<?>> queue : available.values() ) {
+			total += queue.size();
+		}
+		return total;
+	}
+
+	public synchronized long getBytesRetained() {
+		return bytesRetained;
+	}
+
+	public synchronized long getMaxBytesRetained() {
+		return maxBytesRetained == Long.MAX_VALUE ? 0 : maxBytesRetained;
+	}
+
+	public synchronized void setMaxBytesRetained( long maxBytesRetained ) {
+		this.maxBytesRetained = maxBytesRetained <= 0 ? Long.MAX_VALUE : maxBytesRetained;
+		enforceLimit();
+	}
+
+	/**
+	 * Number of times an image was requested and one was available in the pool
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Number of times an image was requested and a new one had to be declared
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Number of images which were discarded to stay within the byte limit
+	 */
+	public synchronized long getDiscarded() {
+		return discarded;
+	}
+
+	/**
+	 * Type and shape of an image
+	 */
+	private static class Key {
+		ImageType.Family family;
+		ImageDataType dataType;
+		int numBands,width,height;
+
+		void set( ImageType.Family family , ImageDataType dataType , int numBands , int width , int height ) {
+			this.family = family;
+			this.dataType = dataType;
+			this.numBands = family == ImageType.Family.GRAY ? 1 : numBands;
+			this.width = width;
+			this.height = height;
+		}
+
+		void set( ImageBase<?> image ) {
+			ImageType<?> type = image.getImageType();
+			int numBands = image instanceof ImageMultiBand ? ((ImageMultiBand<?>)image).getNumBands() : 1;
+			set(type.getFamily(),type.getDataType(),numBands,image.width,image.height);
+		}
+
+		@Override
+		public boolean equals( Object o ) {
+			if( !(o instanceof Key) )
+				return false;
+			Key k = (Key)o;
+			return family == k.family && dataType == k.dataType && numBands == k.numBands &&
+					width == k.width && height == k.height;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = family.hashCode();
+			result = 31*result + dataType.hashCode();
+			result = 31*result + numBands;
+			result = 31*result + width;
+			result = 31*result + height;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Image which is stored in a file and broken up into tiles, allowing images which are too large to fit in memory
+ * or be indexed by a single array to be processed. The file is memory mapped once when it's opened, in regions
+ * of up to {@link #MAX_REGION_BYTES}, and tiles are copied directly from the mapping into a least recently used
+ * cache. Modified tiles are written back to the mapping when they are removed from the cache, when
+ * {@link #flush()} is called, or when the image is closed.
+ * </p>
+ *
+ * <p>
+ * Pixels are accessed by copying a rectangular region into or out of a regular BoofCV image using
+ * {@link #readRegion} and {@link #writeRegion}. All functions are thread safe. Only the cache's bookkeeping
+ * is shared between threads, copying pixels to and from a tile only locks that tile. Different threads
+ * can access different tiles at the same time.
+ * </p>
+ *
+ * <p>
+ * File format: A fixed size header is followed by each tile in a row-major order. Every tile has the same
+ * size, including tiles along the right and bottom edge which extend past the image. Pixels inside a tile
+ * are saved in the same order as the image's internal array and bands in a {@link Planar} image are saved
+ * one after another.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MappedTiledImage<T extends ImageBase<T>> implements Closeable {
+	// Identifies the file format
+	private static final String MAGIC = "BOOFTILE";
+	private static final int VERSION = 1;
+	// Number of bytes in the header
+	private static final int HEADER_BYTES = 128;
+	// maximum length of an enum name in the header
+	private static final int NAME_BYTES = 16;
+
+	/**
+	 * Maximum number of bytes in a single mapped region of the file. A region always contains at least one tile.
+	 */
+	public static int MAX_REGION_BYTES = 1 << 30;
+
+	// Shape of the image
+	private final int width, height;
+	private final int tileWidth, tileHeight;
+	private final int numTilesX, numTilesY;
+	private final ImageType<T> imageType;
+
+	// number of bytes used to store a single tile
+	private final long tileBytes;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+
+	// The file after the header is mapped in consecutive regions which contain tilesPerRegion tiles.
+	// The mappings are kept until the image is closed
+	private final MappedByteBuffer[] regions;
+	private final int tilesPerRegion;
+
+	// Maximum number of tiles which are stored in memory
+	private int maxCachedTiles;
+
+	// tiles which are in memory. Ordered from least to most recently accessed
+	private final LinkedHashMap<Long,Tile<T>> cache = new LinkedHashMap<>(16,0.75f,true);
+	// tiles which have been removed from the cache but might not have been written to the mapping yet
+	private final Map<Long,Tile<T>> evicting = new HashMap<>();
+
+	// statistics
+	private final AtomicLong tilesRead = new AtomicLong(), tilesWritten = new AtomicLong();
+
+	private MappedTiledImage( RandomAccessFile file , ImageType<T> imageType ,
+							  int width , int height , int tileWidth , int tileHeight ,
+							  int maxCachedTiles ) throws IOException {
+		if( width <= 0 || height <= 0 || tileWidth <= 0 || tileHeight <= 0 )
+			throw new IllegalArgumentException("Image and tile shape must be positive");
+		if( maxCachedTiles <= 0 )
+			throw new IllegalArgumentException("Must be able to cache at least one tile");
+		if( imageType.getDataType().isAbstract() )
+			throw new IllegalArgumentException("Image data type must not be abstract");
+
+		this.file = file;
+		this.channel = file.getChannel();
+		this.imageType = imageType;
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.numTilesX = (width+tileWidth-1)/tileWidth;
+		this.numTilesY = (height+tileHeight-1)/tileHeight;
+		this.maxCachedTiles = maxCachedTiles;
+		this.tileBytes = computeTileBytes(imageType,tileWidth,tileHeight);
+		if( tileBytes > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("Tiles are too large to be mapped");
+
+		long numTiles = (long)numTilesX*numTilesY;
+		if( file.length() < HEADER_BYTES + tileBytes*numTiles )
+			throw new IOException("File is too small for the image it describes");
+
+		this.tilesPerRegion = (int)Math.max(1,MAX_REGION_BYTES/tileBytes);
+		this.regions = new MappedByteBuffer[(int)((numTiles+tilesPerRegion-1)/tilesPerRegion)];
+		for (int i = 0; i < regions.length; i++) {
+			long firstTile = (long)i*tilesPerRegion;
+			long regionTiles = Math.min(tilesPerRegion,numTiles-firstTile);
+			regions[i] = channel.map(FileChannel.MapMode.READ_WRITE,offset(firstTile),regionTiles*tileBytes);
+		}
+	}
+
+	private static long computeTileBytes( ImageType<?> imageType , int tileWidth , int tileHeight ) {
+		int numBands = imageType.getFamily() == ImageType.Family.GRAY ? 1 : imageType.getNumBands();
+		return (long)tileWidth*tileHeight*numBands*(imageType.getDataType().getNumBits()/8);
+	}
+
+	/**
+	 * Creates a new file for storing a tiled image. If the file already exists it will be overwritten.
+	 * Pixels are initially all zero.
+	 *
+	 * @param location Where the image is stored
+	 * @param imageType Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @param tileWidth Width of a tile
+	 * @param tileHeight Height of a tile
+	 * @param maxCachedTiles Maximum number of tiles which are stored in memory
+	 */
+	public static <T extends ImageBase<T>> MappedTiledImage<T> create( File location , ImageType<T> imageType ,
+																		int width , int height ,
+																		int tileWidth , int tileHeight ,
+																		int maxCachedTiles ) throws IOException {
+		if( width <= 0 || height <= 0 || tileWidth <= 0 || tileHeight <= 0 )
+			throw new IllegalArgumentException("Image and tile shape must be positive");
+		if( imageType.getDataType().isAbstract() )
+			throw new IllegalArgumentException("Image data type must not be abstract");
+
+		long numTiles = (long)((width+tileWidth-1)/tileWidth)*((height+tileHeight-1)/tileHeight);
+		RandomAccessFile file = new RandomAccessFile(location,"rw");
+		try {
+			file.setLength(0);
+			file.setLength(HEADER_BYTES + computeTileBytes(imageType,tileWidth,tileHeight)*numTiles);
+			MappedTiledImage<T> ret = new MappedTiledImage<>(file,imageType,width,height,
+					tileWidth,tileHeight,maxCachedTiles);
+			ret.writeHeader();
+			return ret;
+		} catch( IOException | RuntimeException e ) {
+			file.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens a tiled image which was previously created. The image type is read from the file and must
+	 * match the type the caller assigns it to.
+	 *
+	 * @param location Where the image is stored
+	 * @param maxCachedTiles Maximum number of tiles which are stored in memory
+	 */
+	public static <T extends ImageBase<T>> MappedTiledImage<T> open( File location , int maxCachedTiles )
+			throws IOException {
+		RandomAccessFile file = new RandomAccessFile(location,"rw");
+		try {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			file.getChannel().read(header,0);
+			header.flip();
+			if( header.remaining() != HEADER_BYTES )
+				throw new IOException("File is too small to be a tiled image");
+
+			if( !MAGIC.equals(readName(header,MAGIC.length())) )
+				throw new IOException("Not a tiled image file");
+			int version = header.getInt();
+			if( version != VERSION )
+				throw new IOException("Unsupported version "+version);
+			ImageType.Family family = ImageType.Family.valueOf(readName(header,NAME_BYTES));
+			ImageDataType dataType = ImageDataType.valueOf(readName(header,NAME_BYTES));
+			int numBands = header.getInt();
+			int width = header.getInt();
+			int height = header.getInt();
+			int tileWidth = header.getInt();
+			int tileHeight = header.getInt();
+
+			ImageType<T> type = new ImageType<>(family,dataType,numBands);
+			return new MappedTiledImage<>(file,type,width,height,tileWidth,tileHeight,maxCachedTiles);
+		} catch( IOException | RuntimeException e ) {
+			file.close();
+			throw e;
+		}
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		header.put(MAGIC.getBytes(StandardCharsets.UTF_8));
+		header.putInt(VERSION);
+		writeName(header,imageType.getFamily().name());
+		writeName(header,imageType.getDataType().name());
+		header.putInt(imageType.getNumBands());
+		header.putInt(width);
+		header.putInt(height);
+		header.putInt(tileWidth);
+		header.putInt(tileHeight);
+		header.position(0);
+		channel.write(header,0);
+	}
+
+	private static void writeName( ByteBuffer header , String name ) {
+		byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+		header.put(bytes);
+		header.position(header.position()+NAME_BYTES-bytes.length);
+	}
+
+	private static String readName( ByteBuffer header , int length ) {
+		byte[] bytes = new byte[length];
+		header.get(bytes);
+		int end = 0;
+		while( end < length && bytes[end] != 0 )
+			end++;
+		return new String(bytes,0,end,StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Copies a region of the tiled image into the output image. The output image is reshaped to the size of
+	 * the region.
+	 *
+	 * @param x0 lower extent along x-axis, inclusive
+	 * @param y0 lower extent along y-axis, inclusive
+	 * @param x1 upper extent along x-axis, exclusive
+	 * @param y1 upper extent along y-axis, exclusive
+	 * @param output Storage for the region. Modified.
+	 */
+	public void readRegion( int x0 , int y0 , int x1 , int y1 , T output ) {
+		checkRegion(x0, y0, x1, y1);
+		output.reshape(x1-x0,y1-y0);
+
+		for (int ty = y0/tileHeight; ty*tileHeight < y1; ty++) {
+			for (int tx = x0/tileWidth; tx*tileWidth < x1; tx++) {
+				int tileX0 = tx*tileWidth, tileY0 = ty*tileHeight;
+				int ax0 = Math.max(x0,tileX0), ay0 = Math.max(y0,tileY0);
+				int ax1 = Math.min(x1,tileX0+tileWidth), ay1 = Math.min(y1,tileY0+tileHeight);
+
+				T dst = output.subimage(ax0-x0,ay0-y0,ax1-x0,ay1-y0,null);
+				accessTile(tx,ty,false,image->
+						dst.setTo(image.subimage(ax0-tileX0,ay0-tileY0,ax1-tileX0,ay1-tileY0,null)));
+			}
+		}
+	}
+
+	/**
+	 * Copies the input image into the tiled image with its top-left corner at the specified location.
+	 *
+	 * @param x0 Location of the image's left column
+	 * @param y0 Location of the image's top row
+	 * @param input Image which is copied. Not modified.
+	 */
+	public void writeRegion( int x0 , int y0 , T input ) {
+		int x1 = x0 + input.width, y1 = y0 + input.height;
+		checkRegion(x0, y0, x1, y1);
+
+		for (int ty = y0/tileHeight; ty*tileHeight < y1; ty++) {
+			for (int tx = x0/tileWidth; tx*tileWidth < x1; tx++) {
+				int tileX0 = tx*tileWidth, tileY0 = ty*tileHeight;
+				int ax0 = Math.max(x0,tileX0), ay0 = Math.max(y0,tileY0);
+				int ax1 = Math.min(x1,tileX0+tileWidth), ay1 = Math.min(y1,tileY0+tileHeight);
+
+				T src = input.subimage(ax0-x0,ay0-y0,ax1-x0,ay1-y0,null);
+				accessTile(tx,ty,true,image->
+						image.subimage(ax0-tileX0,ay0-tileY0,ax1-tileX0,ay1-tileY0,null).setTo(src));
+			}
+		}
+	}
+
+	private void checkRegion( int x0 , int y0 , int x1 , int y1 ) {
+		if( x0 < 0 || y0 < 0 || x1 > width || y1 > height || x0 > x1 || y0 > y1 )
+			throw new IllegalArgumentException("Region is outside the image or has a negative size");
+	}
+
+	/**
+	 * Passes the tile's image to the operation while holding the tile's lock. If the tile isn't in memory it's
+	 * read from the mapped file first.
+	 *
+	 * @param modify true if the operation changes the tile's image
+	 */
+	private void accessTile( int tx , int ty , boolean modify , Consumer<T> operation ) {
+		long key = (long)ty*numTilesX + tx;
+		while( true ) {
+			Tile<T> tile = lookupTile(key);
+			synchronized( tile ) {
+				// it was written to the file and discarded after the lookup. Look it up again
+				if( tile.evicted )
+					continue;
+				if( tile.image == null ) {
+					tile.image = imageType.createImage(tileWidth,tileHeight);
+					copy(tileBuffer(key),tile.image,true);
+					tilesRead.incrementAndGet();
+				}
+				operation.accept(tile.image);
+				if( modify )
+					tile.modified = true;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the tile from the cache, adding it if needed. The tile's image is not read here so that the cache
+	 * is only locked while it's being updated. Tiles pushed out of the cache are then saved.
+	 */
+	private Tile<T> lookupTile( long key ) {
+		Tile<T> tile;
+		List<Map.Entry<Long,Tile<T>>> removed = null;
+		synchronized( cache ) {
+			tile = cache.get(key);
+			if( tile != null )
+				return tile;
+
+			// if it's in the process of being evicted then use it again instead of reading an old copy
+			tile = evicting.remove(key);
+			if( tile == null )
+				tile = new Tile<>();
+			cache.put(key,tile);
+
+			// make room for the new tile. The new tile is the most recently used and will not be removed
+			Iterator<Map.Entry<Long,Tile<T>>> iter = cache.entrySet().iterator();
+			while( cache.size() > maxCachedTiles ) {
+				Map.Entry<Long,Tile<T>> e = iter.next();
+				if( removed == null )
+					removed = new ArrayList<>();
+				removed.add(e);
+				evicting.put(e.getKey(),e.getValue());
+				iter.remove();
+			}
+		}
+
+		if( removed != null ) {
+			for( Map.Entry<Long,Tile<T>> e : removed ) {
+				evict(e.getKey(),e.getValue());
+			}
+		}
+		return tile;
+	}
+
+	/**
+	 * Saves a tile which has been removed from the cache and discards it, unless it was added back to the cache
+	 */
+	private void evict( long key , Tile<T> tile ) {
+		synchronized( tile ) {
+			save(key,tile);
+			synchronized( cache ) {
+				if( evicting.remove(key,tile) )
+					tile.evicted = true;
+			}
+		}
+	}
+
+	/**
+	 * Writes the tile to the mapped file if it has been modified. The tile's lock must be held.
+	 */
+	private void save( long key , Tile<T> tile ) {
+		if( !tile.modified )
+			return;
+		copy(tileBuffer(key),tile.image,false);
+		tile.modified = false;
+		tilesWritten.incrementAndGet();
+	}
+
+	/**
+	 * Returns a view of the mapped file which contains only the tile. Each view has its own position so
+	 * different threads can access different tiles at the same time.
+	 */
+	private ByteBuffer tileBuffer( long key ) {
+		ByteBuffer buffer = regions[(int)(key/tilesPerRegion)].duplicate();
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		int start = (int)((key%tilesPerRegion)*tileBytes);
+		buffer.limit(start + (int)tileBytes);
+		buffer.position(start);
+		return buffer;
+	}
+
+	private long offset( long key ) {
+		return HEADER_BYTES + key*tileBytes;
+	}
+
+	/**
+	 * Copies pixels between the buffer and the tile's image
+	 */
+	private static void copy( ByteBuffer buffer , ImageBase image , boolean read ) {
+		if( image instanceof Planar ) {
+			Planar<?> planar = (Planar)image;
+			for (int i = 0; i < planar.getNumBands(); i++) {
+				copy(buffer,planar.getBand(i)._getData(),read);
+			}
+		} else if( image instanceof ImageGray ) {
+			copy(buffer,((ImageGray)image)._getData(),read);
+		} else {
+			copy(buffer,((ImageInterleaved)image)._getData(),read);
+		}
+	}
+
+	private static void copy( ByteBuffer buffer , Object data , boolean read ) {
+		if( data instanceof byte[] ) {
+			byte[] a = (byte[])data;
+			if( read ) buffer.get(a); else buffer.put(a);
+		} else if( data instanceof short[] ) {
+			short[] a = (short[])data;
+			if( read ) buffer.asShortBuffer().get(a); else buffer.asShortBuffer().put(a);
+			buffer.position(buffer.position()+a.length*2);
+		} else if( data instanceof int[] ) {
+			int[] a = (int[])data;
+			if( read ) buffer.asIntBuffer().get(a); else buffer.asIntBuffer().put(a);
+			buffer.position(buffer.position()+a.length*4);
+		} else if( data instanceof long[] ) {
+			long[] a = (long[])data;
+			if( read ) buffer.asLongBuffer().get(a); else buffer.asLongBuffer().put(a);
+			buffer.position(buffer.position()+a.length*8);
+		} else if( data instanceof float[] ) {
+			float[] a = (float[])data;
+			if( read ) buffer.asFloatBuffer().get(a); else buffer.asFloatBuffer().put(a);
+			buffer.position(buffer.position()+a.length*4);
+		} else if( data instanceof double[] ) {
+			double[] a = (double[])data;
+			if( read ) buffer.asDoubleBuffer().get(a); else buffer.asDoubleBuffer().put(a);
+			buffer.position(buffer.position()+a.length*8);
+		} else {
+			throw new IllegalArgumentException("Unsupported array type");
+		}
+	}
+
+	/**
+	 * Writes all modified tiles to the file
+	 */
+	public void flush() {
+		List<Map.Entry<Long,Tile<T>>> tiles;
+		synchronized( cache ) {
+			tiles = new ArrayList<>(cache.entrySet());
+			tiles.addAll(evicting.entrySet());
+		}
+		for( Map.Entry<Long,Tile<T>> e : tiles ) {
+			Tile<T> tile = e.getValue();
+			synchronized( tile ) {
+				if( !tile.evicted )
+					save(e.getKey(),tile);
+			}
+		}
+		for( MappedByteBuffer region : regions ) {
+			region.force();
+		}
+	}
+
+	/**
+	 * Writes all modified tiles and closes the file
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+			synchronized( cache ) {
+				cache.clear();
+				evicting.clear();
+			}
+		} finally {
+			file.close();
+		}
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	public int getNumTilesX() {
+		return numTilesX;
+	}
+
+	public int getNumTilesY() {
+		return numTilesY;
+	}
+
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	public int getMaxCachedTiles() {
+		synchronized( cache ) {
+			return maxCachedTiles;
+		}
+	}
+
+	public void setMaxCachedTiles( int maxCachedTiles ) {
+		if( maxCachedTiles <= 0 )
+			throw new IllegalArgumentException("Must be able to cache at least one tile");
+		synchronized( cache ) {
+			this.maxCachedTiles = maxCachedTiles;
+		}
+	}
+
+	/**
+	 * Number of times a tile was read from the file
+	 */
+	public long getTilesRead() {
+		return tilesRead.get();
+	}
+
+	/**
+	 * Number of times a tile was written to the file
+	 */
+	public long getTilesWritten() {
+		return tilesWritten.get();
+	}
+
+	/**
+	 * A tile in the cache. All fields are guarded by the tile's lock.
+	 */
+	private static class Tile<T extends ImageBase<T>> {
+		// copy of the tile's pixels. null until it has been read from the file
+		T image;
+		// true if it has been changed since it was read
+		boolean modified;
+		// true if it has been saved and removed from the cache. Must not be used any more
+		boolean evicted;
+	}
+}
@@ -19,8 +19,11 @@
 package boofcv.struct.pyramid;
 
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>
  * Base class for image pyramids.  Provides common functionality and data structures.  The scale
@@ -34,6 +37,11 @@ import boofcv.struct.image.ImageType;
  * to true.
  * </p>
  *
+ * <p>
+ * If an {@link ImagePool} has been specified then layers are acquired from the pool and released back into
+ * it when the pyramid is resized.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -52,6 +60,12 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 	ImageType<T> imageType;
 
+	// (Optional) source of images for each layer
+	@Nullable ImagePool pool;
+
+	// false if the first layer is a reference to the input image
+	boolean ownsFirstLayer;
+
 	/**
 	 * Specifies input image size and behavior of top most layer.
 	 *
@@ -75,25 +89,51 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 		if( bottomWidth == width && bottomHeight == height )
 			return;
 
+		releaseLayers();
+
 		this.bottomWidth = width;
 		this.bottomHeight = height;
 		layers = imageType.createArray(getNumLayers());
 		double scaleFactor = getScale(0);
 
+		ownsFirstLayer = true;
 		if (scaleFactor == 1) {
 			if (!saveOriginalReference) {
-				layers[0] = imageType.createImage(bottomWidth, bottomHeight);
+				layers[0] = createLayer(bottomWidth, bottomHeight);
+			} else {
+				ownsFirstLayer = false;
 			}
 		} else {
-			layers[0] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[0] = createLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 
 		for (int i = 1; i < layers.length; i++) {
 			scaleFactor = getScale(i);
-			layers[i] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[i] = createLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 	}
 
+	private T createLayer( int width , int height ) {
+		if( pool == null )
+			return imageType.createImage(width,height);
+		else
+			return pool.acquire(imageType,width,height);
+	}
+
+	/**
+	 * Returns images in each layer to the pool, if there is a pool
+	 */
+	private void releaseLayers() {
+		if( pool == null || layers == null )
+			return;
+
+		for (int i = ownsFirstLayer ? 0 : 1; i < layers.length; i++) {
+			if( layers[i] != null )
+				pool.release(layers[i]);
+		}
+		layers = null;
+	}
+
 	/**
 	 * Used to internally check that the provided scales are valid.
 	 */
@@ -159,4 +199,21 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	public boolean isSaveOriginalReference() {
 		return saveOriginalReference;
 	}
+
+	@Nullable
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
+	/**
+	 * Specifies a pool which images for each layer are taken from and released to when the pyramid changes
+	 * shape. Changing the pool forces the layers to be declared again the next time it's initialized.
+	 *
+	 * @param pool The pool. If null then images will be declared directly.
+	 */
+	public void setImagePool( @Nullable ImagePool pool ) {
+		releaseLayers();
+		this.pool = pool;
+		bottomWidth = bottomHeight = 0;
+	}
 }
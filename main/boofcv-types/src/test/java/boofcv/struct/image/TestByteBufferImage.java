@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestByteBufferImage {
+	@Test
+	void constructor_bad() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+		// stride smaller than a row
+		assertThrows(IllegalArgumentException.class,()->new ByteBufferImage(buffer,0,9,5,2,2));
+		// past the end of the buffer
+		assertThrows(IllegalArgumentException.class,()->new ByteBufferImage(buffer,1,10,10,10,1));
+		assertThrows(IllegalArgumentException.class,()->new ByteBufferImage(buffer,0,10,10,10,0));
+		new ByteBufferImage(buffer,0,10,10,10,1);
+	}
+
+	@Test
+	void get_set() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(200);
+		ByteBufferImage image = new ByteBufferImage(buffer,3,20,6,9,3);
+
+		image.set(2,4,1,250);
+		assertEquals(250,image.get(2,4,1));
+		assertEquals(250,buffer.get(3+4*20+2*3+1)&0xFF);
+		// the buffer's position isn't used
+		assertEquals(0,buffer.position());
+
+		assertThrows(ImageAccessException.class,()->image.get(6,0,0));
+		assertThrows(ImageAccessException.class,()->image.get(0,0,3));
+		assertThrows(ImageAccessException.class,()->image.set(0,-1,0,2));
+	}
+
+	@Test
+	void subimage() {
+		ByteBufferImage image = new ByteBufferImage(ByteBuffer.allocateDirect(200),3,20,6,9,3);
+		image.set(3,5,2,17);
+
+		ByteBufferImage sub = image.subimage(2,4,5,9);
+		assertSame(image.data,sub.data);
+		assertEquals(3,sub.width);
+		assertEquals(5,sub.height);
+		assertEquals(20,sub.stride);
+		assertEquals(17,sub.get(1,1,2));
+
+		assertThrows(IllegalArgumentException.class,()->image.subimage(2,4,7,9));
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+	@Test
+	public void acquire_release() {
+		ImagePool alg = new ImagePool();
+
+		GrayU8 a = alg.acquire(ImageType.single(GrayU8.class),20,30);
+		assertEquals(20,a.width);
+		assertEquals(30,a.height);
+		assertEquals(0,alg.getHits());
+		assertEquals(1,alg.getMisses());
+
+		alg.release(a);
+		assertEquals(20*30,alg.getBytesRetained());
+		assertEquals(1,alg.getImagesRetained());
+
+		// different shape or type should not return the same image
+		assertNotSame(a,alg.acquire(ImageType.single(GrayU8.class),30,20));
+		assertNotSame(a,alg.acquire(ImageType.single(GrayS8.class),20,30));
+		assertEquals(3,alg.getMisses());
+
+		// same shape
+		assertSame(a,alg.acquire(ImageType.single(GrayU8.class),20,30));
+		assertEquals(1,alg.getHits());
+		assertEquals(0,alg.getBytesRetained());
+		assertEquals(0,alg.getImagesRetained());
+	}
+
+	@Test
+	public void acquireSameShape() {
+		ImagePool alg = new ImagePool();
+
+		Planar<GrayF32> a = new Planar<>(GrayF32.class,10,12,3);
+		alg.release(a);
+		assertEquals(10*12*3*4,alg.getBytesRetained());
+
+		assertNotSame(a,alg.acquireSameShape(new Planar<>(GrayF32.class,10,12,2)));
+		assertSame(a,alg.acquireSameShape(new Planar<>(GrayF32.class,10,12,3)));
+
+		InterleavedS16 b = new InterleavedS16(5,6,2);
+		alg.release(b);
+		assertEquals(5*6*2*2,alg.getBytesRetained());
+		assertSame(b,alg.acquireSameShape(new InterleavedS16(5,6,2)));
+	}
+
+	@Test
+	public void release_bad() {
+		ImagePool alg = new ImagePool();
+		GrayU8 a = new GrayU8(20,30);
+
+		assertThrows(IllegalArgumentException.class,()->alg.release(a.subimage(0,0,10,10)));
+
+		alg.release(a);
+		assertThrows(IllegalArgumentException.class,()->alg.release(a));
+	}
+
+	/**
+	 * Least recently used images should be discarded when the limit is exceeded
+	 */
+	@Test
+	public void maxBytesRetained() {
+		ImagePool alg = new ImagePool(250);
+
+		GrayU8 a = new GrayU8(10,10);
+		GrayU8 b = new GrayU8(10,10);
+		GrayU8 c = new GrayU8(5,10);
+		GrayU8 d = new GrayU8(10,10);
+
+		alg.release(a);
+		alg.release(b);
+		alg.release(c);
+		assertEquals(250,alg.getBytesRetained());
+		assertEquals(0,alg.getDiscarded());
+
+		alg.release(d);
+		assertEquals(200,alg.getBytesRetained());
+		assertEquals(2,alg.getDiscarded());
+		assertEquals(2,alg.getImagesRetained());
+
+		// shape 10x10 was released most recently, so 5x10 was discarded first
+		assertNotSame(c,alg.acquire(ImageType.single(GrayU8.class),5,10));
+
+		alg.setMaxBytesRetained(50);
+		assertEquals(0,alg.getImagesRetained());
+		assertEquals(0,alg.getBytesRetained());
+	}
+
+	@Test
+	public void clear() {
+		ImagePool alg = new ImagePool();
+		alg.release(new GrayF64(10,10));
+		alg.acquire(ImageType.single(GrayF64.class),10,10);
+		alg.release(new GrayF64(10,10));
+		alg.clear();
+
+		assertEquals(0,alg.getBytesRetained());
+		assertEquals(0,alg.getImagesRetained());
+		assertEquals(1,alg.getHits());
+
+		alg.resetStatistics();
+		assertEquals(0,alg.getHits());
+		assertEquals(0,alg.getMisses());
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMappedTiledImage {
+	Random rand = new Random(234);
+
+	File file = createFile();
+
+	@AfterEach
+	public void cleanUp() {
+		assertTrue(file.delete());
+	}
+
+	private static File createFile() {
+		try {
+			File f = File.createTempFile("boofcv_tiled",".bin");
+			f.deleteOnExit();
+			return f;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Write and read regions which span multiple tiles and only part of the edge tiles
+	 */
+	@Test
+	public void readWriteRegion() throws IOException {
+		GrayU8 original = new GrayU8(53,41);
+		fill(original);
+
+		try( MappedTiledImage<GrayU8> alg = MappedTiledImage.create(file,ImageType.single(GrayU8.class),
+				53,41,10,12,2) ) {
+			assertEquals(6,alg.getNumTilesX());
+			assertEquals(4,alg.getNumTilesY());
+
+			alg.writeRegion(0,0,original);
+
+			GrayU8 found = new GrayU8(1,1);
+			alg.readRegion(0,0,53,41,found);
+			assertEqualsImage(original,found);
+
+			alg.readRegion(7,9,31,40,found);
+			assertEqualsImage(original.subimage(7,9,31,40,null),found);
+
+			// only a few tiles could be cached, so some must have been written to the file
+			assertTrue(alg.getTilesWritten() > 0);
+		}
+	}
+
+	/**
+	 * Save the image then open it again. Check each supported data structure.
+	 */
+	@Test
+	public void saveThenOpen() throws IOException {
+		saveThenOpen(new GrayU8(35,28));
+		saveThenOpen(new GrayS16(35,28));
+		saveThenOpen(new GrayF32(35,28));
+		saveThenOpen(new GrayF64(35,28));
+		saveThenOpen(new InterleavedU8(35,28,3));
+		saveThenOpen(new Planar<>(GrayF32.class,35,28,2));
+	}
+
+	private <T extends ImageBase<T>> void saveThenOpen( T original ) throws IOException {
+		fill(original);
+
+		try( MappedTiledImage<T> alg = MappedTiledImage.create(file,original.getImageType(),
+				original.width,original.height,16,16,3) ) {
+			alg.writeRegion(0,0,original);
+		}
+
+		try( MappedTiledImage<T> alg = MappedTiledImage.open(file,1) ) {
+			assertTrue(original.getImageType().isSameType(alg.getImageType()));
+			assertEquals(original.width,alg.getWidth());
+			assertEquals(original.height,alg.getHeight());
+			assertEquals(16,alg.getTileWidth());
+
+			T found = original.createNew(1,1);
+			alg.readRegion(0,0,original.width,original.height,found);
+			assertEqualsImage(original,found);
+		}
+	}
+
+	/**
+	 * The file is mapped using several regions
+	 */
+	@Test
+	public void multipleRegions() throws IOException {
+		GrayF32 original = new GrayF32(53,41);
+		fill(original);
+
+		int before = MappedTiledImage.MAX_REGION_BYTES;
+		try {
+			// five tiles in each region, which doesn't evenly divide the 24 tiles
+			MappedTiledImage.MAX_REGION_BYTES = 10*12*4*5 + 7;
+			try( MappedTiledImage<GrayF32> alg = MappedTiledImage.create(file,ImageType.single(GrayF32.class),
+					53,41,10,12,2) ) {
+				alg.writeRegion(0,0,original);
+			}
+			try( MappedTiledImage<GrayF32> alg = MappedTiledImage.open(file,3) ) {
+				GrayF32 found = new GrayF32(1,1);
+				alg.readRegion(0,0,53,41,found);
+				assertEqualsImage(original,found);
+			}
+		} finally {
+			MappedTiledImage.MAX_REGION_BYTES = before;
+		}
+	}
+
+	/**
+	 * Several threads read and write different parts of the image while tiles are constantly pushed
+	 * out of the cache
+	 */
+	@Test
+	public void concurrentAccess() throws Exception {
+		int width = 120, height = 90;
+		GrayU8 original = new GrayU8(width,height);
+		fill(original);
+
+		try( MappedTiledImage<GrayU8> alg = MappedTiledImage.create(file,ImageType.single(GrayU8.class),
+				width,height,16,16,3) ) {
+			int numThreads = 4;
+			ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < numThreads; i++) {
+					int seed = i;
+					futures.add(executor.submit(()->{
+						Random rand = new Random(seed);
+						GrayU8 found = new GrayU8(1,1);
+						for (int trial = 0; trial < 200; trial++) {
+							// rows which are written by this thread. Each region touches tiles used by other threads
+							int y0 = seed + numThreads*rand.nextInt(height/numThreads);
+							int x0 = rand.nextInt(width/2);
+							int x1 = x0 + 1 + rand.nextInt(width-x0);
+							alg.writeRegion(x0,y0,original.subimage(x0,y0,x1,y0+1,null));
+							alg.readRegion(x0,y0,x1,y0+1,found);
+							assertEqualsImage(original.subimage(x0,y0,x1,y0+1,null),found);
+						}
+						return null;
+					}));
+				}
+				for( Future<?> f : futures ) {
+					f.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+			assertTrue(alg.getTilesWritten() > 0);
+		}
+	}
+
+	@Test
+	public void readRegion_outside() throws IOException {
+		try( MappedTiledImage<GrayU8> alg = MappedTiledImage.create(file,ImageType.single(GrayU8.class),
+				20,30,10,10,2) ) {
+			GrayU8 found = new GrayU8(1,1);
+			assertThrows(IllegalArgumentException.class,()->alg.readRegion(0,0,21,30,found));
+			assertThrows(IllegalArgumentException.class,()->alg.readRegion(-1,0,10,30,found));
+			assertThrows(IllegalArgumentException.class,()->alg.writeRegion(15,0,new GrayU8(6,5)));
+		}
+	}
+
+	@Test
+	public void open_notTiled() throws IOException {
+		try( FileOutputStream out = new FileOutputStream(file) ) {
+			out.write(new byte[200]);
+		}
+		assertThrows(IOException.class,()->MappedTiledImage.open(file,2));
+	}
+
+	/**
+	 * Fills the image's internal arrays with random values
+	 */
+	private void fill( ImageBase image ) {
+		for( Object data : arrays(image) ) {
+			for (int i = 0; i < Array.getLength(data); i++) {
+				Array.set(data,i,convert(data,rand.nextInt(100)));
+			}
+		}
+	}
+
+	private static Object convert( Object data , int value ) {
+		Class type = data.getClass().getComponentType();
+		if( type == byte.class ) return (byte)value;
+		if( type == short.class ) return (short)value;
+		if( type == float.class ) return (float)value;
+		if( type == double.class ) return (double)value;
+		return value;
+	}
+
+	private static Object[] arrays( ImageBase image ) {
+		if( image instanceof Planar ) {
+			Planar<?> p = (Planar)image;
+			Object[] ret = new Object[p.getNumBands()];
+			for (int i = 0; i < ret.length; i++) {
+				ret[i] = p.getBand(i)._getData();
+			}
+			return ret;
+		} else if( image instanceof ImageGray ) {
+			return new Object[]{((ImageGray)image)._getData()};
+		} else {
+			return new Object[]{((ImageInterleaved)image)._getData()};
+		}
+	}
+
+	/**
+	 * Compares two images which are not sub-images
+	 */
+	private static void assertEqualsImage( ImageBase a , ImageBase b ) {
+		assertEquals(a.width,b.width);
+		assertEquals(a.height,b.height);
+		Object[] arraysA = arrays(a);
+		Object[] arraysB = arrays(b);
+		assertEquals(arraysA.length,arraysB.length);
+		for (int i = 0; i < arraysA.length; i++) {
+			int N = a.height*a.stride;
+			for (int j = 0; j < N; j++) {
+				assertEquals(Array.get(arraysA[i],j),Array.get(arraysB[i],j));
+			}
+		}
+	}
+
+	private static void assertEqualsImage( GrayU8 a , GrayU8 b ) {
+		assertEquals(a.width,b.width);
+		assertEquals(a.height,b.height);
+		for (int y = 0; y < a.height; y++) {
+			for (int x = 0; x < a.width; x++) {
+				assertEquals(a.get(x,y),b.get(x,y));
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedBinaryImage {
+	Random rand = new Random(234);
+
+	@Test
+	public void reshape() {
+		PackedBinaryImage img = new PackedBinaryImage(65,3);
+		assertEquals(2,img.stride);
+		assertEquals(6,img.data.length);
+
+		// should not declare a new array when it's smaller
+		long[] data = img.data;
+		img.reshape(64,2);
+		assertSame(data,img.data);
+		assertEquals(1,img.stride);
+		assertEquals(64,img.width);
+		assertEquals(2,img.height);
+
+		img.reshape(200,10);
+		assertEquals(4,img.stride);
+		assertTrue(img.data.length >= 40);
+	}
+
+	@Test
+	public void get_set() {
+		PackedBinaryImage img = new PackedBinaryImage(130,7);
+		boolean[] expected = new boolean[130*7];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = rand.nextBoolean();
+			img.set(i%130,i/130,expected[i] ? 5 : 0);
+		}
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i] ? 1 : 0, img.get(i%130,i/130));
+		}
+		// bits outside the image should not have been touched
+		assertEquals(0, img.data[2] & ~img.lastWordMask());
+
+		assertThrows(ImageAccessException.class,()->img.get(130,0));
+		assertThrows(ImageAccessException.class,()->img.set(0,7,1));
+	}
+
+	@Test
+	public void fill_countOnes() {
+		PackedBinaryImage img = new PackedBinaryImage(70,3);
+		img.fill(true);
+		assertEquals(210,img.countOnes());
+		assertEquals(0, img.data[1] & ~img.lastWordMask());
+		img.fill(false);
+		assertEquals(0,img.countOnes());
+	}
+
+	@Test
+	public void setTo() {
+		PackedBinaryImage a = new PackedBinaryImage(70,3);
+		a.set(69,2,1);
+		a.set(3,1,1);
+		PackedBinaryImage b = new PackedBinaryImage(5,5);
+		b.setTo(a);
+		assertEquals(70,b.width);
+		assertEquals(3,b.height);
+		assertEquals(2,b.countOnes());
+		assertEquals(1,b.get(69,2));
+		assertEquals(1,b.get(3,1));
+	}
+
+	@Test
+	public void lastWordMask() {
+		assertEquals(~0L, new PackedBinaryImage(64,1).lastWordMask());
+		assertEquals(~0L, new PackedBinaryImage(128,1).lastWordMask());
+		assertEquals(1L, new PackedBinaryImage(65,1).lastWordMask());
+		assertEquals(0x7FL, new PackedBinaryImage(7,1).lastWordMask());
+	}
+}